@@ -0,0 +1,98 @@
+package com.jetbrains.youtrack.db.internal.benchmarks;
+
+import com.jetbrains.youtrack.db.api.DatabaseType;
+import com.jetbrains.youtrack.db.api.YouTrackDB;
+import com.jetbrains.youtrack.db.api.YourTracks;
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.api.config.YouTrackDBConfig;
+import com.jetbrains.youtrack.db.internal.common.io.FileUtils;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Database used as a fixture by benchmarks. Depending on the requested type it is either a
+ * {@link DatabaseType#MEMORY} database or a {@link DatabaseType#PLOCAL} database which is created in
+ * a fresh temporary directory, so results of consecutive runs do not depend on leftovers of
+ * previous ones. The directory is removed once the database is closed.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+  public static final String ADMIN_USER = "admin";
+  public static final String ADMIN_PASSWORD = "admin";
+
+  private final Path directory;
+  private final YouTrackDB youTrackDB;
+  private final String name;
+  private final AbstractPaginatedStorage storage;
+
+  private BenchmarkDatabase(final Path directory, final YouTrackDB youTrackDB, final String name) {
+    this.directory = directory;
+    this.youTrackDB = youTrackDB;
+    this.name = name;
+
+    try (var session = openSession()) {
+      storage = (AbstractPaginatedStorage) session.getStorage();
+    }
+  }
+
+  /**
+   * Creates database of passed in type.
+   *
+   * @param storageType Name of {@link DatabaseType}, case insensitive.
+   * @param name        Name of database.
+   */
+  public static BenchmarkDatabase create(final String storageType, final String name)
+      throws IOException {
+    final var databaseType = DatabaseType.valueOf(storageType.toUpperCase(Locale.ROOT));
+    final var directory = Files.createTempDirectory("youtrackdb-benchmark");
+
+    final var config =
+        YouTrackDBConfig.builder()
+            .addGlobalConfigurationParameter(GlobalConfiguration.NON_TX_READS_WARNING_MODE,
+                "SILENT")
+            .build();
+    final var youTrackDB = YourTracks.embedded(directory.toAbsolutePath().toString(), config);
+    youTrackDB.execute(
+        "create database "
+            + name
+            + " "
+            + databaseType.name().toLowerCase(Locale.ROOT)
+            + " users ( "
+            + ADMIN_USER
+            + " identified by '"
+            + ADMIN_PASSWORD
+            + "' role admin)");
+
+    return new BenchmarkDatabase(directory, youTrackDB, name);
+  }
+
+  public DatabaseSessionInternal openSession() {
+    return (DatabaseSessionInternal) youTrackDB.open(name, ADMIN_USER, ADMIN_PASSWORD);
+  }
+
+  public AbstractPaginatedStorage storage() {
+    return storage;
+  }
+
+  /**
+   * @return Directory which may be used by benchmark to keep own files, it is removed together
+   * with database.
+   */
+  public Path directory() {
+    return directory;
+  }
+
+  @Override
+  public void close() {
+    try {
+      youTrackDB.drop(name);
+    } finally {
+      youTrackDB.close();
+      FileUtils.deleteRecursively(directory.toFile());
+    }
+  }
+}
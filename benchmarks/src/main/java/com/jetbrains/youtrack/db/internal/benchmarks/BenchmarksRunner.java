@@ -0,0 +1,57 @@
+package com.jetbrains.youtrack.db.internal.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks jar. Accepts the same command line options as the standard JMH runner
+ * (<code>java -jar benchmarks.jar -h</code> to list them), but unless other format is requested
+ * results are written in JSON format into <code>jmh-result.json</code> so they can be compared
+ * between releases, for example by <a href="https://jmh.morethan.io">JMH Visualizer</a>.
+ *
+ * <p>Examples:
+ *
+ * <pre>
+ *   java -jar benchmarks.jar                                  # run all suites
+ *   java -jar benchmarks.jar CellBTreeSingleValueV3Benchmark  # run single suite
+ *   java -jar benchmarks.jar -p storageType=PLOCAL -rff release-1.0.json
+ * </pre>
+ */
+public final class BenchmarksRunner {
+
+  public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  /**
+   * JVM arguments of forked benchmark JVMs, the same that are used to run tests of core module.
+   */
+  private static final String[] DEFAULT_JVM_ARGS = {
+      "--add-opens", "jdk.unsupported/sun.misc=ALL-UNNAMED",
+      "-Dmemory.directMemory.preallocate=false",
+      "-Dstorage.makeFullCheckpointAfterCreate=false",
+      "-Dstorage.makeFullCheckpointAfterOpen=false",
+      "-Dstorage.makeFullCheckpointAfterClusterCreate=false",
+      "-Dsecurity.createDefaultUsers=false",
+      "-Dsecurity.warningDefaultUsers=false"
+  };
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    final var commandLineOptions = new CommandLineOptions(args);
+    final var optionsBuilder = new OptionsBuilder().parent(commandLineOptions);
+
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      optionsBuilder.resultFormat(ResultFormatType.JSON);
+      if (!commandLineOptions.getResult().hasValue()) {
+        optionsBuilder.result(DEFAULT_RESULT_FILE);
+      }
+    }
+    if (!commandLineOptions.getJvmArgsAppend().hasValue()) {
+      optionsBuilder.jvmArgsAppend(DEFAULT_JVM_ARGS);
+    }
+
+    new Runner(optionsBuilder.build()).run();
+  }
+}
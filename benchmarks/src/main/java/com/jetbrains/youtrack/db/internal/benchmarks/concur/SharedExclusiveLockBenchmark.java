@@ -0,0 +1,101 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.concur;
+
+import com.jetbrains.youtrack.db.internal.common.concur.lock.ScalableRWLock;
+import com.jetbrains.youtrack.db.internal.common.concur.lock.SharedExclusiveLock;
+import com.jetbrains.youtrack.db.internal.common.concur.lock.StripedRWLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares read-write locks used by storage ({@link ScalableRWLock} and {@link StripedRWLock})
+ * when they are acquired by short living tasks, one task per request. Tasks are executed either by
+ * the fixed pool of platform threads or each task is executed by its own virtual thread. Part of
+ * the tasks acquires lock in exclusive mode, the rest in shared mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SharedExclusiveLockBenchmark {
+
+  private static final int TASKS_PER_INVOCATION = 10_000;
+
+  @Param({"SCALABLE", "STRIPED"})
+  public String lockType;
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  public String threadType;
+
+  @Param({"1", "10"})
+  public int writePercent;
+
+  private SharedExclusiveLock lock;
+  private ExecutorService executor;
+
+  private long value;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    lock = "STRIPED".equals(lockType) ? new StripedRWLock() : new ScalableRWLock();
+    executor =
+        "VIRTUAL".equals(threadType)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TASKS_PER_INVOCATION)
+  public void lockPerTask(final Blackhole blackhole) {
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[TASKS_PER_INVOCATION];
+    for (int i = 0; i < TASKS_PER_INVOCATION; i++) {
+      futures[i] = CompletableFuture.runAsync(() -> task(blackhole), executor);
+    }
+
+    CompletableFuture.allOf(futures).join();
+  }
+
+  private void task(final Blackhole blackhole) {
+    if (ThreadLocalRandom.current().nextInt(100) < writePercent) {
+      lock.exclusiveLock();
+      try {
+        value++;
+        Blackhole.consumeCPU(64);
+      } finally {
+        lock.exclusiveUnlock();
+      }
+    } else {
+      lock.sharedLock();
+      try {
+        blackhole.consume(value);
+        Blackhole.consumeCPU(64);
+      } finally {
+        lock.sharedUnlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.index;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.benchmarks.BenchmarkDatabase;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.LongSerializer;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperationsManager;
+import com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures throughput of point operations of {@link CellBTreeSingleValueV3}. Tree is filled by
+ * {@link #keysCount} keys before measurement, keys are scattered over the whole key space, so both
+ * lookups and insertions hit random leaf pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CellBTreeSingleValueV3Benchmark {
+
+  private static final int FILL_BATCH_SIZE = 1_000;
+
+  @Param({"MEMORY", "PLOCAL"})
+  public String storageType;
+
+  @Param({"1000000"})
+  public int keysCount;
+
+  private BenchmarkDatabase database;
+  private AtomicOperationsManager atomicOperationsManager;
+  private CellBTreeSingleValueV3<Long> tree;
+
+  private final AtomicLong insertCounter = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    database = BenchmarkDatabase.create(storageType, "cellBTreeSingleValueV3Benchmark");
+
+    final var storage = database.storage();
+    atomicOperationsManager = storage.getAtomicOperationsManager();
+
+    tree = new CellBTreeSingleValueV3<>("singleValueBenchmark", ".sbt", ".nbt", storage);
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> tree.create(atomicOperation, LongSerializer.INSTANCE, null, 1));
+
+    for (int batchStart = 0; batchStart < keysCount; batchStart += FILL_BATCH_SIZE) {
+      final int start = batchStart;
+      final int end = Math.min(batchStart + FILL_BATCH_SIZE, keysCount);
+
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (int i = start; i < end; i++) {
+              tree.put(atomicOperation, key(i), value(i));
+            }
+          });
+    }
+
+    insertCounter.set(keysCount);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public RID getExisting() {
+    return tree.get(key(ThreadLocalRandom.current().nextInt(keysCount)));
+  }
+
+  @Benchmark
+  public RID getAbsent() {
+    // negative counters are never used for insertion
+    return tree.get(key(-1L - ThreadLocalRandom.current().nextInt(keysCount)));
+  }
+
+  @Benchmark
+  public void put() throws IOException {
+    final long counter = insertCounter.getAndIncrement();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> tree.put(atomicOperation, key(counter), value(counter)));
+  }
+
+  /**
+   * Spreads sequential counter over the whole range of long values, multiplication on odd constant
+   * is a bijection so generated keys never collide.
+   */
+  private static long key(final long counter) {
+    return counter * 0x9E3779B97F4A7C15L;
+  }
+
+  private static RID value(final long counter) {
+    return new RecordId((int) (counter & Short.MAX_VALUE), counter);
+  }
+}
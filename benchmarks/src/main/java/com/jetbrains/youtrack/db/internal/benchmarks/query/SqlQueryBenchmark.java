@@ -0,0 +1,157 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.query;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.benchmarks.BenchmarkDatabase;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * End-to-end benchmark of SQL statements: parsing, planning, execution and fetching of records.
+ * Database contains {@link #recordsCount} products with unique index on <code>sku</code> and
+ * non-unique index on <code>category</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SqlQueryBenchmark {
+
+  private static final int FILL_BATCH_SIZE = 1_000;
+  private static final int CATEGORIES_COUNT = 1_000;
+
+  @Param({"MEMORY", "PLOCAL"})
+  public String storageType;
+
+  @Param({"100000"})
+  public int recordsCount;
+
+  private BenchmarkDatabase database;
+  private final AtomicInteger insertCounter = new AtomicInteger();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    database = BenchmarkDatabase.create(storageType, "sqlQueryBenchmark");
+
+    try (var session = database.openSession()) {
+      session.command("create class Product");
+      session.command("create property Product.sku string");
+      session.command("create property Product.name string");
+      session.command("create property Product.category integer");
+      session.command("create property Product.price double");
+      session.command("create index Product.sku on Product (sku) unique");
+      session.command("create index Product.category on Product (category) notunique");
+
+      for (int batchStart = 0; batchStart < recordsCount; batchStart += FILL_BATCH_SIZE) {
+        final int end = Math.min(batchStart + FILL_BATCH_SIZE, recordsCount);
+
+        session.begin();
+        for (int i = batchStart; i < end; i++) {
+          createProduct(session, i);
+        }
+        session.commit();
+      }
+    }
+
+    insertCounter.set(recordsCount);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public void selectByUniqueIndex(final SessionState state, final Blackhole blackhole) {
+    try (var resultSet =
+        state.session.query(
+            "select name, price from Product where sku = ?",
+            sku(ThreadLocalRandom.current().nextInt(recordsCount)))) {
+      resultSet.stream().forEach(blackhole::consume);
+    }
+  }
+
+  @Benchmark
+  public void selectByNotUniqueIndex(final SessionState state, final Blackhole blackhole) {
+    try (var resultSet =
+        state.session.query(
+            "select from Product where category = ?",
+            ThreadLocalRandom.current().nextInt(CATEGORIES_COUNT))) {
+      resultSet.stream().forEach(blackhole::consume);
+    }
+  }
+
+  @Benchmark
+  public void countWithFullScan(final SessionState state, final Blackhole blackhole) {
+    try (var resultSet =
+        state.session.query(
+            "select count(*) from Product where price < ?",
+            ThreadLocalRandom.current().nextDouble(100))) {
+      resultSet.stream().forEach(blackhole::consume);
+    }
+  }
+
+  @Benchmark
+  public RID insert(final SessionState state) {
+    final var session = state.session;
+
+    session.begin();
+    final var product = createProduct(session, insertCounter.getAndIncrement());
+    session.commit();
+
+    return product;
+  }
+
+  private static RID createProduct(final DatabaseSessionInternal session, final int index) {
+    final var product = session.newEntity("Product");
+    product.setProperty("sku", sku(index));
+    product.setProperty("name", "Product " + index);
+    product.setProperty("category", index % CATEGORIES_COUNT);
+    product.setProperty("price", (index % 10_000) / 100.0);
+    product.save();
+
+    return product.getIdentity();
+  }
+
+  private static String sku(final int index) {
+    return "SKU-" + index;
+  }
+
+  /**
+   * Sessions are bound to the thread so each benchmark thread uses its own one.
+   */
+  @State(Scope.Thread)
+  public static class SessionState {
+
+    private DatabaseSessionInternal session;
+
+    @Setup(Level.Trial)
+    public void setup(final SqlQueryBenchmark benchmark) {
+      session = benchmark.database.openSession();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      session.activateOnCurrentThread();
+      session.close();
+    }
+  }
+}
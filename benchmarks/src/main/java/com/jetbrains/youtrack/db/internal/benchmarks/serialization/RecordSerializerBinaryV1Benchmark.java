@@ -0,0 +1,128 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.serialization;
+
+import com.jetbrains.youtrack.db.internal.benchmarks.BenchmarkDatabase;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.record.RecordAbstract;
+import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
+import com.jetbrains.youtrack.db.internal.core.serialization.serializer.record.binary.RecordSerializerBinary;
+import com.jetbrains.youtrack.db.internal.core.serialization.serializer.record.binary.RecordSerializerBinaryV1;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serialization, full deserialization and partial deserialization of entities by
+ * {@link RecordSerializerBinaryV1}. Entity contains properties of the most commonly used types,
+ * {@link #collectionSize} controls size of embedded collections and as result size of the entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RecordSerializerBinaryV1Benchmark {
+
+  private static final RecordSerializerBinary SERIALIZER = new RecordSerializerBinary((byte) 1);
+  private static final String[] PARTIAL_FIELDS = new String[]{"name", "price"};
+
+  @Param({"0", "16", "256"})
+  public int collectionSize;
+
+  private BenchmarkDatabase database;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    database = BenchmarkDatabase.create("MEMORY", "recordSerializerBenchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public byte[] serialize(final SessionState state) {
+    return SERIALIZER.toStream(state.session, state.entity);
+  }
+
+  @Benchmark
+  public RecordAbstract deserialize(final SessionState state) {
+    return SERIALIZER.fromStream(state.session, state.serialized, new EntityImpl(state.session),
+        null);
+  }
+
+  @Benchmark
+  public RecordAbstract deserializePartial(final SessionState state) {
+    return SERIALIZER.fromStream(state.session, state.serialized, new EntityImpl(state.session),
+        PARTIAL_FIELDS);
+  }
+
+  /**
+   * Sessions are bound to the thread so each benchmark thread uses its own one.
+   */
+  @State(Scope.Thread)
+  public static class SessionState {
+
+    private DatabaseSessionInternal session;
+    private EntityImpl entity;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setup(final RecordSerializerBinaryV1Benchmark benchmark) {
+      session = benchmark.database.openSession();
+      entity = createEntity(session, benchmark.collectionSize);
+      serialized = SERIALIZER.toStream(session, entity);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      session.activateOnCurrentThread();
+      session.close();
+    }
+
+    private static EntityImpl createEntity(
+        final DatabaseSessionInternal session, final int collectionSize) {
+      final var entity = new EntityImpl(session);
+      entity.setProperty("name", "Benchmark product name");
+      entity.setProperty("sku", "SKU-0000000042");
+      entity.setProperty("quantity", 42);
+      entity.setProperty("weight", 12.5f);
+      entity.setProperty("price", new BigDecimal("199.99"));
+      entity.setProperty("timestamp", 1_700_000_000_000L);
+      entity.setProperty("active", true);
+      entity.setProperty("created", new Date(1_700_000_000_000L));
+      entity.setProperty("category", new RecordId(10, 42));
+
+      final List<String> tags = new ArrayList<>(collectionSize);
+      final Map<String, Integer> attributes = new HashMap<>();
+      for (int i = 0; i < collectionSize; i++) {
+        tags.add("tag" + i);
+        attributes.put("attribute" + i, i);
+      }
+      entity.setProperty("tags", tags);
+      entity.setProperty("attributes", attributes);
+
+      return entity;
+    }
+  }
+}
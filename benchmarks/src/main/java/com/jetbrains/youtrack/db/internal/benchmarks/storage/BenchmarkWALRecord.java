@@ -0,0 +1,63 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.storage;
+
+import com.jetbrains.youtrack.db.internal.common.serialization.types.IntegerSerializer;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.AbstractWALRecord;
+import java.nio.ByteBuffer;
+
+/**
+ * WAL record with opaque binary payload, used to measure throughput of WAL independently of
+ * content of page changes.
+ */
+public final class BenchmarkWALRecord extends AbstractWALRecord {
+
+  public static final int ID = 1024;
+
+  private byte[] data;
+
+  @SuppressWarnings("unused")
+  public BenchmarkWALRecord() {
+  }
+
+  public BenchmarkWALRecord(final byte[] data) {
+    this.data = data;
+  }
+
+  @Override
+  public int toStream(final byte[] content, int offset) {
+    IntegerSerializer.INSTANCE.serializeNative(data.length, content, offset);
+    offset += IntegerSerializer.INT_SIZE;
+
+    System.arraycopy(data, 0, content, offset, data.length);
+    offset += data.length;
+
+    return offset;
+  }
+
+  @Override
+  public void toStream(final ByteBuffer buffer) {
+    buffer.putInt(data.length);
+    buffer.put(data);
+  }
+
+  @Override
+  public int fromStream(final byte[] content, int offset) {
+    final int len = IntegerSerializer.INSTANCE.deserializeNative(content, offset);
+    offset += IntegerSerializer.INT_SIZE;
+
+    data = new byte[len];
+    System.arraycopy(content, offset, data, 0, len);
+    offset += len;
+
+    return offset;
+  }
+
+  @Override
+  public int serializedSize() {
+    return data.length + IntegerSerializer.INT_SIZE;
+  }
+
+  @Override
+  public int getId() {
+    return ID;
+  }
+}
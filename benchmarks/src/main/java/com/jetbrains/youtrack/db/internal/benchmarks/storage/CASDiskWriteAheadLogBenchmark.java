@@ -0,0 +1,101 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.storage;
+
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.internal.common.io.FileUtils;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.LogSequenceNumber;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WALRecordsFactory;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.cas.CASDiskWriteAheadLog;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures throughput of {@link CASDiskWriteAheadLog#log} for records of different size. WAL is
+ * configured the same way as for disk based storage, segments which are not active any more are
+ * removed after each iteration to keep size of WAL bounded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class CASDiskWriteAheadLogBenchmark {
+
+  private static final long MAX_SEGMENT_SIZE = 128L * 1024 * 1024;
+
+  @Param({"64", "512", "4096"})
+  public int recordSize;
+
+  @Param({"false", "true"})
+  public boolean callFsync;
+
+  private Path directory;
+  private CASDiskWriteAheadLog writeAheadLog;
+  private byte[] data;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    WALRecordsFactory.INSTANCE.registerNewRecord(BenchmarkWALRecord.ID, BenchmarkWALRecord.class);
+
+    directory = Files.createTempDirectory("youtrackdb-wal-benchmark");
+    writeAheadLog =
+        new CASDiskWriteAheadLog(
+            "walBenchmark",
+            directory,
+            directory,
+            GlobalConfiguration.WAL_CACHE_SIZE.getValueAsInteger(),
+            GlobalConfiguration.WAL_BUFFER_SIZE.getValueAsInteger(),
+            null,
+            null,
+            Long.MAX_VALUE,
+            MAX_SEGMENT_SIZE,
+            10,
+            true,
+            Locale.ROOT,
+            -1,
+            GlobalConfiguration.WAL_COMMIT_TIMEOUT.getValueAsInteger(),
+            false,
+            callFsync,
+            false,
+            10);
+
+    data = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(data);
+  }
+
+  @TearDown(Level.Iteration)
+  public void cutWAL() throws IOException {
+    writeAheadLog.flush();
+    writeAheadLog.cutAllSegmentsSmallerThan(writeAheadLog.end().getSegment());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    writeAheadLog.delete();
+    FileUtils.deleteRecursively(directory.toFile());
+  }
+
+  @Benchmark
+  public LogSequenceNumber log() throws IOException {
+    return writeAheadLog.log(new BenchmarkWALRecord(data));
+  }
+}
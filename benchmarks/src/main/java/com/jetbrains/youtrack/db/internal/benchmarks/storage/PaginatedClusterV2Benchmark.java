@@ -0,0 +1,104 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.storage;
+
+import com.jetbrains.youtrack.db.internal.benchmarks.BenchmarkDatabase;
+import com.jetbrains.youtrack.db.internal.core.storage.PhysicalPosition;
+import com.jetbrains.youtrack.db.internal.core.storage.RawBuffer;
+import com.jetbrains.youtrack.db.internal.core.storage.cluster.v2.PaginatedClusterV2;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperationsManager;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creation and point reads of records stored in {@link PaginatedClusterV2}. Records of
+ * size bigger than page size are split between several pages, so {@link #recordSize} covers both
+ * cases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PaginatedClusterV2Benchmark {
+
+  private static final int FILL_BATCH_SIZE = 1_000;
+
+  @Param({"MEMORY", "PLOCAL"})
+  public String storageType;
+
+  @Param({"128", "1024", "16384"})
+  public int recordSize;
+
+  @Param({"100000"})
+  public int recordsCount;
+
+  private BenchmarkDatabase database;
+  private AtomicOperationsManager atomicOperationsManager;
+  private PaginatedClusterV2 cluster;
+
+  private byte[] content;
+  private long[] positions;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    database = BenchmarkDatabase.create(storageType, "paginatedClusterV2Benchmark");
+
+    final var storage = database.storage();
+    atomicOperationsManager = storage.getAtomicOperationsManager();
+
+    cluster = new PaginatedClusterV2("clusterBenchmark", storage);
+    cluster.configure(Short.MAX_VALUE, "clusterBenchmark");
+    atomicOperationsManager.executeInsideAtomicOperation(null, cluster::create);
+
+    content = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(content);
+
+    positions = new long[recordsCount];
+    for (int batchStart = 0; batchStart < recordsCount; batchStart += FILL_BATCH_SIZE) {
+      final int start = batchStart;
+      final int end = Math.min(batchStart + FILL_BATCH_SIZE, recordsCount);
+
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (int i = start; i < end; i++) {
+              positions[i] =
+                  cluster.createRecord(content, 0, (byte) 1, null, atomicOperation)
+                      .clusterPosition;
+            }
+          });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public RawBuffer readRecord() throws IOException {
+    return cluster.readRecord(
+        positions[ThreadLocalRandom.current().nextInt(recordsCount)], false);
+  }
+
+  @Benchmark
+  public PhysicalPosition createRecord() throws IOException {
+    return atomicOperationsManager.calculateInsideAtomicOperation(
+        null, atomicOperation -> cluster.createRecord(content, 0, (byte) 1, null,
+            atomicOperation));
+  }
+}
@@ -0,0 +1,105 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.storage;
+
+import com.jetbrains.youtrack.db.internal.benchmarks.BenchmarkDatabase;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.ReadCache;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.WriteCache;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.chm.AsyncReadCache;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures contention of concurrent page loads in read cache. For disk based storage read cache is
+ * {@link AsyncReadCache}, for memory storage it is cache which holds all pages of database and
+ * which is used as a baseline. Pages are accessed either uniformly or with skew towards 10% of
+ * "hot" pages which receive 90% of accesses.
+ *
+ * <p>Number of threads is 4 by default and may be changed by <code>-t</code> option of runner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class ReadCacheBenchmark {
+
+  private static final int FILL_BATCH_SIZE = 1_024;
+
+  @Param({"MEMORY", "PLOCAL"})
+  public String storageType;
+
+  @Param({"65536"})
+  public int pagesCount;
+
+  @Param({"UNIFORM", "HOT_SET"})
+  public String distribution;
+
+  private BenchmarkDatabase database;
+  private ReadCache readCache;
+  private WriteCache writeCache;
+
+  private long fileId;
+  private boolean hotSet;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    database = BenchmarkDatabase.create(storageType, "readCacheBenchmark");
+
+    final var storage = database.storage();
+    readCache = storage.getReadCache();
+    writeCache = storage.getWriteCache();
+    hotSet = "HOT_SET".equals(distribution);
+
+    final var atomicOperationsManager = storage.getAtomicOperationsManager();
+    fileId =
+        atomicOperationsManager.calculateInsideAtomicOperation(
+            null, atomicOperation -> atomicOperation.addFile("readCacheBenchmark.rcb"));
+
+    for (int batchStart = 0; batchStart < pagesCount; batchStart += FILL_BATCH_SIZE) {
+      final int pages = Math.min(FILL_BATCH_SIZE, pagesCount - batchStart);
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (int i = 0; i < pages; i++) {
+              atomicOperation.releasePageFromWrite(atomicOperation.addPage(fileId));
+            }
+          });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public void loadForRead() throws IOException {
+    final var cacheEntry = readCache.loadForRead(fileId, nextPageIndex(), writeCache, true);
+    readCache.releaseFromRead(cacheEntry);
+  }
+
+  private int nextPageIndex() {
+    final var random = ThreadLocalRandom.current();
+    if (hotSet && random.nextInt(10) != 0) {
+      return random.nextInt(Math.max(1, pagesCount / 10));
+    }
+
+    return random.nextInt(pagesCount);
+  }
+}
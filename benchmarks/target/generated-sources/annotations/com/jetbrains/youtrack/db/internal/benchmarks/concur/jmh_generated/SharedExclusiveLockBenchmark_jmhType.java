@@ -0,0 +1,4 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.concur.jmh_generated;
+public class SharedExclusiveLockBenchmark_jmhType extends SharedExclusiveLockBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.index.jmh_generated;
+public class CellBTreeSingleValueV3Benchmark_jmhType extends CellBTreeSingleValueV3Benchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.query.jmh_generated;
+public class SqlQueryBenchmark_jmhType extends SqlQueryBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.serialization.jmh_generated;
+public class RecordSerializerBinaryV1Benchmark_jmhType extends RecordSerializerBinaryV1Benchmark_jmhType_B3 {
+}
+
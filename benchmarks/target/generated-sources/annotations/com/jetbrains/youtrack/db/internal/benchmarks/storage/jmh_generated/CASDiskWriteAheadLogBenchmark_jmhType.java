@@ -0,0 +1,4 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.storage.jmh_generated;
+public class CASDiskWriteAheadLogBenchmark_jmhType extends CASDiskWriteAheadLogBenchmark_jmhType_B3 {
+}
+
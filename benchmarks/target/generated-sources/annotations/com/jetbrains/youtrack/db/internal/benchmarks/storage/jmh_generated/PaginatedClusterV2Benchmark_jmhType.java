@@ -0,0 +1,4 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.storage.jmh_generated;
+public class PaginatedClusterV2Benchmark_jmhType extends PaginatedClusterV2Benchmark_jmhType_B3 {
+}
+
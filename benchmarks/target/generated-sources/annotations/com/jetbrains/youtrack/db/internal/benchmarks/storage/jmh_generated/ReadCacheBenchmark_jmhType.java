@@ -0,0 +1,4 @@
+package com.jetbrains.youtrack.db.internal.benchmarks.storage.jmh_generated;
+public class ReadCacheBenchmark_jmhType extends ReadCacheBenchmark_jmhType_B3 {
+}
+
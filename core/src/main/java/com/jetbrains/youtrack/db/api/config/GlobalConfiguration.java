@@ -50,6 +50,16 @@ public enum GlobalConfiguration {
       Runtime.getRuntime().availableProcessors() << 3,
       false),
 
+  ENVIRONMENT_LOCK_VIRTUAL_THREADS(
+      "environment.lock.virtualThreads",
+      "Use read-write locks designed for virtual threads in storage and lock managers. Such locks"
+          + " keep state of readers in fixed set of striped counters instead of per thread state"
+          + " and park waiting threads instead of spinning. Should be enabled if database is"
+          + " accessed from big number of short living virtual threads",
+      Boolean.class,
+      false,
+      false),
+
   // SCRIPT
   SCRIPT_POOL(
       "script.pool.maxSize",
@@ -122,6 +132,30 @@ public enum GlobalConfiguration {
       Boolean.class,
       false),
 
+  /**
+   * Carve page buffers from big slabs of direct memory instead of allocating each page separately.
+   */
+  DIRECT_MEMORY_ARENA(
+      "memory.directMemory.arena",
+      "Allocate page buffers from big slabs of direct memory which are reserved for each NUMA node"
+          + " instead of allocating each page separately. Free pages of slabs are charged to"
+          + " memory.pool.limit, once it is exceeded slabs without acquired pages are returned"
+          + " to OS",
+      Boolean.class,
+      false),
+
+  DIRECT_MEMORY_ARENA_SLAB_SIZE(
+      "memory.directMemory.arenaSlabSize",
+      "Size of single slab of direct memory reserved by the page arena (in megabytes)",
+      Integer.class,
+      64),
+
+  DIRECT_MEMORY_ARENA_HUGE_PAGES(
+      "memory.directMemory.arenaHugePages",
+      "Advise OS to back slabs of the page arena by transparent huge pages (Linux only)",
+      Boolean.class,
+      false),
+
   DIRECT_MEMORY_TRACK_MODE(
       "memory.directMemory.trackMode",
       "Activates the direct memory pool [leak detector](Leak-Detector.md). This detector causes a"
@@ -197,6 +231,26 @@ public enum GlobalConfiguration {
       Integer.class,
       25),
 
+  /**
+   * Pace periodic flush of write cache by the rate of changes instead of flushing fixed amount of
+   * pages on each interval. Rate of flush is chosen to keep amount of exclusive dirty pages and size
+   * of WAL near their targets.
+   */
+  DISK_WRITE_CACHE_ADAPTIVE_FLUSH(
+      "storage.diskCache.adaptiveFlush",
+      "Pace flush of write cache by the rate of page changes, WAL growth and disk write latency,"
+          + " instead of flushing fixed amount of pages on each flush interval",
+      Boolean.class,
+      false),
+
+  DISK_WRITE_CACHE_ADAPTIVE_FLUSH_DIRTY_PAGES_TARGET(
+      "storage.diskCache.adaptiveFlushDirtyPagesTarget",
+      "Amount of exclusive dirty pages which adaptive flush tries to keep in write cache (in"
+          + " percent of the maximum size of exclusive write cache). WAL size is kept near the"
+          + " value of storage.diskCache.walSizeToStartFlush",
+      Integer.class,
+      50),
+
   DISK_WRITE_CACHE_FLUSH_WRITE_INACTIVITY_INTERVAL(
       "storage.diskCache.writeCacheFlushInactivityInterval",
       "Interval between 2 writes to the disk cache, if writes are done with an interval more than"
@@ -227,16 +281,26 @@ public enum GlobalConfiguration {
 
   /**
    * Keep disk cache state between moment when storage is closed and moment when it is opened
-   * again.
-   * <code>true</code> by default.
+   * again. Keys of the cached pages are stored on storage close and pages are loaded into the cache
+   * in background after storage is opened.
+   * <code>false</code> by default.
    */
   STORAGE_KEEP_DISK_CACHE_STATE(
       "storage.diskCache.keepState",
       "Keep disk cache state between moment when storage is closed and moment when it is opened"
-          + " again. true by default",
+          + " again. Keys of the cached pages are stored on storage close and pages are loaded"
+          + " into the cache in background after storage is opened. false by default",
       Boolean.class,
       false),
 
+  STORAGE_DISK_CACHE_PREWARM_BANDWIDTH(
+      "storage.diskCache.prewarmBandwidth",
+      "Maximum amount of data in megabytes per second which is loaded into the disk cache in"
+          + " background after storage is opened if disk cache state is kept between storage"
+          + " close and open. Zero or negative value means that bandwidth is not limited",
+      Integer.class,
+      64),
+
   STORAGE_CHECKSUM_MODE(
       "storage.diskCache.checksumMode",
       "Controls the per-page checksum storage and verification done by the file cache. Possible"
@@ -260,6 +324,26 @@ public enum GlobalConfiguration {
       Boolean.class,
       true),
 
+  STORAGE_SNAPSHOT_MAX_MEMORY(
+      "storage.snapshot.maxMemory",
+      "Maximum amount of memory in megabytes occupied by images of the pages which are kept for"
+          + " opened storage snapshots, like the one used by database export. Once the limit is"
+          + " reached the oldest snapshots are invalidated and their reads fail. (Use 0 to"
+          + " disable the limit)",
+      Long.class,
+      256L),
+
+  STORAGE_MAPPED_READ_ONLY(
+      "storage.mappedReadOnly",
+      "Opens disk based database in read only mode, data files are memory mapped and pages are"
+          + " served directly from OS page cache, write ahead log is not used. Only databases which"
+          + " were closed properly and are never changed, like snapshots, can be opened in this"
+          + " mode. The parameter should be passed in configuration of the database on open, it"
+          + " is applied only if database is not opened yet and system database is never opened"
+          + " in this mode",
+      Boolean.class,
+      false),
+
   STORAGE_EXCLUSIVE_FILE_ACCESS(
       "storage.exclusiveFileAccess",
       "Limit access to the datafiles to the single API user, set to "
@@ -374,6 +458,32 @@ public enum GlobalConfiguration {
       Integer.class,
       null),
 
+  STORAGE_BACKUP_PARALLEL_FORMAT(
+      "storage.backup.parallelFormat",
+      "Indicates whether incremental backup stores LZ4 compressed pages of storage files which are"
+          + " backed up and restored by several threads. Such backups can not be restored by"
+          + " versions which do not support this format, set to false to create backups which are"
+          + " readable by them. Backups in both formats are restored regardless of this setting",
+      Boolean.class,
+      true),
+
+  STORAGE_BACKUP_THREADS(
+      "storage.backup.threads",
+      "Number of threads which copy and compress changed pages of storage files during"
+          + " incremental backup in parallel format and restore them back. If set to 1, pages of"
+          + " all files are processed sequentially by the thread which performs backup or restore",
+      Integer.class,
+      Math.max(1, Runtime.getRuntime().availableProcessors() / 2)),
+
+  STORAGE_BACKUP_BANDWIDTH_LIMIT(
+      "storage.backup.bandwidthLimit",
+      "Maximum amount of storage data in megabytes per second which is read by incremental backup"
+          + " or written by restore from incremental backup. Zero or negative value means that"
+          + " bandwidth is not limited",
+      Integer.class,
+      0,
+      true),
+
   WAL_SYNC_ON_PAGE_FLUSH(
       "storage.wal.syncOnPageFlush",
       "Indicates whether a force sync should be performed during WAL page flush",
@@ -479,6 +589,15 @@ public enum GlobalConfiguration {
       Integer.class,
       1000),
 
+  WAL_RESTORE_THREADS(
+      "storage.wal.restore.threads",
+      "Number of threads which apply page changes during data restore from WAL after crash."
+          + " Changes are partitioned by page, so changes of the same page are applied in WAL"
+          + " order, while WAL records are read ahead by a separate thread. If set to 1, WAL is"
+          + " read and applied sequentially by the thread which opens the storage",
+      Integer.class,
+      Math.max(1, Runtime.getRuntime().availableProcessors() / 2)),
+
   WAL_FUZZY_CHECKPOINT_SHUTDOWN_TIMEOUT(
       "storage.wal.fuzzyCheckpointShutdownWait",
       "The amount of time the DB should wait until it shuts down (in seconds)",
@@ -697,6 +816,21 @@ public enum GlobalConfiguration {
   INDEX_CURSOR_PREFETCH_SIZE(
       "index.stream.prefetchSize", "Default prefetch size of index stream", Integer.class, 10),
 
+  INDEX_ASYNC_BATCH_SIZE(
+      "index.async.batchSize",
+      "Amount of changes of the index with asynchronous maintenance which are applied to the"
+          + " index in background by single atomic operation",
+      Integer.class,
+      10_000),
+
+  INDEX_ASYNC_MAX_PENDING_CHANGES(
+      "index.async.maxPendingChanges",
+      "Maximum amount of changes of the index with asynchronous maintenance which are committed but"
+          + " are not applied to the index yet. Once this amount is reached, committing"
+          + " transactions apply pending changes of the index themselves",
+      Integer.class,
+      1_000_000),
+
   // SBTREE
   SBTREE_MAX_DEPTH(
       "sbtree.maxDepth",
@@ -1176,6 +1310,39 @@ public enum GlobalConfiguration {
       Boolean.class,
       true),
 
+  QUERY_METRICS_ENABLED(
+      "query.metrics.enabled",
+      "Collect per query metrics: amount of returned rows per execution step, execution time,"
+          + " page cache hits, page loads from disk and amount of read record bytes",
+      Boolean.class,
+      true,
+      true),
+
+  QUERY_METRICS_MAX_STATEMENTS(
+      "query.metrics.maxStatements",
+      "Maximum number of distinct normalized statements per database for which execution time"
+          + " histograms are registered in metrics registry. Statements above the limit are not"
+          + " tracked",
+      Integer.class,
+      1000),
+
+  QUERY_SEQUENTIAL_SCAN_THRESHOLD(
+      "query.sequentialScan.threshold",
+      "Full scans of clusters whose estimated amount of pages is at least this percent of the disk"
+          + " cache size do not add read pages to the disk cache, so they do not evict pages used"
+          + " by other queries. Scans of smaller clusters are cached as usual",
+      Integer.class,
+      25,
+      true),
+
+  QUERY_SLOW_LOG_THRESHOLD(
+      "query.slowLog.threshold",
+      "Queries whose execution takes at least this amount of milliseconds are logged together"
+          + " with their metrics. (Use 0 to disable)",
+      Long.class,
+      0L,
+      true),
+
   STATEMENT_CACHE_SIZE(
       "statement.cacheSize",
       "Number of parsed SQL statements kept in cache. Zero means cache disabled",
@@ -1692,6 +1859,16 @@ public enum GlobalConfiguration {
       Integer.class,
       1_000),
 
+  TX_SPILL_THRESHOLD(
+      "tx.spillThreshold",
+      "Amount of records changed by the transaction after which updated records are moved from"
+          + " the heap to the temporary file till the commit of the transaction. Records which are"
+          + " still referenced by the application are kept in the heap as well. Index changes of"
+          + " the transaction are moved to the temporary file once their amount exceeds the same"
+          + " threshold. 0 (default) disables moving of records and index changes.",
+      Integer.class,
+      0),
+
   CLIENT_CHANNEL_IDLE_TIMEOUT(
       "client.channel.idleTimeout", "sockets maximum time idle in seconds", Integer.class, 900),
 
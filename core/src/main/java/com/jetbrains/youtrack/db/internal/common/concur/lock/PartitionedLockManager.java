@@ -50,7 +50,7 @@ public class PartitionedLockManager<T> implements LockManager<T> {
 
   private final ReadWriteLock[] locks;
   private final ReadersWriterSpinLock[] spinLocks;
-  private final ScalableRWLock[] scalableRWLocks;
+  private final SharedExclusiveLock[] scalableRWLocks;
 
   private final boolean useSpinLock;
   private final boolean useScalableRWLock;
@@ -142,9 +142,9 @@ public class PartitionedLockManager<T> implements LockManager<T> {
       locks = null;
       scalableRWLocks = null;
     } else if (useScalableRWLock) {
-      ScalableRWLock[] lcks = new ScalableRWLock[concurrencyLevel];
+      SharedExclusiveLock[] lcks = new SharedExclusiveLock[concurrencyLevel];
       for (int i = 0; i < lcks.length; i++) {
-        lcks[i] = new ScalableRWLock();
+        lcks[i] = SharedExclusiveLock.newInstance();
       }
 
       spinLocks = null;
@@ -204,7 +204,7 @@ public class PartitionedLockManager<T> implements LockManager<T> {
 
   private Lock scalableExclusiveLock(int index) {
     assert scalableRWLocks != null;
-    final ScalableRWLock scalableRWLock = scalableRWLocks[index];
+    final SharedExclusiveLock scalableRWLock = scalableRWLocks[index];
     final Lock lock = scalableRWLock.writeLock();
     lock.lock();
     return lock;
@@ -212,7 +212,7 @@ public class PartitionedLockManager<T> implements LockManager<T> {
 
   private Lock scalableSharedLock(int index) {
     assert scalableRWLocks != null;
-    final ScalableRWLock scalableRWLock = scalableRWLocks[index];
+    final SharedExclusiveLock scalableRWLock = scalableRWLocks[index];
     final Lock lock = scalableRWLock.readLock();
     lock.lock();
     return lock;
@@ -283,7 +283,7 @@ public class PartitionedLockManager<T> implements LockManager<T> {
     if (useScalableRWLock) {
       assert scalableRWLocks != null;
 
-      final ScalableRWLock scalableRWLock = scalableRWLocks[index];
+      final SharedExclusiveLock scalableRWLock = scalableRWLocks[index];
       return scalableRWLock.exclusiveTryLock();
     }
 
@@ -423,7 +423,7 @@ public class PartitionedLockManager<T> implements LockManager<T> {
     if (useScalableRWLock) {
       assert scalableRWLocks != null;
 
-      final ScalableRWLock scalableRWLock = scalableRWLocks[index];
+      final SharedExclusiveLock scalableRWLock = scalableRWLocks[index];
       scalableRWLock.sharedLock();
       return;
     }
@@ -467,7 +467,7 @@ public class PartitionedLockManager<T> implements LockManager<T> {
     if (useScalableRWLock) {
       assert scalableRWLocks != null;
 
-      final ScalableRWLock scalableRWLock = scalableRWLocks[index];
+      final SharedExclusiveLock scalableRWLock = scalableRWLocks[index];
       scalableRWLock.exclusiveUnlock();
       return;
     }
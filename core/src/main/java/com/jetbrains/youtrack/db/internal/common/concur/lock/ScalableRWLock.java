@@ -29,7 +29,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.StampedLock;
 
 /**
@@ -74,7 +73,7 @@ import java.util.concurrent.locks.StampedLock;
  * instance, the performance penalty will be small because the accessed variables will most likely
  * be in L1/L2 cache.
  */
-public class ScalableRWLock implements ReadWriteLock, java.io.Serializable {
+public class ScalableRWLock implements SharedExclusiveLock, java.io.Serializable {
 
   private static final long serialVersionUID = -7552055681918630764L;
 
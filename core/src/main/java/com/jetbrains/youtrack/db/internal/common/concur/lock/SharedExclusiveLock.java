@@ -0,0 +1,42 @@
+package com.jetbrains.youtrack.db.internal.common.concur.lock;
+
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Non-reentrant read-write lock which is optimized for short critical sections which are mostly
+ * executed in shared mode.
+ *
+ * @see ScalableRWLock
+ * @see StripedRWLock
+ */
+public interface SharedExclusiveLock extends ReadWriteLock {
+
+  /**
+   * Creates lock implementation selected by {@link
+   * GlobalConfiguration#ENVIRONMENT_LOCK_VIRTUAL_THREADS}.
+   */
+  static SharedExclusiveLock newInstance() {
+    if (GlobalConfiguration.ENVIRONMENT_LOCK_VIRTUAL_THREADS.getValueAsBoolean()) {
+      return new StripedRWLock();
+    }
+
+    return new ScalableRWLock();
+  }
+
+  void sharedLock();
+
+  void sharedUnlock();
+
+  boolean sharedTryLock();
+
+  boolean sharedTryLockNanos(long nanosTimeout);
+
+  void exclusiveLock();
+
+  void exclusiveUnlock();
+
+  boolean exclusiveTryLock();
+
+  boolean exclusiveTryLockNanos(long nanosTimeout) throws InterruptedException;
+}
@@ -0,0 +1,340 @@
+package com.jetbrains.youtrack.db.internal.common.concur.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Read-write lock which is designed to be used by big number of short living virtual threads.
+ *
+ * <p>Unlike {@link ScalableRWLock}, which keeps state of every thread which ever acquired the lock
+ * in shared mode, this lock keeps amount of active readers in the fixed set of striped counters.
+ * Stripe is chosen by the hash of thread id, so the same stripe is used to acquire and to release
+ * the lock even if virtual thread is moved to other carrier thread in between. Counters are padded
+ * to avoid false sharing between readers which use different stripes.
+ *
+ * <p>Threads which wait for the lock are parked instead of spinning, so carrier threads are
+ * released for other virtual threads: readers wait for the writer on {@link StampedLock}, and the
+ * writer is unparked by the last reader of the stripe it waits for.
+ *
+ * <p>Lock prefers writers: once writer acquires the lock new readers wait till the lock is
+ * released. Shared lock is reentrant, amount of holds is tracked in thread local which is released
+ * together with the thread, exclusive lock is not reentrant.
+ */
+public final class StripedRWLock implements SharedExclusiveLock {
+
+  /**
+   * Amount of <code>long</code> cells occupied by single stripe, 128 bytes cover the cache line and
+   * the adjacent line prefetched by CPU.
+   */
+  private static final int STRIPE_PADDING = 16;
+
+  private static final int STRIPES =
+      Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+
+  /**
+   * Amount of checks of reader counter performed by writer before it is parked.
+   */
+  private static final int WRITER_SPINS = 16;
+
+  private final AtomicLongArray readers = new AtomicLongArray(STRIPES * STRIPE_PADDING);
+  private final StampedLock writerLock = new StampedLock();
+
+  /**
+   * Writer which is parked till readers of one of the stripes release the lock.
+   */
+  private volatile Thread waitingWriter;
+
+  private final ThreadLocal<int[]> readHolds = ThreadLocal.withInitial(() -> new int[1]);
+
+  private final Lock readLock = new InnerReadLock();
+  private final Lock writeLock = new InnerWriteLock();
+
+  @Override
+  public Lock readLock() {
+    return readLock;
+  }
+
+  @Override
+  public Lock writeLock() {
+    return writeLock;
+  }
+
+  @Override
+  public void sharedLock() {
+    final int[] holds = readHolds.get();
+    if (holds[0] > 0) {
+      holds[0]++;
+      return;
+    }
+
+    final int stripe = stripe();
+    while (true) {
+      readers.incrementAndGet(stripe);
+      if (!writerLock.isWriteLocked()) {
+        holds[0] = 1;
+        return;
+      }
+
+      readerExit(stripe);
+
+      final long stamp = writerLock.readLock();
+      writerLock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public void sharedUnlock() {
+    final int[] holds = readHolds.get();
+    if (holds[0] <= 0) {
+      throw new IllegalMonitorStateException();
+    }
+
+    holds[0]--;
+    if (holds[0] == 0) {
+      readerExit(stripe());
+    }
+  }
+
+  @Override
+  public boolean sharedTryLock() {
+    final int[] holds = readHolds.get();
+    if (holds[0] > 0) {
+      holds[0]++;
+      return true;
+    }
+
+    final int stripe = stripe();
+    readers.incrementAndGet(stripe);
+    if (!writerLock.isWriteLocked()) {
+      holds[0] = 1;
+      return true;
+    }
+
+    readerExit(stripe);
+    return false;
+  }
+
+  @Override
+  public boolean sharedTryLockNanos(final long nanosTimeout) {
+    final int[] holds = readHolds.get();
+    if (holds[0] > 0) {
+      holds[0]++;
+      return true;
+    }
+
+    final long deadline = System.nanoTime() + nanosTimeout;
+    final int stripe = stripe();
+    while (true) {
+      readers.incrementAndGet(stripe);
+      if (!writerLock.isWriteLocked()) {
+        holds[0] = 1;
+        return true;
+      }
+
+      readerExit(stripe);
+
+      final long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+
+      try {
+        final long stamp = writerLock.tryReadLock(remaining, TimeUnit.NANOSECONDS);
+        if (stamp == 0) {
+          return false;
+        }
+        writerLock.unlockRead(stamp);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+  }
+
+  @Override
+  public void exclusiveLock() {
+    writerLock.writeLock();
+    awaitReaders(false, 0);
+  }
+
+  @Override
+  public void exclusiveUnlock() {
+    if (!writerLock.isWriteLocked()) {
+      throw new IllegalMonitorStateException();
+    }
+
+    writerLock.asWriteLock().unlock();
+  }
+
+  @Override
+  public boolean exclusiveTryLock() {
+    if (writerLock.tryWriteLock() == 0) {
+      return false;
+    }
+
+    for (int i = 0; i < readers.length(); i += STRIPE_PADDING) {
+      if (readers.get(i) != 0) {
+        writerLock.asWriteLock().unlock();
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean exclusiveTryLockNanos(final long nanosTimeout) throws InterruptedException {
+    final long deadline = System.nanoTime() + nanosTimeout;
+    if (writerLock.tryWriteLock(nanosTimeout, TimeUnit.NANOSECONDS) == 0) {
+      return false;
+    }
+
+    if (!awaitReaders(true, deadline)) {
+      writerLock.asWriteLock().unlock();
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Waits till all readers release the lock. Should be called by the holder of the writer lock.
+   *
+   * @param timed    Whether time of waiting is limited.
+   * @param deadline Value of {@link System#nanoTime()} after which waiting is stopped.
+   * @return <code>false</code> if deadline is reached while lock is still held by readers.
+   */
+  private boolean awaitReaders(final boolean timed, final long deadline) {
+    boolean interrupted = false;
+    try {
+      for (int i = 0; i < readers.length(); i += STRIPE_PADDING) {
+        int spins = WRITER_SPINS;
+        while (readers.get(i) != 0) {
+          if (spins > 0) {
+            spins--;
+            Thread.onSpinWait();
+            continue;
+          }
+
+          // waiting writer should be published before the counter is checked again, so the last
+          // reader either sees the writer or the writer sees released counter
+          waitingWriter = Thread.currentThread();
+          try {
+            if (readers.get(i) != 0) {
+              if (!timed) {
+                LockSupport.park(this);
+              } else {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                  return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+              }
+
+              interrupted |= Thread.interrupted();
+            }
+          } finally {
+            waitingWriter = null;
+          }
+        }
+      }
+
+      return true;
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void readerExit(final int stripe) {
+    if (readers.decrementAndGet(stripe) == 0) {
+      final Thread writer = waitingWriter;
+      if (writer != null) {
+        LockSupport.unpark(writer);
+      }
+    }
+  }
+
+  private static int stripe() {
+    final long threadId = Thread.currentThread().threadId();
+    final int hash = (int) (threadId ^ (threadId >>> 32)) * 0x9E3779B9;
+    return ((hash >>> 16) & (STRIPES - 1)) * STRIPE_PADDING;
+  }
+
+  private final class InnerReadLock implements Lock {
+
+    @Override
+    public void lock() {
+      sharedLock();
+    }
+
+    @Override
+    public void unlock() {
+      sharedUnlock();
+    }
+
+    @Override
+    public boolean tryLock() {
+      return sharedTryLock();
+    }
+
+    @Override
+    public boolean tryLock(final long timeout, final TimeUnit unit) throws InterruptedException {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      return sharedTryLockNanos(unit.toNanos(timeout));
+    }
+
+    @Override
+    public void lockInterruptibly() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Condition newCondition() {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private final class InnerWriteLock implements Lock {
+
+    @Override
+    public void lock() {
+      exclusiveLock();
+    }
+
+    @Override
+    public void unlock() {
+      exclusiveUnlock();
+    }
+
+    @Override
+    public boolean tryLock() {
+      return exclusiveTryLock();
+    }
+
+    @Override
+    public boolean tryLock(final long timeout, final TimeUnit unit) throws InterruptedException {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      return exclusiveTryLockNanos(unit.toNanos(timeout));
+    }
+
+    @Override
+    public void lockInterruptibly() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Condition newCondition() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -110,6 +110,14 @@ public final class ByteBufferPool implements ByteBufferPoolMXBean {
    */
   private final DirectMemoryAllocator allocator;
 
+  /**
+   * Arena from which pages are acquired instead of the pool, <code>null</code> if pages are
+   * allocated separately.
+   *
+   * @see GlobalConfiguration#DIRECT_MEMORY_ARENA
+   */
+  private final DirectMemoryArena arena;
+
   /**
    * @param pageSize Size of single page (instance of <code>DirectByteBuffer</code>) returned by
    *                 pool.
@@ -118,6 +126,10 @@ public final class ByteBufferPool implements ByteBufferPoolMXBean {
     this.pageSize = pageSize;
     this.allocator = DirectMemoryAllocator.instance();
     this.poolSize = GlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger();
+    this.arena =
+        GlobalConfiguration.DIRECT_MEMORY_ARENA.getValueAsBoolean()
+            ? allocator.arena(pageSize)
+            : null;
   }
 
   /**
@@ -130,11 +142,13 @@ public final class ByteBufferPool implements ByteBufferPoolMXBean {
     this.pageSize = pageSize;
     this.allocator = allocator;
     this.poolSize = poolSize;
+    this.arena = null;
   }
 
   /**
    * Acquires direct memory buffer with native byte order. If there is free (already released)
-   * direct memory page we reuse it, otherwise new memory chunk is allocated from direct memory.
+   * direct memory page we reuse it, otherwise new memory chunk is allocated from direct memory. If
+   * arena is enabled, buffer is acquired from the arena instead.
    *
    * @param clear     Whether returned buffer should be filled with zeros before return.
    * @param intention Why this memory is allocated. This parameter is used for memory profiling.
@@ -143,16 +157,20 @@ public final class ByteBufferPool implements ByteBufferPoolMXBean {
   public Pointer acquireDirect(boolean clear, Intention intention) {
     Pointer pointer;
 
-    pointer = pointersPool.poll();
+    if (arena != null) {
+      pointer = arena.acquire(clear, intention);
+    } else {
+      pointer = pointersPool.poll();
 
-    if (pointer != null) {
-      pointersPoolSize.decrementAndGet();
+      if (pointer != null) {
+        pointersPoolSize.decrementAndGet();
 
-      if (clear) {
-        pointer.clear();
+        if (clear) {
+          pointer.clear();
+        }
+      } else {
+        pointer = allocator.allocate(pageSize, clear, intention);
       }
-    } else {
-      pointer = allocator.allocate(pageSize, clear, intention);
     }
 
     pointer.getNativeByteBuffer().position(0);
@@ -175,6 +193,11 @@ public final class ByteBufferPool implements ByteBufferPoolMXBean {
       pointerMapping.remove(pointer);
     }
 
+    if (arena != null) {
+      arena.release(pointer);
+      return;
+    }
+
     long poolSize = pointersPoolSize.incrementAndGet();
     if (poolSize > this.poolSize) {
       pointersPoolSize.decrementAndGet();
@@ -224,8 +247,12 @@ public final class ByteBufferPool implements ByteBufferPoolMXBean {
     pointersPool.clear();
     pointersPoolSize.set(0);
 
-    for (Pointer pointer : pointerMapping.keySet()) {
-      allocator.deallocate(pointer);
+    if (arena != null) {
+      arena.clear();
+    } else {
+      for (Pointer pointer : pointerMapping.keySet()) {
+        allocator.deallocate(pointer);
+      }
     }
 
     pointerMapping.clear();
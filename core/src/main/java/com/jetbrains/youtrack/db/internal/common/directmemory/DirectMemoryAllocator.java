@@ -21,6 +21,7 @@
 package com.jetbrains.youtrack.db.internal.common.directmemory;
 
 import com.jetbrains.youtrack.db.internal.common.exception.DirectMemoryAllocationFailedException;
+import com.jetbrains.youtrack.db.internal.common.jnr.Native;
 import com.jetbrains.youtrack.db.internal.common.log.LogManager;
 import com.jetbrains.youtrack.db.internal.common.types.ModifiableLong;
 import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
@@ -118,6 +119,11 @@ public class DirectMemoryAllocator implements DirectMemoryAllocatorMXBean {
 
   private final ReferenceQueue<Thread> consumptionMapEvictionQueue = new ReferenceQueue<>();
 
+  /**
+   * Arenas of page buffers, one arena for each size of page.
+   */
+  private final ConcurrentHashMap<Integer, DirectMemoryArena> arenas = new ConcurrentHashMap<>();
+
   /**
    * @return singleton instance.
    */
@@ -324,6 +330,48 @@ public class DirectMemoryAllocator implements DirectMemoryAllocatorMXBean {
     return memoryConsumption.longValue();
   }
 
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getArenaReservedMemory() {
+    long reserved = 0;
+    for (final DirectMemoryArena arena : arenas.values()) {
+      reserved += arena.getReservedMemory();
+    }
+    return reserved;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getArenaUsedMemory() {
+    long used = 0;
+    for (final DirectMemoryArena arena : arenas.values()) {
+      used += arena.getUsedMemory();
+    }
+    return used;
+  }
+
+  /**
+   * @param pageSize Size of page buffers allocated by arena.
+   * @return Arena which carves page buffers of given size from the slabs of direct memory.
+   * @see GlobalConfiguration#DIRECT_MEMORY_ARENA
+   */
+  public DirectMemoryArena arena(final int pageSize) {
+    return arenas.computeIfAbsent(
+        pageSize,
+        size ->
+            new DirectMemoryArena(
+                this,
+                size,
+                GlobalConfiguration.DIRECT_MEMORY_ARENA_SLAB_SIZE.getValueAsLong() * 1024 * 1024,
+                GlobalConfiguration.DIRECT_MEMORY_ARENA_HUGE_PAGES.getValueAsBoolean(),
+                Native.instance().numaNodes(),
+                GlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger()));
+  }
+
   /**
    * Verifies that all pointers which were allocated by allocator are freed.
    */
@@ -443,6 +491,9 @@ public class DirectMemoryAllocator implements DirectMemoryAllocatorMXBean {
     DWL_ALLOCATE_COMPRESSED_CHUNK,
     ALLOCATE_FIRST_WAL_BUFFER,
     ALLOCATE_SECOND_WAL_BUFFER,
+    MAP_FILE_PAGE,
+    COPY_PAGE_FOR_SNAPSHOT,
+    BLOOM_FILTER,
 
     ADD_NEW_PAGE_IN_FILE
   }
@@ -26,4 +26,16 @@ public interface DirectMemoryAllocatorMXBean {
    * @return Amount of direct memory allocated using this allocator
    */
   long getMemoryConsumption();
+
+  /**
+   * @return Amount of direct memory reserved by slabs of page arenas.
+   * @see DirectMemoryArena
+   */
+  long getArenaReservedMemory();
+
+  /**
+   * @return Amount of direct memory of page arenas which is occupied by acquired pages.
+   * @see DirectMemoryArena
+   */
+  long getArenaUsedMemory();
 }
@@ -0,0 +1,295 @@
+package com.jetbrains.youtrack.db.internal.common.directmemory;
+
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator.Intention;
+import com.jetbrains.youtrack.db.internal.common.jnr.Native;
+import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Allocator of page buffers which carves them from big slabs of direct memory instead of
+ * allocating each page separately. It decreases amount of allocations performed by OS allocator
+ * for big disk caches and allows to back the slabs by transparent huge pages which decreases
+ * amount of TLB misses.
+ *
+ * <p>Slabs and lists of free pages are kept separately for each NUMA node. Page is acquired from
+ * the list of the node on which the current thread is executed, and is returned to the list of
+ * the node of the slab from which it was carved. Memory of the slab is not touched on allocation,
+ * so OS places it on the node of the thread which writes the page first, that is usually the thread
+ * which acquired it.
+ *
+ * <p>Free pages of the slabs are charged to the limit of the pages cached by the pool. Once amount
+ * of free pages exceeds the limit, slabs which pages are all released are returned to OS.
+ *
+ * @see GlobalConfiguration#DIRECT_MEMORY_ARENA
+ * @see GlobalConfiguration#DIRECT_MEMORY_POOL_LIMIT
+ */
+public final class DirectMemoryArena {
+
+  private final DirectMemoryAllocator allocator;
+  private final int pageSize;
+  private final int slabSize;
+  private final int pagesPerSlab;
+  private final boolean hugePages;
+  private final long poolLimit;
+
+  private final Node[] nodes;
+
+  private final LongAdder reservedSlabs = new LongAdder();
+  private final LongAdder reservedMemory = new LongAdder();
+  private final LongAdder usedMemory = new LongAdder();
+
+  /**
+   * @param allocator Allocator of slabs.
+   * @param pageSize  Size of single page buffer.
+   * @param slabSize  Size of single slab, it is rounded up to the size of page and to the size of
+   *                  huge page if huge pages are used.
+   * @param hugePages Whether to advise OS to back slabs by transparent huge pages.
+   * @param numaNodes Amount of NUMA nodes.
+   * @param poolLimit Amount of free pages kept in the slabs, once it is exceeded empty slabs are
+   *                  returned to OS.
+   */
+  DirectMemoryArena(
+      final DirectMemoryAllocator allocator,
+      final int pageSize,
+      final long slabSize,
+      final boolean hugePages,
+      final int numaNodes,
+      final int poolLimit) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Size of page should be positive");
+    }
+
+    long size = Math.max(slabSize, pageSize);
+    if (hugePages) {
+      size = (size + Native.HUGE_PAGE_SIZE - 1) / Native.HUGE_PAGE_SIZE * Native.HUGE_PAGE_SIZE;
+    }
+
+    this.allocator = allocator;
+    this.pageSize = pageSize;
+    this.pagesPerSlab = (int) (size / pageSize);
+    this.slabSize = Math.toIntExact((long) pagesPerSlab * pageSize);
+    this.hugePages = hugePages;
+    this.poolLimit = poolLimit;
+
+    this.nodes = new Node[Math.max(numaNodes, 1)];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = new Node();
+    }
+  }
+
+  /**
+   * Acquires page buffer from the slab of the NUMA node of the current thread.
+   *
+   * @param clear     Whether returned buffer should be filled with zeros.
+   * @param intention Why this memory is allocated, it is used for memory profiling if new slab is
+   *                  reserved.
+   */
+  public Pointer acquire(final boolean clear, final Intention intention) {
+    final int nodeIndex =
+        nodes.length == 1 ? 0 : Native.instance().currentNumaNode() % nodes.length;
+    final Node node = nodes[nodeIndex];
+
+    Pointer pointer;
+    do {
+      pointer = node.freePages.poll();
+    } while (pointer != null && !pointer.getArenaSlab().acquirePage());
+
+    if (pointer == null) {
+      pointer = node.reserveSlab(nodeIndex, intention);
+    }
+
+    usedMemory.add(pageSize);
+
+    if (clear) {
+      pointer.clear();
+    }
+
+    return pointer;
+  }
+
+  /**
+   * Returns page buffer to the free list of the NUMA node of its slab. If all pages of the slab are
+   * released and amount of free pages exceeds the pool limit, slab is returned to OS.
+   */
+  public void release(final Pointer pointer) {
+    final Slab slab = pointer.getArenaSlab();
+    if (slab == null || slab.getArena() != this || pointer.getSize() != pageSize) {
+      throw new IllegalArgumentException("Pointer was not allocated by this arena");
+    }
+
+    usedMemory.add(-pageSize);
+
+    final Node node = nodes[slab.nodeIndex];
+    node.freePages.add(pointer);
+
+    // page is added to the free list before it is counted as released, so once counter is zero all
+    // pages of the slab are in the free list
+    if (slab.releasePage() && getFreePages() > poolLimit) {
+      node.releaseSlab(slab);
+    }
+  }
+
+  /**
+   * Returns memory of all slabs back to OS. Buffers acquired from arena can not be used after this
+   * call.
+   */
+  public void clear() {
+    for (final Node node : nodes) {
+      node.clear();
+    }
+
+    usedMemory.reset();
+  }
+
+  /**
+   * @return Amount of direct memory reserved by slabs of this arena.
+   */
+  public long getReservedMemory() {
+    return reservedMemory.sum();
+  }
+
+  /**
+   * @return Amount of direct memory occupied by acquired page buffers.
+   */
+  public long getUsedMemory() {
+    return usedMemory.sum();
+  }
+
+  private long getFreePages() {
+    return reservedSlabs.sum() * pagesPerSlab - usedMemory.sum() / pageSize;
+  }
+
+  /**
+   * Slab of direct memory from which pages are carved. Slab counts acquired pages, so it is known
+   * when all of them are released.
+   */
+  final class Slab {
+
+    private final Pointer memory;
+    private final int nodeIndex;
+
+    /**
+     * Amount of acquired pages or negative value once slab is being returned to OS.
+     */
+    private final AtomicInteger acquiredPages = new AtomicInteger(1);
+
+    private Slab(final Pointer memory, final int nodeIndex) {
+      this.memory = memory;
+      this.nodeIndex = nodeIndex;
+    }
+
+    private DirectMemoryArena getArena() {
+      return DirectMemoryArena.this;
+    }
+
+    /**
+     * Counts page taken from the free list as acquired.
+     *
+     * @return <code>false</code> if slab is returned to OS and page can not be used.
+     */
+    private boolean acquirePage() {
+      return acquiredPages.incrementAndGet() > 0;
+    }
+
+    /**
+     * @return <code>true</code> if all pages of the slab are released.
+     */
+    private boolean releasePage() {
+      return acquiredPages.decrementAndGet() == 0;
+    }
+  }
+
+  private final class Node {
+
+    private final ConcurrentLinkedQueue<Pointer> freePages = new ConcurrentLinkedQueue<>();
+    private final List<Slab> slabs = new ArrayList<>();
+    private final Lock slabLock = new ReentrantLock();
+
+    /**
+     * Reserves new slab and returns its first page, the rest of the pages are added to the free
+     * list. If other thread reserved slab in the meantime page from that slab is returned instead.
+     */
+    private Pointer reserveSlab(final int nodeIndex, final Intention intention) {
+      slabLock.lock();
+      try {
+        Pointer freePage;
+        while ((freePage = freePages.poll()) != null) {
+          if (freePage.getArenaSlab().acquirePage()) {
+            return freePage;
+          }
+        }
+
+        final int allocationSize = hugePages ? slabSize + (int) Native.HUGE_PAGE_SIZE : slabSize;
+        final Pointer memory = allocator.allocate(allocationSize, false, intention);
+        final Slab slab = new Slab(memory, nodeIndex);
+        slabs.add(slab);
+        reservedSlabs.increment();
+        reservedMemory.add(allocationSize);
+
+        long address = memory.getNativePointer();
+        if (hugePages) {
+          address =
+              (address + Native.HUGE_PAGE_SIZE - 1) / Native.HUGE_PAGE_SIZE * Native.HUGE_PAGE_SIZE;
+          if (!Native.instance().adviseHugePages(address, slabSize)) {
+            LogManager.instance()
+                .debug(this, "Slab of direct memory is not backed by transparent huge pages");
+          }
+        }
+
+        for (int i = 1; i < pagesPerSlab; i++) {
+          freePages.add(new Pointer(address + (long) i * pageSize, pageSize, intention, slab));
+        }
+
+        return new Pointer(address, pageSize, intention, slab);
+      } finally {
+        slabLock.unlock();
+      }
+    }
+
+    /**
+     * Returns memory of the slab to OS if none of its pages is acquired. Pages of the slab which are
+     * taken from the free list concurrently are not used by acquiring threads because counter of
+     * acquired pages is negative.
+     */
+    private void releaseSlab(final Slab slab) {
+      slabLock.lock();
+      try {
+        if (!slab.acquiredPages.compareAndSet(0, Integer.MIN_VALUE)) {
+          return;
+        }
+
+        freePages.removeIf(page -> page.getArenaSlab() == slab);
+        slabs.remove(slab);
+
+        reservedSlabs.decrement();
+        reservedMemory.add(-slab.memory.getSize());
+        allocator.deallocate(slab.memory);
+      } finally {
+        slabLock.unlock();
+      }
+    }
+
+    private void clear() {
+      slabLock.lock();
+      try {
+        freePages.clear();
+
+        for (final Slab slab : slabs) {
+          reservedSlabs.decrement();
+          reservedMemory.add(-slab.memory.getSize());
+          allocator.deallocate(slab.memory);
+        }
+        slabs.clear();
+      } finally {
+        slabLock.unlock();
+      }
+    }
+  }
+}
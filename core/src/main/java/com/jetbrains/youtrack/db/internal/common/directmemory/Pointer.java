@@ -12,13 +12,41 @@ public final class Pointer {
   private final int size;
   private final Intention intention;
 
+  /**
+   * Slab of {@link DirectMemoryArena} which contains this pointer, or <code>null</code> if memory
+   * was allocated directly from OS.
+   */
+  private final DirectMemoryArena.Slab arenaSlab;
+
   private SoftReference<ByteBuffer> byteBuffer;
   private int hash = 0;
 
   Pointer(long pointer, int size, Intention intention) {
+    this(pointer, size, intention, null);
+  }
+
+  Pointer(long pointer, int size, Intention intention, DirectMemoryArena.Slab arenaSlab) {
     this.pointer = pointer;
     this.size = size;
     this.intention = intention;
+    this.arenaSlab = arenaSlab;
+  }
+
+  /**
+   * Creates pointer to the direct memory which is not allocated by {@link DirectMemoryAllocator},
+   * for example to the page of memory mapped file. Such pointer should never be released to the
+   * {@link ByteBufferPool} and can be used only while passed buffer is reachable.
+   */
+  public static Pointer wrap(final ByteBuffer buffer, final Intention intention) {
+    if (!buffer.isDirect()) {
+      throw new IllegalArgumentException("Only direct buffers can be wrapped");
+    }
+
+    final Pointer pointer =
+        new Pointer(
+            MemoryIO.getInstance().getDirectBufferAddress(buffer), buffer.capacity(), intention);
+    pointer.byteBuffer = new SoftReference<>(buffer.order(ByteOrder.nativeOrder()));
+    return pointer;
   }
 
   public void clear() {
@@ -53,6 +81,10 @@ public final class Pointer {
     return intention;
   }
 
+  DirectMemoryArena.Slab getArenaSlab() {
+    return arenaSlab;
+  }
+
   private ByteBuffer createNativeBuffer() {
     return MemoryIO.getInstance().newDirectByteBuffer(pointer, size).order(ByteOrder.nativeOrder());
   }
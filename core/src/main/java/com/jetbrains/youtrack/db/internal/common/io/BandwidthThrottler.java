@@ -0,0 +1,103 @@
+/*
+ *
+ *
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *
+ *
+ */
+package com.jetbrains.youtrack.db.internal.common.io;
+
+import com.jetbrains.youtrack.db.internal.common.concur.lock.ThreadInterruptedException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits amount of bytes processed per second by all threads which share the same instance of
+ * throttler. Each call of {@link #acquire(long)} reserves the time slot required to process the
+ * passed amount of bytes and parks the calling thread till the beginning of this slot. Limit is
+ * read on each call, so it may be changed while throttled operation is in progress.
+ */
+public final class BandwidthThrottler {
+
+  private static final BandwidthThrottler UNLIMITED = new BandwidthThrottler(() -> 0);
+
+  /**
+   * Bursts are limited by the amount of bytes which may be processed during this interval.
+   */
+  private static final long MAX_BURST_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final LongSupplier bytesPerSecond;
+  private long nextFreeSlot;
+
+  private BandwidthThrottler(final LongSupplier bytesPerSecond) {
+    this.bytesPerSecond = bytesPerSecond;
+    this.nextFreeSlot = System.nanoTime();
+  }
+
+  /**
+   * @param bytesPerSecond Maximum amount of bytes per second, zero or negative value means that
+   *                       bandwidth is not limited.
+   */
+  public static BandwidthThrottler create(final long bytesPerSecond) {
+    if (bytesPerSecond <= 0) {
+      return UNLIMITED;
+    }
+
+    return new BandwidthThrottler(() -> bytesPerSecond);
+  }
+
+  /**
+   * @param bytesPerSecond Supplier of the maximum amount of bytes per second which is called on
+   *                       each {@link #acquire(long)}, zero or negative value means that bandwidth
+   *                       is not limited.
+   */
+  public static BandwidthThrottler create(final LongSupplier bytesPerSecond) {
+    return new BandwidthThrottler(bytesPerSecond);
+  }
+
+  public void acquire(final long bytes) {
+    final long limit = bytesPerSecond.getAsLong();
+    if (limit <= 0) {
+      return;
+    }
+
+    final long waitNanos;
+    synchronized (this) {
+      final long now = System.nanoTime();
+      if (nextFreeSlot < now - MAX_BURST_NANOS) {
+        nextFreeSlot = now - MAX_BURST_NANOS;
+      }
+
+      waitNanos = nextFreeSlot - now;
+      nextFreeSlot += bytes * TimeUnit.SECONDS.toNanos(1) / limit;
+    }
+
+    if (waitNanos > 0) {
+      final long deadline = System.nanoTime() + waitNanos;
+
+      long remaining = waitNanos;
+      while (remaining > 0) {
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          Thread.currentThread().interrupt();
+          throw new ThreadInterruptedException("Thread was interrupted while throttling I/O");
+        }
+
+        remaining = deadline - System.nanoTime();
+      }
+    }
+  }
+}
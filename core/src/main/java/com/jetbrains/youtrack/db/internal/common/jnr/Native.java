@@ -29,6 +29,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.lang.management.ManagementFactory;
+import java.util.Arrays;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.management.AttributeNotFoundException;
@@ -39,6 +40,9 @@ import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 import javax.management.ReflectionException;
 import jnr.constants.platform.Sysconf;
+import jnr.ffi.LibraryLoader;
+import jnr.ffi.types.size_t;
+import jnr.ffi.types.uintptr_t;
 import jnr.posix.POSIX;
 import jnr.posix.POSIXFactory;
 import jnr.posix.RLimit;
@@ -51,6 +55,14 @@ public class Native {
   private static final Lock initLock = new ReentrantLock();
 
   private static volatile POSIX posix;
+  private static volatile LibC libC;
+
+  /**
+   * Index of NUMA node for each CPU, <code>null</code> if NUMA topology is not available.
+   */
+  private static volatile int[] cpuNumaNodes;
+
+  private static volatile int numaNodes = 1;
 
   public static Native instance() {
     if (instance != null) {
@@ -65,6 +77,12 @@ public class Native {
 
       if (IOUtils.isOsLinux()) {
         posix = POSIXFactory.getPOSIX();
+        try {
+          libC = LibraryLoader.create(LibC.class).load("c");
+        } catch (final RuntimeException | UnsatisfiedLinkError e) {
+          LogManager.instance().warn(Native.class, "Can not load C library", e);
+        }
+        readNumaTopology();
       }
 
       instance = new Native();
@@ -82,6 +100,18 @@ public class Native {
 
   public static final int RLIMIT_NOFILE = 7;
 
+  /**
+   * Advice of <code>madvise</code> call to enable transparent huge pages for the range of memory.
+   */
+  public static final int MADV_HUGEPAGE = 14;
+
+  /**
+   * Size of transparent huge page on x86_64 and aarch64 with 4 KB base pages.
+   */
+  public static final long HUGE_PAGE_SIZE = 2 * 1024 * 1024;
+
+  private static final String NUMA_NODES_PATH = "/sys/devices/system/node";
+
   /**
    * Prevent initialization outside singleton
    */
@@ -589,4 +619,115 @@ public class Native {
   public boolean isOsRoot() {
     return IOUtils.isOsLinux() && posix.getegid() == 0;
   }
+
+  /**
+   * Advises kernel to back given range of memory by transparent huge pages. Range should be aligned
+   * by {@link #HUGE_PAGE_SIZE}.
+   *
+   * @return <code>true</code> if advice is accepted by kernel.
+   */
+  public boolean adviseHugePages(final long address, final long length) {
+    final LibC lib = libC;
+    if (lib == null) {
+      return false;
+    }
+
+    try {
+      return lib.madvise(address, length, MADV_HUGEPAGE) == 0;
+    } catch (final UnsatisfiedLinkError e) {
+      LogManager.instance().warn(this, "Transparent huge pages are not supported", e);
+      return false;
+    }
+  }
+
+  /**
+   * @return Amount of NUMA nodes, <code>1</code> if NUMA topology is not available.
+   */
+  public int numaNodes() {
+    return numaNodes;
+  }
+
+  /**
+   * @return Index of NUMA node of CPU on which current thread is executed, <code>0</code> if NUMA
+   * topology is not available.
+   */
+  public int currentNumaNode() {
+    final int[] nodes = cpuNumaNodes;
+    final LibC lib = libC;
+    if (nodes == null || lib == null) {
+      return 0;
+    }
+
+    try {
+      final int cpu = lib.sched_getcpu();
+      if (cpu < 0 || cpu >= nodes.length) {
+        return 0;
+      }
+
+      return nodes[cpu];
+    } catch (final UnsatisfiedLinkError e) {
+      cpuNumaNodes = null;
+      return 0;
+    }
+  }
+
+  /**
+   * Reads list of CPUs of each NUMA node from <code>/sys/devices/system/node/node*&#47;cpulist</code>.
+   */
+  private static void readNumaTopology() {
+    final File[] nodeDirs =
+        new File(NUMA_NODES_PATH).listFiles((dir, name) -> name.matches("node\\d+"));
+    if (nodeDirs == null || nodeDirs.length < 2) {
+      return;
+    }
+
+    int[] nodes = new int[0];
+    int maxNode = 0;
+    try {
+      for (final File nodeDir : nodeDirs) {
+        final int node = Integer.parseInt(nodeDir.getName().substring("node".length()));
+        maxNode = Math.max(maxNode, node);
+
+        final String cpuList;
+        try (final BufferedReader reader =
+            new BufferedReader(new FileReader(new File(nodeDir, "cpulist")))) {
+          cpuList = reader.readLine();
+        }
+
+        if (cpuList == null || cpuList.isBlank()) {
+          continue;
+        }
+
+        // format of the list is "0-3,8-11"
+        for (final String range : cpuList.trim().split(",")) {
+          final int separator = range.indexOf('-');
+          final int from = Integer.parseInt(separator < 0 ? range : range.substring(0, separator));
+          final int to = separator < 0 ? from : Integer.parseInt(range.substring(separator + 1));
+
+          if (nodes.length <= to) {
+            nodes = Arrays.copyOf(nodes, to + 1);
+          }
+          for (int cpu = from; cpu <= to; cpu++) {
+            nodes[cpu] = node;
+          }
+        }
+      }
+    } catch (final IOException | RuntimeException e) {
+      LogManager.instance().warn(Native.class, "Can not read NUMA topology", e);
+      return;
+    }
+
+    numaNodes = maxNode + 1;
+    cpuNumaNodes = nodes;
+  }
+
+  /**
+   * Functions of C library which are not exposed by {@link POSIX}.
+   */
+  public interface LibC {
+
+    int madvise(@uintptr_t long address, @size_t long length, int advice);
+
+    int sched_getcpu();
+  }
 }
@@ -0,0 +1,53 @@
+package com.jetbrains.youtrack.db.internal.common.profiler.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that calculates the average of all recorded values, for example, the average latency
+ * of an operation. Sum and number of values are collected in striped {@link LongAdder}s.
+ */
+public interface Average extends Metric<Double> {
+
+  void record(long value);
+
+  double getAverage();
+
+  @Override
+  default Double getValue() {
+    return getAverage();
+  }
+
+  Average NOOP = new Average() {
+    @Override
+    public void record(long value) {
+      // do nothing
+    }
+
+    @Override
+    public double getAverage() {
+      return 0.0;
+    }
+  };
+
+  static Average create() {
+    return new Impl();
+  }
+
+  class Impl implements Average {
+
+    private final LongAdder sum = new LongAdder();
+    private final LongAdder count = new LongAdder();
+
+    @Override
+    public void record(long value) {
+      sum.add(value);
+      count.increment();
+    }
+
+    @Override
+    public double getAverage() {
+      final long total = count.sum();
+      return total == 0 ? 0.0 : (double) sum.sum() / total;
+    }
+  }
+}
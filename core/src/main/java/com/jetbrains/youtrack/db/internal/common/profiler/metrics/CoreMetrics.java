@@ -30,9 +30,23 @@ public class CoreMetrics {
           )
       );
 
+  public static final MetricDefinition<MetricScope.Global, Ratio> CACHE_BYPASS_RATIO =
+      new MetricDefinition<>(
+          "DiskCacheBypassRatio",
+          "Disk Cache Bypass Ratio",
+          "The ratio of pages (in percents) read by sequential scans which were not admitted into"
+              + " disk cache for the last 60 seconds",
+          MetricType.ratio(
+              TimeInterval.of(60, TimeUnit.SECONDS),
+              TimeInterval.of(1, TimeUnit.SECONDS),
+              100.0
+          )
+      );
+
   public static final Set<MetricDefinition<MetricScope.Global, ?>> GLOBAL_METRICS = Set.of(
       FILE_EVICTION_RATE,
-      CACHE_HIT_RATIO
+      CACHE_HIT_RATIO,
+      CACHE_BYPASS_RATIO
   );
 
   // ===================== DATABASE ===================== //
@@ -137,6 +151,46 @@ public class CoreMetrics {
           )
       );
 
+  public static final MetricDefinition<MetricScope.Database, Gauge<Long>> FLUSH_TARGET_RATE =
+      new MetricDefinition<>(
+          "FlushTargetRate",
+          "Flush Target Rate",
+          "The rate of write cache flush (pages per second) chosen by adaptive flush",
+          MetricType.gauge(Long.class)
+      );
+
+  public static final MetricDefinition<MetricScope.Database, Gauge<Long>> DIRTY_PAGES_GROWTH_RATE =
+      new MetricDefinition<>(
+          "DirtyPagesGrowthRate",
+          "Dirty Pages Growth Rate",
+          "The rate with which pages of write cache become dirty (pages per second)",
+          MetricType.gauge(Long.class)
+      );
+
+  public static final MetricDefinition<MetricScope.Database, Gauge<Long>> EXCLUSIVE_DIRTY_PAGES =
+      new MetricDefinition<>(
+          "ExclusiveDirtyPages",
+          "Exclusive Dirty Pages",
+          "The number of dirty pages which are contained only in write cache",
+          MetricType.gauge(Long.class)
+      );
+
+  public static final MetricDefinition<MetricScope.Database, Gauge<Long>> WAL_SIZE =
+      new MetricDefinition<>(
+          "WalSize",
+          "WAL Size",
+          "The size of all WAL segments (in bytes)",
+          MetricType.gauge(Long.class)
+      );
+
+  public static final MetricDefinition<MetricScope.Database, Gauge<Long>> PAGE_WRITE_LATENCY =
+      new MetricDefinition<>(
+          "PageWriteLatency",
+          "Page Write Latency",
+          "The average time of write of single page by write cache flush (in nanoseconds)",
+          MetricType.gauge(Long.class)
+      );
+
   public static final Set<MetricDefinition<MetricScope.Database, ?>> DATABASE_METRICS = Set.of(
       DISK_READ_RATE,
       DISK_WRITE_RATE,
@@ -147,7 +201,155 @@ public class CoreMetrics {
       DATABASE_SYNCH_DURATION,
       TRANSACTION_RATE,
       TRANSACTION_WRITE_RATE,
-      TRANSACTION_ROLLBACK_RATE
+      TRANSACTION_ROLLBACK_RATE,
+      FLUSH_TARGET_RATE,
+      DIRTY_PAGES_GROWTH_RATE,
+      EXCLUSIVE_DIRTY_PAGES,
+      WAL_SIZE,
+      PAGE_WRITE_LATENCY
+  );
+
+  // ===================== FILE ===================== //
+
+  public static final MetricDefinition<MetricScope.File, Counter> FILE_CACHE_HITS =
+      new MetricDefinition<>(
+          "CacheHits",
+          "Disk Cache Hits",
+          "The number of disk cache hits for pages of the file",
+          MetricType.counter()
+      );
+
+  public static final MetricDefinition<MetricScope.File, Counter> FILE_CACHE_MISSES =
+      new MetricDefinition<>(
+          "CacheMisses",
+          "Disk Cache Misses",
+          "The number of disk cache misses for pages of the file",
+          MetricType.counter()
+      );
+
+  public static final MetricDefinition<MetricScope.File, Counter> FILE_CACHE_EVICTIONS =
+      new MetricDefinition<>(
+          "CacheEvictions",
+          "Disk Cache Evictions",
+          "The number of pages of the file evicted from the disk cache",
+          MetricType.counter()
+      );
+
+  public static final MetricDefinition<MetricScope.File, Counter> FILE_DIRTY_PAGES =
+      new MetricDefinition<>(
+          "DirtyPages",
+          "Dirty Pages",
+          "The number of pages of the file which are changed but not flushed to the disk yet",
+          MetricType.counter()
+      );
+
+  public static final MetricDefinition<MetricScope.File, Counter> FILE_FLUSHED_BYTES =
+      new MetricDefinition<>(
+          "FlushedBytes",
+          "Flushed Bytes",
+          "The amount of bytes of the file pages flushed to the disk by the write cache",
+          MetricType.counter()
+      );
+
+  public static final MetricDefinition<MetricScope.File, Average> FILE_PAGE_LOAD_TIME =
+      new MetricDefinition<>(
+          "AveragePageLoadTime",
+          "Average Page Load Time",
+          "The average time of loading of the file page on disk cache miss (in nanoseconds)",
+          MetricType.average()
+      );
+
+  public static final MetricDefinition<MetricScope.File, Counter> FILE_BLOOM_FILTER_NEGATIVES =
+      new MetricDefinition<>(
+          "BloomFilterNegatives",
+          "Bloom Filter Negatives",
+          "The number of lookups of absent keys of the index which were answered by Bloom filter"
+              + " without access to the pages of the file",
+          MetricType.counter()
+      );
+
+  public static final MetricDefinition<MetricScope.File, Ratio> FILE_BLOOM_FILTER_FALSE_POSITIVES =
+      new MetricDefinition<>(
+          "BloomFilterFalsePositiveRatio",
+          "Bloom Filter False Positive Ratio",
+          "The ratio of lookups of absent keys of the index (in percents) which were not filtered"
+              + " out by Bloom filter for the last 60 seconds",
+          MetricType.ratio(
+              TimeInterval.of(60, TimeUnit.SECONDS),
+              TimeInterval.of(1, TimeUnit.SECONDS),
+              100.0
+          )
+      );
+
+  public static final MetricDefinition<MetricScope.File, Gauge<Long>> FILE_ASYNC_INDEX_LAG =
+      new MetricDefinition<>(
+          "AsyncIndexLag",
+          "Async Index Lag",
+          "The number of committed changes of the index with asynchronous maintenance which are"
+              + " not applied to the index yet",
+          MetricType.gauge(Long.class)
+      );
+
+  public static final Set<MetricDefinition<MetricScope.File, ?>> FILE_METRICS = Set.of(
+      FILE_CACHE_HITS,
+      FILE_CACHE_MISSES,
+      FILE_CACHE_EVICTIONS,
+      FILE_DIRTY_PAGES,
+      FILE_FLUSHED_BYTES,
+      FILE_PAGE_LOAD_TIME,
+      FILE_BLOOM_FILTER_NEGATIVES,
+      FILE_BLOOM_FILTER_FALSE_POSITIVES,
+      FILE_ASYNC_INDEX_LAG
+  );
+
+  // ===================== QUERY ===================== //
+
+  public static final MetricDefinition<MetricScope.Query, Histogram> QUERY_EXECUTION_TIME =
+      new MetricDefinition<>(
+          "ExecutionTime",
+          "Query Execution Time",
+          "The distribution of execution times of the normalized statement (in microseconds)",
+          MetricType.histogram()
+      );
+
+  public static final MetricDefinition<MetricScope.Query, Counter> QUERY_ROWS =
+      new MetricDefinition<>(
+          "Rows",
+          "Query Rows",
+          "The number of rows returned by all executions of the normalized statement",
+          MetricType.counter()
+      );
+
+  public static final MetricDefinition<MetricScope.Query, Counter> QUERY_PAGE_HITS =
+      new MetricDefinition<>(
+          "PageHits",
+          "Query Page Hits",
+          "The number of disk cache hits caused by all executions of the normalized statement",
+          MetricType.counter()
+      );
+
+  public static final MetricDefinition<MetricScope.Query, Counter> QUERY_PAGE_MISSES =
+      new MetricDefinition<>(
+          "PageMisses",
+          "Query Page Misses",
+          "The number of pages loaded from the disk by all executions of the normalized statement",
+          MetricType.counter()
+      );
+
+  public static final MetricDefinition<MetricScope.Query, Counter> QUERY_RECORD_BYTES =
+      new MetricDefinition<>(
+          "RecordBytes",
+          "Query Record Bytes",
+          "The amount of record bytes read by all executions of the normalized statement",
+          MetricType.counter()
+      );
+
+  public static final Set<MetricDefinition<MetricScope.Query, ?>> QUERY_METRICS = Set.of(
+      QUERY_EXECUTION_TIME,
+      QUERY_ROWS,
+      QUERY_PAGE_HITS,
+      QUERY_PAGE_MISSES,
+      QUERY_RECORD_BYTES
   );
 
   // ===================== CLASS (disabled for now) ===================== //
@@ -0,0 +1,58 @@
+package com.jetbrains.youtrack.db.internal.common.profiler.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that holds the cumulative sum of recorded values. Values are collected in striped
+ * {@link LongAdder}, so the counter can be updated from the hot paths without contention.
+ */
+public interface Counter extends Metric<Long> {
+
+  void add(long value);
+
+  default void increment() {
+    add(1);
+  }
+
+  default void decrement() {
+    add(-1);
+  }
+
+  long getCount();
+
+  @Override
+  default Long getValue() {
+    return getCount();
+  }
+
+  Counter NOOP = new Counter() {
+    @Override
+    public void add(long value) {
+      // do nothing
+    }
+
+    @Override
+    public long getCount() {
+      return 0;
+    }
+  };
+
+  static Counter create() {
+    return new Impl();
+  }
+
+  class Impl implements Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    @Override
+    public void add(long value) {
+      count.add(value);
+    }
+
+    @Override
+    public long getCount() {
+      return count.sum();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.jetbrains.youtrack.db.internal.common.profiler.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that collects distribution of recorded non-negative values, for example, latencies of
+ * an operation. Values are counted in buckets with power of two boundaries, so percentiles are
+ * approximated by the upper bound of the bucket which contains them. Each bucket is a striped
+ * {@link LongAdder}, so recording of the value does not cause contention between threads.
+ */
+public interface Histogram extends Metric<Map<String, Long>> {
+
+  void record(long value);
+
+  long getCount();
+
+  long getMax();
+
+  /**
+   * @param percentile Percentile in range [0, 100].
+   * @return Approximation of the value at given percentile (upper bound of the bucket which
+   * contains it).
+   */
+  long getPercentile(double percentile);
+
+  @Override
+  default Map<String, Long> getValue() {
+    final Map<String, Long> result = new LinkedHashMap<>();
+    result.put("count", getCount());
+    result.put("p50", getPercentile(50));
+    result.put("p90", getPercentile(90));
+    result.put("p99", getPercentile(99));
+    result.put("max", getMax());
+    return result;
+  }
+
+  Histogram NOOP = new Histogram() {
+    @Override
+    public void record(long value) {
+      // do nothing
+    }
+
+    @Override
+    public long getCount() {
+      return 0;
+    }
+
+    @Override
+    public long getMax() {
+      return 0;
+    }
+
+    @Override
+    public long getPercentile(double percentile) {
+      return 0;
+    }
+  };
+
+  static Histogram create() {
+    return new Impl();
+  }
+
+  class Impl implements Histogram {
+
+    /**
+     * Bucket {@code i} contains values from {@code 2^(i-1)} to {@code 2^i - 1}, bucket 0 contains
+     * only zero.
+     */
+    private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    public Impl() {
+      for (int i = 0; i < buckets.length; i++) {
+        buckets[i] = new LongAdder();
+      }
+    }
+
+    @Override
+    public void record(long value) {
+      if (value < 0) {
+        value = 0;
+      }
+
+      buckets[Long.SIZE - Long.numberOfLeadingZeros(value)].increment();
+      max.accumulate(value);
+    }
+
+    @Override
+    public long getCount() {
+      long count = 0;
+      for (final LongAdder bucket : buckets) {
+        count += bucket.sum();
+      }
+      return count;
+    }
+
+    @Override
+    public long getMax() {
+      return max.get();
+    }
+
+    @Override
+    public long getPercentile(double percentile) {
+      final long[] counts = new long[buckets.length];
+      long total = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        counts[i] = buckets[i].sum();
+        total += counts[i];
+      }
+
+      if (total == 0) {
+        return 0;
+      }
+
+      final long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100);
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank && counts[i] > 0) {
+          return Math.min(upperBound(i), max.get());
+        }
+      }
+
+      return max.get();
+    }
+
+    private static long upperBound(int bucket) {
+      return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+  }
+}
@@ -1,7 +1,7 @@
 package com.jetbrains.youtrack.db.internal.common.profiler.metrics;
 
 /**
- * Metric scope: global, per-database, per-class.
+ * Metric scope: global, per-database, per-class, per-file, per-query.
  */
 public sealed interface MetricScope {
 
@@ -22,4 +22,16 @@ public sealed interface MetricScope {
     private Class() {
     }
   }
+
+  final class File implements MetricScope {
+
+    private File() {
+    }
+  }
+
+  final class Query implements MetricScope {
+
+    private Query() {
+    }
+  }
 }
@@ -1,11 +1,13 @@
 package com.jetbrains.youtrack.db.internal.common.profiler.metrics;
 
 import com.jetbrains.youtrack.db.internal.common.profiler.Ticker;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
- * A metric type: gauge, stopwatch, time-rate, ratio. {@code MetricType} represents a specific type
- * of metric and holds its specific configuration parameters.
+ * A metric type: gauge, stopwatch, counter, average, histogram, time-rate, ratio.
+ * {@code MetricType} represents a specific type of metric and holds its specific configuration
+ * parameters.
  */
 public interface MetricType<M extends Metric<?>> {
 
@@ -113,6 +115,60 @@ public interface MetricType<M extends Metric<?>> {
     }
   }
 
+  class CounterType implements MetricType<Counter> {
+
+    @Override
+    public Counter create(Ticker ticker) {
+      return Counter.create();
+    }
+
+    @Override
+    public Counter noop() {
+      return Counter.NOOP;
+    }
+
+    @Override
+    public Class<?> valueType() {
+      return Long.class;
+    }
+  }
+
+  class HistogramType implements MetricType<Histogram> {
+
+    @Override
+    public Histogram create(Ticker ticker) {
+      return Histogram.create();
+    }
+
+    @Override
+    public Histogram noop() {
+      return Histogram.NOOP;
+    }
+
+    @Override
+    public Class<?> valueType() {
+      return Map.class;
+    }
+  }
+
+  class AverageType implements MetricType<Average> {
+
+    @Override
+    public Average create(Ticker ticker) {
+      return Average.create();
+    }
+
+    @Override
+    public Average noop() {
+      return Average.NOOP;
+    }
+
+    @Override
+    public Class<?> valueType() {
+      return Double.class;
+    }
+  }
+
   static <T> GaugeType<T> gauge(Class<T> valueType) {
     return new GaugeType<>(valueType);
   }
@@ -121,6 +177,18 @@ public interface MetricType<M extends Metric<?>> {
     return new StopwatchType();
   }
 
+  static CounterType counter() {
+    return new CounterType();
+  }
+
+  static AverageType average() {
+    return new AverageType();
+  }
+
+  static HistogramType histogram() {
+    return new HistogramType();
+  }
+
   static TimeRateType rate(TimeInterval interval, TimeInterval flushRate, TimeUnit resolution) {
     return new TimeRateType(interval, flushRate, resolution);
   }
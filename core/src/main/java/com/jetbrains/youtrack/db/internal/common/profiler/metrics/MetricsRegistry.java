@@ -1,16 +1,26 @@
 package com.jetbrains.youtrack.db.internal.common.profiler.metrics;
 
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
 import com.jetbrains.youtrack.db.internal.common.log.LogManager;
 import com.jetbrains.youtrack.db.internal.common.profiler.Ticker;
 import com.jetbrains.youtrack.db.internal.common.profiler.metrics.MetricScope.Class;
 import com.jetbrains.youtrack.db.internal.common.profiler.metrics.MetricScope.Database;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.MetricScope.File;
 import com.jetbrains.youtrack.db.internal.common.profiler.metrics.MetricScope.Global;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.MetricScope.Query;
 import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.management.Attribute;
 import javax.management.AttributeList;
 import javax.management.DynamicMBean;
@@ -29,8 +39,12 @@ import javax.management.ReflectionException;
  * Registry for database metrics.
  * <p>
  * There are two types of metrics: global and per-database. Per-database metrics are further divided
- * into database-global and per-class metrics. (However per-class metrics are not collected at the
- * moment).
+ * into database-global, per-class and per-file metrics. (However per-class metrics are not
+ * collected at the moment). Per-file metrics are exposed as attributes of the database MBean with
+ * {@code file.<fileName>.} prefix, per-query metrics are collected for each normalized statement
+ * and exposed with {@code query.<statementHash>.} prefix, text of the statement is provided as
+ * description of these attributes. The number of tracked statements per database is limited by
+ * {@link GlobalConfiguration#QUERY_METRICS_MAX_STATEMENTS}.
  * <p>
  * All collected metrics are exposed via JMX. Global metrics are registered under the name
  * {@code com.jetbrains.youtrack.db.metrics:scope=Global}, database metrics are registered under the
@@ -82,6 +96,96 @@ public class MetricsRegistry {
     return initDatabaseMetrics(databaseName).mGroup.init("class." + className, metric);
   }
 
+  /**
+   * Return a per-file metric, registering it if necessary.
+   */
+  public <T extends Metric<?>> T fileMetric(
+      MetricDefinition<File, T> metric,
+      String databaseName,
+      String fileName
+  ) {
+    return initDatabaseMetrics(databaseName).mGroup.init(filePrefix(fileName), metric);
+  }
+
+  /**
+   * Return a per-query metric of the normalized statement, registering it if necessary. If the
+   * limit of tracked statements of the database is reached, metrics of new statements are not
+   * registered and no-op metric is returned.
+   */
+  public <T extends Metric<?>> T queryMetric(
+      MetricDefinition<Query, T> metric,
+      String databaseName,
+      String statement
+  ) {
+    final var databaseMetrics = initDatabaseMetrics(databaseName);
+    final var statementKey = databaseMetrics.trackStatement(statement);
+    if (statementKey == null) {
+      return metric.type().noop();
+    }
+
+    return databaseMetrics.mGroup.init(
+        queryPrefix(statementKey), metric, metric.description() + ": " + statement);
+  }
+
+  /**
+   * Remove all per-file metrics of the given file, for example, because file was deleted.
+   */
+  public void removeFileMetrics(String databaseName, String fileName) {
+    final var databaseMetrics = perDatabaseMetrics.get(databaseName);
+    if (databaseMetrics != null) {
+      databaseMetrics.mGroup.removeAll(filePrefix(fileName) + ".");
+    }
+  }
+
+  /**
+   * Return values of all per-file metrics of the database grouped by file name.
+   */
+  public Map<String, Map<String, Object>> fileMetrics(String databaseName) {
+    return groupedMetrics(databaseName, filePrefix(""));
+  }
+
+  /**
+   * Return values of all per-query metrics of the database grouped by normalized statement.
+   */
+  public Map<String, Map<String, Object>> queryMetrics(String databaseName) {
+    final var result = new TreeMap<String, Map<String, Object>>();
+    final var databaseMetrics = perDatabaseMetrics.get(databaseName);
+    if (databaseMetrics == null) {
+      return result;
+    }
+
+    final var metrics = groupedMetrics(databaseName, queryPrefix(""));
+    for (final var entry : databaseMetrics.statements.entrySet()) {
+      final var statementMetrics = metrics.get(entry.getValue());
+      if (statementMetrics != null) {
+        result.put(entry.getKey(), statementMetrics);
+      }
+    }
+
+    return result;
+  }
+
+  private Map<String, Map<String, Object>> groupedMetrics(String databaseName, String prefix) {
+    final var result = new TreeMap<String, Map<String, Object>>();
+    final var databaseMetrics = perDatabaseMetrics.get(databaseName);
+    if (databaseMetrics == null) {
+      return result;
+    }
+
+    for (final var entry : databaseMetrics.mGroup.metrics.entrySet()) {
+      final var name = entry.getKey();
+      if (!name.startsWith(prefix)) {
+        continue;
+      }
+
+      final var separator = name.lastIndexOf('.');
+      result.computeIfAbsent(name.substring(prefix.length(), separator), k -> new TreeMap<>())
+          .put(name.substring(separator + 1), entry.getValue().getValue());
+    }
+
+    return result;
+  }
+
   /**
    * Shutdown the registry, unregistering all MBeans.
    */
@@ -99,6 +203,46 @@ public class MetricsRegistry {
     }
   }
 
+  private static String filePrefix(String fileName) {
+    return "file." + fileName;
+  }
+
+  private static String queryPrefix(String statementKey) {
+    return "query." + statementKey;
+  }
+
+  /**
+   * Statement text may contain any characters, so metrics of the statement are registered under
+   * the hash of the statement, which is also stable between restarts.
+   */
+  private static String statementKey(String statement) {
+    try {
+      final var digest =
+          MessageDigest.getInstance("SHA-256").digest(statement.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest, 0, 8);
+    } catch (NoSuchAlgorithmException e) {
+      return Integer.toHexString(statement.hashCode());
+    }
+  }
+
+  /**
+   * Quotes value of the key property of MBean name if it contains characters which are not
+   * allowed in unquoted values.
+   */
+  static String quoteObjectNameValue(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      switch (value.charAt(i)) {
+        case ',', '=', ':', '"', '*', '?', '\\', '\n' -> {
+          return ObjectName.quote(value);
+        }
+        default -> {
+        }
+      }
+    }
+
+    return value;
+  }
+
   private DatabaseMetrics initDatabaseMetrics(String databaseName) {
     return perDatabaseMetrics.computeIfAbsent(databaseName, k -> new DatabaseMetrics(databaseName));
   }
@@ -107,9 +251,15 @@ public class MetricsRegistry {
 
     private final ConcurrentMap<String, Metric<?>> metrics = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, MetricDefinition<?, ?>> definitions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> descriptions = new ConcurrentHashMap<>();
 
-    @SuppressWarnings("unchecked")
     <T extends Metric<?>> T init(String namePrefix, MetricDefinition<?, T> def) {
+      return init(namePrefix, def, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends Metric<?>> T init(String namePrefix, MetricDefinition<?, T> def,
+        String description) {
       if (closed || !def.enabled()) {
         return def.type().noop();
       }
@@ -118,11 +268,19 @@ public class MetricsRegistry {
           namePrefix == null ? def.name() : namePrefix + "." + def.name(),
           k -> {
             definitions.put(k, def);
+            if (description != null) {
+              descriptions.put(k, description);
+            }
             return def.type().create(ticker);
           }
       );
     }
 
+    void removeAll(String namePrefix) {
+      metrics.keySet().removeIf(name -> name.startsWith(namePrefix));
+      definitions.keySet().removeIf(name -> name.startsWith(namePrefix));
+      descriptions.keySet().removeIf(name -> name.startsWith(namePrefix));
+    }
   }
 
   private final class GlobalMetrics {
@@ -141,11 +299,38 @@ public class MetricsRegistry {
 
     private final MetricsGroup mGroup = new MetricsGroup();
 
+    /**
+     * Keys of metrics of the tracked statements.
+     */
+    private final ConcurrentMap<String, String> statements = new ConcurrentHashMap<>();
+    private final AtomicInteger statementsCount = new AtomicInteger();
+
     public DatabaseMetrics(String databaseName) {
       CoreMetrics.DATABASE_METRICS.forEach(databaseMetric -> mGroup.init(null, databaseMetric));
 
       new MetricsMBean(mGroup, "Database metrics for " + databaseName)
-          .register(mBeanServer, "scope=Database,databaseName=" + databaseName);
+          .register(
+              mBeanServer, "scope=Database,databaseName=" + quoteObjectNameValue(databaseName));
+    }
+
+    /**
+     * @return Key of metrics of the statement or {@code null} if the limit of tracked statements
+     * is reached.
+     */
+    String trackStatement(String statement) {
+      // statement is counted inside the mapping function, so concurrent threads can not track
+      // more statements than allowed
+      return statements.computeIfAbsent(
+          statement,
+          k -> {
+            if (statementsCount.incrementAndGet()
+                > GlobalConfiguration.QUERY_METRICS_MAX_STATEMENTS.getValueAsInteger()) {
+              statementsCount.decrementAndGet();
+              return null;
+            }
+
+            return statementKey(statement);
+          });
     }
   }
 
@@ -182,7 +367,7 @@ public class MetricsRegistry {
             new MBeanAttributeInfo(
                 md.getKey(),
                 md.getValue().type().valueType().getName(),
-                md.getValue().description(),
+                metricsGroup.descriptions.getOrDefault(md.getKey(), md.getValue().description()),
                 true,
                 false,
                 false
@@ -68,6 +68,7 @@ public class BasicCommandContext implements CommandContext {
   protected Set<Object> uniqueResult = new HashSet<Object>();
   private final Map<ExecutionStep, StepStats> stepStats = new IdentityHashMap<>();
   private final LinkedList<StepStats> currentStepStats = new LinkedList<>();
+  private QueryMetrics queryMetrics;
 
   public BasicCommandContext() {
   }
@@ -520,4 +521,16 @@ public class BasicCommandContext implements CommandContext {
   public StepStats getStats(ExecutionStep step) {
     return stepStats.get(step);
   }
+
+  @Override
+  public QueryMetrics getQueryMetrics() {
+    if (parent != null) {
+      return parent.getQueryMetrics();
+    }
+
+    if (queryMetrics == null) {
+      queryMetrics = new QueryMetrics();
+    }
+    return queryMetrics;
+  }
 }
@@ -102,4 +102,11 @@ public interface CommandContext {
   void endProfiling(ExecutionStep step);
 
   StepStats getStats(ExecutionStep step);
+
+  /**
+   * @return Accounting of the query executed in this context. Context of the nested query (a
+   * subquery or a statement of the script) returns metrics of its parent, so the nested query is
+   * charged to the outer one.
+   */
+  QueryMetrics getQueryMetrics();
 }
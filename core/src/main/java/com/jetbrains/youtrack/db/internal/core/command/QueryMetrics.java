@@ -0,0 +1,115 @@
+package com.jetbrains.youtrack.db.internal.core.command;
+
+import com.jetbrains.youtrack.db.internal.core.storage.StorageAccessCounters;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Always-on accounting of a single query execution: amount of returned rows, time spent inside
+ * of the query execution and storage accesses (page cache hits, page loads from disk and record
+ * bytes) performed on behalf of the query.
+ *
+ * <p>Each call into the query execution is bracketed by {@link #enter()} and {@link #exit()},
+ * which take a snapshot of the per-thread {@link StorageAccessCounters} and attribute the
+ * difference to the query. Because of that, storage accesses are accounted correctly even if the
+ * result set is consumed by several threads one after another.
+ *
+ * <p>Nested queries (subqueries and statements of the script) share metrics of the outermost
+ * query, see {@link CommandContext#getQueryMetrics()}. Calls into the nested query happen inside
+ * of the calls into the outer one, so they are re-entrant and only the outermost pair of
+ * {@link #enter()} and {@link #exit()} takes the snapshot. Time and storage accesses of the nested
+ * query are charged to the outer one, rows are counted only for the outer query.
+ */
+public class QueryMetrics {
+
+  private StorageAccessCounters counters;
+
+  private int depth;
+  private long enterTime;
+  private long enterPageHits;
+  private long enterPageMisses;
+  private long enterPageLoadTime;
+  private long enterRecordBytes;
+
+  private long rows;
+  private long executionTime;
+  private long pageHits;
+  private long pageMisses;
+  private long pageLoadTime;
+  private long recordBytes;
+
+  public void enter() {
+    if (depth++ > 0) {
+      // re-entrant call, accounted by the outer one
+      return;
+    }
+
+    if (counters == null || !counters.isOwnedByCurrentThread()) {
+      counters = StorageAccessCounters.current();
+    }
+
+    enterPageHits = counters.getPageHits();
+    enterPageMisses = counters.getPageMisses();
+    enterPageLoadTime = counters.getPageLoadTime();
+    enterRecordBytes = counters.getRecordBytes();
+    enterTime = System.nanoTime();
+  }
+
+  public void exit() {
+    if (depth == 0 || --depth > 0) {
+      return;
+    }
+
+    executionTime += System.nanoTime() - enterTime;
+
+    pageHits += counters.getPageHits() - enterPageHits;
+    pageMisses += counters.getPageMisses() - enterPageMisses;
+    pageLoadTime += counters.getPageLoadTime() - enterPageLoadTime;
+    recordBytes += counters.getRecordBytes() - enterRecordBytes;
+  }
+
+  public void incrementRows() {
+    rows++;
+  }
+
+  public long getRows() {
+    return rows;
+  }
+
+  /**
+   * @return Time spent inside of the query execution in nanoseconds.
+   */
+  public long getExecutionTime() {
+    return executionTime;
+  }
+
+  public long getPageHits() {
+    return pageHits;
+  }
+
+  public long getPageMisses() {
+    return pageMisses;
+  }
+
+  /**
+   * @return Time spent on loading of pages from disk in nanoseconds.
+   */
+  public long getPageLoadTime() {
+    return pageLoadTime;
+  }
+
+  public long getRecordBytes() {
+    return recordBytes;
+  }
+
+  public Map<String, Long> toMap() {
+    final Map<String, Long> result = new LinkedHashMap<>();
+    result.put("rows", rows);
+    result.put("executionTime", executionTime);
+    result.put("pageHits", pageHits);
+    result.put("pageMisses", pageMisses);
+    result.put("pageLoadTime", pageLoadTime);
+    result.put("recordBytes", recordBytes);
+    return result;
+  }
+}
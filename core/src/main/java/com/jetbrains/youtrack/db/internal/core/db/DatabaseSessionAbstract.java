@@ -87,6 +87,7 @@ import com.jetbrains.youtrack.db.internal.core.serialization.serializer.binary.B
 import com.jetbrains.youtrack.db.internal.core.serialization.serializer.record.RecordSerializer;
 import com.jetbrains.youtrack.db.internal.core.serialization.serializer.record.RecordSerializerFactory;
 import com.jetbrains.youtrack.db.internal.core.storage.RawBuffer;
+import com.jetbrains.youtrack.db.internal.core.storage.StorageAccessCounters;
 import com.jetbrains.youtrack.db.internal.core.storage.StorageInfo;
 import com.jetbrains.youtrack.db.internal.core.storage.StorageOperationResult;
 import com.jetbrains.youtrack.db.internal.core.storage.ridbag.sbtree.BonsaiCollectionPointer;
@@ -925,6 +926,10 @@ public abstract class DatabaseSessionAbstract extends ListenerManger<SessionList
         throw new RecordNotFoundException(rid);
       }
 
+      if (recordBuffer.buffer != null) {
+        StorageAccessCounters.current().recordReadBytes(recordBuffer.buffer.length);
+      }
+
       if (record == null) {
         record =
             YouTrackDBEnginesManager.instance()
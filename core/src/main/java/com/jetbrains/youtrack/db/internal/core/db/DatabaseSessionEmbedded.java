@@ -1198,51 +1198,58 @@ public class DatabaseSessionEmbedded extends DatabaseSessionAbstract
   @Override
   public void afterCommitOperations() {
     for (var operation : currentTx.getRecordOperations()) {
-      if (operation.type == RecordOperation.CREATED) {
-        var record = operation.record;
+      afterCommitOperation(operation);
+    }
+    if (currentTx instanceof TransactionOptimistic transaction) {
+      // records moved to the spill file are processed the same way as records kept in the heap
+      transaction.forEachSpilledRecord(this::afterCommitOperation);
+    }
 
-        if (record instanceof EntityImpl entity) {
-          SchemaImmutableClass clazz = EntityInternalUtils.getImmutableSchemaClass(this, entity);
+    super.afterCommitOperations();
 
-          if (clazz != null) {
-            if (clazz.isSequence()) {
-              ((SequenceLibraryProxy) getMetadata().getSequenceLibrary())
-                  .getDelegate()
-                  .onSequenceCreated(this, entity);
-            }
+    LiveQueryHook.notifyForTxChanges(this);
+    LiveQueryHookV2.notifyForTxChanges(this);
+  }
 
-            if (clazz.isScheduler()) {
-              getMetadata().getScheduler().scheduleEvent(this, new ScheduledEvent(entity, this));
-            }
+  private void afterCommitOperation(final RecordOperation operation) {
+    if (operation.type == RecordOperation.CREATED) {
+      var record = operation.record;
+
+      if (record instanceof EntityImpl entity) {
+        SchemaImmutableClass clazz = EntityInternalUtils.getImmutableSchemaClass(this, entity);
+
+        if (clazz != null) {
+          if (clazz.isSequence()) {
+            ((SequenceLibraryProxy) getMetadata().getSequenceLibrary())
+                .getDelegate()
+                .onSequenceCreated(this, entity);
+          }
+
+          if (clazz.isScheduler()) {
+            getMetadata().getScheduler().scheduleEvent(this, new ScheduledEvent(entity, this));
           }
         }
-      } else if (operation.type == RecordOperation.UPDATED) {
-        var record = operation.record;
-
-        if (record instanceof EntityImpl entity) {
-          SchemaImmutableClass clazz = EntityInternalUtils.getImmutableSchemaClass(this, entity);
-          if (clazz != null) {
-            if (clazz.isFunction()) {
-              this.getSharedContext().getFunctionLibrary().updatedFunction(entity);
-            }
-            if (clazz.isScheduler()) {
-              getSharedContext().getScheduler().postHandleUpdateScheduleAfterTxCommit(this, entity);
-            }
+      }
+    } else if (operation.type == RecordOperation.UPDATED) {
+      var record = operation.record;
+
+      if (record instanceof EntityImpl entity) {
+        SchemaImmutableClass clazz = EntityInternalUtils.getImmutableSchemaClass(this, entity);
+        if (clazz != null) {
+          if (clazz.isFunction()) {
+            this.getSharedContext().getFunctionLibrary().updatedFunction(entity);
+          }
+          if (clazz.isScheduler()) {
+            getSharedContext().getScheduler().postHandleUpdateScheduleAfterTxCommit(this, entity);
           }
-
-          LiveQueryHook.addOp(entity, RecordOperation.UPDATED, this);
-          LiveQueryHookV2.addOp(this, entity, RecordOperation.UPDATED);
         }
+
+        LiveQueryHook.addOp(entity, RecordOperation.UPDATED, this);
+        LiveQueryHookV2.addOp(this, entity, RecordOperation.UPDATED);
       }
     }
-
-    super.afterCommitOperations();
-
-    LiveQueryHook.notifyForTxChanges(this);
-    LiveQueryHookV2.notifyForTxChanges(this);
   }
 
-
   @Override
   public void set(ATTRIBUTES_INTERNAL attribute, Object value) {
     checkIfActive();
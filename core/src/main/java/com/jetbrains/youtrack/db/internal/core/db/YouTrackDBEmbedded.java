@@ -50,6 +50,7 @@ import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLServerStatement;
 import com.jetbrains.youtrack.db.internal.core.storage.Storage;
 import com.jetbrains.youtrack.db.internal.core.storage.config.ClusterBasedStorageConfiguration;
 import com.jetbrains.youtrack.db.internal.core.storage.disk.LocalPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.disk.MemoryMappedReadOnlyStorage;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
 import java.io.File;
 import java.io.IOException;
@@ -533,7 +534,8 @@ public class YouTrackDBEmbedded implements YouTrackDBInternal {
   }
 
   private AbstractPaginatedStorage getAndOpenStorage(String name, YouTrackDBConfigImpl config) {
-    AbstractPaginatedStorage storage = getOrInitStorage(name);
+    AbstractPaginatedStorage storage =
+        getOrInitStorage(name, isMappedReadOnlyRequested(name, config));
     // THIS OPEN THE STORAGE ONLY THE FIRST TIME
     try {
       // THIS OPEN THE STORAGE ONLY THE FIRST TIME
@@ -597,7 +599,30 @@ public class YouTrackDBEmbedded implements YouTrackDBInternal {
     return embedded;
   }
 
+  /**
+   * Read only mode is requested by configuration of the database which is passed on open, system
+   * database is always opened in normal mode because it is updated by the server.
+   */
+  private static boolean isMappedReadOnlyRequested(String name, YouTrackDBConfigImpl config) {
+    if (SystemDatabase.SYSTEM_DB_NAME.equals(name)) {
+      return false;
+    }
+
+    return config
+        .getConfiguration()
+        .getValueAsBoolean(GlobalConfiguration.STORAGE_MAPPED_READ_ONLY);
+  }
+
   protected AbstractPaginatedStorage getOrInitStorage(String name) {
+    return getOrInitStorage(name, false);
+  }
+
+  /**
+   * @param mappedReadOnly If <code>true</code> storage which is not opened yet is opened in memory
+   *                       mapped read only mode, storage which is already opened in normal mode
+   *                       can not be reopened in read only mode.
+   */
+  protected AbstractPaginatedStorage getOrInitStorage(String name, boolean mappedReadOnly) {
     AbstractPaginatedStorage storage = storages.get(name);
     if (storage == null) {
       if (basePath == null) {
@@ -611,19 +636,37 @@ public class YouTrackDBEmbedded implements YouTrackDBInternal {
 
       storage = storages.get(name);
       if (storage == null) {
-        storage =
-            (AbstractPaginatedStorage)
-                disk.createStorage(
-                    buildName(name),
-                    maxWALSegmentSize,
-                    doubleWriteLogMaxSegSize,
-                    generateStorageId(),
-                    this);
+        if (mappedReadOnly) {
+          storage =
+              (AbstractPaginatedStorage)
+                  disk.createMappedReadOnlyStorage(
+                      buildName(name),
+                      maxWALSegmentSize,
+                      doubleWriteLogMaxSegSize,
+                      generateStorageId(),
+                      this);
+        } else {
+          storage =
+              (AbstractPaginatedStorage)
+                  disk.createStorage(
+                      buildName(name),
+                      maxWALSegmentSize,
+                      doubleWriteLogMaxSegSize,
+                      generateStorageId(),
+                      this);
+        }
         if (storage.exists()) {
           storages.put(name, storage);
         }
       }
     }
+
+    if (mappedReadOnly && !(storage instanceof MemoryMappedReadOnlyStorage)) {
+      throw new DatabaseException(
+          "Database '"
+              + name
+              + "' is already opened in normal mode and can not be opened in read only mode");
+    }
     return storage;
   }
 
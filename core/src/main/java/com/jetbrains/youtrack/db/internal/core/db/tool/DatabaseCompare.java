@@ -128,7 +128,7 @@ public class DatabaseCompare extends DatabaseImpExpAbstract {
                             + " where key = ?",
                         rid.toString())) {
                   if (resultSet.hasNext()) {
-                    return new RecordId(resultSet.next().<String>getProperty("value"));
+                    return DatabaseImport.getImportedRid(resultSet.next());
                   }
                   return null;
                 }
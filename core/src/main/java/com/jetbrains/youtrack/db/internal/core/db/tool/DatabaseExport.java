@@ -33,7 +33,9 @@ import com.jetbrains.youtrack.db.internal.common.serialization.types.BinarySeria
 import com.jetbrains.youtrack.db.internal.core.YouTrackDBConstants;
 import com.jetbrains.youtrack.db.internal.core.command.CommandOutputListener;
 import com.jetbrains.youtrack.db.internal.core.config.StorageConfiguration;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseRecordThreadLocal;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.db.record.ridbag.RidBag;
 import com.jetbrains.youtrack.db.internal.core.index.Index;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.IndexManagerAbstract;
@@ -41,13 +43,20 @@ import com.jetbrains.youtrack.db.internal.core.index.RuntimeKeyIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.iterator.RecordIteratorCluster;
 import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaShared;
 import com.jetbrains.youtrack.db.internal.core.record.RecordAbstract;
+import com.jetbrains.youtrack.db.internal.core.record.RecordInternal;
 import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
 import com.jetbrains.youtrack.db.internal.core.serialization.serializer.JSONWriter;
+import com.jetbrains.youtrack.db.internal.core.serialization.serializer.record.binary.RecordSerializerNetworkV37;
 import com.jetbrains.youtrack.db.internal.core.serialization.serializer.record.string.RecordSerializerJSON;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.PageAccessIntent;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.StorageSnapshot;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -57,7 +66,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
 
@@ -68,13 +84,27 @@ public class DatabaseExport extends DatabaseImpExpAbstract {
 
   public static final int EXPORTER_VERSION = 13;
 
+  /**
+   * Suffix of the directory which contains record chunks written by parallel export.
+   */
+  public static final String RECORD_CHUNKS_DIRECTORY_SUFFIX = ".records";
+
   protected JSONWriter writer;
   protected long recordExported;
   protected int compressionLevel = Deflater.BEST_SPEED;
   protected int compressionBuffer = 16384; // 16Kb
+  protected int parallel = 0;
+  protected int chunkSize = 100_000;
+  protected boolean useSnapshot = true;
 
   private final String tempFileName;
 
+  /**
+   * Snapshot of the storage which is read by export, so records which are changed during the
+   * export are exported as they were at the moment of the export start.
+   */
+  private StorageSnapshot snapshot;
+
   public DatabaseExport(
       final DatabaseSessionInternal iDatabase,
       final String iFileName,
@@ -135,12 +165,17 @@ public class DatabaseExport extends DatabaseImpExpAbstract {
 
       long time = System.nanoTime();
 
+      openSnapshot();
       database.executeInTx(() -> {
         try {
           exportInfo();
           exportClusters();
           exportSchema();
-          exportRecords();
+          if (parallel > 0) {
+            exportRecordChunks();
+          } else {
+            exportRecords();
+          }
           exportIndexDefinitions();
         } catch (IOException e) {
           throw new DatabaseExportException(
@@ -158,11 +193,25 @@ public class DatabaseExport extends DatabaseImpExpAbstract {
       throw new DatabaseExportException(
           "Error on exporting database '" + database.getName() + "' to: " + fileName, e);
     } finally {
+      closeSnapshot();
       close();
     }
     return this;
   }
 
+  private void openSnapshot() {
+    if (useSnapshot && database.getStorage() instanceof AbstractPaginatedStorage storage) {
+      snapshot = storage.openSnapshot();
+    }
+  }
+
+  private void closeSnapshot() {
+    if (snapshot != null) {
+      snapshot.close();
+      snapshot = null;
+    }
+  }
+
   private void exportRecords() throws IOException {
     long totalFoundRecords = 0;
     long totalExportedRecords = 0;
@@ -197,7 +246,9 @@ public class DatabaseExport extends DatabaseImpExpAbstract {
       if (clusterName != null) {
         RecordAbstract rec = null;
         try {
-          RecordIteratorCluster<DBRecord> it = database.browseCluster(clusterName);
+          RecordIteratorCluster<DBRecord> it =
+              database.<DBRecord>browseCluster(clusterName)
+                  .setPageAccessIntent(PageAccessIntent.SEQUENTIAL);
 
           while (it.hasNext()) {
             rec = (RecordAbstract) it.next();
@@ -264,6 +315,10 @@ public class DatabaseExport extends DatabaseImpExpAbstract {
             + brokenRids.size()
             + " records were detected as broken\n");
 
+    exportBrokenRids(level, brokenRids);
+  }
+
+  private void exportBrokenRids(final int level, final Set<RID> brokenRids) throws IOException {
     writer.beginCollection(level, true, "brokenRids");
 
     boolean firsBrokenRid = true;
@@ -278,6 +333,249 @@ public class DatabaseExport extends DatabaseImpExpAbstract {
     writer.endCollection(level, true);
   }
 
+  /**
+   * Exports records of all clusters using {@link #parallel} threads. Every cluster is split into
+   * segments of about {@link #chunkSize} records, content of each segment is written into separate
+   * {@link RecordChunkFile} placed in the directory next to the export file. Only relative paths of
+   * chunk files are written into the export file itself.
+   */
+  private void exportRecordChunks() throws IOException {
+    if (tempFileName == null) {
+      throw new DatabaseExportException(
+          "Parallel export of database '" + database.getName() + "' requires target file");
+    }
+
+    final int level = 1;
+    listener.onMessage("\nExporting records (threads=" + parallel + ")...");
+
+    final Path exportFile = Paths.get(fileName).toAbsolutePath();
+    final String chunksDirectoryName =
+        exportFile.getFileName().toString().replaceFirst("\\.gz$", "")
+            + RECORD_CHUNKS_DIRECTORY_SUFFIX;
+    final Path chunksDirectory = exportFile.resolveSibling(chunksDirectoryName);
+
+    FileUtils.deleteRecursively(chunksDirectory.toFile());
+    Files.createDirectories(chunksDirectory);
+
+    final Queue<RecordChunk> chunks = new ConcurrentLinkedQueue<>();
+    final List<String> chunkNames = new ArrayList<>();
+
+    long totalFoundRecords = 0;
+    final int maxClusterId = getMaxClusterId();
+    for (int clusterId = 0; clusterId <= maxClusterId; ++clusterId) {
+      final String clusterName = database.getClusterNameById(clusterId);
+      if (clusterName == null) {
+        continue;
+      }
+
+      final long clusterRecords = database.countClusterElements(clusterName);
+      if (clusterRecords == 0) {
+        continue;
+      }
+      totalFoundRecords += clusterRecords;
+
+      final long[] range = database.getClusterDataRange(clusterId);
+      final int segments = (int) ((clusterRecords + chunkSize - 1) / chunkSize);
+      final long segmentLength = (range[1] - range[0]) / segments + 1;
+
+      for (int segment = 0; segment < segments; segment++) {
+        final long firstPosition = range[0] + segment * segmentLength;
+        if (firstPosition > range[1]) {
+          break;
+        }
+
+        final long lastPosition = Math.min(range[1], firstPosition + segmentLength - 1);
+        final String chunkName = RecordChunkFile.fileName(clusterId, segment);
+
+        chunks.add(
+            new RecordChunk(
+                clusterId,
+                clusterName,
+                firstPosition,
+                lastPosition,
+                chunksDirectory.resolve(chunkName)));
+        chunkNames.add(chunksDirectoryName + "/" + chunkName);
+      }
+    }
+
+    final Set<RID> brokenRids = ConcurrentHashMap.newKeySet();
+    final AtomicLong totalExportedRecords = new AtomicLong();
+    final AtomicBoolean failed = new AtomicBoolean();
+
+    final int threads = Math.max(1, Math.min(parallel, chunks.size()));
+    final List<Future<Void>> futures = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      final DatabaseSessionInternal session = database.copy();
+      futures.add(
+          database
+              .getSharedContext()
+              .getYouTrackDB()
+              .execute(
+                  () -> {
+                    session.activateOnCurrentThread();
+                    StorageSnapshot workerSnapshot = null;
+                    try {
+                      // workers read the same state of the storage as the exporting thread
+                      if (snapshot != null) {
+                        workerSnapshot =
+                            ((AbstractPaginatedStorage) session.getStorage()).openSnapshot(
+                                snapshot);
+                      }
+
+                      RecordChunk chunk;
+                      while (!failed.get() && (chunk = chunks.poll()) != null) {
+                        totalExportedRecords.addAndGet(
+                            exportRecordChunk(session, chunk, brokenRids));
+                      }
+                    } catch (Exception | Error e) {
+                      failed.set(true);
+                      throw e;
+                    } finally {
+                      if (workerSnapshot != null) {
+                        workerSnapshot.close();
+                      }
+                      session.close();
+                      DatabaseRecordThreadLocal.instance().remove();
+                    }
+
+                    return null;
+                  }));
+    }
+
+    waitForWorkers(futures);
+
+    writer.beginCollection(level, true, "recordChunks");
+    boolean firstChunk = true;
+    for (final String chunkName : chunkNames) {
+      if (firstChunk) {
+        firstChunk = false;
+      } else {
+        writer.append(",");
+      }
+      writer.append(JSONWriter.writeValue(chunkName));
+    }
+    writer.endCollection(level, true);
+
+    listener.onMessage(
+        "\n\nDone. Exported "
+            + totalExportedRecords.get()
+            + " of total "
+            + totalFoundRecords
+            + " records into "
+            + chunkNames.size()
+            + " chunks. "
+            + brokenRids.size()
+            + " records were detected as broken\n");
+
+    exportBrokenRids(level, brokenRids);
+  }
+
+  private void waitForWorkers(final List<Future<Void>> futures) {
+    Throwable failure = null;
+    for (final Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        if (failure == null) {
+          failure = e;
+        }
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause();
+        }
+      }
+    }
+
+    if (failure != null) {
+      throw new DatabaseExportException(
+          "Error on exporting database '" + database.getName() + "' to: " + fileName, failure);
+    }
+  }
+
+  private long exportRecordChunk(
+      final DatabaseSessionInternal session, final RecordChunk chunk, final Set<RID> brokenRids)
+      throws IOException {
+    final long exportedRecords;
+
+    // records are read inside of transaction which is rolled back at the end, so conversion of
+    // tree based ridbags into embedded ones performed during serialization is never persisted
+    session.begin();
+    try (final RecordChunkFile.Writer chunkWriter =
+        new RecordChunkFile.Writer(chunk.path, chunk.clusterId)) {
+      @SuppressWarnings("deprecation") final RecordIteratorCluster<DBRecord> it =
+          new RecordIteratorCluster<>(
+              session, chunk.clusterId, chunk.firstPosition, chunk.lastPosition);
+      it.setPageAccessIntent(PageAccessIntent.SEQUENTIAL);
+
+      while (it.hasNext()) {
+        final RecordAbstract rec = (RecordAbstract) it.next();
+
+        final byte[] content;
+        try {
+          content = toChunkStream(session, rec);
+        } catch (final Exception e) {
+          brokenRids.add(rec.getIdentity().copy());
+          LogManager.instance()
+              .error(this, "\nError on exporting record %s. It seems corrupted", e,
+                  rec.getIdentity());
+          continue;
+        }
+
+        chunkWriter.write(
+            rec.getIdentity().getClusterPosition(),
+            RecordInternal.getRecordType(rec),
+            rec.getVersion(),
+            content);
+      }
+
+      brokenRids.addAll(it.getBrokenRIDs());
+      exportedRecords = chunkWriter.getRecords();
+    } finally {
+      session.rollback();
+    }
+
+    synchronized (this) {
+      listener.onMessage(
+          "\n- Cluster '"
+              + chunk.clusterName
+              + "' (id="
+              + chunk.clusterId
+              + ", positions="
+              + chunk.firstPosition
+              + "-"
+              + chunk.lastPosition
+              + ")...OK (records="
+              + exportedRecords
+              + ")");
+    }
+
+    return exportedRecords;
+  }
+
+  /**
+   * Serializes record using schema independent binary serializer, so chunk can be imported into
+   * database with different set of global properties. Ridbags are always written in embedded form
+   * because pointers of tree based ridbags are meaningless outside of exported database.
+   */
+  private static byte[] toChunkStream(final DatabaseSessionInternal session,
+      final RecordAbstract rec) {
+    if (rec instanceof EntityImpl entity) {
+      for (final String propertyName : entity.getPropertyNamesInternal()) {
+        if (entity.getPropertyInternal(propertyName) instanceof RidBag ridBag) {
+          ridBag.makeEmbedded();
+        }
+      }
+    }
+
+    return RecordSerializerNetworkV37.INSTANCE.toStream(session, rec);
+  }
+
+  private record RecordChunk(
+      int clusterId, String clusterName, long firstPosition, long lastPosition, Path path) {
+
+  }
+
   public void close() {
 
     if (writer == null) {
@@ -325,6 +623,15 @@ public class DatabaseExport extends DatabaseImpExpAbstract {
       compressionLevel = Integer.parseInt(items.get(0));
     } else if (option.equalsIgnoreCase("-compressionBuffer")) {
       compressionBuffer = Integer.parseInt(items.get(0));
+    } else if (option.equalsIgnoreCase("-parallel")) {
+      parallel = Integer.parseInt(items.get(0));
+    } else if (option.equalsIgnoreCase("-snapshot")) {
+      useSnapshot = Boolean.parseBoolean(items.get(0));
+    } else if (option.equalsIgnoreCase("-chunkSize")) {
+      chunkSize = Integer.parseInt(items.get(0));
+      if (chunkSize <= 0) {
+        throw new IllegalArgumentException("Size of record chunk should be positive: " + chunkSize);
+      }
     } else {
       super.parseSetting(option, items);
     }
@@ -25,6 +25,7 @@ import com.jetbrains.youtrack.db.api.exception.BaseException;
 import com.jetbrains.youtrack.db.api.exception.ConfigurationException;
 import com.jetbrains.youtrack.db.api.exception.DatabaseException;
 import com.jetbrains.youtrack.db.api.exception.SchemaException;
+import com.jetbrains.youtrack.db.api.query.Result;
 import com.jetbrains.youtrack.db.api.query.ResultSet;
 import com.jetbrains.youtrack.db.api.record.DBRecord;
 import com.jetbrains.youtrack.db.api.record.Entity;
@@ -39,7 +40,9 @@ import com.jetbrains.youtrack.db.internal.common.log.LogManager;
 import com.jetbrains.youtrack.db.internal.common.serialization.types.BinarySerializer;
 import com.jetbrains.youtrack.db.internal.common.util.ArrayUtils;
 import com.jetbrains.youtrack.db.internal.common.util.Pair;
+import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
 import com.jetbrains.youtrack.db.internal.core.command.CommandOutputListener;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseRecordThreadLocal;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import com.jetbrains.youtrack.db.internal.core.db.EntityFieldWalker;
 import com.jetbrains.youtrack.db.internal.core.db.record.ClassTrigger;
@@ -72,6 +75,7 @@ import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
 import com.jetbrains.youtrack.db.internal.core.record.impl.EntityInternal;
 import com.jetbrains.youtrack.db.internal.core.serialization.serializer.JSONReader;
 import com.jetbrains.youtrack.db.internal.core.serialization.serializer.StringSerializerHelper;
+import com.jetbrains.youtrack.db.internal.core.serialization.serializer.record.binary.RecordSerializerNetworkV37;
 import com.jetbrains.youtrack.db.internal.core.serialization.serializer.record.string.RecordSerializerJSON;
 import com.jetbrains.youtrack.db.internal.core.sql.executor.RidSet;
 import com.jetbrains.youtrack.db.internal.core.storage.PhysicalPosition;
@@ -87,6 +91,8 @@ import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.AbstractList;
 import java.util.ArrayList;
@@ -98,7 +104,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -132,6 +145,9 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
 
   private int maxRidbagStringSizeBeforeLazyImport = 100_000_000;
 
+  private int parallel = Runtime.getRuntime().availableProcessors();
+  private int batchSize = 1_000;
+
   public DatabaseImport(
       final DatabaseSessionInternal database,
       final String fileName,
@@ -200,6 +216,10 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
         } else {
           if (option.equalsIgnoreCase("-rebuildIndexes")) {
             rebuildIndexes = Boolean.parseBoolean(items.get(0));
+          } else if (option.equalsIgnoreCase("-parallel")) {
+            parallel = Math.max(1, Integer.parseInt(items.get(0)));
+          } else if (option.equalsIgnoreCase("-batchSize")) {
+            batchSize = Math.max(1, Integer.parseInt(items.get(0)));
           } else {
             super.parseSetting(option, items);
           }
@@ -248,6 +268,8 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
             } else {
               if (tag.equals("records")) {
                 importRecords(beforeImportSchemaSnapshot);
+              } else if (tag.equals("recordChunks")) {
+                importRecordChunks(beforeImportSchemaSnapshot);
               } else {
                 if (tag.equals("indexes")) {
                   importIndexes();
@@ -611,7 +633,7 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
               if (!result.hasNext()) {
                 newRid = oldRid;
               } else {
-                newRid = new RecordId(result.next().<String>getProperty("value"));
+                newRid = getImportedRid(result.next());
               }
             }
 
@@ -628,7 +650,7 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
               if (!result.hasNext()) {
                 newRid = entity.field("rid");
               } else {
-                newRid = new RecordId(result.next().<String>getProperty("value"));
+                newRid = getImportedRid(result.next());
               }
             }
 
@@ -1231,7 +1253,7 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
    * type String, and thus has to be converted to InputStream, which can only be avoided by
    * introducing a new interface method.
    */
-  private RID importRecord(HashSet<RID> recordsBeforeImport,
+  private RID importRecord(Set<RID> recordsBeforeImport,
       Schema beforeImportSchemaSnapshot)
       throws Exception {
     Pair<String, Map<String, RidSet>> recordParse =
@@ -1300,132 +1322,18 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
         return null;
       }
 
-      if (schemaImported && record.getIdentity().equals(schemaRecordId)) {
-        recordsBeforeImport.remove(record.getIdentity());
-        // JUMP THE SCHEMA
-        return null;
-      }
-
-      // CHECK IF THE CLUSTER IS INCLUDED
-
-      if (record.getIdentity().getClusterId() == 0
-          && record.getIdentity().getClusterPosition() == 1) {
-        recordsBeforeImport.remove(record.getIdentity());
-        // JUMP INTERNAL RECORDS
-        return null;
-      }
-
-      if (exporterVersion >= 3) {
-        int oridsId = database.getClusterIdByName("ORIDs");
-        int indexId = database.getClusterIdByName(MetadataDefault.CLUSTER_INDEX_NAME);
-
-        if (record.getIdentity().getClusterId() == indexId
-            || record.getIdentity().getClusterId() == oridsId) {
-          recordsBeforeImport.remove(record.getIdentity());
-          // JUMP INDEX RECORDS
-          return null;
-        }
-      }
-
-      final int manualIndexCluster =
-          database.getClusterIdByName(MetadataDefault.CLUSTER_MANUAL_INDEX_NAME);
-      final int internalCluster =
-          database.getClusterIdByName(MetadataDefault.CLUSTER_INTERNAL_NAME);
-      final int indexCluster = database.getClusterIdByName(MetadataDefault.CLUSTER_INDEX_NAME);
-
-      if (exporterVersion >= 4) {
-        if (record.getIdentity().getClusterId() == manualIndexCluster) {
-          // JUMP INDEX RECORDS
-          recordsBeforeImport.remove(record.getIdentity());
-          return null;
-        }
-      }
-
-      if (record.getIdentity().equals(indexMgrRecordId)) {
-        recordsBeforeImport.remove(record.getIdentity());
+      if (!isRecordToImport(database, record, recordsBeforeImport)) {
         return null;
       }
 
       final RID rid = record.getIdentity().copy();
       final int clusterId = rid.getClusterId();
 
-      Entity systemRecord = null;
-      var cls = beforeImportSchemaSnapshot.getClassByClusterId(clusterId);
-      if (cls != null) {
-        assert record instanceof EntityImpl;
-
-        if (cls.getName().equals(SecurityUserIml.CLASS_NAME)) {
-          try (var resultSet =
-              database.query(
-                  "select from " + SecurityUserIml.CLASS_NAME + " where name = ?",
-                  ((EntityImpl) record).<String>getProperty("name"))) {
-            if (resultSet.hasNext()) {
-              systemRecord = resultSet.next().toEntity();
-            }
-          }
-        } else if (cls.getName().equals(Role.CLASS_NAME)) {
-          try (var resultSet =
-              database.query(
-                  "select from " + Role.CLASS_NAME + " where name = ?",
-                  ((EntityImpl) record).<String>getProperty("name"))) {
-            if (resultSet.hasNext()) {
-              systemRecord = resultSet.next().toEntity();
-            }
-          }
-        } else if (cls.getName().equals(SecurityPolicy.class.getSimpleName())) {
-          try (var resultSet =
-              database.query(
-                  "select from " + SecurityPolicy.class.getSimpleName() + " where name = ?",
-                  ((EntityImpl) record).<String>getProperty("name"))) {
-            if (resultSet.hasNext()) {
-              systemRecord = resultSet.next().toEntity();
-            }
-          }
-        } else if (cls.getName().equals("V") || cls.getName().equals("E")) {
-          // skip it
-        } else {
-          throw new IllegalStateException("Class " + cls.getName() + " is not supported.");
-        }
-      }
-
-      if ((clusterId != manualIndexCluster
-          && clusterId != internalCluster
-          && clusterId != indexCluster)) {
-        if (systemRecord != null) {
-          if (!record.getClass().isAssignableFrom(systemRecord.getClass())) {
-            throw new IllegalStateException(
-                "Imported record and record stored in database under id "
-                    + rid
-                    + " have different types. "
-                    + "Stored record class is : "
-                    + record.getClass()
-                    + " and imported "
-                    + systemRecord.getClass()
-                    + " .");
-          }
-
-          RecordInternal.setVersion(record, systemRecord.getVersion());
-          RecordInternal.setIdentity(record, (RecordId) systemRecord.getIdentity());
-          recordsBeforeImport.remove(systemRecord.getIdentity());
-        } else {
-          RecordInternal.setVersion(record, 0);
-          RecordInternal.setIdentity(record, new ChangeableRecordId());
-        }
-        record.setDirty();
-
+      if (prepareRecordForSave(database, record, recordsBeforeImport,
+          beforeImportSchemaSnapshot)) {
         var recordToSave = record;
         database.executeInTx(
-            () -> recordToSave.save(database.getClusterNameById(clusterId)));
-        if (!rid.equals(record.getIdentity())) {
-          // SAVE IT ONLY IF DIFFERENT
-          var recordRid = record.getIdentity();
-          database.executeInTx(
-              () ->
-                  new EntityImpl(EXPORT_IMPORT_CLASS_NAME)
-                      .field("key", rid.toString())
-                      .field("value", recordRid.toString())
-                      .save());
-        }
+            () -> saveRecordAndMapping(database, rid, recordToSave));
       }
 
       // import skipped records (too big to be imported before)
@@ -1470,27 +1378,166 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
     return record.getIdentity();
   }
 
-  private long importRecords(Schema beforeImportSchemaSnapshot) throws Exception {
-    long total = 0;
+  /**
+   * Checks whether imported record should be stored in the database. Schema, index manager and
+   * other internal records are never imported.
+   */
+  private boolean isRecordToImport(
+      final DatabaseSessionInternal session,
+      final RecordAbstract record,
+      final Set<RID> recordsBeforeImport) {
+    if (schemaImported && record.getIdentity().equals(schemaRecordId)) {
+      recordsBeforeImport.remove(record.getIdentity());
+      // JUMP THE SCHEMA
+      return false;
+    }
+
+    // CHECK IF THE CLUSTER IS INCLUDED
+
+    if (record.getIdentity().getClusterId() == 0
+        && record.getIdentity().getClusterPosition() == 1) {
+      recordsBeforeImport.remove(record.getIdentity());
+      // JUMP INTERNAL RECORDS
+      return false;
+    }
+
+    if (exporterVersion >= 3) {
+      int oridsId = session.getClusterIdByName("ORIDs");
+      int indexId = session.getClusterIdByName(MetadataDefault.CLUSTER_INDEX_NAME);
+
+      if (record.getIdentity().getClusterId() == indexId
+          || record.getIdentity().getClusterId() == oridsId) {
+        recordsBeforeImport.remove(record.getIdentity());
+        // JUMP INDEX RECORDS
+        return false;
+      }
+    }
+
+    if (exporterVersion >= 4) {
+      final int manualIndexCluster =
+          session.getClusterIdByName(MetadataDefault.CLUSTER_MANUAL_INDEX_NAME);
+      if (record.getIdentity().getClusterId() == manualIndexCluster) {
+        // JUMP INDEX RECORDS
+        recordsBeforeImport.remove(record.getIdentity());
+        return false;
+      }
+    }
+
+    if (record.getIdentity().equals(indexMgrRecordId)) {
+      recordsBeforeImport.remove(record.getIdentity());
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Resets identity and version of imported record, so it can be saved as new record, or binds it
+   * to the security record which already exists in the database.
+   *
+   * @return <code>false</code> if record belongs to internal cluster and should not be saved.
+   */
+  private static boolean prepareRecordForSave(
+      final DatabaseSessionInternal session,
+      final RecordAbstract record,
+      final Set<RID> recordsBeforeImport,
+      final Schema beforeImportSchemaSnapshot) {
+    final RID rid = record.getIdentity();
+    final int clusterId = rid.getClusterId();
+
+    final int manualIndexCluster =
+        session.getClusterIdByName(MetadataDefault.CLUSTER_MANUAL_INDEX_NAME);
+    final int internalCluster =
+        session.getClusterIdByName(MetadataDefault.CLUSTER_INTERNAL_NAME);
+    final int indexCluster = session.getClusterIdByName(MetadataDefault.CLUSTER_INDEX_NAME);
+
+    Entity systemRecord = null;
+    var cls = beforeImportSchemaSnapshot.getClassByClusterId(clusterId);
+    if (cls != null) {
+      assert record instanceof EntityImpl;
+
+      if (cls.getName().equals(SecurityUserIml.CLASS_NAME)) {
+        try (var resultSet =
+            session.query(
+                "select from " + SecurityUserIml.CLASS_NAME + " where name = ?",
+                ((EntityImpl) record).<String>getProperty("name"))) {
+          if (resultSet.hasNext()) {
+            systemRecord = resultSet.next().toEntity();
+          }
+        }
+      } else if (cls.getName().equals(Role.CLASS_NAME)) {
+        try (var resultSet =
+            session.query(
+                "select from " + Role.CLASS_NAME + " where name = ?",
+                ((EntityImpl) record).<String>getProperty("name"))) {
+          if (resultSet.hasNext()) {
+            systemRecord = resultSet.next().toEntity();
+          }
+        }
+      } else if (cls.getName().equals(SecurityPolicy.class.getSimpleName())) {
+        try (var resultSet =
+            session.query(
+                "select from " + SecurityPolicy.class.getSimpleName() + " where name = ?",
+                ((EntityImpl) record).<String>getProperty("name"))) {
+          if (resultSet.hasNext()) {
+            systemRecord = resultSet.next().toEntity();
+          }
+        }
+      } else if (cls.getName().equals("V") || cls.getName().equals("E")) {
+        // skip it
+      } else {
+        throw new IllegalStateException("Class " + cls.getName() + " is not supported.");
+      }
+    }
+
+    if (clusterId == manualIndexCluster
+        || clusterId == internalCluster
+        || clusterId == indexCluster) {
+      return false;
+    }
 
+    if (systemRecord != null) {
+      if (!record.getClass().isAssignableFrom(systemRecord.getClass())) {
+        throw new IllegalStateException(
+            "Imported record and record stored in database under id "
+                + rid
+                + " have different types. "
+                + "Stored record class is : "
+                + record.getClass()
+                + " and imported "
+                + systemRecord.getClass()
+                + " .");
+      }
+
+      RecordInternal.setVersion(record, systemRecord.getVersion());
+      RecordInternal.setIdentity(record, (RecordId) systemRecord.getIdentity());
+      recordsBeforeImport.remove(systemRecord.getIdentity());
+    } else {
+      RecordInternal.setVersion(record, 0);
+      RecordInternal.setIdentity(record, new ChangeableRecordId());
+    }
+    record.setDirty();
+
+    return true;
+  }
+
+  /**
+   * Creates class which holds mapping between exported and imported RIDs and collects RIDs of the
+   * records which exist in the database before import. Index of the mapping is created once records
+   * are imported.
+   */
+  private Set<RID> prepareRecordsImport() {
     final Schema schema = database.getMetadata().getSchema();
     if (schema.getClass(EXPORT_IMPORT_CLASS_NAME) != null) {
       schema.dropClass(EXPORT_IMPORT_CLASS_NAME);
     }
     final SchemaClass cls = schema.createClass(EXPORT_IMPORT_CLASS_NAME);
     cls.createProperty(database, "key", PropertyType.STRING);
-    cls.createProperty(database, "value", PropertyType.STRING);
-    cls.createIndex(database, EXPORT_IMPORT_INDEX_NAME, SchemaClass.INDEX_TYPE.DICTIONARY, "key");
-
-    jsonReader.readNext(JSONReader.BEGIN_COLLECTION);
-
-    long totalRecords = 0;
-
-    listener.onMessage("\n\nImporting records...");
+    cls.createProperty(database, "value", PropertyType.LINK);
 
     // the only security records are left at this moment so we need to overwrite them
     // and then remove left overs
-    final HashSet<RID> recordsBeforeImport = new HashSet<>();
+    final Set<RID> recordsBeforeImport = ConcurrentHashMap.newKeySet();
 
     for (final String clusterName : database.getClusterNames()) {
       final Iterator<DBRecord> recordIterator = database.browseCluster(clusterName);
@@ -1502,6 +1549,43 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
     // excluding placeholder record that exist for binary compatibility
     recordsBeforeImport.remove(new RecordId(0, 0));
 
+    return recordsBeforeImport;
+  }
+
+  private void completeRecordsImport(final Set<RID> recordsBeforeImport)
+      throws IOException, ParseException {
+    // remove all records which were absent in new database but
+    // exist in old database
+    for (final RID leftOverRid : recordsBeforeImport) {
+      database.executeInTx(() -> database.delete(leftOverRid));
+    }
+
+    // mapping is indexed once all records are imported, so index is not updated on each save
+    listener.onMessage("\n\nIndexing of mapping between exported and imported RIDs...");
+    database
+        .getMetadata()
+        .getSchema()
+        .getClass(EXPORT_IMPORT_CLASS_NAME)
+        .createIndex(database, EXPORT_IMPORT_INDEX_NAME, SchemaClass.INDEX_TYPE.DICTIONARY, "key");
+    listener.onMessage("OK");
+
+    database.getMetadata().reload();
+
+    final Set<RID> brokenRids = new HashSet<>();
+    processBrokenRids(brokenRids);
+  }
+
+  private long importRecords(Schema beforeImportSchemaSnapshot) throws Exception {
+    long total = 0;
+
+    final Set<RID> recordsBeforeImport = prepareRecordsImport();
+
+    jsonReader.readNext(JSONReader.BEGIN_COLLECTION);
+
+    long totalRecords = 0;
+
+    listener.onMessage("\n\nImporting records...");
+
     RID rid;
     RID lastRid = new ChangeableRecordId();
     final long begin = System.currentTimeMillis();
@@ -1548,16 +1632,118 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
       }
     }
 
-    // remove all records which were absent in new database but
-    // exist in old database
-    for (final RID leftOverRid : recordsBeforeImport) {
-      database.executeInTx(() -> database.delete(leftOverRid));
+    completeRecordsImport(recordsBeforeImport);
+
+    listener.onMessage(
+        String.format(
+            "\n\nDone. Imported %,d records in %,.2f secs\n",
+            totalRecords, ((float) (System.currentTimeMillis() - begin)) / 1000));
+
+    jsonReader.readNext(JSONReader.COMMA_SEPARATOR);
+
+    return total;
+  }
+
+  /**
+   * Imports records written by parallel export into {@link RecordChunkFile}s. Chunks of the
+   * clusters which belong to the classes existing before import (security records mostly) are
+   * imported by the current session, all other chunks are imported concurrently by
+   * {@link #parallel} threads, each of them uses own copy of the database session and commits
+   * records in batches of {@link #batchSize} records.
+   */
+  private long importRecordChunks(final Schema beforeImportSchemaSnapshot) throws Exception {
+    final Set<RID> recordsBeforeImport = prepareRecordsImport();
+
+    final Path exportDirectory = Paths.get(fileName).toAbsolutePath().getParent();
+    final List<Path> serialChunks = new ArrayList<>();
+    final Queue<Path> parallelChunks = new ConcurrentLinkedQueue<>();
+
+    jsonReader.readNext(JSONReader.BEGIN_COLLECTION);
+    while (true) {
+      jsonReader.readNext(JSONReader.NEXT_IN_ARRAY);
+
+      final String chunkName = IOUtils.getStringContent(jsonReader.getValue().trim());
+      if (!chunkName.isEmpty()) {
+        final Path chunk = exportDirectory.resolve(chunkName);
+        final int clusterId = RecordChunkFile.clusterId(chunkName);
+
+        if (clusterId == 0 || beforeImportSchemaSnapshot.getClassByClusterId(clusterId) != null) {
+          serialChunks.add(chunk);
+        } else {
+          parallelChunks.add(chunk);
+        }
+      }
+
+      if (jsonReader.lastChar() == ']') {
+        break;
+      }
     }
 
-    database.getMetadata().reload();
+    listener.onMessage(
+        "\n\nImporting records from "
+            + (serialChunks.size() + parallelChunks.size())
+            + " chunks (threads="
+            + parallel
+            + ")...");
+    final long begin = System.currentTimeMillis();
 
-    final Set<RID> brokenRids = new HashSet<>();
-    processBrokenRids(brokenRids);
+    long totalRecords = 0;
+    for (final Path chunk : serialChunks) {
+      totalRecords +=
+          importRecordChunk(database, chunk, recordsBeforeImport, beforeImportSchemaSnapshot);
+    }
+
+    final AtomicLong importedRecords = new AtomicLong();
+    final AtomicBoolean failed = new AtomicBoolean();
+    final int threads = Math.max(1, Math.min(parallel, parallelChunks.size()));
+    final List<Future<Void>> futures = new ArrayList<>(threads);
+    for (int i = 0; i < threads && !parallelChunks.isEmpty(); i++) {
+      final DatabaseSessionInternal session = database.copy();
+      futures.add(
+          database
+              .getSharedContext()
+              .getYouTrackDB()
+              .execute(
+                  () -> {
+                    session.activateOnCurrentThread();
+                    session.setValidationEnabled(false);
+                    try {
+                      Path chunk;
+                      while (!failed.get() && (chunk = parallelChunks.poll()) != null) {
+                        importedRecords.addAndGet(
+                            importRecordChunk(
+                                session, chunk, recordsBeforeImport, beforeImportSchemaSnapshot));
+                      }
+                    } catch (Exception | Error e) {
+                      failed.set(true);
+                      throw e;
+                    } finally {
+                      session.close();
+                      DatabaseRecordThreadLocal.instance().remove();
+                    }
+
+                    return null;
+                  }));
+    }
+
+    Throwable failure = null;
+    for (final Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause();
+        }
+      }
+    }
+
+    if (failure != null) {
+      throw BaseException.wrapException(
+          new DatabaseImportException("Error on importing of record chunks"), failure);
+    }
+    totalRecords += importedRecords.get();
+
+    completeRecordsImport(recordsBeforeImport);
 
     listener.onMessage(
         String.format(
@@ -1566,7 +1752,122 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
 
     jsonReader.readNext(JSONReader.COMMA_SEPARATOR);
 
-    return total;
+    return totalRecords;
+  }
+
+  private long importRecordChunk(
+      final DatabaseSessionInternal session,
+      final Path chunk,
+      final Set<RID> recordsBeforeImport,
+      final Schema beforeImportSchemaSnapshot)
+      throws IOException {
+    long importedRecords = 0;
+
+    final List<Pair<RID, RecordAbstract>> batch = new ArrayList<>(batchSize);
+    try (final RecordChunkFile.Reader reader = new RecordChunkFile.Reader(chunk)) {
+      final int clusterId = reader.getClusterId();
+
+      while (reader.next()) {
+        final RecordId rid = new RecordId(clusterId, reader.getClusterPosition());
+        final RecordAbstract record =
+            YouTrackDBEnginesManager.instance()
+                .getRecordFactoryManager()
+                .newInstance(reader.getRecordType(), rid, session);
+        RecordInternal.unsetDirty(record);
+        RecordInternal.setVersion(record, reader.getVersion());
+
+        RecordSerializerNetworkV37.INSTANCE.fromStream(session, reader.getContent(), record);
+        RecordInternal.setRecordSerializer(record, session.getSerializer());
+
+        if (!isRecordToImport(session, record, recordsBeforeImport)) {
+          continue;
+        }
+
+        batch.add(new Pair<>(rid, record));
+        if (batch.size() >= batchSize) {
+          importedRecords +=
+              saveRecordsBatch(session, batch, recordsBeforeImport, beforeImportSchemaSnapshot);
+        }
+      }
+
+      importedRecords +=
+          saveRecordsBatch(session, batch, recordsBeforeImport, beforeImportSchemaSnapshot);
+    } catch (Exception e) {
+      LogManager.instance().error(this, "Error on importing of record chunk %s", e, chunk);
+      throw e;
+    }
+
+    synchronized (this) {
+      listener.onMessage(
+          "\n- Imported " + importedRecords + " records from chunk " + chunk.getFileName());
+    }
+
+    return importedRecords;
+  }
+
+  /**
+   * Records are prepared inside the transaction, because records which overwrite security records
+   * existing before import are modified as persistent ones.
+   */
+  private static int saveRecordsBatch(
+      final DatabaseSessionInternal session,
+      final List<Pair<RID, RecordAbstract>> batch,
+      final Set<RID> recordsBeforeImport,
+      final Schema beforeImportSchemaSnapshot) {
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    final int saved =
+        session.computeInTx(
+            () -> {
+              int count = 0;
+              for (final Pair<RID, RecordAbstract> entry : batch) {
+                if (prepareRecordForSave(
+                    session, entry.value, recordsBeforeImport, beforeImportSchemaSnapshot)) {
+                  saveRecordAndMapping(session, entry.key, entry.value);
+                  count++;
+                }
+              }
+
+              return count;
+            });
+    batch.clear();
+
+    return saved;
+  }
+
+  /**
+   * Saves imported record and mapping between its exported and imported RIDs in the same
+   * transaction. RID of new record is known only after commit, so mapping is saved for each new
+   * record and links it, the link is updated by the commit.
+   */
+  private static void saveRecordAndMapping(
+      final DatabaseSessionInternal session, final RID exportedRid, final RecordAbstract record) {
+    record.save(session.getClusterNameById(exportedRid.getClusterId()));
+
+    final RID recordRid = record.getIdentity();
+    if (recordRid.isPersistent() && exportedRid.equals(recordRid)) {
+      return;
+    }
+
+    new EntityImpl(EXPORT_IMPORT_CLASS_NAME)
+        .field("key", exportedRid.toString())
+        .field("value", record)
+        .save();
+  }
+
+  /**
+   * @return RID of the imported record stored in the mapping between exported and imported RIDs,
+   * mappings created by previous versions store RIDs as strings.
+   */
+  public static RID getImportedRid(final Result mapping) {
+    final Object value = mapping.getProperty("value");
+    if (value instanceof Identifiable identifiable) {
+      return identifiable.getIdentity();
+    }
+
+    return new RecordId((String) value);
   }
 
   private void importSkippedRidbag(final DBRecord record, final Map<String, RidSet> bags) {
@@ -1852,6 +2153,8 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
     final long[] entitiesLastLap = new long[1];
 
     long[] totalEntities = new long[1];
+    final SchemaClass ridMapClass =
+        database.getMetadata().getSchema().getClass(EXPORT_IMPORT_CLASS_NAME);
     Collection<String> clusterNames = database.getClusterNames();
     for (String clusterName : clusterNames) {
       if (MetadataDefault.CLUSTER_INDEX_NAME.equals(clusterName)
@@ -1860,6 +2163,12 @@ public class DatabaseImport extends DatabaseImpExpAbstract {
         continue;
       }
 
+      // mapping links imported records already
+      if (ridMapClass != null
+          && ridMapClass.hasClusterId(database.getClusterIdByName(clusterName))) {
+        continue;
+      }
+
       final long[] entities = new long[1];
       final String[] prefix = new String[]{""};
 
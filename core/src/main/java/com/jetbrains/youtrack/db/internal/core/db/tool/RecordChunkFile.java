@@ -0,0 +1,196 @@
+/*
+ *
+ *
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *
+ *
+ */
+package com.jetbrains.youtrack.db.internal.core.db.tool;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import net.jpountz.lz4.LZ4BlockInputStream;
+import net.jpountz.lz4.LZ4BlockOutputStream;
+
+/**
+ * Binary LZ4 compressed file which contains records of single segment of a cluster, produced by
+ * parallel database export and consumed by parallel database import.
+ *
+ * <p>File consists of header (magic number, format version and cluster id) followed by the list
+ * of entries. Each entry contains cluster position, record type, record version and record content
+ * serialized by schema independent binary record serializer. List of entries is terminated by
+ * {@link #END_OF_CHUNK} marker.
+ */
+final class RecordChunkFile {
+
+  static final String EXTENSION = ".chunk";
+
+  private static final int MAGIC_NUMBER = 0x59544443;
+  private static final int FORMAT_VERSION = 1;
+
+  private static final byte NEXT_RECORD = 1;
+  private static final byte END_OF_CHUNK = 0;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private RecordChunkFile() {
+  }
+
+  static String fileName(final int clusterId, final int segment) {
+    return clusterId + "-" + segment + EXTENSION;
+  }
+
+  static int clusterId(final String fileName) {
+    final String name = Path.of(fileName).getFileName().toString();
+    final int separator = name.indexOf('-');
+    if (separator <= 0 || !name.endsWith(EXTENSION)) {
+      throw new DatabaseImportException("Invalid name of record chunk file '" + fileName + "'");
+    }
+
+    return Integer.parseInt(name.substring(0, separator));
+  }
+
+  static final class Writer implements Closeable {
+
+    private final DataOutputStream out;
+    private long records;
+
+    Writer(final Path path, final int clusterId) throws IOException {
+      out =
+          new DataOutputStream(
+              new LZ4BlockOutputStream(
+                  new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE), BUFFER_SIZE));
+      out.writeInt(MAGIC_NUMBER);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(clusterId);
+    }
+
+    void write(
+        final long clusterPosition, final byte recordType, final int version, final byte[] content)
+        throws IOException {
+      out.writeByte(NEXT_RECORD);
+      out.writeLong(clusterPosition);
+      out.writeByte(recordType);
+      out.writeInt(version);
+      out.writeInt(content.length);
+      out.write(content);
+
+      records++;
+    }
+
+    long getRecords() {
+      return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        out.writeByte(END_OF_CHUNK);
+      } finally {
+        out.close();
+      }
+    }
+  }
+
+  static final class Reader implements Closeable {
+
+    private final DataInputStream in;
+    private final int clusterId;
+
+    private long clusterPosition;
+    private byte recordType;
+    private int version;
+    private byte[] content;
+
+    Reader(final Path path) throws IOException {
+      in =
+          new DataInputStream(
+              new LZ4BlockInputStream(
+                  new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)));
+      try {
+        if (in.readInt() != MAGIC_NUMBER) {
+          throw new DatabaseImportException("File '" + path + "' is not a record chunk file");
+        }
+
+        final int formatVersion = in.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+          throw new DatabaseImportException(
+              "Unsupported version of record chunk file '"
+                  + path
+                  + "': "
+                  + formatVersion
+                  + " (supported version is "
+                  + FORMAT_VERSION
+                  + ")");
+        }
+
+        clusterId = in.readInt();
+      } catch (IOException | RuntimeException e) {
+        in.close();
+        throw e;
+      }
+    }
+
+    int getClusterId() {
+      return clusterId;
+    }
+
+    /**
+     * Reads next entry of the chunk.
+     *
+     * @return <code>false</code> if end of the chunk is reached.
+     */
+    boolean next() throws IOException {
+      if (in.readByte() == END_OF_CHUNK) {
+        return false;
+      }
+
+      clusterPosition = in.readLong();
+      recordType = in.readByte();
+      version = in.readInt();
+      content = new byte[in.readInt()];
+      in.readFully(content);
+
+      return true;
+    }
+
+    long getClusterPosition() {
+      return clusterPosition;
+    }
+
+    byte getRecordType() {
+      return recordType;
+    }
+
+    int getVersion() {
+      return version;
+    }
+
+    byte[] getContent() {
+      return content;
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+}
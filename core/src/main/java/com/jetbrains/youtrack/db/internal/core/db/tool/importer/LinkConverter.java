@@ -4,7 +4,6 @@ import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import com.jetbrains.youtrack.db.api.record.Identifiable;
 import com.jetbrains.youtrack.db.internal.core.db.tool.DatabaseImport;
 import com.jetbrains.youtrack.db.api.record.RID;
-import com.jetbrains.youtrack.db.internal.core.id.RecordId;
 import com.jetbrains.youtrack.db.api.query.ResultSet;
 
 /**
@@ -34,7 +33,7 @@ public final class LinkConverter implements ValuesConverter<Identifiable> {
             "select value from " + DatabaseImport.EXPORT_IMPORT_CLASS_NAME + " where key = ?",
             rid.toString())) {
       if (resultSet.hasNext()) {
-        return new RecordId(resultSet.next().<String>getProperty("value"));
+        return DatabaseImport.getImportedRid(resultSet.next());
       }
       return value;
     }
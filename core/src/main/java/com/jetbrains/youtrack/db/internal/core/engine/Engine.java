@@ -33,6 +33,22 @@ public interface Engine {
       int storageId,
       YouTrackDBInternal context);
 
+  /**
+   * Creates storage which opens existing database in read only mode, data files of such storage
+   * are never modified.
+   *
+   * @throws UnsupportedOperationException if engine does not support read only storages.
+   */
+  default Storage createMappedReadOnlyStorage(
+      String iURL,
+      long maxWalSegSize,
+      long doubleWriteLogMaxSegSize,
+      int storageId,
+      YouTrackDBInternal context) {
+    throw new UnsupportedOperationException(
+        "Engine " + getName() + " does not support read only storages");
+  }
+
   void shutdown();
 
   /**
@@ -37,6 +37,7 @@ import com.jetbrains.youtrack.db.internal.core.storage.Storage;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.ReadCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.chm.AsyncReadCache;
 import com.jetbrains.youtrack.db.internal.core.storage.disk.LocalPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.disk.MemoryMappedReadOnlyStorage;
 import com.jetbrains.youtrack.db.internal.core.storage.fs.File;
 import java.util.ArrayList;
 import java.util.List;
@@ -141,7 +142,6 @@ public class EngineLocalPaginated extends EngineAbstract {
       int storageId,
       YouTrackDBInternal context) {
     try {
-
       return new LocalPaginatedStorage(
           dbName,
           dbName,
@@ -152,17 +152,47 @@ public class EngineLocalPaginated extends EngineAbstract {
           doubleWriteLogMaxSegSize,
           context);
     } catch (Exception e) {
-      final String message =
-          "Error on opening database: "
-              + dbName
-              + ". Current location is: "
-              + new java.io.File(".").getAbsolutePath();
-      LogManager.instance().error(this, message, e);
-
-      throw BaseException.wrapException(new DatabaseException(message), e);
+      throw wrapOpenException(dbName, e);
+    }
+  }
+
+  /**
+   * Creates storage which opens data files of the database in read only mode, see {@link
+   * MemoryMappedReadOnlyStorage}. Such storage is used when it is requested by {@link
+   * GlobalConfiguration#STORAGE_MAPPED_READ_ONLY} parameter of the configuration of the database.
+   */
+  @Override
+  public Storage createMappedReadOnlyStorage(
+      final String dbName,
+      long maxWalSegSize,
+      long doubleWriteLogMaxSegSize,
+      int storageId,
+      YouTrackDBInternal context) {
+    try {
+      return new MemoryMappedReadOnlyStorage(
+          dbName,
+          dbName,
+          storageId,
+          files,
+          maxWalSegSize,
+          doubleWriteLogMaxSegSize,
+          context);
+    } catch (Exception e) {
+      throw wrapOpenException(dbName, e);
     }
   }
 
+  private RuntimeException wrapOpenException(final String dbName, final Exception e) {
+    final String message =
+        "Error on opening database: "
+            + dbName
+            + ". Current location is: "
+            + new java.io.File(".").getAbsolutePath();
+    LogManager.instance().error(this, message, e);
+
+    return BaseException.wrapException(new DatabaseException(message), e);
+  }
+
   public String getName() {
     return NAME;
   }
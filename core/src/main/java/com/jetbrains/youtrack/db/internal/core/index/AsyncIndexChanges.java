@@ -0,0 +1,402 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.comparator.DefaultComparator;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.ByteSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.IntegerSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.LongSerializer;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.Gauge;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.serialization.serializer.binary.impl.index.CompositeKeySerializer;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.LogSequenceNumber;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChanges;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChanges.OPERATION;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChangesPerKey;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChangesPerKey.TransactionIndexEntry;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Changes of the index with asynchronous maintenance which are committed but are not applied to
+ * the index engine yet. Such index is not updated by the committing transaction, instead changes
+ * of the index are added here after the commit and are applied to the index engine in background
+ * in sorted batches. Reads of the index merge these changes with the content of the index engine,
+ * so committed changes are visible immediately.
+ *
+ * <p>Asynchronous maintenance is requested by {@link #MAINTENANCE} item of the index metadata and
+ * is supported only by <code>NOTUNIQUE</code> indexes. Changes of each transaction are logged by
+ * its atomic operation as the single batch, so batches which were not applied to the index engine
+ * are restored from the write ahead log after crash. Amount of changes which are not applied yet is
+ * limited, once the limit is reached committing transactions apply them instead of the background
+ * task.
+ */
+public final class AsyncIndexChanges {
+
+  /**
+   * Name of the index metadata item which contains maintenance mode of the index.
+   */
+  public static final String MAINTENANCE = "maintenance";
+
+  /**
+   * Maintenance mode in which changes of the index are applied in background.
+   */
+  public static final String ASYNC = "ASYNC";
+
+  private final String indexName;
+  private final Gauge<Long> lag;
+
+  /**
+   * Orders commits of the changes of the index, so changes are applied in the same order in which
+   * transactions were committed.
+   */
+  private final Lock commitLock = new ReentrantLock();
+
+  /**
+   * Allows only single thread to apply changes to the index engine.
+   */
+  private final Lock applyLock = new ReentrantLock();
+
+  private final ArrayDeque<Batch> batches = new ArrayDeque<>();
+  private final TreeMap<Object, Map<RID, Change>> latestChanges =
+      new TreeMap<>(DefaultComparator.INSTANCE);
+  private long size;
+  private boolean applicationScheduled;
+
+  public AsyncIndexChanges(final String indexName, final Gauge<Long> lag) {
+    this.indexName = indexName;
+    this.lag = lag;
+    lag.setValue(0L);
+  }
+
+  /**
+   * @return <code>true</code> if index metadata requests asynchronous maintenance of the index.
+   */
+  public static boolean isRequested(final Map<String, ?> metadata) {
+    if (metadata == null) {
+      return false;
+    }
+
+    final Object maintenance = metadata.get(MAINTENANCE);
+    return maintenance != null && ASYNC.equalsIgnoreCase(maintenance.toString());
+  }
+
+  /**
+   * @return <code>true</code> if changes of the transaction can be applied in background, changes
+   * which clear the index, remove all values of the key, contain <code>null</code> key or key which
+   * can not be written to the write ahead log should be applied by the committing transaction.
+   */
+  public static boolean canBeApplied(final FrontendTransactionIndexChanges changes) {
+    if (changes.cleared || !changes.nullKeyChanges.isEmpty()) {
+      return false;
+    }
+
+    for (final FrontendTransactionIndexChangesPerKey changesPerKey :
+        changes.changesPerKey.values()) {
+      if (!CompositeKeySerializer.isIndexKeySerializable(changesPerKey.key)) {
+        return false;
+      }
+
+      for (final TransactionIndexEntry entry : changesPerKey.getEntriesAsList()) {
+        if (entry.getOperation() != OPERATION.PUT && entry.getValue() == null) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  public String getIndexName() {
+    return indexName;
+  }
+
+  public Lock getCommitLock() {
+    return commitLock;
+  }
+
+  public Lock getApplyLock() {
+    return applyLock;
+  }
+
+  /**
+   * @return Changes of the index made by the transaction which are applied to the index engine.
+   */
+  public static List<Change> toChanges(
+      final IndexInternal index, final FrontendTransactionIndexChanges changes) {
+    final List<Change> result = new ArrayList<>();
+    for (final FrontendTransactionIndexChangesPerKey changesPerKey :
+        changes.changesPerKey.values()) {
+      for (final TransactionIndexEntry entry : index.interpretTxKeyChanges(changesPerKey)) {
+        final RID rid = ((RecordId) entry.getValue().getIdentity()).copy();
+        result.add(new Change(changesPerKey.key, rid, entry.getOperation() == OPERATION.PUT));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Adds changes of the committed transaction.
+   *
+   * @return <code>true</code> if changes should be applied by the new background task.
+   */
+  public synchronized boolean add(final Batch batch) {
+    for (final Change change : batch.changes()) {
+      latestChanges.computeIfAbsent(change.key(), k -> new HashMap<>()).put(change.rid(), change);
+    }
+
+    batches.add(batch);
+    size += batch.changes().size();
+    lag.setValue(size);
+
+    if (applicationScheduled) {
+      return false;
+    }
+
+    applicationScheduled = true;
+    return true;
+  }
+
+  /**
+   * @return Oldest batches of changes, batches are added till they contain passed in amount of
+   * changes, or empty list if there are no changes to apply.
+   */
+  public synchronized List<Batch> peek(final int maxChanges) {
+    final List<Batch> result = new ArrayList<>();
+    int changes = 0;
+    for (final Batch batch : batches) {
+      if (changes >= maxChanges) {
+        break;
+      }
+
+      result.add(batch);
+      changes += batch.changes().size();
+    }
+
+    return result;
+  }
+
+  /**
+   * Removes batches which are applied to the index engine.
+   *
+   * @return Removed batches, batches which were cleared while they were applied are not returned.
+   */
+  public synchronized List<Batch> remove(final List<Batch> applied) {
+    final List<Batch> removed = new ArrayList<>(applied.size());
+    for (final Batch batch : applied) {
+      if (batches.peek() != batch) {
+        // changes were cleared while they were applied
+        break;
+      }
+      batches.poll();
+      removed.add(batch);
+
+      for (final Change change : batch.changes()) {
+        final Map<RID, Change> changesPerKey = latestChanges.get(change.key());
+        if (changesPerKey.get(change.rid()) == change) {
+          changesPerKey.remove(change.rid());
+          if (changesPerKey.isEmpty()) {
+            latestChanges.remove(change.key());
+          }
+        }
+      }
+      size -= batch.changes().size();
+    }
+
+    lag.setValue(size);
+    return removed;
+  }
+
+  /**
+   * Called by the background task once there are no changes to apply.
+   *
+   * @return <code>false</code> if new changes were added and task should continue.
+   */
+  public synchronized boolean completeApplication() {
+    if (!batches.isEmpty()) {
+      return false;
+    }
+
+    applicationScheduled = false;
+    return true;
+  }
+
+  /**
+   * Called by the background task if changes can not be applied, changes are applied by the next
+   * task.
+   */
+  public synchronized void cancelApplication() {
+    applicationScheduled = false;
+  }
+
+  public synchronized boolean isEmpty() {
+    return batches.isEmpty();
+  }
+
+  /**
+   * @return Amount of changes which are not applied to the index engine yet.
+   */
+  public synchronized long size() {
+    return size;
+  }
+
+  /**
+   * Removes all changes, for example, because index engine is deleted.
+   *
+   * @return Removed batches.
+   */
+  public synchronized List<Batch> clear() {
+    final List<Batch> removed = new ArrayList<>(batches);
+    batches.clear();
+    latestChanges.clear();
+    size = 0;
+    lag.setValue(0L);
+    return removed;
+  }
+
+  /**
+   * @return Latest change of each value of the key, <code>true</code> if value was added and
+   * <code>false</code> if it was removed.
+   */
+  public synchronized Map<RID, Boolean> getChanges(final Object key) {
+    if (key == null) {
+      return Collections.emptyMap();
+    }
+
+    final Map<RID, Change> changesPerKey = latestChanges.get(key);
+    if (changesPerKey == null) {
+      return Collections.emptyMap();
+    }
+
+    return toValues(changesPerKey);
+  }
+
+  /**
+   * @return Latest change of each value of the keys in the given range, <code>null</code> as
+   * boundary means that range is not limited from that side.
+   */
+  public synchronized NavigableMap<Object, Map<RID, Boolean>> getChanges(
+      final Object fromKey, final boolean fromInclusive, final Object toKey,
+      final boolean toInclusive) {
+    final TreeMap<Object, Map<RID, Boolean>> result = new TreeMap<>(DefaultComparator.INSTANCE);
+    final NavigableMap<Object, Map<RID, Change>> interval;
+    if (fromKey != null && toKey != null) {
+      if (DefaultComparator.INSTANCE.compare(fromKey, toKey) > 0) {
+        return result;
+      }
+      interval = latestChanges.subMap(fromKey, fromInclusive, toKey, toInclusive);
+    } else if (fromKey != null) {
+      interval = latestChanges.tailMap(fromKey, fromInclusive);
+    } else if (toKey != null) {
+      interval = latestChanges.headMap(toKey, toInclusive);
+    } else {
+      interval = latestChanges;
+    }
+
+    for (final Map.Entry<Object, Map<RID, Change>> entry : interval.entrySet()) {
+      result.put(entry.getKey(), toValues(entry.getValue()));
+    }
+    return result;
+  }
+
+  /**
+   * @return Latest changes of the given batches sorted by key, so they can be applied with a
+   * single pass over the index.
+   */
+  public static List<Change> merge(final List<Batch> batches) {
+    final TreeMap<Object, Map<RID, Change>> merged = new TreeMap<>(DefaultComparator.INSTANCE);
+    for (final Batch batch : batches) {
+      for (final Change change : batch.changes()) {
+        merged.computeIfAbsent(change.key(), k -> new HashMap<>()).put(change.rid(), change);
+      }
+    }
+
+    final List<Change> result = new ArrayList<>();
+    for (final Map<RID, Change> changesPerKey : merged.values()) {
+      result.addAll(changesPerKey.values());
+    }
+    return result;
+  }
+
+  /**
+   * @return Changes serialized to be written to the write ahead log.
+   */
+  public static byte[] serialize(final List<Change> changes) {
+    final List<byte[]> keys = new ArrayList<>(changes.size());
+    int size = IntegerSerializer.INT_SIZE;
+    for (final Change change : changes) {
+      final byte[] key = CompositeKeySerializer.serializeIndexKey(change.key());
+      keys.add(key);
+      size +=
+          ByteSerializer.BYTE_SIZE
+              + IntegerSerializer.INT_SIZE
+              + LongSerializer.LONG_SIZE
+              + IntegerSerializer.INT_SIZE
+              + key.length;
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.putInt(changes.size());
+    for (int i = 0; i < changes.size(); i++) {
+      final Change change = changes.get(i);
+      final byte[] key = keys.get(i);
+      buffer.put(change.put() ? (byte) 1 : 0);
+      buffer.putInt(change.rid().getClusterId());
+      buffer.putLong(change.rid().getClusterPosition());
+      buffer.putInt(key.length);
+      buffer.put(key);
+    }
+    return buffer.array();
+  }
+
+  /**
+   * @return Changes restored from the write ahead log.
+   */
+  public static List<Change> deserialize(final byte[] content) {
+    final ByteBuffer buffer = ByteBuffer.wrap(content);
+    final int size = buffer.getInt();
+    final List<Change> changes = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      final boolean put = buffer.get() == 1;
+      final RID rid = new RecordId(buffer.getInt(), buffer.getLong());
+      final byte[] key = new byte[buffer.getInt()];
+      buffer.get(key);
+      changes.add(new Change(CompositeKeySerializer.deserializeIndexKey(key), rid, put));
+    }
+    return changes;
+  }
+
+  private static Map<RID, Boolean> toValues(final Map<RID, Change> changesPerKey) {
+    final Map<RID, Boolean> result = new HashMap<>(changesPerKey.size());
+    for (final Change change : changesPerKey.values()) {
+      result.put(change.rid(), change.put());
+    }
+    return result;
+  }
+
+  /**
+   * Single change of the index, <code>put</code> is <code>true</code> if value is added to the key
+   * and <code>false</code> if it is removed.
+   */
+  public record Change(Object key, RID rid, boolean put) {
+
+  }
+
+  /**
+   * Changes of the index made by single transaction.
+   *
+   * @param lsn LSN of the record of the write ahead log which contains the changes, the log is not
+   *            truncated beyond this LSN till changes are applied.
+   */
+  public record Batch(List<Change> changes, LogSequenceNumber lsn) {
+
+  }
+}
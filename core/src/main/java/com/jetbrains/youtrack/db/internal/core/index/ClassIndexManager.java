@@ -35,8 +35,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -83,7 +83,22 @@ public class ClassIndexManager {
       final Set<String> dirtyFields = new HashSet<>(Arrays.asList(entity.getDirtyFields()));
       if (!dirtyFields.isEmpty()) {
         for (final Index index : indexes) {
-          processIndexUpdate(database, entity, dirtyFields, index);
+          final PartialIndexFilter partialFilter = index.getInternal().getPartialFilter();
+          if (partialFilter == null) {
+            processIndexUpdate(database, entity, dirtyFields, index);
+            continue;
+          }
+
+          // record may enter or leave partial index if fields used in predicate are changed
+          final boolean matchedBefore = partialFilter.matchedBefore(database, entity);
+          final boolean matches = partialFilter.matches(database, entity);
+          if (matchedBefore && matches) {
+            processIndexUpdate(database, entity, dirtyFields, index);
+          } else if (matchedBefore) {
+            removeIndexEntry(database, entity, dirtyFields, index);
+          } else if (matches) {
+            addIndexEntry(database, entity, entity.getIdentity(), index);
+          }
         }
       }
     }
@@ -211,7 +226,19 @@ public class ClassIndexManager {
 
     final MultiValueChangeTimeLine<?, ?> multiValueChangeTimeLine =
         iRecord.getCollectionTimeLine(indexField);
-    if (multiValueChangeTimeLine != null) {
+    if (multiValueChangeTimeLine != null
+        && !(indexDefinition instanceof IndexDefinitionMultiValue)) {
+      // collection is indexed as a whole, for example as a vector
+      @SuppressWarnings("rawtypes") final TrackedMultiValue fieldValue = iRecord.field(indexField);
+      @SuppressWarnings("unchecked") final Object restoredMultiValue =
+          fieldValue.returnOriginalState(session,
+              multiValueChangeTimeLine.getMultiValueChangeEvents());
+
+      final Object origValue = indexDefinition.createValue(session, restoredMultiValue);
+      final Object newValue = indexDefinition.getDocumentValueToIndex(session, iRecord);
+
+      processIndexUpdateFieldAssignment(session, index, iRecord, origValue, newValue);
+    } else if (multiValueChangeTimeLine != null) {
       final IndexDefinitionMultiValue indexDefinitionMultiValue =
           (IndexDefinitionMultiValue) indexDefinition;
       final Object2IntOpenHashMap<Object> keysToAdd = new Object2IntOpenHashMap<>();
@@ -241,6 +268,22 @@ public class ClassIndexManager {
     }
   }
 
+  /**
+   * Expression may depend on any property of the record, so it is calculated on the states of the
+   * record before and after the change, and the key is replaced only if its value is changed.
+   */
+  private static void processExpressionIndexUpdate(
+      DatabaseSessionInternal session, final Index index, final EntityImpl iRecord) {
+    final ExpressionIndexDefinition indexDefinition =
+        (ExpressionIndexDefinition) index.getDefinition();
+
+    final Object origValue = indexDefinition.getOriginalValueToIndex(session, iRecord);
+    final Object newValue = indexDefinition.getDocumentValueToIndex(session, iRecord);
+    if (!Objects.equals(origValue, newValue)) {
+      processIndexUpdateFieldAssignment(session, index, iRecord, origValue, newValue);
+    }
+  }
+
   private static void processIndexUpdateFieldAssignment(
       DatabaseSessionInternal session, Index index, EntityImpl iRecord, final Object origValue,
       final Object newValue) {
@@ -397,7 +440,9 @@ public class ClassIndexManager {
       EntityImpl entity,
       Set<String> dirtyFields,
       Index index) {
-    if (index.getDefinition() instanceof CompositeIndexDefinition) {
+    if (index.getDefinition() instanceof ExpressionIndexDefinition) {
+      processExpressionIndexUpdate(session, index, entity);
+    } else if (index.getDefinition() instanceof CompositeIndexDefinition) {
       processCompositeIndexUpdate(session, index, dirtyFields, entity);
     } else {
       processSingleIndexUpdate(index, dirtyFields, entity, session);
@@ -416,6 +461,11 @@ public class ClassIndexManager {
 
   private static void addIndexEntry(
       DatabaseSessionInternal session, EntityImpl entity, Identifiable rid, Index index) {
+    final PartialIndexFilter partialFilter = index.getInternal().getPartialFilter();
+    if (partialFilter != null && !partialFilter.matches(session, entity)) {
+      return;
+    }
+
     final IndexDefinition indexDefinition = index.getDefinition();
     final Object key = indexDefinition.getDocumentValueToIndex(session, entity);
     if (key instanceof Collection) {
@@ -436,36 +486,41 @@ public class ClassIndexManager {
       return;
     }
 
-    final Collection<Index> indexes = new ArrayList<>(cls.getRawIndexes());
-
-    if (!indexes.isEmpty()) {
-      final Set<String> dirtyFields = new HashSet<>(Arrays.asList(entity.getDirtyFields()));
-
-      if (!dirtyFields.isEmpty()) {
-        // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
-        final Iterator<Index> indexIterator = indexes.iterator();
-
-        while (indexIterator.hasNext()) {
-          final Index index = indexIterator.next();
-
-          final boolean result;
-          if (index.getDefinition() instanceof CompositeIndexDefinition) {
-            result = processCompositeIndexDelete(database, index, dirtyFields, entity);
-          } else {
-            result = processSingleIndexDelete(database, index, dirtyFields, entity);
-          }
+    final Collection<Index> indexes = cls.getRawIndexes();
+    if (indexes.isEmpty()) {
+      return;
+    }
 
-          if (result) {
-            indexIterator.remove();
-          }
-        }
+    final Set<String> dirtyFields = new HashSet<>(Arrays.asList(entity.getDirtyFields()));
+    for (final Index index : indexes) {
+      final PartialIndexFilter partialFilter = index.getInternal().getPartialFilter();
+      if (partialFilter == null || partialFilter.matchedBefore(database, entity)) {
+        removeIndexEntry(database, entity, dirtyFields, index);
       }
     }
+  }
 
-    // REMOVE INDEX OF ENTRIES FOR THE NON CHANGED ONLY VALUES
-    for (final Index index : indexes) {
-      final Object key = index.getDefinition().getDocumentValueToIndex(database, entity);
-      deleteIndexKey(database, index, entity, key);
+  private static void removeIndexEntry(
+      DatabaseSessionInternal session,
+      EntityImpl entity,
+      Set<String> dirtyFields,
+      Index index) {
+    // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
+    final boolean removed;
+    if (index.getDefinition() instanceof ExpressionIndexDefinition indexDefinition) {
+      deleteIndexKey(
+          session, index, entity, indexDefinition.getOriginalValueToIndex(session, entity));
+      return;
+    } else if (index.getDefinition() instanceof CompositeIndexDefinition) {
+      removed = processCompositeIndexDelete(session, index, dirtyFields, entity);
+    } else {
+      removed = processSingleIndexDelete(session, index, dirtyFields, entity);
+    }
+
+    if (!removed) {
+      // REMOVE INDEX OF ENTRIES FOR THE NON CHANGED ONLY VALUES
+      final Object key = index.getDefinition().getDocumentValueToIndex(session, entity);
+      deleteIndexKey(session, index, entity, key);
     }
   }
 
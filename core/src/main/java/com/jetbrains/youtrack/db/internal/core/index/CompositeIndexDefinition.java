@@ -120,6 +120,22 @@ public class CompositeIndexDefinition extends AbstractIndexDefinition {
     collate.addCollate(indexDefinition.getCollate());
   }
 
+  /**
+   * @return Definitions of the parts of the composite key in order of their appearance in the key.
+   */
+  public List<IndexDefinition> getIndexDefinitions() {
+    return Collections.unmodifiableList(indexDefinitions);
+  }
+
+  /**
+   * @param definitionIndex Index of the definition of the part of the composite key.
+   * @return <code>true</code> if record is not indexed when value of the given part of the key is
+   * <code>null</code>.
+   */
+  protected boolean isNullValueIgnored(final int definitionIndex) {
+    return isNullValuesIgnored();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -153,10 +169,11 @@ public class CompositeIndexDefinition extends AbstractIndexDefinition {
 
     compositeKeys.add(firstKey);
 
-    for (final IndexDefinition indexDefinition : indexDefinitions) {
+    for (int i = 0; i < indexDefinitions.size(); i++) {
+      final IndexDefinition indexDefinition = indexDefinitions.get(i);
       final Object result = indexDefinition.getDocumentValueToIndex(session, entity);
 
-      if (result == null && isNullValuesIgnored()) {
+      if (result == null && isNullValueIgnored(i)) {
         return null;
       }
 
@@ -246,7 +263,8 @@ public class CompositeIndexDefinition extends AbstractIndexDefinition {
     final CompositeKey compositeKey = new CompositeKey();
     int currentParamIndex = 0;
 
-    for (final IndexDefinition indexDefinition : indexDefinitions) {
+    for (int i = 0; i < indexDefinitions.size(); i++) {
+      final IndexDefinition indexDefinition = indexDefinitions.get(i);
       if (currentParamIndex + 1 > params.size()) {
         break;
       }
@@ -267,7 +285,7 @@ public class CompositeIndexDefinition extends AbstractIndexDefinition {
         keyValue = indexDefinition.createValue(session, indexParams);
       }
 
-      if (keyValue == null && isNullValuesIgnored()) {
+      if (keyValue == null && isNullValueIgnored(i)) {
         return null;
       }
 
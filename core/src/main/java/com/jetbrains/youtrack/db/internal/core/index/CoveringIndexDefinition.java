@@ -0,0 +1,222 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.api.schema.SchemaProperty;
+import com.jetbrains.youtrack.db.internal.core.collate.DefaultCollate;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
+import com.jetbrains.youtrack.db.internal.core.sql.CommandExecutorSQLCreateIndex;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Definition of the index which in addition to the indexed properties stores values of the
+ * included properties. Values of the included properties are appended to the end of the composite
+ * key, so they do not change the order of the keys and do not prevent prefix lookups by the
+ * indexed properties, but allow to calculate projections of the query directly from the index
+ * entries without fetching of the records.
+ *
+ * <p>Included properties are listed in the <code>INCLUDE</code> clause of the <code>CREATE
+ * INDEX</code> statement, which passes them to the index in {@link #INCLUDED_PROPERTIES} item of
+ * the index metadata.
+ * Records are indexed even if values of the included properties are <code>null</code>.
+ *
+ * <p>Uniqueness of the <code>UNIQUE</code> covering index is checked only for the indexed
+ * properties, values of the included properties may be the same or different in any records, see
+ * {@link IndexUnique}.
+ */
+public class CoveringIndexDefinition extends CompositeIndexDefinition {
+
+  /**
+   * Name of the index metadata item which contains list of the included properties.
+   */
+  public static final String INCLUDED_PROPERTIES = "includedProperties";
+
+  private int includedFieldsCount;
+
+  public CoveringIndexDefinition() {
+  }
+
+  public CoveringIndexDefinition(
+      final String className,
+      final List<? extends IndexDefinition> indexDefinitions,
+      final int includedFieldsCount) {
+    super(className, indexDefinitions);
+    this.includedFieldsCount = includedFieldsCount;
+  }
+
+  /**
+   * Creates definition of the index which includes given properties in addition to the properties
+   * of the passed in definition.
+   */
+  public static CoveringIndexDefinition create(
+      final DatabaseSessionInternal session,
+      final IndexDefinition keyDefinition,
+      final String indexType,
+      final Collection<?> includedProperties) {
+    if (!SchemaClass.INDEX_TYPE.NOTUNIQUE.name().equalsIgnoreCase(indexType)
+        && !SchemaClass.INDEX_TYPE.UNIQUE.name().equalsIgnoreCase(indexType)) {
+      throw new IndexException(
+          "Included properties are supported only by " + SchemaClass.INDEX_TYPE.NOTUNIQUE
+              + " and " + SchemaClass.INDEX_TYPE.UNIQUE + " indexes");
+    }
+
+    final String className = keyDefinition.getClassName();
+    if (className == null || keyDefinition instanceof IndexDefinitionMultiValue
+        || (keyDefinition instanceof CompositeIndexDefinition compositeDefinition
+        && compositeDefinition.getMultiValueDefinition() != null)) {
+      throw new IndexException(
+          "Included properties are supported only by indexes on scalar properties of the class");
+    }
+
+    if (includedProperties.isEmpty()) {
+      throw new IndexException("List of included properties can not be empty");
+    }
+
+    final SchemaClass schemaClass =
+        session.getMetadata().getImmutableSchemaSnapshot().getClass(className);
+    if (schemaClass == null) {
+      throw new IndexException("Class " + className + " is not found");
+    }
+
+    final List<IndexDefinition> definitions = new ArrayList<>();
+    if (keyDefinition instanceof CompositeIndexDefinition compositeDefinition) {
+      definitions.addAll(compositeDefinition.getIndexDefinitions());
+    } else {
+      definitions.add(keyDefinition);
+    }
+
+    final List<String> fields = new ArrayList<>(keyDefinition.getFields());
+    for (final Object includedProperty : includedProperties) {
+      final String propertyName = String.valueOf(includedProperty);
+      if (fields.contains(propertyName)) {
+        throw new IndexException(
+            "Property '" + propertyName + "' is already a part of the index key");
+      }
+
+      final SchemaProperty property = schemaClass.getProperty(propertyName);
+      if (property == null) {
+        throw new IndexException(
+            "Property '" + propertyName + "' is absent in class definition " + className);
+      }
+
+      final PropertyType type = property.getType();
+      if (type.isMultiValue() || type == PropertyType.EMBEDDED) {
+        throw new IndexException(
+            "Property '" + propertyName + "' of type " + type + " can not be included in index");
+      }
+
+      fields.add(propertyName);
+      definitions.add(new PropertyIndexDefinition(className, propertyName, type));
+    }
+
+    return new CoveringIndexDefinition(className, definitions, includedProperties.size());
+  }
+
+  /**
+   * @return Properties which values are used for the lookup of the records.
+   */
+  public List<String> getKeyFields() {
+    final List<String> fields = getFields();
+    return fields.subList(0, fields.size() - includedFieldsCount);
+  }
+
+  /**
+   * @return Properties which values are stored in the index to calculate projections of the
+   * queries.
+   */
+  public List<String> getIncludedFields() {
+    final List<String> fields = getFields();
+    return fields.subList(fields.size() - includedFieldsCount, fields.size());
+  }
+
+  /**
+   * @return <code>true</code> if value of the given property is stored in the index entry as is,
+   * without transformation by collate, so it can be returned instead of the property value.
+   */
+  public boolean isStoredAsIs(final String field) {
+    for (final IndexDefinition indexDefinition : getIndexDefinitions()) {
+      if (indexDefinition.getFields().contains(field)) {
+        return !(indexDefinition instanceof IndexDefinitionMultiValue)
+            && DefaultCollate.NAME.equals(indexDefinition.getCollate().getName());
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  protected boolean isNullValueIgnored(final int definitionIndex) {
+    return definitionIndex < getIndexDefinitions().size() - includedFieldsCount
+        && super.isNullValueIgnored(definitionIndex);
+  }
+
+  @Override
+  protected void serializeToStream(EntityImpl entity) {
+    super.serializeToStream(entity);
+    entity.setPropertyInternal("includedFieldsCount", includedFieldsCount);
+  }
+
+  @Override
+  protected void serializeFromStream(EntityImpl entity) {
+    super.serializeFromStream(entity);
+    includedFieldsCount = entity.<Integer>field("includedFieldsCount");
+  }
+
+  @Override
+  public String toCreateIndexDDL(final String indexName, final String indexType, String engine) {
+    final StringBuilder ddl = new StringBuilder("create index ");
+    ddl.append('`').append(indexName).append('`').append(" on ").append(getClassName())
+        .append(" ( ");
+
+    final List<String> keyFields = getKeyFields();
+    for (int i = 0; i < keyFields.size(); i++) {
+      if (i > 0) {
+        ddl.append(", ");
+      }
+      ddl.append('`').append(keyFields.get(i)).append('`');
+    }
+    ddl.append(" ) include ( ");
+
+    final List<String> includedFields = getIncludedFields();
+    for (int i = 0; i < includedFields.size(); i++) {
+      if (i > 0) {
+        ddl.append(", ");
+      }
+      ddl.append('`').append(includedFields.get(i)).append('`');
+    }
+    ddl.append(" ) ").append(indexType).append(' ');
+
+    if (engine != null) {
+      ddl.append(CommandExecutorSQLCreateIndex.KEYWORD_ENGINE + " ").append(engine).append(' ');
+    }
+
+    return ddl.toString();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (!super.equals(o)) {
+      return false;
+    }
+
+    return includedFieldsCount == ((CoveringIndexDefinition) o).includedFieldsCount;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + includedFieldsCount;
+  }
+
+  @Override
+  public String toString() {
+    return "CoveringIndexDefinition{"
+        + "definition="
+        + super.toString()
+        + ", includedFieldsCount="
+        + includedFieldsCount
+        + '}';
+  }
+}
@@ -19,6 +19,8 @@ import com.jetbrains.youtrack.db.internal.common.log.LogManager;
 import com.jetbrains.youtrack.db.internal.core.config.IndexEngineData;
 import com.jetbrains.youtrack.db.api.exception.ConfigurationException;
 import com.jetbrains.youtrack.db.internal.core.index.engine.BaseIndexEngine;
+import com.jetbrains.youtrack.db.internal.core.index.engine.v1.BitmapIndexEngine;
+import com.jetbrains.youtrack.db.internal.core.index.engine.v1.HnswIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.index.engine.v1.CellBTreeIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.index.engine.v1.CellBTreeSingleValueIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.index.engine.v1.CellBTreeMultiValueIndexEngine;
@@ -47,6 +49,9 @@ public class DefaultIndexFactory implements IndexFactory {
   public static final String SBTREE_BONSAI_VALUE_CONTAINER = "SBTREEBONSAISET";
   public static final String NONE_VALUE_CONTAINER = "NONE";
   static final String CELL_BTREE_ALGORITHM = "CELL_BTREE";
+  public static final String BITMAP_ALGORITHM = "BITMAP";
+  public static final String HNSW_ALGORITHM = "HNSW";
+  public static final String SPATIAL_ALGORITHM = "SPATIAL";
 
   private static final Set<String> TYPES;
   private static final Set<String> ALGORITHMS;
@@ -64,6 +69,9 @@ public class DefaultIndexFactory implements IndexFactory {
     final Set<String> algorithms = new HashSet<>();
     algorithms.add(SBTREE_ALGORITHM);
     algorithms.add(CELL_BTREE_ALGORITHM);
+    algorithms.add(BITMAP_ALGORITHM);
+    algorithms.add(HNSW_ALGORITHM);
+    algorithms.add(SPATIAL_ALGORITHM);
 
     ALGORITHMS = Collections.unmodifiableSet(algorithms);
   }
@@ -109,9 +117,27 @@ public class DefaultIndexFactory implements IndexFactory {
       im.setVersion(version);
     }
 
+    if ((BITMAP_ALGORITHM.equals(algorithm)
+        || HNSW_ALGORITHM.equals(algorithm)
+        || SPATIAL_ALGORITHM.equals(algorithm))
+        && !SchemaClass.INDEX_TYPE.NOTUNIQUE.toString().equals(indexType)) {
+      throw new ConfigurationException(
+          "Algorithm "
+              + algorithm
+              + " supports only indexes of type "
+              + SchemaClass.INDEX_TYPE.NOTUNIQUE);
+    }
+
     if (SchemaClass.INDEX_TYPE.UNIQUE.toString().equals(indexType)) {
       return new IndexUnique(im, storage);
     } else if (SchemaClass.INDEX_TYPE.NOTUNIQUE.toString().equals(indexType)) {
+      if (BITMAP_ALGORITHM.equals(algorithm)) {
+        return new IndexBitmap(im, storage);
+      } else if (HNSW_ALGORITHM.equals(algorithm)) {
+        return new IndexVector(im, storage);
+      } else if (SPATIAL_ALGORITHM.equals(algorithm)) {
+        return new IndexSpatial(im, storage);
+      }
       return new IndexNotUnique(im, storage);
     } else if (SchemaClass.INDEX_TYPE.FULLTEXT.toString().equals(indexType)) {
       LogManager.instance()
@@ -133,7 +159,12 @@ public class DefaultIndexFactory implements IndexFactory {
       case SBTREE_ALGORITHM:
         return SBTreeIndexEngine.VERSION;
       case CELL_BTREE_ALGORITHM:
+      case SPATIAL_ALGORITHM:
         return CellBTreeIndexEngine.VERSION;
+      case BITMAP_ALGORITHM:
+        return BitmapIndexEngine.VERSION;
+      case HNSW_ALGORITHM:
+        return HnswIndexEngine.VERSION;
     }
 
     throw new IllegalStateException("Invalid algorithm name " + algorithm);
@@ -173,6 +204,22 @@ public class DefaultIndexFactory implements IndexFactory {
                       data.getIndexId(), data.getName(), realStorage, data.getVersion());
             }
             break;
+          case BITMAP_ALGORITHM:
+            indexEngine =
+                new BitmapIndexEngine(
+                    data.getIndexId(), data.getName(), realStorage, data.getVersion());
+            break;
+          case HNSW_ALGORITHM:
+            indexEngine =
+                new HnswIndexEngine(
+                    data.getIndexId(), data.getName(), realStorage, data.getVersion());
+            break;
+          case SPATIAL_ALGORITHM:
+            // positions of the points on the Hilbert curve are stored in the regular B-tree
+            indexEngine =
+                new CellBTreeMultiValueIndexEngine(
+                    data.getIndexId(), data.getName(), realStorage, data.getVersion());
+            break;
           default:
             throw new IllegalStateException("Invalid name of algorithm :'" + "'");
         }
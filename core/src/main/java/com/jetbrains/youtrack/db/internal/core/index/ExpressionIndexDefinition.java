@@ -0,0 +1,197 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.common.io.IOUtils;
+import com.jetbrains.youtrack.db.internal.core.command.BasicCommandContext;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.metadata.security.SecurityShared;
+import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
+import com.jetbrains.youtrack.db.internal.core.sql.SQLEngine;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
+import java.util.Map;
+
+/**
+ * Definition of the index which indexes result of the SQL expression calculated on the record
+ * instead of the raw value of the property, for example <code>email.toLowerCase()</code> or
+ * <code>date.format('yyyy-MM')</code>. Index is used by the queries which contain the same
+ * expression in the WHERE clause, expressions are compared by their syntax trees.
+ *
+ * <p>Expression is declared in parentheses instead of the property in the <code>CREATE INDEX</code>
+ * statement, for example <code>CREATE INDEX User.email ON User ((email.toLowerCase()))
+ * NOTUNIQUE</code>, and is listed in {@link #EXPRESSION} item of the index metadata. Type of the
+ * keys is listed after the type of the index or in {@link #EXPRESSION_TYPE} item of the metadata
+ * and is equal to the type of the property by default. Index is bound to the first property
+ * referred by the expression, so it is dropped together with the property, but expression may use
+ * other properties of the record too.
+ */
+public class ExpressionIndexDefinition extends PropertyIndexDefinition {
+
+  /**
+   * Name of the index metadata item which contains indexed SQL expression.
+   */
+  public static final String EXPRESSION = "expression";
+
+  /**
+   * Name of the index metadata item which contains type of the values of the expression.
+   */
+  public static final String EXPRESSION_TYPE = "expressionType";
+
+  private String expressionText;
+  private SQLExpression expression;
+
+  public ExpressionIndexDefinition() {
+  }
+
+  public ExpressionIndexDefinition(
+      final String className,
+      final String field,
+      final PropertyType keyType,
+      final String expressionText) {
+    super(className, field, keyType);
+    this.expressionText = expressionText;
+    this.expression = parse(expressionText);
+  }
+
+  /**
+   * Creates definition of the index on the expression listed in the metadata, the expression is
+   * bound to the property which is indexed by the passed in definition.
+   */
+  public static ExpressionIndexDefinition create(
+      final IndexDefinition keyDefinition,
+      final String indexType,
+      final Map<String, ?> metadata) {
+    if (SchemaClass.INDEX_TYPE.FULLTEXT.name().equalsIgnoreCase(indexType)) {
+      throw new IndexException(
+          "Expressions are not supported by " + SchemaClass.INDEX_TYPE.FULLTEXT + " indexes");
+    }
+
+    if (!(keyDefinition instanceof PropertyIndexDefinition propertyDefinition)
+        || keyDefinition instanceof IndexDefinitionMultiValue
+        || keyDefinition.getClassName() == null) {
+      throw new IndexException(
+          "Expressions are supported only by indexes on single scalar property, but found "
+              + keyDefinition);
+    }
+
+    final Object keyType = metadata.get(EXPRESSION_TYPE);
+    final ExpressionIndexDefinition definition;
+    try {
+      definition =
+          new ExpressionIndexDefinition(
+              propertyDefinition.getClassName(),
+              propertyDefinition.getFields().get(0),
+              keyType == null
+                  ? propertyDefinition.getTypes()[0]
+                  : PropertyType.valueOf(keyType.toString().toUpperCase()),
+              metadata.get(EXPRESSION).toString());
+    } catch (IllegalArgumentException e) {
+      throw new IndexException("Invalid type of the indexed expression: " + keyType);
+    }
+    definition.setCollate(propertyDefinition.getCollate());
+    return definition;
+  }
+
+  public String getExpressionText() {
+    return expressionText;
+  }
+
+  /**
+   * @return Parsed expression, should not be changed by the caller.
+   */
+  public SQLExpression getExpression() {
+    return expression;
+  }
+
+  @Override
+  public Object getDocumentValueToIndex(
+      DatabaseSessionInternal session, final EntityImpl entity) {
+    final BasicCommandContext ctx = new BasicCommandContext();
+    ctx.setDatabase(session);
+    return createValue(session, expression.execute(entity, ctx));
+  }
+
+  /**
+   * @return Value of the expression calculated on the state of the entity before the changes of
+   * the current transaction.
+   */
+  public Object getOriginalValueToIndex(
+      DatabaseSessionInternal session, final EntityImpl entity) {
+    if (entity.getDirtyFields().length == 0) {
+      return getDocumentValueToIndex(session, entity);
+    }
+
+    final BasicCommandContext ctx = new BasicCommandContext();
+    ctx.setDatabase(session);
+    return createValue(
+        session, expression.execute(SecurityShared.calculateBefore(entity, session), ctx));
+  }
+
+  @Override
+  protected void serializeToStream(EntityImpl entity) {
+    super.serializeToStream(entity);
+    entity.setPropertyInternal(EXPRESSION, expressionText);
+  }
+
+  @Override
+  protected void serializeFromStream(EntityImpl entity) {
+    super.serializeFromStream(entity);
+    expressionText = entity.field(EXPRESSION);
+    expression = parse(expressionText);
+  }
+
+  @Override
+  public String toCreateIndexDDL(
+      final String indexName, final String indexType, final String engine) {
+    return createIndexDDLWithoutFieldType(indexName, indexType, engine)
+        .append(" metadata {\"")
+        .append(EXPRESSION)
+        .append("\": \"")
+        .append(IOUtils.encodeJsonString(expressionText))
+        .append("\", \"")
+        .append(EXPRESSION_TYPE)
+        .append("\": \"")
+        .append(keyType.name())
+        .append("\"}")
+        .toString();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (!super.equals(o)) {
+      return false;
+    }
+
+    return expressionText.equals(((ExpressionIndexDefinition) o).expressionText);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + expressionText.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "ExpressionIndexDefinition{"
+        + "className='"
+        + className
+        + '\''
+        + ", field='"
+        + field
+        + '\''
+        + ", expression='"
+        + expressionText
+        + '\''
+        + ", keyType="
+        + keyType
+        + '}';
+  }
+
+  private static SQLExpression parse(final String expressionText) {
+    try {
+      return SQLEngine.parseExpression(expressionText);
+    } catch (RuntimeException e) {
+      throw new IndexException("Invalid expression of the index: " + expressionText);
+    }
+  }
+}
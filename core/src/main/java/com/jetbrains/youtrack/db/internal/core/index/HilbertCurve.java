@@ -0,0 +1,276 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Maps geographic points to positions on the Hilbert curve which fills the grid of
+ * <code>2<sup>31</sup> x 2<sup>31</sup></code> cells, so points which are close to each other
+ * mostly have close positions. Size of the cell is about a centimeter.
+ *
+ * <p>Each aligned square block of the grid is covered by a continuous range of positions, so
+ * rectangle is covered by the limited amount of ranges of positions of the blocks which intersect
+ * it. Block of level <code>n</code> has side of <code>2<sup>n</sup></code> cells, so block of level
+ * 0 is a single cell and block of level {@link #ORDER} is the whole grid.
+ */
+public final class HilbertCurve {
+
+  /**
+   * Amount of bits in each coordinate of the cell.
+   */
+  public static final int ORDER = 31;
+
+  private static final long SIDE = 1L << ORDER;
+
+  private HilbertCurve() {
+  }
+
+  /**
+   * @return Position of the cell which contains the point.
+   */
+  public static long encode(final double latitude, final double longitude) {
+    return position(longitudeCell(longitude), latitudeCell(latitude), ORDER);
+  }
+
+  /**
+   * @return Latitude of the center of the cell of given position.
+   */
+  public static double decodeLatitude(final long position) {
+    return (cell(position)[1] + 0.5) / SIDE * 180 - 90;
+  }
+
+  /**
+   * @return Longitude of the center of the cell of given position.
+   */
+  public static double decodeLongitude(final long position) {
+    return (cell(position)[0] + 0.5) / SIDE * 360 - 180;
+  }
+
+  /**
+   * @return <code>true</code> if cell of given position intersects the rectangle.
+   */
+  public static boolean intersects(
+      final long position,
+      final double minLatitude,
+      final double minLongitude,
+      final double maxLatitude,
+      final double maxLongitude) {
+    return intersects(position, position, minLatitude, minLongitude, maxLatitude, maxLongitude);
+  }
+
+  /**
+   * Checks whether rectangle of cells between the cells of given positions intersects the
+   * rectangle. Rectangle of cells crosses the antimeridian if longitude of its lower cell is bigger
+   * than longitude of the upper one, the second rectangle should not cross the antimeridian.
+   *
+   * @param lowerPosition position of the cell with minimum latitude and longitude
+   * @param upperPosition position of the cell with maximum latitude and longitude
+   */
+  public static boolean intersects(
+      final long lowerPosition,
+      final long upperPosition,
+      final double minLatitude,
+      final double minLongitude,
+      final double maxLatitude,
+      final double maxLongitude) {
+    final long[] lower = cell(lowerPosition);
+    final long[] upper = lowerPosition == upperPosition ? lower : cell(upperPosition);
+    if (upper[1] < latitudeCell(minLatitude) || lower[1] > latitudeCell(maxLatitude)) {
+      return false;
+    }
+
+    final long minX = longitudeCell(minLongitude);
+    final long maxX = longitudeCell(maxLongitude);
+    if (lower[0] <= upper[0]) {
+      return upper[0] >= minX && lower[0] <= maxX;
+    }
+    return lower[0] <= maxX || upper[0] >= minX;
+  }
+
+  /**
+   * Calculates the smallest block which contains the rectangle. Rectangle should not cross the
+   * antimeridian.
+   *
+   * @return Pair of the level of the block and the first position of the block.
+   */
+  public static long[] block(
+      final double minLatitude,
+      final double minLongitude,
+      final double maxLatitude,
+      final double maxLongitude) {
+    final long minX = longitudeCell(minLongitude);
+    final long maxX = longitudeCell(maxLongitude);
+    final long minY = latitudeCell(minLatitude);
+    final long maxY = latitudeCell(maxLatitude);
+
+    // cells of the same block differ only in the lowest bits of their coordinates
+    final int level =
+        Math.max(
+            Long.SIZE - Long.numberOfLeadingZeros(minX ^ maxX),
+            Long.SIZE - Long.numberOfLeadingZeros(minY ^ maxY));
+    return new long[]{level, blockStart(minX >>> level, minY >>> level, level)};
+  }
+
+  /**
+   * @return Amount of positions of the block of given level.
+   */
+  public static long blockSize(final int level) {
+    return 1L << (2 * level);
+  }
+
+  /**
+   * Calculates ranges of positions which cover the rectangle. Rectangle should not cross the
+   * antimeridian. Cells are refined till amount of ranges does not exceed passed in limit, so
+   * ranges may contain positions of cells outside of rectangle.
+   *
+   * @return Sorted not overlapping ranges, each range is a pair of inclusive boundaries.
+   */
+  public static List<long[]> ranges(
+      final double minLatitude,
+      final double minLongitude,
+      final double maxLatitude,
+      final double maxLongitude,
+      final int maxRanges) {
+    final long minX = longitudeCell(minLongitude);
+    final long maxX = longitudeCell(maxLongitude);
+    final long minY = latitudeCell(minLatitude);
+    final long maxY = latitudeCell(maxLatitude);
+
+    final List<long[]> ranges = new ArrayList<>();
+    List<long[]> partialBlocks = new ArrayList<>();
+    partialBlocks.add(new long[]{0, 0});
+
+    int level = ORDER;
+    while (!partialBlocks.isEmpty()) {
+      if (level == 0) {
+        addRanges(ranges, partialBlocks, level);
+        break;
+      }
+
+      final int childLevel = level - 1;
+      final long childSide = 1L << childLevel;
+      final List<long[]> coveredChildren = new ArrayList<>();
+      final List<long[]> partialChildren = new ArrayList<>();
+      for (final long[] block : partialBlocks) {
+        for (int i = 0; i < 4; i++) {
+          final long childX = 2 * block[0] + (i & 1);
+          final long childY = 2 * block[1] + (i >> 1);
+
+          final long fromX = childX << childLevel;
+          final long toX = fromX + childSide - 1;
+          final long fromY = childY << childLevel;
+          final long toY = fromY + childSide - 1;
+
+          if (toX < minX || fromX > maxX || toY < minY || fromY > maxY) {
+            continue;
+          }
+
+          if (fromX >= minX && toX <= maxX && fromY >= minY && toY <= maxY) {
+            coveredChildren.add(new long[]{childX, childY});
+          } else {
+            partialChildren.add(new long[]{childX, childY});
+          }
+        }
+      }
+
+      if (ranges.size() + coveredChildren.size() + partialChildren.size() > maxRanges) {
+        addRanges(ranges, partialBlocks, level);
+        break;
+      }
+
+      addRanges(ranges, coveredChildren, childLevel);
+      partialBlocks = partialChildren;
+      level = childLevel;
+    }
+
+    ranges.sort(Comparator.comparingLong(range -> range[0]));
+
+    final List<long[]> merged = new ArrayList<>(ranges.size());
+    for (final long[] range : ranges) {
+      if (!merged.isEmpty() && merged.get(merged.size() - 1)[1] + 1 >= range[0]) {
+        final long[] last = merged.get(merged.size() - 1);
+        last[1] = Math.max(last[1], range[1]);
+      } else {
+        merged.add(range);
+      }
+    }
+    return merged;
+  }
+
+  private static void addRanges(
+      final List<long[]> ranges, final List<long[]> blocks, final int level) {
+    for (final long[] block : blocks) {
+      // positions of the block have the same prefix which is position of the block in the grid
+      // of the lower order
+      final long from = blockStart(block[0], block[1], level);
+      ranges.add(new long[]{from, from + blockSize(level) - 1});
+    }
+  }
+
+  private static long blockStart(final long x, final long y, final int level) {
+    return position(x, y, ORDER - level) << (2 * level);
+  }
+
+  private static long latitudeCell(final double latitude) {
+    return clamp((long) Math.floor((latitude + 90) / 180 * SIDE));
+  }
+
+  private static long longitudeCell(final double longitude) {
+    return clamp((long) Math.floor((longitude + 180) / 360 * SIDE));
+  }
+
+  private static long clamp(final long cell) {
+    return Math.max(0, Math.min(SIDE - 1, cell));
+  }
+
+  private static long position(long x, long y, final int order) {
+    final long side = 1L << order;
+    long position = 0;
+    for (long s = side >>> 1; s > 0; s >>>= 1) {
+      final long rx = (x & s) > 0 ? 1 : 0;
+      final long ry = (y & s) > 0 ? 1 : 0;
+      position += s * s * ((3 * rx) ^ ry);
+
+      if (ry == 0) {
+        if (rx == 1) {
+          x = side - 1 - x;
+          y = side - 1 - y;
+        }
+
+        final long t = x;
+        x = y;
+        y = t;
+      }
+    }
+
+    return position;
+  }
+
+  private static long[] cell(final long position) {
+    long x = 0;
+    long y = 0;
+    long t = position;
+    for (long s = 1; s < SIDE; s <<= 1) {
+      final long rx = 1 & (t >>> 1);
+      final long ry = 1 & (t ^ rx);
+
+      if (ry == 0) {
+        if (rx == 1) {
+          x = s - 1 - x;
+          y = s - 1 - y;
+        }
+
+        final long swap = x;
+        x = y;
+        y = swap;
+      }
+
+      x += s * rx;
+      y += s * ry;
+      t >>>= 2;
+    }
+
+    return new long[]{x, y};
+  }
+}
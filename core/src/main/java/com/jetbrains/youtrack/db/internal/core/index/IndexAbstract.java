@@ -43,6 +43,7 @@ import com.jetbrains.youtrack.db.internal.core.index.iterator.IndexCursorStream;
 import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
 import com.jetbrains.youtrack.db.internal.core.record.impl.EntityInternalUtils;
 import com.jetbrains.youtrack.db.internal.core.storage.Storage;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.PageAccessIntent;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.ReadCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.WriteCache;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
@@ -84,11 +85,13 @@ public abstract class IndexAbstract implements IndexInternal {
 
   protected Set<String> clustersToIndex = new HashSet<>();
   protected IndexMetadata im;
+  private volatile PartialIndexFilter partialFilter;
 
   public IndexAbstract(IndexMetadata im, final Storage storage) {
     acquireExclusiveLock();
     try {
       this.im = im;
+      this.partialFilter = PartialIndexFilter.fromMetadata(im.getMetadata());
       this.storage = (AbstractPaginatedStorage) storage;
     } finally {
       releaseExclusiveLock();
@@ -270,6 +273,7 @@ public abstract class IndexAbstract implements IndexInternal {
 
       final IndexMetadata indexMetadata = loadMetadata(config);
       this.im = indexMetadata;
+      this.partialFilter = PartialIndexFilter.fromMetadata(indexMetadata.getMetadata());
       clustersToIndex.addAll(indexMetadata.getClustersToIndex());
 
       try {
@@ -658,6 +662,7 @@ public abstract class IndexAbstract implements IndexInternal {
           // Just log errors of removing keys while dropping and keep dropping
         }
 
+        storage.unregisterAsyncIndex(getName());
         storage.deleteIndexEngine(indexId);
         break;
       } catch (InvalidIndexEngineIdException ignore) {
@@ -880,6 +885,11 @@ public abstract class IndexAbstract implements IndexInternal {
     return indexId;
   }
 
+  @Override
+  public PartialIndexFilter getPartialFilter() {
+    return partialFilter;
+  }
+
   public String getDatabaseName() {
     return storage.getName();
   }
@@ -950,7 +960,8 @@ public abstract class IndexAbstract implements IndexInternal {
 
     var stat = new long[]{documentNum, documentIndexed};
 
-    var clusterIterator = session.browseCluster(clusterName);
+    var clusterIterator =
+        session.browseCluster(clusterName).setPageAccessIntent(PageAccessIntent.SEQUENTIAL);
     session.executeInTxBatches((Iterator<DBRecord>) clusterIterator, (db, record) -> {
       if (Thread.interrupted()) {
         throw new CommandExecutionException("The index rebuild has been interrupted");
@@ -1036,6 +1047,10 @@ public abstract class IndexAbstract implements IndexInternal {
         doReloadIndexEngine();
       }
     }
+
+    if (apiVersion == 1 && AsyncIndexChanges.isRequested(im.getMetadata())) {
+      storage.registerAsyncIndex(im.getName());
+    }
   }
 
   public static void manualIndexesWarning() {
@@ -0,0 +1,48 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.exception.InvalidIndexEngineIdException;
+import com.jetbrains.youtrack.db.internal.core.storage.Storage;
+import com.jetbrains.youtrack.db.internal.core.storage.index.bitmap.RidBitmap;
+import java.util.stream.Stream;
+
+/**
+ * Index implementation that allows multiple values for the same key and uses
+ * {@link DefaultIndexFactory#BITMAP_ALGORITHM} algorithm, so record ids of the key may be read as
+ * the single bitmap and combined with bitmaps of other keys without fetching of the records.
+ */
+public class IndexBitmap extends IndexNotUnique {
+
+  public IndexBitmap(IndexMetadata im, final Storage storage) {
+    super(im, storage);
+  }
+
+  /**
+   * Returns record ids of the key as a bitmap. If index is not changed in the current transaction,
+   * bitmap is read from the index as is, otherwise it is built from the record ids of the key.
+   */
+  public RidBitmap getRidBitmap(DatabaseSessionInternal session, Object key) {
+    if (session.getTransaction().getIndexChangesInternal(getName()) == null) {
+      final Object collatedKey = getCollatingValue(key);
+      acquireSharedLock();
+      try {
+        while (true) {
+          try {
+            return storage.getIndexBitmap(indexId, collatedKey);
+          } catch (InvalidIndexEngineIdException ignore) {
+            doReloadIndexEngine();
+          }
+        }
+      } finally {
+        releaseSharedLock();
+      }
+    }
+
+    final RidBitmap bitmap = new RidBitmap();
+    try (Stream<RID> rids = getRids(session, key)) {
+      rids.forEach(bitmap::add);
+    }
+    return bitmap;
+  }
+}
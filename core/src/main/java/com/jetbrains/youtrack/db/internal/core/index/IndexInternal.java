@@ -321,4 +321,10 @@ public interface IndexInternal extends Index {
       ProgressListener progressListener);
 
   int getIndexId();
+
+  /**
+   * @return Predicate of the partial index or <code>null</code> if index contains all records of
+   * the class.
+   */
+  PartialIndexFilter getPartialFilter();
 }
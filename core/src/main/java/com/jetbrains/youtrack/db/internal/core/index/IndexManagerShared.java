@@ -603,7 +603,7 @@ public class IndexManagerShared implements IndexManagerAbstract {
       DatabaseSessionInternal database,
       final String iName,
       String type,
-      final IndexDefinition indexDefinition,
+      IndexDefinition indexDefinition,
       final int[] clusterIdsToIndex,
       ProgressListener progressListener,
       Map<String, ?> metadata,
@@ -653,6 +653,48 @@ public class IndexManagerShared implements IndexManagerAbstract {
       }
 
       final Set<String> clustersToIndex = findClustersByIds(clusterIdsToIndex, database);
+      final Object includedProperties = metadata.get(CoveringIndexDefinition.INCLUDED_PROPERTIES);
+      if (includedProperties != null && !(indexDefinition instanceof CoveringIndexDefinition)) {
+        if (!(includedProperties instanceof Collection<?> includedPropertiesList)) {
+          throw new IndexException(
+              "List of the properties is expected as value of '"
+                  + CoveringIndexDefinition.INCLUDED_PROPERTIES
+                  + "' metadata item");
+        }
+        indexDefinition =
+            CoveringIndexDefinition.create(database, indexDefinition, type, includedPropertiesList);
+      }
+
+      if (metadata.get(ExpressionIndexDefinition.EXPRESSION) != null
+          && !(indexDefinition instanceof ExpressionIndexDefinition)) {
+        indexDefinition = ExpressionIndexDefinition.create(indexDefinition, type, metadata);
+      }
+
+      if (DefaultIndexFactory.HNSW_ALGORITHM.equals(algorithm)
+          && !(indexDefinition instanceof VectorIndexDefinition)) {
+        indexDefinition = VectorIndexDefinition.create(indexDefinition, type, metadata);
+      }
+      if (DefaultIndexFactory.SPATIAL_ALGORITHM.equals(algorithm)
+          && !(indexDefinition instanceof SpatialIndexDefinition)) {
+        indexDefinition = SpatialIndexDefinition.create(indexDefinition, type);
+      }
+
+      // validates predicate of the partial index before the index is built
+      if (PartialIndexFilter.fromMetadata(metadata) != null && manualIndexesAreUsed) {
+        throw new IndexException("Predicate is supported only by indexes on class properties");
+      }
+
+      if (AsyncIndexChanges.isRequested(metadata)
+          && (!SchemaClass.INDEX_TYPE.NOTUNIQUE.name().equals(type)
+          || !DefaultIndexFactory.CELL_BTREE_ALGORITHM.equals(algorithm.toUpperCase()))) {
+        throw new IndexException(
+            "Asynchronous maintenance is supported only by "
+                + SchemaClass.INDEX_TYPE.NOTUNIQUE
+                + " indexes of "
+                + DefaultIndexFactory.CELL_BTREE_ALGORITHM
+                + " algorithm");
+      }
+
       Object ignoreNullValues = metadata.get("ignoreNullValues");
       if (Boolean.TRUE.equals(ignoreNullValues)) {
         indexDefinition.setNullValuesIgnored(true);
@@ -49,6 +49,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -101,7 +103,9 @@ public abstract class IndexMultiValues extends IndexAbstract {
           } else {
             throw new IllegalStateException("Invalid version of index API - " + apiVersion);
           }
-          backedStream = IndexStreamSecurityDecorator.decorateRidStream(this, stream);
+          backedStream =
+              IndexStreamSecurityDecorator.decorateRidStream(
+                  this, mergeAsyncChanges(collatedKey, stream));
           break;
         } catch (InvalidIndexEngineIdException ignore) {
           doReloadIndexEngine();
@@ -260,13 +264,15 @@ public abstract class IndexMultiValues extends IndexAbstract {
           stream =
               IndexStreamSecurityDecorator.decorateStream(
                   this,
-                  storage.iterateIndexEntriesBetween(session,
-                      indexId,
-                      fromKey,
-                      fromInclusive,
-                      toKey,
-                      toInclusive,
-                      ascOrder, MultiValuesTransformer.INSTANCE));
+                  mergeAsyncChanges(
+                      storage.iterateIndexEntriesBetween(session,
+                          indexId,
+                          fromKey,
+                          fromInclusive,
+                          toKey,
+                          toInclusive,
+                          ascOrder, MultiValuesTransformer.INSTANCE),
+                      fromKey, fromInclusive, toKey, toInclusive, ascOrder));
           break;
         } catch (InvalidIndexEngineIdException ignore) {
           doReloadIndexEngine();
@@ -317,8 +323,11 @@ public abstract class IndexMultiValues extends IndexAbstract {
           stream =
               IndexStreamSecurityDecorator.decorateStream(
                   this,
-                  storage.iterateIndexEntriesMajor(
-                      indexId, fromKey, fromInclusive, ascOrder, MultiValuesTransformer.INSTANCE));
+                  mergeAsyncChanges(
+                      storage.iterateIndexEntriesMajor(
+                          indexId, fromKey, fromInclusive, ascOrder,
+                          MultiValuesTransformer.INSTANCE),
+                      fromKey, fromInclusive, null, true, ascOrder));
           break;
         } catch (InvalidIndexEngineIdException ignore) {
           doReloadIndexEngine();
@@ -372,8 +381,10 @@ public abstract class IndexMultiValues extends IndexAbstract {
           stream =
               IndexStreamSecurityDecorator.decorateStream(
                   this,
-                  storage.iterateIndexEntriesMinor(
-                      indexId, toKey, toInclusive, ascOrder, MultiValuesTransformer.INSTANCE));
+                  mergeAsyncChanges(
+                      storage.iterateIndexEntriesMinor(
+                          indexId, toKey, toInclusive, ascOrder, MultiValuesTransformer.INSTANCE),
+                      null, true, toKey, toInclusive, ascOrder));
           break;
         } catch (InvalidIndexEngineIdException ignore) {
           doReloadIndexEngine();
@@ -485,7 +496,8 @@ public abstract class IndexMultiValues extends IndexAbstract {
                 .orElse(Stream.empty());
           } else if (apiVersion == 1) {
             //noinspection resource
-            return storage.getIndexValues(indexId, key).map((rid) -> new RawPair<>(entryKey, rid));
+            return mergeAsyncChanges(key, storage.getIndexValues(indexId, key))
+                .map((rid) -> new RawPair<>(entryKey, rid));
           } else {
             throw new IllegalStateException("Invalid version of index API - " + apiVersion);
           }
@@ -499,6 +511,67 @@ public abstract class IndexMultiValues extends IndexAbstract {
     }
   }
 
+  /**
+   * Merges values of the key stored in the index engine with committed changes of the index with
+   * asynchronous maintenance which are not applied to the index engine yet.
+   */
+  private Stream<RID> mergeAsyncChanges(final Object key, final Stream<RID> stream) {
+    final AsyncIndexChanges asyncChanges = storage.getAsyncIndexChanges(getName());
+    if (asyncChanges == null) {
+      return stream;
+    }
+
+    final Map<RID, Boolean> changes = asyncChanges.getChanges(key);
+    if (changes.isEmpty()) {
+      return stream;
+    }
+
+    return Stream.concat(
+        stream.filter((rid) -> !changes.containsKey(rid)),
+        changes.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey));
+  }
+
+  /**
+   * Merges entries stored in the index engine with committed changes of the index with
+   * asynchronous maintenance which are not applied to the index engine yet, <code>null</code> as
+   * boundary means that range is not limited from that side.
+   */
+  private Stream<RawPair<Object, RID>> mergeAsyncChanges(
+      final Stream<RawPair<Object, RID>> stream,
+      final Object fromKey,
+      final boolean fromInclusive,
+      final Object toKey,
+      final boolean toInclusive,
+      final boolean ascOrder) {
+    final AsyncIndexChanges asyncChanges = storage.getAsyncIndexChanges(getName());
+    if (asyncChanges == null) {
+      return stream;
+    }
+
+    final NavigableMap<Object, Map<RID, Boolean>> changes =
+        asyncChanges.getChanges(fromKey, fromInclusive, toKey, toInclusive);
+    if (changes.isEmpty()) {
+      return stream;
+    }
+
+    final Stream<RawPair<Object, RID>> addedStream =
+        (ascOrder ? changes : changes.descendingMap()).entrySet().stream()
+            .flatMap(
+                (entry) ->
+                    entry.getValue().entrySet().stream()
+                        .filter(Map.Entry::getValue)
+                        .map((value) -> new RawPair<Object, RID>(entry.getKey(), value.getKey())));
+    final Stream<RawPair<Object, RID>> backedStream =
+        stream.filter(
+            (entry) -> {
+              final Map<RID, Boolean> changesPerKey = changes.get(entry.first);
+              return changesPerKey == null || !changesPerKey.containsKey(entry.second);
+            });
+
+    return Streams.mergeSortedSpliterators(
+        addedStream, backedStream, ascOrder ? AscComparator.INSTANCE : DescComparator.INSTANCE);
+  }
+
   public static Set<Identifiable> calculateTxValue(
       final Object key, FrontendTransactionIndexChanges indexChanges) {
     final List<Identifiable> result = new ArrayList<>();
@@ -544,7 +617,8 @@ public abstract class IndexMultiValues extends IndexAbstract {
 
     final FrontendTransactionIndexChanges indexChanges =
         session.getTransaction().getIndexChanges(getName());
-    if (indexChanges != null) {
+    final AsyncIndexChanges asyncChanges = storage.getAsyncIndexChanges(getName());
+    if (indexChanges != null || (asyncChanges != null && !asyncChanges.isEmpty())) {
       try (Stream<RawPair<Object, RID>> stream = stream(session)) {
         return stream.count();
       }
@@ -562,7 +636,10 @@ public abstract class IndexMultiValues extends IndexAbstract {
         try {
           stream =
               IndexStreamSecurityDecorator.decorateStream(
-                  this, storage.getIndexStream(indexId, MultiValuesTransformer.INSTANCE));
+                  this,
+                  mergeAsyncChanges(
+                      storage.getIndexStream(indexId, MultiValuesTransformer.INSTANCE),
+                      null, true, null, true, true));
           break;
         } catch (InvalidIndexEngineIdException ignore) {
           doReloadIndexEngine();
@@ -649,7 +726,10 @@ public abstract class IndexMultiValues extends IndexAbstract {
         try {
           stream =
               IndexStreamSecurityDecorator.decorateStream(
-                  this, storage.getIndexDescStream(indexId, MultiValuesTransformer.INSTANCE));
+                  this,
+                  mergeAsyncChanges(
+                      storage.getIndexDescStream(indexId, MultiValuesTransformer.INSTANCE),
+                      null, true, null, true, false));
           break;
         } catch (InvalidIndexEngineIdException ignore) {
           doReloadIndexEngine();
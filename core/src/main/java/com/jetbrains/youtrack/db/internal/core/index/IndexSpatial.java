@@ -0,0 +1,264 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.geo.SQLFunctionDistance;
+import com.jetbrains.youtrack.db.internal.core.storage.Storage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Index implementation that allows multiple values for the same key and uses
+ * {@link DefaultIndexFactory#SPATIAL_ALGORITHM} algorithm. Keys of the index are positions of the
+ * points or bounding boxes on {@link HilbertCurve}, see {@link SpatialIndexDefinition}, not values
+ * of the properties, so index can be used only to find shapes located near each other, not in
+ * equality or range conditions.
+ *
+ * <p>Bounding box is stored in the smallest block of the curve which contains it, so boxes which
+ * intersect the rectangle are searched in the blocks of all levels which intersect the rectangle.
+ * Boxes which cross boundaries of the big blocks, like the equator or the prime meridian, are
+ * stored in the blocks of the high levels and are checked by every search. Search by distance is
+ * supported only for points.
+ */
+public class IndexSpatial extends IndexNotUnique {
+
+  /**
+   * Precision in kilometers with which spatial indexes compare points, it is bigger than diagonal
+   * of the cell of {@link HilbertCurve}.
+   */
+  public static final double SPATIAL_PRECISION = 0.00005;
+
+  private static final int MAX_SPATIAL_RANGES = 32;
+  private static final double INITIAL_NEAREST_DISTANCE = 1;
+  private static final double MAX_DISTANCE = Math.PI * SQLFunctionDistance.EARTH_RADIUS;
+
+  public IndexSpatial(IndexMetadata im, final Storage storage) {
+    super(im, storage);
+  }
+
+  @Override
+  public boolean canBeUsedInEqualityOperators() {
+    return false;
+  }
+
+  @Override
+  public boolean supportsOrderedIterations() {
+    return false;
+  }
+
+  /**
+   * Finds records which points are located inside of the rectangle or which bounding boxes
+   * intersect the rectangle. Rectangle crosses the antimeridian if minimum longitude is bigger than
+   * maximum one.
+   *
+   * <p>Shapes are compared with precision of the cell of {@link HilbertCurve}, so records which
+   * shapes are located less than {@link #SPATIAL_PRECISION} kilometers outside of the rectangle
+   * may be returned too.
+   */
+  public Collection<RID> getRidsIntersectingBox(
+      DatabaseSessionInternal session,
+      double minLatitude,
+      double minLongitude,
+      double maxLatitude,
+      double maxLongitude) {
+    // bounding box which crosses the antimeridian may intersect both parts of the rectangle
+    final Set<RID> result = new LinkedHashSet<>();
+    for (final double[] box :
+        splitByAntimeridian(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+      for (final RawPair<CompositeKey, RID> entry : getEntriesIntersectingBox(session, box)) {
+        result.add(entry.second);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Finds records which points are located not farther than given distance from the point.
+   *
+   * <p>Points are compared with precision of the cell of {@link HilbertCurve}, so records which
+   * points are located less than {@link #SPATIAL_PRECISION} kilometers farther may be returned
+   * too.
+   *
+   * @param distance distance in kilometers
+   * @return Pairs of the distance in kilometers and record id, in ascending order of distance.
+   */
+  public List<RawPair<Double, RID>> getRidsWithinDistance(
+      DatabaseSessionInternal session, double latitude, double longitude, double distance) {
+    checkPoints();
+    final double searchDistance = distance + SPATIAL_PRECISION;
+
+    final List<RawPair<Double, RID>> result = new ArrayList<>();
+    for (final double[] box : boundingBoxes(latitude, longitude, searchDistance)) {
+      for (final RawPair<CompositeKey, RID> entry : getEntriesIntersectingBox(session, box)) {
+        final long position = (Long) entry.first.getKeys().get(1);
+        final double pointDistance =
+            SQLFunctionDistance.distance(
+                latitude,
+                longitude,
+                HilbertCurve.decodeLatitude(position),
+                HilbertCurve.decodeLongitude(position));
+        if (pointDistance <= searchDistance) {
+          result.add(new RawPair<>(pointDistance, entry.second));
+        }
+      }
+    }
+
+    result.sort(Comparator.comparing(point -> point.first));
+    return result;
+  }
+
+  /**
+   * Finds records which points are the nearest to the given point. Search starts from the small
+   * neighbourhood of the point which is widened till enough records are found.
+   *
+   * @return Pairs of the distance in kilometers and record id, in ascending order of distance.
+   */
+  public List<RawPair<Double, RID>> getNearestRids(
+      DatabaseSessionInternal session, double latitude, double longitude, int limit) {
+    checkPoints();
+    if (limit <= 0) {
+      return new ArrayList<>();
+    }
+
+    double distance = INITIAL_NEAREST_DISTANCE;
+    while (true) {
+      // all points which are not found yet are farther than the distance
+      final List<RawPair<Double, RID>> result =
+          getRidsWithinDistance(session, latitude, longitude, distance);
+      if (result.size() >= limit || distance >= MAX_DISTANCE) {
+        return result.size() > limit ? result.subList(0, limit) : result;
+      }
+
+      distance *= 4;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if index contains bounding boxes, <code>false</code> if it contains
+   * points.
+   */
+  public boolean isBoundingBoxIndex() {
+    return ((SpatialIndexDefinition) getDefinition()).isBoundingBox();
+  }
+
+  private void checkPoints() {
+    if (isBoundingBoxIndex()) {
+      throw new IndexException(
+          "Search by distance is supported only by spatial indexes of points, but index "
+              + getName()
+              + " contains bounding boxes");
+    }
+  }
+
+  private List<RawPair<CompositeKey, RID>> getEntriesIntersectingBox(
+      DatabaseSessionInternal session, double[] box) {
+    final List<long[]> ranges =
+        HilbertCurve.ranges(box[0], box[1], box[2], box[3], MAX_SPATIAL_RANGES);
+    final boolean boundingBoxes = isBoundingBoxIndex();
+
+    final List<RawPair<CompositeKey, RID>> result = new ArrayList<>();
+    final int maxLevel = boundingBoxes ? HilbertCurve.ORDER : 0;
+    for (int level = 0; level <= maxLevel; level++) {
+      for (final long[] range : blockRanges(ranges, level)) {
+        try (Stream<RawPair<Object, RID>> entries =
+            streamEntriesBetween(
+                session,
+                new CompositeKey(level, range[0]),
+                true,
+                new CompositeKey(level, range[1]),
+                true,
+                true)) {
+          entries.forEach(
+              entry -> {
+                final CompositeKey key = (CompositeKey) entry.first;
+                final long lower = (Long) key.getKeys().get(boundingBoxes ? 2 : 1);
+                final long upper = (Long) key.getKeys().get(boundingBoxes ? 3 : 1);
+                // ranges may contain cells outside of the box
+                if (HilbertCurve.intersects(lower, upper, box[0], box[1], box[2], box[3])) {
+                  result.add(new RawPair<>(key, entry.second));
+                }
+              });
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return Ranges of the first positions of the blocks of given level which intersect passed in
+   * ranges of positions.
+   */
+  private static List<long[]> blockRanges(final List<long[]> ranges, final int level) {
+    if (level == 0) {
+      return ranges;
+    }
+
+    final long blockMask = ~(HilbertCurve.blockSize(level) - 1);
+    final List<long[]> result = new ArrayList<>(ranges.size());
+    for (final long[] range : ranges) {
+      final long from = range[0] & blockMask;
+      final long to = range[1] & blockMask;
+      if (!result.isEmpty() && result.get(result.size() - 1)[1] >= from) {
+        result.get(result.size() - 1)[1] = to;
+      } else {
+        result.add(new long[]{from, to});
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return Rectangles which do not cross the antimeridian and contain all points located not
+   * farther than given distance from the point.
+   */
+  private static List<double[]> boundingBoxes(
+      double latitude, double longitude, double distance) {
+    final double angularDistance = distance / SQLFunctionDistance.EARTH_RADIUS;
+    final double deltaLatitude = Math.toDegrees(angularDistance);
+
+    final double minLatitude = latitude - deltaLatitude;
+    final double maxLatitude = latitude + deltaLatitude;
+    if (minLatitude <= -90 || maxLatitude >= 90) {
+      // pole is inside of the circle
+      return List.of(
+          new double[]{Math.max(minLatitude, -90), -180, Math.min(maxLatitude, 90), 180});
+    }
+
+    final double ratio = Math.sin(angularDistance) / Math.cos(Math.toRadians(latitude));
+    if (ratio >= 1) {
+      return List.of(new double[]{minLatitude, -180, maxLatitude, 180});
+    }
+
+    final double deltaLongitude = Math.toDegrees(Math.asin(ratio));
+    return splitByAntimeridian(
+        minLatitude, longitude - deltaLongitude, maxLatitude, longitude + deltaLongitude);
+  }
+
+  private static List<double[]> splitByAntimeridian(
+      double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+    if (maxLongitude - minLongitude >= 360) {
+      return List.of(new double[]{minLatitude, -180, maxLatitude, 180});
+    }
+
+    if (minLongitude < -180) {
+      minLongitude += 360;
+    }
+    if (maxLongitude > 180) {
+      maxLongitude -= 360;
+    }
+
+    if (minLongitude <= maxLongitude) {
+      return List.of(new double[]{minLatitude, minLongitude, maxLatitude, maxLongitude});
+    }
+
+    return List.of(
+        new double[]{minLatitude, minLongitude, maxLatitude, 180},
+        new double[]{minLatitude, -180, maxLatitude, maxLongitude});
+  }
+}
@@ -19,6 +19,8 @@
  */
 package com.jetbrains.youtrack.db.internal.core.index;
 
+import com.jetbrains.youtrack.db.api.exception.RecordDuplicatedException;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import com.jetbrains.youtrack.db.internal.core.exception.InvalidIndexEngineIdException;
 import com.jetbrains.youtrack.db.api.record.RID;
@@ -28,9 +30,15 @@ import com.jetbrains.youtrack.db.internal.core.storage.Storage;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
 import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChangesPerKey;
 import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChangesPerKey.TransactionIndexEntry;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Index implementation that allows only one value for a key.
+ *
+ * <p>Key of the covering index contains values of the included properties, so uniqueness of such
+ * index is checked for the prefix of the key which consists of the indexed properties only, see
+ * {@link CoveringIndexDefinition}.
  */
 public class IndexUnique extends IndexOneValue {
 
@@ -51,9 +59,50 @@ public class IndexUnique extends IndexOneValue {
       Object key,
       RID rid)
       throws InvalidIndexEngineIdException {
+    if (getDefinition() instanceof CoveringIndexDefinition definition
+        && key instanceof CompositeKey compositeKey) {
+      checkKeyFieldsAreUnique(session, storage, definition, compositeKey, rid);
+    }
+
     storage.validatedPutIndexValue(indexId, key, rid, uniqueValidator);
   }
 
+  /**
+   * Checks that there is no other record with the same values of the indexed properties. Changes
+   * of the transaction are applied to the index under exclusive lock of the index, so entries
+   * found by the prefix lookup can not be changed concurrently.
+   */
+  private void checkKeyFieldsAreUnique(
+      DatabaseSessionInternal session,
+      AbstractPaginatedStorage storage,
+      CoveringIndexDefinition definition,
+      CompositeKey key,
+      RID rid)
+      throws InvalidIndexEngineIdException {
+    final RID identity = rid.isPersistent() ? rid : rid.getRecord().getIdentity();
+    final CompositeKey keyFields =
+        new CompositeKey(key.getKeys().subList(0, definition.getKeyFields().size()));
+
+    final Optional<RawPair<Object, RID>> duplicate;
+    try (Stream<RawPair<Object, RID>> entries =
+        storage.iterateIndexEntriesBetween(
+            session, indexId, keyFields, true, keyFields, true, true, null)) {
+      duplicate = entries.filter(entry -> !entry.second.equals(identity)).findFirst();
+    }
+
+    if (duplicate.isPresent()) {
+      final RID previous = duplicate.get().second;
+      throw new RecordDuplicatedException(
+          String.format(
+              "Cannot index record %s: found duplicated key '%s' in index '%s' previously"
+                  + " assigned to the record %s",
+              identity, keyFields, getName(), previous),
+          getName(),
+          previous,
+          keyFields);
+    }
+  }
+
   @Override
   public boolean canBeUsedInEqualityOperators() {
     return true;
@@ -0,0 +1,117 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.exception.InvalidIndexEngineIdException;
+import com.jetbrains.youtrack.db.internal.core.storage.Storage;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChanges;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChanges.OPERATION;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChangesPerKey;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChangesPerKey.TransactionIndexEntry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index implementation that allows multiple values for the same key and uses
+ * {@link DefaultIndexFactory#HNSW_ALGORITHM} algorithm. Keys are compared by similarity of the
+ * vectors, so index can be used only to find nearest neighbours of the vector, not in equality or
+ * range conditions.
+ */
+public class IndexVector extends IndexNotUnique {
+
+  public IndexVector(IndexMetadata im, final Storage storage) {
+    super(im, storage);
+  }
+
+  @Override
+  public boolean canBeUsedInEqualityOperators() {
+    return false;
+  }
+
+  @Override
+  public boolean supportsOrderedIterations() {
+    return false;
+  }
+
+  /**
+   * Finds approximate nearest neighbours of the query vector. Vectors changed in the current
+   * transaction are compared with the query vector directly and merged with the result of the
+   * search in the index.
+   *
+   * @return Pairs of the distance to the query vector and record id, in ascending order of
+   * distance.
+   */
+  public List<RawPair<Float, RID>> getNearestNeighbours(
+      DatabaseSessionInternal session, Object query, int limit) {
+    if (!(getDefinition() instanceof VectorIndexDefinition definition)) {
+      throw new IndexException("Index " + getName() + " is not a vector index");
+    }
+
+    final VectorKey queryKey = (VectorKey) definition.createValue(session, query);
+    if (queryKey == null || limit <= 0) {
+      return new ArrayList<>();
+    }
+
+    final FrontendTransactionIndexChanges indexChanges =
+        session.getTransaction().getIndexChangesInternal(getName());
+
+    // record ids changed in the transaction are excluded from the result of the index search
+    final Set<RID> changedRids = new HashSet<>();
+    final Map<RID, Float> txNeighbours = new HashMap<>();
+    if (indexChanges != null) {
+      for (final FrontendTransactionIndexChangesPerKey keyChanges :
+          indexChanges.changesPerKey.values()) {
+        final VectorKey key = VectorKey.fromValue(keyChanges.key);
+        for (final TransactionIndexEntry entry : interpretTxKeyChanges(keyChanges)) {
+          final RID rid = entry.getValue().getIdentity();
+          changedRids.add(rid);
+
+          if (entry.getOperation() == OPERATION.PUT) {
+            txNeighbours.put(
+                rid, definition.getSimilarity().distance(queryKey.getVector(), key.getVector()));
+          }
+        }
+      }
+    }
+
+    final List<RawPair<Float, RID>> result = new ArrayList<>();
+    if (indexChanges == null || !indexChanges.cleared) {
+      List<RawPair<Float, RID>> neighbours = null;
+      acquireSharedLock();
+      try {
+        while (neighbours == null) {
+          try {
+            neighbours =
+                storage.getIndexNearestNeighbours(indexId, queryKey, limit + changedRids.size());
+          } catch (InvalidIndexEngineIdException ignore) {
+            doReloadIndexEngine();
+          }
+        }
+      } finally {
+        releaseSharedLock();
+      }
+
+      for (final RawPair<Float, RID> neighbour : neighbours) {
+        if (!changedRids.contains(neighbour.second)) {
+          result.add(neighbour);
+        }
+      }
+    }
+
+    if (txNeighbours.isEmpty()) {
+      return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    for (final Map.Entry<RID, Float> txNeighbour : txNeighbours.entrySet()) {
+      result.add(new RawPair<>(txNeighbour.getValue(), txNeighbour.getKey()));
+    }
+    result.sort(Comparator.comparing(neighbour -> neighbour.first));
+    return result.size() > limit ? result.subList(0, limit) : result;
+  }
+}
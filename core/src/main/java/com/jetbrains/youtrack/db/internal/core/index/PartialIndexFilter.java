@@ -0,0 +1,107 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.internal.core.command.BasicCommandContext;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.metadata.security.SecurityShared;
+import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
+import com.jetbrains.youtrack.db.internal.core.sql.SQLEngine;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLAndBlock;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLBooleanExpression;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLOrBlock;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Predicate of the partial index. Partial index contains only records of the class which match the
+ * predicate, so it is smaller and cheaper to maintain than the index of all records if queries are
+ * interested only in a small part of them.
+ *
+ * <p>Predicate is defined by the <code>WHERE</code> clause of the <code>CREATE INDEX</code>
+ * statement and is stored in the {@link #WHERE} item of the index metadata as SQL condition, for
+ * example <code>status = 'open'</code>.
+ */
+public final class PartialIndexFilter {
+
+  /**
+   * Name of the index metadata item which contains predicate of the partial index.
+   */
+  public static final String WHERE = "where";
+
+  private final String predicate;
+  private final SQLOrBlock condition;
+  private final List<SQLAndBlock> flattenedCondition;
+
+  private PartialIndexFilter(final String predicate) {
+    this.predicate = predicate;
+    this.condition = SQLEngine.parsePredicate(predicate);
+    this.flattenedCondition = condition.flatten();
+  }
+
+  /**
+   * @return Predicate of the partial index or <code>null</code> if index contains all records.
+   */
+  public static PartialIndexFilter fromMetadata(final Map<String, ?> metadata) {
+    if (metadata == null) {
+      return null;
+    }
+
+    final Object predicate = metadata.get(WHERE);
+    if (predicate == null) {
+      return null;
+    }
+
+    try {
+      return new PartialIndexFilter(predicate.toString());
+    } catch (RuntimeException e) {
+      throw new IndexException("Invalid predicate of the partial index: " + predicate);
+    }
+  }
+
+  public String getPredicate() {
+    return predicate;
+  }
+
+  /**
+   * @return <code>true</code> if current state of the entity matches the predicate.
+   */
+  public boolean matches(final DatabaseSessionInternal session, final EntityImpl entity) {
+    final BasicCommandContext ctx = new BasicCommandContext();
+    ctx.setDatabase(session);
+    return condition.evaluate(entity, ctx);
+  }
+
+  /**
+   * @return <code>true</code> if state of the entity before the changes of the current transaction
+   * matches the predicate.
+   */
+  public boolean matchedBefore(final DatabaseSessionInternal session, final EntityImpl entity) {
+    if (entity.getDirtyFields().length == 0) {
+      return matches(session, entity);
+    }
+
+    final BasicCommandContext ctx = new BasicCommandContext();
+    ctx.setDatabase(session);
+    return condition.evaluate(SecurityShared.calculateBefore(entity, session), ctx);
+  }
+
+  /**
+   * Checks if every record which matches the query condition also matches the predicate of the
+   * index, so the index may be used to answer the query. Check is conservative: predicate is
+   * implied only if each of its OR branches is a subset of the conditions of the query.
+   */
+  public boolean isImpliedBy(final SQLAndBlock queryCondition) {
+    final List<SQLBooleanExpression> queryConditions = queryCondition.getSubBlocks();
+    for (final SQLAndBlock branch : flattenedCondition) {
+      if (queryConditions.containsAll(branch.getSubBlocks())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return predicate;
+  }
+}
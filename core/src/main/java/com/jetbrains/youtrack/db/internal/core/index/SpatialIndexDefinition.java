@@ -0,0 +1,216 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.core.collate.DefaultCollate;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
+import com.jetbrains.youtrack.db.internal.core.sql.CommandExecutorSQLCreateIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Definition of the index which indexes either points, defined by the pair of latitude and
+ * longitude properties, or bounding boxes, defined by minimum latitude, minimum longitude, maximum
+ * latitude and maximum longitude properties, by their positions on the {@link HilbertCurve}, so
+ * shapes which are close to each other are stored close to each other in the index. Used by
+ * indexes of {@link DefaultIndexFactory#SPATIAL_ALGORITHM} algorithm.
+ *
+ * <p>Key of the index contains the value per property: level and the first position of the
+ * smallest block of the curve which contains the shape and, for bounding boxes, positions of the
+ * cells of their lower and upper corners. Points are always contained in the block of level 0.
+ *
+ * <p>Coordinates are expected in degrees, records without any of the coordinates are not indexed.
+ * Bounding box crosses the antimeridian if its minimum longitude is bigger than maximum one.
+ */
+public class SpatialIndexDefinition extends CompositeIndexDefinition {
+
+  private static final DefaultCollate COLLATE = new DefaultCollate();
+
+  public SpatialIndexDefinition() {
+  }
+
+  public SpatialIndexDefinition(
+      final String className, final List<? extends IndexDefinition> indexDefinitions) {
+    super(className, indexDefinitions);
+  }
+
+  /**
+   * Creates definition of the spatial index on the latitude and longitude properties which are
+   * indexed by the passed in definition.
+   */
+  public static SpatialIndexDefinition create(
+      final IndexDefinition keyDefinition, final String indexType) {
+    if (!SchemaClass.INDEX_TYPE.NOTUNIQUE.name().equalsIgnoreCase(indexType)) {
+      throw new IndexException(
+          "Spatial indexes are supported only for " + SchemaClass.INDEX_TYPE.NOTUNIQUE
+              + " indexes");
+    }
+
+    if (!(keyDefinition instanceof CompositeIndexDefinition compositeDefinition)
+        || compositeDefinition.getClassName() == null
+        || (compositeDefinition.getIndexDefinitions().size() != 2
+        && compositeDefinition.getIndexDefinitions().size() != 4)) {
+      throw new IndexException(
+          "Spatial indexes are supported only for pair of latitude and longitude properties or"
+              + " for minimum latitude, minimum longitude, maximum latitude and maximum longitude"
+              + " properties, but found "
+              + keyDefinition);
+    }
+
+    for (final IndexDefinition definition : compositeDefinition.getIndexDefinitions()) {
+      final PropertyType type = definition.getTypes()[0];
+      if (definition instanceof IndexDefinitionMultiValue
+          || (type != PropertyType.DOUBLE && type != PropertyType.FLOAT)) {
+        throw new IndexException(
+            "Coordinates of spatial index should be properties of type "
+                + PropertyType.DOUBLE
+                + " or "
+                + PropertyType.FLOAT
+                + ", but found "
+                + definition);
+      }
+    }
+
+    return new SpatialIndexDefinition(
+        compositeDefinition.getClassName(), compositeDefinition.getIndexDefinitions());
+  }
+
+  /**
+   * @return <code>true</code> if index contains bounding boxes, <code>false</code> if it contains
+   * points.
+   */
+  public boolean isBoundingBox() {
+    return getIndexDefinitions().size() == 4;
+  }
+
+  @Override
+  public Object getDocumentValueToIndex(
+      DatabaseSessionInternal session, final EntityImpl entity) {
+    final List<Object> coordinates = new ArrayList<>(getIndexDefinitions().size());
+    for (final String field : getFields()) {
+      coordinates.add(entity.field(field));
+    }
+    return createValue(session, coordinates);
+  }
+
+  @Override
+  public Object createValue(DatabaseSessionInternal session, final List<?> params) {
+    if (params.size() != getIndexDefinitions().size() || params.contains(null)) {
+      return null;
+    }
+
+    if (!isBoundingBox()) {
+      final long position =
+          HilbertCurve.encode(coordinate(params.get(0), 90), coordinate(params.get(1), 180));
+      return new CompositeKey(0, position);
+    }
+
+    final double minLatitude = coordinate(params.get(0), 90);
+    final double minLongitude = coordinate(params.get(1), 180);
+    final double maxLatitude = coordinate(params.get(2), 90);
+    final double maxLongitude = coordinate(params.get(3), 180);
+    if (minLatitude > maxLatitude) {
+      throw new IndexException(
+          "Minimum latitude "
+              + minLatitude
+              + " of the bounding box indexed by index on class "
+              + getClassName()
+              + " is bigger than maximum latitude "
+              + maxLatitude);
+    }
+
+    // box which crosses the antimeridian is placed into the block which spans all longitudes
+    final boolean crossesAntimeridian = minLongitude > maxLongitude;
+    final long[] block =
+        HilbertCurve.block(
+            minLatitude,
+            crossesAntimeridian ? -180 : minLongitude,
+            maxLatitude,
+            crossesAntimeridian ? 180 : maxLongitude);
+    return new CompositeKey(
+        (int) block[0],
+        block[1],
+        HilbertCurve.encode(minLatitude, minLongitude),
+        HilbertCurve.encode(maxLatitude, maxLongitude));
+  }
+
+  @Override
+  public Object createValue(DatabaseSessionInternal session, final Object... params) {
+    if (params.length == 1 && params[0] instanceof Collection<?> collection) {
+      return createValue(session, new ArrayList<>(collection));
+    }
+
+    return createValue(session, Arrays.asList(params));
+  }
+
+  @Override
+  public PropertyType[] getTypes() {
+    if (isBoundingBox()) {
+      return new PropertyType[]{
+          PropertyType.INTEGER, PropertyType.LONG, PropertyType.LONG, PropertyType.LONG};
+    }
+    return new PropertyType[]{PropertyType.INTEGER, PropertyType.LONG};
+  }
+
+  /**
+   * Positions of the shapes are compared as is.
+   */
+  @Override
+  public DefaultCollate getCollate() {
+    return COLLATE;
+  }
+
+  /**
+   * Shapes without coordinates can not be placed on the curve, so they are never indexed.
+   */
+  @Override
+  public boolean isNullValuesIgnored() {
+    return true;
+  }
+
+  @Override
+  public String toCreateIndexDDL(final String indexName, final String indexType, String engine) {
+    final StringBuilder ddl = new StringBuilder("create index ");
+    ddl.append('`').append(indexName).append('`').append(" on ").append(getClassName())
+        .append(" ( `")
+        .append(String.join("`, `", getFields()))
+        .append("` ) ")
+        .append(indexType);
+
+    if (engine != null) {
+      ddl.append(' ').append(CommandExecutorSQLCreateIndex.KEYWORD_ENGINE + " ").append(engine);
+    }
+
+    return ddl.toString();
+  }
+
+  @Override
+  public String toString() {
+    return "SpatialIndexDefinition{" + "definition=" + super.toString() + '}';
+  }
+
+  private double coordinate(final Object value, final double bound) {
+    if (!(value instanceof Number number)) {
+      throw new IndexException("Coordinates of the shape should be numbers, but found: " + value);
+    }
+
+    final double coordinate = number.doubleValue();
+    if (!(coordinate >= -bound && coordinate <= bound)) {
+      throw new IndexException(
+          "Coordinate "
+              + coordinate
+              + " of the shape indexed by index on class "
+              + getClassName()
+              + " is out of range ["
+              + -bound
+              + ", "
+              + bound
+              + "]");
+    }
+
+    return coordinate;
+  }
+}
@@ -0,0 +1,202 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Definition of the index which indexes the whole embedded list of numbers as a single vector, in
+ * contrast to {@link PropertyListIndexDefinition} which indexes each item of the list separately.
+ * Used by indexes of {@link DefaultIndexFactory#HNSW_ALGORITHM} algorithm.
+ *
+ * <p>Dimension of the vectors and metric which is used to compare them are listed in
+ * {@link #DIMENSION} and {@link #SIMILARITY} items of the index metadata.
+ */
+public class VectorIndexDefinition extends PropertyIndexDefinition {
+
+  /**
+   * Name of the index metadata item which contains dimension of the indexed vectors.
+   */
+  public static final String DIMENSION = "dimension";
+
+  /**
+   * Name of the index metadata item which contains name of the {@link VectorSimilarity}, cosine
+   * similarity is used by default.
+   */
+  public static final String SIMILARITY = "similarity";
+
+  private int dimension;
+  private VectorSimilarity similarity;
+
+  public VectorIndexDefinition() {
+  }
+
+  public VectorIndexDefinition(
+      final String className,
+      final String field,
+      final int dimension,
+      final VectorSimilarity similarity) {
+    super(className, field, PropertyType.BINARY);
+    this.dimension = dimension;
+    this.similarity = similarity;
+  }
+
+  /**
+   * Creates definition of the vector index on the property which is indexed by the passed in
+   * definition.
+   */
+  public static VectorIndexDefinition create(
+      final IndexDefinition keyDefinition,
+      final String indexType,
+      final Map<String, ?> metadata) {
+    if (!SchemaClass.INDEX_TYPE.NOTUNIQUE.name().equalsIgnoreCase(indexType)) {
+      throw new IndexException(
+          "Vector indexes are supported only for " + SchemaClass.INDEX_TYPE.NOTUNIQUE
+              + " indexes");
+    }
+
+    if (!(keyDefinition instanceof PropertyListIndexDefinition listDefinition)
+        || listDefinition.getClassName() == null) {
+      throw new IndexException(
+          "Vector indexes are supported only for embedded lists of numbers, but found "
+              + keyDefinition);
+    }
+
+    final PropertyType itemType = listDefinition.getTypes()[0];
+    if (itemType != PropertyType.FLOAT && itemType != PropertyType.DOUBLE) {
+      throw new IndexException(
+          "Vector indexes are supported only for embedded lists of "
+              + PropertyType.FLOAT
+              + " or "
+              + PropertyType.DOUBLE
+              + " values, but found list of "
+              + itemType);
+    }
+
+    final Object dimension = metadata.get(DIMENSION);
+    if (!(dimension instanceof Number number) || number.intValue() <= 0) {
+      throw new IndexException(
+          "Positive dimension of vectors should be provided in '" + DIMENSION
+              + "' metadata item");
+    }
+
+    final Object similarity = metadata.get(SIMILARITY);
+    return new VectorIndexDefinition(
+        listDefinition.getClassName(),
+        listDefinition.getFields().get(0),
+        number.intValue(),
+        similarity == null
+            ? VectorSimilarity.COSINE
+            : VectorSimilarity.fromName(similarity.toString()));
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  public VectorSimilarity getSimilarity() {
+    return similarity;
+  }
+
+  @Override
+  public Object createValue(DatabaseSessionInternal session, final List<?> params) {
+    return toKey(params.size() == 1 ? params.get(0) : params);
+  }
+
+  @Override
+  public Object createValue(DatabaseSessionInternal session, final Object... params) {
+    return toKey(params[0]);
+  }
+
+  /**
+   * Vectors without value can not be compared with other vectors, so they are never indexed.
+   */
+  @Override
+  public boolean isNullValuesIgnored() {
+    return true;
+  }
+
+  @Override
+  protected void serializeToStream(EntityImpl entity) {
+    super.serializeToStream(entity);
+    entity.setPropertyInternal(DIMENSION, dimension);
+    entity.setPropertyInternal(SIMILARITY, similarity.name());
+  }
+
+  @Override
+  protected void serializeFromStream(EntityImpl entity) {
+    super.serializeFromStream(entity);
+    dimension = entity.<Integer>field(DIMENSION);
+    similarity = VectorSimilarity.valueOf(entity.field(SIMILARITY));
+  }
+
+  @Override
+  public String toCreateIndexDDL(
+      final String indexName, final String indexType, final String engine) {
+    return createIndexDDLWithoutFieldType(indexName, indexType, engine)
+        .append(" metadata {\"")
+        .append(DIMENSION)
+        .append("\": ")
+        .append(dimension)
+        .append(", \"")
+        .append(SIMILARITY)
+        .append("\": \"")
+        .append(similarity.name())
+        .append("\"}")
+        .toString();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (!super.equals(o)) {
+      return false;
+    }
+
+    final VectorIndexDefinition that = (VectorIndexDefinition) o;
+    return dimension == that.dimension && similarity == that.similarity;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = super.hashCode();
+    result = 31 * result + dimension;
+    result = 31 * result + similarity.hashCode();
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "VectorIndexDefinition{"
+        + "className='"
+        + className
+        + '\''
+        + ", field='"
+        + field
+        + '\''
+        + ", dimension="
+        + dimension
+        + ", similarity="
+        + similarity
+        + '}';
+  }
+
+  private VectorKey toKey(final Object value) {
+    final VectorKey key = VectorKey.fromValue(value);
+    if (key != null && key.dimension() != dimension) {
+      throw new IndexException(
+          "Vector of dimension "
+              + key.dimension()
+              + " can not be indexed by index on property '"
+              + className
+              + "."
+              + field
+              + "' of dimension "
+              + dimension);
+    }
+
+    return key;
+  }
+}
@@ -0,0 +1,112 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Key of the vector index. Vectors are compared lexicographically, order has no meaning for the
+ * similarity search, it is needed only to keep keys in sorted collections of the transaction.
+ */
+public final class VectorKey implements Comparable<VectorKey> {
+
+  private final float[] vector;
+
+  public VectorKey(final float[] vector) {
+    this.vector = vector;
+  }
+
+  /**
+   * Converts value of the indexed property or parameter of the query to the key.
+   *
+   * @return key or <code>null</code> if value is <code>null</code>.
+   */
+  public static VectorKey fromValue(final Object value) {
+    if (value == null) {
+      return null;
+    }
+
+    if (value instanceof VectorKey vectorKey) {
+      return vectorKey;
+    }
+
+    if (value instanceof float[] floats) {
+      return new VectorKey(floats.clone());
+    }
+
+    if (value instanceof double[] doubles) {
+      final float[] vector = new float[doubles.length];
+      for (int i = 0; i < doubles.length; i++) {
+        vector[i] = (float) doubles[i];
+      }
+      return new VectorKey(vector);
+    }
+
+    if (value instanceof List<?> list) {
+      final float[] vector = new float[list.size()];
+      for (int i = 0; i < vector.length; i++) {
+        vector[i] = component(list.get(i));
+      }
+      return new VectorKey(vector);
+    }
+
+    if (value instanceof Object[] array) {
+      final float[] vector = new float[array.length];
+      for (int i = 0; i < vector.length; i++) {
+        vector[i] = component(array[i]);
+      }
+      return new VectorKey(vector);
+    }
+
+    if (value instanceof Number number) {
+      return new VectorKey(new float[]{number.floatValue()});
+    }
+
+    throw new IndexException("Value of type " + value.getClass().getName() + " is not a vector");
+  }
+
+  /**
+   * @return Components of the vector, array should not be modified.
+   */
+  public float[] getVector() {
+    return vector;
+  }
+
+  public int dimension() {
+    return vector.length;
+  }
+
+  @Override
+  public int compareTo(final VectorKey other) {
+    return Arrays.compare(vector, other.vector);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    return Arrays.equals(vector, ((VectorKey) o).vector);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(vector);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(vector);
+  }
+
+  private static float component(final Object value) {
+    if (value instanceof Number number) {
+      return number.floatValue();
+    }
+
+    throw new IndexException("Components of the vector should be numbers, but found: " + value);
+  }
+}
@@ -0,0 +1,133 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+/**
+ * Metrics which are used to compare vectors indexed by the vector index. Each metric is
+ * represented as a distance, so the smaller is the value the more similar are the vectors.
+ *
+ * <p>Kernels work on primitive arrays and accumulate results into several independent sums, so
+ * JIT is able to unroll and vectorize them.
+ */
+public enum VectorSimilarity {
+  /**
+   * Squared Euclidean distance.
+   */
+  L2 {
+    @Override
+    public float distance(final float[] first, final float[] second) {
+      float sum0 = 0;
+      float sum1 = 0;
+      float sum2 = 0;
+      float sum3 = 0;
+
+      final int length = first.length;
+      final int bound = length & ~3;
+      int i = 0;
+      for (; i < bound; i += 4) {
+        final float diff0 = first[i] - second[i];
+        final float diff1 = first[i + 1] - second[i + 1];
+        final float diff2 = first[i + 2] - second[i + 2];
+        final float diff3 = first[i + 3] - second[i + 3];
+
+        sum0 += diff0 * diff0;
+        sum1 += diff1 * diff1;
+        sum2 += diff2 * diff2;
+        sum3 += diff3 * diff3;
+      }
+
+      for (; i < length; i++) {
+        final float diff = first[i] - second[i];
+        sum0 += diff * diff;
+      }
+
+      return (sum0 + sum1) + (sum2 + sum3);
+    }
+  },
+
+  /**
+   * Cosine distance, <code>1 - cos(first, second)</code>.
+   */
+  COSINE {
+    @Override
+    public float distance(final float[] first, final float[] second) {
+      float dot0 = 0;
+      float dot1 = 0;
+      float firstNorm0 = 0;
+      float firstNorm1 = 0;
+      float secondNorm0 = 0;
+      float secondNorm1 = 0;
+
+      final int length = first.length;
+      final int bound = length & ~1;
+      int i = 0;
+      for (; i < bound; i += 2) {
+        final float first0 = first[i];
+        final float first1 = first[i + 1];
+        final float second0 = second[i];
+        final float second1 = second[i + 1];
+
+        dot0 += first0 * second0;
+        dot1 += first1 * second1;
+        firstNorm0 += first0 * first0;
+        firstNorm1 += first1 * first1;
+        secondNorm0 += second0 * second0;
+        secondNorm1 += second1 * second1;
+      }
+
+      for (; i < length; i++) {
+        dot0 += first[i] * second[i];
+        firstNorm0 += first[i] * first[i];
+        secondNorm0 += second[i] * second[i];
+      }
+
+      final float norm = (float) Math.sqrt((firstNorm0 + firstNorm1) * (secondNorm0 + secondNorm1));
+      if (norm == 0) {
+        return 1;
+      }
+
+      return 1 - (dot0 + dot1) / norm;
+    }
+  },
+
+  /**
+   * Negated inner product, the larger is inner product the closer are vectors.
+   */
+  DOT {
+    @Override
+    public float distance(final float[] first, final float[] second) {
+      return -dotProduct(first, second);
+    }
+  };
+
+  public abstract float distance(float[] first, float[] second);
+
+  public static VectorSimilarity fromName(final String name) {
+    try {
+      return valueOf(name.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new IndexException("Unknown vector similarity: " + name);
+    }
+  }
+
+  private static float dotProduct(final float[] first, final float[] second) {
+    float sum0 = 0;
+    float sum1 = 0;
+    float sum2 = 0;
+    float sum3 = 0;
+
+    final int length = first.length;
+    final int bound = length & ~3;
+    int i = 0;
+    for (; i < bound; i += 4) {
+      sum0 += first[i] * second[i];
+      sum1 += first[i + 1] * second[i + 1];
+      sum2 += first[i + 2] * second[i + 2];
+      sum3 += first[i + 3] * second[i + 3];
+    }
+
+    for (; i < length; i++) {
+      sum0 += first[i] * second[i];
+    }
+
+    return (sum0 + sum1) + (sum2 + sum3);
+  }
+}
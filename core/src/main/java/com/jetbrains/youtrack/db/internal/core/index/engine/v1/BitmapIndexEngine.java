@@ -0,0 +1,241 @@
+package com.jetbrains.youtrack.db.internal.core.index.engine.v1;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.config.IndexEngineData;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.index.CompositeKey;
+import com.jetbrains.youtrack.db.internal.core.index.IndexException;
+import com.jetbrains.youtrack.db.internal.core.index.IndexMetadata;
+import com.jetbrains.youtrack.db.internal.core.index.engine.IndexEngineValuesTransformer;
+import com.jetbrains.youtrack.db.internal.core.index.engine.MultiValueIndexEngine;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
+import com.jetbrains.youtrack.db.internal.core.storage.index.bitmap.BitmapIndex;
+import com.jetbrains.youtrack.db.internal.core.storage.index.bitmap.RidBitmap;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+/**
+ * Engine of the not unique index which stores record ids of each key as compressed bitmap, see
+ * {@link BitmapIndex}. Engine is intended for the properties with low cardinality, bitmaps of
+ * several keys can be combined by the query engine without fetching of the records.
+ */
+public final class BitmapIndexEngine implements MultiValueIndexEngine {
+
+  public static final int VERSION = 1;
+
+  private final BitmapIndex bitmapIndex;
+
+  private final String name;
+  private final int id;
+
+  public BitmapIndexEngine(
+      final int id,
+      @Nonnull final String name,
+      final AbstractPaginatedStorage storage,
+      final int version) {
+    if (version != VERSION) {
+      throw new IllegalStateException("Invalid version of bitmap index " + version);
+    }
+
+    this.id = id;
+    this.name = name;
+    this.bitmapIndex = new BitmapIndex(name, storage);
+  }
+
+  @Override
+  public int getId() {
+    return id;
+  }
+
+  @Override
+  public void init(final IndexMetadata metadata) {
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void create(final AtomicOperation atomicOperation, final IndexEngineData data) {
+    if (data.getKeyTypes() == null) {
+      throw new IndexException("Types of fields should be provided upon of creation of index");
+    }
+
+    bitmapIndex.create(atomicOperation, data.getKeyTypes(), data.getKeySize());
+  }
+
+  @Override
+  public void load(final IndexEngineData data) {
+    bitmapIndex.load(data.getKeyTypes(), data.getKeySize());
+  }
+
+  @Override
+  public void delete(final AtomicOperation atomicOperation) {
+    bitmapIndex.delete(atomicOperation);
+  }
+
+  @Override
+  public void clear(final AtomicOperation atomicOperation) {
+    try (final Stream<RawPair<Object, RID>> stream =
+        Stream.concat(
+            bitmapIndex.expand(bitmapIndex.directoryEntries()),
+            bitmapIndex.expand(bitmapIndex.nullDirectoryEntries()))) {
+      stream.forEach(entry -> bitmapIndex.remove(atomicOperation, entry.first, entry.second));
+    }
+  }
+
+  @Override
+  public void close() {
+    bitmapIndex.close();
+  }
+
+  @Override
+  public void put(final AtomicOperation atomicOperation, final Object key, final RID value) {
+    bitmapIndex.put(atomicOperation, key, value);
+  }
+
+  @Override
+  public boolean remove(final AtomicOperation atomicOperation, final Object key, final RID value) {
+    return bitmapIndex.remove(atomicOperation, key, value);
+  }
+
+  @Override
+  public Stream<RID> get(final Object key) {
+    return bitmapIndex.get(key);
+  }
+
+  /**
+   * @return Record ids of the key as a bitmap which is owned by the caller.
+   */
+  public RidBitmap getBitmap(final Object key) {
+    return bitmapIndex.getBitmap(key);
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> stream(
+      final IndexEngineValuesTransformer valuesTransformer) {
+    return bitmapIndex.expand(bitmapIndex.directoryEntries());
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> descStream(
+      final IndexEngineValuesTransformer valuesTransformer) {
+    final CompositeKey lastKey = bitmapIndex.lastDirectoryKey();
+    if (lastKey == null) {
+      return Stream.empty();
+    }
+
+    return bitmapIndex.expand(bitmapIndex.iterateDirectoryMinor(lastKey, true, false));
+  }
+
+  @Override
+  public Stream<Object> keyStream() {
+    //noinspection resource
+    return bitmapIndex
+        .expand(bitmapIndex.directoryEntries())
+        .map(entry -> entry.first)
+        .distinct();
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> iterateEntriesBetween(
+      final DatabaseSessionInternal session,
+      final Object rangeFrom,
+      final boolean fromInclusive,
+      final Object rangeTo,
+      final boolean toInclusive,
+      final boolean ascSortOrder,
+      final IndexEngineValuesTransformer transformer) {
+    if (rangeFrom == null && rangeTo == null) {
+      return bitmapIndex.expand(bitmapIndex.directoryEntries());
+    }
+
+    if (rangeFrom == null) {
+      return iterateEntriesMinor(rangeTo, toInclusive, ascSortOrder, transformer);
+    }
+
+    if (rangeTo == null) {
+      return iterateEntriesMajor(rangeFrom, fromInclusive, ascSortOrder, transformer);
+    }
+
+    return bitmapIndex.expand(
+        bitmapIndex.iterateDirectoryBetween(
+            new CompositeKey(rangeFrom),
+            fromInclusive,
+            new CompositeKey(rangeTo),
+            toInclusive,
+            ascSortOrder));
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> iterateEntriesMajor(
+      final Object fromKey,
+      final boolean isInclusive,
+      final boolean ascSortOrder,
+      final IndexEngineValuesTransformer transformer) {
+    return bitmapIndex.expand(
+        bitmapIndex.iterateDirectoryMajor(new CompositeKey(fromKey), isInclusive, ascSortOrder));
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> iterateEntriesMinor(
+      final Object toKey,
+      final boolean isInclusive,
+      final boolean ascSortOrder,
+      final IndexEngineValuesTransformer transformer) {
+    return bitmapIndex.expand(
+        bitmapIndex.iterateDirectoryMinor(new CompositeKey(toKey), isInclusive, ascSortOrder));
+  }
+
+  @Override
+  public long size(final IndexEngineValuesTransformer transformer) {
+    if (transformer == null) {
+      // amount of keys
+      try (final Stream<Object> keys = keyStream()) {
+        long size = keys.count();
+        try (final Stream<RawPair<Object, RID>> nullEntries =
+            bitmapIndex.expand(bitmapIndex.nullDirectoryEntries())) {
+          if (nullEntries.findAny().isPresent()) {
+            size++;
+          }
+        }
+        return size;
+      }
+    }
+
+    return bitmapIndex.size();
+  }
+
+  @Override
+  public boolean hasRangeQuerySupport() {
+    return true;
+  }
+
+  @Override
+  public boolean acquireAtomicExclusiveLock(final Object key) {
+    bitmapIndex.acquireAtomicExclusiveLock();
+    return true;
+  }
+
+  @Override
+  public String getIndexNameByKey(final Object key) {
+    return name;
+  }
+
+  @Override
+  public void updateUniqueIndexVersion(final Object key) {
+    // not implemented
+  }
+
+  @Override
+  public int getUniqueIndexVersion(final Object key) {
+    return 0; // not implemented
+  }
+}
@@ -20,11 +20,33 @@ import com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue.
 import com.jetbrains.youtrack.db.internal.core.storage.index.versionmap.VersionPositionMap;
 import com.jetbrains.youtrack.db.internal.core.storage.index.versionmap.VersionPositionMapV0;
 import java.io.IOException;
+import java.util.Map;
 import java.util.stream.Stream;
 
 public final class CellBTreeSingleValueIndexEngine
     implements SingleValueIndexEngine, CellBTreeIndexEngine {
 
+  /**
+   * Parameter of the index metadata which enables Bloom filter of the index keys. Filter allows to
+   * skip search of the absent keys in the tree, it is kept in direct memory and is built from the
+   * index keys when index is opened.
+   */
+  public static final String BLOOM_FILTER = "bloomFilter";
+
+  /**
+   * Parameter of the index metadata which contains expected amount of the keys of the index, used
+   * to size Bloom filter.
+   */
+  public static final String BLOOM_FILTER_CAPACITY = "bloomFilterCapacity";
+
+  /**
+   * Parameter of the index metadata which contains amount of bits of Bloom filter per key.
+   */
+  public static final String BLOOM_FILTER_BITS_PER_KEY = "bloomFilterBitsPerKey";
+
+  private static final long DEFAULT_BLOOM_FILTER_CAPACITY = 1 << 20;
+  private static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+
   private static final String DATA_FILE_EXTENSION = ".cbt";
   private static final String NULL_BUCKET_FILE_EXTENSION = ".nbt";
 
@@ -63,6 +85,34 @@ public final class CellBTreeSingleValueIndexEngine
 
   @Override
   public void init(IndexMetadata metadata) {
+    final Map<String, ?> parameters = metadata.getMetadata();
+    if (parameters == null || !Boolean.parseBoolean(String.valueOf(parameters.get(BLOOM_FILTER)))) {
+      return;
+    }
+
+    sbTree.enableBloomFilter(
+        parameter(parameters, BLOOM_FILTER_CAPACITY, DEFAULT_BLOOM_FILTER_CAPACITY),
+        (int) parameter(parameters, BLOOM_FILTER_BITS_PER_KEY, DEFAULT_BLOOM_FILTER_BITS_PER_KEY));
+  }
+
+  private long parameter(
+      final Map<String, ?> parameters, final String parameter, final long defaultValue) {
+    final Object value = parameters.get(parameter);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    if (!(value instanceof Number number) || number.longValue() <= 0) {
+      throw new IndexException(
+          "Parameter "
+              + parameter
+              + " of index "
+              + name
+              + " should be a positive number, but found "
+              + value);
+    }
+
+    return number.longValue();
   }
 
   @Override
@@ -0,0 +1,278 @@
+package com.jetbrains.youtrack.db.internal.core.index.engine.v1;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.config.IndexEngineData;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.index.IndexException;
+import com.jetbrains.youtrack.db.internal.core.index.IndexMetadata;
+import com.jetbrains.youtrack.db.internal.core.index.VectorIndexDefinition;
+import com.jetbrains.youtrack.db.internal.core.index.VectorKey;
+import com.jetbrains.youtrack.db.internal.core.index.engine.IndexEngineValuesTransformer;
+import com.jetbrains.youtrack.db.internal.core.index.engine.MultiValueIndexEngine;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
+import com.jetbrains.youtrack.db.internal.core.storage.index.hnsw.HnswIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+/**
+ * Engine of the vector index which finds approximate nearest neighbours of the vectors using
+ * hierarchical navigable small world graph, see {@link HnswIndex}. Keys of the index are
+ * {@link VectorKey} instances, order of the keys has no meaning, so range queries are not
+ * supported.
+ *
+ * <p>Parameters of the graph are read from the index metadata: {@link #MAX_CONNECTIONS},
+ * {@link #EF_CONSTRUCTION} and {@link #EF_SEARCH}.
+ */
+public final class HnswIndexEngine implements MultiValueIndexEngine {
+
+  public static final int VERSION = 1;
+
+  /**
+   * Maximum amount of neighbours of the node of the graph, the higher is value the better is
+   * recall and the bigger is index.
+   */
+  public static final String MAX_CONNECTIONS = "m";
+
+  /**
+   * Amount of the candidates which are considered during insertion of the vector.
+   */
+  public static final String EF_CONSTRUCTION = "efConstruction";
+
+  /**
+   * Minimum amount of the candidates which are considered during the search.
+   */
+  public static final String EF_SEARCH = "efSearch";
+
+  private static final int DEFAULT_MAX_CONNECTIONS = 16;
+  private static final int DEFAULT_EF_CONSTRUCTION = 200;
+  private static final int DEFAULT_EF_SEARCH = 64;
+
+  private final HnswIndex hnswIndex;
+
+  private final String name;
+  private final int id;
+
+  private volatile int efSearch = DEFAULT_EF_SEARCH;
+
+  public HnswIndexEngine(
+      final int id,
+      @Nonnull final String name,
+      final AbstractPaginatedStorage storage,
+      final int version) {
+    if (version != VERSION) {
+      throw new IllegalStateException("Invalid version of HNSW index " + version);
+    }
+
+    this.id = id;
+    this.name = name;
+    this.hnswIndex = new HnswIndex(name, storage);
+  }
+
+  @Override
+  public int getId() {
+    return id;
+  }
+
+  @Override
+  public void init(final IndexMetadata metadata) {
+    if (!(metadata.getIndexDefinition() instanceof VectorIndexDefinition definition)) {
+      throw new IndexException(
+          "HNSW index " + name + " requires definition of the vector index, but found "
+              + metadata.getIndexDefinition());
+    }
+
+    final Map<String, ?> parameters = metadata.getMetadata();
+    hnswIndex.configure(
+        definition.getDimension(),
+        definition.getSimilarity(),
+        parameter(parameters, MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS),
+        parameter(parameters, EF_CONSTRUCTION, DEFAULT_EF_CONSTRUCTION));
+    efSearch = parameter(parameters, EF_SEARCH, DEFAULT_EF_SEARCH);
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void create(final AtomicOperation atomicOperation, final IndexEngineData data) {
+    hnswIndex.create(atomicOperation);
+  }
+
+  @Override
+  public void load(final IndexEngineData data) {
+    hnswIndex.load();
+  }
+
+  @Override
+  public void delete(final AtomicOperation atomicOperation) {
+    hnswIndex.delete(atomicOperation);
+  }
+
+  @Override
+  public void clear(final AtomicOperation atomicOperation) {
+    hnswIndex.clear(atomicOperation);
+  }
+
+  @Override
+  public void close() {
+    hnswIndex.close();
+  }
+
+  @Override
+  public void put(final AtomicOperation atomicOperation, final Object key, final RID value) {
+    hnswIndex.put(atomicOperation, vector(key), value);
+  }
+
+  @Override
+  public boolean remove(final AtomicOperation atomicOperation, final Object key, final RID value) {
+    return hnswIndex.remove(atomicOperation, vector(key), value);
+  }
+
+  @Override
+  public Stream<RID> get(final Object key) {
+    final VectorKey vectorKey = VectorKey.fromValue(key);
+    if (vectorKey == null) {
+      return Stream.empty();
+    }
+
+    //noinspection resource
+    return stream(null)
+        .filter(entry -> vectorKey.equals(entry.first))
+        .map(entry -> entry.second);
+  }
+
+  /**
+   * @return Pairs of the distance to the query vector and record id of approximate nearest
+   * neighbours of the query vector, in ascending order of distance.
+   */
+  public List<RawPair<Float, RID>> getNearestNeighbours(final VectorKey query, final int limit) {
+    return hnswIndex.search(query.getVector(), limit, efSearch);
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> stream(
+      final IndexEngineValuesTransformer valuesTransformer) {
+    //noinspection resource
+    return hnswIndex
+        .entries()
+        .map(entry -> new RawPair<>(new VectorKey(entry.first), entry.second));
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> descStream(
+      final IndexEngineValuesTransformer valuesTransformer) {
+    // order of the vectors has no meaning
+    return stream(valuesTransformer);
+  }
+
+  @Override
+  public Stream<Object> keyStream() {
+    //noinspection resource
+    return stream(null).map(entry -> entry.first).distinct();
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> iterateEntriesBetween(
+      final DatabaseSessionInternal session,
+      final Object rangeFrom,
+      final boolean fromInclusive,
+      final Object rangeTo,
+      final boolean toInclusive,
+      final boolean ascSortOrder,
+      final IndexEngineValuesTransformer transformer) {
+    throw new UnsupportedOperationException("Range queries are not supported by HNSW index");
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> iterateEntriesMajor(
+      final Object fromKey,
+      final boolean isInclusive,
+      final boolean ascSortOrder,
+      final IndexEngineValuesTransformer transformer) {
+    throw new UnsupportedOperationException("Range queries are not supported by HNSW index");
+  }
+
+  @Override
+  public Stream<RawPair<Object, RID>> iterateEntriesMinor(
+      final Object toKey,
+      final boolean isInclusive,
+      final boolean ascSortOrder,
+      final IndexEngineValuesTransformer transformer) {
+    throw new UnsupportedOperationException("Range queries are not supported by HNSW index");
+  }
+
+  @Override
+  public long size(final IndexEngineValuesTransformer transformer) {
+    if (transformer == null) {
+      // amount of keys
+      try (final Stream<Object> keys = keyStream()) {
+        return keys.count();
+      }
+    }
+
+    return hnswIndex.size();
+  }
+
+  @Override
+  public boolean hasRangeQuerySupport() {
+    return false;
+  }
+
+  @Override
+  public boolean acquireAtomicExclusiveLock(final Object key) {
+    hnswIndex.acquireAtomicExclusiveLock();
+    return true;
+  }
+
+  @Override
+  public String getIndexNameByKey(final Object key) {
+    return name;
+  }
+
+  @Override
+  public void updateUniqueIndexVersion(final Object key) {
+    // not implemented
+  }
+
+  @Override
+  public int getUniqueIndexVersion(final Object key) {
+    return 0; // not implemented
+  }
+
+  private static float[] vector(final Object key) {
+    final VectorKey vectorKey = VectorKey.fromValue(key);
+    if (vectorKey == null) {
+      throw new IndexException("Null values can not be indexed by HNSW index");
+    }
+
+    return vectorKey.getVector();
+  }
+
+  private static int parameter(
+      final Map<String, ?> parameters, final String name, final int defaultValue) {
+    if (parameters == null) {
+      return defaultValue;
+    }
+
+    final Object value = parameters.get(name);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    if (!(value instanceof Number number) || number.intValue() <= 0) {
+      throw new IndexException(
+          "Parameter '" + name + "' of HNSW index should be positive number, but found " + value);
+    }
+    return number.intValue();
+  }
+}
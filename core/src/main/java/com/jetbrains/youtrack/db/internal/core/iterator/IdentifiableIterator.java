@@ -37,6 +37,7 @@ import com.jetbrains.youtrack.db.internal.core.metadata.security.Role;
 import com.jetbrains.youtrack.db.internal.core.metadata.security.Rule;
 import com.jetbrains.youtrack.db.internal.core.storage.PhysicalPosition;
 import com.jetbrains.youtrack.db.internal.core.storage.Storage;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.PageAccessIntent;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -61,6 +62,7 @@ public abstract class IdentifiableIterator<REC extends Identifiable>
   protected int currentTxEntryPosition = -1;
   protected long firstClusterEntry = 0;
   protected long lastClusterEntry = Long.MAX_VALUE;
+  protected PageAccessIntent pageAccessIntent = PageAccessIntent.NORMAL;
   // REUSE IT
   private Boolean directionForward;
   private long currentEntry = RID.CLUSTER_POS_INVALID;
@@ -164,6 +166,21 @@ public abstract class IdentifiableIterator<REC extends Identifiable>
     return this;
   }
 
+  public PageAccessIntent getPageAccessIntent() {
+    return pageAccessIntent;
+  }
+
+  /**
+   * Tells to the iterator how pages read during browsing are going to be accessed. Full scans, like
+   * export or index rebuild, should use {@link PageAccessIntent#SEQUENTIAL}, so pages of the
+   * browsed cluster do not evict the working set of other operations from the disk cache. Default
+   * is {@link PageAccessIntent#NORMAL}.
+   */
+  public IdentifiableIterator<REC> setPageAccessIntent(final PageAccessIntent pageAccessIntent) {
+    this.pageAccessIntent = pageAccessIntent;
+    return this;
+  }
+
   protected DBRecord getTransactionEntry() {
     boolean noPhysicalRecordToBrowse;
 
@@ -207,6 +224,15 @@ public abstract class IdentifiableIterator<REC extends Identifiable>
    * @return record which was read from db.
    */
   protected DBRecord readCurrentRecord(final int movement) {
+    final PageAccessIntent previousIntent = PageAccessIntent.set(pageAccessIntent);
+    try {
+      return doReadCurrentRecord(movement);
+    } finally {
+      PageAccessIntent.set(previousIntent);
+    }
+  }
+
+  private DBRecord doReadCurrentRecord(final int movement) {
     // LIMIT REACHED
     if (limit > -1 && browsedRecords >= limit) {
       return null;
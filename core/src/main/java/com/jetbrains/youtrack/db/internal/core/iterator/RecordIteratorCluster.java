@@ -24,6 +24,7 @@ import com.jetbrains.youtrack.db.api.record.RID;
 import com.jetbrains.youtrack.db.internal.common.log.LogManager;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import com.jetbrains.youtrack.db.internal.core.db.record.RecordOperation;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.PageAccessIntent;
 import java.util.Iterator;
 
 /**
@@ -319,6 +320,12 @@ public class RecordIteratorCluster<REC extends DBRecord> extends IdentifiableIte
     return this;
   }
 
+  @Override
+  public RecordIteratorCluster<REC> setPageAccessIntent(final PageAccessIntent pageAccessIntent) {
+    super.setPageAccessIntent(pageAccessIntent);
+    return this;
+  }
+
   private void updateRangesOnLiveUpdate() {
     if (liveUpdated) {
       final long[] range = database.getClusterDataRange(current.getClusterId());
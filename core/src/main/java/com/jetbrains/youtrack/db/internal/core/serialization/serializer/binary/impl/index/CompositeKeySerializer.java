@@ -148,6 +148,55 @@ public class CompositeKeySerializer implements BinarySerializer<CompositeKey> {
     return IntegerSerializer.INSTANCE.deserializeLiteral(stream, startPosition);
   }
 
+  /**
+   * @return <code>true</code> if key of the index can be serialized by
+   * {@link #serializeIndexKey(Object)}, so each not <code>null</code> part of the key has serializer
+   * which is detected by its class.
+   */
+  public static boolean isIndexKeySerializable(final Object key) {
+    final List<?> keys = key instanceof CompositeKey compositeKey
+        ? compositeKey.getKeys() : List.of(key);
+    final BinarySerializerFactory factory = BinarySerializerFactory.getInstance();
+    for (final Object part : keys) {
+      if (part == null) {
+        continue;
+      }
+
+      final PropertyType type = PropertyType.getTypeByClass(part.getClass());
+      if (type == null || factory.getObjectSerializer(type) == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Serializes key of the index which is stored outside of the index, key which is not composite
+   * is serialized as the composite key with single part and is restored back by
+   * {@link #deserializeIndexKey(byte[])}.
+   */
+  public static byte[] serializeIndexKey(final Object key) {
+    final CompositeKey compositeKey;
+    if (key instanceof CompositeKey composite) {
+      compositeKey = composite;
+    } else {
+      compositeKey = new CompositeKey(key);
+    }
+
+    final byte[] stream = new byte[1 + INSTANCE.getObjectSize(compositeKey)];
+    stream[0] = (byte) (key instanceof CompositeKey ? 1 : 0);
+    INSTANCE.serialize(compositeKey, stream, 1);
+    return stream;
+  }
+
+  public static Object deserializeIndexKey(final byte[] stream) {
+    final CompositeKey compositeKey = INSTANCE.deserialize(stream, 1);
+    if (stream[0] == 1) {
+      return compositeKey;
+    }
+    return compositeKey.getKeys().get(0);
+  }
+
   public byte getId() {
     return ID;
   }
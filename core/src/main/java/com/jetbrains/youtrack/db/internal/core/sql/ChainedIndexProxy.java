@@ -26,12 +26,14 @@ import com.jetbrains.youtrack.db.api.schema.SchemaClass;
 import com.jetbrains.youtrack.db.internal.common.listener.ProgressListener;
 import com.jetbrains.youtrack.db.internal.common.util.RawPair;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.index.ExpressionIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.Index;
 import com.jetbrains.youtrack.db.internal.core.index.IndexCursor;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.IndexInternal;
 import com.jetbrains.youtrack.db.internal.core.index.IndexKeyCursor;
 import com.jetbrains.youtrack.db.internal.core.index.IndexMetadata;
+import com.jetbrains.youtrack.db.internal.core.index.PartialIndexFilter;
 import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaClassInternal;
 import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
 import com.jetbrains.youtrack.db.internal.core.sql.filter.SQLFilterItemField;
@@ -148,7 +150,9 @@ public class ChainedIndexProxy<T> implements IndexInternal {
     final Collection<Class<? extends Index>> indexTypes = new HashSet<>(3);
 
     for (Index involvedIndex : involvedIndexes) {
-      if (!indexTypes.contains(involvedIndex.getInternal().getClass())) {
+      if (involvedIndex.getInternal().getPartialFilter() == null
+          && !(involvedIndex.getDefinition() instanceof ExpressionIndexDefinition)
+          && !indexTypes.contains(involvedIndex.getInternal().getClass())) {
         result.add(involvedIndex);
         indexTypes.add(involvedIndex.getInternal().getClass());
       }
@@ -196,7 +200,9 @@ public class ChainedIndexProxy<T> implements IndexInternal {
   protected static Index findBestIndex(Iterable<Index> indexes) {
     Index bestIndex = null;
     for (Index index : indexes) {
-      if (priorityOfUsage(index) > priorityOfUsage(bestIndex)) {
+      if (index.getInternal().getPartialFilter() == null
+          && !(index.getDefinition() instanceof ExpressionIndexDefinition)
+          && priorityOfUsage(index) > priorityOfUsage(bestIndex)) {
         bestIndex = index;
       }
     }
@@ -632,6 +638,11 @@ public class ChainedIndexProxy<T> implements IndexInternal {
     throw new UnsupportedOperationException("Not allowed operation");
   }
 
+  @Override
+  public PartialIndexFilter getPartialFilter() {
+    return null;
+  }
+
   public Set<String> getClusters() {
     throw new UnsupportedOperationException("Not allowed operation");
   }
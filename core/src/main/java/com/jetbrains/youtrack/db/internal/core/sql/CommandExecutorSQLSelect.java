@@ -55,6 +55,7 @@ import com.jetbrains.youtrack.db.internal.core.id.ContextualRecordId;
 import com.jetbrains.youtrack.db.internal.core.id.RecordId;
 import com.jetbrains.youtrack.db.internal.core.index.CompositeIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.CompositeKey;
+import com.jetbrains.youtrack.db.internal.core.index.ExpressionIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.Index;
 import com.jetbrains.youtrack.db.internal.core.index.IndexAbstract;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinition;
@@ -2502,7 +2503,9 @@ public class CommandExecutorSQLSelect extends CommandExecutorSQLResultsetAbstrac
     final Set<Index> indexes = iSchemaClass.getInvolvedIndexesInternal(session, fieldNames);
 
     for (Index index : indexes) {
-      if (orderByOptimizer.canBeUsedByOrderBy(index, orderedFields)) {
+      if (index.getInternal().getPartialFilter() == null
+          && !(index.getDefinition() instanceof ExpressionIndexDefinition)
+          && orderByOptimizer.canBeUsedByOrderBy(index, orderedFields)) {
 
         final boolean ascSortOrder = orderedFields.get(0).getValue().equals(KEYWORD_ASC);
 
@@ -23,6 +23,7 @@ package com.jetbrains.youtrack.db.internal.core.sql;
 import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
 import com.jetbrains.youtrack.db.api.DatabaseSession;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.index.ExpressionIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.Index;
 import com.jetbrains.youtrack.db.api.schema.SchemaClass;
 import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaClassInternal;
@@ -59,7 +60,14 @@ public class FilterAnalyzer {
       result.addAll(
           ChainedIndexProxy.createProxies(session, iSchemaClass, searchResultFields.lastField));
     } else {
-      result.addAll(involvedIndexes);
+      // partial indexes do not contain all records of the class, expression indexes do not
+      // contain values of the properties
+      for (final Index index : involvedIndexes) {
+        if (index.getInternal().getPartialFilter() == null
+            && !(index.getDefinition() instanceof ExpressionIndexDefinition)) {
+          result.add(index);
+        }
+      }
     }
 
     return result;
@@ -49,12 +49,14 @@ import com.jetbrains.youtrack.db.internal.core.sql.method.SQLMethodFactory;
 import com.jetbrains.youtrack.db.internal.core.sql.operator.QueryOperator;
 import com.jetbrains.youtrack.db.internal.core.sql.operator.QueryOperatorFactory;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.ParseException;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLOrBlock;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLSecurityResourceSegment;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLServerStatement;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLStatement;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.StatementCache;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.YouTrackDBSql;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.YouTrackDBSqlConstants;
 import com.jetbrains.youtrack.db.internal.core.sql.query.SQLSynchQuery;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
@@ -113,6 +115,21 @@ public class SQLEngine {
     }
   }
 
+  public static SQLExpression parseExpression(String expression)
+      throws CommandSQLParsingException {
+    final InputStream is = new ByteArrayInputStream(expression.getBytes());
+    try {
+      final YouTrackDBSql osql = new YouTrackDBSql(is);
+      SQLExpression result = osql.Expression();
+      if (osql.getNextToken().kind != YouTrackDBSqlConstants.EOF) {
+        throw new CommandSQLParsingException("Invalid expression: " + expression);
+      }
+      return result;
+    } catch (ParseException e) {
+      throw new CommandSQLParsingException(e, "");
+    }
+  }
+
   public static SQLSecurityResourceSegment parseSecurityResource(String exp) {
     final InputStream is = new ByteArrayInputStream(exp.getBytes());
     try {
@@ -18,6 +18,7 @@ public abstract class AbstractExecutionStep implements ExecutionStepInternal {
   @Nullable
   ExecutionStepInternal next = null;
   protected boolean profilingEnabled;
+  private long rowCount;
 
   public AbstractExecutionStep(CommandContext ctx, boolean profilingEnabled) {
     this.ctx = ctx;
@@ -67,15 +68,23 @@ public abstract class AbstractExecutionStep implements ExecutionStepInternal {
     if (profilingEnabled) {
       ctx.startProfiling(this);
       try {
-        return internalStart(ctx).profile(this);
+        return countRows(internalStart(ctx)).profile(this);
       } finally {
         ctx.endProfiling(this);
       }
     } else {
-      return internalStart(ctx);
+      return countRows(internalStart(ctx));
     }
   }
 
+  private ExecutionStream countRows(ExecutionStream stream) {
+    return stream.map(
+        (result, context) -> {
+          rowCount++;
+          return result;
+        });
+  }
+
   protected abstract ExecutionStream internalStart(CommandContext ctx) throws TimeoutException;
 
   @Override
@@ -88,6 +97,11 @@ public abstract class AbstractExecutionStep implements ExecutionStepInternal {
     }
   }
 
+  @Override
+  public long getRowCount() {
+    return rowCount;
+  }
+
   protected String getCostFormatted() {
     return new DecimalFormat().format(getCost() / 1000) + "μs";
   }
@@ -114,6 +114,7 @@ public class CreateEdgeExecutionPlanner {
       uniqueIndexName =
           clazz.getIndexesInternal(db).stream()
               .filter(Index::isUnique)
+              .filter(x -> x.getInternal().getPartialFilter() == null)
               .filter(
                   x ->
                       x.getDefinition().getFields().size() == 2
@@ -85,6 +85,13 @@ public interface ExecutionStepInternal extends ExecutionStep {
     // do nothing
   }
 
+  /**
+   * @return Amount of rows returned by this step so far, or -1 if rows are not counted.
+   */
+  default long getRowCount() {
+    return -1;
+  }
+
   default Result serialize(DatabaseSessionInternal db) {
     throw new UnsupportedOperationException();
   }
@@ -0,0 +1,197 @@
+package com.jetbrains.youtrack.db.internal.core.sql.executor;
+
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.exception.CommandExecutionException;
+import com.jetbrains.youtrack.db.api.query.ExecutionStep;
+import com.jetbrains.youtrack.db.api.query.Result;
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.concur.TimeoutException;
+import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.index.Index;
+import com.jetbrains.youtrack.db.internal.core.index.IndexBitmap;
+import com.jetbrains.youtrack.db.internal.core.index.IndexStreamSecurityDecorator;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.resultset.ExecutionStream;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
+import com.jetbrains.youtrack.db.internal.core.storage.index.bitmap.RidBitmap;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fetches record ids of the equality conditions on properties indexed by
+ * {@link com.jetbrains.youtrack.db.internal.core.index.DefaultIndexFactory#BITMAP_ALGORITHM}
+ * indexes. Bitmaps of the conditions of each AND block are intersected and results of the blocks
+ * are united, so records are not fetched till the final set of record ids is calculated.
+ *
+ * <p>Step returns results with the <code>rid</code> property, the same as
+ * {@link FetchFromIndexStep}, so records are loaded by {@link GetValueFromIndexEntryStep}.
+ */
+public class FetchFromBitmapIndexesStep extends AbstractExecutionStep {
+
+  private List<List<BitmapLookup>> blocks;
+
+  public FetchFromBitmapIndexesStep(
+      List<List<BitmapLookup>> blocks, CommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.blocks = blocks;
+  }
+
+  @Override
+  public ExecutionStream internalStart(CommandContext ctx) throws TimeoutException {
+    var prev = this.prev;
+    if (prev != null) {
+      prev.start(ctx).close(ctx);
+    }
+
+    var db = ctx.getDatabase();
+    final RidBitmap result = new RidBitmap();
+    final Set<Index> indexes = new LinkedHashSet<>();
+    for (List<BitmapLookup> block : blocks) {
+      RidBitmap blockResult = null;
+      for (BitmapLookup lookup : block) {
+        IndexBitmap index = lookup.getIndex(db);
+        indexes.add(index);
+
+        Object key = lookup.key.execute((Result) null, ctx);
+        key = index.getDefinition().createValue(db, key);
+        RidBitmap bitmap = index.getRidBitmap(db, key);
+        // the same statistics as collected by the lookup of the single key of the index
+        QueryStats.get(db)
+            .pushIndexStats(index.getName(), 1, false, false, bitmap.cardinality());
+
+        blockResult = blockResult == null ? bitmap : blockResult.and(bitmap);
+
+        if (blockResult.isEmpty()) {
+          break;
+        }
+      }
+
+      if (blockResult != null) {
+        result.or(blockResult);
+      }
+    }
+
+    Stream<RID> rids = result.stream();
+    for (Index index : indexes) {
+      rids = IndexStreamSecurityDecorator.decorateRidStream(index, rids);
+    }
+
+    return ExecutionStream.resultIterator(
+            rids.map(rid -> (Result) readResult(ctx, rid)).iterator())
+        .interruptable();
+  }
+
+  private static ResultInternal readResult(CommandContext ctx, RID rid) {
+    ResultInternal result = new ResultInternal(ctx.getDatabase());
+    result.setProperty("rid", rid);
+    ctx.setVariable("$current", result);
+    return result;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String result =
+        ExecutionStepInternal.getIndent(depth, indent)
+            + "+ FETCH FROM BITMAP INDEXES "
+            + blocks.stream()
+            .map(
+                block ->
+                    block.stream().map(BitmapLookup::toString).collect(Collectors.joining(" AND ")))
+            .collect(Collectors.joining(" OR "));
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    return result;
+  }
+
+  @Override
+  public Result serialize(DatabaseSessionInternal db) {
+    ResultInternal result = ExecutionStepInternal.basicSerialize(db, this);
+    List<List<Result>> serializedBlocks = new ArrayList<>();
+    for (List<BitmapLookup> block : blocks) {
+      List<Result> serializedBlock = new ArrayList<>();
+      for (BitmapLookup lookup : block) {
+        ResultInternal serializedLookup = new ResultInternal(db);
+        serializedLookup.setProperty("indexName", lookup.indexName);
+        serializedLookup.setProperty("key", lookup.key.serialize(db));
+        serializedBlock.add(serializedLookup);
+      }
+      serializedBlocks.add(serializedBlock);
+    }
+    result.setProperty("blocks", serializedBlocks);
+    return result;
+  }
+
+  @Override
+  public void deserialize(Result fromResult) {
+    try {
+      ExecutionStepInternal.basicDeserialize(fromResult, this);
+      blocks = new ArrayList<>();
+      List<List<Result>> serializedBlocks = fromResult.getProperty("blocks");
+      for (List<Result> serializedBlock : serializedBlocks) {
+        List<BitmapLookup> block = new ArrayList<>();
+        for (Result serializedLookup : serializedBlock) {
+          SQLExpression key = new SQLExpression(-1);
+          key.deserialize(serializedLookup.getProperty("key"));
+          block.add(new BitmapLookup(serializedLookup.getProperty("indexName"), key));
+        }
+        blocks.add(block);
+      }
+    } catch (Exception e) {
+      throw BaseException.wrapException(new CommandExecutionException(""), e);
+    }
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public ExecutionStep copy(CommandContext ctx) {
+    List<List<BitmapLookup>> blocksCopy = new ArrayList<>();
+    for (List<BitmapLookup> block : blocks) {
+      List<BitmapLookup> blockCopy = new ArrayList<>();
+      for (BitmapLookup lookup : block) {
+        blockCopy.add(new BitmapLookup(lookup.indexName, lookup.key.copy()));
+      }
+      blocksCopy.add(blockCopy);
+    }
+    return new FetchFromBitmapIndexesStep(blocksCopy, ctx, profilingEnabled);
+  }
+
+  /**
+   * Equality condition on the property indexed by bitmap index.
+   */
+  public static final class BitmapLookup {
+
+    private final String indexName;
+    private final SQLExpression key;
+
+    public BitmapLookup(String indexName, SQLExpression key) {
+      this.indexName = indexName;
+      this.key = key;
+    }
+
+    private IndexBitmap getIndex(DatabaseSessionInternal db) {
+      Index index = db.getMetadata().getIndexManagerInternal().getIndex(db, indexName);
+      if (index == null || !(index.getInternal() instanceof IndexBitmap bitmapIndex)) {
+        throw new CommandExecutionException("Bitmap index " + indexName + " is not found");
+      }
+      return bitmapIndex;
+    }
+
+    public String getIndexName() {
+      return indexName;
+    }
+
+    @Override
+    public String toString() {
+      return indexName + " = " + key;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.jetbrains.youtrack.db.internal.core.sql.executor;
 
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
 import com.jetbrains.youtrack.db.api.exception.BaseException;
 import com.jetbrains.youtrack.db.api.exception.CommandExecutionException;
 import com.jetbrains.youtrack.db.api.query.ExecutionStep;
@@ -20,6 +21,8 @@ import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLGtOperator;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLLeOperator;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLLtOperator;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLRid;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.PageAccessIntent;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
 import java.util.Iterator;
 
 /**
@@ -59,6 +62,11 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     RecordIteratorCluster<DBRecord> iterator =
         new RecordIteratorCluster<>(
             ctx.getDatabase(), clusterId, minClusterPosition, maxClusterPosition);
+    // full scans of large clusters read every page once, so they should not evict the working set
+    // of other queries, while small clusters are likely to be scanned again and are cached
+    if (minClusterPosition < 0 && maxClusterPosition < 0 && isLargeCluster(ctx.getDatabase())) {
+      iterator.setPageAccessIntent(PageAccessIntent.SEQUENTIAL);
+    }
     Iterator<DBRecord> iter;
     if (ORDER_DESC.equals(order)) {
       iter = iterator.reversed();
@@ -72,6 +80,17 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     return set;
   }
 
+  private boolean isLargeCluster(final DatabaseSessionInternal db) {
+    if (!(db.getStorage() instanceof AbstractPaginatedStorage storage)) {
+      return false;
+    }
+
+    final int threshold =
+        db.getConfiguration()
+            .getValueAsInteger(GlobalConfiguration.QUERY_SEQUENTIAL_SCAN_THRESHOLD);
+    return storage.isClusterLargeComparedToCache(clusterId, threshold);
+  }
+
   private long calculateMinClusterPosition() {
     if (queryPlanning == null
         || queryPlanning.ridRangeConditions == null
@@ -0,0 +1,119 @@
+package com.jetbrains.youtrack.db.internal.core.sql.executor;
+
+import com.jetbrains.youtrack.db.api.query.ExecutionStep;
+import com.jetbrains.youtrack.db.api.query.Result;
+import com.jetbrains.youtrack.db.api.record.Identifiable;
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.concur.TimeoutException;
+import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.resultset.ExecutionStream;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Builds results directly from the keys of the entries of the covering index, see
+ * {@link com.jetbrains.youtrack.db.internal.core.index.CoveringIndexDefinition}, instead of
+ * loading of the records. Each part of the key becomes the property of the result named by the
+ * indexed property.
+ */
+public class GetValueFromCoveringIndexEntryStep extends AbstractExecutionStep {
+
+  private final List<String> fields;
+  private final IntArrayList filterClusterIds;
+
+  /**
+   * @param ctx              the execution context
+   * @param fields           names of the properties of the index in order of their appearance in
+   *                         the key
+   * @param filterClusterIds only extract values from these clusters. Pass null if no filtering is
+   *                         needed
+   * @param profilingEnabled enable profiling
+   */
+  public GetValueFromCoveringIndexEntryStep(
+      CommandContext ctx,
+      List<String> fields,
+      IntArrayList filterClusterIds,
+      boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.fields = fields;
+    this.filterClusterIds = filterClusterIds;
+  }
+
+  @Override
+  public ExecutionStream internalStart(CommandContext ctx) throws TimeoutException {
+    if (prev == null) {
+      throw new IllegalStateException("filter step requires a previous step");
+    }
+    ExecutionStream resultSet = prev.start(ctx);
+    return resultSet.filter(this::filterMap);
+  }
+
+  private Result filterMap(Result result, CommandContext ctx) {
+    Object finalVal = result.getProperty("rid");
+    if (!(finalVal instanceof Identifiable)) {
+      return null;
+    }
+
+    if (filterClusterIds != null) {
+      RID rid = ((Identifiable) finalVal).getIdentity();
+      boolean found = false;
+      for (int filterClusterId : filterClusterIds) {
+        if (rid.getClusterId() < 0 || filterClusterId == rid.getClusterId()) {
+          found = true;
+          break;
+        }
+      }
+      if (!found) {
+        return null;
+      }
+    }
+
+    Object key = result.getProperty("key");
+    if (!(key instanceof List<?> keys)) {
+      return null;
+    }
+
+    ResultInternal projection = new ResultInternal(ctx.getDatabase());
+    for (int i = 0; i < fields.size() && i < keys.size(); i++) {
+      projection.setProperty(fields.get(i), keys.get(i));
+    }
+    return projection;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = ExecutionStepInternal.getIndent(depth, indent);
+    String result = spaces + "+ EXTRACT PROPERTIES FROM COVERING INDEX ENTRY";
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    result += "\n";
+    result += spaces;
+    result += "  properties [" + String.join(",", fields) + "]";
+    if (filterClusterIds != null) {
+      result += "\n";
+      result += spaces;
+      result += "  filtering clusters [";
+      result +=
+          filterClusterIds
+              .intStream()
+              .boxed()
+              .map(String::valueOf)
+              .collect(Collectors.joining(","));
+      result += "]";
+    }
+    return result;
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public ExecutionStep copy(CommandContext ctx) {
+    return new GetValueFromCoveringIndexEntryStep(
+        ctx, this.fields, this.filterClusterIds, this.profilingEnabled);
+  }
+}
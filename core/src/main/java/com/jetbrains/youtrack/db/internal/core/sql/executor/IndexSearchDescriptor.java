@@ -2,6 +2,7 @@ package com.jetbrains.youtrack.db.internal.core.sql.executor;
 
 import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
 import com.jetbrains.youtrack.db.internal.core.index.CompositeIndexDefinition;
+import com.jetbrains.youtrack.db.internal.core.index.ExpressionIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.Index;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLAndBlock;
@@ -131,7 +132,9 @@ public class IndexSearchDescriptor {
     List<SQLBooleanExpression> conditions = getSubBlocks();
     Index idx = index;
 
-    if (!idx.supportsOrderedIterations()) {
+    if (!idx.supportsOrderedIterations()
+        || idx.getDefinition() instanceof ExpressionIndexDefinition) {
+      // keys of expression index are not ordered as values of the properties
       return false;
     }
     List<String> conditionItems = new ArrayList<>();
@@ -1,6 +1,8 @@
 package com.jetbrains.youtrack.db.internal.core.sql.executor;
 
 import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
+import javax.annotation.Nullable;
 
 public class IndexSearchInfo {
 
@@ -10,6 +12,7 @@ public class IndexSearchInfo {
   private final String field;
   private final CommandContext ctx;
   private final boolean indexByValue;
+  private final SQLExpression expression;
 
   public IndexSearchInfo(
       String indexField,
@@ -18,7 +21,23 @@ public class IndexSearchInfo {
       boolean indexByKey,
       boolean indexByValue,
       CommandContext ctx) {
+    this(indexField, allowsRangeQueries, map, indexByKey, indexByValue, null, ctx);
+  }
+
+  /**
+   * @param expression Expression which is indexed instead of the value of the field or
+   *                   <code>null</code> if value of the field is indexed as is.
+   */
+  public IndexSearchInfo(
+      String indexField,
+      boolean allowsRangeQueries,
+      boolean map,
+      boolean indexByKey,
+      boolean indexByValue,
+      @Nullable SQLExpression expression,
+      CommandContext ctx) {
     this.field = indexField;
+    this.expression = expression;
     this.allowsRangeQueries = allowsRangeQueries;
     this.map = map;
     this.indexByKey = indexByKey;
@@ -49,4 +68,22 @@ public class IndexSearchInfo {
   public boolean isIndexByValue() {
     return indexByValue;
   }
+
+  @Nullable
+  public SQLExpression getExpression() {
+    return expression;
+  }
+
+  /**
+   * @return <code>true</code> if values of the given expression are the keys of the index, that is
+   * either expression is the indexed field or it is structurally equal to the indexed expression.
+   */
+  public boolean isIndexed(SQLExpression expression) {
+    if (this.expression != null) {
+      return this.expression.equals(expression);
+    }
+
+    return expression.isBaseIdentifier()
+        && field.equals(expression.getDefaultAlias().getStringValue());
+  }
 }
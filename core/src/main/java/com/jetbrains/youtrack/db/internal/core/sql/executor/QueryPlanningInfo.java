@@ -59,6 +59,12 @@ public class QueryPlanningInfo {
   protected boolean orderApplied = false;
   protected boolean projectionsCalculated = false;
 
+  /**
+   * True if results are calculated from the entries of the covering index, so they are projections
+   * rather than records.
+   */
+  protected boolean indexOnly = false;
+
   protected SQLAndBlock ridRangeConditions;
 
   public QueryPlanningInfo copy() {
@@ -88,6 +94,7 @@ public class QueryPlanningInfo {
     result.limit = this.limit;
     result.orderApplied = this.orderApplied;
     result.projectionsCalculated = this.projectionsCalculated;
+    result.indexOnly = this.indexOnly;
     result.ridRangeConditions = this.ridRangeConditions;
 
     return result;
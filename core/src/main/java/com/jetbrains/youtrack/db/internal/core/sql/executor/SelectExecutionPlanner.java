@@ -16,12 +16,18 @@ import com.jetbrains.youtrack.db.internal.core.command.BasicCommandContext;
 import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.index.CoveringIndexDefinition;
+import com.jetbrains.youtrack.db.internal.core.index.DefaultIndexFactory;
+import com.jetbrains.youtrack.db.internal.core.index.ExpressionIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.Index;
 import com.jetbrains.youtrack.db.internal.core.index.IndexAbstract;
+import com.jetbrains.youtrack.db.internal.core.index.IndexBitmap;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinition;
+import com.jetbrains.youtrack.db.internal.core.index.PartialIndexFilter;
 import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaClassInternal;
 import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaInternal;
 import com.jetbrains.youtrack.db.internal.core.metadata.security.SecurityInternal;
+import com.jetbrains.youtrack.db.internal.core.metadata.security.SecurityShared;
 import com.jetbrains.youtrack.db.internal.core.sql.CommandExecutorSQLAbstract;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.AggregateProjectionSplit;
 import com.jetbrains.youtrack.db.internal.core.sql.parser.ExecutionPlanCache;
@@ -81,6 +87,12 @@ import java.util.stream.Collectors;
  */
 public class SelectExecutionPlanner {
 
+  /**
+   * Fraction of the records of the class which is assumed to match equality condition on the
+   * property indexed by bitmap index, if statistics of the index is not collected yet.
+   */
+  private static final double DEFAULT_BITMAP_SELECTIVITY = 0.1;
+
   private QueryPlanningInfo info;
   private final SQLSelectStatement statement;
 
@@ -691,6 +703,10 @@ public class SelectExecutionPlanner {
     }
 
     for (Index classIndex : clazz.getClassIndexesInternal(ctx.getDatabase())) {
+      if (classIndex.getInternal().getPartialFilter() != null
+          || classIndex.getDefinition() instanceof ExpressionIndexDefinition) {
+        continue;
+      }
       List<String> fields = classIndex.getDefinition().getFields();
       if (fields.size() == 1
           && fields.get(0).equals(binaryCondition.getLeft().getDefaultAlias().getStringValue())) {
@@ -1949,7 +1965,10 @@ public class SelectExecutionPlanner {
 
     if (handleClassAsTargetWithIndex(
         plan, identifier, filterClusters, info, ctx, profilingEnabled)) {
-      plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
+      // results of the covering index are projections, their clusters are already checked
+      if (!info.indexOnly) {
+        plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
+      }
       return;
     }
 
@@ -2227,6 +2246,8 @@ public class SelectExecutionPlanner {
         clazz.getIndexesInternal(ctx.getDatabase()).stream()
             .filter(i -> i.supportsOrderedIterations())
             .filter(i -> i.getDefinition() != null)
+            .filter(i -> i.getInternal().getPartialFilter() == null)
+            .filter(i -> !(i.getDefinition() instanceof ExpressionIndexDefinition))
             .collect(Collectors.toList())) {
       List<String> indexFields = idx.getDefinition().getFields();
       if (indexFields.size() < info.orderBy.getItems().size()) {
@@ -2430,7 +2451,21 @@ public class SelectExecutionPlanner {
             .map(x -> findBestIndexFor(ctx, indexes, x, c))
             .filter(Objects::nonNull)
             .collect(Collectors.toList());
-    if (indexSearchDescriptors.size() != info.flattenedWhereClause.size()) {
+    boolean indexed = indexSearchDescriptors.size() == info.flattenedWhereClause.size();
+
+    // if some blocks could not be managed with an index, all records of the class are fetched
+    long alternativeCost =
+        indexed
+            ? indexSearchDescriptors.stream().mapToLong(x -> x.cost(ctx)).sum()
+            : clazz.count(ctx.getDatabase());
+    List<ExecutionStepInternal> bitmapSteps =
+        handleClassAsTargetWithBitmapIndexes(
+            clazz, indexes, filterClusters, info, alternativeCost, ctx, profilingEnabled);
+    if (bitmapSteps != null) {
+      return bitmapSteps;
+    }
+
+    if (!indexed) {
       return null; // some blocks could not be managed with an index
     }
 
@@ -2444,6 +2479,179 @@ public class SelectExecutionPlanner {
     return result;
   }
 
+  /**
+   * Creates plan which combines bitmaps of {@link DefaultIndexFactory#BITMAP_ALGORITHM} indexes
+   * instead of fetching of the records of each condition. Plan is created only if every AND block
+   * of the WHERE condition contains at least one equality condition on the property indexed by
+   * bitmap index and more than one bitmap is involved, otherwise regular index lookup is as
+   * efficient. Plan is also not created if its estimated cost is not lower than the cost of the
+   * plan which does not use bitmaps.
+   *
+   * @param alternativeCost estimated number of records fetched by the plan without bitmaps.
+   * @return steps of the plan or <code>null</code> if bitmap indexes can not be used.
+   */
+  private List<ExecutionStepInternal> handleClassAsTargetWithBitmapIndexes(
+      SchemaClassInternal clazz,
+      Set<Index> indexes,
+      Set<String> filterClusters,
+      QueryPlanningInfo info,
+      long alternativeCost,
+      CommandContext ctx,
+      boolean profilingEnabled) {
+    if (info.perRecordLetClause != null || info.whereClause == null) {
+      return null;
+    }
+
+    List<List<FetchFromBitmapIndexesStep.BitmapLookup>> blocks = new ArrayList<>();
+    int lookups = 0;
+    boolean fullyCovered = true;
+    for (SQLAndBlock block : info.flattenedWhereClause) {
+      List<FetchFromBitmapIndexesStep.BitmapLookup> blockLookups = new ArrayList<>();
+      for (SQLBooleanExpression condition : block.getSubBlocks()) {
+        FetchFromBitmapIndexesStep.BitmapLookup lookup =
+            bitmapLookupFor(condition, block, indexes, ctx);
+        if (lookup == null) {
+          fullyCovered = false;
+        } else {
+          blockLookups.add(lookup);
+        }
+      }
+
+      if (blockLookups.isEmpty()) {
+        return null;
+      }
+      lookups += blockLookups.size();
+      blocks.add(blockLookups);
+    }
+
+    if (lookups < 2 || bitmapPlanCost(blocks, clazz, ctx) >= alternativeCost) {
+      return null;
+    }
+
+    IntArrayList filterClusterIds;
+    if (filterClusters != null) {
+      filterClusterIds = classClustersFiltered(ctx.getDatabase(), clazz, filterClusters);
+    } else {
+      filterClusterIds = IntArrayList.of(clazz.getPolymorphicClusterIds());
+    }
+
+    List<ExecutionStepInternal> result = new ArrayList<>();
+    result.add(new FetchFromBitmapIndexesStep(blocks, ctx, profilingEnabled));
+    result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
+    if (!fullyCovered) {
+      result.add(
+          new FilterStep(
+              info.whereClause,
+              ctx,
+              this.info.timeout != null ? this.info.timeout.getVal().longValue() : -1,
+              profilingEnabled));
+    }
+    return result;
+  }
+
+  /**
+   * Estimates number of records fetched by the plan which combines bitmaps together with the cost
+   * of reading of the bitmaps. Conditions are assumed to be independent, so selectivity of the AND
+   * block is the product of selectivities of its conditions. Number of records of the key is taken
+   * from the statistics of the index, if it is not collected yet
+   * {@link #DEFAULT_BITMAP_SELECTIVITY} is used.
+   */
+  private static long bitmapPlanCost(
+      List<List<FetchFromBitmapIndexesStep.BitmapLookup>> blocks,
+      SchemaClassInternal clazz,
+      CommandContext ctx) {
+    var db = ctx.getDatabase();
+    QueryStats stats = QueryStats.get(db);
+    long records = Math.max(1, clazz.count(db));
+
+    long cost = 0;
+    for (List<FetchFromBitmapIndexesStep.BitmapLookup> block : blocks) {
+      double blockRecords = records;
+      for (FetchFromBitmapIndexesStep.BitmapLookup lookup : block) {
+        long keyRecords = stats.getIndexStats(lookup.getIndexName(), 1, false, false, db);
+        if (keyRecords < 0) {
+          keyRecords = (long) (records * DEFAULT_BITMAP_SELECTIVITY);
+        }
+
+        blockRecords *= Math.min(1.0, (double) keyRecords / records);
+        // bitmap is read by words of 64 record ids
+        cost += keyRecords / Long.SIZE;
+      }
+      cost += (long) Math.ceil(blockRecords);
+    }
+    return cost;
+  }
+
+  private static FetchFromBitmapIndexesStep.BitmapLookup bitmapLookupFor(
+      SQLBooleanExpression condition, SQLAndBlock block, Set<Index> indexes,
+      CommandContext ctx) {
+    if (!(condition instanceof SQLBinaryCondition binaryCondition)
+        || !(binaryCondition.getOperator() instanceof SQLEqualsCompareOperator)
+        || !binaryCondition.getLeft().isBaseIdentifier()
+        || !binaryCondition.getRight().isEarlyCalculated(ctx)) {
+      return null;
+    }
+
+    String fieldName = binaryCondition.getLeft().getDefaultAlias().getStringValue();
+    for (Index index : indexes) {
+      if (index.getInternal() instanceof IndexBitmap
+          && canBeUsedFor(index, block)
+          && !(index.getDefinition() instanceof ExpressionIndexDefinition)
+          && index.getDefinition().getFields().size() == 1
+          && index.getDefinition().getFields().get(0).equals(fieldName)) {
+        return new FetchFromBitmapIndexesStep.BitmapLookup(
+            index.getName(), binaryCondition.getRight().copy());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks if the query can be answered using only the entries of the covering index, see
+   * {@link CoveringIndexDefinition}. That is possible if the query projects only properties stored
+   * in the index as is, and all the conditions and the ordering are fully handled by the index.
+   */
+  private static boolean isCoveredByIndex(
+      QueryPlanningInfo info, IndexSearchDescriptor desc, CommandContext ctx) {
+    if (!(desc.getIndex().getDefinition() instanceof CoveringIndexDefinition definition)) {
+      return false;
+    }
+
+    if (info.projection == null
+        || info.expand
+        || info.preAggregateProjection != null
+        || info.aggregateProjection != null
+        || info.groupBy != null
+        || info.unwind != null
+        || info.perRecordLetClause != null
+        || (info.orderBy != null && !info.orderApplied)
+        || desc.requiresDistinctStep()
+        || (desc.getRemainingCondition() != null && !desc.getRemainingCondition().isEmpty())) {
+      return false;
+    }
+
+    for (SQLProjectionItem item : info.projection.getItems()) {
+      if (item.isAll()
+          || item.getNestedProjection() != null
+          || item.getExpression() == null
+          || !item.getExpression().isBaseIdentifier()) {
+        return false;
+      }
+
+      String fieldName = item.getExpression().getDefaultAlias().getStringValue();
+      if (!definition.getFields().contains(fieldName) || !definition.isStoredAsIs(fieldName)) {
+        return false;
+      }
+    }
+
+    // security policies may hide records or properties, so records have to be loaded
+    var db = ctx.getDatabase();
+    SecurityInternal security = db.getSharedContext().getSecurity();
+    return security instanceof SecurityShared
+        && !((SecurityShared) security)
+        .couldHaveActivePredicateSecurityRoles(db, definition.getClassName());
+  }
+
   private List<ExecutionStepInternal> executionStepFromIndexes(
       Set<String> filterClusters,
       SchemaClass clazz,
@@ -2464,16 +2672,24 @@ public class SelectExecutionPlanner {
       } else {
         filterClusterIds = IntArrayList.of(clazz.getPolymorphicClusterIds());
       }
-      result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
-      if (desc.requiresDistinctStep()) {
-        result.add(new DistinctExecutionStep(ctx, profilingEnabled));
-      }
       if (orderAsc != null
           && info.orderBy != null
           && fullySorted(info.orderBy, desc)
           && info.serverToClusters.size() == 1) {
         info.orderApplied = true;
       }
+      if (isCoveredByIndex(info, desc, ctx)) {
+        info.indexOnly = true;
+        result.add(
+            new GetValueFromCoveringIndexEntryStep(
+                ctx, desc.getIndex().getDefinition().getFields(), filterClusterIds,
+                profilingEnabled));
+      } else {
+        result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
+      }
+      if (desc.requiresDistinctStep()) {
+        result.add(new DistinctExecutionStep(ctx, profilingEnabled));
+      }
       if (desc.getRemainingCondition() != null && !desc.getRemainingCondition().isEmpty()) {
         if ((info.perRecordLetClause != null
             && refersToLet(Collections.singletonList(desc.getRemainingCondition())))) {
@@ -2575,6 +2791,15 @@ public class SelectExecutionPlanner {
     return result;
   }
 
+  /**
+   * Partial index contains only records which match its predicate, so it can be used only if the
+   * condition of the query implies that predicate.
+   */
+  private static boolean canBeUsedFor(Index index, SQLAndBlock block) {
+    PartialIndexFilter partialFilter = index.getInternal().getPartialFilter();
+    return partialFilter == null || partialFilter.isImpliedBy(block);
+  }
+
   /**
    * given a flat AND block and a set of indexes, returns the best index to be used to process it,
    * with the complete description on how to use it
@@ -2590,6 +2815,7 @@ public class SelectExecutionPlanner {
     List<IndexSearchDescriptor> descriptors =
         indexes.stream()
             .filter(x -> x.getInternal().canBeUsedInEqualityOperators())
+            .filter(x -> canBeUsedFor(x, block))
             .map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz))
             .filter(Objects::nonNull)
             .filter(x -> x.getKeyCondition() != null)
@@ -2600,6 +2826,7 @@ public class SelectExecutionPlanner {
         indexes.stream()
             .filter(idx -> idx.getType().equalsIgnoreCase("FULLTEXT"))
             .filter(idx -> !idx.getAlgorithm().equalsIgnoreCase("LUCENE"))
+            .filter(idx -> canBeUsedFor(idx, block))
             .map(idx -> buildIndexSearchDescriptorForFulltext(ctx, idx, block, clazz))
             .filter(Objects::nonNull)
             .filter(x -> x.getKeyCondition() != null)
@@ -2735,6 +2962,10 @@ public class SelectExecutionPlanner {
     SQLAndBlock indexKeyValue = new SQLAndBlock(-1);
     SQLBinaryCondition additionalRangeCondition = null;
 
+    SQLExpression indexedExpression =
+        index.getDefinition() instanceof ExpressionIndexDefinition expressionDefinition
+            ? expressionDefinition.getExpression()
+            : null;
     for (String indexField : indexFields) {
       IndexSearchInfo info =
           new IndexSearchInfo(
@@ -2743,6 +2974,7 @@ public class SelectExecutionPlanner {
               isMap(clazz, indexField),
               isIndexByKey(index, indexField),
               isIndexByValue(index, indexField),
+              indexedExpression,
               ctx);
       blockIterator = blockCopy.getSubBlocks().iterator();
       boolean indexFieldFound = false;
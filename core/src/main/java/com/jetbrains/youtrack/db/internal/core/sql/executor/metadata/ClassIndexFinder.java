@@ -3,9 +3,12 @@ package com.jetbrains.youtrack.db.internal.core.sql.executor.metadata;
 import com.jetbrains.youtrack.db.api.schema.PropertyType;
 import com.jetbrains.youtrack.db.api.schema.SchemaClass;
 import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.index.ExpressionIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.Index;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinition;
+import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaClassInternal;
 import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaPropertyInternal;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -48,7 +51,7 @@ public class ClassIndexFinder implements IndexFinder {
         if (prop.getType().isLink() && linkedClass != null) {
           boolean found = false;
           for (Index index : indexes) {
-            if (index.getInternal().canBeUsedInEqualityOperators()) {
+            if (index.getInternal().canBeUsedInEqualityOperators() && !isExpressionIndex(index)) {
               if (cand.chain.isPresent()) {
                 ((IndexCandidateChain) cand.chain.get()).add(index.getName());
               } else {
@@ -92,7 +95,7 @@ public class ClassIndexFinder implements IndexFinder {
     if (prop != null) {
       Collection<Index> indexes = prop.getAllIndexesInternal(ctx.getDatabase());
       for (Index index : indexes) {
-        if (index.getInternal().canBeUsedInEqualityOperators()) {
+        if (index.getInternal().canBeUsedInEqualityOperators() && !isExpressionIndex(index)) {
           if (cand.isPresent()) {
             ((IndexCandidateChain) cand.get()).add(index.getName());
             ((IndexCandidateChain) cand.get()).setOperation(Operation.Eq);
@@ -122,7 +125,7 @@ public class ClassIndexFinder implements IndexFinder {
       if (prop.getType() == PropertyType.EMBEDDEDMAP) {
         Collection<Index> indexes = prop.getAllIndexesInternal(ctx.getDatabase());
         for (Index index : indexes) {
-          if (index.getInternal().canBeUsedInEqualityOperators()) {
+          if (index.getInternal().canBeUsedInEqualityOperators() && !isExpressionIndex(index)) {
             IndexDefinition def = index.getDefinition();
             for (String o : def.getFieldsToIndex()) {
               if (o.equalsIgnoreCase(last + " by key")) {
@@ -158,7 +161,8 @@ public class ClassIndexFinder implements IndexFinder {
       Collection<Index> indexes = prop.getAllIndexesInternal(ctx.getDatabase());
       for (Index index : indexes) {
         if (index.getInternal().canBeUsedInEqualityOperators()
-            && index.supportsOrderedIterations()) {
+            && index.supportsOrderedIterations()
+            && !isExpressionIndex(index)) {
           if (cand.isPresent()) {
             ((IndexCandidateChain) cand.get()).add(index.getName());
             ((IndexCandidateChain) cand.get()).setOperation(op);
@@ -189,7 +193,7 @@ public class ClassIndexFinder implements IndexFinder {
         Collection<Index> indexes = prop.getAllIndexesInternal(ctx.getDatabase());
         for (Index index : indexes) {
           IndexDefinition def = index.getDefinition();
-          if (index.getInternal().canBeUsedInEqualityOperators()) {
+          if (index.getInternal().canBeUsedInEqualityOperators() && !isExpressionIndex(index)) {
             for (String o : def.getFieldsToIndex()) {
               if (o.equalsIgnoreCase(last + " by value")) {
                 if (cand.isPresent()) {
@@ -237,4 +241,35 @@ public class ClassIndexFinder implements IndexFinder {
     }
     return Optional.empty();
   }
+
+  @Override
+  public Optional<IndexCandidate> findExpressionIndex(
+      SQLExpression expression, Operation operation, Object value, CommandContext ctx) {
+    var db = ctx.getDatabase();
+    SchemaClassInternal cl = db.getClassInternal(this.clazz);
+    if (cl == null) {
+      return Optional.empty();
+    }
+
+    for (Index index : cl.getIndexesInternal(db)) {
+      if (index.getDefinition() instanceof ExpressionIndexDefinition definition
+          && index.getInternal().canBeUsedInEqualityOperators()
+          && (operation == Operation.Eq || index.supportsOrderedIterations())
+          && definition.getExpression().equals(expression)) {
+        var prop = (SchemaPropertyInternal) cl.getProperty(definition.getFields().get(0));
+        if (prop != null) {
+          return Optional.of(new IndexCandidateImpl(index.getName(), operation, prop));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Keys of the expression index are not values of the property, so the index can not be used for
+   * lookups by the property.
+   */
+  private static boolean isExpressionIndex(Index index) {
+    return index.getDefinition() instanceof ExpressionIndexDefinition;
+  }
 }
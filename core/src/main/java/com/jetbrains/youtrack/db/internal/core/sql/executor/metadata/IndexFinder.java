@@ -1,6 +1,7 @@
 package com.jetbrains.youtrack.db.internal.core.sql.executor.metadata;
 
 import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
 import java.util.Optional;
 
 public interface IndexFinder {
@@ -31,4 +32,10 @@ public interface IndexFinder {
 
   Optional<IndexCandidate> findFullTextIndex(MetadataPath fieldName, Object value,
       CommandContext ctx);
+
+  /**
+   * Finds index which keys are values of the expression structurally equal to the passed in one.
+   */
+  Optional<IndexCandidate> findExpressionIndex(
+      SQLExpression expression, Operation operation, Object value, CommandContext ctx);
 }
@@ -31,6 +31,10 @@ import com.jetbrains.youtrack.db.internal.core.sql.functions.coll.SQLFunctionTra
 import com.jetbrains.youtrack.db.internal.core.sql.functions.coll.SQLFunctionTraversedVertex;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.coll.SQLFunctionUnionAll;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.geo.SQLFunctionDistance;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.geo.SQLFunctionSpatialDWithin;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.geo.SQLFunctionSpatialIntersects;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.geo.SQLFunctionSpatialNearest;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.geo.SQLFunctionSpatialWithin;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.graph.SQLFunctionAstar;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.graph.SQLFunctionBoth;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.graph.SQLFunctionBothE;
@@ -63,6 +67,7 @@ import com.jetbrains.youtrack.db.internal.core.sql.functions.misc.SQLFunctionStr
 import com.jetbrains.youtrack.db.internal.core.sql.functions.misc.SQLFunctionSysdate;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.misc.SQLFunctionThrowCME;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.misc.SQLFunctionUUID;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.misc.SQLFunctionVectorNeighbors;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.sequence.SQLFunctionSequence;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.stat.SQLFunctionMedian;
 import com.jetbrains.youtrack.db.internal.core.sql.functions.stat.SQLFunctionMode;
@@ -88,6 +93,10 @@ public final class DefaultSQLFunctionFactory extends SQLFunctionFactoryTemplate
     register(SQLFunctionDifference.NAME, SQLFunctionDifference.class);
     register(SQLFunctionSymmetricDifference.NAME, SQLFunctionSymmetricDifference.class);
     register(SQLFunctionDistance.NAME, new SQLFunctionDistance());
+    register(SQLFunctionSpatialWithin.NAME, new SQLFunctionSpatialWithin());
+    register(SQLFunctionSpatialIntersects.NAME, new SQLFunctionSpatialIntersects());
+    register(SQLFunctionSpatialDWithin.NAME, new SQLFunctionSpatialDWithin());
+    register(SQLFunctionSpatialNearest.NAME, new SQLFunctionSpatialNearest());
     register(SQLFunctionDistinct.NAME, SQLFunctionDistinct.class);
     register(SQLFunctionDocument.NAME, SQLFunctionDocument.class);
     register(SQLFunctionEncode.NAME, new SQLFunctionEncode());
@@ -123,6 +132,7 @@ public final class DefaultSQLFunctionFactory extends SQLFunctionFactoryTemplate
     register(SQLFunctionIndexKeySize.NAME, SQLFunctionIndexKeySize.class);
     register(SQLFunctionStrcmpci.NAME, SQLFunctionStrcmpci.class);
     register(SQLFunctionThrowCME.NAME, SQLFunctionThrowCME.class);
+    register(SQLFunctionVectorNeighbors.NAME, new SQLFunctionVectorNeighbors());
     // graph
     register(SQLFunctionOut.NAME, SQLFunctionOut.class);
     register(SQLFunctionIn.NAME, SQLFunctionIn.class);
@@ -32,7 +32,7 @@ public class SQLFunctionDistance extends SQLFunctionAbstract {
 
   public static final String NAME = "distance";
 
-  private static final double EARTH_RADIUS = 6371;
+  public static final double EARTH_RADIUS = 6371;
 
   public SQLFunctionDistance() {
     super(NAME, 4, 5);
@@ -57,15 +57,7 @@ public class SQLFunctionDistance extends SQLFunctionAbstract {
           Double.class);
     }
 
-    final double deltaLat = Math.toRadians(values[2] - values[0]);
-    final double deltaLon = Math.toRadians(values[3] - values[1]);
-
-    final double a =
-        Math.pow(Math.sin(deltaLat / 2), 2)
-            + Math.cos(Math.toRadians(values[0]))
-            * Math.cos(Math.toRadians(values[2]))
-            * Math.pow(Math.sin(deltaLon / 2), 2);
-    distance = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a)) * EARTH_RADIUS;
+    distance = distance(values[0], values[1], values[2], values[3]);
 
     if (iParams.length > 4) {
       final String unit = iParams[4].toString();
@@ -89,6 +81,25 @@ public class SQLFunctionDistance extends SQLFunctionAbstract {
     return distance;
   }
 
+  /**
+   * @return Distance between two points in kilometers.
+   */
+  public static double distance(
+      final double firstLatitude,
+      final double firstLongitude,
+      final double secondLatitude,
+      final double secondLongitude) {
+    final double deltaLat = Math.toRadians(secondLatitude - firstLatitude);
+    final double deltaLon = Math.toRadians(secondLongitude - firstLongitude);
+
+    final double a =
+        Math.pow(Math.sin(deltaLat / 2), 2)
+            + Math.cos(Math.toRadians(firstLatitude))
+            * Math.cos(Math.toRadians(secondLatitude))
+            * Math.pow(Math.sin(deltaLon / 2), 2);
+    return 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a)) * EARTH_RADIUS;
+  }
+
   public String getSyntax(DatabaseSession session) {
     return "distance(<field-x>,<field-y>,<x-value>,<y-value>[,<unit>])";
   }
@@ -0,0 +1,170 @@
+package com.jetbrains.youtrack.db.internal.core.sql.functions.geo;
+
+import com.jetbrains.youtrack.db.api.exception.CommandExecutionException;
+import com.jetbrains.youtrack.db.api.record.Identifiable;
+import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.index.Index;
+import com.jetbrains.youtrack.db.internal.core.index.IndexSpatial;
+import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaClassInternal;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.IndexableSQLFunction;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.SQLFunctionAbstract;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLBinaryCompareOperator;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLFromClause;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLFromItem;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class of the functions which search shapes using index of
+ * {@link com.jetbrains.youtrack.db.internal.core.index.DefaultIndexFactory#SPATIAL_ALGORITHM}
+ * algorithm. First arguments of the function are either latitude and longitude properties of the
+ * point or minimum latitude, minimum longitude, maximum latitude and maximum longitude properties
+ * of the bounding box, index should be defined on the same properties in the same order.
+ */
+public abstract class SQLFunctionSpatialAbstract extends SQLFunctionAbstract
+    implements IndexableSQLFunction {
+
+  public SQLFunctionSpatialAbstract(final String name, final int minParams, final int maxParams) {
+    super(name, minParams, maxParams);
+  }
+
+  @Override
+  public boolean allowsIndexedExecution(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return searchForIndex(target, ctx, propertiesCount(args), args) != null;
+  }
+
+  @Override
+  public long estimate(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    final Iterable<Identifiable> result = searchFromTarget(target, operator, rightValue, ctx, args);
+    if (result == null) {
+      return -1;
+    }
+
+    return ((List<Identifiable>) result).size();
+  }
+
+  /**
+   * @return Amount of the first arguments which are properties of the shape.
+   */
+  protected int propertiesCount(final SQLExpression[] args) {
+    return 2;
+  }
+
+  protected static IndexSpatial searchForIndex(
+      SQLFromClause target, CommandContext ctx, SQLExpression... args) {
+    return searchForIndex(target, ctx, 2, args);
+  }
+
+  /**
+   * @param propertiesCount amount of the first arguments which are properties of the shape
+   */
+  protected static IndexSpatial searchForIndex(
+      SQLFromClause target, CommandContext ctx, int propertiesCount, SQLExpression... args) {
+    final SQLFromItem item = target.getItem();
+    if (item.getIdentifier() == null) {
+      return null;
+    }
+
+    final List<String> properties = new ArrayList<>(propertiesCount);
+    for (int i = 0; i < propertiesCount; i++) {
+      if (!args[i].isBaseIdentifier()) {
+        return null;
+      }
+      properties.add(args[i].getDefaultAlias().getStringValue());
+    }
+
+    final DatabaseSessionInternal database = ctx.getDatabase();
+    final SchemaClassInternal schemaClass =
+        database
+            .getMetadata()
+            .getImmutableSchemaSnapshot()
+            .getClassInternal(item.getIdentifier().getStringValue());
+    if (schemaClass == null) {
+      return null;
+    }
+
+    for (final Index index : schemaClass.getIndexesInternal(database)) {
+      if (index.getInternal() instanceof IndexSpatial spatialIndex
+          && spatialIndex.getDefinition().getFields().equals(properties)) {
+        return spatialIndex;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * @return <code>true</code> if longitude is located inside of the range of longitudes, range
+   * crosses the antimeridian if its minimum longitude is bigger than maximum one.
+   */
+  protected static boolean containsLongitude(
+      final double minLongitude, final double maxLongitude, final double longitude) {
+    return eastwardDistance(minLongitude, longitude) <= width(minLongitude, maxLongitude);
+  }
+
+  /**
+   * @return <code>true</code> if the first range of longitudes is located inside of the second
+   * one.
+   */
+  protected static boolean longitudesWithin(
+      final double minLongitude,
+      final double maxLongitude,
+      final double outerMinLongitude,
+      final double outerMaxLongitude) {
+    final double outerWidth = width(outerMinLongitude, outerMaxLongitude);
+    return outerWidth >= 360
+        || eastwardDistance(outerMinLongitude, minLongitude) + width(minLongitude, maxLongitude)
+        <= outerWidth;
+  }
+
+  /**
+   * @return <code>true</code> if ranges of longitudes have common longitudes.
+   */
+  protected static boolean longitudesIntersect(
+      final double minLongitude,
+      final double maxLongitude,
+      final double otherMinLongitude,
+      final double otherMaxLongitude) {
+    return containsLongitude(otherMinLongitude, otherMaxLongitude, minLongitude)
+        || containsLongitude(minLongitude, maxLongitude, otherMinLongitude);
+  }
+
+  private static double eastwardDistance(final double fromLongitude, final double toLongitude) {
+    final double distance = (toLongitude - fromLongitude) % 360;
+    return distance < 0 ? distance + 360 : distance;
+  }
+
+  private static double width(final double minLongitude, final double maxLongitude) {
+    if (maxLongitude - minLongitude >= 360) {
+      return 360;
+    }
+    return minLongitude <= maxLongitude
+        ? maxLongitude - minLongitude
+        : maxLongitude - minLongitude + 360;
+  }
+
+  protected static double coordinate(
+      final SQLExpression expression, final CommandContext ctx, final String name) {
+    return number(expression.execute((Identifiable) null, ctx), name).doubleValue();
+  }
+
+  protected static Number number(final Object value, final String name) {
+    if (!(value instanceof Number number)) {
+      throw new CommandExecutionException(name + " should be a number, but found: " + value);
+    }
+
+    return number;
+  }
+}
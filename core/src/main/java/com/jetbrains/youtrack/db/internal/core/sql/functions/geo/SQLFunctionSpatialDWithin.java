@@ -0,0 +1,109 @@
+package com.jetbrains.youtrack.db.internal.core.sql.functions.geo;
+
+import com.jetbrains.youtrack.db.api.DatabaseSession;
+import com.jetbrains.youtrack.db.api.record.Identifiable;
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.index.IndexSpatial;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLBinaryCompareOperator;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLFromClause;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks whether point is located not farther than given distance in kilometers from the other
+ * point. Records found by index are returned in ascending order of distance.
+ *
+ * <p>Syntax:
+ *
+ * <blockquote>
+ *
+ * <pre>
+ * SELECT FROM Place WHERE spatialDWithin(latitude, longitude, 51.5, -0.12, 2.5) = true
+ * </pre>
+ *
+ * </blockquote>
+ */
+public class SQLFunctionSpatialDWithin extends SQLFunctionSpatialAbstract {
+
+  public static final String NAME = "spatialDWithin";
+
+  public SQLFunctionSpatialDWithin() {
+    super(NAME, 5, 5);
+  }
+
+  @Override
+  public Object execute(
+      Object iThis,
+      Identifiable iCurrentRecord,
+      Object iCurrentResult,
+      Object[] iParams,
+      CommandContext iContext) {
+    if (iParams[0] == null || iParams[1] == null) {
+      return false;
+    }
+
+    return SQLFunctionDistance.distance(
+        number(iParams[0], "Latitude").doubleValue(),
+        number(iParams[1], "Longitude").doubleValue(),
+        number(iParams[2], "Latitude").doubleValue(),
+        number(iParams[3], "Longitude").doubleValue())
+        <= number(iParams[4], "Distance").doubleValue();
+  }
+
+  @Override
+  public String getSyntax(DatabaseSession session) {
+    return "spatialDWithin(<latitude-field>, <longitude-field>, <latitude>, <longitude>,"
+        + " <distance-km>)";
+  }
+
+  @Override
+  public Iterable<Identifiable> searchFromTarget(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    final IndexSpatial index = searchForIndex(target, ctx, args);
+    if (index == null) {
+      return null;
+    }
+
+    final List<RawPair<Double, RID>> points =
+        index.getRidsWithinDistance(
+            ctx.getDatabase(),
+            coordinate(args[2], ctx, "Latitude"),
+            coordinate(args[3], ctx, "Longitude"),
+            coordinate(args[4], ctx, "Distance"));
+    final List<Identifiable> result = new ArrayList<>(points.size());
+    for (final RawPair<Double, RID> point : points) {
+      result.add(point.second);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean canExecuteInline(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return true;
+  }
+
+  /**
+   * Index compares points with limited precision, so points found by index are checked again.
+   */
+  @Override
+  public boolean shouldExecuteAfterSearch(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return true;
+  }
+}
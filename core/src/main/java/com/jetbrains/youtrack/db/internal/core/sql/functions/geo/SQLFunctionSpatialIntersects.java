@@ -0,0 +1,40 @@
+package com.jetbrains.youtrack.db.internal.core.sql.functions.geo;
+
+/**
+ * Checks whether point is located inside of the rectangle or bounding box intersects the rectangle.
+ * Rectangle crosses the antimeridian if minimum longitude is bigger than maximum one, the same is
+ * true for bounding box.
+ *
+ * <p>Syntax:
+ *
+ * <blockquote>
+ *
+ * <pre>
+ * SELECT FROM Area WHERE spatialIntersects(minLat, minLon, maxLat, maxLon, 51, -1, 52, 1) = true
+ * </pre>
+ *
+ * </blockquote>
+ */
+public class SQLFunctionSpatialIntersects extends SQLFunctionSpatialWithin {
+
+  public static final String NAME = "spatialIntersects";
+
+  public SQLFunctionSpatialIntersects() {
+    super(NAME);
+  }
+
+  @Override
+  protected boolean matches(
+      double minLatitude,
+      double minLongitude,
+      double maxLatitude,
+      double maxLongitude,
+      double boxMinLatitude,
+      double boxMinLongitude,
+      double boxMaxLatitude,
+      double boxMaxLongitude) {
+    return maxLatitude >= boxMinLatitude
+        && minLatitude <= boxMaxLatitude
+        && longitudesIntersect(minLongitude, maxLongitude, boxMinLongitude, boxMaxLongitude);
+  }
+}
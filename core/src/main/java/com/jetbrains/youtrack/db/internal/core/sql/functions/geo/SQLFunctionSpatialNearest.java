@@ -0,0 +1,110 @@
+package com.jetbrains.youtrack.db.internal.core.sql.functions.geo;
+
+import com.jetbrains.youtrack.db.api.DatabaseSession;
+import com.jetbrains.youtrack.db.api.exception.CommandExecutionException;
+import com.jetbrains.youtrack.db.api.record.Identifiable;
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.index.IndexSpatial;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLBinaryCompareOperator;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLFromClause;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Returns records which points are the nearest to the given point, in ascending order of
+ * distance. Can be used only if points are indexed by spatial index.
+ *
+ * <p>Syntax:
+ *
+ * <blockquote>
+ *
+ * <pre>
+ * SELECT FROM Place WHERE spatialNearest(latitude, longitude, 51.5, -0.12, 10) = true
+ * </pre>
+ *
+ * </blockquote>
+ */
+public class SQLFunctionSpatialNearest extends SQLFunctionSpatialAbstract {
+
+  public static final String NAME = "spatialNearest";
+
+  public SQLFunctionSpatialNearest() {
+    super(NAME, 5, 5);
+  }
+
+  @Override
+  public Object execute(
+      Object iThis,
+      Identifiable iCurrentRecord,
+      Object iCurrentResult,
+      Object[] iParams,
+      CommandContext iContext) {
+    throw new CommandExecutionException(
+        NAME + "() can be used only in WHERE condition on properties indexed by spatial index");
+  }
+
+  @Override
+  public String getSyntax(DatabaseSession session) {
+    return "spatialNearest(<latitude-field>, <longitude-field>, <latitude>, <longitude>,"
+        + " <limit>)";
+  }
+
+  @Override
+  public Iterable<Identifiable> searchFromTarget(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    final IndexSpatial index = searchForIndex(target, ctx, args);
+    if (index == null) {
+      return null;
+    }
+
+    final List<RawPair<Double, RID>> points =
+        index.getNearestRids(
+            ctx.getDatabase(),
+            coordinate(args[2], ctx, "Latitude"),
+            coordinate(args[3], ctx, "Longitude"),
+            number(args[4].execute((Identifiable) null, ctx), "Limit").intValue());
+    final List<Identifiable> result = new ArrayList<>(points.size());
+    for (final RawPair<Double, RID> point : points) {
+      result.add(point.second);
+    }
+    return result;
+  }
+
+  @Override
+  public long estimate(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    final Object limit = args[4].execute((Identifiable) null, ctx);
+    return limit instanceof Number number ? number.longValue() : -1;
+  }
+
+  @Override
+  public boolean canExecuteInline(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldExecuteAfterSearch(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return false;
+  }
+}
@@ -0,0 +1,156 @@
+package com.jetbrains.youtrack.db.internal.core.sql.functions.geo;
+
+import com.jetbrains.youtrack.db.api.DatabaseSession;
+import com.jetbrains.youtrack.db.api.exception.CommandExecutionException;
+import com.jetbrains.youtrack.db.api.record.Identifiable;
+import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.index.IndexSpatial;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLBinaryCompareOperator;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLFromClause;
+import java.util.ArrayList;
+
+/**
+ * Checks whether point or bounding box is located inside of the rectangle. Rectangle crosses the
+ * antimeridian if minimum longitude is bigger than maximum one, the same is true for bounding box.
+ *
+ * <p>Syntax:
+ *
+ * <blockquote>
+ *
+ * <pre>
+ * SELECT FROM Place WHERE spatialWithin(latitude, longitude, 51.3, -0.5, 51.7, 0.3) = true
+ * SELECT FROM Area WHERE spatialWithin(minLat, minLon, maxLat, maxLon, 51, -1, 52, 1) = true
+ * </pre>
+ *
+ * </blockquote>
+ */
+public class SQLFunctionSpatialWithin extends SQLFunctionSpatialAbstract {
+
+  public static final String NAME = "spatialWithin";
+
+  public SQLFunctionSpatialWithin() {
+    this(NAME);
+  }
+
+  protected SQLFunctionSpatialWithin(final String name) {
+    super(name, 6, 8);
+  }
+
+  @Override
+  public Object execute(
+      Object iThis,
+      Identifiable iCurrentRecord,
+      Object iCurrentResult,
+      Object[] iParams,
+      CommandContext iContext) {
+    final int propertiesCount = iParams.length - 4;
+    if (propertiesCount != 2 && propertiesCount != 4) {
+      throw new CommandExecutionException(
+          "Point or bounding box should be passed to " + name + " function");
+    }
+
+    for (int i = 0; i < propertiesCount; i++) {
+      if (iParams[i] == null) {
+        return false;
+      }
+    }
+
+    final double minLatitude = number(iParams[0], "Minimum latitude").doubleValue();
+    final double minLongitude = number(iParams[1], "Minimum longitude").doubleValue();
+    final double maxLatitude =
+        number(iParams[propertiesCount - 2], "Maximum latitude").doubleValue();
+    final double maxLongitude =
+        number(iParams[propertiesCount - 1], "Maximum longitude").doubleValue();
+
+    return matches(
+        minLatitude,
+        minLongitude,
+        maxLatitude,
+        maxLongitude,
+        number(iParams[propertiesCount], "Minimum latitude").doubleValue(),
+        number(iParams[propertiesCount + 1], "Minimum longitude").doubleValue(),
+        number(iParams[propertiesCount + 2], "Maximum latitude").doubleValue(),
+        number(iParams[propertiesCount + 3], "Maximum longitude").doubleValue());
+  }
+
+  /**
+   * @return <code>true</code> if shape matches the rectangle, point is passed as the shape with
+   * the same minimum and maximum coordinates.
+   */
+  protected boolean matches(
+      double minLatitude,
+      double minLongitude,
+      double maxLatitude,
+      double maxLongitude,
+      double boxMinLatitude,
+      double boxMinLongitude,
+      double boxMaxLatitude,
+      double boxMaxLongitude) {
+    return minLatitude >= boxMinLatitude
+        && maxLatitude <= boxMaxLatitude
+        && longitudesWithin(minLongitude, maxLongitude, boxMinLongitude, boxMaxLongitude);
+  }
+
+  @Override
+  protected int propertiesCount(final SQLExpression[] args) {
+    return args.length - 4;
+  }
+
+  @Override
+  public String getSyntax(DatabaseSession session) {
+    return getName(session)
+        + "(<latitude-field>, <longitude-field>, <min-latitude>, <min-longitude>,"
+        + " <max-latitude>, <max-longitude>) or "
+        + getName(session)
+        + "(<min-latitude-field>, <min-longitude-field>, <max-latitude-field>,"
+        + " <max-longitude-field>, <min-latitude>, <min-longitude>, <max-latitude>,"
+        + " <max-longitude>)";
+  }
+
+  @Override
+  public Iterable<Identifiable> searchFromTarget(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    final int propertiesCount = propertiesCount(args);
+    final IndexSpatial index = searchForIndex(target, ctx, propertiesCount, args);
+    if (index == null) {
+      return null;
+    }
+
+    return new ArrayList<>(
+        index.getRidsIntersectingBox(
+            ctx.getDatabase(),
+            coordinate(args[propertiesCount], ctx, "Minimum latitude"),
+            coordinate(args[propertiesCount + 1], ctx, "Minimum longitude"),
+            coordinate(args[propertiesCount + 2], ctx, "Maximum latitude"),
+            coordinate(args[propertiesCount + 3], ctx, "Maximum longitude")));
+  }
+
+  @Override
+  public boolean canExecuteInline(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return true;
+  }
+
+  /**
+   * Index compares shapes with limited precision and returns all bounding boxes which intersect
+   * the rectangle, so shapes found by index are checked again.
+   */
+  @Override
+  public boolean shouldExecuteAfterSearch(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return true;
+  }
+}
@@ -85,7 +85,14 @@ public class SQLFunctionIn extends SQLFunctionMoveFiltered {
     if (indexes == null || indexes.isEmpty()) {
       return null;
     }
-    Index index = indexes.iterator().next();
+    Index index =
+        indexes.stream()
+            .filter(idx -> idx.getInternal().getPartialFilter() == null)
+            .findFirst()
+            .orElse(null);
+    if (index == null) {
+      return null;
+    }
 
     MultiCollectionIterator<Vertex> result = new MultiCollectionIterator<Vertex>();
     for (Identifiable identifiable : to) {
@@ -86,7 +86,14 @@ public class SQLFunctionOut extends SQLFunctionMoveFiltered {
     if (indexes == null || indexes.isEmpty()) {
       return null;
     }
-    Index index = indexes.iterator().next();
+    Index index =
+        indexes.stream()
+            .filter(idx -> idx.getInternal().getPartialFilter() == null)
+            .findFirst()
+            .orElse(null);
+    if (index == null) {
+      return null;
+    }
 
     MultiCollectionIterator<Vertex> result = new MultiCollectionIterator<Vertex>();
     for (Identifiable to : iTo) {
@@ -0,0 +1,159 @@
+package com.jetbrains.youtrack.db.internal.core.sql.functions.misc;
+
+import com.jetbrains.youtrack.db.api.DatabaseSession;
+import com.jetbrains.youtrack.db.api.exception.CommandExecutionException;
+import com.jetbrains.youtrack.db.api.record.Identifiable;
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.index.Index;
+import com.jetbrains.youtrack.db.internal.core.index.IndexVector;
+import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaClassInternal;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.IndexableSQLFunction;
+import com.jetbrains.youtrack.db.internal.core.sql.functions.SQLFunctionAbstract;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLBinaryCompareOperator;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLExpression;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLFromClause;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLFromItem;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Returns records which vectors are approximate nearest neighbours of the query vector, in order
+ * of similarity. Property should be indexed by the index of
+ * {@link com.jetbrains.youtrack.db.internal.core.index.DefaultIndexFactory#HNSW_ALGORITHM}
+ * algorithm.
+ *
+ * <p>Syntax:
+ *
+ * <blockquote>
+ *
+ * <pre>
+ * SELECT FROM Doc WHERE vectorNeighbors(embedding, [0.1, 0.2, 0.3], 10) = true
+ * </pre>
+ *
+ * </blockquote>
+ */
+public class SQLFunctionVectorNeighbors extends SQLFunctionAbstract
+    implements IndexableSQLFunction {
+
+  public static final String NAME = "vectorNeighbors";
+
+  public SQLFunctionVectorNeighbors() {
+    super(NAME, 3, 3);
+  }
+
+  @Override
+  public Object execute(
+      Object iThis,
+      Identifiable iCurrentRecord,
+      Object iCurrentResult,
+      Object[] iParams,
+      CommandContext iContext) {
+    throw new CommandExecutionException(
+        NAME + "() can be used only in WHERE condition on property indexed by vector index");
+  }
+
+  @Override
+  public String getSyntax(DatabaseSession session) {
+    return "vectorNeighbors(<property>, <vector>, <limit>)";
+  }
+
+  @Override
+  public Iterable<Identifiable> searchFromTarget(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    final IndexVector index = searchForIndex(target, ctx, args);
+    if (index == null) {
+      return null;
+    }
+
+    final Object query = args[1].execute((Identifiable) null, ctx);
+    final Object limit = args[2].execute((Identifiable) null, ctx);
+    if (!(limit instanceof Number number)) {
+      throw new CommandExecutionException(
+          "Amount of the neighbours should be a number, but found: " + limit);
+    }
+
+    final List<RawPair<Float, RID>> neighbours =
+        index.getNearestNeighbours(ctx.getDatabase(), query, number.intValue());
+    final List<Identifiable> result = new ArrayList<>(neighbours.size());
+    for (final RawPair<Float, RID> neighbour : neighbours) {
+      result.add(neighbour.second);
+    }
+    return result;
+  }
+
+  @Override
+  public long estimate(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    final Object limit = args[2].execute((Identifiable) null, ctx);
+    return limit instanceof Number number ? number.longValue() : -1;
+  }
+
+  @Override
+  public boolean canExecuteInline(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return false;
+  }
+
+  @Override
+  public boolean allowsIndexedExecution(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return searchForIndex(target, ctx, args) != null;
+  }
+
+  @Override
+  public boolean shouldExecuteAfterSearch(
+      SQLFromClause target,
+      SQLBinaryCompareOperator operator,
+      Object rightValue,
+      CommandContext ctx,
+      SQLExpression... args) {
+    return false;
+  }
+
+  private static IndexVector searchForIndex(
+      SQLFromClause target, CommandContext ctx, SQLExpression... args) {
+    final SQLFromItem item = target.getItem();
+    if (item.getIdentifier() == null || !args[0].isBaseIdentifier()) {
+      return null;
+    }
+
+    final DatabaseSessionInternal database = ctx.getDatabase();
+    final SchemaClassInternal schemaClass =
+        database
+            .getMetadata()
+            .getImmutableSchemaSnapshot()
+            .getClassInternal(item.getIdentifier().getStringValue());
+    if (schemaClass == null) {
+      return null;
+    }
+
+    final String property = args[0].getDefaultAlias().getStringValue();
+    for (final Index index : schemaClass.getIndexesInternal(database)) {
+      if (index.getInternal() instanceof IndexVector vectorIndex
+          && vectorIndex.getDefinition().getFields().equals(List.of(property))) {
+        return vectorIndex;
+      }
+    }
+
+    return null;
+  }
+}
@@ -1,13 +1,23 @@
 package com.jetbrains.youtrack.db.internal.core.sql.parser;
 
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
 import com.jetbrains.youtrack.db.api.query.ExecutionPlan;
+import com.jetbrains.youtrack.db.api.query.ExecutionStep;
 import com.jetbrains.youtrack.db.api.query.Result;
 import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.CoreMetrics;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.MetricsRegistry;
+import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
+import com.jetbrains.youtrack.db.internal.core.command.QueryMetrics;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.ExecutionStepInternal;
 import com.jetbrains.youtrack.db.internal.core.sql.executor.InternalExecutionPlan;
 import com.jetbrains.youtrack.db.internal.core.sql.executor.resultset.ExecutionStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -16,19 +26,38 @@ public class LocalResultSet implements ResultSet {
 
   private ExecutionStream stream = null;
   private final InternalExecutionPlan executionPlan;
+  private final QueryMetrics queryMetrics;
+  // nested query is charged to the outer one and is not reported on its own
+  private final boolean nested;
+  private boolean closed;
 
   public LocalResultSet(InternalExecutionPlan executionPlan) {
     this.executionPlan = executionPlan;
+    this.queryMetrics =
+        GlobalConfiguration.QUERY_METRICS_ENABLED.getValueAsBoolean()
+            ? executionPlan.getContext().getQueryMetrics()
+            : null;
+    this.nested = executionPlan.getContext().getParent() != null;
     start();
   }
 
   private void start() {
-    stream = executionPlan.start();
+    enter();
+    try {
+      stream = executionPlan.start();
+    } finally {
+      exit();
+    }
   }
 
   @Override
   public boolean hasNext() {
-    return stream.hasNext(executionPlan.getContext());
+    enter();
+    try {
+      return stream.hasNext(executionPlan.getContext());
+    } finally {
+      exit();
+    }
   }
 
   @Override
@@ -36,13 +65,33 @@ public class LocalResultSet implements ResultSet {
     if (!hasNext()) {
       throw new IllegalStateException();
     }
-    return stream.next(executionPlan.getContext());
+
+    enter();
+    try {
+      final Result result = stream.next(executionPlan.getContext());
+      if (queryMetrics != null && !nested) {
+        queryMetrics.incrementRows();
+      }
+      return result;
+    } finally {
+      exit();
+    }
   }
 
   @Override
   public void close() {
-    stream.close(executionPlan.getContext());
-    executionPlan.close();
+    enter();
+    try {
+      stream.close(executionPlan.getContext());
+      executionPlan.close();
+    } finally {
+      exit();
+    }
+
+    if (!closed) {
+      closed = true;
+      reportQueryMetrics();
+    }
   }
 
   @Override
@@ -52,6 +101,86 @@ public class LocalResultSet implements ResultSet {
 
   @Override
   public Map<String, Long> getQueryStats() {
-    return new HashMap<>(); // TODO
+    if (queryMetrics == null) {
+      return new HashMap<>();
+    }
+    return queryMetrics.toMap();
+  }
+
+  private void enter() {
+    if (queryMetrics != null) {
+      queryMetrics.enter();
+    }
+  }
+
+  private void exit() {
+    if (queryMetrics != null) {
+      queryMetrics.exit();
+    }
+  }
+
+  private void reportQueryMetrics() {
+    if (queryMetrics == null || nested) {
+      return;
+    }
+
+    final String statement =
+        executionPlan.getGenericStatement() != null
+            ? executionPlan.getGenericStatement()
+            : executionPlan.getStatement();
+    if (statement == null) {
+      return;
+    }
+
+    final DatabaseSessionInternal db = executionPlan.getContext().getDatabase();
+    final long executionTimeMicros = TimeUnit.NANOSECONDS.toMicros(queryMetrics.getExecutionTime());
+    if (db != null) {
+      final MetricsRegistry registry = YouTrackDBEnginesManager.instance().getMetricsRegistry();
+      final String dbName = db.getName();
+
+      registry
+          .queryMetric(CoreMetrics.QUERY_EXECUTION_TIME, dbName, statement)
+          .record(executionTimeMicros);
+      registry.queryMetric(CoreMetrics.QUERY_ROWS, dbName, statement).add(queryMetrics.getRows());
+      registry
+          .queryMetric(CoreMetrics.QUERY_PAGE_HITS, dbName, statement)
+          .add(queryMetrics.getPageHits());
+      registry
+          .queryMetric(CoreMetrics.QUERY_PAGE_MISSES, dbName, statement)
+          .add(queryMetrics.getPageMisses());
+      registry
+          .queryMetric(CoreMetrics.QUERY_RECORD_BYTES, dbName, statement)
+          .add(queryMetrics.getRecordBytes());
+    }
+
+    final long slowQueryThreshold =
+        GlobalConfiguration.QUERY_SLOW_LOG_THRESHOLD.getValueAsLong();
+    if (slowQueryThreshold > 0
+        && TimeUnit.NANOSECONDS.toMillis(queryMetrics.getExecutionTime()) >= slowQueryThreshold) {
+      final StringBuilder steps = new StringBuilder();
+      for (final ExecutionStep step : executionPlan.getSteps()) {
+        if (step instanceof ExecutionStepInternal stepInternal) {
+          steps.append("\n  ").append(stepInternal.getName());
+          final long rowCount = stepInternal.getRowCount();
+          if (rowCount >= 0) {
+            steps.append(": ").append(rowCount).append(" rows");
+          }
+        }
+      }
+
+      LogManager.instance()
+          .warn(
+              this,
+              "Slow query (%d ms): %s%n rows: %d, page hits: %d, page misses: %d, page load time:"
+                  + " %d μs, record bytes: %d%s",
+              TimeUnit.NANOSECONDS.toMillis(queryMetrics.getExecutionTime()),
+              executionPlan.getStatement() != null ? executionPlan.getStatement() : statement,
+              queryMetrics.getRows(),
+              queryMetrics.getPageHits(),
+              queryMetrics.getPageMisses(),
+              TimeUnit.NANOSECONDS.toMicros(queryMetrics.getPageLoadTime()),
+              queryMetrics.getRecordBytes(),
+              steps);
+    }
   }
 }
@@ -523,24 +523,26 @@ public class SQLBinaryCondition extends SQLBooleanExpression {
           return info.findAllowRangeIndex(p, operator.getOperation(), value, ctx);
         }
       }
+    } else if (right.isEarlyCalculated(ctx)
+        && (operator instanceof SQLEqualsCompareOperator || operator.isRangeOperator())) {
+      Object value = right.execute((Result) null, ctx);
+      return info.findExpressionIndex(left, operator.getOperation(), value, ctx);
     }
 
     return Optional.empty();
   }
 
   public boolean isIndexAware(IndexSearchInfo info) {
-    if (left.isBaseIdentifier()) {
-      if (info.getField().equals(left.getDefaultAlias().getStringValue())) {
-        if (right.isEarlyCalculated(info.getCtx())) {
-          if (operator instanceof SQLEqualsCompareOperator) {
-            return true;
-          } else if (operator instanceof SQLContainsKeyOperator
-              && info.isMap()
-              && info.isIndexByKey()) {
-            return true;
-          } else {
-            return info.allowsRange() && operator.isRangeOperator();
-          }
+    if (info.isIndexed(left)) {
+      if (right.isEarlyCalculated(info.getCtx())) {
+        if (operator instanceof SQLEqualsCompareOperator) {
+          return true;
+        } else if (operator instanceof SQLContainsKeyOperator
+            && info.isMap()
+            && info.isIndexByKey()) {
+          return true;
+        } else {
+          return info.allowsRange() && operator.isRangeOperator();
         }
       }
     }
@@ -369,7 +369,7 @@ public class SQLContainsAnyCondition extends SQLBooleanExpression {
 
   @Override
   public boolean isIndexAware(IndexSearchInfo info) {
-    if (left.isBaseIdentifier()) {
+    if (info.getExpression() == null && left.isBaseIdentifier()) {
       if (info.getField().equals(left.getDefaultAlias().getStringValue())) {
         return right.isEarlyCalculated(info.getCtx());
       }
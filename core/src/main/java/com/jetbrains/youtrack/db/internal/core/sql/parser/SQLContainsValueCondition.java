@@ -307,7 +307,7 @@ public class SQLContainsValueCondition extends SQLBooleanExpression {
   }
 
   public boolean isIndexAware(IndexSearchInfo info) {
-    if (left.isBaseIdentifier()) {
+    if (info.getExpression() == null && left.isBaseIdentifier()) {
       if (info.getField().equals(left.getDefaultAlias().getStringValue())) {
         return expression != null
             && expression.isEarlyCalculated(info.getCtx())
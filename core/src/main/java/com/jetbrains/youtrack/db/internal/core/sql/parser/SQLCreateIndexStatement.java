@@ -9,20 +9,23 @@ import com.jetbrains.youtrack.db.api.schema.PropertyType;
 import com.jetbrains.youtrack.db.api.schema.SchemaClass;
 import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.index.CoveringIndexDefinition;
+import com.jetbrains.youtrack.db.internal.core.index.ExpressionIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.Index;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinitionFactory;
 import com.jetbrains.youtrack.db.internal.core.index.IndexException;
 import com.jetbrains.youtrack.db.internal.core.index.IndexFactory;
 import com.jetbrains.youtrack.db.internal.core.index.Indexes;
+import com.jetbrains.youtrack.db.internal.core.index.PartialIndexFilter;
 import com.jetbrains.youtrack.db.internal.core.index.SimpleKeyIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaClassImpl;
-import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
 import com.jetbrains.youtrack.db.internal.core.sql.SQLEngine;
 import com.jetbrains.youtrack.db.internal.core.sql.executor.ResultInternal;
 import com.jetbrains.youtrack.db.internal.core.sql.executor.resultset.ExecutionStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -34,10 +37,12 @@ public class SQLCreateIndexStatement extends DDLStatement {
   protected SQLIndexName name;
   protected SQLIdentifier className;
   protected List<Property> propertyList = new ArrayList<Property>();
+  protected List<SQLIdentifier> includedProperties = new ArrayList<SQLIdentifier>();
   protected SQLIdentifier type;
   protected SQLIdentifier engine;
   protected List<SQLIdentifier> keyTypes = new ArrayList<SQLIdentifier>();
   protected SQLJson metadata;
+  protected SQLWhereClause where;
   protected boolean ifNotExists = false;
 
   public SQLCreateIndexStatement(int id) {
@@ -56,6 +61,10 @@ public class SQLCreateIndexStatement extends DDLStatement {
     this.keyTypes.add(identifier);
   }
 
+  public void addIncludedProperty(SQLIdentifier identifier) {
+    this.includedProperties.add(identifier);
+  }
+
   @Override
   public ExecutionStream executeDDL(CommandContext ctx) {
     Object execResult = execute(ctx);
@@ -84,7 +93,7 @@ public class SQLCreateIndexStatement extends DDLStatement {
     List<Collate> collatesList = calculateCollates(ctx);
     String engine =
         this.engine == null ? null : this.engine.getStringValue().toUpperCase(Locale.ENGLISH);
-    EntityImpl metadataDoc = calculateMetadata(ctx);
+    Map<String, Object> metadataMap = calculateMetadata(ctx);
 
     if (propertyList == null || propertyList.size() == 0) {
       IndexFactory factory = Indexes.getFactory(type.getStringValue(), engine);
@@ -103,7 +112,7 @@ public class SQLCreateIndexStatement extends DDLStatement {
                     new SimpleKeyIndexDefinition(keyTypes, collatesList),
                     null,
                     null,
-                    metadataDoc != null ? metadataDoc.toMap() : null,
+                    metadataMap,
                     engine);
       } else if (keyTypes != null
           && keyTypes.length == 0
@@ -122,7 +131,7 @@ public class SQLCreateIndexStatement extends DDLStatement {
                     keyDef,
                     null,
                     null,
-                    metadataDoc.toMap(),
+                    metadataMap,
                     engine);
 
       } else if (className == null && keyTypes == null || keyTypes.length == 0) {
@@ -144,7 +153,7 @@ public class SQLCreateIndexStatement extends DDLStatement {
               "Impossible to create an index, property not found: " + name.getValue());
         }
         String[] fields = new String[]{split[1]};
-        idx = getoIndex(oClass, fields, engine, database, collatesList, metadataDoc);
+        idx = getoIndex(oClass, fields, engine, database, collatesList, metadataMap);
 
       } else {
         throw new DatabaseException(
@@ -155,7 +164,7 @@ public class SQLCreateIndexStatement extends DDLStatement {
     } else {
       String[] fields = calculateProperties(ctx);
       SchemaClass oClass = getIndexClass(ctx);
-      idx = getoIndex(oClass, fields, engine, database, collatesList, metadataDoc);
+      idx = getoIndex(oClass, fields, engine, database, collatesList, metadataMap);
     }
 
     if (idx != null) {
@@ -171,17 +180,18 @@ public class SQLCreateIndexStatement extends DDLStatement {
       String engine,
       DatabaseSessionInternal database,
       List<Collate> collatesList,
-      EntityImpl metadataDoc) {
+      Map<String, Object> metadataMap) {
     Index idx;
-    if ((keyTypes == null || keyTypes.size() == 0) && collatesList == null) {
+    // type of the indexed expression is passed in the metadata, property keeps its own type
+    List<SQLIdentifier> propertyKeyTypes = hasExpressionKey() ? null : keyTypes;
+    if ((propertyKeyTypes == null || propertyKeyTypes.size() == 0) && collatesList == null) {
       String indexName = name.getValue();
       oClass.createIndex(database,
-          indexName, type.getStringValue(), null, metadataDoc != null ? metadataDoc.toMap() : null,
-          engine, fields);
+          indexName, type.getStringValue(), null, metadataMap, engine, fields);
       idx = database.getIndex(indexName);
     } else {
       final List<PropertyType> fieldTypeList;
-      if (keyTypes == null || keyTypes.size() == 0 && fields.length > 0) {
+      if (propertyKeyTypes == null || propertyKeyTypes.size() == 0 && fields.length > 0) {
         for (final String fieldName : fields) {
           if (!fieldName.equals("@rid") && !oClass.existsProperty(fieldName)) {
             throw new IndexException(
@@ -197,7 +207,7 @@ public class SQLCreateIndexStatement extends DDLStatement {
         fieldTypeList = ((SchemaClassImpl) oClass).extractFieldTypes(fields);
       } else {
         fieldTypeList =
-            keyTypes.stream()
+            propertyKeyTypes.stream()
                 .map(x -> PropertyType.valueOf(x.getStringValue()))
                 .collect(Collectors.toList());
       }
@@ -222,12 +232,16 @@ public class SQLCreateIndexStatement extends DDLStatement {
                   idxDef,
                   oClass.getPolymorphicClusterIds(),
                   null,
-                  metadataDoc != null ? metadataDoc.toMap() : null,
+                  metadataMap,
                   engine);
     }
     return idx;
   }
 
+  private boolean hasExpressionKey() {
+    return propertyList.stream().anyMatch(x -> x.expression != null);
+  }
+
   /**
    * * returns the list of property names to be indexed
    *
@@ -260,13 +274,48 @@ public class SQLCreateIndexStatement extends DDLStatement {
   }
 
   /**
-   * returns index metadata as an ODocuemnt (as expected by Index API)
+   * returns index metadata as a map (as expected by Index API), indexed expression, properties
+   * listed in the INCLUDE clause and predicate of the WHERE clause are passed to the index as items
+   * of the metadata
    */
-  private EntityImpl calculateMetadata(CommandContext ctx) {
-    if (metadata == null) {
-      return null;
+  private Map<String, Object> calculateMetadata(CommandContext ctx) {
+    Map<String, Object> result = metadata == null ? null : metadata.toDocument(null, ctx).toMap();
+    for (Property prop : propertyList) {
+      if (prop.expression != null) {
+        if (propertyList.size() > 1) {
+          throw new CommandExecutionException(
+              "Expression should be the only key of the index: " + this);
+        }
+        if (result == null) {
+          result = new HashMap<>();
+        }
+        StringBuilder expression = new StringBuilder();
+        prop.expression.toString(ctx.getInputParameters(), expression);
+        result.put(ExpressionIndexDefinition.EXPRESSION, expression.toString());
+        if (keyTypes != null && !keyTypes.isEmpty()) {
+          result.put(ExpressionIndexDefinition.EXPRESSION_TYPE, keyTypes.get(0).getStringValue());
+        }
+      }
+    }
+    if (includedProperties != null && !includedProperties.isEmpty()) {
+      if (result == null) {
+        result = new HashMap<>();
+      }
+      result.put(
+          CoveringIndexDefinition.INCLUDED_PROPERTIES,
+          includedProperties.stream()
+              .map(SQLIdentifier::getStringValue)
+              .collect(Collectors.toList()));
+    }
+    if (where != null) {
+      if (result == null) {
+        result = new HashMap<>();
+      }
+      StringBuilder predicate = new StringBuilder();
+      where.toString(ctx.getInputParameters(), predicate);
+      result.put(PartialIndexFilter.WHERE, predicate.toString());
     }
-    return metadata.toDocument(null, ctx);
+    return result;
   }
 
   private PropertyType[] calculateKeyTypes(CommandContext ctx) {
@@ -313,8 +362,12 @@ public class SQLCreateIndexStatement extends DDLStatement {
         }
         if (prop.name != null) {
           prop.name.toString(params, builder);
-        } else {
+        } else if (prop.recordAttribute != null) {
           prop.recordAttribute.toString(params, builder);
+        } else {
+          builder.append("(");
+          prop.expression.toString(params, builder);
+          builder.append(")");
         }
         if (prop.byKey) {
           builder.append(" BY KEY");
@@ -328,6 +381,18 @@ public class SQLCreateIndexStatement extends DDLStatement {
         first = false;
       }
       builder.append(")");
+      if (includedProperties != null && !includedProperties.isEmpty()) {
+        builder.append(" INCLUDE (");
+        first = true;
+        for (SQLIdentifier includedProperty : includedProperties) {
+          if (!first) {
+            builder.append(", ");
+          }
+          includedProperty.toString(params, builder);
+          first = false;
+        }
+        builder.append(")");
+      }
     }
     builder.append(" ");
     type.toString(params, builder);
@@ -350,6 +415,10 @@ public class SQLCreateIndexStatement extends DDLStatement {
       builder.append(" METADATA ");
       metadata.toString(params, builder);
     }
+    if (where != null) {
+      builder.append(" WHERE ");
+      where.toString(params, builder);
+    }
   }
 
   @Override
@@ -367,8 +436,12 @@ public class SQLCreateIndexStatement extends DDLStatement {
         }
         if (prop.name != null) {
           prop.name.toGenericStatement(builder);
-        } else {
+        } else if (prop.recordAttribute != null) {
           prop.recordAttribute.toGenericStatement(builder);
+        } else {
+          builder.append("(");
+          prop.expression.toGenericStatement(builder);
+          builder.append(")");
         }
         if (prop.byKey) {
           builder.append(" BY KEY");
@@ -382,6 +455,18 @@ public class SQLCreateIndexStatement extends DDLStatement {
         first = false;
       }
       builder.append(")");
+      if (includedProperties != null && !includedProperties.isEmpty()) {
+        builder.append(" INCLUDE (");
+        first = true;
+        for (SQLIdentifier includedProperty : includedProperties) {
+          if (!first) {
+            builder.append(", ");
+          }
+          includedProperty.toGenericStatement(builder);
+          first = false;
+        }
+        builder.append(")");
+      }
     }
     builder.append(" ");
     type.toGenericStatement(builder);
@@ -404,6 +489,10 @@ public class SQLCreateIndexStatement extends DDLStatement {
       builder.append(" METADATA ");
       metadata.toGenericStatement(builder);
     }
+    if (where != null) {
+      builder.append(" WHERE ");
+      where.toGenericStatement(builder);
+    }
   }
 
   @Override
@@ -415,11 +504,16 @@ public class SQLCreateIndexStatement extends DDLStatement {
         propertyList == null
             ? null
             : propertyList.stream().map(x -> x.copy()).collect(Collectors.toList());
+    result.includedProperties =
+        includedProperties == null
+            ? null
+            : includedProperties.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.type = type == null ? null : type.copy();
     result.engine = engine == null ? null : engine.copy();
     result.keyTypes =
         keyTypes == null ? null : keyTypes.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.metadata = metadata == null ? null : metadata.copy();
+    result.where = where == null ? null : where.copy();
     return result;
   }
 
@@ -443,6 +537,9 @@ public class SQLCreateIndexStatement extends DDLStatement {
     if (!Objects.equals(propertyList, that.propertyList)) {
       return false;
     }
+    if (!Objects.equals(includedProperties, that.includedProperties)) {
+      return false;
+    }
     if (!Objects.equals(type, that.type)) {
       return false;
     }
@@ -452,7 +549,10 @@ public class SQLCreateIndexStatement extends DDLStatement {
     if (!Objects.equals(keyTypes, that.keyTypes)) {
       return false;
     }
-    return Objects.equals(metadata, that.metadata);
+    if (!Objects.equals(metadata, that.metadata)) {
+      return false;
+    }
+    return Objects.equals(where, that.where);
   }
 
   @Override
@@ -460,10 +560,12 @@ public class SQLCreateIndexStatement extends DDLStatement {
     int result = name != null ? name.hashCode() : 0;
     result = 31 * result + (className != null ? className.hashCode() : 0);
     result = 31 * result + (propertyList != null ? propertyList.hashCode() : 0);
+    result = 31 * result + (includedProperties != null ? includedProperties.hashCode() : 0);
     result = 31 * result + (type != null ? type.hashCode() : 0);
     result = 31 * result + (engine != null ? engine.hashCode() : 0);
     result = 31 * result + (keyTypes != null ? keyTypes.hashCode() : 0);
     result = 31 * result + (metadata != null ? metadata.hashCode() : 0);
+    result = 31 * result + (where != null ? where.hashCode() : 0);
     return result;
   }
 
@@ -471,6 +573,7 @@ public class SQLCreateIndexStatement extends DDLStatement {
 
     protected SQLIdentifier name;
     protected SQLRecordAttribute recordAttribute;
+    protected SQLExpression expression;
     protected boolean byKey = false;
     protected boolean byValue = false;
     protected SQLIdentifier collate;
@@ -479,6 +582,7 @@ public class SQLCreateIndexStatement extends DDLStatement {
       Property result = new Property();
       result.name = name == null ? null : name.copy();
       result.recordAttribute = recordAttribute == null ? null : recordAttribute.copy();
+      result.expression = expression == null ? null : expression.copy();
       result.byKey = byKey;
       result.byValue = byValue;
       result.collate = collate == null ? null : collate.copy();
@@ -508,6 +612,9 @@ public class SQLCreateIndexStatement extends DDLStatement {
       if (!Objects.equals(recordAttribute, property.recordAttribute)) {
         return false;
       }
+      if (!Objects.equals(expression, property.expression)) {
+        return false;
+      }
       return Objects.equals(collate, property.collate);
     }
 
@@ -515,6 +622,7 @@ public class SQLCreateIndexStatement extends DDLStatement {
     public int hashCode() {
       int result = name != null ? name.hashCode() : 0;
       result = 31 * result + (recordAttribute != null ? recordAttribute.hashCode() : 0);
+      result = 31 * result + (expression != null ? expression.hashCode() : 0);
       result = 31 * result + (byKey ? 1 : 0);
       result = 31 * result + (byValue ? 1 : 0);
       result = 31 * result + (collate != null ? collate.hashCode() : 0);
@@ -522,7 +630,8 @@ public class SQLCreateIndexStatement extends DDLStatement {
     }
 
     /**
-     * returns the complete key to index, eg. property name or "property by key/value"
+     * returns the complete key to index, eg. property name or "property by key/value", index on
+     * the expression is bound to the first property referred by the expression
      */
     public String getCompleteKey() {
       StringBuilder result = new StringBuilder();
@@ -530,6 +639,13 @@ public class SQLCreateIndexStatement extends DDLStatement {
         result.append(name.getStringValue());
       } else if (recordAttribute != null) {
         result.append(recordAttribute.getName());
+      } else if (expression != null) {
+        SQLIdentifier property = findProperty(expression.getMathExpression());
+        if (property == null) {
+          throw new CommandExecutionException(
+              "Indexed expression does not refer to any property: " + expression);
+        }
+        result.append(property.getStringValue());
       }
 
       if (byKey) {
@@ -540,6 +656,43 @@ public class SQLCreateIndexStatement extends DDLStatement {
       }
       return result.toString();
     }
+
+    private static SQLIdentifier findProperty(SQLMathExpression expression) {
+      if (expression instanceof SQLParenthesisExpression parenthesis) {
+        return parenthesis.expression == null
+            ? null
+            : findProperty(parenthesis.expression.getMathExpression());
+      }
+      if (expression instanceof SQLBaseExpression base) {
+        SQLBaseIdentifier identifier = base.getIdentifier();
+        if (identifier == null) {
+          return null;
+        }
+        if (identifier.getSuffix() != null) {
+          return identifier.getSuffix().getIdentifier();
+        }
+        if (identifier.getLevelZero() != null
+            && identifier.getLevelZero().getFunctionCall() != null) {
+          // eg. format(date, 'yyyy-MM')
+          for (SQLExpression param : identifier.getLevelZero().getFunctionCall().getParams()) {
+            SQLIdentifier result = findProperty(param.getMathExpression());
+            if (result != null) {
+              return result;
+            }
+          }
+        }
+        return null;
+      }
+      if (expression != null && expression.getChildExpressions() != null) {
+        for (SQLMathExpression child : expression.getChildExpressions()) {
+          SQLIdentifier result = findProperty(child);
+          if (result != null) {
+            return result;
+          }
+        }
+      }
+      return null;
+    }
   }
 }
 /* JavaCC - OriginalChecksum=bd090e02c4346ad390a6b8c77f1b9dba (do not edit this line) */
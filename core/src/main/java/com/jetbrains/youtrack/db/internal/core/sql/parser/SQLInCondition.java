@@ -431,13 +431,11 @@ public class SQLInCondition extends SQLBooleanExpression {
   }
 
   public boolean isIndexAware(IndexSearchInfo info) {
-    if (left.isBaseIdentifier()) {
-      if (info.getField().equals(left.getDefaultAlias().getStringValue())) {
-        if (rightMathExpression != null) {
-          return rightMathExpression.isEarlyCalculated(info.getCtx());
-        } else {
-          return rightParam != null;
-        }
+    if (info.isIndexed(left)) {
+      if (rightMathExpression != null) {
+        return rightMathExpression.isEarlyCalculated(info.getCtx());
+      } else {
+        return rightParam != null;
       }
     }
     return false;
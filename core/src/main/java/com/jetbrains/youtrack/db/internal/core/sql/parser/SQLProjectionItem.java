@@ -358,6 +358,10 @@ public class SQLProjectionItem extends SimpleNode {
     }
   }
 
+  public SQLNestedProjection getNestedProjection() {
+    return nestedProjection;
+  }
+
   public void setNestedProjection(SQLNestedProjection nestedProjection) {
     this.nestedProjection = nestedProjection;
   }
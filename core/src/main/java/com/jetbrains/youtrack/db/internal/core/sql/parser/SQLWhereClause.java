@@ -12,8 +12,10 @@ import com.jetbrains.youtrack.db.internal.core.command.CommandContext;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import com.jetbrains.youtrack.db.internal.core.index.CompositeIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.CompositeKey;
+import com.jetbrains.youtrack.db.internal.core.index.ExpressionIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.Index;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinition;
+import com.jetbrains.youtrack.db.internal.core.index.PartialIndexFilter;
 import com.jetbrains.youtrack.db.internal.core.index.PropertyIndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.metadata.schema.SchemaClassInternal;
 import com.jetbrains.youtrack.db.internal.core.sql.executor.ResultInternal;
@@ -116,6 +118,11 @@ public class SQLWhereClause extends SimpleNode {
           if (index.getType().equals(SchemaClass.INDEX_TYPE.FULLTEXT.name())) {
             continue;
           }
+          PartialIndexFilter partialFilter = index.getInternal().getPartialFilter();
+          if ((partialFilter != null && !partialFilter.isImpliedBy(condition))
+              || index.getDefinition() instanceof ExpressionIndexDefinition) {
+            continue;
+          }
           List<String> indexedFields = index.getDefinition().getFields();
           int nMatchingKeys = 0;
           for (String indexedField : indexedFields) {
@@ -31,7 +31,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(265);
+        jj_consume_token(266);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -235,6 +235,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -308,7 +309,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 265:
+          case 266:
             break;
           default:
             jj_la1[2] = jj_gen;
@@ -633,6 +634,9 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case ENGINE:
           token = jj_consume_token(ENGINE);
           break;
+        case INCLUDE:
+          token = jj_consume_token(INCLUDE);
+          break;
         case REBUILD:
           token = jj_consume_token(REBUILD);
           break;
@@ -1153,6 +1157,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -1224,7 +1229,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 265:
+          case 266:
             result = ExpressionStatement();
             break;
           default:
@@ -1819,6 +1824,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -1891,7 +1897,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 265:
+        case 266:
           jjtn000.projection = Projection();
           break;
         default:
@@ -2106,6 +2112,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -2702,7 +2709,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 265:
+        case 266:
           jjtn000.rid = Rid();
           break;
         case LBRACKET:
@@ -2711,7 +2718,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 265:
+            case 266:
               lastRid = Rid();
               jjtn000.addRid(lastRid);
               label_5:
@@ -2847,6 +2854,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -3191,6 +3199,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -3423,6 +3432,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -3495,7 +3505,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 265:
+            case 266:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -3677,6 +3687,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -3749,7 +3760,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 265:
+            case 266:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -4308,6 +4319,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -4990,6 +5002,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -5288,6 +5301,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -5710,6 +5724,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -5781,7 +5796,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 265:
+        case 266:
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
             case BANG:
               jj_consume_token(BANG);
@@ -6272,6 +6287,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -6393,6 +6409,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -6464,7 +6481,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 265:
+        case 266:
           lastExpression = Expression();
           jjtn000.addParam(lastExpression);
           label_22:
@@ -6594,6 +6611,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -6665,7 +6683,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 265:
+        case 266:
           lastExpression = Expression();
           jjtn000.addParam(lastExpression);
           label_23:
@@ -7493,6 +7511,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -7564,7 +7583,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 265:
+          case 266:
             jjtn000.expression = Expression();
             break;
           case INSERT:
@@ -7685,6 +7704,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -8022,7 +8042,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 265:
+        case 266:
           lastRid = Rid();
           jjtn000.addRid(lastRid);
           break;
@@ -8184,6 +8204,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                           case INDEX:
                           case COLLATE:
                           case ENGINE:
+                          case INCLUDE:
                           case REBUILD:
                           case ID:
                           case DATABASE:
@@ -8403,6 +8424,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -8558,8 +8580,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     SQLIdentifier lastIdentifier;
     try {
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 266:
-          jj_consume_token(266);
+        case 267:
+          jj_consume_token(267);
           builder.append("__@recordmap@___");
           break;
         default:
@@ -8965,6 +8987,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -9036,7 +9059,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 265:
+        case 266:
           if (jj_2_110(2147483647)) {
             jjtn000.sub = ConditionBlock();
           } else if (jj_2_111(2147483647)) {
@@ -9904,6 +9927,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -10425,6 +10449,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -10624,6 +10649,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -11054,6 +11080,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -11112,7 +11139,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 265:
+        case 266:
           lastItem = new SQLOrderByItem();
           jjtn000.addItem(lastItem);
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11169,6 +11196,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -11238,7 +11266,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 265:
+            case 266:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11338,6 +11366,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -11407,7 +11436,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 265:
+            case 266:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11519,6 +11548,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -11577,7 +11607,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 265:
+          case 266:
             lastItem = new SQLOrderByItem();
             jjtn000.addItem(lastItem);
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11634,6 +11664,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               case INDEX:
               case COLLATE:
               case ENGINE:
+              case INCLUDE:
               case REBUILD:
               case ID:
               case DATABASE:
@@ -11703,7 +11734,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 265:
+              case 266:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -11803,6 +11834,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               case INDEX:
               case COLLATE:
               case ENGINE:
+              case INCLUDE:
               case REBUILD:
               case ID:
               case DATABASE:
@@ -11872,7 +11904,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 265:
+              case 266:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -12538,6 +12570,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -12609,7 +12642,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 265:
+        case 266:
           lastExpression = Expression();
           jjtn000.add(lastExpression);
           label_36:
@@ -12740,6 +12773,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -12914,6 +12948,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -13202,6 +13237,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -13315,6 +13351,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -13458,6 +13495,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               case INDEX:
               case COLLATE:
               case ENGINE:
+              case INCLUDE:
               case REBUILD:
               case ID:
               case DATABASE:
@@ -14169,6 +14207,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -14423,6 +14462,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -14598,6 +14638,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -14771,6 +14812,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -14944,6 +14986,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -15125,6 +15168,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -15304,6 +15348,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -15583,6 +15628,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -15707,7 +15753,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 265:
+        case 266:
           jjtn000.rid = Rid();
           break;
         case LPAREN:
@@ -15778,6 +15824,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -15908,6 +15955,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               case INDEX:
               case COLLATE:
               case ENGINE:
+              case INCLUDE:
               case REBUILD:
               case ID:
               case DATABASE:
@@ -16220,6 +16268,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -16363,6 +16412,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -16487,6 +16537,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -16642,6 +16693,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -16765,6 +16817,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -16913,6 +16966,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -16969,8 +17023,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case QUOTED_IDENTIFIER:
               jjtn000.identifierValue = Identifier();
               break;
-            case 267:
-              jj_consume_token(267);
+            case 268:
+              jj_consume_token(268);
               jjtn000.customString = "round-robin";
               break;
             case RID_STRING:
@@ -17042,6 +17096,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -17220,6 +17275,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -17430,6 +17486,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -17684,6 +17741,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -17859,11 +17917,12 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     SQLCreateIndexStatement.Property lastProperty;
     SQLIdentifier lastIdentifier;
     SQLRecordAttribute lastRecordAttr;
+    SQLExpression lastExpression;
     try {
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_155(4)) {
+      if (jj_2_156(4)) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case IF:
             jj_consume_token(IF);
@@ -17931,6 +17990,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -17996,6 +18056,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             lastProperty.recordAttribute = lastRecordAttr;
             jjtn000.addProperty(lastProperty);
             break;
+          case LPAREN:
+            jj_consume_token(LPAREN);
+            lastExpression = Expression();
+            lastProperty = new SQLCreateIndexStatement.Property();
+            lastProperty.expression = lastExpression;
+            jjtn000.addProperty(lastProperty);
+            jj_consume_token(RPAREN);
+            break;
           default:
             jj_la1[332] = jj_gen;
             jj_consume_token(-1);
@@ -18094,6 +18162,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -18195,6 +18264,27 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           }
         }
         jj_consume_token(RPAREN);
+        if (jj_2_154(2)) {
+          jj_consume_token(INCLUDE);
+          jj_consume_token(LPAREN);
+          lastIdentifier = Identifier();
+          jjtn000.addIncludedProperty(lastIdentifier);
+          label_50:
+          while (true) {
+            switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+              case COMMA:
+                break;
+              default:
+                jj_la1[341] = jj_gen;
+                break label_50;
+            }
+            jj_consume_token(COMMA);
+            lastIdentifier = Identifier();
+            jjtn000.addIncludedProperty(lastIdentifier);
+          }
+          jj_consume_token(RPAREN);
+        } else {
+        }
         jjtn000.type = Identifier();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18251,6 +18341,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -18305,7 +18396,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_154(3)) {
+            if (jj_2_155(3)) {
               jj_consume_token(IF);
               jj_consume_token(NOT);
               jj_consume_token(EXISTS);
@@ -18366,6 +18457,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case INDEX:
                 case COLLATE:
                 case ENGINE:
+                case INCLUDE:
                 case REBUILD:
                 case ID:
                 case DATABASE:
@@ -18423,19 +18515,19 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                   jjtn000.type = Identifier();
                   break;
                 default:
-                  jj_la1[341] = jj_gen;
+                  jj_la1[342] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[342] = jj_gen;
+            jj_la1[343] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
       }
-      if (jj_2_158(2)) {
+      if (jj_2_159(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18492,6 +18584,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -18546,7 +18639,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_156(2)) {
+            if (jj_2_157(2)) {
               jj_consume_token(METADATA);
               jjtn000.metadata = Json();
             } else {
@@ -18604,6 +18697,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case INDEX:
                 case COLLATE:
                 case ENGINE:
+                case INCLUDE:
                 case REBUILD:
                 case ID:
                 case DATABASE:
@@ -18660,14 +18754,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case QUOTED_IDENTIFIER:
                   lastIdentifier = Identifier();
                   jjtn000.addKeyType(lastIdentifier);
-                  label_50:
+                  label_51:
                   while (true) {
                     switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                       case COMMA:
                         break;
                       default:
-                        jj_la1[343] = jj_gen;
-                        break label_50;
+                        jj_la1[344] = jj_gen;
+                        break label_51;
                     }
                     jj_consume_token(COMMA);
                     lastIdentifier = Identifier();
@@ -18679,18 +18773,18 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                       jjtn000.metadata = Json();
                       break;
                     default:
-                      jj_la1[344] = jj_gen;
+                      jj_la1[345] = jj_gen;
                   }
                   break;
                 default:
-                  jj_la1[345] = jj_gen;
+                  jj_la1[346] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[346] = jj_gen;
+            jj_la1[347] = jj_gen;
         }
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18747,6 +18841,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -18801,7 +18896,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_157(2)) {
+            if (jj_2_158(2)) {
               jj_consume_token(METADATA);
               jjtn000.metadata = Json();
             } else {
@@ -18859,6 +18954,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case INDEX:
                 case COLLATE:
                 case ENGINE:
+                case INCLUDE:
                 case REBUILD:
                 case ID:
                 case DATABASE:
@@ -18915,14 +19011,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case QUOTED_IDENTIFIER:
                   lastIdentifier = Identifier();
                   jjtn000.addKeyType(lastIdentifier);
-                  label_51:
+                  label_52:
                   while (true) {
                     switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                       case COMMA:
                         break;
                       default:
-                        jj_la1[347] = jj_gen;
-                        break label_51;
+                        jj_la1[348] = jj_gen;
+                        break label_52;
                     }
                     jj_consume_token(COMMA);
                     lastIdentifier = Identifier();
@@ -18934,20 +19030,28 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                       jjtn000.metadata = Json();
                       break;
                     default:
-                      jj_la1[348] = jj_gen;
+                      jj_la1[349] = jj_gen;
                   }
                   break;
                 default:
-                  jj_la1[349] = jj_gen;
+                  jj_la1[350] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[350] = jj_gen;
+            jj_la1[351] = jj_gen;
         }
       }
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case WHERE:
+          jj_consume_token(WHERE);
+          jjtn000.where = WhereClause();
+          break;
+        default:
+          jj_la1[352] = jj_gen;
+      }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
       jjtn000.jjtSetLastToken(getToken(0));
@@ -19048,6 +19152,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -19102,7 +19207,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 266:
+        case 267:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19110,7 +19215,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.all = true;
           break;
         default:
-          jj_la1[351] = jj_gen;
+          jj_la1[353] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19218,6 +19323,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -19272,7 +19378,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 266:
+        case 267:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19280,7 +19386,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.all = true;
           break;
         default:
-          jj_la1[352] = jj_gen;
+          jj_la1[354] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19291,7 +19397,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[353] = jj_gen;
+          jj_la1[355] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -19352,7 +19458,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.blob = true;
           break;
         default:
-          jj_la1[354] = jj_gen;
+          jj_la1[356] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19365,7 +19471,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[355] = jj_gen;
+          jj_la1[357] = jj_gen;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
         case ID:
@@ -19373,7 +19479,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.id = Integer();
           break;
         default:
-          jj_la1[356] = jj_gen;
+          jj_la1[358] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -19432,7 +19538,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.starred = true;
           break;
         default:
-          jj_la1[357] = jj_gen;
+          jj_la1[359] = jj_gen;
       }
       jjtn000.attributeName = Identifier();
       jjtn000.attributeValue = Expression();
@@ -19536,6 +19642,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -19597,7 +19704,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.id = Integer();
           break;
         default:
-          jj_la1[358] = jj_gen;
+          jj_la1[360] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19608,7 +19715,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[359] = jj_gen;
+          jj_la1[361] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -19756,14 +19863,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     try {
       jj_consume_token(OPTIMIZE);
       jj_consume_token(DATABASE);
-      label_52:
+      label_53:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case MINUS:
             break;
           default:
-            jj_la1[360] = jj_gen;
-            break label_52;
+            jj_la1[362] = jj_gen;
+            break label_53;
         }
         lastOption = CommandLineOption();
         jjtn000.addOption(lastOption);
@@ -19878,6 +19985,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -19938,7 +20046,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.sourceRecordAttr = RecordAttribute();
           break;
         default:
-          jj_la1[361] = jj_gen;
+          jj_la1[363] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19999,6 +20107,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -20059,7 +20168,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.destRecordAttr = RecordAttribute();
           break;
         default:
-          jj_la1[362] = jj_gen;
+          jj_la1[364] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20069,7 +20178,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.inverse = true;
           break;
         default:
-          jj_la1[363] = jj_gen;
+          jj_la1[365] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -20253,7 +20362,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.permission = "NONE";
           break;
         default:
-          jj_la1[364] = jj_gen;
+          jj_la1[366] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20295,7 +20404,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.permission = Permission();
           break;
         default:
-          jj_la1[365] = jj_gen;
+          jj_la1[367] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20369,7 +20478,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.permission = Permission();
           break;
         default:
-          jj_la1[366] = jj_gen;
+          jj_la1[368] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20441,14 +20550,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           lastIdentifier = Identifier();
           jjtn000.parameters = new ArrayList<SQLIdentifier>();
           jjtn000.addParameter(lastIdentifier);
-          label_53:
+          label_54:
           while (true) {
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
               case COMMA:
                 break;
               default:
-                jj_la1[367] = jj_gen;
-                break label_53;
+                jj_la1[369] = jj_gen;
+                break label_54;
             }
             jj_consume_token(COMMA);
             lastIdentifier = Identifier();
@@ -20457,7 +20566,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[368] = jj_gen;
+          jj_la1[370] = jj_gen;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
         case IDEMPOTENT:
@@ -20472,13 +20581,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               jjtn000.idempotent = false;
               break;
             default:
-              jj_la1[369] = jj_gen;
+              jj_la1[371] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[370] = jj_gen;
+          jj_la1[372] = jj_gen;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
         case LANGUAGE:
@@ -20486,7 +20595,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.language = Identifier();
           break;
         default:
-          jj_la1[371] = jj_gen;
+          jj_la1[373] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -20601,6 +20710,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -20666,7 +20776,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[372] = jj_gen;
+          jj_la1[374] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20727,6 +20837,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -20840,6 +20951,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case INDEX:
                 case COLLATE:
                 case ENGINE:
+                case INCLUDE:
                 case REBUILD:
                 case ID:
                 case DATABASE:
@@ -20896,14 +21008,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case QUOTED_IDENTIFIER:
                   lastIdentifier = Identifier();
                   jjtn000.addRole(lastIdentifier);
-                  label_54:
+                  label_55:
                   while (true) {
                     switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                       case COMMA:
                         break;
                       default:
-                        jj_la1[373] = jj_gen;
-                        break label_54;
+                        jj_la1[375] = jj_gen;
+                        break label_55;
                     }
                     jj_consume_token(COMMA);
                     lastIdentifier = Identifier();
@@ -20911,18 +21023,18 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                   }
                   break;
                 default:
-                  jj_la1[374] = jj_gen;
+                  jj_la1[376] = jj_gen;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[375] = jj_gen;
+              jj_la1[377] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[376] = jj_gen;
+          jj_la1[378] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -21032,6 +21144,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -21093,7 +21206,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[377] = jj_gen;
+          jj_la1[379] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21208,6 +21321,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -21273,7 +21387,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[378] = jj_gen;
+          jj_la1[380] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21334,6 +21448,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -21447,6 +21562,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case INDEX:
                 case COLLATE:
                 case ENGINE:
+                case INCLUDE:
                 case REBUILD:
                 case ID:
                 case DATABASE:
@@ -21503,14 +21619,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case QUOTED_IDENTIFIER:
                   lastIdentifier = Identifier();
                   jjtn000.addRole(lastIdentifier);
-                  label_55:
+                  label_56:
                   while (true) {
                     switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                       case COMMA:
                         break;
                       default:
-                        jj_la1[379] = jj_gen;
-                        break label_55;
+                        jj_la1[381] = jj_gen;
+                        break label_56;
                     }
                     jj_consume_token(COMMA);
                     lastIdentifier = Identifier();
@@ -21518,18 +21634,18 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                   }
                   break;
                 default:
-                  jj_la1[380] = jj_gen;
+                  jj_la1[382] = jj_gen;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[381] = jj_gen;
+              jj_la1[383] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[382] = jj_gen;
+          jj_la1[384] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -21639,7 +21755,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_consume_token(ALTER);
       jj_consume_token(ROLE);
       jjtn000.name = Identifier();
-      label_56:
+      label_57:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SET:
@@ -21662,7 +21778,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 lastSecurityResource, null));
             break;
           default:
-            jj_la1[383] = jj_gen;
+            jj_la1[385] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -21671,8 +21787,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case REMOVE:
             break;
           default:
-            jj_la1[384] = jj_gen;
-            break label_56;
+            jj_la1[386] = jj_gen;
+            break label_57;
         }
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21728,7 +21844,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_consume_token(SYSTEM);
       jj_consume_token(ROLE);
       jjtn000.name = Identifier();
-      label_57:
+      label_58:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SET:
@@ -21751,7 +21867,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 lastSecurityResource, null));
             break;
           default:
-            jj_la1[385] = jj_gen;
+            jj_la1[387] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -21760,8 +21876,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case REMOVE:
             break;
           default:
-            jj_la1[386] = jj_gen;
-            break label_57;
+            jj_la1[388] = jj_gen;
+            break label_58;
         }
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21813,9 +21929,9 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_159(2147483647)) {
+      if (jj_2_160(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_160(2147483647)) {
+      } else if (jj_2_161(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -21905,7 +22021,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case LBRACE:
                   jjtn000.elseStatements = new ArrayList();
                   jj_consume_token(LBRACE);
-                  label_58:
+                  label_59:
                   while (true) {
                     last = StatementInternal();
                     jjtn000.addElse(last);
@@ -21940,8 +22056,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                       case MOVE:
                         break;
                       default:
-                        jj_la1[387] = jj_gen;
-                        break label_58;
+                        jj_la1[389] = jj_gen;
+                        break label_59;
                     }
                   }
                   jj_consume_token(RBRACE);
@@ -21958,13 +22074,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                           jjtn000.elseFail = true;
                           break;
                         default:
-                          jj_la1[388] = jj_gen;
+                          jj_la1[390] = jj_gen;
                           jj_consume_token(-1);
                           throw new ParseException();
                       }
                       break;
                     default:
-                      jj_la1[389] = jj_gen;
+                      jj_la1[391] = jj_gen;
                   }
                   break;
                 case CONTINUE:
@@ -21979,23 +22095,23 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                       jjtn000.elseFail = true;
                       break;
                     default:
-                      jj_la1[390] = jj_gen;
+                      jj_la1[392] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
                   break;
                 default:
-                  jj_la1[391] = jj_gen;
+                  jj_la1[393] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             default:
-              jj_la1[392] = jj_gen;
+              jj_la1[394] = jj_gen;
           }
           break;
         default:
-          jj_la1[393] = jj_gen;
+          jj_la1[395] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -22124,6 +22240,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -22195,11 +22312,11 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 265:
+        case 266:
           jjtn000.expression = Expression();
           break;
         default:
-          jj_la1[394] = jj_gen;
+          jj_la1[396] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -22255,7 +22372,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jjtn000.expression = OrBlock();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_59:
+      label_60:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SELECT:
@@ -22322,6 +22439,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -22395,13 +22513,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 265:
+          case 266:
             break;
           default:
-            jj_la1[395] = jj_gen;
-            break label_59;
+            jj_la1[397] = jj_gen;
+            break label_60;
         }
-        if (jj_2_161(2147483647)) {
+        if (jj_2_162(2147483647)) {
           last = StatementSemicolon();
           jjtn000.addStatement(last);
         } else {
@@ -22422,7 +22540,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[396] = jj_gen;
+              jj_la1[398] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -22597,7 +22715,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[397] = jj_gen;
+          jj_la1[399] = jj_gen;
       }
       jj_consume_token(TYPE);
       lastIdentifier = Identifier();
@@ -22611,123 +22729,6 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             throw new ParseException();
         }
       }
-      label_60:
-      while (true) {
-        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case INCREMENT:
-          case LIMIT:
-          case ASC:
-          case DESC:
-          case CACHE:
-          case CYCLE:
-          case START:
-            break;
-          default:
-            jj_la1[398] = jj_gen;
-            break label_60;
-        }
-        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case START:
-            jj_consume_token(START);
-            jjtn000.start = Expression();
-            break;
-          case INCREMENT:
-            jj_consume_token(INCREMENT);
-            jjtn000.increment = Expression();
-            break;
-          case LIMIT:
-            jj_consume_token(LIMIT);
-            jjtn000.limitValue = Expression();
-            break;
-          case CYCLE:
-            jj_consume_token(CYCLE);
-            switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-              case TRUE:
-                jj_consume_token(TRUE);
-                jjtn000.cyclic = true;
-                break;
-              case FALSE:
-                jj_consume_token(FALSE);
-                jjtn000.cyclic = false;
-                break;
-              default:
-                jj_la1[399] = jj_gen;
-                jj_consume_token(-1);
-                throw new ParseException();
-            }
-            break;
-          case CACHE:
-            jj_consume_token(CACHE);
-            jjtn000.cache = Expression();
-            break;
-          case ASC:
-            jj_consume_token(ASC);
-            jjtn000.positive = true;
-            break;
-          case DESC:
-            jj_consume_token(DESC);
-            jjtn000.positive = false;
-            break;
-          default:
-            jj_la1[400] = jj_gen;
-            jj_consume_token(-1);
-            throw new ParseException();
-        }
-      }
-      jjtree.closeNodeScope(jjtn000, true);
-      jjtc000 = false;
-      jjtn000.jjtSetLastToken(getToken(0));
-      {
-        if (true) {
-          return jjtn000;
-        }
-      }
-    } catch (Throwable jjte000) {
-      if (jjtc000) {
-        jjtree.clearNodeScope(jjtn000);
-        jjtc000 = false;
-      } else {
-        jjtree.popNode();
-      }
-      if (jjte000 instanceof RuntimeException) {
-        {
-          if (true) {
-            throw (RuntimeException) jjte000;
-          }
-        }
-      }
-      if (jjte000 instanceof ParseException) {
-        {
-          if (true) {
-            throw (ParseException) jjte000;
-          }
-        }
-      }
-      {
-        if (true) {
-          throw (Error) jjte000;
-        }
-      }
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  final public SQLAlterSequenceStatement AlterSequenceStatement() throws ParseException {
-    /*@bgen(jjtree) AlterSequenceStatement */
-    SQLAlterSequenceStatement jjtn000 = new SQLAlterSequenceStatement(JJTALTERSEQUENCESTATEMENT);
-    boolean jjtc000 = true;
-    jjtree.openNodeScope(jjtn000);
-    jjtn000.jjtSetFirstToken(getToken(1));
-    SQLIdentifier lastIdentifier;
-    try {
-      jj_consume_token(ALTER);
-      jj_consume_token(SEQUENCE);
-      jjtn000.name = Identifier();
       label_61:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -22737,11 +22738,10 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case DESC:
           case CACHE:
           case CYCLE:
-          case NOLIMIT:
           case START:
             break;
           default:
-            jj_la1[401] = jj_gen;
+            jj_la1[400] = jj_gen;
             break label_61;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -22769,7 +22769,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 jjtn000.cyclic = false;
                 break;
               default:
-                jj_la1[402] = jj_gen;
+                jj_la1[401] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -22786,12 +22786,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             jj_consume_token(DESC);
             jjtn000.positive = false;
             break;
-          case NOLIMIT:
-            jj_consume_token(NOLIMIT);
-            jjtn000.turnLimitOff = true;
-            break;
           default:
-            jj_la1[403] = jj_gen;
+            jj_la1[402] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -22839,69 +22835,191 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     throw new Error("Missing return statement in function");
   }
 
-  final public SQLDropSequenceStatement DropSequenceStatement() throws ParseException {
-    /*@bgen(jjtree) DropSequenceStatement */
-    SQLDropSequenceStatement jjtn000 = new SQLDropSequenceStatement(JJTDROPSEQUENCESTATEMENT);
-    boolean jjtc000 = true;
-    jjtree.openNodeScope(jjtn000);
-    jjtn000.jjtSetFirstToken(getToken(1));
-    SQLIdentifier lastIdentifier;
-    try {
-      jj_consume_token(DROP);
-      jj_consume_token(SEQUENCE);
-      jjtn000.name = Identifier();
-      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case IF:
-          jj_consume_token(IF);
-          jj_consume_token(EXISTS);
-          jjtn000.ifExists = true;
-          break;
-        default:
-          jj_la1[404] = jj_gen;
-      }
-      jjtree.closeNodeScope(jjtn000, true);
-      jjtc000 = false;
-      jjtn000.jjtSetLastToken(getToken(0));
-      {
-        if (true) {
-          return jjtn000;
-        }
-      }
-    } catch (Throwable jjte000) {
-      if (jjtc000) {
-        jjtree.clearNodeScope(jjtn000);
-        jjtc000 = false;
-      } else {
-        jjtree.popNode();
-      }
-      if (jjte000 instanceof RuntimeException) {
-        {
-          if (true) {
-            throw (RuntimeException) jjte000;
-          }
-        }
-      }
-      if (jjte000 instanceof ParseException) {
-        {
-          if (true) {
-            throw (ParseException) jjte000;
-          }
-        }
-      }
-      {
-        if (true) {
-          throw (Error) jjte000;
-        }
-      }
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
+  final public SQLAlterSequenceStatement AlterSequenceStatement() throws ParseException {
+    /*@bgen(jjtree) AlterSequenceStatement */
+    SQLAlterSequenceStatement jjtn000 = new SQLAlterSequenceStatement(JJTALTERSEQUENCESTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    SQLIdentifier lastIdentifier;
+    try {
+      jj_consume_token(ALTER);
+      jj_consume_token(SEQUENCE);
+      jjtn000.name = Identifier();
+      label_62:
+      while (true) {
+        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+          case INCREMENT:
+          case LIMIT:
+          case ASC:
+          case DESC:
+          case CACHE:
+          case CYCLE:
+          case NOLIMIT:
+          case START:
+            break;
+          default:
+            jj_la1[403] = jj_gen;
+            break label_62;
+        }
+        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+          case START:
+            jj_consume_token(START);
+            jjtn000.start = Expression();
+            break;
+          case INCREMENT:
+            jj_consume_token(INCREMENT);
+            jjtn000.increment = Expression();
+            break;
+          case LIMIT:
+            jj_consume_token(LIMIT);
+            jjtn000.limitValue = Expression();
+            break;
+          case CYCLE:
+            jj_consume_token(CYCLE);
+            switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+              case TRUE:
+                jj_consume_token(TRUE);
+                jjtn000.cyclic = true;
+                break;
+              case FALSE:
+                jj_consume_token(FALSE);
+                jjtn000.cyclic = false;
+                break;
+              default:
+                jj_la1[404] = jj_gen;
+                jj_consume_token(-1);
+                throw new ParseException();
+            }
+            break;
+          case CACHE:
+            jj_consume_token(CACHE);
+            jjtn000.cache = Expression();
+            break;
+          case ASC:
+            jj_consume_token(ASC);
+            jjtn000.positive = true;
+            break;
+          case DESC:
+            jj_consume_token(DESC);
+            jjtn000.positive = false;
+            break;
+          case NOLIMIT:
+            jj_consume_token(NOLIMIT);
+            jjtn000.turnLimitOff = true;
+            break;
+          default:
+            jj_la1[405] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+        }
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) {
+          return jjtn000;
+        }
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) {
+            throw (RuntimeException) jjte000;
+          }
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) {
+            throw (ParseException) jjte000;
+          }
+        }
+      }
+      {
+        if (true) {
+          throw (Error) jjte000;
+        }
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public SQLDropSequenceStatement DropSequenceStatement() throws ParseException {
+    /*@bgen(jjtree) DropSequenceStatement */
+    SQLDropSequenceStatement jjtn000 = new SQLDropSequenceStatement(JJTDROPSEQUENCESTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    SQLIdentifier lastIdentifier;
+    try {
+      jj_consume_token(DROP);
+      jj_consume_token(SEQUENCE);
+      jjtn000.name = Identifier();
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case IF:
+          jj_consume_token(IF);
+          jj_consume_token(EXISTS);
+          jjtn000.ifExists = true;
+          break;
+        default:
+          jj_la1[406] = jj_gen;
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) {
+          return jjtn000;
+        }
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) {
+            throw (RuntimeException) jjte000;
+          }
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) {
+            throw (ParseException) jjte000;
+          }
+        }
+      }
+      {
+        if (true) {
+          throw (Error) jjte000;
+        }
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   final public SQLHaStatusStatement HaStatusStatement() throws ParseException {
     /*@bgen(jjtree) HaStatusStatement */
     SQLHaStatusStatement jjtn000 = new SQLHaStatusStatement(JJTHASTATUSSTATEMENT);
@@ -22912,56 +23030,56 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     try {
       jj_consume_token(HA);
       jj_consume_token(STATUS);
-      label_62:
+      label_63:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 268:
           case 269:
           case 270:
           case 271:
           case 272:
           case 273:
           case 274:
+          case 275:
             break;
           default:
-            jj_la1[405] = jj_gen;
-            break label_62;
+            jj_la1[407] = jj_gen;
+            break label_63;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 268:
-            token = jj_consume_token(268);
-            jjtn000.servers = true;
-            break;
           case 269:
             token = jj_consume_token(269);
-            jjtn000.db = true;
+            jjtn000.servers = true;
             break;
           case 270:
             token = jj_consume_token(270);
-            jjtn000.latency = true;
+            jjtn000.db = true;
             break;
           case 271:
             token = jj_consume_token(271);
-            jjtn000.messages = true;
+            jjtn000.latency = true;
             break;
           case 272:
             token = jj_consume_token(272);
-            jjtn000.locks = true;
+            jjtn000.messages = true;
             break;
           case 273:
             token = jj_consume_token(273);
+            jjtn000.locks = true;
+            break;
+          case 274:
+            token = jj_consume_token(274);
             jjtn000.servers = true;
             jjtn000.db = true;
             jjtn000.latency = true;
             jjtn000.messages = true;
             jjtn000.locks = true;
             break;
-          case 274:
-            token = jj_consume_token(274);
+          case 275:
+            token = jj_consume_token(275);
             jjtn000.outputText = true;
             break;
           default:
-            jj_la1[406] = jj_gen;
+            jj_la1[408] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23047,27 +23165,27 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_consume_token(HA);
       jj_consume_token(SYNC);
       jj_consume_token(DATABASE);
-      label_63:
+      label_64:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 275:
           case 276:
+          case 277:
             break;
           default:
-            jj_la1[407] = jj_gen;
-            break label_63;
+            jj_la1[409] = jj_gen;
+            break label_64;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 275:
-            jj_consume_token(275);
-            jjtn000.force = true;
-            break;
           case 276:
             jj_consume_token(276);
+            jjtn000.force = true;
+            break;
+          case 277:
+            jj_consume_token(277);
             jjtn000.full = true;
             break;
           default:
-            jj_la1[408] = jj_gen;
+            jj_la1[410] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23101,25 +23219,25 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 277:
         case 278:
+        case 279:
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-            case 277:
-              jj_consume_token(277);
-              jjtn000.modeFull = true;
-              break;
             case 278:
               jj_consume_token(278);
+              jjtn000.modeFull = true;
+              break;
+            case 279:
+              jj_consume_token(279);
               jjtn000.modeMerge = true;
               break;
             default:
-              jj_la1[409] = jj_gen;
+              jj_la1[411] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[410] = jj_gen;
+          jj_la1[412] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -23236,7 +23354,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jjtn000.loopValues = Expression();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_64:
+      label_65:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SELECT:
@@ -23303,6 +23421,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -23376,13 +23495,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 265:
+          case 266:
             break;
           default:
-            jj_la1[411] = jj_gen;
-            break label_64;
+            jj_la1[413] = jj_gen;
+            break label_65;
         }
-        if (jj_2_162(2147483647)) {
+        if (jj_2_163(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.addStatement(lastStatement);
         } else {
@@ -23403,7 +23522,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[412] = jj_gen;
+              jj_la1[414] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -23466,7 +23585,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jjtn000.condition = OrBlock();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_65:
+      label_66:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SELECT:
@@ -23533,6 +23652,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
           case ID:
           case DATABASE:
@@ -23606,13 +23726,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 265:
+          case 266:
             break;
           default:
-            jj_la1[413] = jj_gen;
-            break label_65;
+            jj_la1[415] = jj_gen;
+            break label_66;
         }
-        if (jj_2_163(2147483647)) {
+        if (jj_2_164(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.addStatement(lastStatement);
         } else {
@@ -23633,7 +23753,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[414] = jj_gen;
+              jj_la1[416] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -23749,6 +23869,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -23863,7 +23984,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.setIdentifier(new SQLIdentifier(token.image));
           break;
         default:
-          jj_la1[415] = jj_gen;
+          jj_la1[417] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -23873,7 +23994,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.next = SecurityResourceSegment();
           break;
         default:
-          jj_la1[416] = jj_gen;
+          jj_la1[418] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -23980,18 +24101,18 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
               jj_consume_token(RPAREN);
               break;
             default:
-              jj_la1[417] = jj_gen;
+              jj_la1[419] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
-          label_66:
+          label_67:
           while (true) {
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
               case COMMA:
                 break;
               default:
-                jj_la1[418] = jj_gen;
-                break label_66;
+                jj_la1[420] = jj_gen;
+                break label_67;
             }
             jj_consume_token(COMMA);
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -24040,14 +24161,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 jj_consume_token(RPAREN);
                 break;
               default:
-                jj_la1[419] = jj_gen;
+                jj_la1[421] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[420] = jj_gen;
+          jj_la1[422] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -24099,7 +24220,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_consume_token(SECURITY);
       jj_consume_token(POLICY);
       jjtn000.name = Identifier();
-      label_67:
+      label_68:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SET:
@@ -24150,18 +24271,18 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 jj_consume_token(RPAREN);
                 break;
               default:
-                jj_la1[421] = jj_gen;
+                jj_la1[423] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
-            label_68:
+            label_69:
             while (true) {
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                 case COMMA:
                   break;
                 default:
-                  jj_la1[422] = jj_gen;
-                  break label_68;
+                  jj_la1[424] = jj_gen;
+                  break label_69;
               }
               jj_consume_token(COMMA);
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -24210,7 +24331,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                   jj_consume_token(RPAREN);
                   break;
                 default:
-                  jj_la1[423] = jj_gen;
+                  jj_la1[425] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -24246,18 +24367,18 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 jjtn000.removeExecute = true;
                 break;
               default:
-                jj_la1[424] = jj_gen;
+                jj_la1[426] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
-            label_69:
+            label_70:
             while (true) {
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                 case COMMA:
                   break;
                 default:
-                  jj_la1[425] = jj_gen;
-                  break label_69;
+                  jj_la1[427] = jj_gen;
+                  break label_70;
               }
               jj_consume_token(COMMA);
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -24288,14 +24409,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                   jjtn000.removeExecute = true;
                   break;
                 default:
-                  jj_la1[426] = jj_gen;
+                  jj_la1[428] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[427] = jj_gen;
+            jj_la1[429] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -24304,8 +24425,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           case REMOVE:
             break;
           default:
-            jj_la1[428] = jj_gen;
-            break label_67;
+            jj_la1[430] = jj_gen;
+            break label_68;
         }
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24407,6 +24528,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -24468,7 +24590,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[429] = jj_gen;
+          jj_la1[431] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -24528,6 +24650,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -24593,7 +24716,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[430] = jj_gen;
+          jj_la1[432] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -24654,6 +24777,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
             case ID:
             case DATABASE:
@@ -24767,6 +24891,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case INDEX:
                 case COLLATE:
                 case ENGINE:
+                case INCLUDE:
                 case REBUILD:
                 case ID:
                 case DATABASE:
@@ -24823,14 +24948,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 case QUOTED_IDENTIFIER:
                   lastIdentifier = Identifier();
                   jjtn000.addRole(lastIdentifier);
-                  label_70:
+                  label_71:
                   while (true) {
                     switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                       case COMMA:
                         break;
                       default:
-                        jj_la1[431] = jj_gen;
-                        break label_70;
+                        jj_la1[433] = jj_gen;
+                        break label_71;
                     }
                     jj_consume_token(COMMA);
                     lastIdentifier = Identifier();
@@ -24838,18 +24963,18 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                   }
                   break;
                 default:
-                  jj_la1[432] = jj_gen;
+                  jj_la1[434] = jj_gen;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[433] = jj_gen;
+              jj_la1[435] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[434] = jj_gen;
+          jj_la1[436] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -24952,6 +25077,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -25013,7 +25139,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[435] = jj_gen;
+          jj_la1[437] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25026,7 +25152,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[436] = jj_gen;
+          jj_la1[438] = jj_gen;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
         case USERS:
@@ -25034,14 +25160,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jj_consume_token(LPAREN);
           lastUserData = DatabaseUserData();
           jjtn000.addUser(lastUserData);
-          label_71:
+          label_72:
           while (true) {
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
               case COMMA:
                 break;
               default:
-                jj_la1[437] = jj_gen;
-                break label_71;
+                jj_la1[439] = jj_gen;
+                break label_72;
             }
             jj_consume_token(COMMA);
             lastUserData = DatabaseUserData();
@@ -25050,14 +25176,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[438] = jj_gen;
+          jj_la1[440] = jj_gen;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
         case LBRACE:
           jjtn000.config = Json();
           break;
         default:
-          jj_la1[439] = jj_gen;
+          jj_la1[441] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -25159,6 +25285,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
         case ID:
         case DATABASE:
@@ -25220,7 +25347,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[440] = jj_gen;
+          jj_la1[442] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25231,7 +25358,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[441] = jj_gen;
+          jj_la1[443] = jj_gen;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -27063,8 +27190,19 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_save(162, xla); }
   }
 
-  private boolean jj_3R_210() {
-    if (jj_3R_155()) {
+  private boolean jj_2_164(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return !jj_3_164();
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(163, xla); }
+  }
+
+  private boolean jj_3R_211() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(CONTAINS)) {
@@ -27074,13 +27212,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     xsp = jj_scanpos;
     if (jj_3_129()) {
       jj_scanpos = xsp;
-      return jj_3R_425();
+      return jj_3R_427();
     }
     return false;
   }
 
-  private boolean jj_3R_204() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_205() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(IS)) {
@@ -27092,8 +27230,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_scan_token(DEFINED);
   }
 
-  private boolean jj_3R_205() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_206() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(IS)) {
@@ -27102,8 +27240,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_scan_token(DEFINED);
   }
 
-  private boolean jj_3R_202() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_203() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(IS)) {
@@ -27115,8 +27253,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_scan_token(NULL);
   }
 
-  private boolean jj_3R_203() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_204() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(IS)) {
@@ -27125,40 +27263,40 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_scan_token(NULL);
   }
 
-  private boolean jj_3R_436() {
+  private boolean jj_3R_438() {
     return jj_scan_token(CHARACTER_LITERAL);
   }
 
-  private boolean jj_3R_435() {
-    return jj_3R_574();
+  private boolean jj_3R_437() {
+    return jj_3R_576();
   }
 
-  private boolean jj_3R_434() {
-    return jj_3R_165();
+  private boolean jj_3R_436() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_210() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(BETWEEN)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(AND)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
   private boolean jj_3_128() {
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_217() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(INSTANCEOF)) {
@@ -27166,159 +27304,167 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_434()) {
+    if (jj_3R_436()) {
       jj_scanpos = xsp;
-      if (jj_3R_435()) {
+      if (jj_3R_437()) {
         jj_scanpos = xsp;
-        return jj_3R_436();
+        return jj_3R_438();
     }
     }
     return false;
   }
 
-  private boolean jj_3R_427() {
-    return jj_3R_155();
+  private boolean jj_3R_429() {
+    return jj_3R_156();
   }
 
   private boolean jj_3_127() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_212() {
+    if (jj_3R_156()) {
       return true;
     }
-    if (jj_3R_426()) {
+    if (jj_3R_428()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_127()) {
       jj_scanpos = xsp;
-      return jj_3R_427();
+      return jj_3R_429();
     }
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_209() {
+    if (jj_3R_156()) {
       return true;
     }
-    if (jj_3R_424()) {
+    if (jj_3R_426()) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_532() {
+  private boolean jj_3R_534() {
     return jj_scan_token(NOT);
   }
 
-  private boolean jj_3R_376() {
+  private boolean jj_3R_378() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_532()) {
+    if (jj_3R_534()) {
       jj_scanpos = xsp;
     }
-    if (jj_3R_421()) {
+    if (jj_3R_423()) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_375() {
-    if (jj_3R_424()) {
+  private boolean jj_3R_377() {
+    if (jj_3R_426()) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_176() {
+  private boolean jj_3R_177() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_375()) {
+    if (jj_3R_377()) {
       jj_scanpos = xsp;
-      return jj_3R_376();
+      return jj_3R_378();
     }
     return false;
   }
 
-  private boolean jj_3R_802() {
+  private boolean jj_3R_805() {
     return jj_scan_token(EQEQ);
   }
 
-  private boolean jj_3R_801() {
+  private boolean jj_3R_804() {
     return jj_scan_token(EQ);
   }
 
-  private boolean jj_3R_655() {
+  private boolean jj_3R_657() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_801()) {
+    if (jj_3R_804()) {
       jj_scanpos = xsp;
-      return jj_3R_802();
+      return jj_3R_805();
     }
     return false;
   }
 
-  private boolean jj_3R_426() {
+  private boolean jj_3R_428() {
     return jj_scan_token(CONTAINSVALUE);
   }
 
-  private boolean jj_3R_663() {
+  private boolean jj_3R_665() {
     return jj_scan_token(CONTAINSKEY);
   }
 
-  private boolean jj_3R_667() {
+  private boolean jj_3R_669() {
     return jj_scan_token(SC_AND);
   }
 
-  private boolean jj_3R_666() {
+  private boolean jj_3R_668() {
     return jj_scan_token(WITHIN);
   }
 
-  private boolean jj_3R_665() {
+  private boolean jj_3R_667() {
     return jj_scan_token(NEAR);
   }
 
-  private boolean jj_3R_664() {
+  private boolean jj_3R_666() {
     return jj_scan_token(LUCENE);
   }
 
-  private boolean jj_3R_662() {
+  private boolean jj_3R_664() {
     return jj_scan_token(LIKE);
   }
 
-  private boolean jj_3R_661() {
+  private boolean jj_3R_663() {
     return jj_scan_token(LE);
   }
 
-  private boolean jj_3R_660() {
+  private boolean jj_3R_662() {
     return jj_scan_token(GE);
   }
 
-  private boolean jj_3R_659() {
+  private boolean jj_3R_661() {
     return jj_scan_token(NEQ);
   }
 
-  private boolean jj_3R_658() {
+  private boolean jj_3R_660() {
     return jj_scan_token(NE);
   }
 
-  private boolean jj_3R_657() {
+  private boolean jj_3R_659() {
     return jj_scan_token(GT);
   }
 
-  private boolean jj_3R_656() {
+  private boolean jj_3R_658() {
     return jj_scan_token(LT);
   }
 
+  private boolean jj_3R_575() {
+    return jj_3R_669();
+  }
+
+  private boolean jj_3R_574() {
+    return jj_3R_668();
+  }
+
   private boolean jj_3R_573() {
     return jj_3R_667();
   }
@@ -27327,6 +27473,10 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_3R_666();
   }
 
+  private boolean jj_3R_563() {
+    return jj_3R_657();
+  }
+
   private boolean jj_3R_571() {
     return jj_3R_665();
   }
@@ -27335,10 +27485,6 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_3R_664();
   }
 
-  private boolean jj_3R_561() {
-    return jj_3R_655();
-  }
-
   private boolean jj_3R_569() {
     return jj_3R_663();
   }
@@ -27363,50 +27509,42 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_3R_658();
   }
 
-  private boolean jj_3R_563() {
-    return jj_3R_657();
-  }
-
-  private boolean jj_3R_562() {
-    return jj_3R_656();
-  }
-
   private boolean jj_3_126() {
-    return jj_3R_216();
+    return jj_3R_217();
   }
 
   private boolean jj_3_125() {
-    return jj_3R_215();
+    return jj_3R_216();
   }
 
-  private boolean jj_3R_424() {
+  private boolean jj_3R_426() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_561()) {
-      jj_scanpos = xsp;
-      if (jj_3R_562()) {
-        jj_scanpos = xsp;
     if (jj_3R_563()) {
       jj_scanpos = xsp;
       if (jj_3R_564()) {
         jj_scanpos = xsp;
-        if (jj_3R_565()) {
+    if (jj_3R_565()) {
+      jj_scanpos = xsp;
+      if (jj_3R_566()) {
+        jj_scanpos = xsp;
+        if (jj_3R_567()) {
           jj_scanpos = xsp;
-          if (jj_3R_566()) {
+          if (jj_3R_568()) {
             jj_scanpos = xsp;
-            if (jj_3R_567()) {
+            if (jj_3R_569()) {
               jj_scanpos = xsp;
-              if (jj_3R_568()) {
+              if (jj_3R_570()) {
                 jj_scanpos = xsp;
-                if (jj_3R_569()) {
+                if (jj_3R_571()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_570()) {
+                  if (jj_3R_572()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_571()) {
+                    if (jj_3R_573()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_572()) {
+                      if (jj_3R_574()) {
                         jj_scanpos = xsp;
-                        return jj_3R_573();
+                        return jj_3R_575();
                       }
                     }
                   }
@@ -27423,165 +27561,165 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_124() {
-    return jj_3R_214();
+    return jj_3R_215();
   }
 
-  private boolean jj_3R_420() {
+  private boolean jj_3R_422() {
     return jj_scan_token(FALSE);
   }
 
-  private boolean jj_3R_418() {
-    return jj_3R_216();
+  private boolean jj_3R_420() {
+    return jj_3R_217();
   }
 
   private boolean jj_3_122() {
-    return jj_3R_212();
+    return jj_3R_213();
   }
 
-  private boolean jj_3R_419() {
+  private boolean jj_3R_421() {
     return jj_scan_token(TRUE);
   }
 
   private boolean jj_3_123() {
-    return jj_3R_213();
+    return jj_3R_214();
   }
 
-  private boolean jj_3R_417() {
-    return jj_3R_215();
+  private boolean jj_3R_419() {
+    return jj_3R_216();
   }
 
   private boolean jj_3_121() {
-    return jj_3R_211();
+    return jj_3R_212();
   }
 
   private boolean jj_3_120() {
-    return jj_3R_210();
+    return jj_3R_211();
   }
 
   private boolean jj_3_119() {
-    return jj_3R_209();
+    return jj_3R_210();
   }
 
-  private boolean jj_3R_416() {
-    return jj_3R_214();
+  private boolean jj_3R_418() {
+    return jj_3R_215();
   }
 
-  private boolean jj_3R_414() {
-    return jj_3R_212();
+  private boolean jj_3R_416() {
+    return jj_3R_213();
   }
 
   private boolean jj_3_118() {
-    return jj_3R_208();
+    return jj_3R_209();
   }
 
-  private boolean jj_3R_415() {
-    return jj_3R_213();
+  private boolean jj_3R_417() {
+    return jj_3R_214();
   }
 
-  private boolean jj_3R_413() {
-    return jj_3R_211();
+  private boolean jj_3R_415() {
+    return jj_3R_212();
   }
 
-  private boolean jj_3R_412() {
-    return jj_3R_210();
+  private boolean jj_3R_414() {
+    return jj_3R_211();
   }
 
   private boolean jj_3_116() {
-    return jj_3R_206();
+    return jj_3R_207();
   }
 
   private boolean jj_3_117() {
-    return jj_3R_207();
+    return jj_3R_208();
   }
 
-  private boolean jj_3R_411() {
-    return jj_3R_209();
+  private boolean jj_3R_413() {
+    return jj_3R_210();
   }
 
   private boolean jj_3_115() {
-    return jj_3R_205();
+    return jj_3R_206();
   }
 
-  private boolean jj_3R_410() {
-    return jj_3R_208();
+  private boolean jj_3R_412() {
+    return jj_3R_209();
   }
 
   private boolean jj_3_114() {
-    return jj_3R_204();
+    return jj_3R_205();
   }
 
   private boolean jj_3_113() {
-    return jj_3R_203();
+    return jj_3R_204();
   }
 
-  private boolean jj_3R_408() {
-    return jj_3R_206();
+  private boolean jj_3R_410() {
+    return jj_3R_207();
   }
 
   private boolean jj_3_112() {
-    return jj_3R_202();
+    return jj_3R_203();
+  }
+
+  private boolean jj_3R_411() {
+    return jj_3R_208();
   }
 
   private boolean jj_3R_409() {
-    return jj_3R_207();
+    return jj_3R_206();
   }
 
-  private boolean jj_3R_407() {
+  private boolean jj_3R_408() {
     return jj_3R_205();
   }
 
-  private boolean jj_3R_406() {
+  private boolean jj_3R_407() {
     return jj_3R_204();
   }
 
-  private boolean jj_3R_405() {
+  private boolean jj_3R_406() {
     return jj_3R_203();
   }
 
-  private boolean jj_3R_404() {
-    return jj_3R_202();
-  }
-
   private boolean jj_3_111() {
-    return jj_3R_201();
+    return jj_3R_202();
   }
 
-  private boolean jj_3R_200() {
+  private boolean jj_3R_201() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_404()) {
+    if (jj_3R_406()) {
       jj_scanpos = xsp;
-    if (jj_3R_405()) {
+    if (jj_3R_407()) {
       jj_scanpos = xsp;
-      if (jj_3R_406()) {
+      if (jj_3R_408()) {
         jj_scanpos = xsp;
-        if (jj_3R_407()) {
+        if (jj_3R_409()) {
           jj_scanpos = xsp;
-          if (jj_3R_408()) {
+          if (jj_3R_410()) {
             jj_scanpos = xsp;
-            if (jj_3R_409()) {
+            if (jj_3R_411()) {
               jj_scanpos = xsp;
-    if (jj_3R_410()) {
+    if (jj_3R_412()) {
       jj_scanpos = xsp;
-      if (jj_3R_411()) {
+      if (jj_3R_413()) {
         jj_scanpos = xsp;
-        if (jj_3R_412()) {
+        if (jj_3R_414()) {
           jj_scanpos = xsp;
-          if (jj_3R_413()) {
+          if (jj_3R_415()) {
             jj_scanpos = xsp;
-            if (jj_3R_414()) {
+            if (jj_3R_416()) {
               jj_scanpos = xsp;
-              if (jj_3R_415()) {
+              if (jj_3R_417()) {
                 jj_scanpos = xsp;
-                if (jj_3R_416()) {
+                if (jj_3R_418()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_417()) {
+                  if (jj_3R_419()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_418()) {
+                    if (jj_3R_420()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_419()) {
+                      if (jj_3R_421()) {
                         jj_scanpos = xsp;
-                        return jj_3R_420();
+                        return jj_3R_422();
                       }
                     }
                   }
@@ -27602,232 +27740,232 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_110() {
-    return jj_3R_200();
+    return jj_3R_201();
   }
 
   private boolean jj_3_109() {
-    return jj_3R_201();
+    return jj_3R_202();
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_202() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
   private boolean jj_3_108() {
-    return jj_3R_200();
-  }
-
-  private boolean jj_3R_789() {
     return jj_3R_201();
   }
 
-  private boolean jj_3R_788() {
-    return jj_3R_200();
+  private boolean jj_3R_792() {
+    return jj_3R_202();
   }
 
-  private boolean jj_3R_787() {
+  private boolean jj_3R_791() {
     return jj_3R_201();
   }
 
-  private boolean jj_3R_641() {
+  private boolean jj_3R_790() {
+    return jj_3R_202();
+  }
+
+  private boolean jj_3R_643() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_788()) {
+    if (jj_3R_791()) {
       jj_scanpos = xsp;
-      return jj_3R_789();
+      return jj_3R_792();
     }
     return false;
   }
 
-  private boolean jj_3R_786() {
-    return jj_3R_200();
+  private boolean jj_3R_789() {
+    return jj_3R_201();
   }
 
-  private boolean jj_3R_640() {
+  private boolean jj_3R_642() {
     if (jj_scan_token(NOT)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_786()) {
+    if (jj_3R_789()) {
       jj_scanpos = xsp;
-      return jj_3R_787();
+      return jj_3R_790();
     }
     return false;
   }
 
-  private boolean jj_3R_536() {
+  private boolean jj_3R_538() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_640()) {
+    if (jj_3R_642()) {
       jj_scanpos = xsp;
-      return jj_3R_641();
+      return jj_3R_643();
     }
     return false;
   }
 
-  private boolean jj_3R_537() {
+  private boolean jj_3R_539() {
     if (jj_scan_token(AND)) {
       return true;
     }
-    return jj_3R_536();
+    return jj_3R_538();
   }
 
-  private boolean jj_3R_381() {
+  private boolean jj_3R_383() {
     if (jj_scan_token(OR)) {
       return true;
     }
-    return jj_3R_380();
+    return jj_3R_382();
   }
 
-  private boolean jj_3R_380() {
-    if (jj_3R_536()) {
+  private boolean jj_3R_382() {
+    if (jj_3R_538()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_537()) {
+      if (jj_3R_539()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_178() {
-    if (jj_3R_380()) {
+  private boolean jj_3R_179() {
+    if (jj_3R_382()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_381()) {
+      if (jj_3R_383()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_463() {
-    return jj_3R_178();
+  private boolean jj_3R_465() {
+    return jj_3R_179();
   }
 
-  private boolean jj_3R_519() {
+  private boolean jj_3R_521() {
     return jj_scan_token(INDEXVALUESDESC_IDENTIFIER);
   }
 
-  private boolean jj_3R_518() {
+  private boolean jj_3R_520() {
     return jj_scan_token(INDEXVALUESASC_IDENTIFIER);
   }
 
-  private boolean jj_3R_517() {
+  private boolean jj_3R_519() {
     return jj_scan_token(INDEXVALUES_IDENTIFIER);
   }
 
-  private boolean jj_3R_354() {
+  private boolean jj_3R_356() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_517()) {
+    if (jj_3R_519()) {
       jj_scanpos = xsp;
-      if (jj_3R_518()) {
+      if (jj_3R_520()) {
         jj_scanpos = xsp;
-        return jj_3R_519();
+        return jj_3R_521();
     }
     }
     return false;
   }
 
-  private boolean jj_3R_353() {
+  private boolean jj_3R_355() {
     if (jj_scan_token(INDEX_COLON)) {
       return true;
     }
-    return jj_3R_516();
+    return jj_3R_518();
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_162() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_353()) {
+    if (jj_3R_355()) {
       jj_scanpos = xsp;
-      return jj_3R_354();
+      return jj_3R_356();
     }
     return false;
   }
 
-  private boolean jj_3R_781() {
+  private boolean jj_3R_784() {
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_780() {
+  private boolean jj_3R_783() {
     return jj_scan_token(DOT);
   }
 
-  private boolean jj_3R_628() {
+  private boolean jj_3R_630() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_780()) {
+    if (jj_3R_783()) {
       jj_scanpos = xsp;
-      if (jj_3R_781()) {
+      if (jj_3R_784()) {
         return true;
       }
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_627() {
-    return jj_scan_token(266);
+  private boolean jj_3R_629() {
+    return jj_scan_token(267);
   }
 
-  private boolean jj_3R_516() {
+  private boolean jj_3R_518() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_627()) {
+    if (jj_3R_629()) {
       jj_scanpos = xsp;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_628()) {
+      if (jj_3R_630()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_980() {
+  private boolean jj_3R_984() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_881() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_884() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_980()) {
+      if (jj_3R_984()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_732() {
+  private boolean jj_3R_735() {
     return jj_scan_token(METADATA_IDENTIFIER);
   }
 
-  private boolean jj_3R_731() {
+  private boolean jj_3R_734() {
     if (jj_scan_token(CLUSTER)) {
       return true;
     }
@@ -27839,91 +27977,91 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_881()) {
+    if (jj_3R_884()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(RBRACKET);
   }
 
-  private boolean jj_3R_358() {
+  private boolean jj_3R_360() {
     return jj_scan_token(CLUSTER_NUMBER_IDENTIFIER);
   }
 
   private boolean jj_3_104() {
-    return jj_3R_181();
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_357() {
+  private boolean jj_3R_359() {
     return jj_scan_token(CLUSTER_IDENTIFIER);
   }
 
   private boolean jj_3_103() {
-    return jj_3R_181();
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_168() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_357()) {
+    if (jj_3R_359()) {
       jj_scanpos = xsp;
-      return jj_3R_358();
+      return jj_3R_360();
     }
     return false;
   }
 
-  private boolean jj_3R_735() {
-    return jj_3R_181();
+  private boolean jj_3R_738() {
+    return jj_3R_182();
   }
 
   private boolean jj_3_102() {
-    return jj_3R_181();
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_734() {
-    return jj_3R_181();
+  private boolean jj_3R_737() {
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_598() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_600() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_735()) {
+    if (jj_3R_738()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_733() {
-    return jj_3R_181();
+  private boolean jj_3R_736() {
+    return jj_3R_182();
   }
 
   private boolean jj_3_107() {
-    if (jj_3R_171()) {
+    if (jj_3R_172()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_734()) {
+    if (jj_3R_737()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_597() {
-    return jj_3R_170();
+  private boolean jj_3R_599() {
+    return jj_3R_171();
   }
 
   private boolean jj_3_106() {
-    return jj_3R_161();
+    return jj_3R_162();
   }
 
-  private boolean jj_3R_596() {
+  private boolean jj_3R_598() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_199()) {
+    if (jj_3R_200()) {
       return true;
     }
     if (jj_scan_token(RPAREN)) {
@@ -27931,86 +28069,86 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_733()) {
+    if (jj_3R_736()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_595() {
-    return jj_3R_732();
+  private boolean jj_3R_597() {
+    return jj_3R_735();
   }
 
-  private boolean jj_3R_594() {
-    return jj_3R_161();
+  private boolean jj_3R_596() {
+    return jj_3R_162();
   }
 
-  private boolean jj_3R_880() {
-    return jj_3R_529();
+  private boolean jj_3R_883() {
+    return jj_3R_531();
   }
 
-  private boolean jj_3R_593() {
-    return jj_3R_731();
+  private boolean jj_3R_595() {
+    return jj_3R_734();
   }
 
-  private boolean jj_3R_730() {
+  private boolean jj_3R_733() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_879()) {
+    if (jj_3R_882()) {
       jj_scanpos = xsp;
-      return jj_3R_880();
+      return jj_3R_883();
     }
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_882() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_528();
+    return jj_3R_530();
   }
 
-  private boolean jj_3R_592() {
-    return jj_3R_167();
+  private boolean jj_3R_594() {
+    return jj_3R_168();
   }
 
-  private boolean jj_3R_612() {
+  private boolean jj_3R_614() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_611();
+    return jj_3R_613();
   }
 
-  private boolean jj_3R_729() {
-    return jj_3R_529();
+  private boolean jj_3R_732() {
+    return jj_3R_531();
   }
 
-  private boolean jj_3R_728() {
-    return jj_3R_528();
+  private boolean jj_3R_731() {
+    return jj_3R_530();
   }
 
-  private boolean jj_3R_727() {
+  private boolean jj_3R_730() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_169();
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_591() {
+  private boolean jj_3R_593() {
     if (jj_scan_token(LBRACKET)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_728()) {
+    if (jj_3R_731()) {
       jj_scanpos = xsp;
-      if (jj_3R_729()) {
+      if (jj_3R_732()) {
         return true;
       }
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_730()) {
+      if (jj_3R_733()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -28021,47 +28159,47 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LBRACKET)) {
       return true;
     }
-    if (jj_3R_169()) {
+    if (jj_3R_170()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_727()) {
+      if (jj_3R_730()) {
         jj_scanpos = xsp;
         break; }
     }
     return jj_scan_token(RBRACKET);
   }
 
-  private boolean jj_3R_590() {
-    return jj_3R_169();
+  private boolean jj_3R_592() {
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_458() {
+  private boolean jj_3R_460() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_590()) {
+    if (jj_3R_592()) {
       jj_scanpos = xsp;
       if (jj_3_105()) {
         jj_scanpos = xsp;
-        if (jj_3R_591()) {
+        if (jj_3R_593()) {
           jj_scanpos = xsp;
-          if (jj_3R_592()) {
+          if (jj_3R_594()) {
             jj_scanpos = xsp;
-            if (jj_3R_593()) {
+            if (jj_3R_595()) {
               jj_scanpos = xsp;
-              if (jj_3R_594()) {
+              if (jj_3R_596()) {
                 jj_scanpos = xsp;
-                if (jj_3R_595()) {
+                if (jj_3R_597()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_596()) {
+                  if (jj_3R_598()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_597()) {
+                    if (jj_3R_599()) {
                       jj_scanpos = xsp;
                       if (jj_3_107()) {
                         jj_scanpos = xsp;
-                        return jj_3R_598();
+                        return jj_3R_600();
                       }
                     }
                   }
@@ -28076,25 +28214,25 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_101() {
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_758() {
+  private boolean jj_3R_761() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_199()) {
+    if (jj_3R_200()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_757() {
-    return jj_3R_155();
+  private boolean jj_3R_760() {
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_611() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_613() {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(EQ)) {
@@ -28102,147 +28240,147 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_757()) {
+    if (jj_3R_760()) {
       jj_scanpos = xsp;
-      return jj_3R_758();
+      return jj_3R_761();
     }
     return false;
   }
 
   private boolean jj_3_100() {
-    return jj_3R_181();
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_505() {
+  private boolean jj_3R_507() {
     if (jj_scan_token(LET)) {
       return true;
     }
-    if (jj_3R_611()) {
+    if (jj_3R_613()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_612()) {
+      if (jj_3R_614()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_258() {
-    return jj_3R_458();
+  private boolean jj_3R_260() {
+    return jj_3R_460();
   }
 
-  private boolean jj_3R_558() {
-    return jj_3R_181();
+  private boolean jj_3R_560() {
+    return jj_3R_182();
   }
 
   private boolean jj_3_99() {
-    return jj_3R_181();
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_557() {
+  private boolean jj_3R_559() {
     return jj_scan_token(CHARACTER_LITERAL);
   }
 
-  private boolean jj_3R_556() {
-    return jj_3R_574();
+  private boolean jj_3R_558() {
+    return jj_3R_576();
   }
 
   private boolean jj_3_98() {
-    return jj_3R_181();
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_555() {
-    return jj_3R_181();
+  private boolean jj_3R_557() {
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_398() {
+  private boolean jj_3R_400() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_556()) {
+    if (jj_3R_558()) {
       jj_scanpos = xsp;
-      if (jj_3R_557()) {
+      if (jj_3R_559()) {
         return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_558()) {
+    if (jj_3R_560()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_554() {
-    return jj_3R_181();
+  private boolean jj_3R_556() {
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_397() {
-    if (jj_3R_170()) {
+  private boolean jj_3R_399() {
+    if (jj_3R_171()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_555()) {
+    if (jj_3R_557()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_396() {
-    if (jj_3R_553()) {
+  private boolean jj_3R_398() {
+    if (jj_3R_555()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_554()) {
+    if (jj_3R_556()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_395() {
-    return jj_3R_552();
+  private boolean jj_3R_397() {
+    return jj_3R_554();
   }
 
-  private boolean jj_3R_198() {
+  private boolean jj_3R_199() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_395()) {
+    if (jj_3R_397()) {
       jj_scanpos = xsp;
-    if (jj_3R_396()) {
+    if (jj_3R_398()) {
       jj_scanpos = xsp;
-      if (jj_3R_397()) {
+      if (jj_3R_399()) {
         jj_scanpos = xsp;
-        return jj_3R_398();
+        return jj_3R_400();
       }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_393() {
-    return jj_3R_155();
+  private boolean jj_3R_395() {
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_394() {
-    return jj_3R_301();
+  private boolean jj_3R_396() {
+    return jj_3R_303();
   }
 
   private boolean jj_3_97() {
-    return jj_3R_199();
+    return jj_3R_200();
   }
 
   private boolean jj_3_96() {
-    return jj_3R_198();
+    return jj_3R_199();
   }
 
   private boolean jj_3_95() {
-    return jj_3R_197();
+    return jj_3R_198();
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_3R_198() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
@@ -28250,107 +28388,107 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     xsp = jj_scanpos;
     if (jj_3_97()) {
       jj_scanpos = xsp;
-      if (jj_3R_393()) {
+      if (jj_3R_395()) {
         jj_scanpos = xsp;
-        if (jj_3R_394())
+        if (jj_3R_396())
           return true;
       }
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_392() {
-    return jj_3R_198();
+  private boolean jj_3R_394() {
+    return jj_3R_199();
   }
 
-  private boolean jj_3R_391() {
-    return jj_3R_197();
+  private boolean jj_3R_393() {
+    return jj_3R_198();
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_196() {
     return jj_scan_token(XOR);
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_195() {
     return jj_scan_token(BIT_OR);
   }
 
-  private boolean jj_3R_196() {
+  private boolean jj_3R_197() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_391()) {
+    if (jj_3R_393()) {
       jj_scanpos = xsp;
-      return jj_3R_392();
+      return jj_3R_394();
     }
     return false;
   }
 
-  private boolean jj_3R_193() {
+  private boolean jj_3R_194() {
     return jj_scan_token(NULL_COALESCING);
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_193() {
     return jj_scan_token(BIT_AND);
   }
 
-  private boolean jj_3R_191() {
+  private boolean jj_3R_192() {
     return jj_scan_token(RUNSIGNEDSHIFT);
   }
 
-  private boolean jj_3R_190() {
+  private boolean jj_3R_191() {
     return jj_scan_token(RSHIFT);
   }
 
-  private boolean jj_3R_189() {
+  private boolean jj_3R_190() {
     return jj_scan_token(LSHIFT);
   }
 
-  private boolean jj_3R_188() {
+  private boolean jj_3R_189() {
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_187() {
+  private boolean jj_3R_188() {
     return jj_scan_token(PLUS);
   }
 
-  private boolean jj_3R_186() {
+  private boolean jj_3R_187() {
     return jj_scan_token(REM);
   }
 
-  private boolean jj_3R_185() {
+  private boolean jj_3R_186() {
     return jj_scan_token(SLASH);
   }
 
-  private boolean jj_3R_184() {
+  private boolean jj_3R_185() {
     return jj_scan_token(STAR);
   }
 
   private boolean jj_3_94() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_184()) {
+    if (jj_3R_185()) {
       jj_scanpos = xsp;
-      if (jj_3R_185()) {
+      if (jj_3R_186()) {
         jj_scanpos = xsp;
-    if (jj_3R_186()) {
+    if (jj_3R_187()) {
       jj_scanpos = xsp;
-      if (jj_3R_187()) {
+      if (jj_3R_188()) {
         jj_scanpos = xsp;
-        if (jj_3R_188()) {
+        if (jj_3R_189()) {
           jj_scanpos = xsp;
-          if (jj_3R_189()) {
+          if (jj_3R_190()) {
             jj_scanpos = xsp;
-            if (jj_3R_190()) {
+            if (jj_3R_191()) {
               jj_scanpos = xsp;
-              if (jj_3R_191()) {
+              if (jj_3R_192()) {
                 jj_scanpos = xsp;
-                if (jj_3R_192()) {
+                if (jj_3R_193()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_193()) {
+                  if (jj_3R_194()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_194()) {
+                    if (jj_3R_195()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_195())
+                      if (jj_3R_196())
                         return true;
                     }
                   }
@@ -28363,15 +28501,15 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
       }
     }
-    return jj_3R_196();
+    return jj_3R_197();
   }
 
   private boolean jj_3_93() {
-    return jj_3R_183();
+    return jj_3R_184();
   }
 
-  private boolean jj_3R_183() {
-    if (jj_3R_196()) {
+  private boolean jj_3R_184() {
+    if (jj_3R_197()) {
       return true;
     }
     Token xsp;
@@ -28385,47 +28523,47 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_92() {
-    return jj_3R_169();
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_551() {
-    return jj_3R_233();
+  private boolean jj_3R_553() {
+    return jj_3R_235();
   }
 
-  private boolean jj_3R_550() {
-    return jj_3R_183();
+  private boolean jj_3R_552() {
+    return jj_3R_184();
   }
 
-  private boolean jj_3R_549() {
-    return jj_3R_169();
+  private boolean jj_3R_551() {
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_548() {
+  private boolean jj_3R_550() {
     return jj_scan_token(FALSE);
   }
 
-  private boolean jj_3R_547() {
+  private boolean jj_3R_549() {
     return jj_scan_token(TRUE);
   }
 
-  private boolean jj_3R_546() {
+  private boolean jj_3R_548() {
     return jj_scan_token(NULL);
   }
 
-  private boolean jj_3R_389() {
+  private boolean jj_3R_391() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_546()) {
-      jj_scanpos = xsp;
-      if (jj_3R_547()) {
-        jj_scanpos = xsp;
     if (jj_3R_548()) {
       jj_scanpos = xsp;
       if (jj_3R_549()) {
         jj_scanpos = xsp;
-        if (jj_3R_550()) {
+    if (jj_3R_550()) {
+      jj_scanpos = xsp;
+      if (jj_3R_551()) {
+        jj_scanpos = xsp;
+        if (jj_3R_552()) {
           jj_scanpos = xsp;
-          return jj_3R_551();
+          return jj_3R_553();
         }
       }
     }
@@ -28434,28 +28572,28 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_390() {
+  private boolean jj_3R_392() {
     if (jj_scan_token(SC_OR)) {
       return true;
     }
-    return jj_3R_389();
+    return jj_3R_391();
   }
 
   private boolean jj_3_91() {
-    return jj_3R_183();
+    return jj_3R_184();
   }
 
-  private boolean jj_3R_182() {
-    if (jj_3R_389()) {
+  private boolean jj_3R_183() {
+    if (jj_3R_391()) {
       return true;
     }
     Token xsp;
-    if (jj_3R_390()) {
+    if (jj_3R_392()) {
       return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_390()) {
+      if (jj_3R_392()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -28463,73 +28601,73 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_90() {
-    return jj_3R_169();
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_334() {
-    return jj_3R_233();
+  private boolean jj_3R_336() {
+    return jj_3R_235();
   }
 
-  private boolean jj_3R_333() {
-    return jj_3R_183();
+  private boolean jj_3R_335() {
+    return jj_3R_184();
   }
 
   private boolean jj_3_89() {
-    return jj_3R_182();
+    return jj_3R_183();
   }
 
-  private boolean jj_3R_332() {
-    return jj_3R_169();
+  private boolean jj_3R_334() {
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_331() {
+  private boolean jj_3R_333() {
     return jj_scan_token(FALSE);
   }
 
-  private boolean jj_3R_330() {
+  private boolean jj_3R_332() {
     return jj_scan_token(TRUE);
   }
 
-  private boolean jj_3R_329() {
+  private boolean jj_3R_331() {
     return jj_scan_token(NULL);
   }
 
   private boolean jj_3_88() {
-    return jj_3R_181();
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_328() {
-    return jj_3R_182();
+  private boolean jj_3R_330() {
+    return jj_3R_183();
   }
 
   private boolean jj_3_86() {
-    return jj_3R_179();
+    return jj_3R_180();
   }
 
   private boolean jj_3_87() {
-    return jj_3R_180();
+    return jj_3R_181();
   }
 
   private boolean jj_3_85() {
-    return jj_3R_178();
+    return jj_3R_179();
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_156() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_328()) {
+    if (jj_3R_330()) {
       jj_scanpos = xsp;
-    if (jj_3R_329()) {
+    if (jj_3R_331()) {
       jj_scanpos = xsp;
-      if (jj_3R_330()) {
+      if (jj_3R_332()) {
         jj_scanpos = xsp;
-        if (jj_3R_331()) {
+        if (jj_3R_333()) {
           jj_scanpos = xsp;
-          if (jj_3R_332()) {
+          if (jj_3R_334()) {
             jj_scanpos = xsp;
-            if (jj_3R_333()) {
+            if (jj_3R_335()) {
               jj_scanpos = xsp;
-              return jj_3R_334();
+              return jj_3R_336();
             }
           }
         }
@@ -28540,64 +28678,64 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_84() {
-    return jj_3R_177();
+    return jj_3R_178();
   }
 
-  private boolean jj_3R_388() {
-    return jj_3R_181();
+  private boolean jj_3R_390() {
+    return jj_3R_182();
+  }
+
+  private boolean jj_3R_76() {
+    if (jj_scan_token(CREATE)) {
+      return true;
+    }
+    return jj_scan_token(DATABASE);
   }
 
   private boolean jj_3_83() {
-    return jj_3R_176();
+    return jj_3R_177();
   }
 
-  private boolean jj_3R_387() {
+  private boolean jj_3R_389() {
     if (jj_scan_token(DOT)) {
       return true;
     }
-    return jj_3R_175();
-  }
-
-  private boolean jj_3R_545() {
-    return jj_3R_179();
+    return jj_3R_176();
   }
 
-  private boolean jj_3R_386() {
+  private boolean jj_3R_547() {
     return jj_3R_180();
   }
 
-  private boolean jj_3R_544() {
-    return jj_3R_178();
+  private boolean jj_3R_388() {
+    return jj_3R_181();
   }
 
-  private boolean jj_3R_543() {
-    return jj_3R_177();
+  private boolean jj_3R_546() {
+    return jj_3R_179();
   }
 
-  private boolean jj_3R_542() {
-    return jj_3R_176();
+  private boolean jj_3R_545() {
+    return jj_3R_178();
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(CREATE)) {
-      return true;
-    }
-    return jj_scan_token(DATABASE);
+  private boolean jj_3R_544() {
+    return jj_3R_177();
   }
 
-  private boolean jj_3R_385() {
+  private boolean jj_3R_387() {
     if (jj_scan_token(LBRACKET)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_542()) {
+    if (jj_3R_544()) {
       jj_scanpos = xsp;
-      if (jj_3R_543()) {
+      if (jj_3R_545()) {
         jj_scanpos = xsp;
-        if (jj_3R_544()) {
+        if (jj_3R_546()) {
           jj_scanpos = xsp;
-          if (jj_3R_545()) {
+          if (jj_3R_547()) {
             return true;
           }
         }
@@ -28606,192 +28744,133 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_scan_token(RBRACKET);
   }
 
-  private boolean jj_3R_530() {
+  private boolean jj_3R_532() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
   private boolean jj_3_82() {
-    return jj_3R_175();
+    return jj_3R_176();
   }
 
   private boolean jj_3_81() {
-    return jj_3R_174();
+    return jj_3R_175();
   }
 
-  private boolean jj_3R_181() {
+  private boolean jj_3R_182() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_385()) {
+    if (jj_3R_387()) {
       jj_scanpos = xsp;
-      if (jj_3R_386()) {
+      if (jj_3R_388()) {
         jj_scanpos = xsp;
-        if (jj_3R_387()) {
+        if (jj_3R_389()) {
           return true;
         }
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_388()) {
+    if (jj_3R_390()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_652() {
-    return jj_3R_175();
+  private boolean jj_3R_654() {
+    return jj_3R_176();
   }
 
-  private boolean jj_3R_651() {
-    return jj_3R_174();
+  private boolean jj_3R_653() {
+    return jj_3R_175();
   }
 
   private boolean jj_3_80() {
-    return jj_3R_173();
-  }
-
-  private boolean jj_3_79() {
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_553() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_651()) {
-      jj_scanpos = xsp;
-      return jj_3R_652();
-    }
-    return false;
-  }
-
-  private boolean jj_3R_374() {
-    return jj_scan_token(STAR);
-  }
-
-  private boolean jj_3R_373() {
-    return jj_3R_173();
-  }
-
-  private boolean jj_3_78() {
-    return jj_3R_172();
+    return jj_3R_174();
   }
 
-  private boolean jj_3R_372() {
-    return jj_3R_165();
+  private boolean jj_3R_1024() {
+    return jj_scan_token(EXECUTE);
   }
 
-  private boolean jj_3_77() {
-    return jj_3R_171();
+  private boolean jj_3_79() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_175() {
+  private boolean jj_3R_555() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_372()) {
-      jj_scanpos = xsp;
-    if (jj_3R_373()) {
+    if (jj_3R_653()) {
       jj_scanpos = xsp;
-      return jj_3R_374();
-    }
+      return jj_3R_654();
     }
     return false;
   }
 
-  private boolean jj_3R_1020() {
-    return jj_scan_token(EXECUTE);
-  }
-
-  private boolean jj_3R_371() {
-    return jj_3R_172();
-  }
-
-  private boolean jj_3R_1019() {
+  private boolean jj_3R_1023() {
     return jj_scan_token(DELETE);
   }
 
-  private boolean jj_3R_370() {
-    return jj_scan_token(THIS);
-  }
-
-  private boolean jj_3R_1018() {
+  private boolean jj_3R_1022() {
     if (jj_scan_token(AFTER)) {
       return true;
     }
     return jj_scan_token(UPDATE);
   }
 
-  private boolean jj_3R_1017() {
+  private boolean jj_3R_376() {
+    return jj_scan_token(STAR);
+  }
+
+  private boolean jj_3R_1021() {
     if (jj_scan_token(BEFORE)) {
       return true;
     }
     return jj_scan_token(UPDATE);
   }
 
-  private boolean jj_3R_369() {
-    return jj_3R_171();
+  private boolean jj_3R_1020() {
+    return jj_scan_token(READ);
   }
 
-  private boolean jj_3R_1016() {
-    return jj_scan_token(READ);
+  private boolean jj_3R_375() {
+    return jj_3R_174();
   }
 
-  private boolean jj_3R_1015() {
+  private boolean jj_3R_1019() {
     return jj_scan_token(CREATE);
   }
 
-  private boolean jj_3R_541() {
-    if (jj_scan_token(COMMA)) {
-      return true;
-    }
-    return jj_3R_155();
+  private boolean jj_3_78() {
+    return jj_3R_173();
   }
 
-  private boolean jj_3R_174() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_369()) {
-      jj_scanpos = xsp;
-      if (jj_3R_370()) {
-        jj_scanpos = xsp;
-        return jj_3R_371();
-    }
-    }
-    return false;
+  private boolean jj_3R_374() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_155()) {
-      return true;
-    }
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_541()) {
-        jj_scanpos = xsp;
-        break; }
-    }
-    return false;
+  private boolean jj_3_77() {
+    return jj_3R_172();
   }
 
-  private boolean jj_3R_971() {
+  private boolean jj_3R_975() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1015()) {
+    if (jj_3R_1019()) {
       jj_scanpos = xsp;
-      if (jj_3R_1016()) {
+      if (jj_3R_1020()) {
         jj_scanpos = xsp;
-        if (jj_3R_1017()) {
+        if (jj_3R_1021()) {
           jj_scanpos = xsp;
-          if (jj_3R_1018()) {
+          if (jj_3R_1022()) {
             jj_scanpos = xsp;
-            if (jj_3R_1019()) {
+            if (jj_3R_1023()) {
               jj_scanpos = xsp;
-              return jj_3R_1020();
+              return jj_3R_1024();
             }
           }
         }
@@ -28800,69 +28879,62 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_970() {
+  private boolean jj_3R_176() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_374()) {
+      jj_scanpos = xsp;
+    if (jj_3R_375()) {
+      jj_scanpos = xsp;
+      return jj_3R_376();
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_974() {
     return jj_scan_token(EXECUTE);
   }
 
-  private boolean jj_3R_969() {
+  private boolean jj_3R_973() {
     return jj_scan_token(DELETE);
   }
 
-  private boolean jj_3R_968() {
+  private boolean jj_3R_373() {
+    return jj_3R_173();
+  }
+
+  private boolean jj_3R_972() {
     if (jj_scan_token(AFTER)) {
       return true;
     }
     return jj_scan_token(UPDATE);
   }
 
-  private boolean jj_3R_180() {
-    if (jj_scan_token(DOT)) {
-      return true;
-    }
-    if (jj_3R_165()) {
-      return true;
-    }
-    if (jj_scan_token(LPAREN)) {
-      return true;
-    }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_384()) {
-      jj_scanpos = xsp;
-    }
-    return jj_scan_token(RPAREN);
+  private boolean jj_3R_372() {
+    return jj_scan_token(THIS);
   }
 
-  private boolean jj_3R_967() {
+  private boolean jj_3R_971() {
     if (jj_scan_token(BEFORE)) {
       return true;
     }
     return jj_scan_token(UPDATE);
   }
 
-  private boolean jj_3R_966() {
-    return jj_scan_token(READ);
+  private boolean jj_3R_371() {
+    return jj_3R_172();
   }
 
-  private boolean jj_3R_367() {
-    if (jj_3R_155()) {
-      return true;
-    }
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_530()) {
-        jj_scanpos = xsp;
-        break; }
-    }
-    return false;
+  private boolean jj_3R_970() {
+    return jj_scan_token(READ);
   }
 
-  private boolean jj_3R_965() {
+  private boolean jj_3R_969() {
     return jj_scan_token(CREATE);
   }
 
-  private boolean jj_3R_1014() {
+  private boolean jj_3R_1018() {
     if (jj_scan_token(EXECUTE)) {
       return true;
     }
@@ -28872,13 +28944,33 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_1013() {
+  private boolean jj_3R_543() {
+    if (jj_scan_token(COMMA)) {
+      return true;
+    }
+    return jj_3R_156();
+  }
+
+  private boolean jj_3R_175() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_371()) {
+      jj_scanpos = xsp;
+      if (jj_3R_372()) {
+        jj_scanpos = xsp;
+        return jj_3R_373();
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_1017() {
     if (jj_scan_token(DELETE)) {
       return true;
     }
@@ -28888,17 +28980,27 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_366() {
-    return jj_scan_token(DISTINCT);
+  private boolean jj_3R_386() {
+    if (jj_3R_156()) {
+      return true;
+    }
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_543()) {
+        jj_scanpos = xsp;
+        break; }
+    }
+    return false;
   }
 
-  private boolean jj_3R_1012() {
+  private boolean jj_3R_1016() {
     if (jj_scan_token(AFTER)) {
       return true;
     }
@@ -28911,17 +29013,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_365() {
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_1011() {
+  private boolean jj_3R_1015() {
     if (jj_scan_token(BEFORE)) {
       return true;
     }
@@ -28934,29 +29032,29 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_840() {
+  private boolean jj_3R_843() {
     if (jj_scan_token(REMOVE)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_965()) {
+    if (jj_3R_969()) {
       jj_scanpos = xsp;
-      if (jj_3R_966()) {
+      if (jj_3R_970()) {
         jj_scanpos = xsp;
-    if (jj_3R_967()) {
+    if (jj_3R_971()) {
       jj_scanpos = xsp;
-    if (jj_3R_968()) {
+    if (jj_3R_972()) {
       jj_scanpos = xsp;
-      if (jj_3R_969()) {
+      if (jj_3R_973()) {
         jj_scanpos = xsp;
-        if (jj_3R_970())
+        if (jj_3R_974())
           return true;
       }
     }
@@ -28965,7 +29063,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_971()) {
+      if (jj_3R_975()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28973,7 +29071,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_1010() {
+  private boolean jj_3R_1014() {
     if (jj_scan_token(READ)) {
       return true;
     }
@@ -28983,13 +29081,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_1009() {
+  private boolean jj_3R_1013() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
@@ -28999,48 +29097,61 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_171() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_365()) {
-      jj_scanpos = xsp;
-      if (jj_3R_366()) {
-        return true;
-      }
+  private boolean jj_3R_181() {
+    if (jj_scan_token(DOT)) {
+      return true;
+    }
+    if (jj_3R_166()) {
+      return true;
     }
     if (jj_scan_token(LPAREN)) {
       return true;
     }
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_367()) {
+    if (jj_3R_386()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_964() {
+  private boolean jj_3R_369() {
+    if (jj_3R_156()) {
+      return true;
+    }
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_532()) {
+        jj_scanpos = xsp;
+        break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_968() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1009()) {
+    if (jj_3R_1013()) {
       jj_scanpos = xsp;
-      if (jj_3R_1010()) {
+      if (jj_3R_1014()) {
         jj_scanpos = xsp;
-    if (jj_3R_1011()) {
+    if (jj_3R_1015()) {
       jj_scanpos = xsp;
-      if (jj_3R_1012()) {
+      if (jj_3R_1016()) {
         jj_scanpos = xsp;
-        if (jj_3R_1013()) {
+        if (jj_3R_1017()) {
           jj_scanpos = xsp;
-          return jj_3R_1014();
+          return jj_3R_1018();
     }
     }
     }
@@ -29049,7 +29160,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_963() {
+  private boolean jj_3R_967() {
     if (jj_scan_token(EXECUTE)) {
       return true;
     }
@@ -29059,13 +29170,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_962() {
+  private boolean jj_3R_966() {
     if (jj_scan_token(DELETE)) {
       return true;
     }
@@ -29075,13 +29186,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_961() {
+  private boolean jj_3R_965() {
     if (jj_scan_token(AFTER)) {
       return true;
     }
@@ -29094,13 +29205,17 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_960() {
+  private boolean jj_3R_368() {
+    return jj_scan_token(DISTINCT);
+  }
+
+  private boolean jj_3R_964() {
     if (jj_scan_token(BEFORE)) {
       return true;
     }
@@ -29113,17 +29228,17 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_173() {
-    return jj_scan_token(RECORD_ATTRIBUTE);
+  private boolean jj_3R_367() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_959() {
+  private boolean jj_3R_963() {
     if (jj_scan_token(READ)) {
       return true;
     }
@@ -29133,13 +29248,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_958() {
+  private boolean jj_3R_962() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
@@ -29149,51 +29264,58 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_527() {
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_535() {
-    return jj_scan_token(ELLIPSIS);
-  }
-
-  private boolean jj_3R_534() {
-    return jj_scan_token(RANGE);
+  private boolean jj_3R_172() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_367()) {
+      jj_scanpos = xsp;
+      if (jj_3R_368()) {
+        return true;
+      }
+    }
+    if (jj_scan_token(LPAREN)) {
+      return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_369()) {
+      jj_scanpos = xsp;
+    }
+    return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_705() {
+  private boolean jj_3R_708() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_839()) {
+    if (jj_3R_842()) {
       jj_scanpos = xsp;
-      return jj_3R_840();
+      return jj_3R_843();
     }
     return false;
   }
 
-  private boolean jj_3R_839() {
+  private boolean jj_3R_842() {
     if (jj_scan_token(SET)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_958()) {
+    if (jj_3R_962()) {
       jj_scanpos = xsp;
-      if (jj_3R_959()) {
+      if (jj_3R_963()) {
         jj_scanpos = xsp;
-    if (jj_3R_960()) {
+    if (jj_3R_964()) {
       jj_scanpos = xsp;
-      if (jj_3R_961()) {
+      if (jj_3R_965()) {
         jj_scanpos = xsp;
-    if (jj_3R_962()) {
+    if (jj_3R_966()) {
       jj_scanpos = xsp;
-      if (jj_3R_963())
+      if (jj_3R_967())
         return true;
     }
       }
@@ -29202,7 +29324,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_964()) {
+      if (jj_3R_968()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29210,22 +29332,11 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_3R_533()) {
-      return true;
-    }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_534()) {
-      jj_scanpos = xsp;
-      if (jj_3R_535()) {
-        return true;
-      }
-    }
-    return jj_3R_533();
+  private boolean jj_3R_174() {
+    return jj_scan_token(RECORD_ATTRIBUTE);
   }
 
-  private boolean jj_3R_93() {
+  private boolean jj_3R_94() {
     if (jj_scan_token(ALTER)) {
       return true;
     }
@@ -29235,23 +29346,23 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(POLICY)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
-    if (jj_3R_705()) {
+    if (jj_3R_708()) {
       return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_705()) {
+      if (jj_3R_708()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_957() {
+  private boolean jj_3R_961() {
     if (jj_scan_token(EXECUTE)) {
       return true;
     }
@@ -29261,13 +29372,17 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_956() {
+  private boolean jj_3R_529() {
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_960() {
     if (jj_scan_token(DELETE)) {
       return true;
     }
@@ -29277,13 +29392,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_955() {
+  private boolean jj_3R_959() {
     if (jj_scan_token(AFTER)) {
       return true;
     }
@@ -29296,13 +29411,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_954() {
+  private boolean jj_3R_958() {
     if (jj_scan_token(BEFORE)) {
       return true;
     }
@@ -29315,13 +29430,17 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_953() {
+  private boolean jj_3R_537() {
+    return jj_scan_token(ELLIPSIS);
+  }
+
+  private boolean jj_3R_957() {
     if (jj_scan_token(READ)) {
       return true;
     }
@@ -29331,13 +29450,17 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_952() {
+  private boolean jj_3R_536() {
+    return jj_scan_token(RANGE);
+  }
+
+  private boolean jj_3R_956() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
@@ -29347,17 +29470,28 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_378() {
-    return jj_scan_token(ELLIPSIS_INTEGER_RANGE);
+  private boolean jj_3R_381() {
+    if (jj_3R_535()) {
+      return true;
+    }
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_536()) {
+      jj_scanpos = xsp;
+      if (jj_3R_537()) {
+        return true;
+      }
+    }
+    return jj_3R_535();
   }
 
-  private boolean jj_3R_837() {
+  private boolean jj_3R_840() {
     if (jj_scan_token(EXECUTE)) {
       return true;
     }
@@ -29367,29 +29501,29 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_841() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_952()) {
+    if (jj_3R_956()) {
       jj_scanpos = xsp;
-      if (jj_3R_953()) {
+      if (jj_3R_957()) {
         jj_scanpos = xsp;
-    if (jj_3R_954()) {
+    if (jj_3R_958()) {
       jj_scanpos = xsp;
-      if (jj_3R_955()) {
+      if (jj_3R_959()) {
         jj_scanpos = xsp;
-        if (jj_3R_956()) {
+        if (jj_3R_960()) {
           jj_scanpos = xsp;
-          return jj_3R_957();
+          return jj_3R_961();
     }
     }
     }
@@ -29398,11 +29532,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_377() {
-    return jj_scan_token(INTEGER_RANGE);
-  }
-
-  private boolean jj_3R_836() {
+  private boolean jj_3R_839() {
     if (jj_scan_token(DELETE)) {
       return true;
     }
@@ -29412,13 +29542,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_838() {
     if (jj_scan_token(AFTER)) {
       return true;
     }
@@ -29431,13 +29561,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_834() {
+  private boolean jj_3R_837() {
     if (jj_scan_token(BEFORE)) {
       return true;
     }
@@ -29450,26 +29580,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_177() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_377()) {
-      jj_scanpos = xsp;
-      if (jj_3R_378()) {
-        jj_scanpos = xsp;
-        return jj_3R_379();
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_833() {
+  private boolean jj_3R_836() {
     if (jj_scan_token(READ)) {
       return true;
     }
@@ -29479,20 +29596,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_383() {
-    if (jj_scan_token(COMMA)) {
-      return true;
-    }
-    return jj_3R_382();
-  }
-
-  private boolean jj_3R_832() {
+  private boolean jj_3R_835() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
@@ -29502,29 +29612,33 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_704() {
+  private boolean jj_3R_380() {
+    return jj_scan_token(ELLIPSIS_INTEGER_RANGE);
+  }
+
+  private boolean jj_3R_707() {
     if (jj_scan_token(SET)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_832()) {
+    if (jj_3R_835()) {
       jj_scanpos = xsp;
-      if (jj_3R_833()) {
+      if (jj_3R_836()) {
         jj_scanpos = xsp;
-    if (jj_3R_834()) {
+    if (jj_3R_837()) {
       jj_scanpos = xsp;
-      if (jj_3R_835()) {
+      if (jj_3R_838()) {
         jj_scanpos = xsp;
-        if (jj_3R_836()) {
+        if (jj_3R_839()) {
           jj_scanpos = xsp;
-          if (jj_3R_837())
+          if (jj_3R_840())
             return true;
         }
       }
@@ -29533,36 +29647,18 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_838()) {
-        jj_scanpos = xsp;
-        break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3_76() {
-    return jj_3R_72();
-  }
-
-  private boolean jj_3R_179() {
-    if (jj_3R_382()) {
-      return true;
-    }
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_383()) {
+      if (jj_3R_841()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3_75() {
-    return jj_3R_170();
+  private boolean jj_3R_379() {
+    return jj_scan_token(INTEGER_RANGE);
   }
 
-  private boolean jj_3R_92() {
+  private boolean jj_3R_93() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
@@ -29572,196 +29668,202 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(POLICY)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_704()) {
+    if (jj_3R_707()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_876() {
     if (jj_scan_token(DOT)) {
       return true;
     }
-    return jj_3R_723();
+    return jj_3R_726();
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_875() {
     return jj_scan_token(FROM);
   }
 
-  private boolean jj_3R_871() {
-    return jj_scan_token(CONTAINSVALUE);
-  }
-
-  private boolean jj_3R_639() {
-    return jj_scan_token(INTEGER_LITERAL);
+  private boolean jj_3R_178() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_379()) {
+      jj_scanpos = xsp;
+      if (jj_3R_380()) {
+        jj_scanpos = xsp;
+        return jj_3R_381();
+      }
+    }
+    return false;
   }
 
-  private boolean jj_3R_870() {
-    return jj_scan_token(CONTAINSKEY);
+  private boolean jj_3R_874() {
+    return jj_scan_token(CONTAINSVALUE);
   }
 
-  private boolean jj_3_74() {
-    return jj_3R_155();
+  private boolean jj_3R_385() {
+    if (jj_scan_token(COMMA)) {
+      return true;
+    }
+    return jj_3R_384();
   }
 
-  private boolean jj_3R_638() {
-    return jj_3R_170();
+  private boolean jj_3R_873() {
+    return jj_scan_token(CONTAINSKEY);
   }
 
-  private boolean jj_3R_869() {
+  private boolean jj_3R_872() {
     return jj_scan_token(CONTAINSANY);
   }
 
-  private boolean jj_3_73() {
-    return jj_3R_170();
-  }
-
-  private boolean jj_3R_868() {
+  private boolean jj_3R_871() {
     return jj_scan_token(CONTAINSALL);
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_870() {
     return jj_scan_token(CONTAINS);
   }
 
-  private boolean jj_3_72() {
-    return jj_3R_169();
+  private boolean jj_3_76() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_180() {
+    if (jj_3R_384()) {
+      return true;
+    }
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_638()) {
-      jj_scanpos = xsp;
-      return jj_3R_639();
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_385()) {
+        jj_scanpos = xsp;
+        break; }
     }
     return false;
   }
 
-  private boolean jj_3R_866() {
+  private boolean jj_3R_869() {
     return jj_scan_token(EDGE);
   }
 
-  private boolean jj_3R_865() {
+  private boolean jj_3R_868() {
     return jj_scan_token(VERTEX);
   }
 
-  private boolean jj_3R_540() {
-    return jj_3R_155();
+  private boolean jj_3_75() {
+    return jj_3R_171();
   }
 
-  private boolean jj_3R_864() {
+  private boolean jj_3R_867() {
     return jj_scan_token(LIKE);
   }
 
-  private boolean jj_3R_863() {
+  private boolean jj_3R_866() {
     return jj_scan_token(SELECT);
   }
 
-  private boolean jj_3R_539() {
-    return jj_3R_170();
-  }
-
-  private boolean jj_3R_862() {
+  private boolean jj_3R_865() {
     return jj_scan_token(INSERT);
   }
 
-  private boolean jj_3R_538() {
-    return jj_3R_169();
+  private boolean jj_3R_864() {
+    return jj_scan_token(DELETE);
   }
 
-  private boolean jj_3R_861() {
-    return jj_scan_token(DELETE);
+  private boolean jj_3R_641() {
+    return jj_scan_token(INTEGER_LITERAL);
   }
 
-  private boolean jj_3R_860() {
+  private boolean jj_3R_863() {
     return jj_scan_token(CREATE);
   }
 
-  private boolean jj_3R_859() {
+  private boolean jj_3_74() {
+    return jj_3R_156();
+  }
+
+  private boolean jj_3R_640() {
+    return jj_3R_171();
+  }
+
+  private boolean jj_3R_862() {
     return jj_scan_token(CLUSTER);
   }
 
-  private boolean jj_3R_382() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_538()) {
-      jj_scanpos = xsp;
-      if (jj_3R_539()) {
-        jj_scanpos = xsp;
-        return jj_3R_540();
-      }
-    }
-    return false;
+  private boolean jj_3_73() {
+    return jj_3R_171();
   }
 
-  private boolean jj_3R_858() {
-    return jj_3R_165();
+  private boolean jj_3R_861() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_857() {
+  private boolean jj_3R_860() {
     return jj_scan_token(STAR);
   }
 
-  private boolean jj_3R_785() {
-    if (jj_scan_token(AS)) {
-      return true;
-    }
-    return jj_3R_165();
+  private boolean jj_3_72() {
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_918() {
-    return jj_scan_token(STAR);
+  private boolean jj_3R_535() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_640()) {
+      jj_scanpos = xsp;
+      return jj_3R_641();
+    }
+    return false;
   }
 
-  private boolean jj_3R_784() {
-    return jj_3R_526();
+  private boolean jj_3R_542() {
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_917() {
-    return jj_scan_token(BANG);
+  private boolean jj_3R_541() {
+    return jj_3R_171();
   }
 
-  private boolean jj_3R_723() {
+  private boolean jj_3R_726() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_857()) {
+    if (jj_3R_860()) {
       jj_scanpos = xsp;
-      if (jj_3R_858()) {
+      if (jj_3R_861()) {
         jj_scanpos = xsp;
-    if (jj_3R_859()) {
+    if (jj_3R_862()) {
       jj_scanpos = xsp;
-      if (jj_3R_860()) {
+      if (jj_3R_863()) {
         jj_scanpos = xsp;
-        if (jj_3R_861()) {
+        if (jj_3R_864()) {
           jj_scanpos = xsp;
-          if (jj_3R_862()) {
+          if (jj_3R_865()) {
             jj_scanpos = xsp;
-            if (jj_3R_863()) {
+            if (jj_3R_866()) {
               jj_scanpos = xsp;
-              if (jj_3R_864()) {
+              if (jj_3R_867()) {
                 jj_scanpos = xsp;
-                if (jj_3R_865()) {
+                if (jj_3R_868()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_866()) {
+                  if (jj_3R_869()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_867()) {
+                    if (jj_3R_870()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_868()) {
+                      if (jj_3R_871()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_869()) {
+                        if (jj_3R_872()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_870()) {
+                          if (jj_3R_873()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_871()) {
+                            if (jj_3R_874()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_872())
+                              if (jj_3R_875())
                                 return true;
                             }
                           }
@@ -29779,113 +29881,118 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_873()) {
+    if (jj_3R_876()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_783() {
+  private boolean jj_3R_540() {
+    return jj_3R_170();
+  }
+
+  private boolean jj_3_164() {
+    return jj_3R_74();
+  }
+
+  private boolean jj_3R_384() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_917()) {
+    if (jj_3R_540()) {
       jj_scanpos = xsp;
+      if (jj_3R_541()) {
+        jj_scanpos = xsp;
+        return jj_3R_542();
+      }
     }
-    if (jj_3R_155()) {
-      return true;
-    }
+    return false;
+  }
+
+  private boolean jj_3R_1041() {
+    return jj_3R_982();
+  }
+
+  private boolean jj_3R_1040() {
+    return jj_3R_983();
+  }
+
+  private boolean jj_3R_1039() {
+    return jj_3R_315();
+  }
+
+  private boolean jj_3R_1038() {
+    return jj_3R_74();
+  }
+
+  private boolean jj_3R_1029() {
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_918()) {
+    if (jj_3R_1038()) {
       jj_scanpos = xsp;
+      if (jj_3R_1039()) {
+        jj_scanpos = xsp;
+        if (jj_3R_1040()) {
+          jj_scanpos = xsp;
+          if (jj_3R_1041()) {
+            jj_scanpos = xsp;
+            return jj_scan_token(193);
+          }
+        }
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_726() {
-    if (jj_scan_token(COMMA)) {
+  private boolean jj_3R_788() {
+    if (jj_scan_token(AS)) {
       return true;
     }
-    return jj_3R_168();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_782() {
+  private boolean jj_3R_921() {
     return jj_scan_token(STAR);
   }
 
-  private boolean jj_3_163() {
-    return jj_3R_73();
-  }
-
-  private boolean jj_3R_1037() {
-    return jj_3R_978();
+  private boolean jj_3R_787() {
+    return jj_3R_528();
   }
 
-  private boolean jj_3R_1036() {
-    return jj_3R_979();
+  private boolean jj_3R_920() {
+    return jj_scan_token(BANG);
   }
 
-  private boolean jj_3R_632() {
+  private boolean jj_3R_786() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_782()) {
+    if (jj_3R_920()) {
       jj_scanpos = xsp;
-      if (jj_3R_783()) {
-        return true;
-      }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_784()) {
-      jj_scanpos = xsp;
+    if (jj_3R_156()) {
+      return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_785()) {
+    if (jj_3R_921()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_1035() {
-    return jj_3R_313();
-  }
-
-  private boolean jj_3R_725() {
+  private boolean jj_3R_729() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_168();
-  }
-
-  private boolean jj_3R_1034() {
-    return jj_3R_73();
-  }
-
-  private boolean jj_3R_1025() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1034()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1035()) {
-        jj_scanpos = xsp;
-        if (jj_3R_1036()) {
-          jj_scanpos = xsp;
-          if (jj_3R_1037()) {
-            jj_scanpos = xsp;
-            return jj_scan_token(192);
-          }
-        }
-      }
-    }
-    return false;
+    return jj_3R_169();
   }
 
-  private boolean jj_3R_978() {
+  private boolean jj_3R_982() {
     if (jj_scan_token(WHILE)) {
       return true;
     }
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     if (jj_scan_token(RPAREN)) {
@@ -29897,52 +30004,76 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1025()) {
+      if (jj_3R_1029()) {
         jj_scanpos = xsp;
         break; }
     }
     return jj_scan_token(RBRACE);
   }
 
-  private boolean jj_3R_633() {
-    if (jj_scan_token(COMMA)) {
-      return true;
+  private boolean jj_3R_785() {
+    return jj_scan_token(STAR);
+  }
+
+  private boolean jj_3R_634() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_785()) {
+      jj_scanpos = xsp;
+      if (jj_3R_786()) {
+        return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_787()) {
+      jj_scanpos = xsp;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_788()) {
+      jj_scanpos = xsp;
     }
-    return jj_3R_632();
+    return false;
   }
 
-  private boolean jj_3_162() {
-    return jj_3R_73();
+  private boolean jj_3_163() {
+    return jj_3R_74();
   }
 
-  private boolean jj_3R_1041() {
-    return jj_3R_978();
+  private boolean jj_3R_728() {
+    if (jj_scan_token(COMMA)) {
+      return true;
+    }
+    return jj_3R_169();
   }
 
-  private boolean jj_3R_1040() {
-    return jj_3R_979();
+  private boolean jj_3R_1045() {
+    return jj_3R_982();
   }
 
-  private boolean jj_3R_1039() {
-    return jj_3R_313();
+  private boolean jj_3R_1044() {
+    return jj_3R_983();
   }
 
-  private boolean jj_3R_1038() {
-    return jj_3R_73();
+  private boolean jj_3R_1043() {
+    return jj_3R_315();
   }
 
-  private boolean jj_3R_1026() {
+  private boolean jj_3R_1042() {
+    return jj_3R_74();
+  }
+
+  private boolean jj_3R_1030() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1038()) {
+    if (jj_3R_1042()) {
       jj_scanpos = xsp;
-      if (jj_3R_1039()) {
+      if (jj_3R_1043()) {
         jj_scanpos = xsp;
-        if (jj_3R_1040()) {
+        if (jj_3R_1044()) {
           jj_scanpos = xsp;
-          if (jj_3R_1041()) {
+          if (jj_3R_1045()) {
             jj_scanpos = xsp;
-            return jj_scan_token(192);
+            return jj_scan_token(193);
           }
     }
     }
@@ -29950,51 +30081,27 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_scan_token(COLON)) {
-      return true;
-    }
-    if (jj_scan_token(LBRACE)) {
-      return true;
-    }
-    if (jj_3R_632()) {
-      return true;
-    }
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_633()) {
-        jj_scanpos = xsp;
-        break; }
-    }
-    return jj_scan_token(RBRACE);
-  }
-
-  private boolean jj_3R_361() {
-    if (jj_scan_token(AS)) {
+  private boolean jj_3R_635() {
+    if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_527();
-  }
-
-  private boolean jj_3R_360() {
-    return jj_3R_526();
+    return jj_3R_634();
   }
 
-  private boolean jj_3R_979() {
+  private boolean jj_3R_983() {
     if (jj_scan_token(FOREACH)) {
       return true;
     }
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(IN)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(RPAREN)) {
@@ -30006,136 +30113,127 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1026()) {
+      if (jj_3R_1030()) {
         jj_scanpos = xsp;
         break; }
     }
     return jj_scan_token(RBRACE);
   }
 
-  private boolean jj_3R_359() {
-    return jj_scan_token(BANG);
-  }
-
-  private boolean jj_3R_168() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_359()) {
-      jj_scanpos = xsp;
-    }
-    if (jj_3R_155()) {
+  private boolean jj_3R_528() {
+    if (jj_scan_token(COLON)) {
       return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_360()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_361()) {
-      jj_scanpos = xsp;
-    }
-    return false;
-  }
-
-  private boolean jj_3_71() {
-    return jj_3R_168();
-  }
-
-  private boolean jj_3R_587() {
-    if (jj_scan_token(DISTINCT)) {
+    if (jj_scan_token(LBRACE)) {
       return true;
     }
-    if (jj_3R_168()) {
+    if (jj_3R_634()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_726()) {
+      if (jj_3R_635()) {
         jj_scanpos = xsp;
         break; }
     }
-    return false;
+    return jj_scan_token(RBRACE);
   }
 
-  private boolean jj_3R_118() {
+  private boolean jj_3R_119() {
     if (jj_scan_token(HA)) {
       return true;
     }
     if (jj_scan_token(SET)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(EQ)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_586() {
-    if (jj_3R_168()) {
+  private boolean jj_3R_363() {
+    if (jj_scan_token(AS)) {
       return true;
     }
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_725()) {
-        jj_scanpos = xsp;
-        break; }
-    }
-    return false;
+    return jj_3R_529();
   }
 
-  private boolean jj_3R_498() {
-    return jj_scan_token(278);
+  private boolean jj_3R_362() {
+    return jj_3R_528();
   }
 
-  private boolean jj_3R_453() {
+  private boolean jj_3R_361() {
+    return jj_scan_token(BANG);
+  }
+
+  private boolean jj_3R_500() {
+    return jj_scan_token(279);
+  }
+
+  private boolean jj_3R_302() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_586()) {
+    if (jj_3R_499()) {
       jj_scanpos = xsp;
-      return jj_3R_587();
+      return jj_3R_500();
     }
     return false;
   }
 
-  private boolean jj_3R_300() {
+  private boolean jj_3R_499() {
+    return jj_scan_token(278);
+  }
+
+  private boolean jj_3R_169() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_497()) {
+    if (jj_3R_361()) {
+      jj_scanpos = xsp;
+    }
+    if (jj_3R_156()) {
+      return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_362()) {
+      jj_scanpos = xsp;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_363()) {
       jj_scanpos = xsp;
-      return jj_3R_498();
     }
     return false;
   }
 
-  private boolean jj_3R_497() {
-    return jj_scan_token(277);
-  }
-
-  private boolean jj_3R_635() {
-    return jj_scan_token(SKIP2);
-  }
-
-  private boolean jj_3R_637() {
-    return jj_scan_token(FROM);
-  }
-
-  private boolean jj_3R_634() {
-    return jj_3R_165();
+  private boolean jj_3_71() {
+    return jj_3R_169();
   }
 
-  private boolean jj_3R_636() {
-    return jj_scan_token(LIMIT);
+  private boolean jj_3R_589() {
+    if (jj_scan_token(DISTINCT)) {
+      return true;
+    }
+    if (jj_3R_169()) {
+      return true;
+    }
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_729()) {
+        jj_scanpos = xsp;
+        break; }
+    }
+    return false;
   }
 
-  private boolean jj_3R_117() {
+  private boolean jj_3R_118() {
     if (jj_scan_token(HA)) {
       return true;
     }
@@ -30145,55 +30243,60 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(CLUSTER)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_300()) {
+    if (jj_3R_302()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_496() {
-    return jj_scan_token(276);
+  private boolean jj_3R_588() {
+    if (jj_3R_169()) {
+      return true;
+    }
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_728()) {
+        jj_scanpos = xsp;
+        break; }
+    }
+    return false;
   }
 
-  private boolean jj_3R_299() {
+  private boolean jj_3R_498() {
+    return jj_scan_token(277);
+  }
+
+  private boolean jj_3R_301() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_495()) {
+    if (jj_3R_497()) {
       jj_scanpos = xsp;
-      return jj_3R_496();
+      return jj_3R_498();
     }
     return false;
   }
 
-  private boolean jj_3R_495() {
-    return jj_scan_token(275);
+  private boolean jj_3R_497() {
+    return jj_scan_token(276);
   }
 
-  private boolean jj_3R_529() {
-    if (jj_scan_token(COLON)) {
-      return true;
-    }
+  private boolean jj_3R_455() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_634()) {
+    if (jj_3R_588()) {
       jj_scanpos = xsp;
-      if (jj_3R_635()) {
-        jj_scanpos = xsp;
-        if (jj_3R_636()) {
-          jj_scanpos = xsp;
-          return jj_3R_637();
-        }
-      }
+      return jj_3R_589();
     }
     return false;
   }
 
-  private boolean jj_3R_116() {
+  private boolean jj_3R_117() {
     if (jj_scan_token(HA)) {
       return true;
     }
@@ -30206,25 +30309,30 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_299()) {
+      if (jj_3R_301()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_454() {
-    if (jj_scan_token(CLUSTER)) {
-      return true;
-    }
-    return jj_3R_165();
+  private boolean jj_3R_637() {
+    return jj_scan_token(SKIP2);
   }
 
-  private boolean jj_3R_528() {
-    return jj_scan_token(HOOK);
+  private boolean jj_3R_639() {
+    return jj_scan_token(FROM);
   }
 
-  private boolean jj_3R_114() {
+  private boolean jj_3R_636() {
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_638() {
+    return jj_scan_token(LIMIT);
+  }
+
+  private boolean jj_3R_115() {
     if (jj_scan_token(HA)) {
       return true;
     }
@@ -30234,67 +30342,79 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(SERVER)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_494() {
-    return jj_scan_token(274);
+  private boolean jj_3R_496() {
+    return jj_scan_token(275);
   }
 
-  private boolean jj_3R_364() {
-    return jj_3R_529();
+  private boolean jj_3R_531() {
+    if (jj_scan_token(COLON)) {
+      return true;
+    }
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_636()) {
+      jj_scanpos = xsp;
+      if (jj_3R_637()) {
+        jj_scanpos = xsp;
+        if (jj_3R_638()) {
+          jj_scanpos = xsp;
+          return jj_3R_639();
+        }
+      }
+    }
+    return false;
   }
 
-  private boolean jj_3R_363() {
-    return jj_3R_528();
+  private boolean jj_3R_495() {
+    return jj_scan_token(274);
   }
 
-  private boolean jj_3R_493() {
+  private boolean jj_3R_494() {
     return jj_scan_token(273);
   }
 
-  private boolean jj_3R_492() {
-    return jj_scan_token(272);
+  private boolean jj_3R_456() {
+    if (jj_scan_token(CLUSTER)) {
+      return true;
+    }
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_491() {
-    return jj_scan_token(271);
+  private boolean jj_3R_493() {
+    return jj_scan_token(272);
   }
 
-  private boolean jj_3R_170() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_363()) {
-      jj_scanpos = xsp;
-      return jj_3R_364();
-    }
-    return false;
+  private boolean jj_3R_492() {
+    return jj_scan_token(271);
   }
 
-  private boolean jj_3R_490() {
+  private boolean jj_3R_491() {
     return jj_scan_token(270);
   }
 
-  private boolean jj_3R_489() {
-    return jj_scan_token(269);
+  private boolean jj_3R_530() {
+    return jj_scan_token(HOOK);
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_300() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_488()) {
-      jj_scanpos = xsp;
-      if (jj_3R_489()) {
-        jj_scanpos = xsp;
     if (jj_3R_490()) {
       jj_scanpos = xsp;
       if (jj_3R_491()) {
         jj_scanpos = xsp;
-        if (jj_3R_492()) {
+    if (jj_3R_492()) {
+      jj_scanpos = xsp;
+      if (jj_3R_493()) {
+        jj_scanpos = xsp;
+        if (jj_3R_494()) {
           jj_scanpos = xsp;
-          if (jj_3R_493()) {
+          if (jj_3R_495()) {
             jj_scanpos = xsp;
-            return jj_3R_494();
+            return jj_3R_496();
           }
         }
       }
@@ -30304,67 +30424,130 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_488() {
-    return jj_scan_token(268);
+  private boolean jj_3R_490() {
+    return jj_scan_token(269);
   }
 
-  private boolean jj_3R_257() {
-    return jj_3R_457();
+  private boolean jj_3R_366() {
+    return jj_3R_531();
   }
 
-  private boolean jj_3R_256() {
-    return jj_3R_456();
+  private boolean jj_3R_365() {
+    return jj_3R_530();
   }
 
-  private boolean jj_3R_255() {
-    return jj_3R_455();
+  private boolean jj_3R_116() {
+    if (jj_scan_token(HA)) {
+      return true;
+    }
+    if (jj_scan_token(STATUS)) {
+      return true;
+    }
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_300()) {
+        jj_scanpos = xsp;
+        break; }
+    }
+    return false;
   }
 
-  private boolean jj_3R_254() {
-    return jj_3R_162();
+  private boolean jj_3R_171() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_365()) {
+      jj_scanpos = xsp;
+      return jj_3R_366();
+    }
+    return false;
   }
 
-  private boolean jj_3R_253() {
-    return jj_scan_token(UPSERT);
+  private boolean jj_3R_716() {
+    if (jj_scan_token(IF)) {
+      return true;
+    }
+    return jj_scan_token(EXISTS);
   }
 
-  private boolean jj_3R_252() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_259() {
+    return jj_3R_459();
+  }
+
+  private boolean jj_3R_258() {
+    return jj_3R_458();
+  }
+
+  private boolean jj_3R_257() {
+    return jj_3R_457();
+  }
+
+  private boolean jj_3R_256() {
+    return jj_3R_163();
+  }
+
+  private boolean jj_3R_107() {
+    if (jj_scan_token(DROP)) {
+      return true;
+    }
+    if (jj_scan_token(SEQUENCE)) {
+      return true;
+    }
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_454()) {
+    if (jj_3R_716()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_115() {
-    if (jj_scan_token(HA)) {
-      return true;
-    }
-    if (jj_scan_token(STATUS)) {
+  private boolean jj_3R_255() {
+    return jj_scan_token(UPSERT);
+  }
+
+  private boolean jj_3R_858() {
+    return jj_scan_token(NOLIMIT);
+  }
+
+  private boolean jj_3R_254() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_298()) {
-        jj_scanpos = xsp;
-        break; }
+    xsp = jj_scanpos;
+    if (jj_3R_456()) {
+      jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_713() {
-    if (jj_scan_token(IF)) {
+  private boolean jj_3R_857() {
+    return jj_scan_token(DESC);
+  }
+
+  private boolean jj_3R_979() {
+    return jj_scan_token(FALSE);
+  }
+
+  private boolean jj_3R_856() {
+    return jj_scan_token(ASC);
+  }
+
+  private boolean jj_3R_855() {
+    if (jj_scan_token(CACHE)) {
       return true;
     }
-    return jj_scan_token(EXISTS);
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_98() {
+  private boolean jj_3R_978() {
+    return jj_scan_token(TRUE);
+  }
+
+  private boolean jj_3R_99() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
@@ -30373,119 +30556,136 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_252()) {
+    if (jj_3R_254()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_253()) {
+    if (jj_3R_255()) {
       jj_scanpos = xsp;
     }
     if (jj_scan_token(FROM)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(TO)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_254()) {
+    if (jj_3R_256()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_255()) {
+    if (jj_3R_257()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_256()) {
+    if (jj_3R_258()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_257()) {
+    if (jj_3R_259()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_106() {
-    if (jj_scan_token(DROP)) {
-      return true;
-    }
-    if (jj_scan_token(SEQUENCE)) {
-      return true;
-    }
-    if (jj_3R_165()) {
+  private boolean jj_3R_714() {
+    return jj_3R_459();
+  }
+
+  private boolean jj_3R_713() {
+    return jj_3R_461();
+  }
+
+  private boolean jj_3R_854() {
+    if (jj_scan_token(CYCLE)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_713()) {
+    if (jj_3R_978()) {
       jj_scanpos = xsp;
+      return jj_3R_979();
     }
     return false;
   }
 
-  private boolean jj_3R_711() {
-    return jj_3R_457();
-  }
-
-  private boolean jj_3R_710() {
-    return jj_3R_459();
-  }
-
-  private boolean jj_3R_855() {
-    return jj_scan_token(NOLIMIT);
-  }
-
-  private boolean jj_3R_854() {
-    return jj_scan_token(DESC);
+  private boolean jj_3R_853() {
+    if (jj_scan_token(LIMIT)) {
+      return true;
+    }
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_709() {
+  private boolean jj_3R_712() {
     if (jj_scan_token(CLASS)) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_975() {
-    return jj_scan_token(FALSE);
+  private boolean jj_3R_852() {
+    if (jj_scan_token(INCREMENT)) {
+      return true;
+    }
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_853() {
-    return jj_scan_token(ASC);
+  private boolean jj_3R_711() {
+    return jj_3R_168();
   }
 
-  private boolean jj_3R_708() {
-    return jj_3R_167();
+  private boolean jj_3R_715() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_851()) {
+      jj_scanpos = xsp;
+      if (jj_3R_852()) {
+        jj_scanpos = xsp;
+    if (jj_3R_853()) {
+      jj_scanpos = xsp;
+    if (jj_3R_854()) {
+      jj_scanpos = xsp;
+      if (jj_3R_855()) {
+        jj_scanpos = xsp;
+        if (jj_3R_856()) {
+          jj_scanpos = xsp;
+          if (jj_3R_857()) {
+            jj_scanpos = xsp;
+            return jj_3R_858();
+          }
+        }
+      }
+    }
+    }
+    }
+    }
+    return false;
   }
 
-  private boolean jj_3R_852() {
-    if (jj_scan_token(CACHE)) {
+  private boolean jj_3R_851() {
+    if (jj_scan_token(START)) {
       return true;
     }
-    return jj_3R_155();
-  }
-
-  private boolean jj_3R_974() {
-    return jj_scan_token(TRUE);
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_302() {
+  private boolean jj_3R_304() {
     if (jj_scan_token(MOVE)) {
       return true;
     }
     if (jj_scan_token(VERTEX)) {
       return true;
     }
-    if (jj_3R_458()) {
+    if (jj_3R_460()) {
       return true;
     }
     if (jj_scan_token(TO)) {
@@ -30493,193 +30693,190 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_708()) {
+    if (jj_3R_711()) {
       jj_scanpos = xsp;
-      if (jj_3R_709()) {
+      if (jj_3R_712()) {
         return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_710()) {
+    if (jj_3R_713()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_711()) {
+    if (jj_3R_714()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
   private boolean jj_3_70() {
-    return jj_3R_162();
+    return jj_3R_163();
   }
 
   private boolean jj_3_69() {
-    return jj_3R_167();
+    return jj_3R_168();
   }
 
-  private boolean jj_3R_851() {
-    if (jj_scan_token(CYCLE)) {
+  private boolean jj_3R_105() {
+    if (jj_scan_token(ALTER)) {
+      return true;
+    }
+    if (jj_scan_token(SEQUENCE)) {
+      return true;
+    }
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_974()) {
-      jj_scanpos = xsp;
-      return jj_3R_975();
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_715()) {
+        jj_scanpos = xsp;
+        break; }
     }
     return false;
   }
 
   private boolean jj_3R_850() {
-    if (jj_scan_token(LIMIT)) {
-      return true;
-    }
-    return jj_3R_155();
+    return jj_scan_token(DESC);
+  }
+
+  private boolean jj_3R_977() {
+    return jj_scan_token(FALSE);
   }
 
   private boolean jj_3R_849() {
-    if (jj_scan_token(INCREMENT)) {
-      return true;
-    }
-    return jj_3R_155();
+    return jj_scan_token(ASC);
   }
 
-  private boolean jj_3R_452() {
-    if (jj_scan_token(CLUSTER)) {
+  private boolean jj_3R_848() {
+    if (jj_scan_token(CACHE)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_712() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_848()) {
-      jj_scanpos = xsp;
-      if (jj_3R_849()) {
-        jj_scanpos = xsp;
-    if (jj_3R_850()) {
-      jj_scanpos = xsp;
-    if (jj_3R_851()) {
-      jj_scanpos = xsp;
-      if (jj_3R_852()) {
-        jj_scanpos = xsp;
-        if (jj_3R_853()) {
-          jj_scanpos = xsp;
-          if (jj_3R_854()) {
-            jj_scanpos = xsp;
-            return jj_3R_855();
-          }
-        }
-      }
-    }
-    }
-    }
+  private boolean jj_3R_454() {
+    if (jj_scan_token(CLUSTER)) {
+      return true;
     }
-    return false;
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_848() {
-    if (jj_scan_token(START)) {
-      return true;
-    }
-    return jj_3R_155();
+  private boolean jj_3R_976() {
+    return jj_scan_token(TRUE);
   }
 
-  private boolean jj_3R_251() {
-    return jj_3R_162();
+  private boolean jj_3R_253() {
+    return jj_3R_163();
   }
 
   private boolean jj_3_68() {
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_250() {
+  private boolean jj_3R_252() {
     if (jj_scan_token(RETURN)) {
       return true;
     }
-    return jj_3R_453();
+    return jj_3R_455();
   }
 
-  private boolean jj_3R_249() {
-    return jj_3R_167();
+  private boolean jj_3R_251() {
+    return jj_3R_168();
   }
 
-  private boolean jj_3R_95() {
+  private boolean jj_3R_96() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
     if (jj_scan_token(VERTEX)) {
       return true;
     }
-    return jj_3R_162();
+    return jj_3R_163();
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_250() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_452()) {
+    if (jj_3R_454()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_104() {
-    if (jj_scan_token(ALTER)) {
-      return true;
-    }
-    if (jj_scan_token(SEQUENCE)) {
-      return true;
-    }
-    if (jj_3R_165()) {
+  private boolean jj_3R_847() {
+    if (jj_scan_token(CYCLE)) {
       return true;
     }
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_712()) {
-        jj_scanpos = xsp;
-        break; }
+    xsp = jj_scanpos;
+    if (jj_3R_976()) {
+      jj_scanpos = xsp;
+      return jj_3R_977();
     }
     return false;
   }
 
-  private boolean jj_3R_847() {
-    return jj_scan_token(DESC);
-  }
-
-  private boolean jj_3R_973() {
-    return jj_scan_token(FALSE);
-  }
-
   private boolean jj_3R_846() {
-    return jj_scan_token(ASC);
+    if (jj_scan_token(LIMIT)) {
+      return true;
+    }
+    return jj_3R_156();
   }
 
   private boolean jj_3R_845() {
-    if (jj_scan_token(CACHE)) {
+    if (jj_scan_token(INCREMENT)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_972() {
-    return jj_scan_token(TRUE);
+  private boolean jj_3R_710() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_844()) {
+      jj_scanpos = xsp;
+      if (jj_3R_845()) {
+        jj_scanpos = xsp;
+    if (jj_3R_846()) {
+      jj_scanpos = xsp;
+      if (jj_3R_847()) {
+        jj_scanpos = xsp;
+        if (jj_3R_848()) {
+          jj_scanpos = xsp;
+          if (jj_3R_849()) {
+            jj_scanpos = xsp;
+            return jj_3R_850();
+    }
+    }
+      }
+    }
+    }
+    }
+    return false;
   }
 
-  private boolean jj_3R_630() {
-    return jj_3R_233();
+  private boolean jj_3R_844() {
+    if (jj_scan_token(START)) {
+      return true;
+    }
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_631() {
-    return jj_3R_170();
+  private boolean jj_3R_632() {
+    return jj_3R_235();
   }
 
-  private boolean jj_3R_96() {
+  private boolean jj_3R_633() {
+    return jj_3R_171();
+  }
+
+  private boolean jj_3R_97() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
@@ -30688,124 +30885,105 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_248()) {
+    if (jj_3R_250()) {
       jj_scanpos = xsp;
-      if (jj_3R_249())
+      if (jj_3R_251())
         return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_250()) {
+    if (jj_3R_252()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_251()) {
+    if (jj_3R_253()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_97() {
+  private boolean jj_3R_98() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
     return jj_scan_token(VERTEX);
   }
 
-  private boolean jj_3R_525() {
+  private boolean jj_3R_527() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_630()) {
+    if (jj_3R_632()) {
       jj_scanpos = xsp;
-      return jj_3R_631();
+      return jj_3R_633();
     }
     return false;
   }
 
-  private boolean jj_3R_844() {
-    if (jj_scan_token(CYCLE)) {
+  private boolean jj_3R_709() {
+    if (jj_scan_token(IF)) {
       return true;
     }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_972()) {
-      jj_scanpos = xsp;
-      return jj_3R_973();
+    if (jj_scan_token(NOT)) {
+      return true;
     }
-    return false;
+    return jj_scan_token(EXISTS);
   }
 
-  private boolean jj_3R_843() {
-    if (jj_scan_token(LIMIT)) {
-      return true;
-    }
-    return jj_3R_155();
+  private boolean jj_3R_526() {
+    return jj_3R_171();
   }
 
-  private boolean jj_3R_524() {
-    return jj_3R_170();
+  private boolean jj_3R_525() {
+    return jj_3R_235();
   }
 
-  private boolean jj_3R_842() {
-    if (jj_scan_token(INCREMENT)) {
+  private boolean jj_3R_95() {
+    if (jj_scan_token(CREATE)) {
+      return true;
+    }
+    if (jj_scan_token(SEQUENCE)) {
+      return true;
+    }
+    if (jj_3R_166()) {
       return true;
     }
-    return jj_3R_155();
-  }
-
-  private boolean jj_3R_523() {
-    return jj_3R_233();
-  }
-
-  private boolean jj_3R_707() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_841()) {
+    if (jj_3R_709()) {
       jj_scanpos = xsp;
-      if (jj_3R_842()) {
-        jj_scanpos = xsp;
-    if (jj_3R_843()) {
-      jj_scanpos = xsp;
-      if (jj_3R_844()) {
-        jj_scanpos = xsp;
-        if (jj_3R_845()) {
-          jj_scanpos = xsp;
-          if (jj_3R_846()) {
-            jj_scanpos = xsp;
-            return jj_3R_847();
-    }
-    }
-      }
-    }
-    }
     }
-    return false;
-  }
-
-  private boolean jj_3R_841() {
-    if (jj_scan_token(START)) {
+    if (jj_scan_token(TYPE)) {
       return true;
     }
-    return jj_3R_155();
+    if (jj_3R_166()) {
+      return true;
+    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_710()) {
+        jj_scanpos = xsp;
+        break; }
+    }
+    return false;
   }
 
-  private boolean jj_3R_355() {
+  private boolean jj_3R_357() {
     if (jj_scan_token(CONTENT)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_523()) {
+    if (jj_3R_525()) {
       jj_scanpos = xsp;
-      if (jj_3R_524()) {
+      if (jj_3R_526()) {
         return true;
       }
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_525()) {
+      if (jj_3R_527()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30813,201 +30991,207 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_522() {
+  private boolean jj_3R_524() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(EQ)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_706() {
-    if (jj_scan_token(IF)) {
+  private boolean jj_3R_1037() {
+    return jj_scan_token(FAIL);
+  }
+
+  private boolean jj_3R_314() {
+    if (jj_scan_token(CONSOLE)) {
       return true;
     }
-    if (jj_scan_token(NOT)) {
+    if (jj_scan_token(DOT)) {
       return true;
     }
-    return jj_scan_token(EXISTS);
+    if (jj_3R_166()) {
+      return true;
+    }
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_629() {
+  private boolean jj_3R_1028() {
+    return jj_scan_token(FAIL);
+  }
+
+  private boolean jj_3R_631() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_94() {
-    if (jj_scan_token(CREATE)) {
-      return true;
-    }
-    if (jj_scan_token(SEQUENCE)) {
-      return true;
-    }
-    if (jj_3R_165()) {
-      return true;
-    }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_706()) {
-      jj_scanpos = xsp;
-    }
-    if (jj_scan_token(TYPE)) {
-      return true;
-    }
-    if (jj_3R_165()) {
+  private boolean jj_3R_313() {
+    if (jj_scan_token(SLEEP)) {
       return true;
     }
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_707()) {
-        jj_scanpos = xsp;
-        break; }
-    }
-    return false;
+    return jj_3R_73();
   }
 
   private boolean jj_3_67() {
     if (jj_scan_token(SET)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(EQ)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_522()) {
+      if (jj_3R_524()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_521() {
+  private boolean jj_3_162() {
+    return jj_3R_74();
+  }
+
+  private boolean jj_3R_881() {
+    return jj_3R_983();
+  }
+
+  private boolean jj_3R_880() {
+    return jj_3R_982();
+  }
+
+  private boolean jj_3R_523() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_629()) {
+      if (jj_3R_631()) {
         jj_scanpos = xsp;
         break; }
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_1033() {
-    return jj_scan_token(FAIL);
+  private boolean jj_3R_879() {
+    return jj_3R_315();
   }
 
-  private boolean jj_3R_312() {
-    if (jj_scan_token(CONSOLE)) {
-      return true;
-    }
-    if (jj_scan_token(DOT)) {
-      return true;
-    }
-    if (jj_3R_165()) {
-      return true;
+  private boolean jj_3R_727() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_878()) {
+      jj_scanpos = xsp;
+      if (jj_3R_879()) {
+        jj_scanpos = xsp;
+        if (jj_3R_880()) {
+          jj_scanpos = xsp;
+          if (jj_3R_881()) {
+            jj_scanpos = xsp;
+            return jj_scan_token(193);
+          }
+        }
+      }
     }
-    return jj_3R_155();
+    return false;
   }
 
-  private boolean jj_3R_520() {
+  private boolean jj_3R_878() {
+    return jj_3R_74();
+  }
+
+  private boolean jj_3R_522() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_155();
-  }
-
-  private boolean jj_3R_1024() {
-    return jj_scan_token(FAIL);
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_311() {
-    if (jj_scan_token(SLEEP)) {
+  private boolean jj_3R_315() {
+    if (jj_scan_token(IF)) {
       return true;
     }
-    return jj_3R_72();
-  }
-
-  private boolean jj_3_161() {
-    return jj_3R_73();
-  }
-
-  private boolean jj_3R_878() {
-    return jj_3R_979();
+    if (jj_scan_token(LPAREN)) {
+      return true;
+    }
+    if (jj_3R_179()) {
+      return true;
+    }
+    if (jj_scan_token(RPAREN)) {
+      return true;
+    }
+    if (jj_scan_token(LBRACE)) {
+      return true;
+    }
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_727()) {
+        jj_scanpos = xsp;
+        break; }
+    }
+    return jj_scan_token(RBRACE);
   }
 
-  private boolean jj_3R_166() {
+  private boolean jj_3R_167() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_877() {
-    return jj_3R_978();
+  private boolean jj_3R_506() {
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_876() {
-    return jj_3R_313();
+  private boolean jj_3R_1036() {
+    return jj_scan_token(CONTINUE);
   }
 
-  private boolean jj_3R_724() {
+  private boolean jj_3R_312() {
+    if (jj_scan_token(RETURN)) {
+      return true;
+    }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_875()) {
+    if (jj_3R_506()) {
       jj_scanpos = xsp;
-      if (jj_3R_876()) {
-        jj_scanpos = xsp;
-        if (jj_3R_877()) {
-          jj_scanpos = xsp;
-          if (jj_3R_878()) {
-            jj_scanpos = xsp;
-            return jj_scan_token(192);
-          }
-        }
-      }
     }
     return false;
   }
 
-  private boolean jj_3R_875() {
-    return jj_3R_73();
-  }
-
   private boolean jj_3_66() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_166()) {
+      if (jj_3R_167()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -31020,12 +31204,12 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_520()) {
+      if (jj_3R_522()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -31034,139 +31218,145 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_521()) {
+      if (jj_3R_523()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_313() {
-    if (jj_scan_token(IF)) {
-      return true;
-    }
-    if (jj_scan_token(LPAREN)) {
-      return true;
-    }
-    if (jj_3R_178()) {
-      return true;
-    }
-    if (jj_scan_token(RPAREN)) {
+  private boolean jj_3R_1027() {
+    return jj_scan_token(CONTINUE);
+  }
+
+  private boolean jj_3R_1026() {
+    if (jj_scan_token(AND)) {
       return true;
     }
-    if (jj_scan_token(LBRACE)) {
-      return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1036()) {
+      jj_scanpos = xsp;
+      return jj_3R_1037();
     }
+    return false;
+  }
+
+  private boolean jj_3R_981() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_724()) {
-        jj_scanpos = xsp;
-        break; }
+    xsp = jj_scanpos;
+    if (jj_3R_1027()) {
+      jj_scanpos = xsp;
+      return jj_3R_1028();
     }
-    return jj_scan_token(RBRACE);
+    return false;
   }
 
-  private boolean jj_3R_504() {
-    return jj_3R_155();
+  private boolean jj_3R_311() {
+    return jj_scan_token(ROLLBACK);
   }
 
   private boolean jj_3_64() {
-    return jj_3R_153();
+    return jj_3R_154();
   }
 
-  private boolean jj_3R_162() {
+  private boolean jj_3R_1025() {
+    if (jj_3R_80()) {
+      return true;
+    }
+    return jj_scan_token(SEMICOLON);
+  }
+
+  private boolean jj_3R_163() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_66()) {
       jj_scanpos = xsp;
     if (jj_3_67()) {
       jj_scanpos = xsp;
-      return jj_3R_355();
+      return jj_3R_357();
     }
     }
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_793() {
     if (jj_scan_token(CLUSTER)) {
       return true;
     }
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_1032() {
-    return jj_scan_token(CONTINUE);
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_164() {
-    return jj_3R_356();
+  private boolean jj_3R_165() {
+    return jj_3R_358();
   }
 
-  private boolean jj_3R_310() {
-    if (jj_scan_token(RETURN)) {
+  private boolean jj_3R_980() {
+    if (jj_scan_token(LBRACE)) {
       return true;
     }
     Token xsp;
+    if (jj_3R_1025()) {
+      return true;
+    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1025()) {
+        jj_scanpos = xsp;
+        break; }
+    }
+    if (jj_scan_token(RBRACE)) {
+      return true;
+    }
     xsp = jj_scanpos;
-    if (jj_3R_504()) {
+    if (jj_3R_1026()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_163() {
-    return jj_3R_153();
+  private boolean jj_3R_164() {
+    return jj_3R_154();
   }
 
   private boolean jj_3_63() {
-    return jj_3R_153();
-  }
-
-  private boolean jj_3R_1023() {
-    return jj_scan_token(CONTINUE);
-  }
-
-  private boolean jj_3R_648() {
-    return jj_scan_token(UNSAFE);
+    return jj_3R_154();
   }
 
-  private boolean jj_3R_1022() {
-    if (jj_scan_token(AND)) {
+  private boolean jj_3R_877() {
+    if (jj_scan_token(ELSE)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1032()) {
+    if (jj_3R_980()) {
       jj_scanpos = xsp;
-      return jj_3R_1033();
+      return jj_3R_981();
     }
     return false;
   }
 
-  private boolean jj_3R_977() {
+  private boolean jj_3R_650() {
+    return jj_scan_token(UNSAFE);
+  }
+
+  private boolean jj_3R_505() {
+    if (jj_scan_token(RETRY)) {
+      return true;
+    }
+    if (jj_3R_73()) {
+      return true;
+    }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1023()) {
+    if (jj_3R_877()) {
       jj_scanpos = xsp;
-      return jj_3R_1024();
     }
     return false;
   }
 
-  private boolean jj_3R_309() {
-    return jj_scan_token(ROLLBACK);
-  }
-
-  private boolean jj_3R_1021() {
-    if (jj_3R_79()) {
-      return true;
-    }
-    return jj_scan_token(SEMICOLON);
-  }
-
-  private boolean jj_3R_933() {
-    return jj_3R_356();
+  private boolean jj_3R_936() {
+    return jj_3R_358();
   }
 
   private boolean jj_3_65() {
@@ -31175,169 +31365,144 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_163()) {
+    if (jj_3R_164()) {
       jj_scanpos = xsp;
-      if (jj_3R_164())
+      if (jj_3R_165())
         return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_932() {
-    return jj_3R_153();
+  private boolean jj_3R_935() {
+    return jj_3R_154();
   }
 
-  private boolean jj_3R_976() {
-    if (jj_scan_token(LBRACE)) {
-      return true;
-    }
+  private boolean jj_3R_795() {
     Token xsp;
-    if (jj_3R_1021()) {
-      return true;
-    }
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1021()) {
-        jj_scanpos = xsp;
-        break; }
-    }
-    if (jj_scan_token(RBRACE)) {
-      return true;
-    }
     xsp = jj_scanpos;
-    if (jj_3R_1022()) {
+    if (jj_3R_935()) {
       jj_scanpos = xsp;
+      return jj_3R_936();
     }
     return false;
   }
 
-  private boolean jj_3R_792() {
+  private boolean jj_3R_310() {
+    if (jj_scan_token(COMMIT)) {
+      return true;
+    }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_932()) {
+    if (jj_3R_505()) {
       jj_scanpos = xsp;
-      return jj_3R_933();
     }
     return false;
   }
 
+  private boolean jj_3_161() {
+    return jj_3R_156();
+  }
+
   private boolean jj_3_62() {
-    return jj_3R_162();
+    return jj_3R_163();
   }
 
   private boolean jj_3_61() {
-    return jj_3R_161();
+    return jj_3R_162();
   }
 
-  private boolean jj_3R_874() {
-    if (jj_scan_token(ELSE)) {
-      return true;
-    }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_976()) {
-      jj_scanpos = xsp;
-      return jj_3R_977();
-    }
-    return false;
+  private boolean jj_3_160() {
+    return jj_3R_236();
   }
 
-  private boolean jj_3R_791() {
+  private boolean jj_3R_794() {
     return jj_scan_token(FROM);
   }
 
-  private boolean jj_3R_889() {
+  private boolean jj_3R_892() {
     if (jj_scan_token(EQ)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_647() {
+  private boolean jj_3R_649() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_791()) {
+    if (jj_3R_794()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_792()) {
+    if (jj_3R_795()) {
       jj_scanpos = xsp;
       return jj_3_65();
     }
     return false;
   }
 
-  private boolean jj_3R_644() {
-    return jj_3R_167();
+  private boolean jj_3R_646() {
+    return jj_3R_168();
   }
 
-  private boolean jj_3R_503() {
-    if (jj_scan_token(RETRY)) {
-      return true;
-    }
-    if (jj_3R_72()) {
-      return true;
-    }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_874()) {
-      jj_scanpos = xsp;
-    }
-    return false;
+  private boolean jj_3R_309() {
+    return jj_scan_token(BEGIN);
   }
 
-  private boolean jj_3R_643() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_645() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_790()) {
+    if (jj_3R_793()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_646() {
+  private boolean jj_3R_648() {
     if (jj_scan_token(RETURN)) {
       return true;
     }
-    return jj_3R_453();
+    return jj_3R_455();
   }
 
-  private boolean jj_3R_645() {
+  private boolean jj_3R_587() {
+    return jj_3R_156();
+  }
+
+  private boolean jj_3R_647() {
+    return jj_3R_163();
+  }
+
+  private boolean jj_3R_644() {
     return jj_3R_162();
   }
 
-  private boolean jj_3R_642() {
-    return jj_3R_161();
+  private boolean jj_3R_586() {
+    return jj_3R_80();
   }
 
-  private boolean jj_3R_308() {
-    if (jj_scan_token(COMMIT)) {
+  private boolean jj_3R_453() {
+    if (jj_scan_token(LET)) {
+      return true;
+    }
+    if (jj_3R_166()) {
+      return true;
+    }
+    if (jj_scan_token(EQ)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_503()) {
+    if (jj_3R_586()) {
       jj_scanpos = xsp;
+      return jj_3R_587();
     }
     return false;
   }
 
-  private boolean jj_3_160() {
-    return jj_3R_155();
-  }
-
-  private boolean jj_3_159() {
-    return jj_3R_234();
-  }
-
-  private boolean jj_3R_307() {
-    return jj_scan_token(BEGIN);
-  }
-
-  private boolean jj_3R_301() {
+  private boolean jj_3R_303() {
     if (jj_scan_token(INSERT)) {
       return true;
     }
@@ -31346,426 +31511,428 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_642()) {
+    if (jj_3R_644()) {
       jj_scanpos = xsp;
-      if (jj_3R_643()) {
+      if (jj_3R_645()) {
         jj_scanpos = xsp;
-        if (jj_3R_644()) {
+        if (jj_3R_646()) {
           return true;
         }
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_645()) {
+    if (jj_3R_647()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_646()) {
+    if (jj_3R_648()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_647()) {
+    if (jj_3R_649()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_648()) {
+    if (jj_3R_650()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_585() {
-    return jj_3R_155();
-  }
-
-  private boolean jj_3R_584() {
-    return jj_3R_79();
-  }
-
-  private boolean jj_3R_738() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_741() {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(EQ)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_746() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_749() {
+    if (jj_3R_156()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_889()) {
+    if (jj_3R_892()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_888() {
-    return jj_3R_181();
-  }
-
-  private boolean jj_3R_451() {
-    if (jj_scan_token(LET)) {
-      return true;
-    }
-    if (jj_3R_165()) {
-      return true;
-    }
-    if (jj_scan_token(EQ)) {
-      return true;
-    }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_584()) {
-      jj_scanpos = xsp;
-      return jj_3R_585();
-    }
-    return false;
+  private boolean jj_3R_891() {
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_468() {
+  private boolean jj_3R_470() {
     return jj_scan_token(COUNT);
   }
 
-  private boolean jj_3R_744() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_747() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_888()) {
+    if (jj_3R_891()) {
       jj_scanpos = xsp;
     }
     if (jj_scan_token(EQ)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_887() {
+  private boolean jj_3R_78() {
+    if (jj_scan_token(ALTER)) {
+      return true;
+    }
+    if (jj_scan_token(SYSTEM)) {
+      return true;
+    }
+    return jj_scan_token(ROLE);
+  }
+
+  private boolean jj_3R_890() {
     return jj_scan_token(SLASHASSIGN);
   }
 
-  private boolean jj_3R_884() {
+  private boolean jj_3R_887() {
     return jj_scan_token(PLUSASSIGN);
   }
 
-  private boolean jj_3R_886() {
+  private boolean jj_3R_889() {
     return jj_scan_token(STARASSIGN);
   }
 
-  private boolean jj_3R_883() {
+  private boolean jj_3R_886() {
     return jj_scan_token(EQ);
   }
 
-  private boolean jj_3R_885() {
+  private boolean jj_3R_888() {
     return jj_scan_token(MINUSASSIGN);
   }
 
-  private boolean jj_3R_882() {
-    return jj_3R_181();
-  }
-
-  private boolean jj_3R_77() {
-    if (jj_scan_token(ALTER)) {
+  private boolean jj_3R_834() {
+    if (jj_scan_token(REMOVE)) {
       return true;
     }
-    if (jj_scan_token(SYSTEM)) {
+    if (jj_scan_token(POLICY)) {
       return true;
     }
-    return jj_scan_token(ROLE);
+    if (jj_scan_token(ON)) {
+      return true;
+    }
+    return jj_3R_726();
   }
 
-  private boolean jj_3R_747() {
+  private boolean jj_3R_885() {
+    return jj_3R_182();
+  }
+
+  private boolean jj_3R_750() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_746();
+    return jj_3R_749();
   }
 
-  private boolean jj_3R_736() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_706() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_833()) {
+      jj_scanpos = xsp;
+      return jj_3R_834();
+    }
+    return false;
+  }
+
+  private boolean jj_3R_833() {
+    if (jj_scan_token(SET)) {
+      return true;
+    }
+    if (jj_scan_token(POLICY)) {
+      return true;
+    }
+    if (jj_3R_166()) {
+      return true;
+    }
+    if (jj_scan_token(ON)) {
+      return true;
+    }
+    return jj_3R_726();
+  }
+
+  private boolean jj_3R_739() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_882()) {
+    if (jj_3R_885()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_883()) {
+    if (jj_3R_886()) {
       jj_scanpos = xsp;
-    if (jj_3R_884()) {
+    if (jj_3R_887()) {
       jj_scanpos = xsp;
-    if (jj_3R_885()) {
+    if (jj_3R_888()) {
       jj_scanpos = xsp;
-      if (jj_3R_886()) {
+      if (jj_3R_889()) {
         jj_scanpos = xsp;
-        if (jj_3R_887())
+        if (jj_3R_890())
           return true;
       }
     }
     }
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_745() {
+  private boolean jj_3R_748() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_744();
+    return jj_3R_747();
   }
 
-  private boolean jj_3R_603() {
-    if (jj_scan_token(REMOVE)) {
+  private boolean jj_3R_92() {
+    if (jj_scan_token(ALTER)) {
+      return true;
+    }
+    if (jj_scan_token(ROLE)) {
       return true;
     }
-    if (jj_3R_746()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
+    if (jj_3R_706()) {
+      return true;
+    }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_747()) {
+      if (jj_3R_706()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_605() {
     if (jj_scan_token(REMOVE)) {
       return true;
     }
-    if (jj_scan_token(POLICY)) {
+    if (jj_3R_749()) {
       return true;
     }
-    if (jj_scan_token(ON)) {
-      return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_750()) {
+        jj_scanpos = xsp;
+        break; }
     }
-    return jj_3R_723();
+    return false;
   }
 
-  private boolean jj_3R_743() {
+  private boolean jj_3R_746() {
     return jj_scan_token(ADD);
   }
 
-  private boolean jj_3R_742() {
+  private boolean jj_3R_745() {
     return jj_scan_token(INCREMENT);
   }
 
-  private boolean jj_3R_467() {
-    return jj_scan_token(AFTER);
-  }
-
-  private boolean jj_3R_703() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_830()) {
-      jj_scanpos = xsp;
-      return jj_3R_831();
+  private boolean jj_3R_1012() {
+    if (jj_scan_token(COMMA)) {
+      return true;
     }
-    return false;
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_830() {
-    if (jj_scan_token(SET)) {
-      return true;
-    }
-    if (jj_scan_token(POLICY)) {
-      return true;
-    }
-    if (jj_3R_165()) {
+  private boolean jj_3R_91() {
+    if (jj_scan_token(DROP)) {
       return true;
     }
-    if (jj_scan_token(ON)) {
+    if (jj_scan_token(USER)) {
       return true;
     }
-    return jj_3R_723();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_741() {
+  private boolean jj_3R_469() {
+    return jj_scan_token(AFTER);
+  }
+
+  private boolean jj_3R_744() {
     return jj_scan_token(CONTENT);
   }
 
-  private boolean jj_3R_740() {
+  private boolean jj_3R_743() {
     return jj_scan_token(MERGE);
   }
 
-  private boolean jj_3R_602() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_742()) {
-      jj_scanpos = xsp;
-      if (jj_3R_743()) {
-        return true;
-      }
-    }
-    if (jj_3R_744()) {
+  private boolean jj_3R_955() {
+    if (jj_3R_166()) {
       return true;
     }
+    Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_745()) {
+      if (jj_3R_1012()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_91() {
-    if (jj_scan_token(ALTER)) {
-      return true;
-    }
-    if (jj_scan_token(ROLE)) {
-      return true;
-    }
-    if (jj_3R_165()) {
-      return true;
-    }
+  private boolean jj_3R_604() {
     Token xsp;
-    if (jj_3R_703()) {
+    xsp = jj_scanpos;
+    if (jj_3R_745()) {
+      jj_scanpos = xsp;
+      if (jj_3R_746()) {
+        return true;
+      }
+    }
+    if (jj_3R_747()) {
       return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_703()) {
+      if (jj_3R_748()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_739() {
+  private boolean jj_3R_742() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_738();
+    return jj_3R_741();
   }
 
-  private boolean jj_3R_601() {
+  private boolean jj_3R_832() {
+    if (jj_scan_token(LBRACKET)) {
+      return true;
+    }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_740()) {
+    if (jj_3R_955()) {
       jj_scanpos = xsp;
-      if (jj_3R_741()) {
-        return true;
-      }
     }
-    return jj_3R_233();
+    return jj_scan_token(RBRACKET);
   }
 
-  private boolean jj_3R_737() {
-    if (jj_scan_token(COMMA)) {
-      return true;
+  private boolean jj_3R_603() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_743()) {
+      jj_scanpos = xsp;
+      if (jj_3R_744()) {
+        return true;
+      }
     }
-    return jj_3R_736();
+    return jj_3R_235();
   }
 
-  private boolean jj_3R_1008() {
+  private boolean jj_3R_740() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_739();
   }
 
-  private boolean jj_3R_461() {
+  private boolean jj_3R_463() {
     return jj_scan_token(AFTER);
   }
 
-  private boolean jj_3R_90() {
-    if (jj_scan_token(DROP)) {
-      return true;
-    }
-    if (jj_scan_token(USER)) {
-      return true;
-    }
-    return jj_3R_165();
+  private boolean jj_3R_831() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_600() {
+  private boolean jj_3R_602() {
     if (jj_scan_token(PUT)) {
       return true;
     }
-    if (jj_3R_738()) {
+    if (jj_3R_741()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_739()) {
+      if (jj_3R_742()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_951() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_705() {
+    if (jj_scan_token(ROLE)) {
       return true;
     }
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1008()) {
-        jj_scanpos = xsp;
-        break; }
+    xsp = jj_scanpos;
+    if (jj_3R_831()) {
+      jj_scanpos = xsp;
+      return jj_3R_832();
     }
     return false;
   }
 
-  private boolean jj_3R_599() {
+  private boolean jj_3R_704() {
+    return jj_3R_171();
+  }
+
+  private boolean jj_3R_703() {
+    return jj_3R_576();
+  }
+
+  private boolean jj_3R_702() {
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_601() {
     if (jj_scan_token(SET)) {
       return true;
     }
-    if (jj_3R_736()) {
+    if (jj_3R_739()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_737()) {
+      if (jj_3R_740()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_829() {
-    if (jj_scan_token(LBRACKET)) {
-      return true;
-    }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_951()) {
-      jj_scanpos = xsp;
-    }
-    return jj_scan_token(RBRACKET);
-  }
-
-  private boolean jj_3R_459() {
+  private boolean jj_3R_461() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_599()) {
+    if (jj_3R_601()) {
       jj_scanpos = xsp;
-      if (jj_3R_600()) {
+      if (jj_3R_602()) {
         jj_scanpos = xsp;
-        if (jj_3R_601()) {
+        if (jj_3R_603()) {
           jj_scanpos = xsp;
-          if (jj_3R_602()) {
+          if (jj_3R_604()) {
             jj_scanpos = xsp;
-            return jj_3R_603();
+            return jj_3R_605();
           }
         }
       }
@@ -31773,118 +31940,124 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_828() {
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_469() {
-    return jj_3R_453();
-  }
-
-  private boolean jj_3R_270() {
-    return jj_3R_465();
+  private boolean jj_3R_471() {
+    return jj_3R_455();
   }
 
-  private boolean jj_3R_269() {
-    return jj_3R_464();
+  private boolean jj_3R_272() {
+    return jj_3R_467();
   }
 
-  private boolean jj_3R_268() {
-    if (jj_scan_token(WHERE)) {
+  private boolean jj_3R_90() {
+    if (jj_scan_token(CREATE)) {
       return true;
     }
-    return jj_3R_463();
-  }
-
-  private boolean jj_3R_702() {
-    if (jj_scan_token(ROLE)) {
+    if (jj_scan_token(USER)) {
+      return true;
+    }
+    if (jj_3R_166()) {
+      return true;
+    }
+    if (jj_scan_token(IDENTIFIED)) {
+      return true;
+    }
+    if (jj_scan_token(BY)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_828()) {
+    if (jj_3R_702()) {
+      jj_scanpos = xsp;
+      if (jj_3R_703()) {
+        jj_scanpos = xsp;
+        if (jj_3R_704())
+          return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_705()) {
       jj_scanpos = xsp;
-      return jj_3R_829();
     }
     return false;
   }
 
-  private boolean jj_3R_466() {
-    return jj_scan_token(BEFORE);
+  private boolean jj_3R_271() {
+    return jj_3R_466();
   }
 
-  private boolean jj_3R_701() {
-    return jj_3R_170();
+  private boolean jj_3R_270() {
+    if (jj_scan_token(WHERE)) {
+      return true;
+    }
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_700() {
-    return jj_3R_574();
+  private boolean jj_3R_468() {
+    return jj_scan_token(BEFORE);
   }
 
-  private boolean jj_3R_267() {
+  private boolean jj_3R_269() {
     if (jj_scan_token(RETURN)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_466()) {
+    if (jj_3R_468()) {
       jj_scanpos = xsp;
-      if (jj_3R_467()) {
+      if (jj_3R_469()) {
         jj_scanpos = xsp;
-        if (jj_3R_468()) {
+        if (jj_3R_470()) {
           return true;
         }
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_469()) {
+    if (jj_3R_471()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_699() {
-    return jj_3R_165();
+  private boolean jj_3R_268() {
+    return jj_scan_token(UPSERT);
   }
 
-  private boolean jj_3R_266() {
-    return jj_scan_token(UPSERT);
+  private boolean jj_3R_267() {
+    return jj_3R_461();
   }
 
-  private boolean jj_3R_265() {
-    return jj_3R_459();
+  private boolean jj_3R_464() {
+    return jj_3R_455();
   }
 
-  private boolean jj_3R_462() {
-    return jj_3R_453();
+  private boolean jj_3R_79() {
+    if (jj_scan_token(EXISTS)) {
+      return true;
+    }
+    if (jj_scan_token(SYSTEM)) {
+      return true;
+    }
+    return jj_scan_token(USER);
   }
 
-  private boolean jj_3R_100() {
+  private boolean jj_3R_101() {
     if (jj_scan_token(UPDATE)) {
       return true;
     }
-    if (jj_3R_258()) {
+    if (jj_3R_260()) {
       return true;
     }
     Token xsp;
-    if (jj_3R_265()) {
+    if (jj_3R_267()) {
       return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_265()) {
+      if (jj_3R_267()) {
         jj_scanpos = xsp;
         break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_266()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_267()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
     if (jj_3R_268()) {
       jj_scanpos = xsp;
     }
@@ -31896,127 +32069,84 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_3R_270()) {
       jj_scanpos = xsp;
     }
-    return false;
-  }
-
-  private boolean jj_3R_89() {
-    if (jj_scan_token(CREATE)) {
-      return true;
-    }
-    if (jj_scan_token(USER)) {
-      return true;
-    }
-    if (jj_3R_165()) {
-      return true;
-    }
-    if (jj_scan_token(IDENTIFIED)) {
-      return true;
-    }
-    if (jj_scan_token(BY)) {
-      return true;
-    }
-    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_699()) {
+    if (jj_3R_271()) {
       jj_scanpos = xsp;
-      if (jj_3R_700()) {
-        jj_scanpos = xsp;
-        if (jj_3R_701())
-          return true;
-      }
     }
     xsp = jj_scanpos;
-    if (jj_3R_702()) {
+    if (jj_3R_272()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_460() {
+  private boolean jj_3R_462() {
     return jj_scan_token(BEFORE);
   }
 
-  private boolean jj_3R_264() {
-    return jj_3R_465();
+  private boolean jj_3R_266() {
+    return jj_3R_467();
   }
 
-  private boolean jj_3R_263() {
-    return jj_3R_464();
+  private boolean jj_3R_265() {
+    return jj_3R_466();
   }
 
-  private boolean jj_3R_262() {
+  private boolean jj_3R_264() {
     if (jj_scan_token(WHERE)) {
       return true;
     }
-    return jj_3R_463();
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_261() {
+  private boolean jj_3R_263() {
     if (jj_scan_token(RETURN)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_460()) {
+    if (jj_3R_462()) {
       jj_scanpos = xsp;
-      if (jj_3R_461()) {
+      if (jj_3R_463()) {
         return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_462()) {
+    if (jj_3R_464()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_260() {
+  private boolean jj_3R_262() {
     return jj_scan_token(UPSERT);
   }
 
-  private boolean jj_3R_259() {
-    return jj_3R_459();
-  }
-
-  private boolean jj_3R_78() {
-    if (jj_scan_token(EXISTS)) {
-      return true;
-    }
-    if (jj_scan_token(SYSTEM)) {
-      return true;
-    }
-    return jj_scan_token(USER);
+  private boolean jj_3R_261() {
+    return jj_3R_461();
   }
 
-  private boolean jj_3R_99() {
+  private boolean jj_3R_100() {
     if (jj_scan_token(UPDATE)) {
       return true;
     }
     if (jj_scan_token(EDGE)) {
       return true;
     }
-    if (jj_3R_258()) {
+    if (jj_3R_260()) {
       return true;
     }
     Token xsp;
-    if (jj_3R_259()) {
+    if (jj_3R_261()) {
       return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_259()) {
+      if (jj_3R_261()) {
         jj_scanpos = xsp;
         break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_260()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_261()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
     if (jj_3R_262()) {
       jj_scanpos = xsp;
     }
@@ -32028,71 +32158,37 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_3R_264()) {
       jj_scanpos = xsp;
     }
-    return false;
-  }
-
-  private boolean jj_3R_352() {
-    return jj_3R_457();
-  }
-
-  private boolean jj_3R_351() {
-    return jj_3R_464();
-  }
-
-  private boolean jj_3R_350() {
-    if (jj_scan_token(WHERE)) {
-      return true;
-    }
-    return jj_3R_463();
-  }
-
-  private boolean jj_3R_349() {
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_160() {
-    if (jj_scan_token(DELETE)) {
-      return true;
-    }
-    if (jj_scan_token(EDGE)) {
-      return true;
-    }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_349()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_350()) {
-      jj_scanpos = xsp;
-    }
     xsp = jj_scanpos;
-    if (jj_3R_351()) {
+    if (jj_3R_265()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_352()) {
+    if (jj_3R_266()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_345() {
-    return jj_3R_457();
+  private boolean jj_3R_354() {
+    return jj_3R_459();
   }
 
-  private boolean jj_3R_344() {
-    return jj_3R_464();
+  private boolean jj_3R_353() {
+    return jj_3R_466();
   }
 
-  private boolean jj_3R_343() {
+  private boolean jj_3R_352() {
     if (jj_scan_token(WHERE)) {
       return true;
     }
-    return jj_3R_463();
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_76() {
+  private boolean jj_3R_351() {
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_77() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
@@ -32102,83 +32198,81 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_scan_token(USER);
   }
 
-  private boolean jj_3R_158() {
+  private boolean jj_3R_161() {
     if (jj_scan_token(DELETE)) {
       return true;
     }
     if (jj_scan_token(EDGE)) {
       return true;
     }
-    if (jj_scan_token(TO)) {
-      return true;
-    }
-    if (jj_3R_155()) {
-      return true;
-    }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_343()) {
+    if (jj_3R_351()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_344()) {
+    if (jj_3R_352()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_345()) {
+    if (jj_3R_353()) {
+      jj_scanpos = xsp;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_354()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_698() {
+  private boolean jj_3R_701() {
     if (jj_scan_token(LANGUAGE)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_827() {
+  private boolean jj_3R_830() {
     return jj_scan_token(FALSE);
   }
 
-  private boolean jj_3R_826() {
-    return jj_scan_token(TRUE);
+  private boolean jj_3R_347() {
+    return jj_3R_459();
   }
 
-  private boolean jj_3R_348() {
-    return jj_3R_457();
+  private boolean jj_3R_829() {
+    return jj_scan_token(TRUE);
   }
 
-  private boolean jj_3R_347() {
-    return jj_3R_464();
+  private boolean jj_3R_346() {
+    return jj_3R_466();
   }
 
-  private boolean jj_3R_346() {
+  private boolean jj_3R_345() {
     if (jj_scan_token(WHERE)) {
       return true;
     }
-    return jj_3R_463();
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_697() {
+  private boolean jj_3R_700() {
     if (jj_scan_token(IDEMPOTENT)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_826()) {
+    if (jj_3R_829()) {
       jj_scanpos = xsp;
-      return jj_3R_827();
+      return jj_3R_830();
     }
     return false;
   }
 
-  private boolean jj_3R_825() {
+  private boolean jj_3R_828() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
   private boolean jj_3R_159() {
@@ -32188,122 +32282,200 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(EDGE)) {
       return true;
     }
-    if (jj_3R_165()) {
-      return true;
-    }
     if (jj_scan_token(TO)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_346()) {
+    if (jj_3R_345()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_347()) {
+    if (jj_3R_346()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_348()) {
+    if (jj_3R_347()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_696() {
+  private boolean jj_3R_699() {
     if (jj_scan_token(PARAMETERS)) {
       return true;
     }
     if (jj_scan_token(LBRACKET)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_825()) {
+      if (jj_3R_828()) {
         jj_scanpos = xsp;
         break; }
     }
     return jj_scan_token(RBRACKET);
   }
 
-  private boolean jj_3R_342() {
-    return jj_3R_457();
+  private boolean jj_3R_350() {
+    return jj_3R_459();
   }
 
-  private boolean jj_3R_341() {
-    return jj_3R_464();
+  private boolean jj_3R_349() {
+    return jj_3R_466();
   }
 
-  private boolean jj_3R_340() {
+  private boolean jj_3R_348() {
     if (jj_scan_token(WHERE)) {
       return true;
     }
-    return jj_3R_463();
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_339() {
-    if (jj_scan_token(TO)) {
+  private boolean jj_3R_89() {
+    if (jj_scan_token(CREATE)) {
       return true;
     }
-    return jj_3R_155();
+    if (jj_scan_token(FUNCTION)) {
+      return true;
+    }
+    if (jj_3R_166()) {
+      return true;
+    }
+    if (jj_3R_576()) {
+      return true;
+    }
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_699()) {
+      jj_scanpos = xsp;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_700()) {
+      jj_scanpos = xsp;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_701()) {
+      jj_scanpos = xsp;
+    }
+    return false;
   }
 
-  private boolean jj_3R_88() {
-    if (jj_scan_token(CREATE)) {
+  private boolean jj_3R_160() {
+    if (jj_scan_token(DELETE)) {
       return true;
     }
-    if (jj_scan_token(FUNCTION)) {
+    if (jj_scan_token(EDGE)) {
+      return true;
+    }
+    if (jj_3R_166()) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_scan_token(TO)) {
       return true;
     }
-    if (jj_3R_574()) {
+    if (jj_3R_156()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_696()) {
+    if (jj_3R_348()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_697()) {
+    if (jj_3R_349()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_698()) {
+    if (jj_3R_350()) {
+      jj_scanpos = xsp;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_504() {
+    return jj_3R_612();
+  }
+
+  private boolean jj_3R_503() {
+    return jj_scan_token(POLICY);
+  }
+
+  private boolean jj_3R_344() {
+    return jj_3R_459();
+  }
+
+  private boolean jj_3R_343() {
+    return jj_3R_466();
+  }
+
+  private boolean jj_3R_342() {
+    if (jj_scan_token(WHERE)) {
+      return true;
+    }
+    return jj_3R_465();
+  }
+
+  private boolean jj_3R_341() {
+    if (jj_scan_token(TO)) {
+      return true;
+    }
+    return jj_3R_156();
+  }
+
+  private boolean jj_3R_308() {
+    if (jj_scan_token(REVOKE)) {
+      return true;
+    }
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_503()) {
       jj_scanpos = xsp;
+      if (jj_3R_504())
+        return true;
+    }
+    if (jj_scan_token(ON)) {
+      return true;
+    }
+    if (jj_3R_726()) {
+      return true;
     }
-    return false;
+    if (jj_scan_token(FROM)) {
+      return true;
+    }
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_338() {
-    return jj_3R_165();
+  private boolean jj_3R_340() {
+    return jj_3R_166();
   }
 
   private boolean jj_3R_502() {
-    return jj_3R_610();
+    return jj_3R_612();
   }
 
   private boolean jj_3R_501() {
-    return jj_scan_token(POLICY);
+    if (jj_scan_token(POLICY)) {
+      return true;
+    }
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_626() {
+  private boolean jj_3R_628() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_169();
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_157() {
+  private boolean jj_3R_158() {
     if (jj_scan_token(DELETE)) {
       return true;
     }
@@ -32312,147 +32484,158 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_338()) {
+    if (jj_3R_340()) {
       jj_scanpos = xsp;
     }
     if (jj_scan_token(FROM)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_339()) {
+    if (jj_3R_341()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_340()) {
+    if (jj_3R_342()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_341()) {
+    if (jj_3R_343()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_342()) {
+    if (jj_3R_344()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_337() {
-    return jj_3R_457();
+  private boolean jj_3R_339() {
+    return jj_3R_459();
   }
 
-  private boolean jj_3R_306() {
-    if (jj_scan_token(REVOKE)) {
+  private boolean jj_3R_307() {
+    if (jj_scan_token(GRANT)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_501()) {
       jj_scanpos = xsp;
-      if (jj_3R_502())
+      if (jj_3R_502()) {
         return true;
+      }
     }
     if (jj_scan_token(ON)) {
       return true;
     }
-    if (jj_3R_723()) {
+    if (jj_3R_726()) {
       return true;
     }
-    if (jj_scan_token(FROM)) {
+    if (jj_scan_token(TO)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_515() {
-    if (jj_3R_169()) {
+  private boolean jj_3R_517() {
+    if (jj_3R_170()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_626()) {
+      if (jj_3R_628()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_500() {
-    return jj_3R_610();
+  private boolean jj_3R_759() {
+    return jj_scan_token(NONE);
   }
 
-  private boolean jj_3R_499() {
-    if (jj_scan_token(POLICY)) {
-      return true;
-    }
-    return jj_3R_165();
+  private boolean jj_3R_758() {
+    return jj_scan_token(ALL);
   }
 
-  private boolean jj_3R_336() {
+  private boolean jj_3R_757() {
+    return jj_scan_token(EXECUTE);
+  }
+
+  private boolean jj_3R_338() {
     if (jj_scan_token(LBRACKET)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_515()) {
+    if (jj_3R_517()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(RBRACKET);
   }
 
-  private boolean jj_3R_335() {
-    return jj_3R_169();
+  private boolean jj_3R_756() {
+    return jj_scan_token(DELETE);
   }
 
-  private boolean jj_3R_305() {
-    if (jj_scan_token(GRANT)) {
-      return true;
-    }
+  private boolean jj_3R_337() {
+    return jj_3R_170();
+  }
+
+  private boolean jj_3R_755() {
+    return jj_scan_token(UPDATE);
+  }
+
+  private boolean jj_3R_754() {
+    return jj_scan_token(READ);
+  }
+
+  private boolean jj_3R_753() {
+    return jj_scan_token(CREATE);
+  }
+
+  private boolean jj_3R_612() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_499()) {
+    if (jj_3R_753()) {
       jj_scanpos = xsp;
-      if (jj_3R_500()) {
-        return true;
+      if (jj_3R_754()) {
+        jj_scanpos = xsp;
+    if (jj_3R_755()) {
+      jj_scanpos = xsp;
+      if (jj_3R_756()) {
+        jj_scanpos = xsp;
+        if (jj_3R_757()) {
+          jj_scanpos = xsp;
+          if (jj_3R_758()) {
+            jj_scanpos = xsp;
+            return jj_3R_759();
+          }
+        }
       }
     }
-    if (jj_scan_token(ON)) {
-      return true;
-    }
-    if (jj_3R_723()) {
-      return true;
-    }
-    if (jj_scan_token(TO)) {
-      return true;
+      }
     }
-    return jj_3R_165();
+    return false;
   }
 
   private boolean jj_3_60() {
-    return jj_3R_160();
-  }
-
-  private boolean jj_3R_756() {
-    return jj_scan_token(NONE);
+    return jj_3R_161();
   }
 
   private boolean jj_3_59() {
-    return jj_3R_159();
-  }
-
-  private boolean jj_3R_755() {
-    return jj_scan_token(ALL);
+    return jj_3R_160();
   }
 
   private boolean jj_3_58() {
-    return jj_3R_158();
+    return jj_3R_159();
   }
 
-  private boolean jj_3R_156() {
+  private boolean jj_3R_157() {
     if (jj_scan_token(DELETE)) {
       return true;
     }
@@ -32461,104 +32644,85 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_335()) {
+    if (jj_3R_337()) {
       jj_scanpos = xsp;
-      if (jj_3R_336()) {
+      if (jj_3R_338()) {
         return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_337()) {
+    if (jj_3R_339()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_754() {
-    return jj_scan_token(EXECUTE);
+  private boolean jj_3_57() {
+    return jj_3R_158();
   }
 
-  private boolean jj_3R_753() {
-    return jj_scan_token(DELETE);
+  private boolean jj_3R_153() {
+    if (jj_scan_token(PROFILE)) {
+      return true;
+    }
+    return jj_3R_80();
   }
 
-  private boolean jj_3_57() {
+  private boolean jj_3R_248() {
+    return jj_3R_161();
+  }
+
+  private boolean jj_3_56() {
     return jj_3R_157();
   }
 
-  private boolean jj_3R_246() {
+  private boolean jj_3R_247() {
     return jj_3R_160();
   }
 
-  private boolean jj_3R_752() {
-    return jj_scan_token(UPDATE);
+  private boolean jj_3R_246() {
+    return jj_3R_159();
   }
 
-  private boolean jj_3_56() {
-    return jj_3R_156();
+  private boolean jj_3R_245() {
+    return jj_3R_158();
   }
 
-  private boolean jj_3R_751() {
-    return jj_scan_token(READ);
+  private boolean jj_3R_452() {
+    if (jj_scan_token(EXPLAIN)) {
+      return true;
+    }
+    return jj_3R_80();
   }
 
-  private boolean jj_3R_245() {
-    return jj_3R_159();
+  private boolean jj_3R_697() {
+    return jj_3R_174();
   }
 
-  private boolean jj_3R_750() {
-    return jj_scan_token(CREATE);
+  private boolean jj_3R_698() {
+    return jj_scan_token(INVERSE);
   }
 
   private boolean jj_3R_244() {
-    return jj_3R_158();
-  }
-
-  private boolean jj_3R_243() {
     return jj_3R_157();
   }
 
-  private boolean jj_3R_610() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_750()) {
-      jj_scanpos = xsp;
-      if (jj_3R_751()) {
-        jj_scanpos = xsp;
-    if (jj_3R_752()) {
-      jj_scanpos = xsp;
-      if (jj_3R_753()) {
-        jj_scanpos = xsp;
-        if (jj_3R_754()) {
-          jj_scanpos = xsp;
-          if (jj_3R_755()) {
-            jj_scanpos = xsp;
-            return jj_3R_756();
-          }
-        }
-      }
-    }
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_242() {
-    return jj_3R_156();
+  private boolean jj_3R_696() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_82() {
+  private boolean jj_3R_83() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_242()) {
+    if (jj_3R_244()) {
       jj_scanpos = xsp;
-      if (jj_3R_243()) {
+      if (jj_3R_245()) {
         jj_scanpos = xsp;
-        if (jj_3R_244()) {
+        if (jj_3R_246()) {
           jj_scanpos = xsp;
-          if (jj_3R_245()) {
+          if (jj_3R_247()) {
             jj_scanpos = xsp;
-            return jj_3R_246();
+            return jj_3R_248();
           }
     }
     }
@@ -32566,74 +32730,56 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_152() {
-    if (jj_scan_token(PROFILE)) {
-      return true;
-    }
-    return jj_3R_79();
+  private boolean jj_3R_695() {
+    return jj_3R_174();
   }
 
-  private boolean jj_3R_676() {
+  private boolean jj_3R_678() {
     if (jj_scan_token(WHERE)) {
       return true;
     }
-    return jj_3R_463();
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_675() {
+  private boolean jj_3R_677() {
     if (jj_scan_token(RETURN)) {
       return true;
     }
     return jj_scan_token(BEFORE);
   }
 
-  private boolean jj_3R_678() {
-    return jj_3R_457();
-  }
-
-  private boolean jj_3R_674() {
-    return jj_scan_token(FROM);
-  }
-
-  private boolean jj_3R_677() {
-    return jj_3R_464();
+  private boolean jj_3R_694() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_450() {
-    if (jj_scan_token(EXPLAIN)) {
-      return true;
-    }
-    return jj_3R_79();
+  private boolean jj_3R_680() {
+    return jj_3R_459();
   }
 
-  private boolean jj_3R_694() {
-    return jj_3R_173();
+  private boolean jj_3R_676() {
+    return jj_scan_token(FROM);
   }
 
-  private boolean jj_3R_695() {
-    return jj_scan_token(INVERSE);
+  private boolean jj_3R_679() {
+    return jj_3R_466();
   }
 
-  private boolean jj_3R_673() {
+  private boolean jj_3R_675() {
     return jj_scan_token(UNSAFE);
   }
 
-  private boolean jj_3R_693() {
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_672() {
-    return jj_3R_464();
+  private boolean jj_3R_674() {
+    return jj_3R_466();
   }
 
-  private boolean jj_3R_671() {
+  private boolean jj_3R_673() {
     if (jj_scan_token(WHERE)) {
       return true;
     }
-    return jj_3R_463();
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_81() {
+  private boolean jj_3R_82() {
     if (jj_scan_token(DELETE)) {
       return true;
     }
@@ -32642,21 +32788,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_674()) {
+    if (jj_3R_676()) {
       jj_scanpos = xsp;
     }
-    if (jj_3R_258()) {
+    if (jj_3R_260()) {
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_675()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_676()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
     if (jj_3R_677()) {
       jj_scanpos = xsp;
     }
@@ -32664,105 +32802,44 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_3R_678()) {
       jj_scanpos = xsp;
     }
-    return false;
-  }
-
-  private boolean jj_3R_670() {
-    if (jj_scan_token(RETURN)) {
-      return true;
-    }
-    return jj_scan_token(BEFORE);
-  }
-
-  private boolean jj_3R_692() {
-    return jj_3R_173();
-  }
-
-  private boolean jj_3R_691() {
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_931() {
-    return jj_3R_464();
-  }
-
-  private boolean jj_3R_930() {
-    return jj_3R_618();
-  }
-
-  private boolean jj_3R_929() {
-    return jj_3R_508();
-  }
-
-  private boolean jj_3R_80() {
-    if (jj_scan_token(DELETE)) {
-      return true;
-    }
-    if (jj_scan_token(FROM)) {
-      return true;
-    }
-    if (jj_3R_258()) {
-      return true;
-    }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_670()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_671()) {
-      jj_scanpos = xsp;
-    }
     xsp = jj_scanpos;
-    if (jj_3R_672()) {
+    if (jj_3R_679()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_673()) {
+    if (jj_3R_680()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_928() {
-    return jj_3R_507();
-  }
-
-  private boolean jj_3R_927() {
-    return jj_3R_506();
-  }
-
-  private boolean jj_3R_999() {
-    if (jj_scan_token(AS)) {
+  private boolean jj_3R_672() {
+    if (jj_scan_token(RETURN)) {
       return true;
     }
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_998() {
-    return jj_3R_526();
+    return jj_scan_token(BEFORE);
   }
 
-  private boolean jj_3R_87() {
+  private boolean jj_3R_88() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
     if (jj_scan_token(LINK)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(TYPE)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(FROM)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(DOT)) {
@@ -32770,74 +32847,86 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_691()) {
+    if (jj_3R_694()) {
       jj_scanpos = xsp;
-      if (jj_3R_692()) {
+      if (jj_3R_695()) {
         return true;
       }
     }
     if (jj_scan_token(TO)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(DOT)) {
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_693()) {
+    if (jj_3R_696()) {
       jj_scanpos = xsp;
-      if (jj_3R_694()) {
+      if (jj_3R_697()) {
         return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_695()) {
+    if (jj_3R_698()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_722() {
-    return jj_3R_856();
+  private boolean jj_3R_725() {
+    return jj_3R_859();
   }
 
-  private boolean jj_3R_926() {
-    if (jj_scan_token(COMMA)) {
+  private boolean jj_3R_934() {
+    return jj_3R_466();
+  }
+
+  private boolean jj_3R_933() {
+    return jj_3R_620();
+  }
+
+  private boolean jj_3R_932() {
+    return jj_3R_510();
+  }
+
+  private boolean jj_3R_81() {
+    if (jj_scan_token(DELETE)) {
+      return true;
+    }
+    if (jj_scan_token(FROM)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_260()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_998()) {
+    if (jj_3R_672()) {
+      jj_scanpos = xsp;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_673()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_999()) {
+    if (jj_3R_674()) {
+      jj_scanpos = xsp;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_675()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3_55() {
-    return jj_3R_155();
-  }
-
-  private boolean jj_3R_997() {
-    return jj_3R_526();
-  }
-
-  private boolean jj_3R_925() {
-    if (jj_scan_token(AS)) {
-      return true;
-    }
-    return jj_3R_165();
+  private boolean jj_3R_931() {
+    return jj_3R_509();
   }
 
-  private boolean jj_3R_304() {
+  private boolean jj_3R_306() {
     if (jj_scan_token(OPTIMIZE)) {
       return true;
     }
@@ -32847,136 +32936,234 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_722()) {
+      if (jj_3R_725()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_996() {
-    return jj_3R_526();
+  private boolean jj_3R_930() {
+    return jj_3R_508();
   }
 
-  private boolean jj_3R_924() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_1003() {
+    if (jj_scan_token(AS)) {
+      return true;
+    }
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_1002() {
+    return jj_3R_528();
+  }
+
+  private boolean jj_3R_859() {
+    if (jj_scan_token(MINUS)) {
+      return true;
+    }
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_929() {
+    if (jj_scan_token(COMMA)) {
+      return true;
+    }
+    if (jj_3R_156()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_997()) {
+    if (jj_3R_1002()) {
+      jj_scanpos = xsp;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_1003()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_856() {
-    if (jj_scan_token(MINUS)) {
+  private boolean jj_3_55() {
+    return jj_3R_156();
+  }
+
+  private boolean jj_3R_1001() {
+    return jj_3R_528();
+  }
+
+  private boolean jj_3R_114() {
+    if (jj_scan_token(ALTER)) {
+      return true;
+    }
+    if (jj_scan_token(DATABASE)) {
+      return true;
+    }
+    if (jj_3R_166()) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_156();
   }
 
-  private boolean jj_3_54() {
-    if (jj_scan_token(DISTINCT)) {
+  private boolean jj_3R_723() {
+    return jj_3R_73();
+  }
+
+  private boolean jj_3R_928() {
+    if (jj_scan_token(AS)) {
+      return true;
+    }
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_722() {
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_1000() {
+    return jj_3R_528();
+  }
+
+  private boolean jj_3R_724() {
+    if (jj_scan_token(IF)) {
       return true;
     }
-    if (jj_3R_155()) {
+    return jj_scan_token(EXISTS);
+  }
+
+  private boolean jj_3R_927() {
+    if (jj_3R_156()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_996()) {
+    if (jj_3R_1001()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_995() {
-    if (jj_scan_token(NOT)) {
+  private boolean jj_3R_113() {
+    if (jj_scan_token(DROP)) {
       return true;
     }
-    return jj_3R_654();
-  }
-
-  private boolean jj_3R_994() {
-    return jj_3R_654();
+    if (jj_scan_token(CLUSTER)) {
+      return true;
+    }
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_722()) {
+      jj_scanpos = xsp;
+      if (jj_3R_723()) {
+        return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_724()) {
+      jj_scanpos = xsp;
+    }
+    return false;
   }
 
-  private boolean jj_3R_113() {
-    if (jj_scan_token(ALTER)) {
+  private boolean jj_3_54() {
+    if (jj_scan_token(DISTINCT)) {
       return true;
     }
-    if (jj_scan_token(DATABASE)) {
+    if (jj_3R_156()) {
       return true;
     }
-    if (jj_3R_165()) {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1000()) {
+      jj_scanpos = xsp;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_999() {
+    if (jj_scan_token(NOT)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_656();
   }
 
-  private boolean jj_3R_720() {
-    return jj_3R_72();
+  private boolean jj_3R_998() {
+    return jj_3R_656();
   }
 
-  private boolean jj_3R_719() {
-    return jj_3R_165();
+  private boolean jj_3R_299() {
+    return jj_scan_token(STAR);
   }
 
-  private boolean jj_3R_923() {
+  private boolean jj_3R_926() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_994()) {
+    if (jj_3R_998()) {
       jj_scanpos = xsp;
-      return jj_3R_995();
+      return jj_3R_999();
     }
     return false;
   }
 
-  private boolean jj_3R_721() {
-    if (jj_scan_token(IF)) {
+  private boolean jj_3R_112() {
+    if (jj_scan_token(ALTER)) {
       return true;
     }
-    return jj_scan_token(EXISTS);
+    if (jj_scan_token(CLUSTER)) {
+      return true;
+    }
+    if (jj_3R_166()) {
+      return true;
+    }
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_299()) {
+      jj_scanpos = xsp;
+    }
+    if (jj_3R_166()) {
+      return true;
+    }
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_112() {
-    if (jj_scan_token(DROP)) {
+  private boolean jj_3R_693() {
+    if (jj_scan_token(ID)) {
       return true;
     }
-    if (jj_scan_token(CLUSTER)) {
+    return jj_3R_73();
+  }
+
+  private boolean jj_3R_692() {
+    if (jj_scan_token(IF)) {
+      return true;
+    }
+    if (jj_scan_token(NOT)) {
       return true;
     }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_719()) {
-      jj_scanpos = xsp;
-      if (jj_3R_720()) {
-        return true;
-      }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_721()) {
-      jj_scanpos = xsp;
+    return jj_scan_token(EXISTS);
+  }
+
+  private boolean jj_3R_249() {
+    if (jj_scan_token(BLOB)) {
+      return true;
     }
-    return false;
+    return jj_scan_token(CLUSTER);
   }
 
-  private boolean jj_3R_560() {
+  private boolean jj_3R_562() {
     if (jj_scan_token(MATCH)) {
       return true;
     }
-    if (jj_3R_654()) {
+    if (jj_3R_656()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_923()) {
+      if (jj_3R_926()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -32986,302 +33173,289 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     xsp = jj_scanpos;
     if (jj_3_54()) {
       jj_scanpos = xsp;
-      if (jj_3R_924())
+      if (jj_3R_927())
         return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_925()) {
+    if (jj_3R_928()) {
       jj_scanpos = xsp;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_926()) {
+      if (jj_3R_929()) {
         jj_scanpos = xsp;
         break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_927()) {
+    if (jj_3R_930()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_928()) {
+    if (jj_3R_931()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_929()) {
+    if (jj_3R_932()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_930()) {
+    if (jj_3R_933()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_931()) {
+    if (jj_3R_934()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_992() {
+  private boolean jj_3R_996() {
     return jj_scan_token(BREADTH_FIRST);
   }
 
-  private boolean jj_3R_297() {
-    return jj_scan_token(STAR);
-  }
-
-  private boolean jj_3R_991() {
+  private boolean jj_3R_995() {
     return jj_scan_token(DEPTH_FIRST);
   }
 
-  private boolean jj_3R_620() {
-    return jj_3R_618();
+  private boolean jj_3R_622() {
+    return jj_3R_620();
   }
 
-  private boolean jj_3R_111() {
-    if (jj_scan_token(ALTER)) {
+  private boolean jj_3R_87() {
+    if (jj_scan_token(CREATE)) {
       return true;
     }
-    if (jj_scan_token(CLUSTER)) {
-      return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(254)) {
+      jj_scanpos = xsp;
+      if (jj_3R_249()) {
+        return true;
+      }
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
-    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_297()) {
+    if (jj_3R_692()) {
       jj_scanpos = xsp;
     }
-    if (jj_3R_165()) {
-      return true;
+    xsp = jj_scanpos;
+    if (jj_3R_693()) {
+      jj_scanpos = xsp;
     }
-    return jj_3R_155();
+    return false;
   }
 
-  private boolean jj_3R_619() {
-    return jj_3R_464();
+  private boolean jj_3R_621() {
+    return jj_3R_466();
   }
 
-  private boolean jj_3R_922() {
+  private boolean jj_3R_925() {
     if (jj_scan_token(STRATEGY)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_991()) {
+    if (jj_3R_995()) {
       jj_scanpos = xsp;
-      return jj_3R_992();
+      return jj_3R_996();
     }
     return false;
   }
 
-  private boolean jj_3R_921() {
-    return jj_3R_464();
+  private boolean jj_3R_924() {
+    return jj_3R_466();
   }
 
-  private boolean jj_3R_920() {
-    if (jj_scan_token(WHILE)) {
-      return true;
-    }
-    return jj_3R_463();
+  private boolean jj_3R_720() {
+    return jj_scan_token(STAR);
   }
 
-  private boolean jj_3R_990() {
-    if (jj_scan_token(COMMA)) {
+  private boolean jj_3R_721() {
+    if (jj_scan_token(IF)) {
       return true;
     }
-    return jj_3R_793();
+    return jj_scan_token(EXISTS);
   }
 
-  private boolean jj_3R_919() {
-    if (jj_scan_token(MAXDEPTH)) {
+  private boolean jj_3R_923() {
+    if (jj_scan_token(WHILE)) {
       return true;
     }
-    return jj_3R_72();
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_690() {
-    if (jj_scan_token(ID)) {
+  private boolean jj_3R_994() {
+    if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_72();
+    return jj_3R_796();
   }
 
-  private boolean jj_3R_689() {
-    if (jj_scan_token(IF)) {
-      return true;
-    }
-    if (jj_scan_token(NOT)) {
+  private boolean jj_3R_922() {
+    if (jj_scan_token(MAXDEPTH)) {
       return true;
     }
-    return jj_scan_token(EXISTS);
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_247() {
-    if (jj_scan_token(BLOB)) {
-      return true;
-    }
-    return jj_scan_token(CLUSTER);
+  private boolean jj_3R_719() {
+    return jj_3R_518();
   }
 
-  private boolean jj_3R_653() {
-    if (jj_3R_793()) {
+  private boolean jj_3R_655() {
+    if (jj_3R_796()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_990()) {
+      if (jj_3R_994()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_1001() {
-    return jj_3R_618();
+  private boolean jj_3R_1005() {
+    return jj_3R_620();
   }
 
-  private boolean jj_3R_1000() {
-    return jj_3R_464();
+  private boolean jj_3R_111() {
+    if (jj_scan_token(DROP)) {
+      return true;
+    }
+    if (jj_scan_token(INDEX)) {
+      return true;
+    }
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_719()) {
+      jj_scanpos = xsp;
+      if (jj_3R_720()) {
+        return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_721()) {
+      jj_scanpos = xsp;
+    }
+    return false;
   }
 
-  private boolean jj_3R_559() {
+  private boolean jj_3R_1004() {
+    return jj_3R_466();
+  }
+
+  private boolean jj_3R_718() {
+    return jj_scan_token(STAR);
+  }
+
+  private boolean jj_3R_561() {
     if (jj_scan_token(TRAVERSE)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_653()) {
+    if (jj_3R_655()) {
       jj_scanpos = xsp;
     }
     if (jj_scan_token(FROM)) {
       return true;
     }
-    if (jj_3R_258()) {
+    if (jj_3R_260()) {
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_919()) {
+    if (jj_3R_922()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_920()) {
+    if (jj_3R_923()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_921()) {
+    if (jj_3R_924()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_922()) {
+    if (jj_3R_925()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_86() {
-    if (jj_scan_token(CREATE)) {
+  private boolean jj_3R_717() {
+    return jj_3R_518();
+  }
+
+  private boolean jj_3R_326() {
+    return jj_scan_token(NOCACHE);
+  }
+
+  private boolean jj_3R_512() {
+    if (jj_3R_466()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(253)) {
-      jj_scanpos = xsp;
-      if (jj_3R_247()) {
-        return true;
-      }
-    }
-    if (jj_3R_165()) {
-      return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_689()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_690()) {
+    if (jj_3R_622()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_717() {
-    return jj_scan_token(STAR);
-  }
-
-  private boolean jj_3R_718() {
-    if (jj_scan_token(IF)) {
+  private boolean jj_3R_1011() {
+    if (jj_scan_token(METADATA)) {
       return true;
     }
-    return jj_scan_token(EXISTS);
-  }
-
-  private boolean jj_3R_324() {
-    return jj_scan_token(NOCACHE);
+    return jj_3R_235();
   }
 
-  private boolean jj_3R_510() {
-    if (jj_3R_464()) {
+  private boolean jj_3R_1010() {
+    if (jj_scan_token(COMMA)) {
       return true;
     }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_620()) {
-      jj_scanpos = xsp;
-    }
-    return false;
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_323() {
+  private boolean jj_3R_325() {
     return jj_scan_token(PARALLEL);
   }
 
-  private boolean jj_3R_716() {
-    return jj_3R_516();
+  private boolean jj_3R_324() {
+    return jj_3R_467();
   }
 
   private boolean jj_3R_322() {
-    return jj_3R_465();
-  }
-
-  private boolean jj_3R_320() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_509()) {
+    if (jj_3R_511()) {
       jj_scanpos = xsp;
-      return jj_3R_510();
+      return jj_3R_512();
     }
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_3R_618()) {
+  private boolean jj_3R_511() {
+    if (jj_3R_620()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_619()) {
+    if (jj_3R_621()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_321() {
-    return jj_3R_511();
-  }
-
-  private boolean jj_3R_319() {
-    return jj_3R_508();
-  }
-
-  private boolean jj_3R_318() {
-    return jj_3R_507();
+  private boolean jj_3R_323() {
+    return jj_3R_513();
   }
 
-  private boolean jj_3R_110() {
-    if (jj_scan_token(DROP)) {
+  private boolean jj_3R_305() {
+    if (jj_scan_token(REBUILD)) {
       return true;
     }
     if (jj_scan_token(INDEX)) {
@@ -33289,118 +33463,146 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_716()) {
+    if (jj_3R_717()) {
       jj_scanpos = xsp;
-      if (jj_3R_717()) {
-        return true;
-      }
+      return jj_3R_718();
+    }
+    return false;
+  }
+
+  private boolean jj_3R_321() {
+    return jj_3R_510();
+  }
+
+  private boolean jj_3R_954() {
+    if (jj_3R_166()) {
+      return true;
+    }
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1010()) {
+        jj_scanpos = xsp;
+        break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_718()) {
+    if (jj_3R_1011()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_317() {
-    return jj_3R_506();
+  private boolean jj_3R_320() {
+    return jj_3R_509();
   }
 
-  private boolean jj_3R_715() {
-    return jj_scan_token(STAR);
+  private boolean jj_3R_691() {
+    if (jj_scan_token(WHERE)) {
+      return true;
+    }
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_316() {
+  private boolean jj_3R_319() {
+    return jj_3R_508();
+  }
+
+  private boolean jj_3R_318() {
     if (jj_scan_token(WHERE)) {
       return true;
     }
-    return jj_3R_463();
+    return jj_3R_465();
   }
 
-  private boolean jj_3R_315() {
-    return jj_3R_505();
+  private boolean jj_3R_317() {
+    return jj_3R_507();
   }
 
-  private boolean jj_3R_935() {
-    if (jj_3R_464()) {
+  private boolean jj_3R_938() {
+    if (jj_3R_466()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1001()) {
+    if (jj_3R_1005()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_714() {
-    return jj_3R_516();
-  }
-
-  private boolean jj_3R_796() {
+  private boolean jj_3R_799() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_934()) {
+    if (jj_3R_937()) {
       jj_scanpos = xsp;
-      return jj_3R_935();
+      return jj_3R_938();
     }
     return false;
   }
 
-  private boolean jj_3R_934() {
-    if (jj_3R_618()) {
+  private boolean jj_3R_937() {
+    if (jj_3R_620()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1000()) {
+    if (jj_3R_1004()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_314() {
-    return jj_3R_453();
+  private boolean jj_3_158() {
+    if (jj_scan_token(METADATA)) {
+      return true;
+    }
+    return jj_3R_235();
   }
 
-  private boolean jj_3R_1007() {
+  private boolean jj_3R_827() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_158()) {
+      jj_scanpos = xsp;
+      return jj_3R_954();
+    }
+    return false;
+  }
+
+  private boolean jj_3R_1009() {
     if (jj_scan_token(METADATA)) {
       return true;
     }
-    return jj_3R_233();
+    return jj_3R_235();
   }
 
-  private boolean jj_3R_1006() {
+  private boolean jj_3R_1008() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_153() {
+  private boolean jj_3R_316() {
+    return jj_3R_455();
+  }
+
+  private boolean jj_3R_154() {
     if (jj_scan_token(SELECT)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_314()) {
+    if (jj_3R_316()) {
       jj_scanpos = xsp;
     }
     if (jj_scan_token(FROM)) {
       return true;
     }
-    if (jj_3R_258()) {
+    if (jj_3R_260()) {
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_315()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_316()) {
-      jj_scanpos = xsp;
-    }
-    xsp = jj_scanpos;
     if (jj_3R_317()) {
       jj_scanpos = xsp;
     }
@@ -33432,240 +33634,248 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_3R_324()) {
       jj_scanpos = xsp;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_325()) {
+      jj_scanpos = xsp;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_326()) {
+      jj_scanpos = xsp;
+    }
     return false;
   }
 
-  private boolean jj_3R_303() {
-    if (jj_scan_token(REBUILD)) {
-      return true;
-    }
-    if (jj_scan_token(INDEX)) {
-      return true;
-    }
+  private boolean jj_3R_690() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_714()) {
+    if (jj_3R_827()) {
       jj_scanpos = xsp;
-      return jj_3R_715();
     }
     return false;
   }
 
-  private boolean jj_3R_950() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_953() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1006()) {
+      if (jj_3R_1008()) {
         jj_scanpos = xsp;
         break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1007()) {
+    if (jj_3R_1009()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_800() {
+  private boolean jj_3R_803() {
     return jj_scan_token(NOCACHE);
   }
 
-  private boolean jj_3R_799() {
+  private boolean jj_3R_802() {
     return jj_scan_token(PARALLEL);
   }
 
-  private boolean jj_3R_798() {
-    return jj_3R_465();
+  private boolean jj_3R_801() {
+    return jj_3R_467();
   }
 
-  private boolean jj_3R_797() {
-    return jj_3R_511();
+  private boolean jj_3R_800() {
+    return jj_3R_513();
   }
 
   private boolean jj_3_157() {
     if (jj_scan_token(METADATA)) {
       return true;
     }
-    return jj_3R_233();
+    return jj_3R_235();
   }
 
-  private boolean jj_3R_824() {
+  private boolean jj_3R_826() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_157()) {
       jj_scanpos = xsp;
-      return jj_3R_950();
+      return jj_3R_953();
     }
     return false;
   }
 
-  private boolean jj_3R_1005() {
-    if (jj_scan_token(METADATA)) {
-      return true;
-    }
-    return jj_3R_233();
-  }
-
-  private boolean jj_3R_1004() {
-    if (jj_scan_token(COMMA)) {
-      return true;
-    }
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_795() {
-    return jj_3R_508();
+  private boolean jj_3R_798() {
+    return jj_3R_510();
   }
 
-  private boolean jj_3R_794() {
-    return jj_3R_505();
+  private boolean jj_3R_797() {
+    return jj_3R_507();
   }
 
   private boolean jj_3_53() {
-    return jj_3R_154();
+    return jj_3R_155();
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3_159() {
+    if (jj_scan_token(ENGINE)) {
+      return true;
+    }
+    if (jj_3R_166()) {
+      return true;
+    }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_824()) {
+    if (jj_3R_826()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_949() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_825() {
+    return jj_3R_166();
+  }
+
+  private boolean jj_3_155() {
+    if (jj_scan_token(IF)) {
       return true;
     }
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1004()) {
-        jj_scanpos = xsp;
-        break; }
+    if (jj_scan_token(NOT)) {
+      return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_1005()) {
-      jj_scanpos = xsp;
+    if (jj_scan_token(EXISTS)) {
+      return true;
     }
-    return false;
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_356() {
+  private boolean jj_3R_952() {
+    if (jj_scan_token(COMMA)) {
+      return true;
+    }
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_358() {
     if (jj_scan_token(SELECT)) {
       return true;
     }
-    if (jj_3R_453()) {
+    if (jj_3R_455()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_794()) {
+    if (jj_3R_797()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_795()) {
+    if (jj_3R_798()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_796()) {
+    if (jj_3R_799()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_797()) {
+    if (jj_3R_800()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_798()) {
+    if (jj_3R_801()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_799()) {
+    if (jj_3R_802()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_800()) {
+    if (jj_3R_803()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3_156() {
-    if (jj_scan_token(METADATA)) {
-      return true;
-    }
-    return jj_3R_233();
+  private boolean jj_3_52() {
+    return jj_3R_154();
   }
 
-  private boolean jj_3R_823() {
+  private boolean jj_3R_689() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_156()) {
+    if (jj_3_155()) {
       jj_scanpos = xsp;
-      return jj_3R_949();
+      return jj_3R_825();
     }
     return false;
   }
 
-  private boolean jj_3_52() {
-    return jj_3R_153();
+  private boolean jj_3R_405() {
+    return jj_3R_155();
   }
 
-  private boolean jj_3R_403() {
-    return jj_3R_154();
+  private boolean jj_3R_404() {
+    return jj_3R_562();
   }
 
-  private boolean jj_3R_402() {
-    return jj_3R_560();
+  private boolean jj_3R_403() {
+    return jj_3R_561();
   }
 
-  private boolean jj_3R_401() {
-    return jj_3R_559();
+  private boolean jj_3_154() {
+    if (jj_scan_token(INCLUDE)) {
+      return true;
+    }
+    if (jj_scan_token(LPAREN)) {
+      return true;
+    }
+    if (jj_3R_166()) {
+      return true;
+    }
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_952()) {
+        jj_scanpos = xsp;
+        break; }
+    }
+    return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_400() {
-    return jj_3R_356();
+  private boolean jj_3R_402() {
+    return jj_3R_358();
   }
 
-  private boolean jj_3R_399() {
-    return jj_3R_153();
+  private boolean jj_3R_1007() {
+    return jj_scan_token(VALUE);
   }
 
-  private boolean jj_3_158() {
-    if (jj_scan_token(ENGINE)) {
-      return true;
-    }
-    if (jj_3R_165()) {
+  private boolean jj_3R_951() {
+    if (jj_scan_token(COLLATE)) {
       return true;
     }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_823()) {
-      jj_scanpos = xsp;
-    }
-    return false;
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_822() {
-    return jj_3R_165();
+  private boolean jj_3R_1006() {
+    return jj_scan_token(KEY);
   }
 
-  private boolean jj_3R_199() {
+  private boolean jj_3R_401() {
+    return jj_3R_154();
+  }
+
+  private boolean jj_3R_200() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_399()) {
+    if (jj_3R_401()) {
       jj_scanpos = xsp;
-    if (jj_3R_400()) {
+    if (jj_3R_402()) {
       jj_scanpos = xsp;
-      if (jj_3R_401()) {
+      if (jj_3R_403()) {
         jj_scanpos = xsp;
-        if (jj_3R_402()) {
+        if (jj_3R_404()) {
           jj_scanpos = xsp;
-          return jj_3R_403();
+          return jj_3R_405();
         }
       }
     }
@@ -33673,111 +33883,111 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3_154() {
-    if (jj_scan_token(IF)) {
-      return true;
-    }
-    if (jj_scan_token(NOT)) {
+  private boolean jj_3R_950() {
+    if (jj_scan_token(BY)) {
       return true;
     }
-    if (jj_scan_token(EXISTS)) {
-      return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1006()) {
+      jj_scanpos = xsp;
+      return jj_3R_1007();
     }
-    return jj_3R_165();
+    return false;
   }
 
-  private boolean jj_3R_1003() {
-    return jj_scan_token(VALUE);
+  private boolean jj_3R_949() {
+    return jj_3R_174();
+  }
+
+  private boolean jj_3_49() {
+    return jj_3R_119();
+  }
+
+  private boolean jj_3_51() {
+    return jj_3R_153();
+  }
+
+  private boolean jj_3R_451() {
+    return jj_3R_156();
+  }
+
+  private boolean jj_3_48() {
+    return jj_3R_118();
   }
 
   private boolean jj_3R_948() {
-    if (jj_scan_token(COLLATE)) {
-      return true;
-    }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_1002() {
-    return jj_scan_token(KEY);
+  private boolean jj_3_47() {
+    return jj_3R_117();
+  }
+
+  private boolean jj_3R_243() {
+    return jj_3R_453();
   }
 
-  private boolean jj_3R_687() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_154()) {
-      jj_scanpos = xsp;
-      return jj_3R_822();
-    }
-    return false;
+  private boolean jj_3_46() {
+    return jj_3R_116();
   }
 
-  private boolean jj_3_49() {
-    return jj_3R_118();
+  private boolean jj_3R_152() {
+    return jj_3R_119();
   }
 
-  private boolean jj_3R_947() {
-    if (jj_scan_token(BY)) {
+  private boolean jj_3R_824() {
+    if (jj_scan_token(COMMA)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1002()) {
+    if (jj_3R_948()) {
       jj_scanpos = xsp;
-      return jj_3R_1003();
+      if (jj_3R_949())
+        return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_950())
+      jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_951())
+      jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_51() {
-    return jj_3R_152();
-  }
-
-  private boolean jj_3R_449() {
-    return jj_3R_155();
-  }
-
-  private boolean jj_3_48() {
-    return jj_3R_117();
-  }
-
-  private boolean jj_3_47() {
-    return jj_3R_116();
+  private boolean jj_3R_242() {
+    return jj_3R_153();
   }
 
-  private boolean jj_3R_946() {
-    return jj_3R_173();
+  private boolean jj_3_45() {
+    return jj_3R_115();
   }
 
   private boolean jj_3R_241() {
-    return jj_3R_451();
-  }
-
-  private boolean jj_3_46() {
-    return jj_3R_115();
+    return jj_3R_452();
   }
 
   private boolean jj_3R_151() {
     return jj_3R_118();
   }
 
-  private boolean jj_3R_240() {
-    return jj_3R_152();
-  }
-
-  private boolean jj_3_45() {
-    return jj_3R_114();
+  private boolean jj_3R_823() {
+    if (jj_scan_token(COLLATE))
+      return true;
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_239() {
-    return jj_3R_450();
+  private boolean jj_3R_947() {
+    return jj_scan_token(VALUE);
   }
 
   private boolean jj_3R_150() {
     return jj_3R_117();
   }
 
-  private boolean jj_3R_945() {
-    return jj_3R_165();
+  private boolean jj_3R_946() {
+    return jj_scan_token(KEY);
   }
 
   private boolean jj_3R_149() {
@@ -33788,126 +33998,94 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_3R_115();
   }
 
-  private boolean jj_3R_821() {
-    if (jj_scan_token(COMMA)) {
+  private boolean jj_3R_822() {
+    if (jj_scan_token(BY)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_945()) {
+    if (jj_3R_946()) {
       jj_scanpos = xsp;
-      if (jj_3R_946())
-        return true;
+      return jj_3R_947();
     }
-    xsp = jj_scanpos;
-    if (jj_3R_947())
-      jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_948())
-      jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_147() {
-    return jj_3R_114();
-  }
-
-  private boolean jj_3R_820() {
-    if (jj_scan_token(COLLATE))
-      return true;
-    return jj_3R_165();
-  }
-
-  private boolean jj_3R_944() {
-    return jj_scan_token(VALUE);
+    return jj_3R_315();
   }
 
   private boolean jj_3R_146() {
-    return jj_3R_313();
-  }
-
-  private boolean jj_3R_943() {
-    return jj_scan_token(KEY);
+    return jj_3R_314();
   }
 
   private boolean jj_3R_145() {
-    return jj_3R_312();
+    return jj_3R_313();
   }
 
   private boolean jj_3R_144() {
-    return jj_3R_311();
-  }
-
-  private boolean jj_3R_143() {
-    return jj_3R_310();
+    return jj_3R_312();
   }
 
-  private boolean jj_3R_819() {
-    if (jj_scan_token(BY)) {
+  private boolean jj_3R_234() {
+    if (jj_scan_token(LPAREN)) {
       return true;
     }
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_943()) {
-      jj_scanpos = xsp;
-      return jj_3R_944();
+    if (jj_3R_156()) {
+      return true;
     }
-    return false;
+    return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_142() {
-    return jj_3R_309();
+  private boolean jj_3R_143() {
+    return jj_3R_311();
   }
 
-  private boolean jj_3R_141() {
-    return jj_3R_308();
+  private boolean jj_3R_142() {
+    return jj_3R_310();
   }
 
-  private boolean jj_3R_140() {
-    return jj_3R_307();
+  private boolean jj_3R_141() {
+    return jj_3R_309();
   }
 
-  private boolean jj_3R_139() {
-    return jj_3R_306();
+  private boolean jj_3R_233() {
+    return jj_3R_174();
   }
 
-  private boolean jj_3R_232() {
-    return jj_3R_173();
+  private boolean jj_3R_140() {
+    return jj_3R_308();
   }
 
-  private boolean jj_3R_138() {
-    return jj_3R_305();
+  private boolean jj_3R_139() {
+    return jj_3R_307();
   }
 
   private boolean jj_3_42() {
-    return jj_3R_111();
+    return jj_3R_112();
   }
 
-  private boolean jj_3R_137() {
-    return jj_3R_304();
+  private boolean jj_3R_138() {
+    return jj_3R_306();
   }
 
-  private boolean jj_3R_231() {
-    return jj_3R_165();
+  private boolean jj_3R_232() {
+    return jj_3R_166();
   }
 
   private boolean jj_3_44() {
-    return jj_3R_113();
+    return jj_3R_114();
   }
 
   private boolean jj_3_43() {
-    return jj_3R_112();
+    return jj_3R_113();
   }
 
   private boolean jj_3_40() {
-    return jj_3R_109();
-  }
-
-  private boolean jj_3R_136() {
-    return jj_3R_111();
+    return jj_3R_110();
   }
 
-  private boolean jj_3R_230() {
+  private boolean jj_3R_231() {
     if (jj_scan_token(IF)) {
       return true;
     }
@@ -33917,233 +34095,254 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_scan_token(EXISTS);
   }
 
+  private boolean jj_3R_137() {
+    return jj_3R_112();
+  }
+
   private boolean jj_3_39() {
-    return jj_3R_108();
+    return jj_3R_109();
   }
 
   private boolean jj_3_41() {
-    return jj_3R_110();
+    return jj_3R_111();
   }
 
   private boolean jj_3_38() {
-    return jj_3R_107();
-  }
-
-  private boolean jj_3R_135() {
-    return jj_3R_303();
+    return jj_3R_108();
   }
 
-  private boolean jj_3R_134() {
-    return jj_3R_109();
+  private boolean jj_3R_136() {
+    return jj_3R_305();
   }
 
-  private boolean jj_3_155() {
+  private boolean jj_3_156() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_230()) {
+    if (jj_3R_231()) {
       jj_scanpos = xsp;
     }
     if (jj_scan_token(ON)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(LPAREN)) {
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_231()) {
+    if (jj_3R_232()) {
       jj_scanpos = xsp;
-      if (jj_3R_232())
-        return true;
+      if (jj_3R_233()) {
+        jj_scanpos = xsp;
+        if (jj_3R_234()) {
+          return true;
+        }
+      }
     }
     xsp = jj_scanpos;
-    if (jj_3R_819()) {
+    if (jj_3R_822()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_820()) {
+    if (jj_3R_823()) {
       jj_scanpos = xsp;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_821()) {
+      if (jj_3R_824()) {
         jj_scanpos = xsp;
         break; }
     }
     if (jj_scan_token(RPAREN)) {
       return true;
     }
-    return jj_3R_165();
+    xsp = jj_scanpos;
+    if (jj_3_154()) {
+      jj_scanpos = xsp;
+    }
+    return jj_3R_166();
+  }
+
+  private boolean jj_3R_135() {
+    return jj_3R_110();
   }
 
   private boolean jj_3_36() {
-    return jj_3R_105();
+    return jj_3R_106();
   }
 
-  private boolean jj_3R_133() {
-    return jj_3R_108();
+  private boolean jj_3R_134() {
+    return jj_3R_109();
   }
 
-  private boolean jj_3R_85() {
+  private boolean jj_3R_86() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
     if (jj_scan_token(INDEX)) {
       return true;
     }
-    if (jj_3R_516()) {
+    if (jj_3R_518()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_155()) {
+    if (jj_3_156()) {
       jj_scanpos = xsp;
-      if (jj_3R_687())
+      if (jj_3R_689())
         return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_158()) {
+    if (jj_3_159()) {
+      jj_scanpos = xsp;
+      if (jj_3R_690())
+        return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_691()) {
       jj_scanpos = xsp;
-      return jj_3R_688();
     }
     return false;
   }
 
-  private boolean jj_3R_132() {
-    return jj_3R_107();
+  private boolean jj_3R_133() {
+    return jj_3R_108();
   }
 
   private boolean jj_3_34() {
-    return jj_3R_103();
+    return jj_3R_104();
   }
 
   private boolean jj_3_37() {
-    return jj_3R_106();
+    return jj_3R_107();
   }
 
   private boolean jj_3_33() {
-    return jj_3R_102();
+    return jj_3R_103();
   }
 
-  private boolean jj_3R_131() {
-    return jj_3R_105();
+  private boolean jj_3R_132() {
+    return jj_3R_106();
   }
 
   private boolean jj_3_32() {
-    return jj_3R_101();
+    return jj_3R_102();
   }
 
-  private boolean jj_3R_296() {
+  private boolean jj_3R_298() {
     return jj_scan_token(FORCE);
   }
 
   private boolean jj_3_35() {
-    return jj_3R_104();
+    return jj_3R_105();
   }
 
-  private boolean jj_3R_295() {
+  private boolean jj_3R_297() {
     if (jj_scan_token(IF)) {
       return true;
     }
     return jj_scan_token(EXISTS);
   }
 
-  private boolean jj_3R_130() {
-    return jj_3R_103();
+  private boolean jj_3R_131() {
+    return jj_3R_104();
   }
 
   private boolean jj_3_31() {
-    return jj_3R_100();
+    return jj_3R_101();
   }
 
-  private boolean jj_3R_129() {
-    return jj_3R_102();
+  private boolean jj_3R_130() {
+    return jj_3R_103();
   }
 
-  private boolean jj_3R_294() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_296() {
+    if (jj_3R_166()) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_109() {
+  private boolean jj_3R_110() {
     if (jj_scan_token(DROP)) {
       return true;
     }
     if (jj_scan_token(PROPERTY)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(DOT)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_295()) {
+    if (jj_3R_297()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_296()) {
+    if (jj_3R_298()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
   private boolean jj_3_30() {
-    return jj_3R_99();
+    return jj_3R_100();
   }
 
-  private boolean jj_3R_128() {
-    return jj_3R_101();
+  private boolean jj_3R_129() {
+    return jj_3R_102();
   }
 
   private boolean jj_3_29() {
-    return jj_3R_98();
+    return jj_3R_99();
   }
 
-  private boolean jj_3R_127() {
-    return jj_3R_302();
+  private boolean jj_3R_128() {
+    return jj_3R_304();
   }
 
   private boolean jj_3_28() {
-    return jj_3R_97();
+    return jj_3R_98();
   }
 
-  private boolean jj_3R_126() {
-    return jj_3R_100();
+  private boolean jj_3R_127() {
+    return jj_3R_101();
   }
 
   private boolean jj_3_153() {
     if (jj_scan_token(CUSTOM)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(EQ)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
   private boolean jj_3_27() {
-    return jj_3R_96();
+    return jj_3R_97();
   }
 
-  private boolean jj_3R_125() {
-    return jj_3R_99();
+  private boolean jj_3R_126() {
+    return jj_3R_100();
   }
 
   private boolean jj_3_26() {
-    return jj_3R_95();
+    return jj_3R_96();
+  }
+
+  private boolean jj_3R_125() {
+    return jj_3R_99();
   }
 
   private boolean jj_3R_124() {
@@ -34158,89 +34357,85 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_3R_96();
   }
 
-  private boolean jj_3R_121() {
-    return jj_3R_95();
-  }
-
   private boolean jj_3_25() {
-    return jj_3R_94();
+    return jj_3R_95();
   }
 
-  private boolean jj_3R_108() {
+  private boolean jj_3R_109() {
     if (jj_scan_token(ALTER)) {
       return true;
     }
     if (jj_scan_token(PROPERTY)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(DOT)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_153()) {
       jj_scanpos = xsp;
-      return jj_3R_294();
+      return jj_3R_296();
     }
     return false;
   }
 
   private boolean jj_3_24() {
-    return jj_3R_93();
+    return jj_3R_94();
   }
 
   private boolean jj_3_23() {
-    return jj_3R_92();
+    return jj_3R_93();
   }
 
-  private boolean jj_3R_942() {
-    return jj_3R_155();
+  private boolean jj_3R_945() {
+    return jj_3R_156();
   }
 
   private boolean jj_3_22() {
-    return jj_3R_91();
+    return jj_3R_92();
   }
 
   private boolean jj_3_21() {
-    return jj_3R_90();
+    return jj_3R_91();
   }
 
-  private boolean jj_3R_686() {
+  private boolean jj_3R_688() {
     return jj_scan_token(UNSAFE);
   }
 
-  private boolean jj_3R_818() {
+  private boolean jj_3R_821() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_817();
+    return jj_3R_820();
   }
 
   private boolean jj_3_20() {
-    return jj_3R_89();
+    return jj_3R_90();
   }
 
-  private boolean jj_3R_684() {
-    return jj_3R_165();
+  private boolean jj_3R_686() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_685() {
+  private boolean jj_3R_687() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_817()) {
+    if (jj_3R_820()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_818()) {
+      if (jj_3R_821()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -34248,71 +34443,71 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_19() {
-    return jj_3R_88();
+    return jj_3R_89();
   }
 
-  private boolean jj_3R_817() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_820() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_942()) {
+    if (jj_3R_945()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
   private boolean jj_3_18() {
-    return jj_3R_87();
+    return jj_3R_88();
   }
 
   private boolean jj_3_152() {
-    return jj_3R_229();
+    return jj_3R_230();
   }
 
   private boolean jj_3_17() {
-    return jj_3R_86();
+    return jj_3R_87();
   }
 
   private boolean jj_3_16() {
-    return jj_3R_85();
+    return jj_3R_86();
   }
 
   private boolean jj_3_15() {
-    return jj_3R_84();
+    return jj_3R_85();
   }
 
   private boolean jj_3_14() {
-    return jj_3R_83();
+    return jj_3R_84();
   }
 
-  private boolean jj_3R_120() {
-    return jj_3R_301();
+  private boolean jj_3R_121() {
+    return jj_3R_303();
   }
 
   private boolean jj_3_13() {
-    return jj_3R_82();
+    return jj_3R_83();
   }
 
   private boolean jj_3_12() {
-    return jj_3R_81();
+    return jj_3R_82();
   }
 
-  private boolean jj_3R_84() {
+  private boolean jj_3R_85() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
     if (jj_scan_token(PROPERTY)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(DOT)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
@@ -34320,48 +34515,48 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_3_152()) {
       jj_scanpos = xsp;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_684()) {
+    if (jj_3R_686()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_685()) {
+    if (jj_3R_687()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_686()) {
+    if (jj_3R_688()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
   private boolean jj_3_11() {
-    return jj_3R_80();
+    return jj_3R_81();
   }
 
-  private boolean jj_3R_119() {
-    return jj_3R_199();
+  private boolean jj_3R_120() {
+    return jj_3R_200();
   }
 
-  private boolean jj_3R_487() {
-    return jj_3R_165();
+  private boolean jj_3R_489() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_293() {
+  private boolean jj_3R_295() {
     return jj_scan_token(UNSAFE);
   }
 
-  private boolean jj_3R_292() {
+  private boolean jj_3R_294() {
     if (jj_scan_token(IF)) {
       return true;
     }
     return jj_scan_token(EXISTS);
   }
 
-  private boolean jj_3R_229() {
+  private boolean jj_3R_230() {
     if (jj_scan_token(IF)) {
       return true;
     }
@@ -34371,14 +34566,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_scan_token(EXISTS);
   }
 
-  private boolean jj_3R_291() {
-    return jj_3R_170();
+  private boolean jj_3R_293() {
+    return jj_3R_171();
   }
 
   private boolean jj_3_50() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_119()) {
+    if (jj_3R_120()) {
       jj_scanpos = xsp;
       if (jj_3_11()) {
         jj_scanpos = xsp;
@@ -34386,7 +34581,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
           jj_scanpos = xsp;
           if (jj_3_13()) {
             jj_scanpos = xsp;
-            if (jj_3R_120()) {
+            if (jj_3R_121()) {
               jj_scanpos = xsp;
               if (jj_3_14()) {
                 jj_scanpos = xsp;
@@ -34412,77 +34607,77 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                                     jj_scanpos = xsp;
                                     if (jj_3_25()) {
                                       jj_scanpos = xsp;
-                                      if (jj_3R_121()) {
+                                      if (jj_3R_122()) {
                                         jj_scanpos = xsp;
-                                        if (jj_3R_122()) {
+                                        if (jj_3R_123()) {
                                           jj_scanpos = xsp;
-                                          if (jj_3R_123()) {
+                                          if (jj_3R_124()) {
                                             jj_scanpos = xsp;
-                                            if (jj_3R_124()) {
+                                            if (jj_3R_125()) {
                                               jj_scanpos = xsp;
-                                              if (jj_3R_125()) {
+                                              if (jj_3R_126()) {
                                                 jj_scanpos = xsp;
-                                                if (jj_3R_126()) {
+                                                if (jj_3R_127()) {
                                                   jj_scanpos = xsp;
-                                                  if (jj_3R_127()) {
+                                                  if (jj_3R_128()) {
                                                     jj_scanpos = xsp;
-                                                    if (jj_3R_128()) {
+                                                    if (jj_3R_129()) {
                                                       jj_scanpos = xsp;
-                                                      if (jj_3R_129()) {
+                                                      if (jj_3R_130()) {
                                                         jj_scanpos = xsp;
-                                                        if (jj_3R_130()) {
+                                                        if (jj_3R_131()) {
                                                           jj_scanpos = xsp;
                                                           if (jj_3_35()) {
                                                             jj_scanpos = xsp;
-                                                            if (jj_3R_131()) {
+                                                            if (jj_3R_132()) {
                                                               jj_scanpos = xsp;
                                                               if (jj_3_37()) {
                                                                 jj_scanpos = xsp;
-                                                                if (jj_3R_132()) {
+                                                                if (jj_3R_133()) {
                                                                   jj_scanpos = xsp;
-                                                                  if (jj_3R_133()) {
+                                                                  if (jj_3R_134()) {
                                                                     jj_scanpos = xsp;
-                                                                    if (jj_3R_134()) {
+                                                                    if (jj_3R_135()) {
                                                                       jj_scanpos = xsp;
-                                                                      if (jj_3R_135()) {
+                                                                      if (jj_3R_136()) {
                                                                         jj_scanpos = xsp;
                                                                         if (jj_3_41()) {
                                                                           jj_scanpos = xsp;
-                                                                          if (jj_3R_136()) {
+                                                                          if (jj_3R_137()) {
                                                                             jj_scanpos = xsp;
                                                                             if (jj_3_43()) {
                                                                               jj_scanpos = xsp;
                                                                               if (jj_3_44()) {
                                                                                 jj_scanpos = xsp;
-                                                                                if (jj_3R_137()) {
+                                                                                if (jj_3R_138()) {
                                                                                   jj_scanpos = xsp;
-                                                                                  if (jj_3R_138()) {
+                                                                                  if (jj_3R_139()) {
                                                                                     jj_scanpos = xsp;
-                                                                                    if (jj_3R_139()) {
+                                                                                    if (jj_3R_140()) {
                                                                                       jj_scanpos = xsp;
-                                                                                      if (jj_3R_140()) {
+                                                                                      if (jj_3R_141()) {
                                                                                         jj_scanpos = xsp;
-                                                                                        if (jj_3R_141()) {
+                                                                                        if (jj_3R_142()) {
                                                                                           jj_scanpos = xsp;
-                                                                                          if (jj_3R_142()) {
+                                                                                          if (jj_3R_143()) {
                                                                                             jj_scanpos = xsp;
-                                                                                            if (jj_3R_143()) {
+                                                                                            if (jj_3R_144()) {
                                                                                               jj_scanpos = xsp;
-                                                                                              if (jj_3R_144()) {
+                                                                                              if (jj_3R_145()) {
                                                                                                 jj_scanpos = xsp;
-                                                                                                if (jj_3R_145()) {
+                                                                                                if (jj_3R_146()) {
                                                                                                   jj_scanpos = xsp;
-                                                                                                  if (jj_3R_146()) {
+                                                                                                  if (jj_3R_147()) {
                                                                                                     jj_scanpos = xsp;
-                                                                                                    if (jj_3R_147()) {
+                                                                                                    if (jj_3R_148()) {
                                                                                                       jj_scanpos = xsp;
-                                                                                                      if (jj_3R_148()) {
+                                                                                                      if (jj_3R_149()) {
                                                                                                         jj_scanpos = xsp;
-                                                                                                        if (jj_3R_149()) {
+                                                                                                        if (jj_3R_150()) {
                                                                                                           jj_scanpos = xsp;
-                                                                                                          if (jj_3R_150()) {
+                                                                                                          if (jj_3R_151()) {
                                                                                                             jj_scanpos = xsp;
-                                                                                                            return jj_3R_151();
+                                                                                                            return jj_3R_152();
                                                                                                           }
                                                                                                         }
                                                                                                       }
@@ -34538,19 +34733,19 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_290() {
-    return jj_3R_165();
+  private boolean jj_3R_292() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_486() {
-    return jj_3R_574();
+  private boolean jj_3R_488() {
+    return jj_3R_576();
   }
 
-  private boolean jj_3R_485() {
-    return jj_scan_token(267);
+  private boolean jj_3R_487() {
+    return jj_scan_token(268);
   }
 
-  private boolean jj_3R_107() {
+  private boolean jj_3R_108() {
     if (jj_scan_token(DROP)) {
       return true;
     }
@@ -34559,421 +34754,421 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_290()) {
+    if (jj_3R_292()) {
       jj_scanpos = xsp;
-      if (jj_3R_291()) {
+      if (jj_3R_293()) {
         return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_292()) {
+    if (jj_3R_294()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_293()) {
+    if (jj_3R_295()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
   private boolean jj_3_10() {
-    return jj_3R_79();
+    return jj_3R_80();
   }
 
-  private boolean jj_3R_79() {
+  private boolean jj_3R_80() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_50()) {
       jj_scanpos = xsp;
-      if (jj_3R_239()) {
+      if (jj_3R_241()) {
         jj_scanpos = xsp;
-        if (jj_3R_240()) {
+        if (jj_3R_242()) {
           jj_scanpos = xsp;
-          return jj_3R_241();
+          return jj_3R_243();
         }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_484() {
-    return jj_3R_165();
+  private boolean jj_3R_486() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_289() {
+  private boolean jj_3R_291() {
     return jj_scan_token(UNSAFE);
   }
 
-  private boolean jj_3R_237() {
-    return jj_3R_449();
+  private boolean jj_3R_239() {
+    return jj_3R_451();
   }
 
-  private boolean jj_3R_288() {
+  private boolean jj_3R_290() {
     if (jj_scan_token(DESCRIPTION)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_487()) {
+    if (jj_3R_489()) {
       jj_scanpos = xsp;
       return jj_scan_token(37);
     }
     return false;
   }
 
-  private boolean jj_3R_483() {
+  private boolean jj_3R_485() {
     return jj_scan_token(FALSE);
   }
 
-  private boolean jj_3R_236() {
-    return jj_3R_79();
+  private boolean jj_3R_238() {
+    return jj_3R_80();
   }
 
-  private boolean jj_3R_482() {
+  private boolean jj_3R_484() {
     return jj_scan_token(TRUE);
   }
 
-  private boolean jj_3R_73() {
+  private boolean jj_3R_74() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_236()) {
+    if (jj_3R_238()) {
       jj_scanpos = xsp;
-      if (jj_3R_237())
+      if (jj_3R_239())
         return true;
     }
     return jj_scan_token(SEMICOLON);
   }
 
-  private boolean jj_3R_287() {
+  private boolean jj_3R_289() {
     if (jj_scan_token(CLUSTER_SELECTION)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_484()) {
+    if (jj_3R_486()) {
       jj_scanpos = xsp;
-      if (jj_3R_485()) {
+      if (jj_3R_487()) {
         jj_scanpos = xsp;
-        return jj_3R_486();
+        return jj_3R_488();
       }
     }
     return false;
   }
 
-  private boolean jj_3R_234() {
-    if (jj_3R_79()) {
+  private boolean jj_3R_236() {
+    if (jj_3R_80()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(192)) {
+    if (jj_scan_token(193)) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_481() {
-    return jj_3R_72();
+  private boolean jj_3R_483() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_480() {
-    return jj_3R_165();
+  private boolean jj_3R_482() {
+    return jj_3R_166();
   }
 
   private boolean jj_3_9() {
-    return jj_3R_78();
+    return jj_3R_79();
   }
 
-  private boolean jj_3R_286() {
+  private boolean jj_3R_288() {
     if (jj_scan_token(ABSTRACT)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_482()) {
+    if (jj_3R_484()) {
       jj_scanpos = xsp;
-      return jj_3R_483();
+      return jj_3R_485();
     }
     return false;
   }
 
   private boolean jj_3_8() {
-    return jj_3R_77();
+    return jj_3R_78();
   }
 
-  private boolean jj_3R_479() {
-    return jj_3R_72();
+  private boolean jj_3R_481() {
+    return jj_3R_73();
   }
 
   private boolean jj_3_7() {
-    return jj_3R_76();
+    return jj_3R_77();
   }
 
-  private boolean jj_3R_478() {
-    return jj_3R_165();
+  private boolean jj_3R_480() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_285() {
+  private boolean jj_3R_287() {
     if (jj_scan_token(CUSTOM)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     if (jj_scan_token(EQ)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
   private boolean jj_3_6() {
-    return jj_3R_75();
+    return jj_3R_76();
   }
 
   private boolean jj_3_5() {
-    return jj_3R_74();
+    return jj_3R_75();
   }
 
   private boolean jj_3_4() {
-    return jj_3R_72();
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_477() {
+  private boolean jj_3R_479() {
     return jj_scan_token(FALSE);
   }
 
-  private boolean jj_3R_609() {
+  private boolean jj_3R_611() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_284() {
+  private boolean jj_3R_286() {
     if (jj_scan_token(REMOVE_CLUSTER)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_480()) {
+    if (jj_3R_482()) {
       jj_scanpos = xsp;
-      return jj_3R_481();
+      return jj_3R_483();
     }
     return false;
   }
 
-  private boolean jj_3R_476() {
+  private boolean jj_3R_478() {
     return jj_scan_token(TRUE);
   }
 
-  private boolean jj_3R_650() {
-    return jj_3R_74();
+  private boolean jj_3R_652() {
+    return jj_3R_75();
   }
 
-  private boolean jj_3R_649() {
-    return jj_3R_72();
+  private boolean jj_3R_651() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_283() {
+  private boolean jj_3R_285() {
     if (jj_scan_token(ADD_CLUSTER)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_478()) {
+    if (jj_3R_480()) {
       jj_scanpos = xsp;
-      return jj_3R_479();
+      return jj_3R_481();
     }
     return false;
   }
 
-  private boolean jj_3R_475() {
+  private boolean jj_3R_477() {
     return jj_scan_token(NULL);
   }
 
-  private boolean jj_3R_552() {
+  private boolean jj_3R_554() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_649()) {
+    if (jj_3R_651()) {
       jj_scanpos = xsp;
-      return jj_3R_650();
+      return jj_3R_652();
     }
     return false;
   }
 
-  private boolean jj_3R_238() {
+  private boolean jj_3R_240() {
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_474() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_476() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_609()) {
+      if (jj_3R_611()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_282() {
+  private boolean jj_3R_284() {
     if (jj_scan_token(STRICT_MODE)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_476()) {
+    if (jj_3R_478()) {
       jj_scanpos = xsp;
-      return jj_3R_477();
+      return jj_3R_479();
     }
     return false;
   }
 
-  private boolean jj_3R_74() {
+  private boolean jj_3R_75() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_238()) {
+    if (jj_3R_240()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(FLOATING_POINT_LITERAL);
   }
 
-  private boolean jj_3R_473() {
+  private boolean jj_3R_475() {
     return jj_scan_token(NULL);
   }
 
-  private boolean jj_3R_472() {
-    return jj_3R_165();
+  private boolean jj_3R_474() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_235() {
+  private boolean jj_3R_237() {
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_608() {
+  private boolean jj_3R_610() {
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_471() {
+  private boolean jj_3R_473() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_607()) {
+    if (jj_3R_609()) {
       jj_scanpos = xsp;
-      return jj_3R_608();
+      return jj_3R_610();
     }
     return false;
   }
 
-  private boolean jj_3R_607() {
+  private boolean jj_3R_609() {
     return jj_scan_token(PLUS);
   }
 
-  private boolean jj_3R_281() {
+  private boolean jj_3R_283() {
     if (jj_scan_token(SUPERCLASSES)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_474()) {
+    if (jj_3R_476()) {
       jj_scanpos = xsp;
-      return jj_3R_475();
+      return jj_3R_477();
     }
     return false;
   }
 
-  private boolean jj_3R_72() {
+  private boolean jj_3R_73() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_235()) {
+    if (jj_3R_237()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(INTEGER_LITERAL);
   }
 
-  private boolean jj_3R_470() {
-    return jj_3R_165();
+  private boolean jj_3R_472() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_280() {
+  private boolean jj_3R_282() {
     if (jj_scan_token(SUPERCLASS)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_471()) {
+    if (jj_3R_473()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_472()) {
+    if (jj_3R_474()) {
       jj_scanpos = xsp;
-      return jj_3R_473();
+      return jj_3R_475();
     }
     return false;
   }
 
-  private boolean jj_3R_279() {
+  private boolean jj_3R_281() {
     if (jj_scan_token(SHORTNAME)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_470()) {
+    if (jj_3R_472()) {
       jj_scanpos = xsp;
       return jj_scan_token(37);
     }
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_280() {
     if (jj_scan_token(NAME)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_819() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_72();
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_105() {
+  private boolean jj_3R_106() {
     if (jj_scan_token(ALTER)) {
       return true;
     }
     if (jj_scan_token(CLASS)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_278()) {
-      jj_scanpos = xsp;
-      if (jj_3R_279()) {
-        jj_scanpos = xsp;
     if (jj_3R_280()) {
       jj_scanpos = xsp;
       if (jj_3R_281()) {
         jj_scanpos = xsp;
-        if (jj_3R_282()) {
+    if (jj_3R_282()) {
+      jj_scanpos = xsp;
+      if (jj_3R_283()) {
+        jj_scanpos = xsp;
+        if (jj_3R_284()) {
           jj_scanpos = xsp;
-          if (jj_3R_283()) {
+          if (jj_3R_285()) {
             jj_scanpos = xsp;
-            if (jj_3R_284()) {
+            if (jj_3R_286()) {
               jj_scanpos = xsp;
-              if (jj_3R_285()) {
+              if (jj_3R_287()) {
                 jj_scanpos = xsp;
-                if (jj_3R_286()) {
+                if (jj_3R_288()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_287()) {
+                  if (jj_3R_289()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_288())
+                    if (jj_3R_290())
                       return true;
                   }
                 }
@@ -34986,65 +35181,65 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_289()) {
+    if (jj_3R_291()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3R_818() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_683() {
+  private boolean jj_3R_685() {
     return jj_scan_token(ABSTRACT);
   }
 
-  private boolean jj_3R_681() {
+  private boolean jj_3R_683() {
     if (jj_scan_token(CLUSTER)) {
       return true;
     }
-    if (jj_3R_72()) {
+    if (jj_3R_73()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_816()) {
+      if (jj_3R_819()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_682() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(CLUSTERS)) {
       return true;
     }
-    return jj_3R_72();
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_680() {
+  private boolean jj_3R_682() {
     if (jj_scan_token(EXTENDS)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_815()) {
+      if (jj_3R_818()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_679() {
+  private boolean jj_3R_681() {
     if (jj_scan_token(IF)) {
       return true;
     }
@@ -35054,113 +35249,113 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return jj_scan_token(EXISTS);
   }
 
-  private boolean jj_3R_624() {
-    return jj_3R_167();
+  private boolean jj_3R_626() {
+    return jj_3R_168();
   }
 
-  private boolean jj_3R_623() {
-    return jj_3R_165();
+  private boolean jj_3R_625() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_83() {
+  private boolean jj_3R_84() {
     if (jj_scan_token(CREATE)) {
       return true;
     }
     if (jj_scan_token(CLASS)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_679()) {
+    if (jj_3R_681()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_680()) {
+    if (jj_3R_682()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_681()) {
+    if (jj_3R_683()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_682()) {
+    if (jj_3R_684()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_683()) {
+    if (jj_3R_685()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_514() {
+  private boolean jj_3R_516() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_623()) {
+    if (jj_3R_625()) {
       jj_scanpos = xsp;
-      return jj_3R_624();
+      return jj_3R_626();
     }
     return false;
   }
 
-  private boolean jj_3R_513() {
-    return jj_3R_167();
+  private boolean jj_3R_515() {
+    return jj_3R_168();
   }
 
-  private boolean jj_3R_512() {
-    return jj_3R_165();
+  private boolean jj_3R_514() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_327() {
+  private boolean jj_3R_329() {
     if (jj_scan_token(LBRACKET)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_512()) {
+    if (jj_3R_514()) {
       jj_scanpos = xsp;
-      if (jj_3R_513()) {
+      if (jj_3R_515()) {
         return true;
       }
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_514()) {
+      if (jj_3R_516()) {
         jj_scanpos = xsp;
         break; }
     }
     return jj_scan_token(RBRACKET);
   }
 
-  private boolean jj_3R_326() {
+  private boolean jj_3R_328() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_79()) {
+    if (jj_3R_80()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_325() {
-    return jj_3R_169();
+  private boolean jj_3R_327() {
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_276() {
-    return jj_3R_72();
+  private boolean jj_3R_278() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_275() {
-    return jj_3R_165();
+  private boolean jj_3R_277() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_154() {
+  private boolean jj_3R_155() {
     if (jj_scan_token(FIND)) {
       return true;
     }
@@ -35169,24 +35364,24 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_325()) {
+    if (jj_3R_327()) {
       jj_scanpos = xsp;
-      if (jj_3R_326()) {
+      if (jj_3R_328()) {
         return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_327()) {
+    if (jj_3R_329()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_277() {
+  private boolean jj_3R_279() {
     return jj_scan_token(UNSAFE);
   }
 
-  private boolean jj_3R_103() {
+  private boolean jj_3R_104() {
     if (jj_scan_token(TRUNCATE)) {
       return true;
     }
@@ -35195,57 +35390,57 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_275()) {
+    if (jj_3R_277()) {
       jj_scanpos = xsp;
-      if (jj_3R_276())
+      if (jj_3R_278())
         return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_277()) {
+    if (jj_3R_279()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_274() {
+  private boolean jj_3R_276() {
     return jj_scan_token(UNSAFE);
   }
 
-  private boolean jj_3R_273() {
+  private boolean jj_3R_275() {
     return jj_scan_token(POLYMORPHIC);
   }
 
-  private boolean jj_3R_272() {
+  private boolean jj_3R_274() {
     return jj_scan_token(OFF);
   }
 
-  private boolean jj_3R_102() {
+  private boolean jj_3R_103() {
     if (jj_scan_token(TRUNCATE)) {
       return true;
     }
     if (jj_scan_token(CLASS)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_273()) {
+    if (jj_3R_275()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_274()) {
+    if (jj_3R_276()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_271() {
+  private boolean jj_3R_273() {
     return jj_scan_token(ON);
   }
 
-  private boolean jj_3R_101() {
+  private boolean jj_3R_102() {
     if (jj_scan_token(PROFILE)) {
       return true;
     }
@@ -35254,114 +35449,114 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_271()) {
+    if (jj_3R_273()) {
       jj_scanpos = xsp;
-      return jj_3R_272();
+      return jj_3R_274();
     }
     return false;
   }
 
-  private boolean jj_3R_583() {
-    return jj_3R_165();
+  private boolean jj_3R_585() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_448() {
-    return jj_3R_440();
+  private boolean jj_3R_450() {
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_447() {
+  private boolean jj_3R_449() {
     if (jj_scan_token(MINUS)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_583()) {
+    if (jj_3R_585()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_228() {
+  private boolean jj_3R_229() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_447()) {
+    if (jj_3R_449()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(213)) {
+      if (jj_scan_token(214)) {
         return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_448()) {
+    if (jj_3R_450()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_582() {
-    return jj_3R_165();
+  private boolean jj_3R_584() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_446() {
-    return jj_3R_440();
+  private boolean jj_3R_448() {
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_445() {
+  private boolean jj_3R_447() {
     if (jj_scan_token(MINUS)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_582()) {
+    if (jj_3R_584()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_227() {
+  private boolean jj_3R_228() {
     if (jj_scan_token(LT)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_445()) {
+    if (jj_3R_447()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(213)) {
+      if (jj_scan_token(214)) {
         return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_446()) {
+    if (jj_3R_448()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_581() {
-    return jj_3R_165();
+  private boolean jj_3R_583() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_444() {
-    return jj_3R_440();
+  private boolean jj_3R_446() {
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_443() {
+  private boolean jj_3R_445() {
     if (jj_scan_token(MINUS)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_581()) {
+    if (jj_3R_583()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_226() {
+  private boolean jj_3R_227() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_443()) {
+    if (jj_3R_445()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(213)) {
+      if (jj_scan_token(214)) {
         return true;
       }
     }
@@ -35369,49 +35564,49 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_444()) {
+    if (jj_3R_446()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_580() {
-    return jj_3R_165();
+  private boolean jj_3R_582() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_441() {
+  private boolean jj_3R_443() {
     if (jj_scan_token(MINUS)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_580()) {
+    if (jj_3R_582()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_225() {
+  private boolean jj_3R_226() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_441()) {
+    if (jj_3R_443()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(213))
+      if (jj_scan_token(214))
         return true;
     }
-    return jj_3R_440();
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_1050() {
-    return jj_3R_165();
+  private boolean jj_3R_1054() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_165() {
+  private boolean jj_3R_166() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(254)) {
+    if (jj_scan_token(255)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(240)) {
+      if (jj_scan_token(241)) {
         jj_scanpos = xsp;
         if (jj_scan_token(28)) {
           jj_scanpos = xsp;
@@ -35427,7 +35622,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                     jj_scanpos = xsp;
                     if (jj_scan_token(39)) {
                       jj_scanpos = xsp;
-                      if (jj_scan_token(251)) {
+                      if (jj_scan_token(252)) {
                         jj_scanpos = xsp;
                         if (jj_scan_token(45)) {
                           jj_scanpos = xsp;
@@ -35622,19 +35817,19 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                                                                                                                                                                             137)) {
                                                                                                                                                                           jj_scanpos = xsp;
                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                              58)) {
+                                                                                                                                                                              138)) {
                                                                                                                                                                             jj_scanpos = xsp;
                                                                                                                                                                             if (jj_scan_token(
-                                                                                                                                                                                59)) {
+                                                                                                                                                                                58)) {
                                                                                                                                                                               jj_scanpos = xsp;
                                                                                                                                                                               if (jj_scan_token(
-                                                                                                                                                                                  61)) {
+                                                                                                                                                                                  59)) {
                                                                                                                                                                                 jj_scanpos = xsp;
                                                                                                                                                                                 if (jj_scan_token(
-                                                                                                                                                                                    62)) {
+                                                                                                                                                                                    61)) {
                                                                                                                                                                                   jj_scanpos = xsp;
                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                      138)) {
+                                                                                                                                                                                      62)) {
                                                                                                                                                                                     jj_scanpos = xsp;
                                                                                                                                                                                     if (jj_scan_token(
                                                                                                                                                                                         139)) {
@@ -35643,7 +35838,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                                                                                                                                                                                           140)) {
                                                                                                                                                                                         jj_scanpos = xsp;
                                                                                                                                                                                         if (jj_scan_token(
-                                                                                                                                                                                            142)) {
+                                                                                                                                                                                            141)) {
                                                                                                                                                                                           jj_scanpos = xsp;
                                                                                                                                                                                           if (jj_scan_token(
                                                                                                                                                                                               143)) {
@@ -35658,7 +35853,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                                                                                                                                                                                                     146)) {
                                                                                                                                                                                                   jj_scanpos = xsp;
                                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                                      148)) {
+                                                                                                                                                                                                      147)) {
                                                                                                                                                                                                     jj_scanpos = xsp;
                                                                                                                                                                                                     if (jj_scan_token(
                                                                                                                                                                                                         149)) {
@@ -35690,8 +35885,12 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                                                                                                                                                                                                                       if (jj_scan_token(
                                                                                                                                                                                                                           158)) {
                                                                                                                                                                                                                         jj_scanpos = xsp;
-                                                                                                                                                                                                                        return jj_scan_token(
-                                                                                                                                                                                                                            255);
+                                                                                                                                                                                                                        if (jj_scan_token(
+                                                                                                                                                                                                                            159)) {
+                                                                                                                                                                                                                          jj_scanpos = xsp;
+                                                                                                                                                                                                                          return jj_scan_token(
+                                                                                                                                                                                                                              256);
+                                                                                                                                                                                                                        }
                                                                                                                                                                                                                       }
                                                                                                                                                                                                                     }
                                                                                                                                                                                                                   }
@@ -35801,107 +36000,107 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_1047() {
+  private boolean jj_3R_1051() {
     if (jj_scan_token(MINUS)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1050()) {
+    if (jj_3R_1054()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_574() {
+  private boolean jj_3R_1046() {
+    if (jj_scan_token(LT)) {
+      return true;
+    }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(181)) {
+    if (jj_3R_1051()) {
       jj_scanpos = xsp;
-      return jj_scan_token(162);
+      if (jj_scan_token(214)) {
+        return true;
+      }
     }
-    return false;
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_1042() {
-    if (jj_scan_token(LT)) {
-      return true;
-    }
+  private boolean jj_3R_576() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1047()) {
+    if (jj_scan_token(182)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(213)) {
-        return true;
-      }
+      return jj_scan_token(163);
     }
-    return jj_3R_440();
+    return false;
   }
 
-  private boolean jj_3R_578() {
-    return jj_3R_165();
+  private boolean jj_3R_580() {
+    return jj_3R_166();
   }
 
   private boolean jj_3_3() {
-    return jj_3R_73();
+    return jj_3R_74();
   }
 
-  private boolean jj_3R_439() {
+  private boolean jj_3R_441() {
     if (jj_scan_token(MINUS)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_578()) {
+    if (jj_3R_580()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(MINUS);
   }
 
-  private boolean jj_3R_224() {
+  private boolean jj_3R_225() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_439()) {
+    if (jj_3R_441()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(213)) {
+      if (jj_scan_token(214)) {
         return true;
       }
     }
     if (jj_scan_token(GT)) {
       return true;
     }
-    return jj_3R_440();
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_814() {
+  private boolean jj_3R_817() {
     if (jj_scan_token(PATH_ALIAS)) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_941() {
+  private boolean jj_3R_944() {
     return jj_scan_token(FALSE);
   }
 
-  private boolean jj_3R_940() {
+  private boolean jj_3R_943() {
     return jj_scan_token(TRUE);
   }
 
-  private boolean jj_3R_813() {
+  private boolean jj_3R_816() {
     if (jj_scan_token(DEPTH_ALIAS)) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_812() {
+  private boolean jj_3R_815() {
     if (jj_scan_token(OPTIONAL)) {
       return true;
     }
@@ -35910,159 +36109,159 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_940()) {
+    if (jj_3R_943()) {
       jj_scanpos = xsp;
-      return jj_3R_941();
+      return jj_3R_944();
     }
     return false;
   }
 
-  private boolean jj_3R_811() {
+  private boolean jj_3R_814() {
     if (jj_scan_token(MAXDEPTH)) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_72();
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_362() {
+  private boolean jj_3R_813() {
+    if (jj_scan_token(WHILE)) {
+      return true;
+    }
+    if (jj_scan_token(COLON)) {
+      return true;
+    }
+    if (jj_scan_token(LPAREN)) {
+      return true;
+    }
+    if (jj_3R_465()) {
+      return true;
+    }
+    return jj_scan_token(RPAREN);
+  }
+
+  private boolean jj_3R_364() {
     if (jj_scan_token(LBRACE)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(161)) {
+    if (jj_scan_token(162)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(162)) {
+      if (jj_scan_token(163)) {
         return true;
       }
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     return jj_scan_token(RBRACE);
   }
 
-  private boolean jj_3R_810() {
-    if (jj_scan_token(WHILE)) {
+  private boolean jj_3_2() {
+    if (jj_3R_73()) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    if (jj_scan_token(LPAREN)) {
-      return true;
-    }
-    if (jj_3R_463()) {
-      return true;
-    }
-    return jj_scan_token(RPAREN);
+    return jj_3R_73();
   }
 
-  private boolean jj_3_2() {
-    if (jj_3R_72()) {
+  private boolean jj_3R_812() {
+    if (jj_scan_token(WHERE)) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_72();
-  }
-
-  private boolean jj_3_1() {
-    if (jj_scan_token(265)) {
-      return true;
-    }
-    if (jj_3R_72()) {
+    if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_scan_token(COLON)) {
+    if (jj_3R_465()) {
       return true;
     }
-    return jj_3R_72();
+    return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_809() {
-    if (jj_scan_token(WHERE)) {
-      return true;
-    }
-    if (jj_scan_token(COLON)) {
+  private boolean jj_3_1() {
+    if (jj_scan_token(266)) {
       return true;
     }
-    if (jj_scan_token(LPAREN)) {
+    if (jj_3R_73()) {
       return true;
     }
-    if (jj_3R_463()) {
+    if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_scan_token(RPAREN);
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_808() {
+  private boolean jj_3R_811() {
     if (jj_scan_token(AS)) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_939() {
+  private boolean jj_3R_942() {
     return jj_scan_token(CLUSTER_NUMBER_IDENTIFIER);
   }
 
-  private boolean jj_3R_938() {
+  private boolean jj_3R_941() {
     return jj_scan_token(CLUSTER_IDENTIFIER);
   }
 
-  private boolean jj_3R_807() {
+  private boolean jj_3R_810() {
     if (jj_scan_token(RID)) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_169();
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_169() {
+  private boolean jj_3R_170() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_1()) {
       jj_scanpos = xsp;
       if (jj_3_2()) {
         jj_scanpos = xsp;
-        return jj_3R_362();
+        return jj_3R_364();
     }
     }
     return false;
   }
 
-  private boolean jj_3R_937() {
-    return jj_3R_72();
+  private boolean jj_3R_940() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_936() {
-    return jj_3R_165();
+  private boolean jj_3R_939() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_806() {
+  private boolean jj_3R_809() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_938()) {
+    if (jj_3R_941()) {
       jj_scanpos = xsp;
-      return jj_3R_939();
+      return jj_3R_942();
     }
     return false;
   }
 
-  private boolean jj_3R_805() {
+  private boolean jj_3R_808() {
     if (jj_scan_token(CLUSTER)) {
       return true;
     }
@@ -36071,66 +36270,66 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_936()) {
+    if (jj_3R_939()) {
       jj_scanpos = xsp;
-      return jj_3R_937();
+      return jj_3R_940();
     }
     return false;
   }
 
-  private boolean jj_3R_804() {
+  private boolean jj_3R_807() {
     if (jj_scan_token(CLASSES)) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_669() {
+  private boolean jj_3R_671() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_668();
+    return jj_3R_670();
   }
 
-  private boolean jj_3R_803() {
+  private boolean jj_3R_806() {
     if (jj_scan_token(CLASS)) {
       return true;
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_668() {
+  private boolean jj_3R_670() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_803()) {
+    if (jj_3R_806()) {
       jj_scanpos = xsp;
-      if (jj_3R_804()) {
+      if (jj_3R_807()) {
         jj_scanpos = xsp;
-    if (jj_3R_805()) {
+    if (jj_3R_808()) {
       jj_scanpos = xsp;
-      if (jj_3R_806()) {
+      if (jj_3R_809()) {
         jj_scanpos = xsp;
-        if (jj_3R_807()) {
+        if (jj_3R_810()) {
           jj_scanpos = xsp;
-          if (jj_3R_808()) {
+          if (jj_3R_811()) {
             jj_scanpos = xsp;
-            if (jj_3R_809()) {
+            if (jj_3R_812()) {
               jj_scanpos = xsp;
-              if (jj_3R_810()) {
+              if (jj_3R_813()) {
                 jj_scanpos = xsp;
-                if (jj_3R_811()) {
+                if (jj_3R_814()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_812()) {
+                  if (jj_3R_815()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_813()) {
+                    if (jj_3R_816()) {
                       jj_scanpos = xsp;
-                      return jj_3R_814();
+                      return jj_3R_817();
                     }
                   }
                 }
@@ -36145,14 +36344,14 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_668()) {
+  private boolean jj_3R_581() {
+    if (jj_3R_670()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_669()) {
+      if (jj_3R_671()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -36160,63 +36359,63 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_151() {
-    return jj_3R_228();
+    return jj_3R_229();
   }
 
   private boolean jj_3_150() {
-    return jj_3R_227();
+    return jj_3R_228();
   }
 
   private boolean jj_3_149() {
-    return jj_3R_226();
+    return jj_3R_227();
   }
 
-  private boolean jj_3R_440() {
+  private boolean jj_3R_442() {
     if (jj_scan_token(LBRACE)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_579()) {
+    if (jj_3R_581()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(RBRACE);
   }
 
-  private boolean jj_3R_1044() {
-    return jj_3R_440();
+  private boolean jj_3R_1048() {
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_577() {
-    return jj_3R_228();
+  private boolean jj_3R_579() {
+    return jj_3R_229();
   }
 
-  private boolean jj_3R_576() {
-    return jj_3R_227();
+  private boolean jj_3R_578() {
+    return jj_3R_228();
   }
 
-  private boolean jj_3R_575() {
-    return jj_3R_226();
+  private boolean jj_3R_577() {
+    return jj_3R_227();
   }
 
-  private boolean jj_3R_437() {
+  private boolean jj_3R_439() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_575()) {
+    if (jj_3R_577()) {
       jj_scanpos = xsp;
-      if (jj_3R_576()) {
+      if (jj_3R_578()) {
         jj_scanpos = xsp;
-        return jj_3R_577();
+        return jj_3R_579();
     }
     }
     return false;
   }
 
   private boolean jj_3_148() {
-    return jj_3R_221();
+    return jj_3R_222();
   }
 
-  private boolean jj_3R_222() {
+  private boolean jj_3R_223() {
     if (jj_scan_token(DOT)) {
       return true;
     }
@@ -36224,12 +36423,12 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       return true;
     }
     Token xsp;
-    if (jj_3R_437()) {
+    if (jj_3R_439()) {
       return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_437()) {
+      if (jj_3R_439()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -36237,34 +36436,34 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_1044()) {
+    if (jj_3R_1048()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_1046() {
-    return jj_3R_440();
+  private boolean jj_3R_1050() {
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_1045() {
-    return jj_3R_221();
+  private boolean jj_3R_1049() {
+    return jj_3R_222();
   }
 
-  private boolean jj_3R_223() {
+  private boolean jj_3R_224() {
     if (jj_scan_token(DOT)) {
       return true;
     }
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_438()) {
+    if (jj_3R_440()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1045()) {
+      if (jj_3R_1049()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -36272,100 +36471,100 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_1046()) {
+    if (jj_3R_1050()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_1049() {
-    return jj_3R_440();
+  private boolean jj_3R_1053() {
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_438() {
-    if (jj_3R_171()) {
+  private boolean jj_3R_440() {
+    if (jj_3R_172()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1049()) {
+    if (jj_3R_1053()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_1048() {
-    return jj_3R_440();
+  private boolean jj_3R_1052() {
+    return jj_3R_442();
   }
 
-  private boolean jj_3R_1043() {
+  private boolean jj_3R_1047() {
     if (jj_scan_token(DOT)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1048()) {
+    if (jj_3R_1052()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
   private boolean jj_3_147() {
-    return jj_3R_225();
+    return jj_3R_226();
   }
 
-  private boolean jj_3R_442() {
-    return jj_3R_440();
+  private boolean jj_3R_444() {
+    return jj_3R_442();
   }
 
   private boolean jj_3_146() {
-    return jj_3R_224();
+    return jj_3R_225();
   }
 
-  private boolean jj_3R_1031() {
-    return jj_3R_1043();
+  private boolean jj_3R_1035() {
+    return jj_3R_1047();
   }
 
-  private boolean jj_3R_221() {
-    if (jj_3R_180()) {
+  private boolean jj_3R_222() {
+    if (jj_3R_181()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_442()) {
+    if (jj_3R_444()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_1030() {
-    return jj_3R_225();
+  private boolean jj_3R_1034() {
+    return jj_3R_226();
   }
 
-  private boolean jj_3R_1029() {
-    return jj_3R_1042();
+  private boolean jj_3R_1033() {
+    return jj_3R_1046();
   }
 
-  private boolean jj_3R_1028() {
-    return jj_3R_224();
+  private boolean jj_3R_1032() {
+    return jj_3R_225();
   }
 
   private boolean jj_3_145() {
-    return jj_3R_223();
+    return jj_3R_224();
   }
 
   private boolean jj_3_144() {
-    return jj_3R_222();
+    return jj_3R_223();
   }
 
   private boolean jj_3_143() {
-    return jj_3R_221();
+    return jj_3R_222();
   }
 
-  private boolean jj_3R_993() {
+  private boolean jj_3R_997() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_143()) {
@@ -36374,13 +36573,13 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_scanpos = xsp;
       if (jj_3_145()) {
         jj_scanpos = xsp;
-        if (jj_3R_1028()) {
+        if (jj_3R_1032()) {
           jj_scanpos = xsp;
-          if (jj_3R_1029()) {
+          if (jj_3R_1033()) {
             jj_scanpos = xsp;
-            if (jj_3R_1030()) {
+            if (jj_3R_1034()) {
               jj_scanpos = xsp;
-              return jj_3R_1031();
+              return jj_3R_1035();
             }
           }
         }
@@ -36390,53 +36589,53 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     return false;
   }
 
-  private boolean jj_3R_989() {
+  private boolean jj_3R_993() {
     return jj_scan_token(STAR);
   }
 
-  private boolean jj_3R_654() {
-    if (jj_3R_440()) {
+  private boolean jj_3R_656() {
+    if (jj_3R_442()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_993()) {
+      if (jj_3R_997()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_916() {
+  private boolean jj_3R_919() {
     return jj_scan_token(CHARACTER_LITERAL);
   }
 
-  private boolean jj_3R_915() {
-    return jj_3R_574();
+  private boolean jj_3R_918() {
+    return jj_3R_576();
   }
 
-  private boolean jj_3R_914() {
+  private boolean jj_3R_917() {
     return jj_scan_token(RECORD_ATTRIBUTE);
   }
 
-  private boolean jj_3R_913() {
-    return jj_3R_165();
+  private boolean jj_3R_916() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_779() {
+  private boolean jj_3R_782() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_913()) {
+    if (jj_3R_916()) {
       jj_scanpos = xsp;
-      if (jj_3R_914()) {
+      if (jj_3R_917()) {
         jj_scanpos = xsp;
-        if (jj_3R_915()) {
+        if (jj_3R_918()) {
           jj_scanpos = xsp;
-          if (jj_3R_916()) {
+          if (jj_3R_919()) {
             return true;
           }
     }
@@ -36445,39 +36644,39 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_778() {
+  private boolean jj_3R_781() {
     return jj_scan_token(CHARACTER_LITERAL);
   }
 
-  private boolean jj_3R_911() {
+  private boolean jj_3R_914() {
     return jj_scan_token(STAR);
   }
 
-  private boolean jj_3R_777() {
-    return jj_3R_574();
+  private boolean jj_3R_780() {
+    return jj_3R_576();
   }
 
-  private boolean jj_3R_776() {
+  private boolean jj_3R_779() {
     return jj_scan_token(RECORD_ATTRIBUTE);
   }
 
-  private boolean jj_3R_775() {
-    return jj_3R_165();
+  private boolean jj_3R_778() {
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_625() {
+  private boolean jj_3R_627() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_775()) {
+    if (jj_3R_778()) {
       jj_scanpos = xsp;
-      if (jj_3R_776()) {
+      if (jj_3R_779()) {
         jj_scanpos = xsp;
-        if (jj_3R_777()) {
+        if (jj_3R_780()) {
           jj_scanpos = xsp;
-          if (jj_3R_778()) {
+          if (jj_3R_781()) {
             return true;
           }
     }
@@ -36486,12 +36685,12 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(COLON)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_779()) {
+      if (jj_3R_782()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -36499,670 +36698,670 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_142() {
-    return jj_3R_181();
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_233() {
+  private boolean jj_3R_235() {
     if (jj_scan_token(LBRACE)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_625()) {
+    if (jj_3R_627()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(RBRACE);
   }
 
-  private boolean jj_3R_1027() {
-    return jj_3R_181();
+  private boolean jj_3R_1031() {
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_793() {
-    if (jj_3R_553()) {
+  private boolean jj_3R_796() {
+    if (jj_3R_555()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1027()) {
+    if (jj_3R_1031()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_912() {
+  private boolean jj_3R_915() {
     if (jj_scan_token(DOT)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_989()) {
+    if (jj_3R_993()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_988() {
+  private boolean jj_3R_992() {
     return jj_scan_token(STAR);
   }
 
-  private boolean jj_3R_987() {
-    return jj_3R_72();
+  private boolean jj_3R_991() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_910() {
+  private boolean jj_3R_913() {
     if (jj_scan_token(LBRACKET)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_987()) {
+    if (jj_3R_991()) {
       jj_scanpos = xsp;
-      if (jj_3R_988()) {
+      if (jj_3R_992()) {
         return true;
       }
     }
     return jj_scan_token(RBRACKET);
   }
 
-  private boolean jj_3R_774() {
+  private boolean jj_3R_777() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_910()) {
+    if (jj_3R_913()) {
       jj_scanpos = xsp;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_911()) {
+    if (jj_3R_914()) {
       jj_scanpos = xsp;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_912()) {
+      if (jj_3R_915()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_773() {
+  private boolean jj_3R_776() {
     return jj_scan_token(STAR);
   }
 
-  private boolean jj_3R_621() {
+  private boolean jj_3R_623() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_773()) {
+    if (jj_3R_776()) {
       jj_scanpos = xsp;
-      if (jj_3R_774()) {
+      if (jj_3R_777()) {
         return true;
       }
     }
     if (jj_scan_token(COLON)) {
       return true;
     }
-    return jj_3R_72();
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_622() {
-    return jj_3R_621();
+  private boolean jj_3R_624() {
+    return jj_3R_623();
   }
 
-  private boolean jj_3R_511() {
+  private boolean jj_3R_513() {
     if (jj_scan_token(FETCHPLAN)) {
       return true;
     }
-    if (jj_3R_621()) {
+    if (jj_3R_623()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_622()) {
+      if (jj_3R_624()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_533() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_368() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_370() {
+    if (jj_3R_156()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_531()) {
+      if (jj_3R_533()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_172() {
+  private boolean jj_3R_173() {
     if (jj_scan_token(LBRACKET)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_368()) {
+    if (jj_3R_370()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(RBRACKET);
   }
 
-  private boolean jj_3R_455() {
+  private boolean jj_3R_457() {
     if (jj_scan_token(RETRY)) {
       return true;
     }
-    return jj_3R_72();
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_749() {
+  private boolean jj_3R_752() {
     return jj_scan_token(EXCEPTION);
   }
 
-  private boolean jj_3R_456() {
+  private boolean jj_3R_458() {
     if (jj_scan_token(WAIT)) {
       return true;
     }
-    return jj_3R_72();
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_606() {
+  private boolean jj_3R_608() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_748()) {
+    if (jj_3R_751()) {
       jj_scanpos = xsp;
-      return jj_3R_749();
+      return jj_3R_752();
     }
     return false;
   }
 
-  private boolean jj_3R_748() {
+  private boolean jj_3R_751() {
     return jj_scan_token(RETURN);
   }
 
-  private boolean jj_3R_465() {
+  private boolean jj_3R_467() {
     if (jj_scan_token(TIMEOUT)) {
       return true;
     }
-    if (jj_3R_72()) {
+    if (jj_3R_73()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_606()) {
+    if (jj_3R_608()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_589() {
-    return jj_3R_170();
+  private boolean jj_3R_591() {
+    return jj_3R_171();
   }
 
-  private boolean jj_3R_588() {
-    return jj_3R_72();
+  private boolean jj_3R_590() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_909() {
-    return jj_3R_170();
+  private boolean jj_3R_912() {
+    return jj_3R_171();
   }
 
-  private boolean jj_3R_908() {
-    return jj_3R_72();
+  private boolean jj_3R_911() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3R_459() {
     if (jj_scan_token(BATCH)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_588()) {
+    if (jj_3R_590()) {
       jj_scanpos = xsp;
-      return jj_3R_589();
+      return jj_3R_591();
     }
     return false;
   }
 
-  private boolean jj_3R_907() {
-    return jj_3R_170();
+  private boolean jj_3R_910() {
+    return jj_3R_171();
   }
 
-  private boolean jj_3R_906() {
-    return jj_3R_72();
+  private boolean jj_3R_909() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_772() {
+  private boolean jj_3R_775() {
     if (jj_scan_token(OFFSET)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_908()) {
+    if (jj_3R_911()) {
       jj_scanpos = xsp;
-      return jj_3R_909();
+      return jj_3R_912();
     }
     return false;
   }
 
-  private boolean jj_3R_986() {
+  private boolean jj_3R_990() {
     return jj_scan_token(ASC);
   }
 
-  private boolean jj_3R_771() {
+  private boolean jj_3R_774() {
     if (jj_scan_token(SKIP2)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_906()) {
+    if (jj_3R_909()) {
       jj_scanpos = xsp;
-      return jj_3R_907();
+      return jj_3R_910();
     }
     return false;
   }
 
-  private boolean jj_3R_618() {
+  private boolean jj_3R_620() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_771()) {
+    if (jj_3R_774()) {
       jj_scanpos = xsp;
-      return jj_3R_772();
+      return jj_3R_775();
     }
     return false;
   }
 
-  private boolean jj_3R_605() {
-    return jj_3R_170();
+  private boolean jj_3R_607() {
+    return jj_3R_171();
   }
 
-  private boolean jj_3R_604() {
-    return jj_3R_72();
+  private boolean jj_3R_606() {
+    return jj_3R_73();
   }
 
-  private boolean jj_3R_983() {
+  private boolean jj_3R_987() {
     return jj_scan_token(ASC);
   }
 
-  private boolean jj_3R_464() {
+  private boolean jj_3R_466() {
     if (jj_scan_token(LIMIT)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_604()) {
+    if (jj_3R_606()) {
       jj_scanpos = xsp;
-      return jj_3R_605();
+      return jj_3R_607();
     }
     return false;
   }
 
-  private boolean jj_3R_617() {
+  private boolean jj_3R_619() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_165();
+    return jj_3R_166();
   }
 
-  private boolean jj_3R_613() {
+  private boolean jj_3R_615() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_508() {
+  private boolean jj_3R_510() {
     if (jj_scan_token(UNWIND)) {
       return true;
     }
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_617()) {
+      if (jj_3R_619()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_984() {
-    return jj_3R_181();
+  private boolean jj_3R_988() {
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_903() {
+  private boolean jj_3R_906() {
     return jj_scan_token(RECORD_ATTRIBUTE);
   }
 
-  private boolean jj_3R_902() {
-    return jj_3R_169();
+  private boolean jj_3R_905() {
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_905() {
+  private boolean jj_3R_908() {
     if (jj_scan_token(COLLATE)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_985() {
+  private boolean jj_3R_989() {
     return jj_scan_token(DESC);
   }
 
-  private boolean jj_3R_904() {
+  private boolean jj_3R_907() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_985()) {
+    if (jj_3R_989()) {
       jj_scanpos = xsp;
-      return jj_3R_986();
+      return jj_3R_990();
     }
     return false;
   }
 
-  private boolean jj_3R_895() {
+  private boolean jj_3R_898() {
     return jj_scan_token(ASC);
   }
 
-  private boolean jj_3R_901() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_904() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_984()) {
+    if (jj_3R_988()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_506() {
+  private boolean jj_3R_508() {
     if (jj_scan_token(GROUP)) {
       return true;
     }
     if (jj_scan_token(BY)) {
       return true;
     }
-    if (jj_3R_155()) {
+    if (jj_3R_156()) {
       return true;
     }
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_613()) {
+      if (jj_3R_615()) {
         jj_scanpos = xsp;
         break; }
     }
     return false;
   }
 
-  private boolean jj_3R_981() {
-    return jj_3R_181();
+  private boolean jj_3R_985() {
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_898() {
+  private boolean jj_3R_901() {
     return jj_scan_token(RECORD_ATTRIBUTE);
   }
 
-  private boolean jj_3R_897() {
-    return jj_3R_169();
+  private boolean jj_3R_900() {
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_900() {
+  private boolean jj_3R_903() {
     if (jj_scan_token(COLLATE)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_982() {
+  private boolean jj_3R_986() {
     return jj_scan_token(DESC);
   }
 
-  private boolean jj_3R_899() {
+  private boolean jj_3R_902() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_982()) {
+    if (jj_3R_986()) {
       jj_scanpos = xsp;
-      return jj_3R_983();
+      return jj_3R_987();
     }
     return false;
   }
 
-  private boolean jj_3R_770() {
+  private boolean jj_3R_773() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_901()) {
+    if (jj_3R_904()) {
       jj_scanpos = xsp;
-      if (jj_3R_902()) {
+      if (jj_3R_905()) {
         jj_scanpos = xsp;
-        if (jj_3R_903()) {
+        if (jj_3R_906()) {
           return true;
         }
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_904()) {
+    if (jj_3R_907()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_905()) {
+    if (jj_3R_908()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_892() {
+  private boolean jj_3R_895() {
     return jj_scan_token(ASC);
   }
 
-  private boolean jj_3R_896() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_899() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_981()) {
+    if (jj_3R_985()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_769() {
+  private boolean jj_3R_772() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_896()) {
+    if (jj_3R_899()) {
       jj_scanpos = xsp;
-      if (jj_3R_897()) {
+      if (jj_3R_900()) {
         jj_scanpos = xsp;
-        if (jj_3R_898()) {
+        if (jj_3R_901()) {
           return true;
         }
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_899()) {
+    if (jj_3R_902()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_900()) {
+    if (jj_3R_903()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_616() {
+  private boolean jj_3R_618() {
     if (jj_scan_token(COMMA)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_769()) {
+    if (jj_3R_772()) {
       jj_scanpos = xsp;
-      return jj_3R_770();
+      return jj_3R_773();
     }
     return false;
   }
 
-  private boolean jj_3R_893() {
-    return jj_3R_181();
+  private boolean jj_3R_896() {
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_766() {
+  private boolean jj_3R_769() {
     return jj_scan_token(RECORD_ATTRIBUTE);
   }
 
-  private boolean jj_3R_765() {
-    return jj_3R_169();
+  private boolean jj_3R_768() {
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_768() {
+  private boolean jj_3R_771() {
     if (jj_scan_token(COLLATE)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_767() {
+  private boolean jj_3R_770() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_894()) {
+    if (jj_3R_897()) {
       jj_scanpos = xsp;
-      return jj_3R_895();
+      return jj_3R_898();
     }
     return false;
   }
 
-  private boolean jj_3R_894() {
+  private boolean jj_3R_897() {
     return jj_scan_token(DESC);
   }
 
-  private boolean jj_3R_764() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_767() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_893()) {
+    if (jj_3R_896()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_890() {
-    return jj_3R_181();
+  private boolean jj_3R_893() {
+    return jj_3R_182();
   }
 
-  private boolean jj_3R_761() {
+  private boolean jj_3R_764() {
     return jj_scan_token(RECORD_ATTRIBUTE);
   }
 
-  private boolean jj_3R_760() {
-    return jj_3R_169();
+  private boolean jj_3R_763() {
+    return jj_3R_170();
   }
 
-  private boolean jj_3R_763() {
+  private boolean jj_3R_766() {
     if (jj_scan_token(COLLATE)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_762() {
+  private boolean jj_3R_765() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_891()) {
+    if (jj_3R_894()) {
       jj_scanpos = xsp;
-      return jj_3R_892();
+      return jj_3R_895();
     }
     return false;
   }
 
-  private boolean jj_3R_891() {
+  private boolean jj_3R_894() {
     return jj_scan_token(DESC);
   }
 
-  private boolean jj_3R_615() {
+  private boolean jj_3R_617() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_764()) {
+    if (jj_3R_767()) {
       jj_scanpos = xsp;
-      if (jj_3R_765()) {
+      if (jj_3R_768()) {
         jj_scanpos = xsp;
-        if (jj_3R_766()) {
+        if (jj_3R_769()) {
           return true;
         }
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_767()) {
+    if (jj_3R_770()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_768()) {
+    if (jj_3R_771()) {
       jj_scanpos = xsp;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_759() {
-    if (jj_3R_165()) {
+  private boolean jj_3R_762() {
+    if (jj_3R_166()) {
       return true;
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_890()) {
+    if (jj_3R_893()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_614() {
+  private boolean jj_3R_616() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_759()) {
+    if (jj_3R_762()) {
       jj_scanpos = xsp;
-      if (jj_3R_760()) {
+      if (jj_3R_763()) {
         jj_scanpos = xsp;
-        if (jj_3R_761()) {
+        if (jj_3R_764()) {
           return true;
         }
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_762()) {
+    if (jj_3R_765()) {
       jj_scanpos = xsp;
     }
     xsp = jj_scanpos;
-    if (jj_3R_763()) {
+    if (jj_3R_766()) {
       jj_scanpos = xsp;
     }
     return false;
   }
 
-  private boolean jj_3R_507() {
+  private boolean jj_3R_509() {
     if (jj_scan_token(ORDER)) {
       return true;
     }
@@ -37171,15 +37370,15 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_614()) {
+    if (jj_3R_616()) {
       jj_scanpos = xsp;
-      if (jj_3R_615()) {
+      if (jj_3R_617()) {
         return true;
       }
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_616()) {
+      if (jj_3R_618()) {
         jj_scanpos = xsp;
         break; }
     }
@@ -37187,31 +37386,31 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   }
 
   private boolean jj_3_141() {
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_433() {
-    return jj_3R_170();
+  private boolean jj_3R_435() {
+    return jj_3R_171();
   }
 
-  private boolean jj_3R_432() {
+  private boolean jj_3R_434() {
     return jj_scan_token(CHARACTER_LITERAL);
   }
 
-  private boolean jj_3R_431() {
-    return jj_3R_574();
+  private boolean jj_3R_433() {
+    return jj_3R_576();
   }
 
-  private boolean jj_3R_430() {
-    return jj_3R_155();
+  private boolean jj_3R_432() {
+    return jj_3R_156();
   }
 
   private boolean jj_3_140() {
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_216() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(MATCHES)) {
@@ -37219,53 +37418,53 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_430()) {
+    if (jj_3R_432()) {
       jj_scanpos = xsp;
-    if (jj_3R_431()) {
+    if (jj_3R_433()) {
       jj_scanpos = xsp;
-      if (jj_3R_432()) {
+      if (jj_3R_434()) {
         jj_scanpos = xsp;
-        return jj_3R_433();
+        return jj_3R_435();
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_429() {
-    return jj_3R_155();
+  private boolean jj_3R_431() {
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_215() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(CONTAINSTEXT)) {
       return true;
     }
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
   private boolean jj_3_139() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
   private boolean jj_3_138() {
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_428() {
-    return jj_3R_155();
+  private boolean jj_3R_430() {
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_214() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(CONTAINSANY)) {
@@ -37275,7 +37474,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     xsp = jj_scanpos;
     if (jj_3_139()) {
       jj_scanpos = xsp;
-      return jj_3R_429();
+      return jj_3R_431();
     }
     return false;
   }
@@ -37284,18 +37483,18 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
   private boolean jj_3_134() {
-    return jj_3R_153();
+    return jj_3R_154();
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_213() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(CONTAINSALL)) {
@@ -37305,31 +37504,31 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     xsp = jj_scanpos;
     if (jj_3_137()) {
       jj_scanpos = xsp;
-      return jj_3R_428();
+      return jj_3R_430();
     }
     return false;
   }
 
-  private boolean jj_3R_423() {
-    return jj_3R_183();
+  private boolean jj_3R_425() {
+    return jj_3R_184();
   }
 
-  private boolean jj_3R_220() {
-    return jj_3R_356();
+  private boolean jj_3R_221() {
+    return jj_3R_358();
   }
 
   private boolean jj_3_136() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_170()) {
+    if (jj_3R_171()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_219() {
-    return jj_3R_153();
+  private boolean jj_3R_220() {
+    return jj_3R_154();
   }
 
   private boolean jj_3_135() {
@@ -37338,26 +37537,26 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_219()) {
+    if (jj_3R_220()) {
       jj_scanpos = xsp;
-      if (jj_3R_220())
+      if (jj_3R_221())
         return true;
     }
     return jj_scan_token(RPAREN);
   }
 
   private boolean jj_3_131() {
-    return jj_3R_153();
+    return jj_3R_154();
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_208() {
+    if (jj_3R_156()) {
       return true;
     }
     if (jj_scan_token(NOT)) {
       return true;
     }
-    if (jj_3R_421()) {
+    if (jj_3R_423()) {
       return true;
     }
     Token xsp;
@@ -37366,32 +37565,32 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_scanpos = xsp;
       if (jj_3_136()) {
         jj_scanpos = xsp;
-        return jj_3R_423();
+        return jj_3R_425();
     }
     }
     return false;
   }
 
-  private boolean jj_3R_218() {
-    return jj_3R_356();
+  private boolean jj_3R_219() {
+    return jj_3R_358();
   }
 
   private boolean jj_3_133() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_170()) {
+    if (jj_3R_171()) {
       return true;
     }
     return jj_scan_token(RPAREN);
   }
 
-  private boolean jj_3R_422() {
-    return jj_3R_183();
+  private boolean jj_3R_424() {
+    return jj_3R_184();
   }
 
-  private boolean jj_3R_217() {
-    return jj_3R_153();
+  private boolean jj_3R_218() {
+    return jj_3R_154();
   }
 
   private boolean jj_3_132() {
@@ -37400,23 +37599,23 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     }
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_217()) {
+    if (jj_3R_218()) {
       jj_scanpos = xsp;
-      if (jj_3R_218())
+      if (jj_3R_219())
         return true;
     }
     return jj_scan_token(RPAREN);
   }
 
   private boolean jj_3_130() {
-    return jj_3R_155();
+    return jj_3R_156();
   }
 
-  private boolean jj_3R_206() {
-    if (jj_3R_155()) {
+  private boolean jj_3R_207() {
+    if (jj_3R_156()) {
       return true;
     }
-    if (jj_3R_421()) {
+    if (jj_3R_423()) {
       return true;
     }
     Token xsp;
@@ -37425,25 +37624,25 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
       jj_scanpos = xsp;
       if (jj_3_133()) {
         jj_scanpos = xsp;
-        return jj_3R_422();
+        return jj_3R_424();
     }
     }
     return false;
   }
 
-  private boolean jj_3R_421() {
+  private boolean jj_3R_423() {
     return jj_scan_token(IN);
   }
 
-  private boolean jj_3R_425() {
-    return jj_3R_155();
+  private boolean jj_3R_427() {
+    return jj_3R_156();
   }
 
   private boolean jj_3_129() {
     if (jj_scan_token(LPAREN)) {
       return true;
     }
-    if (jj_3R_178()) {
+    if (jj_3R_179()) {
       return true;
     }
     return jj_scan_token(RPAREN);
@@ -37459,7 +37658,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[442];
+  final private int[] jj_la1 = new int[444];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -37507,8 +37706,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         0x0, 0x0, 0xfc400000, 0x0, 0xfc400000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xfc400000,
         0x0, 0x0, 0xfc400000, 0x0, 0xfc400000, 0x0, 0xfc400000, 0xfc400000, 0x0, 0xfc400000,
         0xfc400000, 0x0, 0x0, 0xfc400000, 0x0, 0x0, 0xfc400000, 0x0, 0x0, 0x0, 0xfc400000, 0x0, 0x0,
-        0x0, 0xfc400000, 0x4000000, 0x0, 0x0, 0x0, 0xfc400000, 0x4000000, 0x0, 0x0, 0xfc400000,
-        0xfc400000, 0x0, 0x0, 0xfc400000, 0xfc400000, 0x0, 0x0, 0xfc400000, 0xfc400000, 0xfc400000,
+        0x0, 0xfc400000, 0x4000000, 0x0, 0x0, 0x0, 0xfc400000, 0x4000000, 0x0, 0x0,0x0, 0xfc400000,
+        0xfc400000, 0x0, 0x0, 0xfc400000, 0xfc400000, 0x0, 0x0, 0xfc400000, 0xfc400000,0x800000, 0xfc400000,
         0xfc400000, 0x0, 0x0, 0x0, 0x0, 0x0, 0xfc400000, 0x0, 0x0, 0xfc400000, 0xfc400000, 0x0,
         0x98000, 0x98000, 0x98000, 0x0, 0x0, 0x0, 0x0, 0x0, 0xfc400000, 0x0, 0xfc400000, 0xfc400000,
         0x0, 0xfc400000, 0xfc400000, 0x0, 0xfc400000, 0xfc400000, 0x0, 0x10000000, 0x10000000,
@@ -37548,8 +37747,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         0x0, 0x6c4021a3, 0x0, 0x0, 0x6c4021a3, 0x0, 0x6c4021a3, 0x0, 0x6c402183, 0x6c402183, 0x0,
         0x6c402183, 0x6c4021a3, 0x0, 0x80000000, 0x6c402183, 0x0, 0x80000000, 0x6c402183, 0x0, 0x0,
         0x80000000, 0x6c402183, 0x0, 0x0, 0x0, 0x6c402183, 0x0, 0x200, 0x0, 0x0, 0x6c402183, 0x0,
-        0x200, 0x0, 0x6c402183, 0x6c402183, 0x0, 0x0, 0x6c402183, 0x6c402183, 0x0, 0x0, 0x6c402183,
-        0x6c402183, 0x6c402183, 0x6c402183, 0x0, 0x0, 0x0, 0x0, 0x0, 0x6c402183, 0x0, 0x0,
+        0x200, 0x0,0x0, 0x6c402183, 0x6c402183, 0x0, 0x0, 0x6c402183, 0x6c402183, 0x0, 0x0, 0x6c402183,
+        0x6c402183,0x0, 0x6c402183, 0x6c402183, 0x0, 0x0, 0x0, 0x0, 0x0, 0x6c402183, 0x0, 0x0,
         0x6c402183, 0x6c402183, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x6c402183, 0x0,
         0x6c402183, 0x6c402183, 0x0, 0x6c402183, 0x6c402183, 0x0, 0x6c402183, 0x6c402183, 0x0, 0x2,
         0x2, 0x2, 0x2, 0x2080000, 0x0, 0x8, 0x0, 0x0, 0x0, 0x1000000, 0x6c4021a3, 0x6e4821a3, 0x0,
@@ -37584,8 +37783,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         0x0, 0x0, 0x2000000, 0x4000000, 0xffdffe70, 0x0, 0x0, 0xffdffe70, 0x0, 0xffdffe70, 0x0,
         0xffdffe70, 0xffdffe70, 0x0, 0xffdffe70, 0xffdffe70, 0xf4002800, 0x0, 0xffdffe70, 0x0, 0x0,
         0xffdffe70, 0x0, 0x0, 0x0, 0xffdffe70, 0x0, 0x0, 0x0, 0xffdffe70, 0x0, 0x0, 0x0, 0x0,
-        0xffdffe70, 0x0, 0x0, 0x0, 0xffdffe70, 0xffdffe70, 0x0, 0x0, 0xffdffe70, 0xffdffe70, 0x0,
-        0x0, 0xffdffe70, 0xffdffe70, 0xffdffe70, 0xffdffe70, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffdffe70,
+        0xffdffe70, 0x0, 0x0, 0x0,0x0, 0xffdffe70, 0xffdffe70, 0x0, 0x0, 0xffdffe70, 0xffdffe70, 0x0,
+        0x0, 0xffdffe70, 0xffdffe70,0x0, 0xffdffe70, 0xffdffe70, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffdffe70,
         0x0, 0x0, 0xffdffe70, 0xffdffe70, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffdffe70,
         0x0, 0xffdffe70, 0xffdffe70, 0x0, 0xffdffe70, 0xffdffe70, 0x0, 0xffdffe70, 0xffdffe70, 0x0,
         0x0, 0x0, 0x0, 0x0, 0x8510000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffdffe70, 0xffdffe70, 0x0,
@@ -37597,7 +37796,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
 
   private static void jj_la1_init_3() {
     jj_la1_3 = new int[]{0x0, 0x0, 0xffffffff, 0x0, 0x0, 0xffffffff, 0x0, 0x0, 0x10, 0x0,
-        0xffffffff, 0x0, 0x0, 0x0, 0x800, 0xe0184000, 0x40000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0xffffffff, 0x0, 0x0, 0x0, 0x1000, 0xc0308000, 0x80000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
         0x0, 0x0, 0x0, 0x0, 0x0, 0xffffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
         0x0, 0x0, 0x0, 0xffffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
         0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
@@ -37619,187 +37818,186 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         0x0, 0x0, 0xffffffff, 0x0, 0x0, 0xffffffff, 0x0, 0xffffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
         0x0, 0x0, 0xffffffff, 0x0, 0x0, 0xffffffff, 0x0, 0xffffffff, 0x0, 0xffffffff, 0xffffffff,
         0x0, 0xffffffff, 0xffffffff, 0xf, 0x0, 0xffffffff, 0x0, 0x0, 0xffffffff, 0x0, 0x0, 0x0,
-        0xffffffff, 0x0, 0x40, 0x0, 0xffffffff, 0x0, 0x0, 0x200, 0x0, 0xffffffff, 0x0, 0x0, 0x200,
+        0xffffffff, 0x0, 0x40, 0x0, 0xffffffff, 0x0, 0x0, 0x200, 0x0, 0xffffffff, 0x0, 0x0, 0x200,0x0,
         0xffffffff, 0xffffffff, 0x0, 0x80, 0xffffffff, 0xffffffff, 0x0, 0x80, 0xffffffff,
-        0xffffffff, 0xffffffff, 0xffffffff, 0x0, 0x0, 0x0, 0x1000, 0x0, 0xffffffff, 0x0, 0x0,
-        0xffffffff, 0xffffffff, 0x20000, 0x1e00000, 0x1e00000, 0x1e00000, 0x0, 0x4000000, 0x0,
-        0x8000000, 0x10000000, 0xffffffff, 0x0, 0xffffffff, 0xffffffff, 0x0, 0xffffffff, 0xffffffff,
-        0x0, 0xffffffff, 0xffffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0xe01c4810, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0xffffffff,0x0, 0xffffffff, 0xffffffff, 0x0, 0x0, 0x0, 0x2000, 0x0, 0xffffffff, 0x0, 0x0,
+        0xffffffff, 0xffffffff, 0x40000, 0x3c00000, 0x3c00000, 0x3c00000, 0x0, 0x8000000, 0x0, 0x10000000,0x20000000, 0xffffffff, 0x0, 0xffffffff, 0xffffffff, 0x0, 0xffffffff, 0xffffffff,
+        0x0, 0xffffffff, 0xffffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc0389010, 0x0, 0x0, 0x0, 0x0, 0x0,
         0x0, 0xffffffff, 0xffffffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0xffffffff, 0x0, 0xffffffff, 0x0, 0xffffffff, 0x0, 0x600000, 0x0, 0x600000,
-        0x0, 0x600000, 0x0, 0x600000, 0x600000, 0x0, 0x600000, 0x0, 0x0, 0xffffffff, 0xffffffff,
+        0x0, 0x0, 0x0, 0xffffffff, 0x0, 0xffffffff, 0x0, 0xffffffff, 0x0, 0xc00000, 0x0, 0xc00000,
+        0x0, 0xc00000, 0x0, 0xc00000, 0xc00000, 0x0, 0xc00000, 0x0, 0x0, 0xffffffff, 0xffffffff,
         0x0, 0xffffffff, 0xffffffff, 0x0, 0xffffffff, 0x0, 0x0, 0x0, 0x0, 0xffffffff, 0x0,};
   }
 
   private static void jj_la1_init_4() {
-    jj_la1_4 = new int[]{0x0, 0x0, 0xffffffff, 0x80001, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0,
-        0xfff7ffff, 0x0, 0x0, 0x100000, 0x0, 0x31, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0xfff7ffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0xfff7ffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0xfff7ffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1000, 0xfff7ffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x2000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0xfff7ffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7ffff, 0x0, 0xfff7ffff, 0x0, 0xfff7ffff,
-        0x80000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xfff7ffff, 0x0, 0xfff7ffff, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0xfff7ffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0, 0xfff7ffff, 0x0,
-        0xfff7ffff, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x7ff7dfff,
-        0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xfff7ffff, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x7ff7dfff, 0x7ff7dfff, 0x0, 0x7ff7dfff, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x8600800, 0x7ff7dfff, 0x0, 0x0, 0x8600800, 0x7ff7dfff, 0x0, 0x7ff7dfff, 0x0,
-        0x7ff7dfff, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x7ff7dfff, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x7ff7dfff, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x7ff7dfff, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x7ff7dfff, 0x0, 0x7ff7dfff, 0x7ff7dfff, 0x0,
-        0x7ff7dfff, 0x7ff7dfff, 0x0, 0x0, 0x7ff7dfff, 0x1, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0,
-        0x7ff7dfff, 0x1, 0x0, 0x1, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0, 0x0, 0x0,
-        0x7ff7dfff, 0x7ff7dfff, 0x0, 0x0, 0x7ff7dfff, 0x7ff7dfff, 0x0, 0x0, 0x7ff7dfff, 0x7ff7dfff,
-        0x7ff7dfff, 0x7ff7dfff, 0x1, 0x40, 0x1, 0x0, 0x0, 0x7ff7dfff, 0x1, 0x0, 0x7ff7dfff,
-        0x7ff7dfff, 0x0, 0x0, 0x20000000, 0x20000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x0,
-        0x7ff7dfff, 0x7ff7dfff, 0x1000000, 0x7ff7dfff, 0x7ff7dfff, 0x0, 0x7ff7dfff, 0x7ff7dfff,
-        0x1000000, 0x0, 0x0, 0x0, 0x0, 0x104031, 0xc, 0x0, 0xc, 0xc, 0x2, 0x0, 0xfff7ffff,
-        0xffffffff, 0x80001, 0x1, 0x400, 0x0, 0x400, 0x400, 0x0, 0x400, 0x1, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0xffffffff, 0x80001, 0xffffffff, 0x80001, 0x7ff7dfff, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff7dfff, 0x7ff7dfff, 0x0, 0x7ff7dfff, 0x7ff7dfff,
-        0x1000000, 0x7ff7dfff, 0x1, 0x0, 0x4000000, 0x0, 0x7ff7dfff, 0x1,};
+    jj_la1_4 = new int[]{0x0, 0x0, 0xffffffff, 0x100002, 0x0, 0xffefbfff, 0x0, 0x0, 0x0, 0x0,
+        0xffefffff, 0x0, 0x0, 0x200000, 0x0, 0x63, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0xffefffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0xffefffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefbfff,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0xffefffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x2000, 0xffefffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefbfff,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x4000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0xffefffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefffff, 0x0, 0xffefffff, 0x0, 0xffefffff,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefffff, 0x0, 0xffefffff, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0xffefffff, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0x0, 0xffefffff, 0x0,
+        0xffefffff, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x0, 0xffefbfff,
+        0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x0, 0xffefbfff, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefffff, 0xffefbfff, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0xffefbfff, 0xffefbfff, 0x0, 0xffefbfff, 0xffefbfff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x10c01000, 0xffefbfff, 0x0, 0x0, 0x10c01000, 0xffefbfff, 0x0, 0xffefbfff, 0x0,
+        0xffefbfff, 0x0, 0xffefbfff, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0xffefbfff, 0x0, 0x0, 0xffefbfff, 0x0, 0xffefbfff, 0x0, 0x2, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0xffefbfff, 0x0, 0x0, 0xffefbfff, 0x0, 0xffefbfff, 0x0, 0xffefbfff, 0xffefbfff, 0x0,
+        0xffefbfff, 0xffefbfff, 0x0, 0x0, 0xffefbfff, 0x2, 0x0, 0xffefbfff, 0x0, 0x0, 0x0,
+        0xffefbfff, 0x2, 0x0, 0x2, 0xffefbfff, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0x0, 0x0, 0x0,
+        0x0, 0xffefbfff,0xffefbfff, 0x0, 0x0, 0xffefbfff, 0xffefbfff, 0x0, 0x0, 0xffefbfff, 0xffefbfff,0x0,
+        0xffefbfff, 0xffefbfff, 0x2, 0x80, 0x2, 0x0, 0x0, 0xffefbfff, 0x2, 0x0, 0xffefbfff,
+        0xffefbfff, 0x0, 0x0, 0x40000000, 0x40000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0x0,
+        0xffefbfff, 0xffefbfff, 0x2000000, 0xffefbfff, 0xffefbfff, 0x0, 0xffefbfff, 0xffefbfff,
+        0x2000000, 0x0, 0x0, 0x0, 0x0, 0x208063, 0x18, 0x0, 0x18, 0x18, 0x4, 0x0, 0xffefffff,
+        0xffffffff, 0x100002, 0x2, 0x800, 0x0, 0x800, 0x800, 0x0, 0x800, 0x2, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0xffffffff, 0x100002, 0xffffffff, 0x100002, 0xffefbfff, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xffefbfff, 0xffefbfff, 0x0, 0xffefbfff, 0xffefbfff,
+        0x2000000, 0xffefbfff, 0x2, 0x0, 0x8000000, 0x0, 0xffefbfff, 0x2,};
   }
 
   private static void jj_la1_init_5() {
-    jj_la1_5 = new int[]{0x6, 0x10000000, 0x57308805, 0x0, 0x200004, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x57308805, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x57308805, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x40000001, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x10000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x10000800,
-        0x50000800, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x57308805, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x57308805, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000000, 0x0, 0x40000000, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x4000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x10000000, 0x0, 0x10000000,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x57308805, 0x0, 0x0, 0x0, 0x0, 0xc00800, 0x0, 0x0,
-        0x57308805, 0x0, 0x57308805, 0x0, 0x0, 0x40000000, 0x0, 0x3000000, 0x10000000, 0x0,
-        0x3000000, 0x10000000, 0x0, 0x57308805, 0x300004, 0x40308805, 0x0, 0x4000000, 0x0, 0x0, 0x0,
-        0x0, 0x10000800, 0x40000000, 0x4000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x57308805, 0x3000000, 0x0, 0x0, 0x0, 0x0, 0x300004, 0x0, 0x44308805, 0x0, 0x44308805,
-        0x300004, 0x40000000, 0x10000801, 0x0, 0x0, 0x0, 0x40000000, 0x10000801, 0x0, 0x0, 0x0,
-        0x14000801, 0x0, 0x40000000, 0x10000801, 0x0, 0x0, 0x0, 0x40000000, 0x10000801, 0x0, 0x0,
-        0x0, 0x14000801, 0x0, 0x0, 0x800, 0x800, 0x800, 0x0, 0x800, 0x0, 0x0, 0x0, 0x57308805,
-        0x40000000, 0x800, 0x40000000, 0x0, 0x0, 0x0, 0x40000000, 0x300005, 0x0, 0x300005, 0x300005,
-        0x0, 0x0, 0x0, 0x10000000, 0x10000000, 0x10000000, 0x10000000, 0x0, 0x10000000, 0x0, 0x0,
-        0x800, 0x0, 0x3000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x10000000, 0x0, 0x0,
-        0x10000000, 0x0, 0x0, 0x10000000, 0x0, 0x0, 0x0, 0x800, 0x0, 0x14000800, 0x0, 0x0, 0x0,
-        0x40000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3000000,
-        0x800, 0x800, 0x3000000, 0x200004, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4000000, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x800, 0x0, 0x0, 0x1, 0x1, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x3000000, 0x0, 0x0, 0x200004, 0x0, 0x0, 0x40000000, 0x0, 0x0,
-        0x200004, 0x0, 0x0, 0x40000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x10000000,
-        0x0, 0x0, 0x57308805, 0x57308805, 0x0, 0x0, 0x0, 0x3000000, 0x0, 0x0, 0x3000000, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x57308805, 0x0, 0x57308805, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200004, 0x0, 0x0, 0x40000000, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x10000000, 0x0, 0x0,};
+    jj_la1_5 = new int[]{0xc, 0x20000000, 0xae61100b, 0x0, 0x400008, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0xae61100b, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0xae61100b, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x80000003, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x20000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x20001000,
+        0xa0001000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0xae61100b, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xae61100b, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x80000000, 0x0, 0x80000000, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x8000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x20000000, 0x0, 0x20000000,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x8000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xae61100b, 0x0, 0x0, 0x0, 0x0, 0x1801000, 0x0, 0x0,
+        0xae61100b, 0x0, 0xae61100b, 0x1, 0x0, 0x80000000, 0x0, 0x6000000, 0x20000000, 0x0,
+        0x6000000, 0x20000000, 0x0, 0xae61100b, 0x600008, 0x8061100b, 0x0, 0x8000000, 0x0, 0x0, 0x0,
+        0x0, 0x20001000, 0x80000000, 0x8000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0xae61100b, 0x6000000, 0x0, 0x0, 0x0, 0x0, 0x600008, 0x0, 0x8861100b, 0x0, 0x8861100b,
+        0x600008, 0x80000000, 0x20001002, 0x0, 0x0, 0x0, 0x80000000, 0x20001002, 0x0, 0x0, 0x0,
+        0x28001002, 0x0, 0x80000000, 0x20001002, 0x0, 0x0, 0x0, 0x80000000, 0x20001002, 0x0, 0x0,
+        0x0, 0x28001002, 0x0, 0x0, 0x1000, 0x1000, 0x1000, 0x0, 0x1000, 0x0, 0x0, 0x0, 0xae61100b,
+        0x80000000, 0x1000, 0x80000000, 0x0, 0x0, 0x0, 0x80000000, 0x60000a, 0x0, 0x60000a, 0x60000a,
+        0x0, 0x0, 0x0, 0x20000000, 0x20000000, 0x20000000, 0x20000000, 0x0, 0x20000000, 0x0, 0x0,
+        0x1000, 0x0, 0x6000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x20000000, 0x0, 0x0,
+        0x20000000, 0x0, 0x0, 0x20000000, 0x0, 0x0, 0x0, 0x1000, 0x0, 0x28001000, 0x0, 0x0, 0x0,
+        0x80000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x6000000,
+        0x1000, 0x1000, 0x6000000, 0x400008, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x8000000, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x8000002, 0x0, 0x0, 0x0, 0x0, 0x2, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,0x0,0x1000, 0x0, 0x0, 0x2, 0x2, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x6000000, 0x0, 0x0, 0x400008, 0x0, 0x0, 0x80000000, 0x0, 0x0,
+        0x400008, 0x0, 0x0, 0x80000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x20000000,
+        0x0, 0x0, 0xae61100b, 0xae61100b, 0x0, 0x0, 0x0, 0x6000000, 0x0, 0x0, 0x6000000, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xae61100b, 0x0, 0xae61100b, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x400008, 0x0, 0x0, 0x80000000, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x20000000, 0x0, 0x0,};
   }
 
   private static void jj_la1_init_6() {
-    jj_la1_6 = new int[]{0x0, 0x0, 0x1803001, 0x1, 0x0, 0x0, 0x800000, 0x800000, 0x0, 0x1,
-        0x1803000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x1803400, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x2,
-        0x1000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x2, 0x0, 0x2000, 0x2000, 0x0, 0x2, 0x2000, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x2, 0x800000, 0x800000,
+    jj_la1_6 = new int[]{0x0, 0x0, 0x3006002, 0x2, 0x0, 0x0, 0x1000000, 0x1000000, 0x0, 0x2,
+        0x3006000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x3006800, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4,
+        0x2000000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4, 0x0, 0x4000, 0x4000, 0x0, 0x4, 0x4000, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x4, 0x1000000, 0x1000000,
         0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x1803400, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1803400, 0x0, 0x0, 0x0, 0x0, 0x2, 0x2,
-        0x0, 0x0, 0x2, 0x2, 0x0, 0x4, 0x40, 0x4, 0x40, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x2, 0x2, 0x2, 0x2, 0x2, 0x3000, 0x2, 0x3000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x3000, 0x0, 0x2, 0x2, 0x0, 0x400, 0x2000, 0x0, 0x2, 0x400, 0x1000000,
-        0x1803400, 0x2000, 0x0, 0x2, 0x0, 0x3000, 0x0, 0x2, 0x1803000, 0x2, 0x1803000, 0x0,
-        0x1000000, 0x0, 0x4, 0x0, 0x0, 0x40000, 0x0, 0x0, 0xffc00000, 0x1803000, 0x0, 0x1803000,
-        0x2, 0x0, 0x2, 0x3000, 0x2002, 0x2002, 0x800000, 0x0, 0x3000, 0x0, 0x0, 0x2, 0x0, 0x0,
-        0x800004, 0x800004, 0x0, 0x0, 0x0, 0x0, 0x1803000, 0x0, 0xbc3c0, 0xc0, 0x0, 0xbc3c0, 0x0,
-        0x0, 0x1803000, 0x0, 0x1803000, 0x3000, 0x4, 0x800000, 0x0, 0x0, 0x0, 0x4, 0x800000, 0x0,
-        0x0, 0x0, 0x800000, 0x2, 0x4, 0x800000, 0x0, 0x0, 0x0, 0x4, 0x800000, 0x0, 0x0, 0x0,
-        0x800000, 0x2, 0x2, 0x803000, 0x803000, 0x803000, 0x0, 0x803000, 0x0, 0x0, 0x2, 0x1803000,
-        0x1000000, 0x1800000, 0x0, 0x1000000, 0x4, 0x1000000, 0x1000000, 0x0, 0x2, 0x0, 0x0,
-        0xa00104, 0x100, 0x4, 0x0, 0x0, 0x0, 0x0, 0xa00100, 0x0, 0x2, 0x0, 0x800000, 0x0, 0x0, 0x0,
-        0x0, 0xa00000, 0x0, 0xa00000, 0x0, 0xa00000, 0x0, 0xa00000, 0x0, 0x0, 0xa00000, 0x0, 0x0,
-        0xa00000, 0x0, 0x0, 0x0, 0x0, 0x800000, 0x0, 0x800000, 0x0, 0x2, 0x0, 0x0, 0x0, 0x2, 0x0,
-        0x2, 0x0, 0x0, 0x0, 0x0, 0xc00000, 0xc00000, 0x0, 0x2, 0x0, 0x0, 0x800000, 0x800000, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x3000, 0x0, 0x0, 0x0, 0x2, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x2, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x2, 0x0, 0x0, 0x0, 0x2, 0x0, 0x0, 0x0, 0x1000000,
-        0x1000000, 0x0, 0x0, 0x0, 0x0, 0x1000000, 0x800000, 0x0, 0x800000, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x2, 0x0, 0x0, 0x0, 0x0, 0x3000, 0x2, 0x0, 0x0, 0x0, 0x3000, 0x3000, 0x2, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1803000, 0x1803001, 0x1, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1803001, 0x1, 0x1803001,
-        0x1, 0x1000000, 0x4, 0x0, 0x2, 0x0, 0x0, 0x0, 0x2, 0x0, 0x0, 0x2, 0x0, 0x0, 0x0, 0x3000,
-        0x3000, 0x2, 0x0, 0x0, 0x0, 0x3000, 0x0, 0x2, 0x0, 0x0, 0x3000, 0x0,};
+        0x0, 0x3006800, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3006800, 0x0, 0x0, 0x0, 0x0, 0x4, 0x4,
+        0x0, 0x0, 0x4, 0x4, 0x0, 0x8, 0x80, 0x8, 0x80, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x4, 0x4, 0x4, 0x4, 0x4, 0x6000, 0x4, 0x6000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x6000, 0x0, 0x4, 0x4, 0x0, 0x800, 0x4000, 0x0, 0x4, 0x800, 0x2000000,
+        0x3006800, 0x4000, 0x0, 0x4, 0x0, 0x6000, 0x0, 0x4, 0x3006000, 0x4, 0x3006000, 0x0,
+        0x2000000, 0x0, 0x8, 0x0, 0x0, 0x80000, 0x0, 0x0, 0xff800000, 0x3006000, 0x0, 0x3006000,
+        0x4, 0x0, 0x4, 0x6000, 0x4004, 0x4004, 0x1000000, 0x0, 0x6000, 0x0, 0x0, 0x4, 0x0, 0x0,
+        0x1000008, 0x1000008, 0x0, 0x0, 0x0, 0x0, 0x3006000, 0x0, 0x178780, 0x180, 0x0, 0x178780, 0x0,
+        0x0, 0x3006000, 0x0, 0x3006000, 0x6000, 0x8, 0x1000000, 0x0, 0x0, 0x0, 0x8, 0x1000000, 0x0,
+        0x0, 0x0, 0x1000000, 0x4, 0x8,0x1000000, 0x0, 0x0, 0x0, 0x8, 0x1000000, 0x0, 0x0, 0x0,
+        0x1000000, 0x4, 0x4, 0x1006000, 0x1006000, 0x1006000, 0x0, 0x1006000, 0x0, 0x0, 0x4, 0x3006000,
+        0x2000000, 0x3000000, 0x0, 0x2000000, 0x8, 0x2000000, 0x2000000, 0x0, 0x4, 0x0, 0x0,
+        0x1400208, 0x200, 0x8, 0x0, 0x0, 0x0, 0x0, 0x1400200, 0x0, 0x4, 0x0, 0x1000000, 0x0, 0x0, 0x0,
+        0x0, 0x1400000, 0x0, 0x1400000, 0x0, 0x1400000, 0x0, 0x1400000, 0x0, 0x0, 0x1400000, 0x0, 0x0,
+        0x1400000, 0x0, 0x0, 0x0, 0x0, 0x1000000, 0x0, 0x1000000, 0x0, 0x4, 0x0, 0x0, 0x0, 0x4, 0x0,
+        0x4, 0x0, 0x0, 0x0, 0x0, 0x1800000, 0x1800000, 0x0, 0x4, 0x0, 0x0, 0x1000000, 0x1000000, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x6000, 0x0, 0x0, 0x0, 0x4, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x4, 0x0, 0x0, 0x0, 0x0,0x4, 0x0, 0x0, 0x4, 0x0, 0x0, 0x0, 0x4, 0x0, 0x0, 0x0,0x0, 0x2000000,
+        0x2000000, 0x0, 0x0, 0x0, 0x0, 0x2000000, 0x1000000, 0x0, 0x1000000, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x4, 0x0, 0x0, 0x0, 0x0, 0x6000, 0x4, 0x0, 0x0, 0x0, 0x6000, 0x6000, 0x4, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3006000, 0x3006002, 0x2, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3006002, 0x2, 0x3006002,
+        0x2, 0x2000000, 0x8, 0x0, 0x4, 0x0, 0x0, 0x0, 0x4, 0x0, 0x0, 0x4, 0x0, 0x0, 0x0, 0x6000,
+        0x6000, 0x4, 0x0, 0x0, 0x0, 0x6000, 0x0, 0x4, 0x0, 0x0, 0x6000, 0x0,};
   }
 
   private static void jj_la1_init_7() {
-    jj_la1_7 = new int[]{0x0, 0x0, 0xc8010000, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0xc8010000,
+    jj_la1_7 = new int[]{0x0, 0x0, 0x90020000, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x90020000,
         0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x8000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc8010000,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xf, 0x0, 0x0, 0x20000000, 0xc8010000, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x20000000, 0x0, 0x0, 0x0, 0x0,
-        0x20000000, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x6000, 0x0, 0xc8010000, 0x0, 0xc8010000,
-        0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1800, 0xc8010000, 0x0,
-        0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x20000000, 0x0, 0xc8010000, 0x0, 0x0,
-        0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc8018000, 0x0, 0x820000, 0x0, 0x8000,
-        0x838000, 0xc8010000, 0x0, 0xc8010000, 0x0, 0xc8010000, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0,
-        0x0, 0xc8010000, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0,
-        0xc8010000, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0xc8010000, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc8010000, 0xc8010000, 0x0, 0xc8010000,
-        0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x20000000, 0xc8010000, 0x0,
-        0x0, 0x20000000, 0xc8010000, 0x0, 0xc8010000, 0x0, 0xc8010000, 0x0, 0xc8010000, 0x0, 0x0,
-        0xc8010000, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0xc8010000,
-        0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x20000000, 0x0, 0x0, 0xc8010000, 0x0, 0x0,
-        0xc8010000, 0x0, 0xc8010000, 0x0, 0xc8010000, 0xc8010000, 0x0, 0xc8010000, 0xc8010000, 0x0,
-        0x0, 0xc8010000, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0x0, 0xc8010000,
-        0x8000000, 0x0, 0x0, 0x0, 0xc8010000, 0x8000000, 0x0, 0x0, 0xc8010000, 0xc8010000, 0x0, 0x0,
-        0xc8010000, 0xc8010000, 0x0, 0x0, 0xc8010000, 0xc8010000, 0xc8010000, 0xc8010000, 0x0,
-        0x20000000, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0x0, 0xc8010000, 0xc8010000, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0xc8010000, 0xc8010000, 0x0, 0xc8010000,
-        0xc8010000, 0x0, 0xc8010000, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0xc8010000, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0xc8010000, 0x0, 0xc8010000, 0x0, 0xe9f30000, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0xc8010000, 0xc8010000, 0x0, 0xc8010000, 0xc8010000,
-        0x0, 0xc8010000, 0x0, 0x0, 0x0, 0x0, 0xc8010000, 0x0,};
+        0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x10000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x90020000,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1e, 0x0, 0x0, 0x40000000, 0x90020000, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000000, 0x0, 0x0, 0x0, 0x0,
+        0x40000000, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0xc000, 0x0, 0x90020000, 0x0, 0x90020000,
+        0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x3001, 0x90020000, 0x0,
+        0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000000, 0x0, 0x90020000, 0x0, 0x0,
+        0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x90030000, 0x0, 0x1040000, 0x0, 0x10000,
+        0x1070000, 0x90020000, 0x0, 0x90020000, 0x0, 0x90020000, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0,
+        0x0, 0x90020000, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0,
+        0x90020000, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x90020000, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x90020000, 0x90020000, 0x0, 0x90020000,
+        0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000000, 0x90020000, 0x0,
+        0x0, 0x40000000, 0x90020000, 0x0, 0x90020000, 0x0, 0x90020000, 0x0, 0x90020000, 0x0, 0x0,
+        0x90020000, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x90020000,
+        0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x40000000, 0x0, 0x0, 0x90020000, 0x0, 0x0,
+        0x90020000, 0x0, 0x90020000, 0x0, 0x90020000, 0x90020000, 0x0, 0x90020000, 0x90020000, 0x0,
+        0x0, 0x90020000, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x0, 0x90020000,
+        0x10000000, 0x0, 0x0, 0x0, 0x90020000, 0x10000000, 0x0, 0x0, 0x0, 0x90020000,0x90020000, 0x0, 0x0,
+        0x90020000, 0x90020000, 0x0, 0x0, 0x90020000, 0x90020000,0x0, 0x90020000, 0x90020000, 0x0,
+        0x40000000, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x0, 0x90020000, 0x90020000, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x90020000, 0x90020000, 0x0, 0x90020000,
+        0x90020000, 0x0, 0x90020000, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x90020000, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x90020000, 0x0, 0x90020000, 0x0, 0xd3e60000, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x90020000, 0x90020000, 0x0, 0x90020000, 0x90020000,
+        0x0, 0x90020000, 0x0, 0x0, 0x0, 0x0, 0x90020000, 0x0,};
   }
 
   private static void jj_la1_init_8() {
-    jj_la1_8 = new int[]{0x0, 0x0, 0x200, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x200, 0x200, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x200, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x30,
+    jj_la1_8 = new int[]{0x0, 0x0, 0x401, 0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x401, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x401, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0,
         0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x30, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200, 0x0, 0x200, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200,
-        0x30, 0x40, 0x0, 0x30, 0x0, 0x0, 0x400, 0x0, 0x0, 0xe, 0xf, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0, 0x0, 0x200, 0x0, 0x0,
-        0x0, 0x200, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x30, 0x0, 0x30, 0x0, 0x30, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x400, 0x400, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x401, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x401, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x61,
         0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x200, 0x30, 0x0, 0x30, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x800, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x400, 0x400, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x200, 0x200, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x7f000, 0x7f000, 0x180000, 0x180000, 0x600000, 0x600000, 0x200,
-        0x0, 0x200, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
-        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,};
-  }
-  final private JJCalls[] jj_2_rtns = new JJCalls[163];
+        0x60, 0x0, 0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x401, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x401, 0x0, 0x401, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x401, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x400,
+        0x60, 0x80, 0x1, 0x60, 0x0, 0x1, 0x800, 0x0, 0x0, 0x1c, 0x1e, 0x0, 0x0, 0x401, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x1, 0x0, 0x1, 0x0, 0x1, 0x0, 0x0, 0x401, 0x0, 0x0, 0x0, 0x0, 0x401, 0x0, 0x0,
+        0x0, 0x401, 0x0, 0x0, 0x401, 0x0, 0x0, 0x0, 0x0, 0x401, 0x0, 0x0, 0x0, 0x401, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x401, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1, 0x1, 0x0, 0x1,
+        0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x60, 0x1, 0x60, 0x0, 0x60, 0x1, 0x0,
+        0x1, 0x0, 0x1, 0x0, 0x1, 0x0, 0x0, 0x1, 0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0,
+        0x400, 0x61, 0x0, 0x61, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x0, 0x1, 0x0,
+        0x1, 0x0, 0x1, 0x1, 0x0, 0x1001, 0x1, 0x0, 0x0, 0x1, 0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x1, 0x0,
+        0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x1, 0x1, 0x0, 0x0, 0x1, 0x1,
+        0x0, 0x0, 0x1, 0x1,0x0, 0x801, 0x801, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x0, 0x1, 0x1, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0, 0x1, 0x1, 0x0, 0x1, 0x1, 0x0, 0x1,0x1, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x401, 0x401, 0x0, 0x0, 0x0, 0x0,
+        0x0, 0x0, 0x0, 0x0, 0x0, 0xfe000, 0xfe000, 0x300000, 0x300000, 0xc00000, 0xc00000, 0x401,
+        0x0, 0x401, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x1,
+        0x1, 0x0, 0x1, 0x1, 0x0, 0x1, 0x0, 0x0, 0x0, 0x0, 0x1, 0x0,};
+  }
+  final private JJCalls[] jj_2_rtns = new JJCalls[164];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -37809,7 +38007,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 442; i++) {
+    for (int i = 0; i < 444; i++) {
       jj_la1[i] = -1;
     }
     for (int i = 0; i < jj_2_rtns.length; i++) {
@@ -37824,7 +38022,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 442; i++) {
+    for (int i = 0; i < 444; i++) {
       jj_la1[i] = -1;
     }
     for (int i = 0; i < jj_2_rtns.length; i++) {
@@ -37838,7 +38036,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 442; i++) {
+    for (int i = 0; i < 444; i++) {
       jj_la1[i] = -1;
     }
     for (int i = 0; i < jj_2_rtns.length; i++) {
@@ -37853,7 +38051,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 442; i++) {
+    for (int i = 0; i < 444; i++) {
       jj_la1[i] = -1;
     }
     for (int i = 0; i < jj_2_rtns.length; i++) {
@@ -37993,12 +38191,12 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[279];
+    boolean[] la1tokens = new boolean[280];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 442; i++) {
+    for (int i = 0; i < 444; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1 << j)) != 0) {
@@ -38031,7 +38229,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
         }
       }
     }
-    for (int i = 0; i < 279; i++) {
+    for (int i = 0; i < 280; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -38058,7 +38256,7 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 163; i++) {
+    for (int i = 0; i < 164; i++) {
       try {
         JJCalls p = jj_2_rtns[i];
         do {
@@ -38553,7 +38751,8 @@ public class YouTrackDBSql/*@bgen(jjtree)*/ implements YouTrackDBSqlTreeConstant
                 jj_3_162();
                 break;
               case 162:
-                jj_3_163();
+                jj_3_163(); break;
+              case 163: jj_3_164();
                 break;
             }
           }
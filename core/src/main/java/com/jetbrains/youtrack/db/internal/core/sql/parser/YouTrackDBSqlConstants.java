@@ -209,321 +209,324 @@ public interface YouTrackDBSqlConstants {
   /** RegularExpression Id. */
   int ENGINE = 106;
   /** RegularExpression Id. */
-  int REBUILD = 107;
+  int INCLUDE = 107;
   /** RegularExpression Id. */
-  int ID = 108;
+  int REBUILD = 108;
   /** RegularExpression Id. */
-  int DATABASE = 109;
+  int ID = 109;
   /** RegularExpression Id. */
-  int OPTIMIZE = 110;
+  int DATABASE = 110;
   /** RegularExpression Id. */
-  int LINK = 111;
+  int OPTIMIZE = 111;
   /** RegularExpression Id. */
-  int TYPE = 112;
+  int LINK = 112;
   /** RegularExpression Id. */
-  int INVERSE = 113;
+  int TYPE = 113;
   /** RegularExpression Id. */
-  int EXPLAIN = 114;
+  int INVERSE = 114;
   /** RegularExpression Id. */
-  int GRANT = 115;
+  int EXPLAIN = 115;
   /** RegularExpression Id. */
-  int REVOKE = 116;
+  int GRANT = 116;
   /** RegularExpression Id. */
-  int READ = 117;
+  int REVOKE = 117;
   /** RegularExpression Id. */
-  int EXECUTE = 118;
+  int READ = 118;
   /** RegularExpression Id. */
-  int ALL = 119;
+  int EXECUTE = 119;
   /** RegularExpression Id. */
-  int NONE = 120;
+  int ALL = 120;
   /** RegularExpression Id. */
-  int FUNCTION = 121;
+  int NONE = 121;
   /** RegularExpression Id. */
-  int PARAMETERS = 122;
+  int FUNCTION = 122;
   /** RegularExpression Id. */
-  int IDEMPOTENT = 123;
+  int PARAMETERS = 123;
   /** RegularExpression Id. */
-  int LANGUAGE = 124;
+  int IDEMPOTENT = 124;
   /** RegularExpression Id. */
-  int BEGIN = 125;
+  int LANGUAGE = 125;
   /** RegularExpression Id. */
-  int COMMIT = 126;
+  int BEGIN = 126;
   /** RegularExpression Id. */
-  int ROLLBACK = 127;
+  int COMMIT = 127;
   /** RegularExpression Id. */
-  int IF = 128;
+  int ROLLBACK = 128;
   /** RegularExpression Id. */
-  int ELSE = 129;
+  int IF = 129;
   /** RegularExpression Id. */
-  int CONTINUE = 130;
+  int ELSE = 130;
   /** RegularExpression Id. */
-  int FAIL = 131;
+  int CONTINUE = 131;
   /** RegularExpression Id. */
-  int SLEEP = 132;
+  int FAIL = 132;
   /** RegularExpression Id. */
-  int CONSOLE = 133;
+  int SLEEP = 133;
   /** RegularExpression Id. */
-  int BLOB = 134;
+  int CONSOLE = 134;
   /** RegularExpression Id. */
-  int SHARED = 135;
+  int BLOB = 135;
   /** RegularExpression Id. */
-  int DEFAULT_ = 136;
+  int SHARED = 136;
   /** RegularExpression Id. */
-  int SEQUENCE = 137;
+  int DEFAULT_ = 137;
   /** RegularExpression Id. */
-  int START = 138;
+  int SEQUENCE = 138;
   /** RegularExpression Id. */
-  int OPTIONAL = 139;
+  int START = 139;
   /** RegularExpression Id. */
-  int COUNT = 140;
+  int OPTIONAL = 140;
   /** RegularExpression Id. */
-  int DISTINCT = 141;
+  int COUNT = 141;
   /** RegularExpression Id. */
-  int HA = 142;
+  int DISTINCT = 142;
   /** RegularExpression Id. */
-  int STATUS = 143;
+  int HA = 143;
   /** RegularExpression Id. */
-  int SERVER = 144;
+  int STATUS = 144;
   /** RegularExpression Id. */
-  int SYNC = 145;
+  int SERVER = 145;
   /** RegularExpression Id. */
-  int EXISTS = 146;
+  int SYNC = 146;
   /** RegularExpression Id. */
-  int FOREACH = 147;
+  int EXISTS = 147;
   /** RegularExpression Id. */
-  int MOVE = 148;
+  int FOREACH = 148;
   /** RegularExpression Id. */
-  int DEPTH_ALIAS = 149;
+  int MOVE = 149;
   /** RegularExpression Id. */
-  int PATH_ALIAS = 150;
+  int DEPTH_ALIAS = 150;
   /** RegularExpression Id. */
-  int IDENTIFIED = 151;
+  int PATH_ALIAS = 151;
   /** RegularExpression Id. */
-  int ROLE = 152;
+  int IDENTIFIED = 152;
   /** RegularExpression Id. */
-  int USER = 153;
+  int ROLE = 153;
   /** RegularExpression Id. */
-  int USERS = 154;
+  int USER = 154;
   /** RegularExpression Id. */
-  int RID = 155;
+  int USERS = 155;
   /** RegularExpression Id. */
-  int SECURITY = 156;
+  int RID = 156;
   /** RegularExpression Id. */
-  int POLICY = 157;
+  int SECURITY = 157;
   /** RegularExpression Id. */
-  int SYSTEM = 158;
+  int POLICY = 158;
   /** RegularExpression Id. */
-  int THIS = 159;
+  int SYSTEM = 159;
   /** RegularExpression Id. */
-  int RECORD_ATTRIBUTE = 160;
+  int THIS = 160;
   /** RegularExpression Id. */
-  int RID_ATTR = 161;
+  int RECORD_ATTRIBUTE = 161;
   /** RegularExpression Id. */
-  int RID_STRING = 162;
+  int RID_ATTR = 162;
   /** RegularExpression Id. */
-  int CLASS_ATTR = 163;
+  int RID_STRING = 163;
   /** RegularExpression Id. */
-  int VERSION_ATTR = 164;
+  int CLASS_ATTR = 164;
   /** RegularExpression Id. */
-  int SIZE_ATTR = 165;
+  int VERSION_ATTR = 165;
   /** RegularExpression Id. */
-  int TYPE_ATTR = 166;
+  int SIZE_ATTR = 166;
   /** RegularExpression Id. */
-  int RAW_ATTR = 167;
+  int TYPE_ATTR = 167;
   /** RegularExpression Id. */
-  int RID_ID_ATTR = 168;
+  int RAW_ATTR = 168;
   /** RegularExpression Id. */
-  int RID_POS_ATTR = 169;
+  int RID_ID_ATTR = 169;
   /** RegularExpression Id. */
-  int FIELDS_ATTR = 170;
+  int RID_POS_ATTR = 170;
   /** RegularExpression Id. */
-  int INTEGER_LITERAL = 171;
+  int FIELDS_ATTR = 171;
   /** RegularExpression Id. */
-  int DECIMAL_LITERAL = 172;
+  int INTEGER_LITERAL = 172;
   /** RegularExpression Id. */
-  int HEX_LITERAL = 173;
+  int DECIMAL_LITERAL = 173;
   /** RegularExpression Id. */
-  int OCTAL_LITERAL = 174;
+  int HEX_LITERAL = 174;
   /** RegularExpression Id. */
-  int FLOATING_POINT_LITERAL = 175;
+  int OCTAL_LITERAL = 175;
   /** RegularExpression Id. */
-  int DECIMAL_FLOATING_POINT_LITERAL = 176;
+  int FLOATING_POINT_LITERAL = 176;
   /** RegularExpression Id. */
-  int DECIMAL_EXPONENT = 177;
+  int DECIMAL_FLOATING_POINT_LITERAL = 177;
   /** RegularExpression Id. */
-  int HEXADECIMAL_FLOATING_POINT_LITERAL = 178;
+  int DECIMAL_EXPONENT = 178;
   /** RegularExpression Id. */
-  int HEXADECIMAL_EXPONENT = 179;
+  int HEXADECIMAL_FLOATING_POINT_LITERAL = 179;
   /** RegularExpression Id. */
-  int CHARACTER_LITERAL = 180;
+  int HEXADECIMAL_EXPONENT = 180;
   /** RegularExpression Id. */
-  int STRING_LITERAL = 181;
+  int CHARACTER_LITERAL = 181;
   /** RegularExpression Id. */
-  int INTEGER_RANGE = 182;
+  int STRING_LITERAL = 182;
   /** RegularExpression Id. */
-  int ELLIPSIS_INTEGER_RANGE = 183;
+  int INTEGER_RANGE = 183;
   /** RegularExpression Id. */
-  int TRUE = 184;
+  int ELLIPSIS_INTEGER_RANGE = 184;
   /** RegularExpression Id. */
-  int FALSE = 185;
+  int TRUE = 185;
   /** RegularExpression Id. */
-  int LPAREN = 186;
+  int FALSE = 186;
   /** RegularExpression Id. */
-  int RPAREN = 187;
+  int LPAREN = 187;
   /** RegularExpression Id. */
-  int LBRACE = 188;
+  int RPAREN = 188;
   /** RegularExpression Id. */
-  int RBRACE = 189;
+  int LBRACE = 189;
   /** RegularExpression Id. */
-  int LBRACKET = 190;
+  int RBRACE = 190;
   /** RegularExpression Id. */
-  int RBRACKET = 191;
+  int LBRACKET = 191;
   /** RegularExpression Id. */
-  int SEMICOLON = 192;
+  int RBRACKET = 192;
   /** RegularExpression Id. */
-  int COMMA = 193;
+  int SEMICOLON = 193;
   /** RegularExpression Id. */
-  int DOT = 194;
+  int COMMA = 194;
   /** RegularExpression Id. */
-  int AT = 195;
+  int DOT = 195;
   /** RegularExpression Id. */
-  int DOLLAR = 196;
+  int AT = 196;
   /** RegularExpression Id. */
-  int BACKTICK = 197;
+  int DOLLAR = 197;
   /** RegularExpression Id. */
-  int EQ = 198;
+  int BACKTICK = 198;
   /** RegularExpression Id. */
-  int EQEQ = 199;
+  int EQ = 199;
   /** RegularExpression Id. */
-  int LT = 200;
+  int EQEQ = 200;
   /** RegularExpression Id. */
-  int GT = 201;
+  int LT = 201;
   /** RegularExpression Id. */
-  int BANG = 202;
+  int GT = 202;
   /** RegularExpression Id. */
-  int TILDE = 203;
+  int BANG = 203;
   /** RegularExpression Id. */
-  int HOOK = 204;
+  int TILDE = 204;
   /** RegularExpression Id. */
-  int COLON = 205;
+  int HOOK = 205;
   /** RegularExpression Id. */
-  int LE = 206;
+  int COLON = 206;
   /** RegularExpression Id. */
-  int GE = 207;
+  int LE = 207;
   /** RegularExpression Id. */
-  int NE = 208;
+  int GE = 208;
   /** RegularExpression Id. */
-  int NEQ = 209;
+  int NE = 209;
   /** RegularExpression Id. */
-  int SC_OR = 210;
+  int NEQ = 210;
   /** RegularExpression Id. */
-  int SC_AND = 211;
+  int SC_OR = 211;
   /** RegularExpression Id. */
-  int INCR = 212;
+  int SC_AND = 212;
   /** RegularExpression Id. */
-  int DECR = 213;
+  int INCR = 213;
   /** RegularExpression Id. */
-  int PLUS = 214;
+  int DECR = 214;
   /** RegularExpression Id. */
-  int MINUS = 215;
+  int PLUS = 215;
   /** RegularExpression Id. */
-  int STAR = 216;
+  int MINUS = 216;
   /** RegularExpression Id. */
-  int SLASH = 217;
+  int STAR = 217;
   /** RegularExpression Id. */
-  int BIT_AND = 218;
+  int SLASH = 218;
   /** RegularExpression Id. */
-  int NULL_COALESCING = 219;
+  int BIT_AND = 219;
   /** RegularExpression Id. */
-  int BIT_OR = 220;
+  int NULL_COALESCING = 220;
   /** RegularExpression Id. */
-  int XOR = 221;
+  int BIT_OR = 221;
   /** RegularExpression Id. */
-  int REM = 222;
+  int XOR = 222;
   /** RegularExpression Id. */
-  int LSHIFT = 223;
+  int REM = 223;
   /** RegularExpression Id. */
-  int PLUSASSIGN = 224;
+  int LSHIFT = 224;
   /** RegularExpression Id. */
-  int MINUSASSIGN = 225;
+  int PLUSASSIGN = 225;
   /** RegularExpression Id. */
-  int STARASSIGN = 226;
+  int MINUSASSIGN = 226;
   /** RegularExpression Id. */
-  int SLASHASSIGN = 227;
+  int STARASSIGN = 227;
   /** RegularExpression Id. */
-  int ANDASSIGN = 228;
+  int SLASHASSIGN = 228;
   /** RegularExpression Id. */
-  int ORASSIGN = 229;
+  int ANDASSIGN = 229;
   /** RegularExpression Id. */
-  int XORASSIGN = 230;
+  int ORASSIGN = 230;
   /** RegularExpression Id. */
-  int REMASSIGN = 231;
+  int XORASSIGN = 231;
   /** RegularExpression Id. */
-  int LSHIFTASSIGN = 232;
+  int REMASSIGN = 232;
   /** RegularExpression Id. */
-  int RSIGNEDSHIFTASSIGN = 233;
+  int LSHIFTASSIGN = 233;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFTASSIGN = 234;
+  int RSIGNEDSHIFTASSIGN = 234;
   /** RegularExpression Id. */
-  int RSHIFT = 235;
+  int RUNSIGNEDSHIFTASSIGN = 235;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFT = 236;
+  int RSHIFT = 236;
   /** RegularExpression Id. */
-  int ELLIPSIS = 237;
+  int RUNSIGNEDSHIFT = 237;
   /** RegularExpression Id. */
-  int RANGE = 238;
+  int ELLIPSIS = 238;
   /** RegularExpression Id. */
-  int NOT = 239;
+  int RANGE = 239;
   /** RegularExpression Id. */
-  int IN = 240;
+  int NOT = 240;
   /** RegularExpression Id. */
-  int LIKE = 241;
+  int IN = 241;
   /** RegularExpression Id. */
-  int IS = 242;
+  int LIKE = 242;
   /** RegularExpression Id. */
-  int BETWEEN = 243;
+  int IS = 243;
   /** RegularExpression Id. */
-  int CONTAINS = 244;
+  int BETWEEN = 244;
   /** RegularExpression Id. */
-  int CONTAINSALL = 245;
+  int CONTAINS = 245;
   /** RegularExpression Id. */
-  int CONTAINSANY = 246;
+  int CONTAINSALL = 246;
   /** RegularExpression Id. */
-  int CONTAINSKEY = 247;
+  int CONTAINSANY = 247;
   /** RegularExpression Id. */
-  int CONTAINSVALUE = 248;
+  int CONTAINSKEY = 248;
   /** RegularExpression Id. */
-  int CONTAINSTEXT = 249;
+  int CONTAINSVALUE = 249;
   /** RegularExpression Id. */
-  int MATCHES = 250;
+  int CONTAINSTEXT = 250;
   /** RegularExpression Id. */
-  int KEY = 251;
+  int MATCHES = 251;
   /** RegularExpression Id. */
-  int INSTANCEOF = 252;
+  int KEY = 252;
   /** RegularExpression Id. */
-  int CLUSTER = 253;
+  int INSTANCEOF = 253;
   /** RegularExpression Id. */
-  int IDENTIFIER = 254;
+  int CLUSTER = 254;
   /** RegularExpression Id. */
-  int QUOTED_IDENTIFIER = 255;
+  int IDENTIFIER = 255;
   /** RegularExpression Id. */
-  int INDEX_COLON = 256;
+  int QUOTED_IDENTIFIER = 256;
   /** RegularExpression Id. */
-  int INDEXVALUES_IDENTIFIER = 257;
+  int INDEX_COLON = 257;
   /** RegularExpression Id. */
-  int INDEXVALUESASC_IDENTIFIER = 258;
+  int INDEXVALUES_IDENTIFIER = 258;
   /** RegularExpression Id. */
-  int INDEXVALUESDESC_IDENTIFIER = 259;
+  int INDEXVALUESASC_IDENTIFIER = 259;
   /** RegularExpression Id. */
-  int CLUSTER_IDENTIFIER = 260;
+  int INDEXVALUESDESC_IDENTIFIER = 260;
   /** RegularExpression Id. */
-  int CLUSTER_NUMBER_IDENTIFIER = 261;
+  int CLUSTER_IDENTIFIER = 261;
   /** RegularExpression Id. */
-  int METADATA_IDENTIFIER = 262;
+  int CLUSTER_NUMBER_IDENTIFIER = 262;
   /** RegularExpression Id. */
-  int LETTER = 263;
+  int METADATA_IDENTIFIER = 263;
   /** RegularExpression Id. */
-  int PART_LETTER = 264;
+  int LETTER = 264;
+
+  /** Lexical state. */
+  int PART_LETTER = 265;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -641,6 +644,7 @@ public interface YouTrackDBSqlConstants {
       "<INDEX>",
       "<COLLATE>",
       "<ENGINE>",
+      "<INCLUDE>",
       "<REBUILD>",
       "<ID>",
       "<DATABASE>",
@@ -22,218 +22,218 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
       long active3, long active4) {
     switch (pos) {
       case 0:
-        if ((active4 & 0x800L) != 0L) {
-          jjmatchedKind = 254;
-          return 890;
+        if ((active4 & 0x1000L) != 0L) {
+          jjmatchedKind = 255;
+          return 896;
         }
-        if ((active0 & 0x80L) != 0L || (active3 & 0x802000000L) != 0L)
+        if ((active0 & 0x80L) != 0L || (active3 & 0x1004000000L) != 0L)
           return 2;
-        if ((active4 & 0x400L) != 0L) {
-          jjmatchedKind = 254;
+        if ((active4 & 0x800L) != 0L) {
+          jjmatchedKind = 255;
           return 31;
         }
-        if ((active3 & 0x20L) != 0L)
+        if ((active3 & 0x40L) != 0L)
           return 37;
-        if ((active3 & 0x10L) != 0L)
+        if ((active3 & 0x20L) != 0L)
           return 31;
-        if ((active3 & 0x200a00000L) != 0L || (active4 & 0x7ff000L) != 0L)
-          return 1183;
-        if ((active3 & 0x8L) != 0L)
-          return 1089;
-        if ((active3 & 0x600000000004L) != 0L)
+        if ((active3 & 0x10L) != 0L)
+          return 1095;
+        if ((active3 & 0x401400000L) != 0L || (active4 & 0xffe000L) != 0L)
+          return 1189;
+        if ((active3 & 0xc00000000008L) != 0L)
           return 13;
          return -1;
       case 1:
-        if ((active4 & 0x800L) != 0L) {
+        if ((active0 & 0x80L) != 0L)
+          return 0;
+        if ((active4 & 0x1000L) != 0L) {
           if (jjmatchedPos != 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
-          return 946;
+          return 952;
         }
-        if ((active0 & 0x80L) != 0L)
-          return 0;
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos != 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return 31;
         }
          return -1;
       case 2:
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
-        if ((active4 & 0x800L) != 0L) {
+        if ((active4 & 0x1000L) != 0L) {
           if (jjmatchedPos != 2) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 2;
           }
           return 31;
         }
          return -1;
       case 3:
-        if ((active4 & 0x800L) != 0L) {
-          jjmatchedKind = 254;
+        if ((active4 & 0x1000L) != 0L) {
+          jjmatchedKind = 255;
           jjmatchedPos = 3;
           return 31;
         }
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 4:
-        if ((active4 & 0x400L) != 0L) {
-          if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
-            jjmatchedPos = 1;
-          }
-          return -1;
-        }
-        if ((active4 & 0x800L) != 0L) {
+        if ((active4 & 0x1000L) != 0L) {
           if (jjmatchedPos != 4) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 4;
           }
           return 31;
+        }
+        if ((active4 & 0x800L) != 0L) {
+          if (jjmatchedPos < 1) {
+            jjmatchedKind = 255;
+            jjmatchedPos = 1;
+          }
+          return -1;
         }
          return -1;
       case 5:
-        if ((active4 & 0x800L) != 0L) {
+        if ((active4 & 0x1000L) != 0L) {
           if (jjmatchedPos < 4) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 4;
           }
           return -1;
         }
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 6:
-        if ((active4 & 0x800L) != 0L) {
+        if ((active4 & 0x1000L) != 0L) {
           if (jjmatchedPos < 4) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 4;
           }
           return -1;
         }
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 7:
-        if ((active4 & 0x800L) != 0L) {
+        if ((active4 & 0x1000L) != 0L) {
           if (jjmatchedPos < 4) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 4;
           }
           return -1;
         }
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 8:
-        if ((active4 & 0x800L) != 0L) {
+        if ((active4 & 0x1000L) != 0L) {
           if (jjmatchedPos < 4) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 4;
           }
           return -1;
         }
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 9:
-        if ((active4 & 0x800L) != 0L) {
+        if ((active4 & 0x1000L) != 0L) {
           if (jjmatchedPos < 4) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 4;
           }
           return -1;
         }
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 10:
-        if ((active4 & 0x800L) != 0L) {
+        if ((active4 & 0x1000L) != 0L) {
           if (jjmatchedPos < 4) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 4;
           }
           return -1;
         }
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 11:
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 12:
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 13:
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
         }
          return -1;
       case 14:
-        if ((active4 & 0x400L) != 0L) {
+        if ((active4 & 0x800L) != 0L) {
           if (jjmatchedPos < 1) {
-            jjmatchedKind = 254;
+            jjmatchedKind = 255;
             jjmatchedPos = 1;
           }
           return -1;
@@ -259,79 +259,79 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
   private int jjMoveStringLiteralDfa0_0() {
     switch(curChar) {
       case 33:
-        jjmatchedKind = 202;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x10000L, 0x0L);
+        jjmatchedKind = 203;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x20000L, 0x0L);
       case 35:
-        return jjStopAtPos(0, 265);
+        return jjStopAtPos(0, 266);
       case 36:
-        return jjStartNfaWithStates_0(0, 196, 31);
+        return jjStartNfaWithStates_0(0, 197, 31);
       case 37:
-        jjmatchedKind = 222;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x8000000000L, 0x0L);
+        jjmatchedKind = 223;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x10000000000L, 0x0L);
       case 38:
-        jjmatchedKind = 218;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x1000080000L, 0x0L);
+        jjmatchedKind = 219;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x2000100000L, 0x0L);
       case 40:
-        return jjStopAtPos(0, 186);
-      case 41:
         return jjStopAtPos(0, 187);
+      case 41:
+        return jjStopAtPos(0, 188);
       case 42:
-        jjmatchedKind = 216;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x400000000L, 0x0L);
+        jjmatchedKind = 217;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x800000000L, 0x0L);
       case 43:
-        jjmatchedKind = 214;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x100100000L, 0x0L);
+        jjmatchedKind = 215;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x200200000L, 0x0L);
       case 44:
-        return jjStopAtPos(0, 193);
+        return jjStopAtPos(0, 194);
       case 45:
-        jjmatchedKind = 215;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x200200000L, 0x7ff000L);
+        jjmatchedKind = 216;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x400400000L, 0xffe000L);
       case 46:
-        jjmatchedKind = 194;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x600000000000L, 0x0L);
+        jjmatchedKind = 195;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0xc00000000000L, 0x0L);
       case 47:
-        jjmatchedKind = 217;
-        return jjMoveStringLiteralDfa1_0(0x80L, 0x800000000L, 0x0L);
+        jjmatchedKind = 218;
+        return jjMoveStringLiteralDfa1_0(0x80L, 0x1000000000L, 0x0L);
       case 58:
-        return jjStopAtPos(0, 205);
+        return jjStopAtPos(0, 206);
       case 59:
-        return jjStopAtPos(0, 192);
+        return jjStopAtPos(0, 193);
       case 60:
-        jjmatchedKind = 200;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x10080024000L, 0x0L);
+        jjmatchedKind = 201;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x20100048000L, 0x0L);
       case 61:
-        jjmatchedKind = 198;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x80L, 0x0L);
+        jjmatchedKind = 199;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x100L, 0x0L);
       case 62:
-        jjmatchedKind = 201;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x1e0000008000L, 0x0L);
+        jjmatchedKind = 202;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x3c0000010000L, 0x0L);
       case 63:
-        jjmatchedKind = 204;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x8000000L, 0x0L);
+        jjmatchedKind = 205;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x10000000L, 0x0L);
       case 64:
-        return jjStartNfaWithStates_0(0, 195, 1089);
+        return jjStartNfaWithStates_0(0, 196, 1095);
       case 91:
-        return jjStopAtPos(0, 190);
-      case 93:
         return jjStopAtPos(0, 191);
+      case 93:
+        return jjStopAtPos(0, 192);
       case 94:
-        jjmatchedKind = 221;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x4000000000L, 0x0L);
+        jjmatchedKind = 222;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x8000000000L, 0x0L);
       case 95:
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x400L);
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x800L);
       case 96:
-        return jjStartNfaWithStates_0(0, 197, 37);
+        return jjStartNfaWithStates_0(0, 198, 37);
       case 114:
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x800L);
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x1000L);
       case 123:
-        return jjStopAtPos(0, 188);
+        return jjStopAtPos(0, 189);
       case 124:
-        jjmatchedKind = 220;
-        return jjMoveStringLiteralDfa1_0(0x0L, 0x2000040000L, 0x0L);
+        jjmatchedKind = 221;
+        return jjMoveStringLiteralDfa1_0(0x0L, 0x4000080000L, 0x0L);
       case 125:
-        return jjStopAtPos(0, 189);
+        return jjStopAtPos(0, 190);
       case 126:
-        return jjStopAtPos(0, 203);
+        return jjStopAtPos(0, 204);
       default:
         return jjMoveNfa_0(3, 0);
     }
@@ -346,44 +346,42 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 38:
-        if ((active3 & 0x80000L) != 0L)
-          return jjStopAtPos(1, 211);
+        if ((active3 & 0x100000L) != 0L)
+          return jjStopAtPos(1, 212);
          break;
       case 42:
         if ((active0 & 0x80L) != 0L)
           return jjStartNfaWithStates_0(1, 7, 0);
          break;
       case 43:
-        if ((active3 & 0x100000L) != 0L)
-          return jjStopAtPos(1, 212);
-         break;
-      case 45:
         if ((active3 & 0x200000L) != 0L)
           return jjStopAtPos(1, 213);
          break;
+      case 45:
+        if ((active3 & 0x400000L) != 0L)
+          return jjStopAtPos(1, 214);
+         break;
       case 46:
-        if ((active3 & 0x400000000000L) != 0L) {
-          jjmatchedKind = 238;
+        if ((active3 & 0x800000000000L) != 0L) {
+          jjmatchedKind = 239;
           jjmatchedPos = 1;
         }
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x200000000000L, active4, 0L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x400000000000L, active4, 0L);
       case 60:
-        if ((active3 & 0x80000000L) != 0L) {
-          jjmatchedKind = 223;
+        if ((active3 & 0x100000000L) != 0L) {
+          jjmatchedKind = 224;
           jjmatchedPos = 1;
         }
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x10000000000L, active4, 0L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x20000000000L, active4, 0L);
       case 61:
-        if ((active3 & 0x80L) != 0L)
-          return jjStopAtPos(1, 199);
-        else if ((active3 & 0x4000L) != 0L)
-          return jjStopAtPos(1, 206);
+        if ((active3 & 0x100L) != 0L)
+          return jjStopAtPos(1, 200);
         else if ((active3 & 0x8000L) != 0L)
           return jjStopAtPos(1, 207);
         else if ((active3 & 0x10000L) != 0L)
           return jjStopAtPos(1, 208);
-        else if ((active3 & 0x100000000L) != 0L)
-          return jjStopAtPos(1, 224);
+        else if ((active3 & 0x20000L) != 0L)
+          return jjStopAtPos(1, 209);
         else if ((active3 & 0x200000000L) != 0L)
           return jjStopAtPos(1, 225);
         else if ((active3 & 0x400000000L) != 0L)
@@ -398,38 +396,40 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
           return jjStopAtPos(1, 230);
         else if ((active3 & 0x8000000000L) != 0L)
           return jjStopAtPos(1, 231);
+        else if ((active3 & 0x10000000000L) != 0L)
+          return jjStopAtPos(1, 232);
          break;
       case 62:
-        if ((active3 & 0x20000L) != 0L)
-          return jjStopAtPos(1, 209);
-        else if ((active3 & 0x80000000000L) != 0L) {
-          jjmatchedKind = 235;
+        if ((active3 & 0x40000L) != 0L)
+          return jjStopAtPos(1, 210);
+        else if ((active3 & 0x100000000000L) != 0L) {
+          jjmatchedKind = 236;
           jjmatchedPos = 1;
         }
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x160000000000L, active4, 0L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x2c0000000000L, active4, 0L);
       case 63:
-        if ((active3 & 0x8000000L) != 0L)
-          return jjStopAtPos(1, 219);
+        if ((active3 & 0x10000000L) != 0L)
+          return jjStopAtPos(1, 220);
          break;
       case 95:
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x400L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x800L);
       case 97:
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x20000L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x40000L);
       case 100:
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x2000L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x4000L);
       case 102:
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x380000L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x700000L);
       case 108:
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x14000L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x28000L);
       case 109:
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x408000L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x810000L);
       case 111:
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x40800L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x81000L);
       case 115:
-        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x1000L);
+        return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x2000L);
       case 124:
-        if ((active3 & 0x40000L) != 0L)
-          return jjStopAtPos(1, 210);
+        if ((active3 & 0x80000L) != 0L)
+          return jjStopAtPos(1, 211);
         break;
       default:
         break;
@@ -449,37 +449,37 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 46:
-        if ((active3 & 0x200000000000L) != 0L)
-          return jjStopAtPos(2, 237);
+        if ((active3 & 0x400000000000L) != 0L)
+          return jjStopAtPos(2, 238);
          break;
       case 61:
-        if ((active3 & 0x10000000000L) != 0L)
-          return jjStopAtPos(2, 232);
-        else if ((active3 & 0x20000000000L) != 0L)
+        if ((active3 & 0x20000000000L) != 0L)
           return jjStopAtPos(2, 233);
+        else if ((active3 & 0x40000000000L) != 0L)
+          return jjStopAtPos(2, 234);
          break;
       case 62:
-        if ((active3 & 0x100000000000L) != 0L) {
-          jjmatchedKind = 236;
+        if ((active3 & 0x200000000000L) != 0L) {
+          jjmatchedKind = 237;
           jjmatchedPos = 2;
         }
-        return jjMoveStringLiteralDfa3_0(active3, 0x40000000000L, active4, 0L);
+        return jjMoveStringLiteralDfa3_0(active3, 0x80000000000L, active4, 0L);
       case 64:
-        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x400L);
+        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x800L);
       case 97:
-        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x4000L);
+        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x8000L);
       case 98:
-        if ((active4 & 0x2000L) != 0L)
-          return jjStopAtPos(2, 269);
+        if ((active4 & 0x4000L) != 0L)
+          return jjStopAtPos(2, 270);
          break;
       case 101:
-        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x409000L);
+        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x812000L);
       case 108:
-        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x20000L);
+        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x40000L);
       case 111:
-        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x90000L);
+        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x120000L);
       case 117:
-        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x340800L);
+        return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x681000L);
       default:
         break;
     }
@@ -497,23 +497,23 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 61:
-        if ((active3 & 0x40000000000L) != 0L)
-          return jjStopAtPos(3, 234);
+        if ((active3 & 0x80000000000L) != 0L)
+          return jjStopAtPos(3, 235);
          break;
       case 99:
-        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x10000L);
+        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x20000L);
       case 108:
-        if ((active4 & 0x20000L) != 0L)
-          return jjStopAtPos(3, 273);
-        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x300000L);
+        if ((active4 & 0x40000L) != 0L)
+          return jjStopAtPos(3, 274);
+        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x600000L);
       case 110:
-        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x800L);
+        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x1000L);
       case 114:
-        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x481400L);
+        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x902800L);
       case 115:
-        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x8000L);
+        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x10000L);
       case 116:
-        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x44000L);
+        return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x88000L);
       default:
         break;
     }
@@ -531,27 +531,27 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 99:
-        return jjMoveStringLiteralDfa5_0(active4, 0x80000L);
+        return jjMoveStringLiteralDfa5_0(active4, 0x100000L);
       case 100:
-        return jjMoveStringLiteralDfa5_0(active4, 0x800L);
+        return jjMoveStringLiteralDfa5_0(active4, 0x1000L);
       case 101:
-        return jjMoveStringLiteralDfa5_0(active4, 0x4400L);
+        return jjMoveStringLiteralDfa5_0(active4, 0x8800L);
       case 103:
-        return jjMoveStringLiteralDfa5_0(active4, 0x400000L);
+        return jjMoveStringLiteralDfa5_0(active4, 0x800000L);
       case 107:
-        return jjMoveStringLiteralDfa5_0(active4, 0x10000L);
+        return jjMoveStringLiteralDfa5_0(active4, 0x20000L);
       case 108:
-        if ((active4 & 0x100000L) != 0L) {
-          jjmatchedKind = 276;
+        if ((active4 & 0x200000L) != 0L) {
+          jjmatchedKind = 277;
           jjmatchedPos = 4;
         }
-        return jjMoveStringLiteralDfa5_0(active4, 0x200000L);
+        return jjMoveStringLiteralDfa5_0(active4, 0x400000L);
       case 112:
-        return jjMoveStringLiteralDfa5_0(active4, 0x40000L);
+        return jjMoveStringLiteralDfa5_0(active4, 0x80000L);
       case 115:
-        return jjMoveStringLiteralDfa5_0(active4, 0x8000L);
+        return jjMoveStringLiteralDfa5_0(active4, 0x10000L);
       case 118:
-        return jjMoveStringLiteralDfa5_0(active4, 0x1000L);
+        return jjMoveStringLiteralDfa5_0(active4, 0x2000L);
       default:
         break;
     }
@@ -569,27 +569,27 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 45:
-        return jjMoveStringLiteralDfa6_0(active4, 0x800L);
+        return jjMoveStringLiteralDfa6_0(active4, 0x1000L);
       case 95:
-        return jjMoveStringLiteralDfa6_0(active4, 0x200000L);
+        return jjMoveStringLiteralDfa6_0(active4, 0x400000L);
       case 97:
-        return jjMoveStringLiteralDfa6_0(active4, 0x8000L);
+        return jjMoveStringLiteralDfa6_0(active4, 0x10000L);
       case 99:
-        return jjMoveStringLiteralDfa6_0(active4, 0x400L);
+        return jjMoveStringLiteralDfa6_0(active4, 0x800L);
       case 101:
-        if ((active4 & 0x80000L) != 0L)
-          return jjStopAtPos(5, 275);
-        else if ((active4 & 0x400000L) != 0L)
-          return jjStopAtPos(5, 278);
-        return jjMoveStringLiteralDfa6_0(active4, 0x1000L);
+        if ((active4 & 0x100000L) != 0L)
+          return jjStopAtPos(5, 276);
+        else if ((active4 & 0x800000L) != 0L)
+          return jjStopAtPos(5, 279);
+        return jjMoveStringLiteralDfa6_0(active4, 0x2000L);
       case 110:
-        return jjMoveStringLiteralDfa6_0(active4, 0x4000L);
+        return jjMoveStringLiteralDfa6_0(active4, 0x8000L);
       case 115:
-        if ((active4 & 0x10000L) != 0L)
-          return jjStopAtPos(5, 272);
+        if ((active4 & 0x20000L) != 0L)
+          return jjStopAtPos(5, 273);
          break;
       case 117:
-        return jjMoveStringLiteralDfa6_0(active4, 0x40000L);
+        return jjMoveStringLiteralDfa6_0(active4, 0x80000L);
       default:
         break;
     }
@@ -607,15 +607,15 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 99:
-        return jjMoveStringLiteralDfa7_0(active4, 0x4000L);
-      case 103:
         return jjMoveStringLiteralDfa7_0(active4, 0x8000L);
+      case 103:
+        return jjMoveStringLiteralDfa7_0(active4, 0x10000L);
       case 111:
-        return jjMoveStringLiteralDfa7_0(active4, 0x400L);
+        return jjMoveStringLiteralDfa7_0(active4, 0x800L);
       case 114:
-        return jjMoveStringLiteralDfa7_0(active4, 0x201800L);
+        return jjMoveStringLiteralDfa7_0(active4, 0x403000L);
       case 116:
-        return jjMoveStringLiteralDfa7_0(active4, 0x40000L);
+        return jjMoveStringLiteralDfa7_0(active4, 0x80000L);
       default:
         break;
     }
@@ -633,20 +633,20 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 61:
-        return jjMoveStringLiteralDfa8_0(active4, 0x40000L);
+        return jjMoveStringLiteralDfa8_0(active4, 0x80000L);
       case 101:
-        return jjMoveStringLiteralDfa8_0(active4, 0x208000L);
+        return jjMoveStringLiteralDfa8_0(active4, 0x410000L);
       case 111:
-        return jjMoveStringLiteralDfa8_0(active4, 0x800L);
+        return jjMoveStringLiteralDfa8_0(active4, 0x1000L);
       case 114:
-        return jjMoveStringLiteralDfa8_0(active4, 0x400L);
+        return jjMoveStringLiteralDfa8_0(active4, 0x800L);
       case 115:
-        if ((active4 & 0x1000L) != 0L)
-          return jjStopAtPos(7, 268);
+        if ((active4 & 0x2000L) != 0L)
+          return jjStopAtPos(7, 269);
          break;
       case 121:
-        if ((active4 & 0x4000L) != 0L)
-          return jjStopAtPos(7, 270);
+        if ((active4 & 0x8000L) != 0L)
+          return jjStopAtPos(7, 271);
         break;
       default:
         break;
@@ -665,17 +665,17 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 98:
-        return jjMoveStringLiteralDfa9_0(active4, 0x800L);
+        return jjMoveStringLiteralDfa9_0(active4, 0x1000L);
       case 100:
-        return jjMoveStringLiteralDfa9_0(active4, 0x400L);
+        return jjMoveStringLiteralDfa9_0(active4, 0x800L);
       case 112:
-        return jjMoveStringLiteralDfa9_0(active4, 0x200000L);
+        return jjMoveStringLiteralDfa9_0(active4, 0x400000L);
       case 115:
-        if ((active4 & 0x8000L) != 0L)
-          return jjStopAtPos(8, 271);
+        if ((active4 & 0x10000L) != 0L)
+          return jjStopAtPos(8, 272);
          break;
       case 116:
-        return jjMoveStringLiteralDfa9_0(active4, 0x40000L);
+        return jjMoveStringLiteralDfa9_0(active4, 0x80000L);
       default:
         break;
     }
@@ -693,13 +693,13 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 101:
-        return jjMoveStringLiteralDfa10_0(active4, 0x40000L);
+        return jjMoveStringLiteralDfa10_0(active4, 0x80000L);
       case 105:
-        return jjMoveStringLiteralDfa10_0(active4, 0x800L);
+        return jjMoveStringLiteralDfa10_0(active4, 0x1000L);
       case 108:
-        return jjMoveStringLiteralDfa10_0(active4, 0x200000L);
+        return jjMoveStringLiteralDfa10_0(active4, 0x400000L);
       case 109:
-        return jjMoveStringLiteralDfa10_0(active4, 0x400L);
+        return jjMoveStringLiteralDfa10_0(active4, 0x800L);
       default:
         break;
     }
@@ -717,13 +717,13 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 97:
-        return jjMoveStringLiteralDfa11_0(active4, 0x200400L);
+        return jjMoveStringLiteralDfa11_0(active4, 0x400800L);
       case 110:
-        if ((active4 & 0x800L) != 0L)
-          return jjStopAtPos(10, 267);
+        if ((active4 & 0x1000L) != 0L)
+          return jjStopAtPos(10, 268);
          break;
       case 120:
-        return jjMoveStringLiteralDfa11_0(active4, 0x40000L);
+        return jjMoveStringLiteralDfa11_0(active4, 0x80000L);
       default:
         break;
     }
@@ -741,12 +741,12 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 99:
-        return jjMoveStringLiteralDfa12_0(active4, 0x200000L);
+        return jjMoveStringLiteralDfa12_0(active4, 0x400000L);
       case 112:
-        return jjMoveStringLiteralDfa12_0(active4, 0x400L);
+        return jjMoveStringLiteralDfa12_0(active4, 0x800L);
       case 116:
-        if ((active4 & 0x40000L) != 0L)
-          return jjStopAtPos(11, 274);
+        if ((active4 & 0x80000L) != 0L)
+          return jjStopAtPos(11, 275);
         break;
       default:
         break;
@@ -765,10 +765,10 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 64:
-        return jjMoveStringLiteralDfa13_0(active4, 0x400L);
+        return jjMoveStringLiteralDfa13_0(active4, 0x800L);
       case 101:
-        if ((active4 & 0x200000L) != 0L)
-          return jjStopAtPos(12, 277);
+        if ((active4 & 0x400000L) != 0L)
+          return jjStopAtPos(12, 278);
         break;
       default:
         break;
@@ -787,7 +787,7 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 95:
-        return jjMoveStringLiteralDfa14_0(active4, 0x400L);
+        return jjMoveStringLiteralDfa14_0(active4, 0x800L);
       default:
         break;
     }
@@ -805,7 +805,7 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 95:
-        return jjMoveStringLiteralDfa15_0(active4, 0x400L);
+        return jjMoveStringLiteralDfa15_0(active4, 0x800L);
       default:
         break;
     }
@@ -823,8 +823,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
     }
     switch(curChar) {
       case 95:
-        if ((active4 & 0x400L) != 0L)
-          return jjStopAtPos(15, 266);
+        if ((active4 & 0x800L) != 0L)
+          return jjStopAtPos(15, 267);
         break;
       default:
         break;
@@ -852,7 +852,7 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
 
   private int jjMoveNfa_0(int startState, int curPos) {
     int startsAt = 0;
-    jjnewStateCnt = 1210;
+    jjnewStateCnt = 1216;
     int i = 1;
     jjstateSet[0] = startState;
     int kind = 0x7fffffff;
@@ -869,15 +869,7 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                case 33:
                   jjCheckNAddStates(0, 2);
                  break;
-              case 946:
-              case 31:
-                if ((0x3ff000000000000L & l) == 0L)
-                  break;
-                if (kind > 254)
-                  kind = 254;
-                jjCheckNAdd(31);
-                break;
-               case 3:
+              case 3:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(3, 9);
                   else if (curChar == 45)
@@ -885,8 +877,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                   else if (curChar == 39)
                      jjCheckNAddStates(14, 18);
                   else if (curChar == 36) {
-                    if (kind > 254) {
-                      kind = 254;
+                    if (kind > 255) {
+                      kind = 255;
                     }
                     jjCheckNAdd(31);
                   } else if (curChar == 34)
@@ -896,17 +888,17 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                   else if (curChar == 47)
                      jjstateSet[jjnewStateCnt++] = 2;
                  if ((0x3fe000000000000L & l) != 0L) {
-                   if (kind > 171)
-                     kind = 171;
+                   if (kind > 172)
+                     kind = 172;
                      jjCheckNAddStates(22, 29);
                  } else if (curChar == 48) {
-                   if (kind > 171)
-                     kind = 171;
+                   if (kind > 172)
+                     kind = 172;
                      jjCheckNAddStates(30, 42);
                  } else if (curChar == 34)
                      jjstateSet[jjnewStateCnt++] = 6;
                  break;
-              case 1183:
+              case 1189:
                   if ((0x3fe000000000000L & l) != 0L)
                      jjCheckNAddStates(43, 45);
                   else if (curChar == 48)
@@ -916,11 +908,19 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                   else if (curChar == 48)
                      jjCheckNAddStates(53, 56);
                 break;
-              case 890:
+              case 952:
+               case 31:
                 if ((0x3ff000000000000L & l) == 0L)
                   break;
-                if (kind > 254)
-                  kind = 254;
+                if (kind > 255)
+                  kind = 255;
+                jjCheckNAdd(31);
+                break;
+               case 896:
+                if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                if (kind > 255)
+                     kind = 255;
                 jjCheckNAdd(31);
                 break;
                case 0:
@@ -936,8 +936,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 0;
                  break;
               case 10:
-                if (curChar == 34 && kind > 162)
-                  kind = 162;
+                if (curChar == 34 && kind > 163)
+                  kind = 163;
                   break;
                case 11:
                   if (curChar == 34)
@@ -950,8 +950,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                case 13:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                 if (kind > 175)
-                   kind = 175;
+                 if (kind > 176)
+                   kind = 176;
                   jjCheckNAddStates(57, 59);
                   break;
                case 15:
@@ -961,8 +961,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                case 16:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                 if (kind > 175)
-                   kind = 175;
+                 if (kind > 176)
+                   kind = 176;
                   jjCheckNAddTwoStates(16, 17);
                   break;
                case 18:
@@ -978,8 +978,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjCheckNAddStates(19, 21);
                  break;
               case 22:
-                if (curChar == 34 && kind > 181)
-                  kind = 181;
+                if (curChar == 34 && kind > 182)
+                  kind = 182;
                   break;
                case 23:
                   if ((0xff000000000000L & l) != 0L)
@@ -1000,8 +1000,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                case 30:
                  if (curChar != 36)
                    break;
-                 if (kind > 254)
-                   kind = 254;
+                 if (kind > 255)
+                   kind = 255;
                   jjCheckNAdd(31);
                   break;
                case 38:
@@ -1011,15 +1011,15 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                case 39:
                  if (curChar != 36)
                    break;
-                 if (kind > 262)
-                   kind = 262;
+                 if (kind > 263)
+                   kind = 263;
                   jjCheckNAdd(40);
                   break;
                case 40:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                 if (kind > 262)
-                   kind = 262;
+                 if (kind > 263)
+                   kind = 263;
                   jjCheckNAdd(40);
                   break;
                case 53:
@@ -1049,8 +1049,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                case 61:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                 if (kind > 175)
-                   kind = 175;
+                 if (kind > 176)
+                   kind = 176;
                   jjCheckNAddTwoStates(61, 17);
                   break;
                case 62:
@@ -1060,15 +1060,15 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                case 63:
                  if (curChar != 46)
                    break;
-                 if (kind > 175)
-                   kind = 175;
+                 if (kind > 176)
+                   kind = 176;
                   jjCheckNAddStates(67, 69);
                   break;
                case 64:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                 if (kind > 175)
-                   kind = 175;
+                 if (kind > 176)
+                   kind = 176;
                   jjCheckNAddStates(67, 69);
                   break;
                case 66:
@@ -1078,453 +1078,453 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                case 67:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                 if (kind > 175)
-                   kind = 175;
+                 if (kind > 176)
+                   kind = 176;
                   jjCheckNAddTwoStates(67, 17);
                  break;
-              case 303:
-                if (curChar == 58 && kind > 256)
-                  kind = 256;
-                break;
-              case 314:
-                  if (curChar == 58)
-                     jjAddStates(70, 71);
-                break;
-              case 316:
-                if (curChar != 36)
-                  break;
-                if (kind > 257)
+              case 309:
+                if (curChar == 58 && kind > 257)
                   kind = 257;
-                jjCheckNAddTwoStates(317, 318);
-                break;
-              case 317:
-                  if ((0x3ff000000000000L & l) == 0L)
-                    break;
-                if (kind > 257)
-                  kind = 257;
-                jjCheckNAddTwoStates(317, 318);
-                break;
-              case 318:
-                  if ((0x600000000000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 319;
-                break;
-              case 319:
-                if (curChar != 36)
-                  break;
-                if (kind > 257)
-                  kind = 257;
-                jjCheckNAddTwoStates(318, 320);
                 break;
               case 320:
-                  if ((0x3ff000000000000L & l) == 0L)
-                    break;
-                if (kind > 257)
-                  kind = 257;
-                jjCheckNAddTwoStates(318, 320);
-                break;
-              case 349:
                   if (curChar == 58)
-                     jjAddStates(72, 73);
+                     jjAddStates(70, 71);
                 break;
-              case 351:
+              case 322:
                 if (curChar != 36)
                   break;
                 if (kind > 258)
                   kind = 258;
-                jjCheckNAddTwoStates(352, 353);
+                jjCheckNAddTwoStates(323, 324);
                 break;
-              case 352:
+              case 323:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
                 if (kind > 258)
                   kind = 258;
-                jjCheckNAddTwoStates(352, 353);
+                jjCheckNAddTwoStates(323, 324);
                 break;
-              case 353:
+              case 324:
                   if ((0x600000000000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 354;
+                    jjstateSet[jjnewStateCnt++] = 325;
                 break;
-              case 354:
+              case 325:
                 if (curChar != 36)
                   break;
                 if (kind > 258)
                   kind = 258;
-                jjCheckNAddTwoStates(353, 355);
+                jjCheckNAddTwoStates(324, 326);
                 break;
-              case 355:
+              case 326:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
                 if (kind > 258)
                   kind = 258;
-                jjCheckNAddTwoStates(353, 355);
+                jjCheckNAddTwoStates(324, 326);
                 break;
-              case 385:
+              case 355:
                   if (curChar == 58)
-                     jjAddStates(74, 75);
+                     jjAddStates(72, 73);
                 break;
-              case 387:
+              case 357:
                 if (curChar != 36)
                   break;
                 if (kind > 259)
                   kind = 259;
-                jjCheckNAddTwoStates(388, 389);
+                jjCheckNAddTwoStates(358, 359);
                 break;
-              case 388:
+              case 358:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
                 if (kind > 259)
                   kind = 259;
-                jjCheckNAddTwoStates(388, 389);
+                jjCheckNAddTwoStates(358, 359);
                 break;
-              case 389:
+              case 359:
                   if ((0x600000000000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 390;
+                    jjstateSet[jjnewStateCnt++] = 360;
                 break;
-              case 390:
+              case 360:
                 if (curChar != 36)
                   break;
                 if (kind > 259)
                   kind = 259;
-                jjCheckNAddTwoStates(389, 391);
+                jjCheckNAddTwoStates(359, 361);
                 break;
-              case 391:
+              case 361:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
                 if (kind > 259)
                   kind = 259;
-                jjCheckNAddTwoStates(389, 391);
+                jjCheckNAddTwoStates(359, 361);
                 break;
-              case 565:
-                if (curChar == 58)
-                  jjstateSet[jjnewStateCnt++] = 566;
+              case 391:
+                  if (curChar == 58)
+                     jjAddStates(74, 75);
                 break;
-              case 566:
+              case 393:
                 if (curChar != 36)
                   break;
                 if (kind > 260)
                   kind = 260;
-                jjCheckNAdd(567);
+                jjCheckNAddTwoStates(394, 395);
                 break;
-              case 567:
+              case 394:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
                 if (kind > 260)
                   kind = 260;
-                jjCheckNAdd(567);
+                jjCheckNAddTwoStates(394, 395);
                 break;
-              case 574:
-                  if (curChar == 58)
-                     jjAddStates(76, 77);
+              case 395:
+                  if ((0x600000000000L & l) != 0L)
+                    jjstateSet[jjnewStateCnt++] = 396;
                 break;
-              case 575:
-                  if ((0x3fe000000000000L & l) == 0L)
+              case 396:
+                if (curChar != 36)
+                  break;
+                if (kind > 260)
+                  kind = 260;
+                jjCheckNAddTwoStates(395, 397);
+                break;
+              case 397:
+                  if ((0x3ff000000000000L & l) == 0L)
                     break;
+                if (kind > 260)
+                  kind = 260;
+                jjCheckNAddTwoStates(395, 397);
+                break;
+              case 571:
+                if (curChar == 58)
+                  jjstateSet[jjnewStateCnt++] = 572;
+                break;
+              case 572:
+                if (curChar != 36)
+                  break;
                 if (kind > 261)
                   kind = 261;
-                jjCheckNAddTwoStates(576, 577);
+                jjCheckNAdd(573);
                 break;
-              case 576:
+              case 573:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
                 if (kind > 261)
                   kind = 261;
-                jjCheckNAddTwoStates(576, 577);
+                jjCheckNAdd(573);
+                break;
+              case 580:
+                  if (curChar == 58)
+                     jjAddStates(76, 77);
+                break;
+              case 581:
+                  if ((0x3fe000000000000L & l) == 0L)
+                    break;
+                if (kind > 262)
+                  kind = 262;
+                jjCheckNAddTwoStates(582, 583);
+                break;
+              case 582:
+                  if ((0x3ff000000000000L & l) == 0L)
+                    break;
+                if (kind > 262)
+                  kind = 262;
+                jjCheckNAddTwoStates(582, 583);
                 break;
-              case 578:
+              case 584:
                 if (curChar != 48)
                   break;
-                if (kind > 261)
-                  kind = 261;
+                if (kind > 262)
+                  kind = 262;
                   jjCheckNAddStates(78, 80);
                 break;
-              case 580:
+              case 586:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                if (kind > 261)
-                  kind = 261;
-                jjCheckNAddTwoStates(580, 577);
+                if (kind > 262)
+                  kind = 262;
+                jjCheckNAddTwoStates(586, 583);
                 break;
-              case 581:
+              case 587:
                   if ((0xff000000000000L & l) == 0L)
                     break;
-                if (kind > 261)
-                  kind = 261;
-                jjCheckNAddTwoStates(581, 577);
+                if (kind > 262)
+                  kind = 262;
+                jjCheckNAddTwoStates(587, 583);
                 break;
-              case 1137:
+              case 1143:
                   if ((0x3fe000000000000L & l) == 0L)
                     break;
-                if (kind > 171)
-                  kind = 171;
+                if (kind > 172)
+                  kind = 172;
                   jjCheckNAddStates(22, 29);
                 break;
-              case 1138:
+              case 1144:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                if (kind > 171)
-                  kind = 171;
-                jjCheckNAddTwoStates(1138, 1139);
+                if (kind > 172)
+                  kind = 172;
+                jjCheckNAddTwoStates(1144, 1145);
                 break;
-              case 1140:
+              case 1146:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(50, 52);
                 break;
-              case 1142:
+              case 1148:
                   if (curChar == 46)
                      jjCheckNAddStates(81, 83);
                 break;
-              case 1143:
+              case 1149:
                 if (curChar == 45)
-                  jjCheckNAddTwoStates(1144, 1147);
+                  jjCheckNAddTwoStates(1150, 1153);
                 break;
-              case 1144:
+              case 1150:
                   if ((0x3fe000000000000L & l) == 0L)
                     break;
-                if (kind > 182)
-                  kind = 182;
-                jjCheckNAddTwoStates(1145, 1146);
+                if (kind > 183)
+                  kind = 183;
+                jjCheckNAddTwoStates(1151, 1152);
                 break;
-              case 1145:
+              case 1151:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                if (kind > 182)
-                  kind = 182;
-                jjCheckNAddTwoStates(1145, 1146);
+                if (kind > 183)
+                  kind = 183;
+                jjCheckNAddTwoStates(1151, 1152);
                 break;
-              case 1147:
+              case 1153:
                 if (curChar != 48)
                   break;
-                if (kind > 182)
-                  kind = 182;
+                if (kind > 183)
+                  kind = 183;
                   jjCheckNAddStates(84, 86);
                 break;
-              case 1149:
+              case 1155:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                if (kind > 182)
-                  kind = 182;
-                jjCheckNAddTwoStates(1149, 1146);
+                if (kind > 183)
+                  kind = 183;
+                jjCheckNAddTwoStates(1155, 1152);
                 break;
-              case 1150:
+              case 1156:
                   if ((0xff000000000000L & l) == 0L)
                     break;
-                if (kind > 182)
-                  kind = 182;
-                jjCheckNAddTwoStates(1150, 1146);
+                if (kind > 183)
+                  kind = 183;
+                jjCheckNAddTwoStates(1156, 1152);
                 break;
-              case 1151:
+              case 1157:
                 if (curChar == 46)
-                  jjstateSet[jjnewStateCnt++] = 1142;
+                  jjstateSet[jjnewStateCnt++] = 1148;
                 break;
-              case 1152:
+              case 1158:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(43, 45);
                 break;
-              case 1154:
+              case 1160:
                   if (curChar == 46)
                      jjCheckNAddStates(87, 89);
                 break;
-              case 1155:
+              case 1161:
                 if (curChar == 45)
-                  jjCheckNAddTwoStates(1156, 1159);
+                  jjCheckNAddTwoStates(1162, 1165);
                 break;
-              case 1156:
+              case 1162:
                   if ((0x3fe000000000000L & l) == 0L)
                     break;
-                if (kind > 183)
-                  kind = 183;
-                jjCheckNAddTwoStates(1157, 1158);
+                if (kind > 184)
+                  kind = 184;
+                jjCheckNAddTwoStates(1163, 1164);
                 break;
-              case 1157:
+              case 1163:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                if (kind > 183)
-                  kind = 183;
-                jjCheckNAddTwoStates(1157, 1158);
+                if (kind > 184)
+                  kind = 184;
+                jjCheckNAddTwoStates(1163, 1164);
                 break;
-              case 1159:
+              case 1165:
                 if (curChar != 48)
                   break;
-                if (kind > 183)
-                  kind = 183;
+                if (kind > 184)
+                  kind = 184;
                   jjCheckNAddStates(90, 92);
                 break;
-              case 1161:
+              case 1167:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                if (kind > 183)
-                  kind = 183;
-                jjCheckNAddTwoStates(1161, 1158);
+                if (kind > 184)
+                  kind = 184;
+                jjCheckNAddTwoStates(1167, 1164);
                 break;
-              case 1162:
+              case 1168:
                   if ((0xff000000000000L & l) == 0L)
                     break;
-                if (kind > 183)
-                  kind = 183;
-                jjCheckNAddTwoStates(1162, 1158);
+                if (kind > 184)
+                  kind = 184;
+                jjCheckNAddTwoStates(1168, 1164);
                 break;
-              case 1163:
+              case 1169:
                 if (curChar == 46)
-                  jjstateSet[jjnewStateCnt++] = 1154;
+                  jjstateSet[jjnewStateCnt++] = 1160;
                 break;
-              case 1164:
+              case 1170:
                 if (curChar == 46)
-                  jjstateSet[jjnewStateCnt++] = 1163;
+                  jjstateSet[jjnewStateCnt++] = 1169;
                 break;
-              case 1165:
+              case 1171:
                   if (curChar == 39)
                      jjCheckNAddStates(14, 18);
                 break;
-              case 1166:
+              case 1172:
                   if ((0xffffff7fffffdbffL & l) != 0L)
-                    jjCheckNAdd(1167);
+                    jjCheckNAdd(1173);
                 break;
-              case 1167:
-                if (curChar == 39 && kind > 180)
-                  kind = 180;
+              case 1173:
+                if (curChar == 39 && kind > 181)
+                  kind = 181;
                 break;
-              case 1169:
+              case 1175:
                   if ((0x808400000000L & l) != 0L)
-                    jjCheckNAdd(1167);
+                    jjCheckNAdd(1173);
                 break;
-              case 1170:
+              case 1176:
                   if ((0xff000000000000L & l) != 0L)
-                    jjCheckNAddTwoStates(1171, 1167);
+                    jjCheckNAddTwoStates(1177, 1173);
                 break;
-              case 1171:
+              case 1177:
                   if ((0xff000000000000L & l) != 0L)
-                    jjCheckNAdd(1167);
+                    jjCheckNAdd(1173);
                 break;
-              case 1172:
+              case 1178:
                   if ((0xf000000000000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1173;
+                    jjstateSet[jjnewStateCnt++] = 1179;
                 break;
-              case 1173:
+              case 1179:
                   if ((0xff000000000000L & l) != 0L)
-                    jjCheckNAdd(1171);
+                    jjCheckNAdd(1177);
                 break;
-              case 1174:
+              case 1180:
                   if ((0xffffff7fffffdbffL & l) != 0L)
                      jjCheckNAddStates(93, 95);
                 break;
-              case 1176:
+              case 1182:
                   if ((0x808400000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                 break;
-              case 1177:
-                if (curChar == 39 && kind > 181)
-                  kind = 181;
+              case 1183:
+                if (curChar == 39 && kind > 182)
+                  kind = 182;
                 break;
-              case 1178:
+              case 1184:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(96, 99);
                 break;
-              case 1179:
+              case 1185:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                 break;
-              case 1180:
+              case 1186:
                   if ((0xf000000000000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1181;
+                    jjstateSet[jjnewStateCnt++] = 1187;
                 break;
-              case 1181:
+              case 1187:
                   if ((0xff000000000000L & l) != 0L)
-                    jjCheckNAdd(1179);
+                    jjCheckNAdd(1185);
                 break;
-              case 1182:
+              case 1188:
                   if (curChar == 45)
                      jjAddStates(10, 13);
                 break;
-              case 1184:
+              case 1190:
                   if ((0x3fe000000000000L & l) != 0L)
                      jjCheckNAddStates(43, 45);
                 break;
-              case 1185:
+              case 1191:
                   if (curChar == 48)
                      jjCheckNAddStates(53, 56);
                 break;
-              case 1187:
+              case 1193:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(100, 102);
                 break;
-              case 1188:
+              case 1194:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(103, 105);
                 break;
-              case 1189:
+              case 1195:
                   if (curChar == 48)
                      jjCheckNAddStates(46, 49);
                 break;
-              case 1191:
+              case 1197:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(106, 108);
                 break;
-              case 1192:
+              case 1198:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(109, 111);
                 break;
-              case 1193:
+              case 1199:
                 if (curChar != 48)
                   break;
-                if (kind > 171)
-                  kind = 171;
+                if (kind > 172)
+                  kind = 172;
                   jjCheckNAddStates(30, 42);
                 break;
-              case 1195:
+              case 1201:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                if (kind > 171)
-                  kind = 171;
-                jjCheckNAddTwoStates(1195, 1139);
+                if (kind > 172)
+                  kind = 172;
+                jjCheckNAddTwoStates(1201, 1145);
                 break;
-              case 1196:
+              case 1202:
                   if ((0xff000000000000L & l) == 0L)
                     break;
-                if (kind > 171)
-                  kind = 171;
-                jjCheckNAddTwoStates(1196, 1139);
+                if (kind > 172)
+                  kind = 172;
+                jjCheckNAddTwoStates(1202, 1145);
                 break;
-              case 1198:
+              case 1204:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjAddStates(112, 113);
                 break;
-              case 1199:
+              case 1205:
                 if (curChar == 46)
-                  jjCheckNAdd(1200);
+                  jjCheckNAdd(1206);
                 break;
-              case 1200:
+              case 1206:
                   if ((0x3ff000000000000L & l) != 0L)
-                    jjCheckNAddTwoStates(1200, 1201);
+                    jjCheckNAddTwoStates(1206, 1207);
                 break;
-              case 1202:
+              case 1208:
                   if ((0x280000000000L & l) != 0L)
-                    jjCheckNAdd(1203);
+                    jjCheckNAdd(1209);
                 break;
-              case 1203:
+              case 1209:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                if (kind > 175)
-                  kind = 175;
-                jjCheckNAddTwoStates(1203, 17);
+                if (kind > 176)
+                  kind = 176;
+                jjCheckNAddTwoStates(1209, 17);
                 break;
-              case 1205:
+              case 1211:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(114, 116);
                 break;
-              case 1206:
+              case 1212:
                 if (curChar == 46)
-                  jjCheckNAdd(1207);
+                  jjCheckNAdd(1213);
                 break;
-              case 1208:
+              case 1214:
                   if ((0x280000000000L & l) != 0L)
-                    jjCheckNAdd(1209);
+                    jjCheckNAdd(1215);
                 break;
-              case 1209:
+              case 1215:
                   if ((0x3ff000000000000L & l) == 0L)
                     break;
-                if (kind > 175)
-                  kind = 175;
-                jjCheckNAddTwoStates(1209, 17);
+                if (kind > 176)
+                  kind = 176;
+                jjCheckNAddTwoStates(1215, 17);
                   break;
                default : break;
             }
@@ -1534,51 +1534,16 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
          long l = 1L << (curChar & 077);
         do {
           switch(jjstateSet[--i]) {
-            case 1089:
-                  if ((0x4000000040000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1135;
-                  else if ((0x4000000040L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1130;
-                  else if ((0x10000000100000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1113;
-                  else if ((0x8000000080000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1109;
-                  else if ((0x40000000400000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1102;
-                  else if ((0x800000008L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1097;
-                  if ((0x4000000040000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1124;
-                  else if ((0x10000000100000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1090;
-                  if ((0x4000000040000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1119;
-                  if ((0x4000000040000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1116;
-                  if ((0x4000000040000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 1094;
-              break;
             case 37:
               if ((0xfffffffeffffffffL & l) != 0L)
                 jjCheckNAddStates(0, 2);
               if (curChar == 92)
                 jjCheckNAdd(34);
               break;
-            case 946:
-              if ((0x7fffffe87fffffeL & l) != 0L) {
-                if (kind > 254)
-                  kind = 254;
-                jjCheckNAdd(31);
-              }
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 954;
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 947;
-              break;
             case 3:
               if ((0x7fffffe87fffffeL & l) != 0L) {
-                if (kind > 254)
-                  kind = 254;
+                if (kind > 255)
+                  kind = 255;
                 jjCheckNAdd(31);
               } else if (curChar == 64)
                      jjAddStates(117, 127);
@@ -1615,13 +1580,13 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                   else if ((0x800000008L & l) != 0L)
                     jjAddStates(227, 249);
                   else if ((0x20000000200L & l) != 0L)
-                    jjAddStates(250, 264);
+                    jjAddStates(250, 265);
                   else if ((0x200000002000L & l) != 0L)
-                    jjAddStates(265, 271);
+                    jjAddStates(266, 272);
                   else if ((0x10000000100000L & l) != 0L)
-                    jjAddStates(272, 277);
+                    jjAddStates(273, 278);
                   else if ((0x8000000080000L & l) != 0L)
-                    jjAddStates(278, 295);
+                    jjAddStates(279, 296);
                   else if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 28;
                   else if ((0x10000000100L & l) != 0L)
@@ -1633,36 +1598,72 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                   else if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 47;
               break;
-            case 890:
+            case 952:
               if ((0x7fffffe87fffffeL & l) != 0L) {
-                if (kind > 254)
-                  kind = 254;
+                if (kind > 255)
+                  kind = 255;
+                jjCheckNAdd(31);
+              }
+              if ((0x100000001000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 960;
+              if ((0x100000001000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 953;
+              break;
+               case 1095:
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1141;
+              else if ((0x4000000040L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1136;
+              else if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1119;
+              else if ((0x8000000080000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1115;
+              else if ((0x40000000400000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1108;
+              else if ((0x800000008L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1103;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1130;
+              else if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1096;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1125;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1122;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1100;
+              break;
+               case 896:
+              if ((0x7fffffe87fffffeL & l) != 0L)
+              {
+                if (kind > 255)
+                  kind = 255;
                      jjCheckNAdd(31);
               }
               if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 956;
+                jjstateSet[jjnewStateCnt++] = 962;
               else if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 953;
+                jjstateSet[jjnewStateCnt++] = 959;
               else if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 943;
+                jjstateSet[jjnewStateCnt++] = 949;
               if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 946;
+                jjstateSet[jjnewStateCnt++] = 952;
               else if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 938;
+                jjstateSet[jjnewStateCnt++] = 944;
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 932;
+                jjstateSet[jjnewStateCnt++] = 938;
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 919;
+                jjstateSet[jjnewStateCnt++] = 925;
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 910;
+                jjstateSet[jjnewStateCnt++] = 916;
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 906;
+                jjstateSet[jjnewStateCnt++] = 912;
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 901;
+                jjstateSet[jjnewStateCnt++] = 907;
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 896;
+                jjstateSet[jjnewStateCnt++] = 902;
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 891;
+                jjstateSet[jjnewStateCnt++] = 897;
                   break;
                case 1:
                   if (kind > 6)
@@ -1673,8 +1674,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 5;
                  break;
             case 5:
-              if ((0x200000002L & l) != 0L && kind > 142)
-                kind = 142;
+              if ((0x200000002L & l) != 0L && kind > 143)
+                kind = 143;
                   break;
                case 6:
                   if (curChar == 64)
@@ -1694,11 +1695,11 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                   break;
                case 14:
                   if ((0x2000000020L & l) != 0L)
-                    jjAddStates(296, 297);
+                    jjAddStates( 297, 298);
                  break;
             case 17:
-              if ((0x5000000050L & l) != 0L && kind > 175)
-                kind = 175;
+              if ((0x5000000050L & l) != 0L && kind > 176)
+                kind = 176;
                   break;
                case 19:
                   if ((0xffffffffefffffffL & l) != 0L)
@@ -1706,7 +1707,7 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                   break;
             case 20:
               if (curChar == 92)
-                jjAddStates(298, 300);
+                jjAddStates(299, 301);
                   break;
                case 21:
                   if ((0x14404410000000L & l) != 0L)
@@ -1721,21 +1722,21 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 29;
                  break;
             case 29:
-              if ((0x200000002000000L & l) != 0L && kind > 251)
-                kind = 251;
+              if ((0x200000002000000L & l) != 0L && kind > 252)
+                kind = 252;
                   break;
                case 30:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                     break;
-                 if (kind > 254)
-                   kind = 254;
+                 if (kind > 255)
+                   kind = 255;
                   jjCheckNAdd(31);
                   break;
                case 31:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                     break;
-                 if (kind > 254)
-                   kind = 254;
+                 if (kind > 255)
+                   kind = 255;
                   jjCheckNAdd(31);
                   break;
                case 32:
@@ -1755,15 +1756,15 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjCheckNAdd(34);
                  break;
             case 36:
-              if (curChar == 96 && kind > 255)
-                kind = 255;
+              if (curChar == 96 && kind > 256)
+                kind = 256;
                   break;
                case 39:
                case 40:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                     break;
-                 if (kind > 262)
-                   kind = 262;
+                 if (kind > 263)
+                   kind = 263;
                   jjCheckNAdd(40);
                   break;
                case 41:
@@ -1803,12 +1804,12 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjCheckNAddTwoStates(50, 51);
                  break;
             case 50:
-              if (curChar == 115 && kind > 242)
-                kind = 242;
+              if (curChar == 115 && kind > 243)
+                kind = 243;
               break;
             case 51:
-              if (curChar == 83 && kind > 242)
-                kind = 242;
+              if (curChar == 83 && kind > 243)
+                kind = 243;
                   break;
                case 52:
                   if (curChar == 73)
@@ -1816,19 +1817,19 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                   break;
                case 55:
                   if ((0x2000000020L & l) != 0L)
-                    jjAddStates(301, 302);
+                    jjAddStates( 302, 303);
                   break;
                case 59:
                   if ((0x2000000020L & l) != 0L)
-                    jjAddStates(303, 304);
+                    jjAddStates( 304, 305);
                   break;
                case 65:
                   if ((0x2000000020L & l) != 0L)
-                    jjAddStates(305, 306);
+                    jjAddStates( 306, 307);
                   break;
                case 68:
                   if ((0x8000000080000L & l) != 0L)
-                    jjAddStates(278, 295);
+                    jjAddStates(279, 296);
                   break;
                case 69:
                   if ((0x2000000020L & l) != 0L)
@@ -2087,8 +2088,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 133;
               break;
             case 133:
-              if ((0x1000000010000L & l) != 0L && kind > 132)
-                kind = 132;
+              if ((0x1000000010000L & l) != 0L && kind > 133)
+                kind = 133;
               break;
             case 134:
               if ((0x10000000100L & l) != 0L)
@@ -2107,8 +2108,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 138;
               break;
             case 138:
-              if ((0x1000000010L & l) != 0L && kind > 135)
-                kind = 135;
+              if ((0x1000000010L & l) != 0L && kind > 136)
+                kind = 136;
               break;
             case 139:
               if ((0x2000000020L & l) != 0L)
@@ -2135,8 +2136,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 145;
               break;
             case 145:
-              if ((0x2000000020L & l) != 0L && kind > 137)
-                kind = 137;
+              if ((0x2000000020L & l) != 0L && kind > 138)
+                kind = 138;
               break;
             case 146:
               if ((0x10000000100000L & l) != 0L)
@@ -2151,8 +2152,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 149;
               break;
             case 149:
-              if ((0x10000000100000L & l) != 0L && kind > 138)
-                kind = 138;
+              if ((0x10000000100000L & l) != 0L && kind > 139)
+                kind = 139;
               break;
             case 150:
               if ((0x10000000100000L & l) != 0L)
@@ -2171,8 +2172,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 154;
               break;
             case 154:
-              if ((0x8000000080000L & l) != 0L && kind > 143)
-                kind = 143;
+              if ((0x8000000080000L & l) != 0L && kind > 144)
+                kind = 144;
               break;
             case 155:
               if ((0x2000000020L & l) != 0L)
@@ -2191,8 +2192,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 159;
               break;
             case 159:
-              if ((0x4000000040000L & l) != 0L && kind > 144)
-                kind = 144;
+              if ((0x4000000040000L & l) != 0L && kind > 145)
+                kind = 145;
               break;
             case 160:
               if ((0x200000002000000L & l) != 0L)
@@ -2203,8 +2204,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 162;
               break;
             case 162:
-              if ((0x800000008L & l) != 0L && kind > 145)
-                kind = 145;
+              if ((0x800000008L & l) != 0L && kind > 146)
+                kind = 146;
               break;
             case 163:
               if ((0x2000000020L & l) != 0L)
@@ -2231,8 +2232,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 169;
               break;
             case 169:
-              if ((0x200000002000000L & l) != 0L && kind > 156)
-                kind = 156;
+              if ((0x200000002000000L & l) != 0L && kind > 157)
+                kind = 157;
               break;
             case 170:
               if ((0x200000002000000L & l) != 0L)
@@ -2251,12 +2252,12 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 174;
               break;
             case 174:
-              if ((0x200000002000L & l) != 0L && kind > 158)
-                kind = 158;
+              if ((0x200000002000L & l) != 0L && kind > 159)
+                kind = 159;
               break;
             case 175:
               if ((0x10000000100000L & l) != 0L)
-                jjAddStates(272, 277);
+                jjAddStates(273, 278);
               break;
             case 176:
               if ((0x4000000040000L & l) != 0L)
@@ -2351,8 +2352,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 199;
               break;
             case 199:
-              if ((0x2000000020L & l) != 0L && kind > 112)
-                kind = 112;
+              if ((0x2000000020L & l) != 0L && kind > 113)
+                kind = 113;
               break;
             case 200:
               if ((0x4000000040000L & l) != 0L)
@@ -2363,12 +2364,12 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 202;
               break;
             case 202:
-              if ((0x2000000020L & l) != 0L && kind > 184)
-                kind = 184;
+              if ((0x2000000020L & l) != 0L && kind > 185)
+                kind = 185;
               break;
             case 203:
               if ((0x200000002000L & l) != 0L)
-                jjAddStates(265, 271);
+                jjAddStates(266, 272);
               break;
             case 204:
               if ((0x200000002L & l) != 0L)
@@ -2495,8 +2496,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 235;
               break;
             case 235:
-              if ((0x2000000020L & l) != 0L && kind > 148)
-                kind = 148;
+              if ((0x2000000020L & l) != 0L && kind > 149)
+                kind = 149;
               break;
             case 236:
               if ((0x200000002L & l) != 0L)
@@ -2519,12 +2520,12 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 jjstateSet[jjnewStateCnt++] = 241;
               break;
             case 241:
-              if ((0x8000000080000L & l) != 0L && kind > 250)
-                kind = 250;
+              if ((0x8000000080000L & l) != 0L && kind > 251)
+                kind = 251;
               break;
             case 242:
               if ((0x20000000200L & l) != 0L)
-                jjAddStates(250, 264);
+                jjAddStates(250, 265);
               break;
             case 243:
               if ((0x400000004000L & l) != 0L)
@@ -2607,195 +2608,195 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                 kind = 104;
               break;
             case 263:
-              if ((0x1000000010L & l) != 0L && kind > 108)
-                kind = 108;
+              if ((0x400000004000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 264;
               break;
             case 264:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 265;
               break;
             case 265:
-              if ((0x40000000400000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 266;
               break;
             case 266:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 267;
               break;
             case 267:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 268;
               break;
             case 268:
-              if ((0x8000000080000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 269;
+              if ((0x2000000020L & l) != 0L && kind > 107)
+                kind = 107;
               break;
             case 269:
-              if ((0x2000000020L & l) != 0L && kind > 113)
-                kind = 113;
+              if ((0x1000000010L & l) != 0L && kind > 109)
+                kind = 109;
               break;
             case 270:
-              if ((0x1000000010L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 271;
               break;
             case 271:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 272;
               break;
             case 272:
-              if ((0x200000002000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 273;
               break;
             case 273:
-              if ((0x1000000010000L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 274;
               break;
             case 274:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 275;
               break;
             case 275:
-              if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 276;
+              if ((0x2000000020L & l) != 0L && kind > 114)
+                     kind = 114;
               break;
             case 276:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 277;
               break;
             case 277:
-              if ((0x400000004000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 278;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 278;
               break;
             case 278:
-              if ((0x10000000100000L & l) != 0L && kind > 123)
-                kind = 123;
+              if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 279;
               break;
             case 279:
-              if ((0x4000000040L & l) != 0L && kind > 128)
-                kind = 128;
+              if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 280;
               break;
             case 280:
-              if ((0x1000000010L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 281;
               break;
             case 281:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 282;
               break;
             case 282:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 283;
               break;
             case 283:
-              if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 284;
+              if ((0x400000004000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 284;
               break;
             case 284:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 285;
+              if ((0x10000000100000L & l) != 0L && kind > 124)
+                kind = 124;
               break;
             case 285:
-              if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 286;
+              if ((0x4000000040L & l) != 0L && kind > 129)
+                kind = 129;
               break;
             case 286:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 287;
               break;
             case 287:
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 288;
+                     jjstateSet[jjnewStateCnt++] = 288;
               break;
             case 288:
-              if ((0x1000000010L & l) != 0L && kind > 151)
-                kind = 151;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 289;
               break;
             case 289:
-              if ((0x400000004000L & l) != 0L && kind > 240)
-                kind = 240;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 290;
               break;
             case 290:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 291;
               break;
             case 291:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 292;
               break;
             case 292:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 293;
               break;
             case 293:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 294;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 294;
               break;
             case 294:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 295;
+              if ((0x1000000010L & l) != 0L && kind > 152)
+                kind = 152;
               break;
             case 295:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 296;
+              if ((0x400000004000L & l) != 0L && kind > 241)
+                kind = 241;
               break;
             case 296:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 297;
               break;
             case 297:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 298;
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 298;
               break;
             case 298:
-              if ((0x4000000040L & l) != 0L && kind > 252)
-                kind = 252;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 299;
               break;
             case 299:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 300;
               break;
             case 300:
-              if ((0x1000000010L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 301;
               break;
             case 301:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 302;
               break;
             case 302:
-              if ((0x100000001000000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 303;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 303;
+              break;
+            case 303:
+              if ((0x800000008000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 304;
               break;
             case 304:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 305;
+              if ((0x4000000040L & l) != 0L && kind > 253)
+                kind = 253;
               break;
             case 305:
-              if ((0x1000000010L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 306;
               break;
             case 306:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 307;
               break;
             case 307:
-              if ((0x100000001000000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 308;
               break;
             case 308:
-              if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 309;
-              break;
-            case 309:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 310;
+              if ((0x100000001000000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 309;
               break;
             case 310:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 311;
               break;
             case 311:
-              if ((0x20000000200000L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 312;
               break;
             case 312:
@@ -2803,119 +2804,119 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 313;
               break;
             case 313:
-              if ((0x8000000080000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 314;
+              if ((0x100000001000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 314;
+              break;
+            case 314:
+              if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 315;
               break;
             case 315:
-              if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 316;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 316;
               break;
             case 316:
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 317;
+              break;
             case 317:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                    break;
-              if (kind > 257)
-                kind = 257;
-              jjCheckNAddTwoStates(317, 318);
+              if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 318;
+              break;
+            case 318:
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 319;
               break;
             case 319:
-            case 320:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                    break;
-              if (kind > 257)
-                kind = 257;
-              jjCheckNAddTwoStates(318, 320);
-                  break;
+              if ((0x8000000080000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 320;
+              break;
             case 321:
               if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 315;
+                jjstateSet[jjnewStateCnt++] = 322;
               break;
             case 322:
-              if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 321;
-              break;
             case 323:
-              if (curChar == 64)
-                     jjstateSet[jjnewStateCnt++] = 322;
-              break;
-            case 324:
-              if (curChar == 112)
-                     jjstateSet[jjnewStateCnt++] = 323;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                    break;
+              if (kind > 258)
+                kind = 258;
+              jjCheckNAddTwoStates(323, 324);
               break;
             case 325:
-              if (curChar == 97)
-                     jjstateSet[jjnewStateCnt++] = 324;
-              break;
             case 326:
-              if (curChar == 109)
-                     jjstateSet[jjnewStateCnt++] = 325;
-              break;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                    break;
+              if (kind > 258)
+                kind = 258;
+              jjCheckNAddTwoStates(324, 326);
+                  break;
             case 327:
-              if (curChar == 100)
-                     jjstateSet[jjnewStateCnt++] = 326;
+              if (curChar == 95)
+                jjstateSet[jjnewStateCnt++] = 321;
               break;
             case 328:
-              if (curChar == 114)
+              if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 327;
               break;
             case 329:
-              if (curChar == 111)
+              if (curChar == 64)
                      jjstateSet[jjnewStateCnt++] = 328;
               break;
             case 330:
-              if (curChar == 99)
+              if (curChar == 112)
                      jjstateSet[jjnewStateCnt++] = 329;
               break;
             case 331:
-              if (curChar == 101)
+              if (curChar == 97)
                      jjstateSet[jjnewStateCnt++] = 330;
               break;
             case 332:
-              if (curChar == 114)
+              if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 331;
               break;
             case 333:
-              if (curChar == 64)
+              if (curChar == 100)
                      jjstateSet[jjnewStateCnt++] = 332;
-                  break;
-               case 334:
-                  if (curChar == 95)
+              break;
+            case 334:
+              if (curChar == 114)
                      jjstateSet[jjnewStateCnt++] = 333;
-                 break;
+              break;
             case 335:
-              if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 334;
+              if (curChar == 111)
+                     jjstateSet[jjnewStateCnt++] = 334;
               break;
             case 336:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 337;
+              if (curChar == 99)
+                     jjstateSet[jjnewStateCnt++] = 335;
               break;
             case 337:
-              if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 338;
+              if (curChar == 101)
+                     jjstateSet[jjnewStateCnt++] = 336;
               break;
             case 338:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 339;
+              if (curChar == 114)
+                     jjstateSet[jjnewStateCnt++] = 337;
               break;
             case 339:
-              if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 340;
-              break;
-            case 340:
-              if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 341;
-              break;
+              if (curChar == 64)
+                     jjstateSet[jjnewStateCnt++] = 338;
+                  break;
+               case 340:
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 339;
+                 break;
             case 341:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 342;
+              if (curChar == 95)
+                jjstateSet[jjnewStateCnt++] = 340;
               break;
             case 342:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 343;
               break;
             case 343:
-              if ((0x20000000200000L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 344;
               break;
             case 344:
@@ -2923,131 +2924,131 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 345;
               break;
             case 345:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 346;
               break;
             case 346:
-              if ((0x200000002L & l) != 0L)
+              if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 347;
               break;
             case 347:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 348;
               break;
             case 348:
-              if ((0x800000008L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 349;
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 349;
+              break;
+            case 349:
+              if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 350;
               break;
             case 350:
-              if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 351;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 351;
               break;
             case 351:
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 352;
+              break;
             case 352:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                    break;
-              if (kind > 258)
-                kind = 258;
-              jjCheckNAddTwoStates(352, 353);
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 353;
+              break;
+            case 353:
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 354;
               break;
             case 354:
-            case 355:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                    break;
-              if (kind > 258)
-                kind = 258;
-              jjCheckNAddTwoStates(353, 355);
-                  break;
+              if ((0x800000008L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 355;
+              break;
             case 356:
               if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 350;
+                jjstateSet[jjnewStateCnt++] = 357;
               break;
             case 357:
-              if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 356;
-              break;
             case 358:
-              if (curChar == 64)
-                     jjstateSet[jjnewStateCnt++] = 357;
-              break;
-            case 359:
-              if (curChar == 112)
-                     jjstateSet[jjnewStateCnt++] = 358;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                    break;
+              if (kind > 259)
+                kind = 259;
+              jjCheckNAddTwoStates(358, 359);
               break;
             case 360:
-              if (curChar == 97)
-                     jjstateSet[jjnewStateCnt++] = 359;
-              break;
             case 361:
-              if (curChar == 109)
-                     jjstateSet[jjnewStateCnt++] = 360;
-              break;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                    break;
+              if (kind > 259)
+                kind = 259;
+              jjCheckNAddTwoStates(359, 361);
+                  break;
             case 362:
-              if (curChar == 100)
-                     jjstateSet[jjnewStateCnt++] = 361;
+              if (curChar == 95)
+                jjstateSet[jjnewStateCnt++] = 356;
               break;
             case 363:
-              if (curChar == 114)
+              if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 362;
               break;
             case 364:
-              if (curChar == 111)
+              if (curChar == 64)
                      jjstateSet[jjnewStateCnt++] = 363;
               break;
             case 365:
-              if (curChar == 99)
+              if (curChar == 112)
                      jjstateSet[jjnewStateCnt++] = 364;
               break;
             case 366:
-              if (curChar == 101)
+              if (curChar == 97)
                      jjstateSet[jjnewStateCnt++] = 365;
               break;
             case 367:
-              if (curChar == 114)
+              if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 366;
               break;
             case 368:
-              if (curChar == 64)
+              if (curChar == 100)
                      jjstateSet[jjnewStateCnt++] = 367;
-                  break;
-               case 369:
-                  if (curChar == 95)
+              break;
+            case 369:
+              if (curChar == 114)
                      jjstateSet[jjnewStateCnt++] = 368;
-                 break;
+              break;
             case 370:
-              if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 369;
+              if (curChar == 111)
+                     jjstateSet[jjnewStateCnt++] = 369;
               break;
             case 371:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 372;
+              if (curChar == 99)
+                     jjstateSet[jjnewStateCnt++] = 370;
               break;
             case 372:
-              if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 373;
+              if (curChar == 101)
+                     jjstateSet[jjnewStateCnt++] = 371;
               break;
             case 373:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 374;
+              if (curChar == 114)
+                     jjstateSet[jjnewStateCnt++] = 372;
               break;
             case 374:
-              if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 375;
-              break;
-            case 375:
-              if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 376;
-              break;
+              if (curChar == 64)
+                     jjstateSet[jjnewStateCnt++] = 373;
+                  break;
+               case 375:
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 374;
+                 break;
             case 376:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 377;
+              if (curChar == 95)
+                jjstateSet[jjnewStateCnt++] = 375;
               break;
             case 377:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 378;
               break;
             case 378:
-              if ((0x20000000200000L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 379;
               break;
             case 379:
@@ -3055,252 +3056,252 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 380;
               break;
             case 380:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 381;
               break;
             case 381:
-              if ((0x1000000010L & l) != 0L)
+              if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 382;
               break;
             case 382:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 383;
               break;
             case 383:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 384;
               break;
             case 384:
-              if ((0x800000008L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 385;
+              if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 385;
+              break;
+            case 385:
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 386;
               break;
             case 386:
-              if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 387;
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 387;
               break;
             case 387:
+              if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 388;
+              break;
             case 388:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                    break;
-              if (kind > 259)
-                kind = 259;
-              jjCheckNAddTwoStates(388, 389);
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 389;
+              break;
+            case 389:
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 390;
               break;
             case 390:
-            case 391:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                    break;
-              if (kind > 259)
-                kind = 259;
-              jjCheckNAddTwoStates(389, 391);
-                  break;
+              if ((0x800000008L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 391;
+              break;
             case 392:
               if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 386;
+                jjstateSet[jjnewStateCnt++] = 393;
               break;
             case 393:
-              if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 392;
-              break;
             case 394:
-              if (curChar == 64)
-                     jjstateSet[jjnewStateCnt++] = 393;
-              break;
-            case 395:
-              if (curChar == 112)
-                     jjstateSet[jjnewStateCnt++] = 394;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                    break;
+              if (kind > 260)
+                kind = 260;
+              jjCheckNAddTwoStates(394, 395);
               break;
             case 396:
-              if (curChar == 97)
-                     jjstateSet[jjnewStateCnt++] = 395;
-              break;
             case 397:
-              if (curChar == 109)
-                     jjstateSet[jjnewStateCnt++] = 396;
-              break;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                    break;
+              if (kind > 260)
+                kind = 260;
+              jjCheckNAddTwoStates(395, 397);
+                  break;
             case 398:
-              if (curChar == 100)
-                     jjstateSet[jjnewStateCnt++] = 397;
+              if (curChar == 95)
+                jjstateSet[jjnewStateCnt++] = 392;
               break;
             case 399:
-              if (curChar == 114)
+              if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 398;
               break;
             case 400:
-              if (curChar == 111)
+              if (curChar == 64)
                      jjstateSet[jjnewStateCnt++] = 399;
               break;
             case 401:
-              if (curChar == 99)
+              if (curChar == 112)
                      jjstateSet[jjnewStateCnt++] = 400;
               break;
             case 402:
-              if (curChar == 101)
+              if (curChar == 97)
                      jjstateSet[jjnewStateCnt++] = 401;
               break;
             case 403:
-              if (curChar == 114)
+              if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 402;
               break;
             case 404:
-              if (curChar == 64)
+              if (curChar == 100)
                      jjstateSet[jjnewStateCnt++] = 403;
-                  break;
-               case 405:
-                  if (curChar == 95)
+              break;
+            case 405:
+              if (curChar == 114)
                      jjstateSet[jjnewStateCnt++] = 404;
-                 break;
+              break;
             case 406:
-              if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 405;
+              if (curChar == 111)
+                     jjstateSet[jjnewStateCnt++] = 405;
               break;
             case 407:
-              if ((0x800000008L & l) != 0L)
-                jjAddStates(227, 249);
+              if (curChar == 99)
+                     jjstateSet[jjnewStateCnt++] = 406;
               break;
             case 408:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 409;
+              if (curChar == 101)
+                     jjstateSet[jjnewStateCnt++] = 407;
               break;
             case 409:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 410;
+              if (curChar == 114)
+                     jjstateSet[jjnewStateCnt++] = 408;
               break;
             case 410:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 411;
-              break;
-            case 411:
-              if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 412;
-              break;
+              if (curChar == 64)
+                     jjstateSet[jjnewStateCnt++] = 409;
+                  break;
+               case 411:
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 410;
+                 break;
             case 412:
-                  if ((0x2000000020L & l) != 0L && kind > 15)
-                    kind = 15;
+              if (curChar == 95)
+                jjstateSet[jjnewStateCnt++] = 411;
               break;
             case 413:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 414;
+              if ((0x800000008L & l) != 0L)
+                jjAddStates(227, 249);
               break;
             case 414:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 415;
               break;
             case 415:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 416;
               break;
             case 416:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 417;
               break;
             case 417:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 418;
               break;
             case 418:
-              if ((0x10000000100000L & l) != 0L && kind > 32)
-                kind = 32;
+                  if ((0x2000000020L & l) != 0L && kind > 15)
+                    kind = 15;
               break;
             case 419:
-              if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 420;
               break;
             case 420:
-              if ((0x800000008L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 421;
               break;
             case 421:
-              if ((0x10000000100L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 422;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 422;
               break;
             case 422:
-                  if ((0x2000000020L & l) != 0L && kind > 58)
-                    kind = 58;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 423;
               break;
             case 423:
-                  if ((0x200000002000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 424;
+              if ((0x400000004000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 424;
               break;
             case 424:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 425;
+              if ((0x10000000100000L & l) != 0L && kind > 32)
+                kind = 32;
               break;
             case 425:
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 426;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 426;
               break;
             case 426:
-              if ((0x2000000020L & l) != 0L && kind > 59)
-                kind = 59;
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 427;
               break;
             case 427:
-              if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 428;
+              if ((0x10000000100L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 428;
               break;
             case 428:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 429;
+                  if ((0x2000000020L & l) != 0L && kind > 58)
+                    kind = 58;
               break;
             case 429:
-              if ((0x8000000080000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 430;
+                  if ((0x200000002000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 430;
               break;
             case 430:
-              if ((0x8000000080000L & l) != 0L && kind > 74)
-                kind = 74;
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 431;
               break;
             case 431:
               if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 432;
+                jjstateSet[jjnewStateCnt++] = 432;
               break;
             case 432:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 433;
-                  break;
-               case 433:
-                  if ((0x8000000080000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L && kind > 59)
+                kind = 59;
+              break;
+            case 433:
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 434;
-                 break;
+              break;
             case 434:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 435;
               break;
             case 435:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 436;
               break;
             case 436:
-                  if ((0x8000000080000L & l) != 0L && kind > 76)
-                    kind = 76;
+              if ((0x8000000080000L & l) != 0L && kind > 74)
+                kind = 74;
               break;
             case 437:
-                  if ((0x100000001000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 438;
               break;
             case 438:
-              if ((0x20000000200000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 439;
-              break;
-            case 439:
-              if ((0x8000000080000L & l) != 0L)
+                  break;
+               case 439:
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 440;
-              break;
+                 break;
             case 440:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 441;
               break;
             case 441:
               if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 442;
+                jjstateSet[jjnewStateCnt++] = 442;
               break;
             case 442:
-              if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 443;
+                  if ((0x8000000080000L & l) != 0L && kind > 76)
+                    kind = 76;
               break;
             case 443:
-              if ((0x8000000080000L & l) != 0L && kind > 89)
-                kind = 89;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 444;
               break;
             case 444:
               if ((0x20000000200000L & l) != 0L)
@@ -3315,16 +3316,16 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 447;
               break;
             case 447:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 448;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 448;
               break;
             case 448:
-              if ((0x200000002000L & l) != 0L && kind > 97)
-                kind = 97;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 449;
               break;
             case 449:
-              if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 450;
+              if ((0x8000000080000L & l) != 0L && kind > 89)
+                kind = 89;
               break;
             case 450:
               if ((0x20000000200000L & l) != 0L)
@@ -3339,27 +3340,27 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 453;
               break;
             case 453:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 454;
+              if ((0x800000008000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 454;
               break;
             case 454:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 455;
+              if ((0x200000002000L & l) != 0L && kind > 97)
+                kind = 97;
               break;
             case 455:
-              if (curChar == 95)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 456;
               break;
             case 456:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 457;
-                  break;
-               case 457:
-                  if ((0x2000000020L & l) != 0L)
+              break;
+            case 457:
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 458;
-                 break;
+              break;
             case 458:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 459;
               break;
             case 459:
@@ -3367,207 +3368,207 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 460;
               break;
             case 460:
-              if ((0x800000008L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 461;
               break;
             case 461:
-              if ((0x10000000100000L & l) != 0L)
+              if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 462;
               break;
             case 462:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 463;
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 463;
                   break;
                case 463:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 464;
                  break;
             case 464:
-              if ((0x400000004000L & l) != 0L && kind > 98)
-                kind = 98;
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 465;
               break;
             case 465:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 466;
               break;
             case 466:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 467;
               break;
             case 467:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 468;
               break;
             case 468:
-              if ((0x200000002L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 469;
-              break;
-            case 469:
-              if ((0x10000000100000L & l) != 0L)
+                  break;
+               case 469:
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 470;
-              break;
+                 break;
             case 470:
-              if ((0x2000000020L & l) != 0L && kind > 105)
-                kind = 105;
+              if ((0x400000004000L & l) != 0L && kind > 98)
+                kind = 98;
               break;
             case 471:
               if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 472;
               break;
             case 472:
-              if ((0x200000002000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 473;
               break;
             case 473:
-              if ((0x200000002000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 474;
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 474;
               break;
             case 474:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 475;
+              if ((0x200000002L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 475;
               break;
             case 475:
-              if ((0x10000000100000L & l) != 0L && kind > 126)
-                kind = 126;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 476;
               break;
             case 476:
-              if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 477;
+              if ((0x2000000020L & l) != 0L && kind > 105)
+                kind = 105;
               break;
             case 477:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 478;
               break;
             case 478:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 479;
               break;
             case 479:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 480;
+              if ((0x200000002000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 480;
               break;
             case 480:
-              if ((0x400000004000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 481;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 481;
               break;
             case 481:
-              if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 482;
+              if ((0x10000000100000L & l) != 0L && kind > 127)
+                kind = 127;
               break;
             case 482:
-              if ((0x2000000020L & l) != 0L && kind > 130)
-                kind = 130;
+              if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 483;
               break;
             case 483:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 484;
               break;
             case 484:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 485;
               break;
             case 485:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 486;
               break;
             case 486:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 487;
               break;
             case 487:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 488;
               break;
             case 488:
-              if ((0x2000000020L & l) != 0L && kind > 133)
-                kind = 133;
+              if ((0x2000000020L & l) != 0L && kind > 131)
+                kind = 131;
               break;
             case 489:
               if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 490;
               break;
             case 490:
-              if ((0x20000000200000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 491;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 491;
               break;
             case 491:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 492;
               break;
             case 492:
-              if ((0x10000000100000L & l) != 0L && kind > 140)
-                kind = 140;
+              if ((0x800000008000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 493;
               break;
             case 493:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 494;
               break;
             case 494:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 495;
+              if ((0x2000000020L & l) != 0L && kind > 134)
+                kind = 134;
               break;
             case 495:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 496;
               break;
             case 496:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 497;
+              if ((0x20000000200000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 497;
               break;
             case 497:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 498;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 498;
               break;
             case 498:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 499;
+              if ((0x10000000100000L & l) != 0L && kind > 141)
+                kind = 141;
               break;
             case 499:
-              if ((0x8000000080000L & l) != 0L && kind > 244)
-                kind = 244;
+              if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 500;
               break;
             case 500:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 501;
               break;
             case 501:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 502;
               break;
             case 502:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 503;
               break;
             case 503:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 504;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 504;
               break;
             case 504:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 505;
               break;
             case 505:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 506;
+              if ((0x8000000080000L & l) != 0L && kind > 245)
+                kind = 245;
               break;
             case 506:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 507;
               break;
             case 507:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 508;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 508;
               break;
             case 508:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 509;
               break;
             case 509:
-              if ((0x100000001000L & l) != 0L && kind > 245)
-                kind = 245;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 510;
               break;
             case 510:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 511;
               break;
             case 511:
@@ -3575,39 +3576,39 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 512;
               break;
             case 512:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 513;
               break;
             case 513:
               if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 514;
+                jjstateSet[jjnewStateCnt++] = 514;
               break;
             case 514:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 515;
               break;
             case 515:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 516;
+              if ((0x100000001000L & l) != 0L && kind > 246)
+                kind = 246;
               break;
             case 516:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 517;
               break;
             case 517:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 518;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 518;
               break;
             case 518:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 519;
               break;
             case 519:
-              if ((0x200000002000000L & l) != 0L && kind > 246)
-                kind = 246;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 520;
               break;
             case 520:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 521;
               break;
             case 521:
@@ -3615,39 +3616,39 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 522;
               break;
             case 522:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 523;
               break;
             case 523:
               if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 524;
+                jjstateSet[jjnewStateCnt++] = 524;
               break;
             case 524:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 525;
               break;
             case 525:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 526;
+              if ((0x200000002000000L & l) != 0L && kind > 247)
+                kind = 247;
               break;
             case 526:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 527;
               break;
             case 527:
-              if ((0x80000000800L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 528;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 528;
               break;
             case 528:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 529;
               break;
             case 529:
-              if ((0x200000002000000L & l) != 0L && kind > 247)
-                kind = 247;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 530;
               break;
             case 530:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 531;
               break;
             case 531:
@@ -3655,112 +3656,112 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 532;
               break;
             case 532:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 533;
               break;
             case 533:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 534;
+              if ((0x80000000800L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 534;
               break;
             case 534:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 535;
               break;
             case 535:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 536;
+              if ((0x200000002000000L & l) != 0L && kind > 248)
+                kind = 248;
               break;
             case 536:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 537;
               break;
             case 537:
-              if ((0x40000000400000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 538;
               break;
             case 538:
-              if ((0x200000002L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 539;
               break;
             case 539:
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 540;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 540;
               break;
             case 540:
-              if ((0x20000000200000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 541;
               break;
             case 541:
-              if ((0x2000000020L & l) != 0L && kind > 248)
-                kind = 248;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 542;
               break;
             case 542:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 543;
               break;
             case 543:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 544;
               break;
             case 544:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 545;
               break;
             case 545:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 546;
+              if ((0x100000001000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 546;
               break;
             case 546:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 547;
               break;
             case 547:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 548;
+              if ((0x2000000020L & l) != 0L && kind > 249)
+                kind = 249;
               break;
             case 548:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 549;
               break;
             case 549:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 550;
               break;
             case 550:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 551;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 551;
               break;
             case 551:
-              if ((0x100000001000000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 552;
               break;
             case 552:
-              if ((0x10000000100000L & l) != 0L && kind > 249)
-                kind = 249;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 553;
               break;
             case 553:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 554;
               break;
             case 554:
-              if ((0x20000000200000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 555;
               break;
             case 555:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 556;
               break;
             case 556:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 557;
               break;
             case 557:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 558;
               break;
             case 558:
-              if ((0x4000000040000L & l) != 0L && kind > 253)
-                kind = 253;
+              if ((0x10000000100000L & l) != 0L && kind > 250)
+                kind = 250;
               break;
             case 559:
               if ((0x100000001000L & l) != 0L)
@@ -3776,577 +3777,577 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
               break;
             case 562:
               if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 563;
+                jjstateSet[jjnewStateCnt++] = 563;
               break;
             case 563:
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 564;
+                     jjstateSet[jjnewStateCnt++] = 564;
               break;
             case 564:
-              if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 565;
+              if ((0x4000000040000L & l) != 0L && kind > 254)
+                kind = 254;
+              break;
+            case 565:
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 566;
               break;
             case 566:
+              if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 567;
+              break;
             case 567:
-              if ((0x7fffffe87fffffeL & l) == 0L)
-                break;
-              if (kind > 260)
-                kind = 260;
-              jjCheckNAdd(567);
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 568;
               break;
             case 568:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 569;
               break;
             case 569:
-              if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 570;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 570;
               break;
             case 570:
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 571;
+              break;
+            case 572:
+            case 573:
+              if ((0x7fffffe87fffffeL & l) == 0L)
+                break;
+              if (kind > 261)
+                kind = 261;
+              jjCheckNAdd(573);
+              break;
+            case 574:
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 575;
+              break;
+            case 575:
+              if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 576;
+              break;
+            case 576:
               if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 571;
+                     jjstateSet[jjnewStateCnt++] = 577;
               break;
-            case 571:
+            case 577:
               if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 572;
+                     jjstateSet[jjnewStateCnt++] = 578;
               break;
-            case 572:
+            case 578:
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 573;
+                jjstateSet[jjnewStateCnt++] = 579;
               break;
-            case 573:
+            case 579:
               if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 574;
+                jjstateSet[jjnewStateCnt++] = 580;
               break;
-            case 577:
-              if ((0x100000001000L & l) != 0L && kind > 261)
-                kind = 261;
+            case 583:
+              if ((0x100000001000L & l) != 0L && kind > 262)
+                kind = 262;
               break;
-            case 579:
+            case 585:
               if ((0x100000001000000L & l) != 0L)
-                jjCheckNAdd(580);
+                jjCheckNAdd(586);
               break;
-            case 580:
+            case 586:
               if ((0x7e0000007eL & l) == 0L)
                 break;
-              if (kind > 261)
-                kind = 261;
-              jjCheckNAddTwoStates(580, 577);
+              if (kind > 262)
+                kind = 262;
+              jjCheckNAddTwoStates(586, 583);
               break;
-            case 582:
+            case 588:
               if ((0x1000000010L & l) != 0L)
                 jjAddStates(217, 226);
                   break;
-               case 583:
+               case 589:
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 584;
+                     jjstateSet[jjnewStateCnt++] = 590;
                  break;
-            case 584:
+            case 590:
               if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 585;
+                     jjstateSet[jjnewStateCnt++] = 591;
               break;
-            case 585:
+            case 591:
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 586;
+                jjstateSet[jjnewStateCnt++] = 592;
               break;
-            case 586:
+            case 592:
               if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 587;
+                     jjstateSet[jjnewStateCnt++] = 593;
               break;
-            case 587:
+            case 593:
               if ((0x2000000020L & l) != 0L && kind > 16)
                 kind = 16;
               break;
-            case 588:
+            case 594:
               if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 589;
+                     jjstateSet[jjnewStateCnt++] = 595;
               break;
-            case 589:
+            case 595:
               if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 590;
+                     jjstateSet[jjnewStateCnt++] = 596;
               break;
-            case 590:
+            case 596:
               if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 591;
+                     jjstateSet[jjnewStateCnt++] = 597;
               break;
-            case 591:
+            case 597:
               if ((0x400000004000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 592;
+                jjstateSet[jjnewStateCnt++] = 598;
                   break;
-               case 592:
+               case 598:
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 593;
+                     jjstateSet[jjnewStateCnt++] = 599;
                  break;
-            case 593:
+            case 599:
               if ((0x1000000010L & l) != 0L && kind > 38)
                 kind = 38;
               break;
-            case 594:
+            case 600:
               if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 595;
+                jjstateSet[jjnewStateCnt++] = 601;
               break;
-            case 595:
+            case 601:
               if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 596;
+                     jjstateSet[jjnewStateCnt++] = 602;
               break;
-            case 596:
+            case 602:
               if ((0x800000008L & l) != 0L && kind > 49)
                 kind = 49;
               break;
-            case 597:
+            case 603:
               if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 598;
+                     jjstateSet[jjnewStateCnt++] = 604;
               break;
-            case 598:
+            case 604:
               if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 599;
+                     jjstateSet[jjnewStateCnt++] = 605;
               break;
-            case 599:
+            case 605:
               if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 600;
+                     jjstateSet[jjnewStateCnt++] = 606;
               break;
-            case 600:
+            case 606:
               if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 601;
+                     jjstateSet[jjnewStateCnt++] = 607;
               break;
-            case 601:
+            case 607:
               if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 602;
+                     jjstateSet[jjnewStateCnt++] = 608;
               break;
-            case 602:
+            case 608:
               if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 603;
+                     jjstateSet[jjnewStateCnt++] = 609;
               break;
-            case 603:
+            case 609:
               if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 604;
+                     jjstateSet[jjnewStateCnt++] = 610;
               break;
-            case 604:
+            case 610:
               if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 605;
+                jjstateSet[jjnewStateCnt++] = 611;
               break;
-            case 605:
+            case 611:
               if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 606;
+                     jjstateSet[jjnewStateCnt++] = 612;
               break;
-            case 606:
+            case 612:
               if ((0x10000000100000L & l) != 0L && kind > 66)
                 kind = 66;
               break;
-            case 607:
+            case 613:
               if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 608;
+                     jjstateSet[jjnewStateCnt++] = 614;
               break;
-            case 608:
+            case 614:
               if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 609;
+                     jjstateSet[jjnewStateCnt++] = 615;
               break;
-            case 609:
+            case 615:
               if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 610;
+                     jjstateSet[jjnewStateCnt++] = 616;
               break;
-            case 610:
+            case 616:
               if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 611;
+                     jjstateSet[jjnewStateCnt++] = 617;
               break;
-            case 611:
+            case 617:
               if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 612;
+                     jjstateSet[jjnewStateCnt++] = 618;
               break;
-            case 612:
+            case 618:
               if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 613;
+                     jjstateSet[jjnewStateCnt++] = 619;
               break;
-            case 613:
+            case 619:
               if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 614;
+                     jjstateSet[jjnewStateCnt++] = 620;
               break;
-            case 614:
+            case 620:
               if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 615;
+                jjstateSet[jjnewStateCnt++] = 621;
               break;
-            case 615:
+            case 621:
               if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 616;
+                     jjstateSet[jjnewStateCnt++] = 622;
               break;
-            case 616:
+            case 622:
               if ((0x400000004000L & l) != 0L && kind > 99)
                 kind = 99;
               break;
-            case 617:
+            case 623:
               if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 618;
+                jjstateSet[jjnewStateCnt++] = 624;
               break;
-            case 618:
+            case 624:
               if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 619;
+                     jjstateSet[jjnewStateCnt++] = 625;
               break;
-            case 619:
+            case 625:
               if ((0x1000000010000L & l) != 0L && kind > 100)
                 kind = 100;
                   break;
-               case 620:
+               case 626:
                   if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 621;
+                     jjstateSet[jjnewStateCnt++] = 627;
                  break;
-            case 621:
+            case 627:
               if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 622;
+                     jjstateSet[jjnewStateCnt++] = 628;
                   break;
-               case 622:
+               case 628:
                   if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 623;
-                 break;
-            case 623:
-              if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 624;
-              break;
-            case 624:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 625;
-              break;
-            case 625:
-              if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 626;
-              break;
-            case 626:
-              if ((0x2000000020L & l) != 0L && kind > 109)
-                kind = 109;
-              break;
-            case 627:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 628;
-              break;
-            case 628:
-              if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 629;
-              break;
+                 break;
             case 629:
-              if ((0x200000002L & l) != 0L)
+              if ((0x400000004L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 630;
               break;
             case 630:
-              if ((0x20000000200000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 631;
               break;
             case 631:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 632;
               break;
             case 632:
-              if ((0x10000000100000L & l) != 0L && kind > 136)
-                kind = 136;
+              if ((0x2000000020L & l) != 0L && kind > 110)
+                kind = 110;
               break;
             case 633:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 634;
               break;
             case 634:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 635;
               break;
             case 635:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 636;
               break;
             case 636:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 637;
+              if ((0x20000000200000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 637;
               break;
             case 637:
-              if ((0x400000004000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 638;
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 638;
               break;
             case 638:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 639;
+              if ((0x10000000100000L & l) != 0L && kind > 137)
+                kind = 137;
               break;
             case 639:
-              if ((0x10000000100000L & l) != 0L && kind > 141)
-                kind = 141;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 640;
               break;
             case 640:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 641;
               break;
             case 641:
-              if ((0x1000000010000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 642;
               break;
             case 642:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 643;
               break;
             case 643:
-              if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 644;
+              if ((0x400000004000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 644;
               break;
             case 644:
-              if ((0x200000002L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 645;
               break;
             case 645:
-              if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 646;
+              if ((0x10000000100000L & l) != 0L && kind > 142)
+                kind = 142;
               break;
             case 646:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 647;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 647;
               break;
             case 647:
-              if ((0x200000002L & l) != 0L)
+              if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 648;
               break;
             case 648:
-              if ((0x8000000080000L & l) != 0L && kind > 149)
-                kind = 149;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 649;
               break;
             case 649:
-              if ((0x40000000400000L & l) != 0L)
-                jjAddStates(214, 216);
+              if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 650;
               break;
             case 650:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 651;
               break;
             case 651:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 652;
+              break;
+            case 652:
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 653;
+              break;
+            case 653:
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 654;
+              break;
+            case 654:
+              if ((0x8000000080000L & l) != 0L && kind > 150)
+                kind = 150;
+              break;
+            case 655:
+              if ((0x40000000400000L & l) != 0L)
+                jjAddStates(214, 216);
+              break;
+            case 656:
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 657;
+              break;
+            case 657:
+              if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 658;
                   break;
-               case 652:
+               case 658:
                   if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 653;
+                     jjstateSet[jjnewStateCnt++] = 659;
                  break;
-            case 653:
+            case 659:
               if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 654;
+                     jjstateSet[jjnewStateCnt++] = 660;
               break;
-            case 654:
+            case 660:
               if ((0x100000001000000L & l) != 0L && kind > 17)
                 kind = 17;
               break;
-            case 655:
+            case 661:
               if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 656;
+                     jjstateSet[jjnewStateCnt++] = 662;
               break;
-            case 656:
+            case 662:
               if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 657;
+                     jjstateSet[jjnewStateCnt++] = 663;
               break;
-            case 657:
+            case 663:
               if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 658;
+                     jjstateSet[jjnewStateCnt++] = 664;
               break;
-            case 658:
+            case 664:
               if ((0x2000000020L & l) != 0L && kind > 26)
                 kind = 26;
               break;
-            case 659:
+            case 665:
               if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 660;
+                jjstateSet[jjnewStateCnt++] = 666;
               break;
-            case 660:
+            case 666:
               if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 661;
+                jjstateSet[jjnewStateCnt++] = 667;
               break;
-            case 661:
+            case 667:
               if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 662;
+                     jjstateSet[jjnewStateCnt++] = 668;
               break;
-            case 662:
+            case 668:
               if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 663;
+                     jjstateSet[jjnewStateCnt++] = 669;
               break;
-            case 663:
+            case 669:
               if ((0x8000000080000L & l) != 0L && kind > 27)
                 kind = 27;
                   break;
-               case 664:
+               case 670:
                   if ((0x2000000020L & l) != 0L)
                     jjAddStates(206, 213);
                  break;
-            case 665:
+            case 671:
               if ((0x1000000010L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 666;
+                jjstateSet[jjnewStateCnt++] = 672;
               break;
-            case 666:
+            case 672:
               if ((0x8000000080L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 667;
+                     jjstateSet[jjnewStateCnt++] = 673;
               break;
-            case 667:
+            case 673:
               if ((0x2000000020L & l) != 0L && kind > 18)
                 kind = 18;
               break;
-            case 668:
+            case 674:
               if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 669;
+                     jjstateSet[jjnewStateCnt++] = 675;
               break;
-            case 669:
+            case 675:
               if ((0x800000008L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 670;
+                jjstateSet[jjnewStateCnt++] = 676;
               break;
-            case 670:
+            case 676:
               if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 671;
+                     jjstateSet[jjnewStateCnt++] = 677;
               break;
-            case 671:
+            case 677:
               if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 672;
+                     jjstateSet[jjnewStateCnt++] = 678;
               break;
-            case 672:
+            case 678:
               if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 673;
+                     jjstateSet[jjnewStateCnt++] = 679;
               break;
-            case 673:
+            case 679:
               if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 674;
+                     jjstateSet[jjnewStateCnt++] = 680;
               break;
-            case 674:
+            case 680:
               if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 675;
+                jjstateSet[jjnewStateCnt++] = 681;
               break;
-            case 675:
+            case 681:
               if ((0x400000004000L & l) != 0L && kind > 79)
                 kind = 79;
               break;
-            case 676:
+            case 682:
               if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 677;
+                     jjstateSet[jjnewStateCnt++] = 683;
               break;
-            case 677:
+            case 683:
               if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 678;
+                jjstateSet[jjnewStateCnt++] = 684;
                   break;
-               case 678:
+               case 684:
                   if ((0x2000000020L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 679;
+                    jjstateSet[jjnewStateCnt++] = 685;
                  break;
-            case 679:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 680;
-              break;
-            case 680:
-              if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 681;
-              break;
-            case 681:
-              if ((0x8000000080000L & l) != 0L && kind > 88)
-                kind = 88;
-              break;
-            case 682:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 683;
-                  break;
-            case 683:
-              if ((0x8000000080L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 684;
-              break;
-            case 684:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 685;
-              break;
             case 685:
               if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 686;
               break;
             case 686:
-              if ((0x2000000020L & l) != 0L && kind > 106)
-                kind = 106;
+              if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 687;
               break;
             case 687:
-              if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 688;
+              if ((0x8000000080000L & l) != 0L && kind > 88)
+                kind = 88;
               break;
             case 688:
-              if ((0x1000000010000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 689;
-              break;
+                  break;
             case 689:
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 690;
+              if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 690;
               break;
             case 690:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 691;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 691;
               break;
             case 691:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 692;
               break;
             case 692:
-              if ((0x400000004000L & l) != 0L && kind > 114)
-                kind = 114;
+              if ((0x2000000020L & l) != 0L && kind > 106)
+                kind = 106;
               break;
             case 693:
               if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 694;
               break;
             case 694:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 695;
               break;
             case 695:
-              if ((0x800000008L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 696;
               break;
             case 696:
-              if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 697;
+              if ((0x200000002L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 697;
               break;
             case 697:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 698;
               break;
             case 698:
-              if ((0x2000000020L & l) != 0L && kind > 118)
-                kind = 118;
+              if ((0x400000004000L & l) != 0L && kind > 115)
+                kind = 115;
               break;
             case 699:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 700;
               break;
             case 700:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 701;
               break;
             case 701:
-              if ((0x2000000020L & l) != 0L && kind > 129)
-                kind = 129;
+              if ((0x800000008L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 702;
               break;
             case 702:
-              if ((0x100000001000000L & l) != 0L)
+              if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 703;
               break;
             case 703:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 704;
               break;
             case 704:
-              if ((0x8000000080000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 705;
+              if ((0x2000000020L & l) != 0L && kind > 119)
+                kind = 119;
               break;
             case 705:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 706;
               break;
             case 706:
-              if ((0x8000000080000L & l) != 0L && kind > 146)
-                kind = 146;
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 707;
               break;
             case 707:
-              if ((0x20000000200000L & l) != 0L)
-                jjAddStates(199, 205);
+              if ((0x2000000020L & l) != 0L && kind > 130)
+                kind = 130;
               break;
             case 708:
-              if ((0x1000000010000L & l) != 0L)
+              if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 709;
               break;
             case 709:
-              if ((0x1000000010L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 710;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 710;
               break;
             case 710:
-              if ((0x200000002L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 711;
               break;
             case 711:
@@ -4354,943 +4355,947 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 712;
               break;
             case 712:
-              if ((0x2000000020L & l) != 0L && kind > 19)
-                kind = 19;
+              if ((0x8000000080000L & l) != 0L && kind > 147)
+                kind = 147;
               break;
             case 713:
-              if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 714;
+              if ((0x20000000200000L & l) != 0L)
+                jjAddStates(199, 205);
               break;
             case 714:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 715;
               break;
             case 715:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 716;
               break;
             case 716:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 717;
               break;
             case 717:
-              if ((0x10000000100000L & l) != 0L && kind > 20)
-                kind = 20;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 718;
               break;
             case 718:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 719;
+              if ((0x2000000020L & l) != 0L && kind > 19)
+                kind = 19;
               break;
             case 719:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 720;
-                  break;
+              break;
             case 720:
-              if ((0x200000002L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 721;
               break;
             case 721:
-              if ((0x4000000040L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 722;
               break;
             case 722:
-              if ((0x2000000020L & l) != 0L && kind > 63)
-                kind = 63;
-                  break;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 723;
+              break;
             case 723:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 724;
+              if ((0x10000000100000L & l) != 0L && kind > 20)
+                kind = 20;
               break;
             case 724:
-              if ((0x80000000800000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 725;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 725;
               break;
             case 725:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 726;
-              break;
+                  break;
             case 726:
-              if ((0x400000004000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 727;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 727;
               break;
             case 727:
-              if ((0x1000000010L & l) != 0L && kind > 71)
-                kind = 71;
+              if ((0x4000000040L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 728;
               break;
             case 728:
-              if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 729;
-              break;
+              if ((0x2000000020L & l) != 0L && kind > 63)
+                kind = 63;
+                  break;
             case 729:
-              if ((0x1000000010L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 730;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 730;
               break;
             case 730:
-              if ((0x200000002L & l) != 0L)
+              if ((0x80000000800000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 731;
               break;
             case 731:
-              if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 732;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 732;
               break;
             case 732:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 733;
+              if ((0x400000004000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 733;
               break;
             case 733:
-              if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 734;
+              if ((0x1000000010L & l) != 0L && kind > 71)
+                kind = 71;
               break;
             case 734:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 735;
               break;
             case 735:
-              if ((0x2000000020L & l) != 0L && kind > 78)
-                kind = 78;
+              if ((0x1000000010L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 736;
               break;
             case 736:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 737;
               break;
             case 737:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 738;
+              if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 738;
               break;
             case 738:
-              if ((0x4000000040000L & l) != 0L && kind > 153)
-                kind = 153;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 739;
               break;
             case 739:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x400000004L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 740;
               break;
             case 740:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 741;
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 741;
               break;
             case 741:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 742;
+              if ((0x2000000020L & l) != 0L && kind > 78)
+                kind = 78;
               break;
             case 742:
-              if ((0x8000000080000L & l) != 0L && kind > 154)
-                kind = 154;
+              if ((0x8000000080000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 743;
               break;
             case 743:
-              if ((0x4000000040L & l) != 0L)
-                jjAddStates(191, 198);
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 744;
               break;
             case 744:
-              if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 745;
+              if ((0x4000000040000L & l) != 0L && kind > 154)
+                kind = 154;
               break;
             case 745:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 746;
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 746;
               break;
             case 746:
-              if ((0x200000002000L & l) != 0L && kind > 21)
-                kind = 21;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 747;
               break;
             case 747:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 748;
+              if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 748;
               break;
             case 748:
-              if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 749;
+              if ((0x8000000080000L & l) != 0L && kind > 155)
+                kind = 155;
               break;
             case 749:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 750;
+              if ((0x4000000040L & l) != 0L)
+                jjAddStates(191, 198);
               break;
             case 750:
-              if ((0x10000000100L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 751;
               break;
             case 751:
-              if ((0x1000000010000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 752;
               break;
             case 752:
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 753;
+              if ((0x200000002000L & l) != 0L && kind > 21)
+                kind = 21;
               break;
             case 753:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 754;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 754;
               break;
             case 754:
-              if ((0x400000004000L & l) != 0L && kind > 50)
-                kind = 50;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 755;
               break;
             case 755:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 756;
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 756;
               break;
             case 756:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 757;
+              if ((0x10000000100L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 757;
               break;
             case 757:
-              if ((0x1000000010L & l) != 0L && kind > 86)
-                kind = 86;
+              if ((0x1000000010000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 758;
               break;
             case 758:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 759;
               break;
             case 759:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 760;
               break;
             case 760:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 761;
+              if ((0x400000004000L & l) != 0L && kind > 50)
+                kind = 50;
               break;
             case 761:
-              if ((0x2000000020L & l) != 0L && kind > 102)
-                kind = 102;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 762;
               break;
             case 762:
-              if ((0x20000000200000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 763;
               break;
             case 763:
-              if ((0x400000004000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 764;
+              if ((0x1000000010L & l) != 0L && kind > 86)
+                kind = 86;
               break;
             case 764:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 765;
+              if ((0x800000008000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 765;
               break;
             case 765:
-              if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 766;
+              if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 766;
               break;
             case 766:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 767;
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 767;
               break;
             case 767:
-              if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 768;
+              if ((0x2000000020L & l) != 0L && kind > 102)
+                kind = 102;
               break;
             case 768:
-              if ((0x400000004000L & l) != 0L && kind > 121)
-                kind = 121;
+              if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 769;
               break;
             case 769:
-              if ((0x200000002L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 770;
               break;
             case 770:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 771;
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 771;
               break;
             case 771:
-              if ((0x100000001000L & l) != 0L && kind > 131)
-                kind = 131;
+              if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 772;
               break;
             case 772:
-              if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 773;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 773;
               break;
             case 773:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 774;
               break;
             case 774:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 775;
+              if ((0x400000004000L & l) != 0L && kind > 122)
+                kind = 122;
               break;
             case 775:
               if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 776;
+                jjstateSet[jjnewStateCnt++] = 776;
               break;
             case 776:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 777;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 777;
               break;
             case 777:
-              if ((0x10000000100L & l) != 0L && kind > 147)
-                kind = 147;
+              if ((0x100000001000L & l) != 0L && kind > 132)
+                kind = 132;
               break;
             case 778:
-              if ((0x200000002L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 779;
               break;
             case 779:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 780;
               break;
             case 780:
-              if ((0x8000000080000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 781;
-                  break;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 781;
+              break;
             case 781:
-              if ((0x2000000020L & l) != 0L && kind > 185)
-                kind = 185;
-                  break;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 782;
+              break;
             case 782:
-              if ((0x80000000800000L & l) != 0L)
-                jjAddStates(187, 190);
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 783;
               break;
             case 783:
-              if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 784;
+              if ((0x10000000100L & l) != 0L && kind > 148)
+                kind = 148;
               break;
             case 784:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 785;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 785;
               break;
             case 785:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 786;
               break;
             case 786:
-              if ((0x2000000020L & l) != 0L && kind > 23)
-                kind = 23;
-              break;
+              if ((0x8000000080000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 787;
+                  break;
             case 787:
-              if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 788;
-              break;
+              if ((0x2000000020L & l) != 0L && kind > 186)
+                kind = 186;
+                  break;
             case 788:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 789;
+              if ((0x80000000800000L & l) != 0L)
+                jjAddStates(187, 190);
               break;
             case 789:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 790;
               break;
             case 790:
-              if ((0x2000000020L & l) != 0L && kind > 24)
-                kind = 24;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 791;
               break;
             case 791:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 792;
+              if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 792;
               break;
             case 792:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 793;
+              if ((0x2000000020L & l) != 0L && kind > 23)
+                kind = 23;
               break;
             case 793:
-              if ((0x10000000100000L & l) != 0L && kind > 55)
-                kind = 55;
+              if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 794;
               break;
             case 794:
               if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 795;
+                     jjstateSet[jjnewStateCnt++] = 795;
               break;
             case 795:
-              if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 796;
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 796;
               break;
             case 796:
-              if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 797;
+              if ((0x2000000020L & l) != 0L && kind > 24)
+                kind = 24;
               break;
             case 797:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 798;
+              if ((0x200000002L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 798;
               break;
             case 798:
-              if ((0x400000004000L & l) != 0L && kind > 70)
-                kind = 70;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 799;
               break;
             case 799:
-              if ((0x200000002L & l) != 0L)
-                jjAddStates(178, 186);
+              if ((0x10000000100000L & l) != 0L && kind > 55)
+                kind = 55;
               break;
             case 800:
-              if ((0x1000000010L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 801;
               break;
             case 801:
-              if ((0x1000000010L & l) != 0L && kind > 29)
-                kind = 29;
+              if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 802;
               break;
             case 802:
-              if ((0x400000004000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 803;
+              if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 803;
               break;
             case 803:
-              if ((0x1000000010L & l) != 0L && kind > 35)
-                kind = 35;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 804;
               break;
             case 804:
-              if ((0x8000000080000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 805;
+              if ((0x400000004000L & l) != 0L && kind > 70)
+                kind = 70;
               break;
             case 805:
-              if ((0x800000008L & l) != 0L && kind > 47)
-                kind = 47;
+              if ((0x200000002L & l) != 0L)
+                jjAddStates(178, 186);
               break;
             case 806:
-              if ((0x8000000080000L & l) != 0L && kind > 48)
-                kind = 48;
+              if ((0x1000000010L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 807;
               break;
             case 807:
-              if ((0x4000000040L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 808;
+              if ((0x1000000010L & l) != 0L && kind > 29)
+                kind = 29;
               break;
             case 808:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 809;
               break;
             case 809:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 810;
+              if ((0x1000000010L & l) != 0L && kind > 35)
+                kind = 35;
               break;
             case 810:
-              if ((0x4000000040000L & l) != 0L && kind > 53)
-                kind = 53;
+              if ((0x8000000080000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 811;
               break;
             case 811:
-              if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 812;
+              if ((0x800000008L & l) != 0L && kind > 47)
+                kind = 47;
               break;
             case 812:
-              if ((0x8000000080000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 813;
+              if ((0x8000000080000L & l) != 0L && kind > 48)
+                kind = 48;
               break;
             case 813:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x4000000040L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 814;
               break;
             case 814:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 815;
               break;
             case 815:
-              if ((0x200000002L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 816;
               break;
             case 816:
-              if ((0x800000008L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 817;
+              if ((0x4000000040000L & l) != 0L && kind > 53)
+                kind = 53;
               break;
             case 817:
-              if ((0x10000000100000L & l) != 0L && kind > 90)
-                kind = 90;
+              if ((0x400000004L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 818;
               break;
             case 818:
-              if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 819;
+              if ((0x8000000080000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 819;
               break;
             case 819:
               if ((0x10000000100000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 820;
               break;
             case 820:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 821;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 821;
               break;
             case 821:
-              if ((0x4000000040000L & l) != 0L && kind > 91)
-                kind = 91;
+              if ((0x200000002L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 822;
               break;
             case 822:
-              if ((0x1000000010L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 823;
               break;
             case 823:
-              if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 824;
+              if ((0x10000000100000L & l) != 0L && kind > 90)
+                kind = 90;
               break;
             case 824:
-              if (curChar == 95)
-                jjstateSet[jjnewStateCnt++] = 825;
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 825;
               break;
             case 825:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 826;
+              if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 826;
               break;
             case 826:
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 827;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 827;
               break;
             case 827:
-              if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 828;
+              if ((0x4000000040000L & l) != 0L && kind > 91)
+                kind = 91;
               break;
             case 828:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 829;
               break;
             case 829:
-              if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 830;
+              if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 830;
               break;
             case 830:
-              if ((0x2000000020L & l) != 0L)
+              if (curChar == 95)
                 jjstateSet[jjnewStateCnt++] = 831;
               break;
             case 831:
-              if ((0x4000000040000L & l) != 0L && kind > 95)
-                kind = 95;
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 832;
               break;
             case 832:
               if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 833;
+                jjstateSet[jjnewStateCnt++] = 833;
               break;
             case 833:
-              if ((0x100000001000L & l) != 0L && kind > 119)
-                kind = 119;
+              if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 834;
               break;
             case 834:
-              if ((0x1000000010000L & l) != 0L)
-                jjAddStates(170, 177);
+              if ((0x8000000080000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 835;
               break;
             case 835:
-              if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 836;
+              if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 836;
               break;
             case 836:
-              if ((0x10000000100000L & l) != 0L && kind > 30)
-                kind = 30;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 837;
               break;
             case 837:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 838;
+              if ((0x4000000040000L & l) != 0L && kind > 95)
+                kind = 95;
               break;
             case 838:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 839;
               break;
             case 839:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 840;
+              if ((0x100000001000L & l) != 0L && kind > 120)
+                kind = 120;
+              break;
+            case 840:
+              if ((0x1000000010000L & l) != 0L)
+                jjAddStates(170, 177);
               break;
-            case 840:
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 841;
-                  break;
-               case 841:
-                  if ((0x100000001000L & l) != 0L)
+            case 841:
+              if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 842;
-                 break;
+              break;
             case 842:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 843;
+              if ((0x10000000100000L & l) != 0L && kind > 30)
+                kind = 30;
               break;
             case 843:
-              if ((0x100000001000L & l) != 0L && kind > 64)
-                kind = 64;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 844;
               break;
             case 844:
               if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 845;
+                     jjstateSet[jjnewStateCnt++] = 845;
               break;
             case 845:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 846;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 846;
               break;
             case 846:
-              if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 847;
-              break;
-            case 847:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 847;
+                  break;
+               case 847:
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 848;
-              break;
+                 break;
             case 848:
-              if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 849;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 849;
               break;
             case 849:
-              if ((0x2000000020L & l) != 0L && kind > 80)
-                kind = 80;
+              if ((0x100000001000L & l) != 0L && kind > 64)
+                kind = 64;
               break;
             case 850:
-              if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 851;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 851;
               break;
             case 851:
-              if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 852;
+              if ((0x800000008000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 852;
               break;
             case 852:
-              if ((0x200000002000000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 853;
+              if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 853;
               break;
             case 853:
-              if ((0x200000002000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 854;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 854;
               break;
             case 854:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 855;
               break;
             case 855:
-              if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 856;
+              if ((0x2000000020L & l) != 0L && kind > 80)
+                kind = 80;
               break;
             case 856:
-              if ((0x1000000010000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 857;
+              if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 857;
               break;
             case 857:
-              if ((0x10000000100L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 858;
               break;
             case 858:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x200000002000000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 859;
               break;
             case 859:
-              if ((0x800000008L & l) != 0L && kind > 85)
-                kind = 85;
+              if ((0x200000002000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 860;
               break;
             case 860:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 861;
               break;
             case 861:
-              if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 862;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 862;
               break;
             case 862:
               if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 863;
+                jjstateSet[jjnewStateCnt++] = 863;
               break;
             case 863:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 864;
               break;
             case 864:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 865;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 865;
               break;
             case 865:
-              if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 866;
+              if ((0x800000008L & l) != 0L && kind > 85)
+                kind = 85;
               break;
             case 866:
-              if ((0x200000002000000L & l) != 0L && kind > 101)
-                kind = 101;
+              if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 867;
               break;
             case 867:
-              if ((0x200000002L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 868;
               break;
             case 868:
-              if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 869;
+              if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 869;
               break;
             case 869:
-              if ((0x200000002L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 870;
               break;
             case 870:
-              if ((0x200000002000L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 871;
               break;
             case 871:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 872;
               break;
             case 872:
-              if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 873;
+              if ((0x200000002000000L & l) != 0L && kind > 101)
+                kind = 101;
               break;
             case 873:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 874;
               break;
             case 874:
               if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 875;
+                jjstateSet[jjnewStateCnt++] = 875;
               break;
             case 875:
-              if ((0x8000000080000L & l) != 0L && kind > 122)
-                kind = 122;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 876;
               break;
             case 876:
-              if ((0x200000002L & l) != 0L)
+              if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 877;
-                  break;
+              break;
             case 877:
-              if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 878;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 878;
               break;
             case 878:
-              if ((0x10000000100L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 879;
               break;
             case 879:
-              if ((0x200000002L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 880;
               break;
             case 880:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 881;
               break;
             case 881:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 882;
+              if ((0x8000000080000L & l) != 0L && kind > 123)
+                kind = 123;
               break;
             case 882:
               if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 883;
-              break;
+                  break;
             case 883:
-              if ((0x8000000080000L & l) != 0L && kind > 150)
-                kind = 150;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 884;
               break;
             case 884:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 885;
+              if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 885;
               break;
             case 885:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 886;
               break;
             case 886:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 887;
               break;
             case 887:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 888;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 888;
               break;
             case 888:
-              if ((0x200000002000000L & l) != 0L && kind > 157)
-                kind = 157;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 889;
               break;
             case 889:
-              if ((0x4000000040000L & l) != 0L)
-                jjAddStates(158, 169);
-                  break;
+              if ((0x8000000080000L & l) != 0L && kind > 151)
+                kind = 151;
+              break;
+            case 890:
+              if ((0x800000008000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 891;
+              break;
             case 891:
-              if ((0x200000002000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 892;
               break;
             case 892:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 893;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 893;
               break;
             case 893:
-              if ((0x40000000400000L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 894;
               break;
             case 894:
-              if ((0x2000000020L & l) != 0L && kind > 33)
-                kind = 33;
+              if ((0x200000002000000L & l) != 0L && kind > 158)
+                kind = 158;
               break;
             case 895:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 896;
-              break;
-            case 896:
-              if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 897;
-              break;
+              if ((0x4000000040000L & l) != 0L)
+                jjAddStates(158, 169);
+                  break;
             case 897:
-              if ((0x20000000200000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 898;
+              if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 898;
               break;
             case 898:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 899;
               break;
             case 899:
-              if ((0x400000004000L & l) != 0L && kind > 51)
-                kind = 51;
+              if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 900;
               break;
             case 900:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 901;
+              if ((0x2000000020L & l) != 0L && kind > 33)
+                kind = 33;
               break;
             case 901:
-              if ((0x800000008L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 902;
               break;
             case 902:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 903;
               break;
             case 903:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x20000000200000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 904;
               break;
             case 904:
-              if ((0x1000000010L & l) != 0L && kind > 54)
-                kind = 54;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 905;
               break;
             case 905:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 906;
+              if ((0x400000004000L & l) != 0L && kind > 51)
+                kind = 51;
               break;
             case 906:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 907;
               break;
             case 907:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 908;
               break;
             case 908:
-              if ((0x200000002000000L & l) != 0L && kind > 56)
-                kind = 56;
+              if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 909;
               break;
             case 909:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 910;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 910;
               break;
             case 910:
-              if ((0x4000000040L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 911;
+              if ((0x1000000010L & l) != 0L && kind > 54)
+                kind = 54;
               break;
             case 911:
               if ((0x2000000020L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 912;
               break;
             case 912:
-                  if ((0x4000000040000L & l) != 0L)
-                    jjstateSet[jjnewStateCnt++] = 913;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 913;
               break;
             case 913:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 914;
+              if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 914;
               break;
             case 914:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 915;
+              if ((0x200000002000000L & l) != 0L && kind > 56)
+                kind = 56;
               break;
             case 915:
-              if ((0x800000008L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 916;
               break;
             case 916:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x4000000040L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 917;
               break;
             case 917:
-              if ((0x8000000080000L & l) != 0L && kind > 87)
-                kind = 87;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 918;
               break;
             case 918:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 919;
+                  if ((0x4000000040000L & l) != 0L)
+                    jjstateSet[jjnewStateCnt++] = 919;
               break;
             case 919:
-              if ((0x200000002000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 920;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 920;
               break;
             case 920:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 921;
               break;
             case 921:
-              if ((0x40000000400000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 922;
-                  break;
-               case 922:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 923;
-                 break;
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 922;
+              break;
+            case 922:
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 923;
+              break;
             case 923:
-              if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 924;
+              if ((0x8000000080000L & l) != 0L && kind > 87)
+                kind = 87;
               break;
             case 924:
-              if ((0x800000008L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 925;
               break;
             case 925:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 926;
               break;
             case 926:
-              if ((0x20000000200000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 927;
-                  break;
-            case 927:
-              if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 928;
+              if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 927;
               break;
-            case 928:
-              if ((0x10000000100000L & l) != 0L)
+            case 927:
+              if ((0x40000000400000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 928;
+                  break;
+               case 928:
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 929;
-              break;
+                 break;
             case 929:
-              if ((0x2000000020L & l) != 0L)
+              if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 930;
               break;
             case 930:
-              if ((0x4000000040000L & l) != 0L && kind > 96)
-                kind = 96;
-                  break;
-               case 931:
-                  if ((0x2000000020L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 931;
+              break;
+            case 931:
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 932;
-                 break;
-            case 932:
-              if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 933;
               break;
-            case 933:
+            case 932:
               if ((0x20000000200000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 933;
+                  break;
+            case 933:
+              if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 934;
               break;
             case 934:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 935;
               break;
             case 935:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 936;
               break;
             case 936:
-              if ((0x1000000010L & l) != 0L && kind > 107)
-                kind = 107;
-              break;
-            case 937:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 938;
+              if ((0x4000000040000L & l) != 0L && kind > 96)
+                kind = 96;
                   break;
+               case 937:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 938;
+                 break;
             case 938:
-              if ((0x40000000400000L & l) != 0L)
+              if ((0x400000004L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 939;
               break;
             case 939:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 940;
-                  break;
+              if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 940;
+              break;
             case 940:
-              if ((0x80000000800L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 941;
               break;
             case 941:
-              if ((0x2000000020L & l) != 0L && kind > 116)
-                kind = 116;
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 942;
               break;
             case 942:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 943;
+              if ((0x1000000010L & l) != 0L && kind > 108)
+                kind = 108;
               break;
             case 943:
-              if ((0x200000002L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 944;
-              break;
+                  break;
             case 944:
-              if ((0x1000000010L & l) != 0L && kind > 117)
-                kind = 117;
+              if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 945;
               break;
             case 945:
               if ((0x800000008000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 946;
+                  break;
+            case 946:
+              if ((0x80000000800L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 947;
               break;
             case 947:
-              if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 948;
+              if ((0x2000000020L & l) != 0L && kind > 117)
+                kind = 117;
               break;
             case 948:
-              if ((0x400000004L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 949;
               break;
             case 949:
@@ -5298,519 +5303,515 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 950;
               break;
             case 950:
-              if ((0x800000008L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 951;
+              if ((0x1000000010L & l) != 0L && kind > 118)
+                kind = 118;
               break;
             case 951:
-              if ((0x80000000800L & l) != 0L && kind > 127)
-                kind = 127;
-              break;
-            case 952:
               if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 953;
+                jjstateSet[jjnewStateCnt++] = 952;
               break;
             case 953:
               if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 954;
+                     jjstateSet[jjnewStateCnt++] = 954;
               break;
             case 954:
-              if ((0x2000000020L & l) != 0L && kind > 152)
-                kind = 152;
+              if ((0x400000004L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 955;
               break;
             case 955:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 956;
-                  break;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 956;
+              break;
             case 956:
-              if ((0x1000000010L & l) != 0L && kind > 155)
-                kind = 155;
+              if ((0x800000008L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 957;
               break;
             case 957:
-              if ((0x800000008000L & l) != 0L)
-                jjAddStates(151, 157);
+              if ((0x80000000800L & l) != 0L && kind > 128)
+                kind = 128;
               break;
             case 958:
-              if ((0x4000000040000L & l) != 0L && kind > 36)
-                kind = 36;
+              if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 959;
               break;
             case 959:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 960;
+              if ((0x100000001000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 960;
               break;
             case 960:
-              if ((0x1000000010L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 961;
+              if ((0x2000000020L & l) != 0L && kind > 153)
+                kind = 153;
               break;
             case 961:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 962;
-              break;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 962;
+                  break;
             case 962:
-              if ((0x4000000040000L & l) != 0L && kind > 39)
-                kind = 39;
+              if ((0x1000000010L & l) != 0L && kind > 156)
+                kind = 156;
               break;
             case 963:
-              if ((0x4000000040L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 964;
+              if ((0x800000008000L & l) != 0L)
+                jjAddStates(151, 157);
               break;
             case 964:
-              if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 965;
+              if ((0x4000000040000L & l) != 0L && kind > 36)
+                kind = 36;
               break;
             case 965:
-              if ((0x8000000080000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 966;
-                  break;
+              if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 966;
+              break;
             case 966:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x1000000010L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 967;
               break;
             case 967:
-              if ((0x10000000100000L & l) != 0L && kind > 45)
-                kind = 45;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 968;
               break;
             case 968:
-              if ((0x400000004000L & l) != 0L && kind > 82)
-                kind = 82;
+              if ((0x4000000040000L & l) != 0L && kind > 39)
+                kind = 39;
               break;
             case 969:
               if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 970;
+                jjstateSet[jjnewStateCnt++] = 970;
               break;
             case 970:
-              if ((0x4000000040L & l) != 0L && kind > 83)
-                kind = 83;
+              if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 971;
               break;
             case 971:
-              if ((0x1000000010000L & l) != 0L)
+              if ((0x8000000080000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 972;
-              break;
+                  break;
             case 972:
-              if ((0x10000000100000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 973;
               break;
             case 973:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 974;
+              if ((0x10000000100000L & l) != 0L && kind > 45)
+                kind = 45;
               break;
             case 974:
-              if ((0x200000002000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 975;
+              if ((0x400000004000L & l) != 0L && kind > 82)
+                kind = 82;
               break;
             case 975:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 976;
+              if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 976;
               break;
             case 976:
-              if ((0x400000004000000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 977;
+              if ((0x4000000040L & l) != 0L && kind > 83)
+                kind = 83;
               break;
             case 977:
-              if ((0x2000000020L & l) != 0L && kind > 110)
-                kind = 110;
+              if ((0x1000000010000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 978;
               break;
             case 978:
-              if ((0x1000000010000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 979;
               break;
             case 979:
-              if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 980;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 980;
               break;
             case 980:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 981;
               break;
             case 981:
-              if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 982;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 982;
               break;
             case 982:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 983;
+              if ((0x400000004000000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 983;
               break;
             case 983:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 984;
+              if ((0x2000000020L & l) != 0L && kind > 111)
+                kind = 111;
               break;
             case 984:
-              if ((0x100000001000L & l) != 0L && kind > 139)
-                kind = 139;
+              if ((0x1000000010000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 985;
               break;
             case 985:
-              if ((0x400000004000L & l) != 0L)
-                jjAddStates(143, 150);
+              if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 986;
               break;
             case 986:
-              if ((0x20000000200000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 987;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 987;
               break;
             case 987:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 988;
               break;
             case 988:
-              if ((0x100000001000L & l) != 0L && kind > 37)
-                kind = 37;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 989;
               break;
             case 989:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 990;
               break;
             case 990:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 991;
+              if ((0x100000001000L & l) != 0L && kind > 140)
+                kind = 140;
               break;
             case 991:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 992;
+              if ((0x400000004000L & l) != 0L)
+                jjAddStates(143, 150);
               break;
             case 992:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 993;
+              if ((0x20000000200000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 993;
               break;
             case 993:
-              if ((0x10000000100L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 994;
+              if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 994;
               break;
             case 994:
-              if ((0x2000000020L & l) != 0L && kind > 60)
-                kind = 60;
+              if ((0x100000001000L & l) != 0L && kind > 37)
+                kind = 37;
               break;
             case 995:
               if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 996;
+                jjstateSet[jjnewStateCnt++] = 996;
               break;
             case 996:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 997;
               break;
             case 997:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 998;
               break;
             case 998:
-              if ((0x200000002000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 999;
+              if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 999;
               break;
             case 999:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1000;
+              if ((0x10000000100L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1000;
               break;
             case 1000:
-              if ((0x10000000100000L & l) != 0L && kind > 61)
-                kind = 61;
+              if ((0x2000000020L & l) != 0L && kind > 60)
+                kind = 60;
               break;
             case 1001:
               if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1002;
               break;
             case 1002:
-              if ((0x800000008L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1003;
               break;
             case 1003:
-              if ((0x200000002000000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1004;
               break;
             case 1004:
-              if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1005;
+              if ((0x200000002000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1005;
               break;
             case 1005:
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1006;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1006;
               break;
             case 1006:
-              if ((0x2000000020L & l) != 0L && kind > 62)
-                kind = 62;
+              if ((0x10000000100000L & l) != 0L && kind > 61)
+                kind = 61;
               break;
             case 1007:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1008;
-                  break;
+              break;
             case 1008:
-              if ((0x200000002L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1009;
               break;
             case 1009:
-              if ((0x4000000040000L & l) != 0L && kind > 69)
-                kind = 69;
+              if ((0x200000002000000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1010;
               break;
             case 1010:
-              if ((0x200000002L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1011;
               break;
             case 1011:
-              if ((0x200000002000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1012;
+              if ((0x100000001000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1012;
               break;
             case 1012:
-              if ((0x2000000020L & l) != 0L && kind > 92)
-                kind = 92;
+              if ((0x2000000020L & l) != 0L && kind > 62)
+                kind = 62;
               break;
             case 1013:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1014;
-              break;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1014;
+                  break;
             case 1014:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1015;
               break;
             case 1015:
-              if ((0x2000000020L & l) != 0L && kind > 120)
-                kind = 120;
+              if ((0x4000000040000L & l) != 0L && kind > 69)
+                kind = 69;
               break;
             case 1016:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1017;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1017;
               break;
             case 1017:
-              if ((0x10000000100000L & l) != 0L && kind > 239)
-                kind = 239;
+              if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1018;
               break;
             case 1018:
-              if ((0x8000000080L & l) != 0L)
-                jjAddStates(141, 142);
-                  break;
+              if ((0x2000000020L & l) != 0L && kind > 92)
+                kind = 92;
+              break;
             case 1019:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1020;
+              if ((0x800000008000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1020;
               break;
             case 1020:
-              if ((0x800000008000L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1021;
               break;
             case 1021:
-              if ((0x20000000200000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1022;
+              if ((0x2000000020L & l) != 0L && kind > 121)
+                kind = 121;
               break;
             case 1022:
-              if ((0x1000000010000L & l) != 0L && kind > 40)
-                kind = 40;
+              if ((0x800000008000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1023;
               break;
             case 1023:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1024;
+              if ((0x10000000100000L & l) != 0L && kind > 240)
+                kind = 240;
               break;
             case 1024:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1025;
-              break;
+              if ((0x8000000080L & l) != 0L)
+                jjAddStates(141, 142);
+                  break;
             case 1025:
-              if ((0x400000004000L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1026;
               break;
             case 1026:
-              if ((0x10000000100000L & l) != 0L && kind > 115)
-                kind = 115;
+              if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1027;
               break;
             case 1027:
-              if ((0x400000004L & l) != 0L)
-                jjAddStates(134, 140);
+              if ((0x20000000200000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1028;
               break;
             case 1028:
-              if ((0x200000002000000L & l) != 0L && kind > 41)
-                kind = 41;
-                  break;
+              if ((0x1000000010000L & l) != 0L && kind > 40)
+                kind = 40;
+              break;
             case 1029:
-              if ((0x200000002L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1030;
               break;
             case 1030:
-              if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1031;
+              if ((0x200000002L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1031;
               break;
             case 1031:
-              if ((0x800000008L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1032;
+              if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1032;
               break;
             case 1032:
-              if ((0x10000000100L & l) != 0L && kind > 44)
-                kind = 44;
+              if ((0x10000000100000L & l) != 0L && kind > 116)
+                kind = 116;
               break;
             case 1033:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1034;
+              if ((0x400000004L & l) != 0L)
+                jjAddStates(134, 140);
               break;
             case 1034:
-              if ((0x4000000040L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1035;
-              break;
+              if ((0x200000002000000L & l) != 0L && kind > 41)
+                kind = 41;
+                  break;
             case 1035:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1036;
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1036;
               break;
             case 1036:
-              if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1037;
+              if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1037;
               break;
             case 1037:
-              if ((0x2000000020L & l) != 0L && kind > 52)
-                kind = 52;
-                  break;
+              if ((0x800000008L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1038;
+              break;
             case 1038:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1039;
+              if ((0x10000000100L & l) != 0L && kind > 44)
+                kind = 44;
               break;
             case 1039:
               if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1040;
               break;
             case 1040:
-              if ((0x200000002L & l) != 0L)
+              if ((0x4000000040L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1041;
               break;
             case 1041:
-              if ((0x1000000010L & l) != 0L)
+              if ((0x800000008000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1042;
               break;
             case 1042:
-              if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1043;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1043;
               break;
             case 1043:
-              if ((0x10000000100L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1044;
+              if ((0x2000000020L & l) != 0L && kind > 52)
+                kind = 52;
                   break;
             case 1044:
-              if (curChar == 95)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1045;
               break;
             case 1045:
-              if ((0x4000000040L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1046;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1046;
               break;
             case 1046:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1047;
-                  break;
-               case 1047:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1048;
-                 break;
+              break;
+            case 1047:
+              if ((0x1000000010L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1048;
+              break;
             case 1048:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1049;
               break;
             case 1049:
-              if ((0x10000000100000L & l) != 0L && kind > 67)
-                kind = 67;
-              break;
+              if ((0x10000000100L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1050;
+                  break;
             case 1050:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1051;
+              if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 1051;
               break;
             case 1051:
-              if ((0x8000000080L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1052;
+              if ((0x4000000040L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1052;
               break;
             case 1052:
               if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1053;
-              break;
-            case 1053:
-              if ((0x400000004000L & l) != 0L && kind > 125)
-                kind = 125;
-              break;
+                jjstateSet[jjnewStateCnt++] = 1053;
+                  break;
+               case 1053:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1054;
+                 break;
             case 1054:
-              if ((0x100000001000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1055;
+              if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1055;
               break;
             case 1055:
-              if ((0x800000008000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1056;
+              if ((0x10000000100000L & l) != 0L && kind > 67)
+                kind = 67;
               break;
             case 1056:
-              if ((0x400000004L & l) != 0L && kind > 134)
-                kind = 134;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1057;
               break;
             case 1057:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x8000000080L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1058;
               break;
             case 1058:
-              if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1059;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1059;
               break;
             case 1059:
-              if ((0x80000000800000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1060;
+              if ((0x400000004000L & l) != 0L && kind > 126)
+                kind = 126;
               break;
             case 1060:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1061;
               break;
             case 1061:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1062;
+              if ((0x800000008000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1062;
               break;
             case 1062:
-              if ((0x400000004000L & l) != 0L && kind > 243)
-                kind = 243;
+              if ((0x400000004L & l) != 0L && kind > 135)
+                kind = 135;
               break;
             case 1063:
-              if ((0x100000001000L & l) != 0L)
-                jjAddStates(128, 133);
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1064;
               break;
             case 1064:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1065;
+              if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1065;
               break;
             case 1065:
-              if ((0x200000002000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1066;
+              if ((0x80000000800000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1066;
               break;
             case 1066:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1067;
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1067;
               break;
             case 1067:
-              if ((0x10000000100000L & l) != 0L && kind > 42)
-                kind = 42;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1068;
               break;
             case 1068:
-              if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1069;
+              if ((0x400000004000L & l) != 0L && kind > 244)
+                kind = 244;
               break;
             case 1069:
-              if ((0x10000000100000L & l) != 0L && kind > 57)
-                kind = 57;
+              if ((0x100000001000L & l) != 0L)
+                jjAddStates(128, 133);
               break;
             case 1070:
-              if ((0x20000000200000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1071;
               break;
             case 1071:
-              if ((0x800000008L & l) != 0L)
+              if ((0x200000002000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1072;
               break;
             case 1072:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1073;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1073;
               break;
             case 1073:
-              if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1074;
+              if ((0x10000000100000L & l) != 0L && kind > 42)
+                kind = 42;
               break;
             case 1074:
-              if ((0x2000000020L & l) != 0L && kind > 68)
-                kind = 68;
+              if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1075;
               break;
             case 1075:
-              if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1076;
+              if ((0x10000000100000L & l) != 0L && kind > 57)
+                kind = 57;
               break;
             case 1076:
-              if ((0x400000004000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1077;
+              if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1077;
               break;
             case 1077:
-              if ((0x80000000800L & l) != 0L && kind > 111)
-                kind = 111;
+              if ((0x800000008L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1078;
               break;
             case 1078:
-              if ((0x200000002L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1079;
               break;
             case 1079:
@@ -5818,346 +5819,370 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                      jjstateSet[jjnewStateCnt++] = 1080;
               break;
             case 1080:
-              if ((0x8000000080L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1081;
+              if ((0x2000000020L & l) != 0L && kind > 68)
+                kind = 68;
               break;
             case 1081:
-              if ((0x20000000200000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1082;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1082;
               break;
             case 1082:
-              if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1083;
+              if ((0x400000004000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1083;
               break;
             case 1083:
-              if ((0x8000000080L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1084;
+              if ((0x80000000800L & l) != 0L && kind > 112)
+                kind = 112;
               break;
             case 1084:
-              if ((0x2000000020L & l) != 0L && kind > 124)
-                kind = 124;
+              if ((0x200000002L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1085;
               break;
             case 1085:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1086;
               break;
             case 1086:
-              if ((0x80000000800L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1087;
+              if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1087;
               break;
             case 1087:
-              if ((0x2000000020L & l) != 0L && kind > 241)
-                kind = 241;
+              if ((0x20000000200000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1088;
               break;
             case 1088:
-              if (curChar == 64)
-                jjAddStates(117, 127);
+              if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1089;
+              break;
+            case 1089:
+              if ((0x8000000080L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1090;
               break;
             case 1090:
-              if ((0x10000000100L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1091;
+              if ((0x2000000020L & l) != 0L && kind > 125)
+                kind = 125;
               break;
             case 1091:
               if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1092;
+                     jjstateSet[jjnewStateCnt++] = 1092;
               break;
             case 1092:
-              if ((0x8000000080000L & l) != 0L && kind > 159)
-                kind = 159;
+              if ((0x80000000800L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1093;
               break;
             case 1093:
-              if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1094;
-                  break;
-            case 1094:
-            case 1122:
-                  if ((0x20000000200L & l) != 0L)
-                    jjCheckNAdd(1095);
+              if ((0x2000000020L & l) != 0L && kind > 242)
+                kind = 242;
               break;
-            case 1095:
-              if ((0x1000000010L & l) != 0L && kind > 160)
-                kind = 160;
+            case 1094:
+              if (curChar == 64)
+                jjAddStates(117, 127);
               break;
             case 1096:
-              if ((0x800000008L & l) != 0L)
+              if ((0x10000000100L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1097;
               break;
             case 1097:
-              if ((0x100000001000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1098;
               break;
             case 1098:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1099;
+              if ((0x8000000080000L & l) != 0L && kind > 160)
+                kind = 160;
               break;
             case 1099:
-              if ((0x8000000080000L & l) != 0L)
-                jjCheckNAdd(1100);
-              break;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1100;
+                  break;
             case 1100:
-              if ((0x8000000080000L & l) != 0L && kind > 160)
-                kind = 160;
+            case 1128:
+                  if ((0x20000000200L & l) != 0L)
+                    jjCheckNAdd(1101);
               break;
             case 1101:
-              if ((0x40000000400000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1102;
+              if ((0x1000000010L & l) != 0L && kind > 161)
+                kind = 161;
               break;
             case 1102:
-              if ((0x2000000020L & l) != 0L)
+              if ((0x800000008L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1103;
               break;
             case 1103:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x100000001000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1104;
               break;
             case 1104:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x200000002L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1105;
               break;
             case 1105:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1106;
+              if ((0x8000000080000L & l) != 0L)
+                jjCheckNAdd(1106);
               break;
             case 1106:
-              if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1107;
+              if ((0x8000000080000L & l) != 0L && kind > 161)
+                kind = 161;
               break;
             case 1107:
-              if ((0x400000004000L & l) != 0L && kind > 160)
-                kind = 160;
+              if ((0x40000000400000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1108;
               break;
             case 1108:
-              if ((0x8000000080000L & l) != 0L)
+              if ((0x2000000020L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1109;
               break;
             case 1109:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1110;
               break;
             case 1110:
-              if ((0x400000004000000L & l) != 0L)
-                jjCheckNAdd(1111);
+              if ((0x8000000080000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1111;
               break;
             case 1111:
-              if ((0x2000000020L & l) != 0L && kind > 160)
-                kind = 160;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1112;
               break;
             case 1112:
-              if ((0x10000000100000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1113;
+              if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1113;
               break;
             case 1113:
-              if ((0x200000002000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1114;
+              if ((0x400000004000L & l) != 0L && kind > 161)
+                kind = 161;
               break;
             case 1114:
-              if ((0x1000000010000L & l) != 0L)
-                jjCheckNAdd(1111);
+              if ((0x8000000080000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1115;
               break;
             case 1115:
-              if ((0x4000000040000L & l) != 0L)
+              if ((0x20000000200L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1116;
               break;
             case 1116:
-              if ((0x200000002L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1117;
+              if ((0x400000004000000L & l) != 0L)
+                jjCheckNAdd(1117);
               break;
             case 1117:
-              if ((0x80000000800000L & l) != 0L && kind > 160)
-                kind = 160;
+              if ((0x2000000020L & l) != 0L && kind > 161)
+                kind = 161;
               break;
             case 1118:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1119;
+              if ((0x10000000100000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1119;
               break;
             case 1119:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1120;
+              if ((0x200000002000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1120;
               break;
             case 1120:
-              if ((0x1000000010L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1121;
+              if ((0x1000000010000L & l) != 0L)
+                jjCheckNAdd(1117);
               break;
             case 1121:
-              if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 1122;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1122;
+              break;
+            case 1122:
+              if ((0x200000002L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1123;
               break;
             case 1123:
-              if ((0x4000000040000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1124;
+              if ((0x80000000800000L & l) != 0L && kind > 161)
+                kind = 161;
               break;
             case 1124:
-              if ((0x20000000200L & l) != 0L)
+              if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1125;
               break;
             case 1125:
-              if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1126;
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1126;
               break;
             case 1126:
-              if (curChar == 95)
+              if ((0x1000000010L & l) != 0L)
                 jjstateSet[jjnewStateCnt++] = 1127;
               break;
             case 1127:
-              if ((0x1000000010000L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1128;
-              break;
-            case 1128:
-              if ((0x800000008000L & l) != 0L)
-                jjCheckNAdd(1100);
+              if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 1128;
               break;
             case 1129:
-              if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1130;
+              if ((0x4000000040000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1130;
               break;
             case 1130:
               if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1131;
               break;
             case 1131:
-              if ((0x2000000020L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1132;
+              if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1132;
               break;
             case 1132:
-              if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1133;
-                  break;
+              if (curChar == 95)
+                jjstateSet[jjnewStateCnt++] = 1133;
+              break;
             case 1133:
-              if ((0x1000000010L & l) != 0L)
-                jjCheckNAdd(1100);
+              if ((0x1000000010000L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1134;
               break;
             case 1134:
-              if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1135;
+              if ((0x800000008000L & l) != 0L)
+                jjCheckNAdd(1106);
               break;
             case 1135:
-              if ((0x20000000200L & l) != 0L)
-                jjstateSet[jjnewStateCnt++] = 1136;
+              if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1136;
               break;
             case 1136:
-              if ((0x1000000010L & l) != 0L && kind > 161)
-                kind = 161;
+              if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1137;
               break;
-            case 1139:
-              if ((0x100000001000L & l) != 0L && kind > 171)
-                kind = 171;
+            case 1137:
+              if ((0x2000000020L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1138;
               break;
-            case 1141:
+            case 1138:
               if ((0x100000001000L & l) != 0L)
-                jjCheckNAdd(1151);
+                     jjstateSet[jjnewStateCnt++] = 1139;
+                  break;
+            case 1139:
+              if ((0x1000000010L & l) != 0L)
+                jjCheckNAdd(1106);
               break;
-            case 1146:
-              if ((0x100000001000L & l) != 0L && kind > 182)
-                kind = 182;
+            case 1140:
+              if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1141;
               break;
-            case 1148:
-              if ((0x100000001000000L & l) != 0L)
-                jjCheckNAdd(1149);
+            case 1141:
+              if ((0x20000000200L & l) != 0L)
+                jjstateSet[jjnewStateCnt++] = 1142;
               break;
-            case 1149:
-              if ((0x7e0000007eL & l) == 0L)
-                break;
-              if (kind > 182)
-                kind = 182;
-              jjCheckNAddTwoStates(1149, 1146);
+            case 1142:
+              if ((0x1000000010L & l) != 0L && kind > 162)
+                kind = 162;
               break;
-            case 1153:
+            case 1145:
+              if ((0x100000001000L & l) != 0L && kind > 172)
+                kind = 172;
+              break;
+            case 1147:
               if ((0x100000001000L & l) != 0L)
-                jjCheckNAdd(1164);
+                jjCheckNAdd(1157);
               break;
-            case 1158:
+            case 1152:
               if ((0x100000001000L & l) != 0L && kind > 183)
                 kind = 183;
               break;
-            case 1160:
+            case 1154:
               if ((0x100000001000000L & l) != 0L)
-                jjCheckNAdd(1161);
+                jjCheckNAdd(1155);
               break;
-            case 1161:
+            case 1155:
               if ((0x7e0000007eL & l) == 0L)
                 break;
               if (kind > 183)
                 kind = 183;
-              jjCheckNAddTwoStates(1161, 1158);
+              jjCheckNAddTwoStates(1155, 1152);
+              break;
+            case 1159:
+              if ((0x100000001000L & l) != 0L)
+                jjCheckNAdd(1170);
+              break;
+            case 1164:
+              if ((0x100000001000L & l) != 0L && kind > 184)
+                kind = 184;
               break;
             case 1166:
+              if ((0x100000001000000L & l) != 0L)
+                jjCheckNAdd(1167);
+              break;
+            case 1167:
+              if ((0x7e0000007eL & l) == 0L)
+                break;
+              if (kind > 184)
+                kind = 184;
+              jjCheckNAddTwoStates(1167, 1164);
+              break;
+            case 1172:
                   if ((0xffffffffefffffffL & l) != 0L)
-                    jjCheckNAdd(1167);
+                    jjCheckNAdd(1173);
               break;
-            case 1168:
+            case 1174:
               if (curChar == 92)
-                jjAddStates(307, 309);
+                jjAddStates(308, 310);
               break;
-            case 1169:
+            case 1175:
                   if ((0x14404410000000L & l) != 0L)
-                    jjCheckNAdd(1167);
+                    jjCheckNAdd(1173);
               break;
-            case 1174:
+            case 1180:
                   if ((0xffffffffefffffffL & l) != 0L)
                      jjCheckNAddStates(93, 95);
               break;
-            case 1175:
+            case 1181:
               if (curChar == 92)
-                jjAddStates(310, 312);
+                jjAddStates(311, 313);
               break;
-            case 1176:
+            case 1182:
                   if ((0x14404410000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
               break;
-            case 1186:
+            case 1192:
                   if ((0x100000001000000L & l) != 0L)
-                    jjCheckNAdd(1187);
+                    jjCheckNAdd(1193);
               break;
-            case 1187:
+            case 1193:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(100, 102);
               break;
-            case 1190:
+            case 1196:
                   if ((0x100000001000000L & l) != 0L)
-                    jjCheckNAdd(1191);
+                    jjCheckNAdd(1197);
               break;
-            case 1191:
+            case 1197:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(106, 108);
               break;
-            case 1194:
+            case 1200:
                   if ((0x100000001000000L & l) != 0L)
-                    jjCheckNAdd(1195);
+                    jjCheckNAdd(1201);
               break;
-            case 1195:
+            case 1201:
                   if ((0x7e0000007eL & l) == 0L)
                     break;
-              if (kind > 171)
-                kind = 171;
-              jjCheckNAddTwoStates(1195, 1139);
+              if (kind > 172)
+                kind = 172;
+              jjCheckNAddTwoStates(1201, 1145);
               break;
-            case 1197:
+            case 1203:
                   if ((0x100000001000000L & l) != 0L)
-                    jjCheckNAddTwoStates(1198, 1199);
+                    jjCheckNAddTwoStates(1204, 1205);
               break;
-            case 1198:
+            case 1204:
                   if ((0x7e0000007eL & l) != 0L)
-                    jjCheckNAddTwoStates(1198, 1199);
+                    jjCheckNAddTwoStates(1204, 1205);
               break;
-            case 1200:
+            case 1206:
                   if ((0x7e0000007eL & l) != 0L)
-                    jjAddStates(313, 314);
+                    jjAddStates( 314, 315);
               break;
-            case 1201:
+            case 1207:
                   if ((0x1000000010000L & l) != 0L)
-                    jjAddStates(315, 316);
+                    jjAddStates( 316, 317);
               break;
-            case 1204:
+            case 1210:
                   if ((0x100000001000000L & l) != 0L)
-                    jjCheckNAdd(1205);
+                    jjCheckNAdd(1211);
               break;
-            case 1205:
+            case 1211:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(114, 116);
               break;
-            case 1207:
+            case 1213:
                   if ((0x1000000010000L & l) != 0L)
-                    jjAddStates(317, 318);
+                    jjAddStates( 318, 319);
                   break;
                default : break;
           }
@@ -6184,11 +6209,11 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                      jjAddStates(19, 21);
                  break;
-              case 1166:
+              case 1172:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                    jjstateSet[jjnewStateCnt++] = 1167;
+                    jjstateSet[jjnewStateCnt++] = 1173;
                 break;
-              case 1174:
+              case 1180:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                      jjAddStates(93, 95);
                   break;
@@ -6203,7 +6228,7 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
          kind = 0x7fffffff;
       }
       ++curPos;
-      if ((i = jjnewStateCnt) == (startsAt = 1210 - (jjnewStateCnt = startsAt))) {
+      if ((i = jjnewStateCnt) == (startsAt = 1216 - (jjnewStateCnt = startsAt))) {
         return curPos;
       }
       try {
@@ -6267,29 +6292,29 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
   }
 
   static final int[] jjnextStates = {
-      33, 35, 36, 54, 55, 17, 58, 59, 62, 63, 1183, 1184, 1185, 1189, 1166, 1168,
-      1174, 1175, 1177, 19, 20, 22, 1138, 1139, 1140, 1141, 1151, 1152, 1153, 1164, 1194, 1196,
-      1139, 1197, 1204, 1190, 1192, 1141, 1151, 1186, 1188, 1153, 1164, 1152, 1153, 1164, 1190,
-      1192,
-      1141, 1151, 1140, 1141, 1151, 1186, 1188, 1153, 1164, 13, 14, 17, 19, 20, 24, 22,
-      54, 55, 17, 64, 65, 17, 335, 316, 370, 351, 406, 387, 575, 578, 579, 581,
-      577, 1143, 1144, 1147, 1148, 1150, 1146, 1155, 1156, 1159, 1160, 1162, 1158, 1174, 1175, 1177,
-      1174, 1175, 1179, 1177, 1187, 1153, 1164, 1188, 1153, 1164, 1191, 1141, 1151, 1192, 1141,
-      1151,
-      1198, 1199, 1205, 1206, 1207, 1089, 1093, 1096, 1101, 1108, 1112, 1115, 1118, 1123, 1129,
-      1134,
-      1064, 1068, 1070, 1075, 1078, 1085, 1028, 1029, 1033, 1038, 1050, 1054, 1057, 1019, 1023, 986,
-      989, 995, 1001, 1007, 1010, 1013, 1016, 958, 959, 963, 968, 969, 971, 978, 890, 895,
-      900, 905, 909, 918, 931, 937, 942, 945, 952, 955, 835, 837, 844, 850, 860, 867,
-      876, 884, 800, 802, 804, 806, 807, 811, 818, 822, 832, 783, 787, 791, 794, 744,
-      747, 755, 758, 762, 769, 772, 778, 708, 713, 718, 723, 728, 736, 739, 665, 668,
-      676, 682, 687, 693, 699, 702, 650, 655, 659, 583, 588, 594, 597, 607, 617, 620,
-      627, 633, 640, 408, 413, 419, 423, 427, 431, 437, 444, 449, 465, 471, 476, 483,
-      489, 493, 500, 510, 520, 530, 542, 553, 559, 568, 243, 248, 251, 259, 263, 264,
-      270, 279, 280, 289, 290, 299, 304, 336, 371, 204, 208, 212, 219, 226, 233, 236,
+      33, 35, 36, 54, 55, 17, 58, 59, 62, 63, 1189, 1190, 1191, 1195, 1172,
+      1174, 1180, 1181, 1183, 19, 20, 22, 1144, 1145, 1146, 1147, 1157, 1158, 1159, 1170, 1200, 1202,
+      1145, 1203, 1210, 1196, 1198, 1147, 1157, 1192, 1194, 1159, 1170, 1158, 1159, 1170, 1196,
+      1198,
+      1147, 1157, 1146, 1147, 1157, 1192, 1194, 1159, 1170, 13, 14, 17, 19, 20, 24, 22,
+      54, 55, 17, 64, 65, 17, 341, 322, 376, 357, 412, 393, 581,
+      584, 585, 587, 583, 1149, 1150, 1153, 1154, 1156, 1152, 1161, 1162, 1165, 1166, 1168, 1164,
+      1180, 1181, 1183, 1180, 1181, 1185, 1183, 1193, 1159, 1170, 1194, 1159, 1170, 1197, 1147,
+      1157,
+      1198, 1147, 1157, 1204, 1205, 1211, 1212, 1213, 1095, 1099, 1102, 1107, 1114, 1118, 1121, 1124,
+      1129,
+      1135, 1140, 1070, 1074, 1076, 1081, 1084, 1091, 1034, 1035, 1039, 1044, 1056, 1060, 1063, 1025,
+      1029, 992, 995, 1001, 1007, 1013, 1016, 1019, 1022, 964, 965, 969, 974, 975, 977, 984,
+      896, 901, 906, 911, 915, 924, 937, 943, 948, 951, 958, 961, 841, 843, 850, 856, 866,
+      873, 882, 890, 806, 808, 810, 812, 813, 817, 824, 828, 838, 789, 793, 797, 800,
+      750, 753, 761, 764, 768, 775, 778, 784, 714, 719, 724, 729, 734, 742, 745, 671,
+      674, 682, 688, 693, 699, 705, 708, 656, 661, 665, 589, 594, 600, 603, 613, 623,
+      626, 633, 639, 646, 414, 419, 425, 429, 433, 437, 443, 450, 455, 471, 477, 482,
+      489, 495, 499, 506, 516, 526, 536, 548, 559, 565, 574, 243, 248, 251, 259, 263, 269,
+      270, 276, 285, 286, 295, 296, 305, 310, 342, 377, 204, 208, 212, 219, 226, 233, 236,
       176, 183, 184, 190, 197, 200, 69, 74, 76, 79, 86, 95, 106, 112, 120, 130,
       134, 139, 146, 150, 155, 160, 163, 170, 15, 16, 21, 23, 25, 56, 57, 60,
-      61, 66, 67, 1169, 1170, 1172, 1176, 1178, 1180, 1200, 1201, 1202, 1203, 1208, 1209,
+      61, 66, 67, 1175, 1176, 1178, 1182, 1184, 1186, 1206, 1207, 1208, 1209, 1214, 1215,
   };
 
   private static final boolean jjCanMove_0(int hiByte, int i1, int i2, long l1, long l2) {
@@ -6318,7 +6343,7 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
       null, null, null, null, null, null, null, null, null, null, null, null, null, null,
       null, null, null, null, null, null, null, null, null, null, null, null, null, null,
       null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-      null, null, null, null, null, "\50", "\51", "\173", "\175", "\133", "\135", "\73",
+      null, null, null, null, null, null, "\50", "\51", "\173", "\175", "\133", "\135", "\73",
       "\54", "\56", "\100", "\44", "\140", "\75", "\75\75", "\74", "\76", "\41", "\176",
       "\77", "\72", "\74\75", "\76\75", "\41\75", "\74\76", "\174\174", "\46\46", "\53\53",
       "\55\55", "\53", "\55", "\52", "\57", "\46", "\77\77", "\174", "\136", "\45", "\74\74",
@@ -6369,11 +6394,11 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
       -1, -1,
       -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
       -1, -1,
-      -1, -1, -1, -1,
+      -1, -1, -1, -1, -1,
   };
   static final long[] jjtoToken = {
-      0xfffffffffffff801L, 0xffffffffffffffffL, 0xfff08807ffffffffL, 0xffffffffffffffffL,
-      0x7ffe7fL,
+      0xfffffffffffff801L, 0xffffffffffffffffL, 0xffe1100fffffffffL, 0xffffffffffffffffL,
+      0xfffcffL,
   };
   static final long[] jjtoSkip = {
       0x33eL, 0x0L, 0x0L, 0x0L,
@@ -6388,8 +6413,8 @@ public class YouTrackDBSqlTokenManager implements YouTrackDBSqlConstants {
       0x0L,
   };
   protected CharStream input_stream;
-  private final int[] jjrounds = new int[1210];
-  private final int[] jjstateSet = new int[2420];
+  private final int[] jjrounds = new int[1216];
+  private final int[] jjstateSet = new int[2432];
   private final StringBuilder jjimage = new StringBuilder();
   private StringBuilder image = jjimage;
   private int jjimageLen;
@@ -6423,7 +6448,7 @@ public void ReInit(CharStream stream)
   private void ReInitRounds() {
     int i;
    jjround = 0x80000001;
-    for (i = 1210; i-- > 0; )
+    for (i = 1216; i-- > 0; )
       jjrounds[i] = 0x80000000;
   }
 
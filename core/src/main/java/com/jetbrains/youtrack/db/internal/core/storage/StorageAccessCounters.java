@@ -0,0 +1,88 @@
+/*
+ *
+ *
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *
+ *
+ */
+package com.jetbrains.youtrack.db.internal.core.storage;
+
+/**
+ * Per-thread counters of storage accesses: page loads served by the read cache, page loads which
+ * required reading of the page from disk and amount of record bytes read from storage.
+ *
+ * <p>Counters are never reset and are updated only by the owning thread without any
+ * synchronization, so they are cheap enough to be always on. Callers which want to attribute
+ * storage accesses to some operation take a snapshot of the counters before and after the
+ * operation on the same thread and use the difference.
+ */
+public final class StorageAccessCounters {
+
+  private static final ThreadLocal<StorageAccessCounters> COUNTERS =
+      ThreadLocal.withInitial(StorageAccessCounters::new);
+
+  private final Thread owner = Thread.currentThread();
+
+  private long pageHits;
+  private long pageMisses;
+  private long pageLoadTime;
+  private long recordBytes;
+
+  private StorageAccessCounters() {
+  }
+
+  public static StorageAccessCounters current() {
+    return COUNTERS.get();
+  }
+
+  public boolean isOwnedByCurrentThread() {
+    return owner == Thread.currentThread();
+  }
+
+  public void recordPageHit() {
+    pageHits++;
+  }
+
+  /**
+   * @param loadTime Time spent on loading of the page from disk in nanoseconds.
+   */
+  public void recordPageMiss(final long loadTime) {
+    pageMisses++;
+    pageLoadTime += loadTime;
+  }
+
+  public void recordReadBytes(final long bytes) {
+    recordBytes += bytes;
+  }
+
+  public long getPageHits() {
+    return pageHits;
+  }
+
+  public long getPageMisses() {
+    return pageMisses;
+  }
+
+  /**
+   * @return Total time spent on loading of pages from disk in nanoseconds.
+   */
+  public long getPageLoadTime() {
+    return pageLoadTime;
+  }
+
+  public long getRecordBytes() {
+    return recordBytes;
+  }
+}
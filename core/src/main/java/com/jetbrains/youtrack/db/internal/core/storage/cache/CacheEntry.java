@@ -107,4 +107,11 @@ public interface CacheEntry extends Closeable {
   boolean insideCache();
 
   PageKey getPageKey();
+
+  /**
+   * @return Page cache metrics of the file to which the page belongs.
+   */
+  FileCacheMetrics getFileCacheMetrics();
+
+  void setFileCacheMetrics(FileCacheMetrics fileCacheMetrics);
 }
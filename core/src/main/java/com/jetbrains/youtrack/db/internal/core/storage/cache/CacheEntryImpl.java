@@ -39,6 +39,11 @@ public class CacheEntryImpl implements CacheEntry {
   private final ReadCache readCache;
   private final PageKey pageKey;
 
+  /**
+   * Set before entry is published in the cache and never changed after that.
+   */
+  private FileCacheMetrics fileCacheMetrics = FileCacheMetrics.NOOP;
+
   public CacheEntryImpl(
       final long fileId,
       final int pageIndex,
@@ -302,6 +307,16 @@ public class CacheEntryImpl implements CacheEntry {
     return this.pageKey;
   }
 
+  @Override
+  public FileCacheMetrics getFileCacheMetrics() {
+    return fileCacheMetrics;
+  }
+
+  @Override
+  public void setFileCacheMetrics(final FileCacheMetrics fileCacheMetrics) {
+    this.fileCacheMetrics = fileCacheMetrics;
+  }
+
   @Override
   public String toString() {
     return "CacheEntryImpl{"
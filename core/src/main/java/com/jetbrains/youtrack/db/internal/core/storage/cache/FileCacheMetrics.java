@@ -0,0 +1,88 @@
+package com.jetbrains.youtrack.db.internal.core.storage.cache;
+
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.Average;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.CoreMetrics;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.Counter;
+import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
+
+/**
+ * Page cache metrics of the single storage file: hits, misses and evictions of the read cache,
+ * amount of dirty pages and flushed bytes of the write cache and average time of page load on cache
+ * miss. Because each cluster, index and ridbag tree is stored in its own set of files, these
+ * metrics show which component is responsible for cache thrashing.
+ *
+ * <p>All metrics are backed by striped counters, so they are cheap enough to be always collected.
+ * Metrics are registered in {@link
+ * com.jetbrains.youtrack.db.internal.common.profiler.metrics.MetricsRegistry} and exposed via JMX
+ * as attributes of the database MBean.
+ */
+public final class FileCacheMetrics {
+
+  public static final FileCacheMetrics NOOP =
+      new FileCacheMetrics(
+          Counter.NOOP, Counter.NOOP, Counter.NOOP, Counter.NOOP, Counter.NOOP, Average.NOOP);
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter evictions;
+  private final Counter dirtyPages;
+  private final Counter flushedBytes;
+  private final Average pageLoadTime;
+
+  private FileCacheMetrics(
+      final Counter hits,
+      final Counter misses,
+      final Counter evictions,
+      final Counter dirtyPages,
+      final Counter flushedBytes,
+      final Average pageLoadTime) {
+    this.hits = hits;
+    this.misses = misses;
+    this.evictions = evictions;
+    this.dirtyPages = dirtyPages;
+    this.flushedBytes = flushedBytes;
+    this.pageLoadTime = pageLoadTime;
+  }
+
+  public static FileCacheMetrics create(final String storageName, final String fileName) {
+    final var metrics = YouTrackDBEnginesManager.instance().getMetricsRegistry();
+    return new FileCacheMetrics(
+        metrics.fileMetric(CoreMetrics.FILE_CACHE_HITS, storageName, fileName),
+        metrics.fileMetric(CoreMetrics.FILE_CACHE_MISSES, storageName, fileName),
+        metrics.fileMetric(CoreMetrics.FILE_CACHE_EVICTIONS, storageName, fileName),
+        metrics.fileMetric(CoreMetrics.FILE_DIRTY_PAGES, storageName, fileName),
+        metrics.fileMetric(CoreMetrics.FILE_FLUSHED_BYTES, storageName, fileName),
+        metrics.fileMetric(CoreMetrics.FILE_PAGE_LOAD_TIME, storageName, fileName));
+  }
+
+  public static void remove(final String storageName, final String fileName) {
+    YouTrackDBEnginesManager.instance()
+        .getMetricsRegistry()
+        .removeFileMetrics(storageName, fileName);
+  }
+
+  public void recordHit() {
+    hits.increment();
+  }
+
+  public void recordMiss(final long loadTimeNanos) {
+    misses.increment();
+    pageLoadTime.record(loadTimeNanos);
+  }
+
+  public void recordEviction() {
+    evictions.increment();
+  }
+
+  public void incrementDirtyPages() {
+    dirtyPages.increment();
+  }
+
+  public void decrementDirtyPages() {
+    dirtyPages.decrement();
+  }
+
+  public void recordFlushedBytes(final long bytes) {
+    flushedBytes.add(bytes);
+  }
+}
@@ -0,0 +1,54 @@
+package com.jetbrains.youtrack.db.internal.core.storage.cache;
+
+/**
+ * Hint which describes how pages loaded by the current thread are going to be accessed. Read cache
+ * uses it to decide whether a page which is absent in the cache should be admitted into it.
+ *
+ * <p>Intent is bound to the thread, so operations like full cluster scans, database export or
+ * index rebuild may set it around the reading of records without passing it through all the
+ * storage layers:
+ *
+ * <pre>{@code
+ * final PageAccessIntent previous = PageAccessIntent.set(PageAccessIntent.SEQUENTIAL);
+ * try {
+ *   // read records
+ * } finally {
+ *   PageAccessIntent.set(previous);
+ * }
+ * }</pre>
+ */
+public enum PageAccessIntent {
+  /**
+   * Page may be accessed again soon, it is admitted into the cache.
+   */
+  NORMAL,
+
+  /**
+   * Page is accessed once as a part of the sequential scan. If page is absent in the cache it is
+   * loaded into the buffer which is released once the page is released, so scans do not evict
+   * pages of the working set of other operations. Pages which are already present in the cache are
+   * served from the cache.
+   */
+  SEQUENTIAL;
+
+  private static final ThreadLocal<PageAccessIntent> CURRENT =
+      ThreadLocal.withInitial(() -> NORMAL);
+
+  /**
+   * @return Intent of the page accesses performed by the current thread.
+   */
+  public static PageAccessIntent current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Sets intent of the page accesses performed by the current thread.
+   *
+   * @return Previous intent, which should be restored once the operation is completed.
+   */
+  public static PageAccessIntent set(final PageAccessIntent intent) {
+    final PageAccessIntent previous = CURRENT.get();
+    CURRENT.set(intent);
+    return previous;
+  }
+}
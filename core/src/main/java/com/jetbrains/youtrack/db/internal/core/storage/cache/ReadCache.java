@@ -19,8 +19,11 @@
  */
 package com.jetbrains.youtrack.db.internal.core.storage.cache;
 
+import com.jetbrains.youtrack.db.internal.common.io.BandwidthThrottler;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.LogSequenceNumber;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
 
 /**
  * This class is heart of YouTrackDB storage model it presents disk backed data cache which works
@@ -58,6 +61,21 @@ public interface ReadCache {
       long fileId, long pageIndex, WriteCache writeCache, boolean verifyChecksums)
       throws IOException;
 
+  /**
+   * Loads page for read taking into account how page is going to be accessed. Pages loaded with
+   * {@link PageAccessIntent#SEQUENTIAL} intent are not admitted into the cache if they are absent
+   * in it.
+   */
+  default CacheEntry loadForRead(
+      long fileId,
+      long pageIndex,
+      WriteCache writeCache,
+      boolean verifyChecksums,
+      PageAccessIntent intent)
+      throws IOException {
+    return loadForRead(fileId, pageIndex, writeCache, verifyChecksums);
+  }
+
   CacheEntry silentLoadForRead(
       final long extFileId,
       final int pageIndex,
@@ -73,6 +91,14 @@ public interface ReadCache {
 
   long getUsedMemory();
 
+  /**
+   * @return Maximum amount of pages which may be kept in the cache, or <code>-1</code> if amount
+   * of pages is not limited.
+   */
+  default long getMaxPages() {
+    return -1;
+  }
+
   void clear();
 
   void truncateFile(long fileId, WriteCache writeCache) throws IOException;
@@ -91,4 +117,51 @@ public interface ReadCache {
   void closeStorage(WriteCache writeCache) throws IOException;
 
   void changeMaximumAmountOfMemory(long calculateReadCacheMaxMemory);
+
+  /**
+   * Loads page into the cache, if it is not loaded yet, and pins it, so the page is not evicted
+   * from the cache till the file is closed, deleted or truncated. Pinning is intended for pages
+   * which are accessed by nearly every operation on the data structure, like index root pages or
+   * cluster state pages.
+   *
+   * @param pinnedPagesPercent Maximum percent of the cache which may be occupied by pinned pages,
+   *                           value of {@link
+   *                           com.jetbrains.youtrack.db.api.config.GlobalConfiguration#DISK_CACHE_PINNED_PAGES}
+   *                           of the storage which owns the page.
+   * @return <code>true</code> if page is pinned by this call, <code>false</code> if page is absent,
+   * already pinned or limit of pinned pages is reached.
+   */
+  default boolean pinPage(long fileId, long pageIndex, WriteCache writeCache,
+      int pinnedPagesPercent) throws IOException {
+    return false;
+  }
+
+  /**
+   * Stores keys of the pages of the storage which are kept in cache, so cache may be warmed up by
+   * {@link #prewarm(WriteCache, Path, BandwidthThrottler, BooleanSupplier)} after the storage is
+   * opened again. Should be called before {@link #closeStorage(WriteCache)}.
+   *
+   * @param writeCache Write cache of the storage.
+   * @param stateFile  File to store cache state into.
+   */
+  default void storeState(WriteCache writeCache, Path stateFile) throws IOException {
+  }
+
+  /**
+   * Loads pages listed in the cache state file into the cache. Pages are loaded sequentially,
+   * sorted by file and page index, till the cache is full, all pages are loaded or loading is
+   * stopped.
+   *
+   * @param writeCache Write cache of the storage.
+   * @param stateFile  File created by {@link #storeState(WriteCache, Path)}.
+   * @param throttler  Limits amount of data loaded per second.
+   * @param stopped    Indicates whether loading of pages should be stopped.
+   */
+  default void prewarm(
+      WriteCache writeCache,
+      Path stateFile,
+      BandwidthThrottler throttler,
+      BooleanSupplier stopped)
+      throws IOException {
+  }
 }
@@ -139,6 +139,15 @@ public interface WriteCache {
 
   Map<String, Long> files();
 
+  /**
+   * @param fileId Id of the file.
+   * @return Page cache metrics of the file, or {@link FileCacheMetrics#NOOP} if metrics are not
+   * collected by this cache or file does not exist.
+   */
+  default FileCacheMetrics fileCacheMetrics(long fileId) {
+    return FileCacheMetrics.NOOP;
+  }
+
   /**
    * DO NOT DELETE THIS METHOD IT IS USED IN ENTERPRISE STORAGE
    *
@@ -5,16 +5,20 @@ import com.jetbrains.youtrack.db.internal.common.concur.lock.ThreadInterruptedEx
 import com.jetbrains.youtrack.db.internal.common.directmemory.ByteBufferPool;
 import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator.Intention;
 import com.jetbrains.youtrack.db.internal.common.directmemory.Pointer;
+import com.jetbrains.youtrack.db.internal.common.io.BandwidthThrottler;
 import com.jetbrains.youtrack.db.internal.common.profiler.metrics.CoreMetrics;
 import com.jetbrains.youtrack.db.internal.common.profiler.metrics.Ratio;
 import com.jetbrains.youtrack.db.internal.common.types.ModifiableBoolean;
 import com.jetbrains.youtrack.db.internal.common.util.RawPairLongInteger;
 import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
 import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
+import com.jetbrains.youtrack.db.internal.core.storage.StorageAccessCounters;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.AbstractWriteCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntryImpl;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.CachePointer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.FileCacheMetrics;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.PageAccessIntent;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.ReadCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.WriteCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.chm.readbuffer.BoundedBuffer;
@@ -23,14 +27,22 @@ import com.jetbrains.youtrack.db.internal.core.storage.cache.chm.writequeue.MPSC
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurablePage;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.LogSequenceNumber;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Disk cache based on ConcurrentHashMap and eviction policy which is asynchronously processed by
@@ -48,6 +60,19 @@ public final class AsyncReadCache implements ReadCache {
   private static final int N_CPU = Runtime.getRuntime().availableProcessors();
   private static final int WRITE_BUFFER_MAX_BATCH = 128 * ceilingPowerOfTwo(N_CPU);
 
+  /**
+   * Upper limit of the share of the cache occupied by pinned pages, so at least half of the cache
+   * is always available for the eviction policy.
+   */
+  private static final int MAX_PINNED_PAGES_PERCENT = 50;
+
+  /**
+   * Amount of stripes of write stamps, stamp of the stripe of the file is incremented once page of
+   * the file is loaded for write, so pages kept by {@link ScanPageRing} are not reused if they
+   * could be changed.
+   */
+  private static final int WRITE_STAMP_STRIPES = 64;
+
   private final ConcurrentHashMap<PageKey, CacheEntry> data;
   private final Lock evictionLock = new ReentrantLock();
 
@@ -68,6 +93,17 @@ public final class AsyncReadCache implements ReadCache {
   private final ByteBufferPool bufferPool;
 
   private final Ratio cacheHitRatio;
+  private final Ratio cacheBypassRatio;
+
+  private final AtomicLongArray writeStamps = new AtomicLongArray(WRITE_STAMP_STRIPES);
+  private final Set<ScanPageRing> scanPageRings = ConcurrentHashMap.newKeySet();
+  private final ThreadLocal<ScanPageRing> scanPageRing =
+      ThreadLocal.withInitial(
+          () -> {
+            final ScanPageRing ring = new ScanPageRing();
+            scanPageRings.add(ring);
+            return ring;
+          });
 
   public AsyncReadCache(
       final ByteBufferPool bufferPool,
@@ -89,6 +125,9 @@ public final class AsyncReadCache implements ReadCache {
     this.cacheHitRatio = YouTrackDBEnginesManager.instance()
         .getMetricsRegistry()
         .globalMetric(CoreMetrics.CACHE_HIT_RATIO);
+    this.cacheBypassRatio = YouTrackDBEnginesManager.instance()
+        .getMetricsRegistry()
+        .globalMetric(CoreMetrics.CACHE_BYPASS_RATIO);
   }
 
   @Override
@@ -111,6 +150,8 @@ public final class AsyncReadCache implements ReadCache {
       final WriteCache writeCache,
       final boolean verifyChecksums,
       final LogSequenceNumber startLSN) {
+    incrementWriteStamp(
+        AbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId));
     final CacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
 
     if (cacheEntry != null) {
@@ -127,9 +168,88 @@ public final class AsyncReadCache implements ReadCache {
       final long pageIndex,
       final WriteCache writeCache,
       final boolean verifyChecksums) {
+    return loadForRead(
+        fileId, pageIndex, writeCache, verifyChecksums, PageAccessIntent.current());
+  }
+
+  @Override
+  public CacheEntry loadForRead(
+      final long fileId,
+      final long pageIndex,
+      final WriteCache writeCache,
+      final boolean verifyChecksums,
+      final PageAccessIntent intent) {
+    if (intent == PageAccessIntent.SEQUENTIAL) {
+      return sequentialLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    }
+
     return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
   }
 
+  /**
+   * Loads page which is read once as a part of the sequential scan. Pages present in the cache are
+   * served from the cache, other pages are loaded bypassing the cache and eviction policy, so scans
+   * do not evict the working set of other operations. Last pages loaded bypassing the cache are
+   * kept in the {@link ScanPageRing} of the current thread, so records located on the same page
+   * do not cause reloading of the page.
+   */
+  private CacheEntry sequentialLoad(
+      final long extFileId,
+      final int pageIndex,
+      final WriteCache writeCache,
+      final boolean verifyChecksums) {
+    final long fileId = AbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), extFileId);
+    if (data.containsKey(new PageKey(fileId, pageIndex))) {
+      cacheBypassRatio.record(false);
+      return doLoad(extFileId, pageIndex, writeCache, verifyChecksums);
+    }
+
+    // stamp is taken before the loading of the page, so page changed during loading is not reused
+    final long writeStamp = writeStamp(fileId);
+    final ScanPageRing ring = scanPageRing.get();
+
+    final CachePointer ringPointer = ring.acquire(fileId, pageIndex, writeStamp);
+    if (ringPointer != null) {
+      final CacheEntry cacheEntry = new CacheEntryImpl(fileId, pageIndex, ringPointer, false, this);
+      cacheEntry.acquireEntry();
+
+      cacheBypassRatio.record(true);
+      writeCache.fileCacheMetrics(fileId).recordHit();
+      StorageAccessCounters.current().recordPageHit();
+      cacheHitRatio.record(true);
+
+      return cacheEntry;
+    }
+
+    final long loadStart = System.nanoTime();
+    final CacheEntry cacheEntry =
+        silentLoadForRead(extFileId, pageIndex, writeCache, verifyChecksums);
+    if (cacheEntry == null) {
+      return null;
+    }
+
+    final boolean bypassed = !cacheEntry.insideCache();
+    cacheBypassRatio.record(bypassed);
+    if (bypassed) {
+      ring.add(fileId, pageIndex, writeStamp, cacheEntry.getCachePointer());
+
+      final long loadTime = System.nanoTime() - loadStart;
+      writeCache.fileCacheMetrics(fileId).recordMiss(loadTime);
+      StorageAccessCounters.current().recordPageMiss(loadTime);
+      cacheHitRatio.record(false);
+    }
+
+    return cacheEntry;
+  }
+
+  private long writeStamp(final long fileId) {
+    return writeStamps.get(Long.hashCode(fileId) & (WRITE_STAMP_STRIPES - 1));
+  }
+
+  private void incrementWriteStamp(final long fileId) {
+    writeStamps.incrementAndGet(Long.hashCode(fileId) & (WRITE_STAMP_STRIPES - 1));
+  }
+
   @Override
   public CacheEntry silentLoadForRead(
       final long extFileId,
@@ -210,6 +330,8 @@ public final class AsyncReadCache implements ReadCache {
           if (cacheEntry.acquireEntry()) {
             afterRead(cacheEntry);
             success = true;
+            cacheEntry.getFileCacheMetrics().recordHit();
+            StorageAccessCounters.current().recordPageHit();
 
             return cacheEntry;
           }
@@ -222,6 +344,7 @@ public final class AsyncReadCache implements ReadCache {
                   (page, entry) -> {
                     if (entry == null) {
                       try {
+                        final long loadStart = System.nanoTime();
                         final CachePointer pointer =
                             writeCache.load(
                                 fileId, pageIndex, new ModifiableBoolean(), verifyChecksums);
@@ -230,8 +353,18 @@ public final class AsyncReadCache implements ReadCache {
                         }
 
                         cacheSize.incrementAndGet();
-                        return new CacheEntryImpl(
-                            page.getFileId(), page.getPageIndex(), pointer, true, this);
+                        final CacheEntry newEntry =
+                            new CacheEntryImpl(
+                                page.getFileId(), page.getPageIndex(), pointer, true, this);
+
+                        final FileCacheMetrics fileCacheMetrics =
+                            writeCache.fileCacheMetrics(fileId);
+                        final long loadTime = System.nanoTime() - loadStart;
+                        fileCacheMetrics.recordMiss(loadTime);
+                        newEntry.setFileCacheMetrics(fileCacheMetrics);
+                        StorageAccessCounters.current().recordPageMiss(loadTime);
+
+                        return newEntry;
                       } catch (final IOException e) {
                         throw BaseException.wrapException(
                             new StorageException(
@@ -253,6 +386,8 @@ public final class AsyncReadCache implements ReadCache {
             if (read[0]) {
               success = true;
               afterRead(cacheEntry);
+              cacheEntry.getFileCacheMetrics().recordHit();
+              StorageAccessCounters.current().recordPageHit();
             } else {
               afterAdd(cacheEntry);
 
@@ -274,7 +409,8 @@ public final class AsyncReadCache implements ReadCache {
     }
   }
 
-  private CacheEntry addNewPagePointerToTheCache(final long fileId, final int pageIndex) {
+  private CacheEntry addNewPagePointerToTheCache(
+      final long fileId, final int pageIndex, final WriteCache writeCache) {
 
     final Pointer pointer = bufferPool.acquireDirect(true, Intention.ADD_NEW_PAGE_IN_DISK_CACHE);
     final CachePointer cachePointer = new CachePointer(pointer, bufferPool, fileId, pageIndex);
@@ -283,6 +419,7 @@ public final class AsyncReadCache implements ReadCache {
         pointer.getNativeByteBuffer(), new LogSequenceNumber(-1, -1));
 
     final CacheEntry cacheEntry = new CacheEntryImpl(fileId, pageIndex, cachePointer, true, this);
+    cacheEntry.setFileCacheMetrics(writeCache.fileCacheMetrics(fileId));
     cacheEntry.acquireEntry();
 
     final CacheEntry oldCacheEntry = data.putIfAbsent(cacheEntry.getPageKey(), cacheEntry);
@@ -306,6 +443,51 @@ public final class AsyncReadCache implements ReadCache {
     }
   }
 
+  @Override
+  public boolean pinPage(final long fileId, final long pageIndex, final WriteCache writeCache,
+      final int pinnedPagesPercent) {
+    final CacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, true);
+    if (cacheEntry == null) {
+      return false;
+    }
+
+    try {
+      evictionLock.lock();
+      try {
+        emptyBuffers();
+
+        final int maxPinnedPagesPercent = Math.min(pinnedPagesPercent, MAX_PINNED_PAGES_PERCENT);
+        if (policy.pinnedSize() >= policy.getMaxSize() * maxPinnedPagesPercent / 100) {
+          return false;
+        }
+
+        return policy.onPin(cacheEntry);
+      } finally {
+        evictionLock.unlock();
+      }
+    } finally {
+      releaseFromRead(cacheEntry);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if page is present in the cache and is pinned.
+   */
+  public boolean isPinned(final long fileId, final long pageIndex) {
+    final CacheEntry cacheEntry = data.get(new PageKey(fileId, (int) pageIndex));
+    if (cacheEntry == null) {
+      return false;
+    }
+
+    evictionLock.lock();
+    try {
+      emptyBuffers();
+      return policy.isPinned(cacheEntry);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
   @Override
   public void releaseFromRead(final CacheEntry cacheEntry) {
     cacheEntry.releaseEntry();
@@ -364,7 +546,7 @@ public final class AsyncReadCache implements ReadCache {
       throws IOException {
     fileId = AbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
     final int newPageIndex = writeCache.allocateNewPage(fileId);
-    final CacheEntry cacheEntry = addNewPagePointerToTheCache(fileId, newPageIndex);
+    final CacheEntry cacheEntry = addNewPagePointerToTheCache(fileId, newPageIndex, writeCache);
 
     cacheEntry.acquireExclusiveLock();
     cacheEntry.markAllocated();
@@ -484,8 +666,17 @@ public final class AsyncReadCache implements ReadCache {
     return ((long) cacheSize.get()) * pageSize;
   }
 
+  @Override
+  public long getMaxPages() {
+    return policy.getMaxSize();
+  }
+
   @Override
   public void clear() {
+    for (final ScanPageRing ring : scanPageRings) {
+      ring.releaseAll();
+    }
+
     evictionLock.lock();
     try {
       emptyBuffers();
@@ -567,7 +758,133 @@ public final class AsyncReadCache implements ReadCache {
     writeCache.close();
   }
 
+  @Override
+  public void storeState(final WriteCache writeCache, final Path stateFile) throws IOException {
+    final List<CacheEntry> entries = new ArrayList<>();
+    final List<CacheStateFile.Page> pages = new ArrayList<>();
+
+    evictionLock.lock();
+    try {
+      emptyBuffers();
+
+      collectPages(policy.pinned(), CacheStateFile.PROTECTION, writeCache, entries, pages);
+      collectPages(policy.protection(), CacheStateFile.PROTECTION, writeCache, entries, pages);
+      collectPages(policy.probation(), CacheStateFile.PROBATION, writeCache, entries, pages);
+      collectPages(policy.eden(), CacheStateFile.EDEN, writeCache, entries, pages);
+    } finally {
+      evictionLock.unlock();
+    }
+
+    final List<CacheStateFile.Page> namedPages = new ArrayList<>(pages.size());
+    for (int i = 0; i < pages.size(); i++) {
+      final String fileName = writeCache.fileNameById(entries.get(i).getFileId());
+      if (fileName != null) {
+        final CacheStateFile.Page page = pages.get(i);
+        namedPages.add(
+            new CacheStateFile.Page(
+                fileName, page.pageIndex(), page.segment(), page.frequency()));
+      }
+    }
+
+    CacheStateFile.write(stateFile, namedPages);
+  }
+
+  private void collectPages(
+      final Iterator<CacheEntry> segment,
+      final byte segmentId,
+      final WriteCache writeCache,
+      final List<CacheEntry> entries,
+      final List<CacheStateFile.Page> pages) {
+    while (segment.hasNext()) {
+      final CacheEntry cacheEntry = segment.next();
+      if (AbstractWriteCache.extractStorageId(cacheEntry.getFileId()) != writeCache.getId()) {
+        continue;
+      }
+
+      entries.add(cacheEntry);
+      pages.add(
+          new CacheStateFile.Page(
+              null,
+              cacheEntry.getPageIndex(),
+              segmentId,
+              policy.frequency(cacheEntry.getPageKey())));
+    }
+  }
+
+  @Override
+  public void prewarm(
+      final WriteCache writeCache,
+      final Path stateFile,
+      final BandwidthThrottler throttler,
+      final BooleanSupplier stopped)
+      throws IOException {
+    final List<CacheStateFile.Page> pages = CacheStateFile.read(stateFile);
+
+    // only pages which fit into the free space of the cache are loaded, so prewarm does not evict
+    // pages which are already used
+    final int freeSpace = maxCacheSize - cacheSize.get();
+    final List<PageKey> pageKeys = new ArrayList<>(Math.max(Math.min(pages.size(), freeSpace), 0));
+    final List<CacheStateFile.Page> selectedPages = new ArrayList<>();
+
+    final Map<String, Long> fileIds = new HashMap<>();
+    final Map<Long, Long> filledUpTo = new HashMap<>();
+    for (final CacheStateFile.Page page : pages) {
+      if (pageKeys.size() >= freeSpace) {
+        break;
+      }
+
+      final long fileId =
+          fileIds.computeIfAbsent(
+              page.fileName(),
+              name -> writeCache.exists(name) ? writeCache.fileIdByName(name) : -1);
+      if (fileId < 0) {
+        continue;
+      }
+
+      if (page.pageIndex() >= filledUpTo.computeIfAbsent(fileId, writeCache::getFilledUpTo)) {
+        continue;
+      }
+
+      pageKeys.add(
+          new PageKey(
+              AbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId),
+              page.pageIndex()));
+      selectedPages.add(page);
+    }
+
+    evictionLock.lock();
+    try {
+      for (int i = 0; i < pageKeys.size(); i++) {
+        policy.restoreFrequency(pageKeys.get(i), selectedPages.get(i).frequency());
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+
+    pageKeys.sort(
+        Comparator.comparingLong(PageKey::getFileId).thenComparingInt(PageKey::getPageIndex));
+
+    for (final PageKey pageKey : pageKeys) {
+      if (stopped.getAsBoolean() || cacheSize.get() >= maxCacheSize) {
+        return;
+      }
+
+      throttler.acquire(pageSize);
+
+      final CacheEntry cacheEntry =
+          loadForRead(pageKey.getFileId(), pageKey.getPageIndex(), writeCache, false);
+      if (cacheEntry != null) {
+        releaseFromRead(cacheEntry);
+      }
+    }
+  }
+
   private void clearFile(final long fileId, final int filledUpTo, final WriteCache writeCache) {
+    incrementWriteStamp(fileId);
+    for (final ScanPageRing ring : scanPageRings) {
+      ring.releaseFile(fileId);
+    }
+
     evictionLock.lock();
     try {
       emptyBuffers();
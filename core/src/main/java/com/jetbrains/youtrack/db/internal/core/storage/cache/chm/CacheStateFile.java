@@ -0,0 +1,123 @@
+package com.jetbrains.youtrack.db.internal.core.storage.cache.chm;
+
+import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File which contains state of the read cache for a single storage: keys of the pages which were
+ * kept in cache when storage was closed, together with the segment of W-TinyLFU policy which
+ * contained them and their access frequency estimated by the frequency sketch.
+ *
+ * <p>Pages are stored grouped by file name, because file ids may change between storage close and
+ * open. Pages are read in order of their priority: pages of protection segment, then pages of
+ * probation segment and then pages of eden segment, the most frequently used pages go first in each
+ * segment.
+ */
+final class CacheStateFile {
+
+  static final byte PROTECTION = 0;
+  static final byte PROBATION = 1;
+  static final byte EDEN = 2;
+
+  private static final int MAGIC_NUMBER = 0x59444353;
+  private static final int FORMAT_VERSION = 1;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  record Page(String fileName, int pageIndex, byte segment, int frequency) {
+
+  }
+
+  private CacheStateFile() {
+  }
+
+  static void write(final Path path, final List<Page> pages) throws IOException {
+    final Map<String, List<Page>> pagesByFile = new LinkedHashMap<>();
+    for (final Page page : pages) {
+      pagesByFile.computeIfAbsent(page.fileName(), k -> new ArrayList<>()).add(page);
+    }
+
+    final Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+    try (final DataOutputStream out =
+        new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(tempPath), BUFFER_SIZE))) {
+      out.writeInt(MAGIC_NUMBER);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(pages.size());
+      out.writeInt(pagesByFile.size());
+
+      for (final Map.Entry<String, List<Page>> entry : pagesByFile.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeInt(entry.getValue().size());
+
+        for (final Page page : entry.getValue()) {
+          out.writeInt(page.pageIndex());
+          out.writeByte(page.segment());
+          out.writeByte(page.frequency());
+        }
+      }
+    }
+
+    Files.move(
+        tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * @return Pages listed in the file in order of their priority.
+   */
+  static List<Page> read(final Path path) throws IOException {
+    try (final DataInputStream in =
+        new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+      if (in.readInt() != MAGIC_NUMBER) {
+        throw new StorageException("File '" + path + "' is not a disk cache state file");
+      }
+
+      final int formatVersion = in.readInt();
+      if (formatVersion != FORMAT_VERSION) {
+        throw new StorageException(
+            "Unsupported version of disk cache state file '"
+                + path
+                + "': "
+                + formatVersion
+                + " (supported version is "
+                + FORMAT_VERSION
+                + ")");
+      }
+
+      final int pagesCount = in.readInt();
+      final int filesCount = in.readInt();
+
+      final List<Page> pages = new ArrayList<>(pagesCount);
+      for (int i = 0; i < filesCount; i++) {
+        final String fileName = in.readUTF();
+        final int filePages = in.readInt();
+
+        for (int n = 0; n < filePages; n++) {
+          final int pageIndex = in.readInt();
+          final byte segment = in.readByte();
+          final int frequency = in.readByte();
+
+          pages.add(new Page(fileName, pageIndex, segment, frequency));
+        }
+      }
+
+      pages.sort(
+          Comparator.comparingInt(Page::segment)
+              .thenComparing(Comparator.comparingInt(Page::frequency).reversed()));
+      return pages;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.jetbrains.youtrack.db.internal.core.storage.cache.chm;
+
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CachePointer;
+
+/**
+ * Small set of pages which were loaded by the sequential scan of single thread bypassing the
+ * cache. Scans read several records from the same data page and return to the same page of
+ * position map for each record, so the last loaded pages are kept in the ring and are reused
+ * instead of being loaded from the write cache for each record.
+ *
+ * <p>Ring holds its own reader reference of each page. Page is taken from the ring only if write
+ * stamp of its file is not changed since the page was loaded, so pages changed after the loading
+ * are loaded again. Ring is accessed by the owner thread and by the cache once files are closed,
+ * so all methods are synchronized, lock is not contended in the common case.
+ */
+final class ScanPageRing {
+
+  static final int CAPACITY = 4;
+
+  private final long[] fileIds = new long[CAPACITY];
+  private final int[] pageIndexes = new int[CAPACITY];
+  private final long[] stamps = new long[CAPACITY];
+  private final CachePointer[] pointers = new CachePointer[CAPACITY];
+  private final long[] accessTicks = new long[CAPACITY];
+
+  private long tick;
+
+  /**
+   * @return Page with acquired reader reference or <code>null</code> if page is absent in the ring
+   * or was changed after it was loaded.
+   */
+  synchronized CachePointer acquire(final long fileId, final int pageIndex, final long stamp) {
+    for (int i = 0; i < CAPACITY; i++) {
+      final CachePointer pointer = pointers[i];
+      if (pointer != null && fileIds[i] == fileId && pageIndexes[i] == pageIndex) {
+        if (stamps[i] != stamp) {
+          release(i);
+          return null;
+        }
+
+        accessTicks[i] = ++tick;
+        pointer.incrementReadersReferrer();
+        return pointer;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Adds page to the ring replacing the least recently used one, so page of position map which is
+   * accessed for each record is not replaced by the data pages.
+   *
+   * @param stamp Write stamp of the file taken before the page was loaded.
+   */
+  synchronized void add(
+      final long fileId, final int pageIndex, final long stamp, final CachePointer pointer) {
+    int slot = 0;
+    for (int i = 0; i < CAPACITY; i++) {
+      if (pointers[i] == null) {
+        slot = i;
+        break;
+      }
+
+      if (accessTicks[i] < accessTicks[slot]) {
+        slot = i;
+      }
+    }
+
+    if (pointers[slot] != null) {
+      release(slot);
+    }
+
+    pointer.incrementReadersReferrer();
+
+    fileIds[slot] = fileId;
+    pageIndexes[slot] = pageIndex;
+    stamps[slot] = stamp;
+    pointers[slot] = pointer;
+    accessTicks[slot] = ++tick;
+  }
+
+  /**
+   * Releases pages of the file which is closed, truncated or deleted.
+   */
+  synchronized void releaseFile(final long fileId) {
+    for (int i = 0; i < CAPACITY; i++) {
+      if (pointers[i] != null && fileIds[i] == fileId) {
+        release(i);
+      }
+    }
+  }
+
+  synchronized void releaseAll() {
+    for (int i = 0; i < CAPACITY; i++) {
+      if (pointers[i] != null) {
+        release(i);
+      }
+    }
+  }
+
+  private void release(final int index) {
+    final CachePointer pointer = pointers[index];
+    pointers[index] = null;
+    pointer.decrementReadersReferrer();
+  }
+}
@@ -8,6 +8,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Window TinyLFU eviction policy https://arxiv.org/pdf/1512.00727.pdf.
+ *
+ * <p>Pages may also be pinned in the cache, see {@link #onPin(CacheEntry)}. Pinned pages are
+ * never evicted and are removed from the cache only if the file to which they belong is closed,
+ * deleted or truncated. Space occupied by pinned pages is subtracted from the space available for
+ * the eden and main segments of the cache.
  */
 public final class WTinyLFUPolicy {
 
@@ -23,6 +28,7 @@ public final class WTinyLFUPolicy {
   private final LRUList eden = new LRUList();
   private final LRUList probation = new LRUList();
   private final LRUList protection = new LRUList();
+  private final LRUList pinned = new LRUList();
 
   private int maxEdenSize;
   private int maxProtectedSize;
@@ -38,7 +44,7 @@ public final class WTinyLFUPolicy {
   }
 
   public void setMaxSize(final int maxSize) {
-    if (eden.size() + protection.size() + probation.size() > maxSize) {
+    if (eden.size() + protection.size() + probation.size() + pinned.size() > maxSize) {
       throw new IllegalStateException(
           "Can set maximum cache size to "
               + maxSize
@@ -118,35 +124,11 @@ public final class WTinyLFUPolicy {
           probation.poll();
           probation.moveToTheTail(candidate);
 
-          if (victim.freeze()) {
-            final boolean removed = data.remove(victim.getPageKey(), victim);
-            victim.makeDead();
-
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
-
-            final CachePointer pointer = victim.getCachePointer();
-
-            pointer.decrementReadersReferrer();
-            victim.clearCachePointer();
-          } else {
+          if (!evict(victim)) {
             eden.moveToTheTail(victim);
           }
         } else {
-          if (candidate.freeze()) {
-            final boolean removed = data.remove(candidate.getPageKey(), candidate);
-            candidate.makeDead();
-
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
-
-            final CachePointer pointer = candidate.getCachePointer();
-
-            pointer.decrementReadersReferrer();
-            candidate.clearCachePointer();
-          } else {
+          if (!evict(candidate)) {
             eden.moveToTheTail(candidate);
           }
         }
@@ -156,6 +138,83 @@ public final class WTinyLFUPolicy {
     assert protection.size() <= maxProtectedSize;
   }
 
+  /**
+   * Removes entry which is already excluded from the LRU lists from the cache.
+   *
+   * @return <code>false</code> if entry is used and can not be evicted.
+   */
+  private boolean evict(final CacheEntry cacheEntry) {
+    if (!cacheEntry.freeze()) {
+      return false;
+    }
+
+    final boolean removed = data.remove(cacheEntry.getPageKey(), cacheEntry);
+    cacheEntry.makeDead();
+
+    if (removed) {
+      cacheSize.decrementAndGet();
+      cacheEntry.getFileCacheMetrics().recordEviction();
+    }
+
+    final CachePointer pointer = cacheEntry.getCachePointer();
+
+    pointer.decrementReadersReferrer();
+    cacheEntry.clearCachePointer();
+
+    return true;
+  }
+
+  /**
+   * Pins page in the cache, so it is not evicted till it is removed by {@link
+   * #onRemove(CacheEntry)}. Size of the eden and main segments is decreased by one page, so some
+   * pages may be evicted from them.
+   *
+   * @return <code>false</code> if page is already pinned or is not present in the cache.
+   */
+  boolean onPin(final CacheEntry cacheEntry) {
+    if (probation.contains(cacheEntry)) {
+      probation.remove(cacheEntry);
+    } else if (protection.contains(cacheEntry)) {
+      protection.remove(cacheEntry);
+    } else if (eden.contains(cacheEntry)) {
+      eden.remove(cacheEntry);
+    } else {
+      return false;
+    }
+
+    pinned.moveToTheTail(cacheEntry);
+    calculateMaxSizes();
+
+    while (protection.size() > maxProtectedSize) {
+      probation.moveToTheTail(protection.poll());
+    }
+
+    // used pages can not be evicted so they are moved to the eden, where they are processed
+    // again on the next purge
+    while (probation.size() + protection.size() > maxSecondLevelSize) {
+      final CacheEntry victim = probation.poll();
+      if (!evict(victim)) {
+        eden.moveToTheTail(victim);
+      }
+    }
+
+    purgeEden();
+
+    assert eden.size() <= maxEdenSize;
+    assert protection.size() <= maxProtectedSize;
+    assert probation.size() + protection.size() <= maxSecondLevelSize;
+
+    return true;
+  }
+
+  int pinnedSize() {
+    return pinned.size();
+  }
+
+  boolean isPinned(final CacheEntry cacheEntry) {
+    return pinned.contains(cacheEntry);
+  }
+
   void onRemove(final CacheEntry cacheEntry) {
     assert cacheEntry.isFrozen();
 
@@ -165,6 +224,9 @@ public final class WTinyLFUPolicy {
       protection.remove(cacheEntry);
     } else if (eden.contains(cacheEntry)) {
       eden.remove(cacheEntry);
+    } else if (pinned.contains(cacheEntry)) {
+      pinned.remove(cacheEntry);
+      calculateMaxSizes();
     }
 
     cacheEntry.makeDead();
@@ -175,9 +237,29 @@ public final class WTinyLFUPolicy {
   }
 
   private void calculateMaxSizes() {
-    maxEdenSize = maxSize * EDEN_PERCENT / 100;
-    maxProtectedSize = maxSize - maxEdenSize - (maxSize - maxEdenSize) * PROBATIONARY_PERCENT / 100;
-    maxSecondLevelSize = maxSize - maxEdenSize;
+    final int evictableSize = maxSize - pinned.size();
+
+    maxEdenSize = evictableSize * EDEN_PERCENT / 100;
+    maxProtectedSize =
+        evictableSize - maxEdenSize - (evictableSize - maxEdenSize) * PROBATIONARY_PERCENT / 100;
+    maxSecondLevelSize = evictableSize - maxEdenSize;
+  }
+
+  /**
+   * @return Access frequency of the page estimated by the admission sketch.
+   */
+  int frequency(final PageKey pageKey) {
+    return admittor.frequency(pageKey.hashCode());
+  }
+
+  /**
+   * Restores access frequency of the page, for example, if cache state was restored after restart.
+   */
+  void restoreFrequency(final PageKey pageKey, final int frequency) {
+    final int hash = pageKey.hashCode();
+    for (int i = admittor.frequency(hash); i < frequency; i++) {
+      admittor.increment(hash);
+    }
   }
 
   Iterator<CacheEntry> eden() {
@@ -192,8 +274,12 @@ public final class WTinyLFUPolicy {
     return probation.iterator();
   }
 
+  Iterator<CacheEntry> pinned() {
+    return pinned.iterator();
+  }
+
   void assertSize() {
-    assert eden.size() + probation.size() + protection.size() == cacheSize.get()
+    assert eden.size() + probation.size() + protection.size() + pinned.size() == cacheSize.get()
         && data.size() == cacheSize.get()
         && cacheSize.get() <= maxSize;
   }
@@ -202,7 +288,8 @@ public final class WTinyLFUPolicy {
     for (final CacheEntry cacheEntry : data.values()) {
       assert eden.contains(cacheEntry)
           || protection.contains(cacheEntry)
-          || probation.contains(cacheEntry);
+          || probation.contains(cacheEntry)
+          || pinned.contains(cacheEntry);
     }
 
     int counter = 0;
@@ -221,6 +308,11 @@ public final class WTinyLFUPolicy {
       counter++;
     }
 
+    for (final CacheEntry cacheEntry : pinned) {
+      assert data.get(cacheEntry.getPageKey()) == cacheEntry;
+      counter++;
+    }
+
     assert counter == data.size();
   }
 }
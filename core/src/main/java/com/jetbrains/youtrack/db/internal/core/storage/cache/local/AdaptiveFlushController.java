@@ -0,0 +1,213 @@
+package com.jetbrains.youtrack.db.internal.core.storage.cache.local;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calculates amount of pages which should be flushed by each periodic flush of {@link WOWCache}.
+ *
+ * <p>Instead of flushing fixed amount of pages and rescheduling flush immediately once backlog is
+ * detected, which leads to the bursts of writes competing with WAL writes of committing
+ * transactions, rate of flush is changed smoothly by the PID controller. Controller keeps amount of
+ * exclusive dirty pages and size of WAL near their targets:
+ *
+ * <ul>
+ *   <li>the rate of growth of dirty pages is used as the base value of the flush rate, so steady
+ *       load is followed without error;
+ *   <li>the relative deviation of dirty pages or WAL size (whichever is bigger) from its target
+ *       corrects the base rate, correction is proportional to the throughput of the disk;
+ *   <li>the rate is limited by the measured throughput of the disk, so flush does not saturate the
+ *       disk more than it can handle.
+ * </ul>
+ *
+ * <p>Flush rate is converted into the amount of pages per flush, fractional part is carried over to
+ * the next flush. Pages are flushed only once at least {@code minPagesToFlush} pages are
+ * accumulated, because write cache flushes pages by chunks.
+ *
+ * <p>Instance is not thread safe, it is expected to be used by the single flush thread.
+ */
+final class AdaptiveFlushController {
+
+  private static final double PROPORTIONAL_GAIN = 0.5;
+  private static final double INTEGRAL_GAIN = 0.1;
+  private static final double DERIVATIVE_GAIN = 0.01;
+
+  /**
+   * Limit of accumulated error to prevent integral windup when flush is limited by disk
+   * throughput.
+   */
+  private static final double INTEGRAL_LIMIT = 5.0;
+
+  /**
+   * Weight of the new sample in exponentially weighted moving averages of the measured values.
+   */
+  private static final double SMOOTHING = 0.2;
+
+  private static final double NANOS_IN_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final long dirtyPagesTarget;
+  private final long walSizeTarget;
+  private final int minPagesToFlush;
+
+  private long lastTickTs = -1;
+  private long lastDirtyPages;
+
+  private long pagesFlushedSinceTick;
+  private long pagesFlushed;
+  private long flushNanos;
+
+  private double dirtyPagesGrowthRate;
+  private double diskThroughput;
+  private double pageWriteLatency;
+
+  private double integral;
+  private double smoothedError;
+  private boolean walBound;
+
+  private double targetRate;
+  private double budget;
+
+  /**
+   * @param dirtyPagesTarget Amount of exclusive dirty pages controller tries to keep in the cache.
+   * @param walSizeTarget    Size of WAL (in bytes) controller tries to keep.
+   * @param minPagesToFlush  Minimum amount of pages which is flushed at once.
+   */
+  AdaptiveFlushController(
+      final long dirtyPagesTarget, final long walSizeTarget, final int minPagesToFlush) {
+    this.dirtyPagesTarget = Math.max(dirtyPagesTarget, 1);
+    this.walSizeTarget = Math.max(walSizeTarget, 1);
+    this.minPagesToFlush = Math.max(minPagesToFlush, 1);
+  }
+
+  /**
+   * Registers pages written to the disk by any flush of write cache.
+   *
+   * @param pages Amount of written pages.
+   * @param nanos Time spent on write of the pages.
+   */
+  void onPagesFlushed(final int pages, final long nanos) {
+    if (pages <= 0) {
+      return;
+    }
+
+    pagesFlushedSinceTick += pages;
+    pagesFlushed += pages;
+    flushNanos += nanos;
+  }
+
+  /**
+   * Calculates amount of pages which should be flushed at current moment.
+   *
+   * @param now        Current value of {@link System#nanoTime()}.
+   * @param dirtyPages Current amount of exclusive dirty pages.
+   * @param walSize    Current size of WAL in bytes.
+   * @return Amount of pages to flush, either <code>0</code> or at least {@code minPagesToFlush}.
+   */
+  long pagesToFlush(final long now, final long dirtyPages, final long walSize) {
+    if (lastTickTs < 0 || now <= lastTickTs) {
+      lastTickTs = now;
+      lastDirtyPages = dirtyPages;
+      pagesFlushedSinceTick = 0;
+      return 0;
+    }
+
+    final double interval = (now - lastTickTs) / NANOS_IN_SECOND;
+
+    // pages which are flushed since previous tick decrease amount of dirty pages, so they are
+    // added back to get amount of pages which became dirty
+    final double growthRate =
+        Math.max(dirtyPages - lastDirtyPages + pagesFlushedSinceTick, 0) / interval;
+    dirtyPagesGrowthRate += SMOOTHING * (growthRate - dirtyPagesGrowthRate);
+
+    if (pagesFlushed > 0 && flushNanos > 0) {
+      final double throughput = pagesFlushed * NANOS_IN_SECOND / flushNanos;
+      final double latency = (double) flushNanos / pagesFlushed;
+      if (diskThroughput == 0) {
+        diskThroughput = throughput;
+        pageWriteLatency = latency;
+      } else {
+        diskThroughput += SMOOTHING * (throughput - diskThroughput);
+        pageWriteLatency += SMOOTHING * (latency - pageWriteLatency);
+      }
+
+      pagesFlushed = 0;
+      flushNanos = 0;
+    }
+
+    final double dirtyPagesError = (double) (dirtyPages - dirtyPagesTarget) / dirtyPagesTarget;
+    final double walError = (double) (walSize - walSizeTarget) / walSizeTarget;
+    walBound = walError > dirtyPagesError;
+
+    final double error = Math.max(dirtyPagesError, walError);
+    integral = Math.max(-INTEGRAL_LIMIT, Math.min(INTEGRAL_LIMIT, integral + error * interval));
+
+    // derivative is calculated on smoothed error, otherwise single flush which changes amount of
+    // dirty pages causes opposite change of flush rate on the next tick
+    final double previousError = smoothedError;
+    smoothedError += SMOOTHING * (error - smoothedError);
+    final double derivative = (smoothedError - previousError) / interval;
+
+    // till disk throughput is not measured correction is scaled by the minimum flush rate
+    final double scale =
+        diskThroughput > 0 ? diskThroughput : Math.max(minPagesToFlush / interval, growthRate);
+    double rate =
+        dirtyPagesGrowthRate
+            + scale
+            * (PROPORTIONAL_GAIN * error + INTEGRAL_GAIN * integral + DERIVATIVE_GAIN * derivative);
+
+    if (diskThroughput > 0) {
+      rate = Math.min(rate, diskThroughput);
+    }
+    rate = Math.max(rate, 0);
+    targetRate = rate;
+
+    lastTickTs = now;
+    lastDirtyPages = dirtyPages;
+    pagesFlushedSinceTick = 0;
+
+    if (rate == 0 || (dirtyPages == 0 && !walBound)) {
+      budget = 0;
+      return 0;
+    }
+
+    // budget is limited to prevent burst of writes after the period of low flush rate
+    budget = Math.min(budget + rate * interval, Math.max(rate, minPagesToFlush));
+    if (budget < minPagesToFlush) {
+      return 0;
+    }
+
+    final long pages = (long) budget;
+    budget -= pages;
+
+    return pages;
+  }
+
+  /**
+   * @return <code>true</code> if WAL size deviates from its target more than amount of dirty pages,
+   * in such case the oldest dirty pages should be flushed first to allow truncation of WAL.
+   */
+  boolean isWalBound() {
+    return walBound;
+  }
+
+  /**
+   * @return Flush rate (pages per second) calculated during the last call of {@link
+   * #pagesToFlush(long, long, long)}.
+   */
+  long targetRate() {
+    return (long) targetRate;
+  }
+
+  /**
+   * @return Smoothed rate (pages per second) with which pages become dirty.
+   */
+  long dirtyPagesGrowthRate() {
+    return (long) dirtyPagesGrowthRate;
+  }
+
+  /**
+   * @return Smoothed time (in nanoseconds) needed to write single page to the disk.
+   */
+  long pageWriteLatency() {
+    return (long) pageWriteLatency;
+  }
+}
@@ -0,0 +1,689 @@
+package com.jetbrains.youtrack.db.internal.core.storage.cache.local;
+
+import com.jetbrains.youtrack.db.api.exception.ModificationOperationProhibitedException;
+import com.jetbrains.youtrack.db.internal.common.directmemory.ByteBufferPool;
+import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator.Intention;
+import com.jetbrains.youtrack.db.internal.common.directmemory.Pointer;
+import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.StringSerializer;
+import com.jetbrains.youtrack.db.internal.common.types.ModifiableBoolean;
+import com.jetbrains.youtrack.db.internal.core.command.CommandOutputListener;
+import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
+import com.jetbrains.youtrack.db.internal.core.storage.ChecksumMode;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.AbstractWriteCache;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntryImpl;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CachePointer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.PageDataVerificationError;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.ReadCache;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.WriteCache;
+import com.jetbrains.youtrack.db.internal.core.storage.fs.File;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.PageIsBrokenListener;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.LogSequenceNumber;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.CRC32;
+
+/**
+ * Read only disk cache which maps data files of the storage into memory and serves pages directly
+ * from the mapping. Pages are neither copied into direct memory nor cached by the cache itself,
+ * they are cached by OS page cache only, so opening of the storage does not depend on its size.
+ *
+ * <p>Cache is used to open storages which are never changed, like snapshots, all operations which
+ * modify data throw {@link ModificationOperationProhibitedException}. Checksum of the page is
+ * verified only once, when the page is loaded for the first time. Encrypted storages are not
+ * supported because their pages have to be decrypted before usage.
+ */
+public final class MemoryMappedReadOnlyCache extends AbstractWriteCache
+    implements ReadCache, WriteCache {
+
+  /**
+   * Maximum size of single mapped region of the file, it is limited by capacity of
+   * {@link ByteBuffer}.
+   */
+  private static final int MAX_REGION_SIZE = 1 << 30;
+
+  private final int id;
+  private final int pageSize;
+  private final int pagesPerRegion;
+  private final Path storagePath;
+  private final String storageName;
+  private final ChecksumMode checksumMode;
+  private final ByteBufferPool bufferPool;
+
+  private final Map<String, Integer> nameIdMap = new ConcurrentHashMap<>();
+  private final Map<Integer, MappedFile> files = new ConcurrentHashMap<>();
+
+  private final List<WeakReference<PageIsBrokenListener>> pageIsBrokenListeners =
+      new CopyOnWriteArrayList<>();
+
+  public MemoryMappedReadOnlyCache(
+      final int pageSize,
+      final Path storagePath,
+      final String storageName,
+      final int id,
+      final ChecksumMode checksumMode,
+      final ByteBufferPool bufferPool) {
+    this.pageSize = pageSize;
+    this.pagesPerRegion = Math.max(MAX_REGION_SIZE / pageSize, 1);
+    this.storagePath = storagePath;
+    this.storageName = storageName;
+    this.id = id;
+    this.checksumMode = checksumMode;
+    this.bufferPool = bufferPool;
+  }
+
+  /**
+   * Reads file registry of the storage and maps all registered files into memory.
+   */
+  @Override
+  public void open() throws IOException {
+    final Path nameIdMapPath = storagePath.resolve(WOWCache.NAME_ID_MAP_V3);
+    if (!Files.exists(nameIdMapPath)) {
+      throw new StorageException(
+          "File registry of storage "
+              + storageName
+              + " is absent, storage can not be opened in read only mode");
+    }
+
+    final Map<String, NameFileIdEntry> entries = new HashMap<>();
+    try (final FileChannel nameIdMapHolder =
+        FileChannel.open(nameIdMapPath, StandardOpenOption.READ)) {
+      NameFileIdEntry entry;
+      while ((entry =
+          WOWCache.readNextNameIdEntryV3(
+              nameIdMapHolder, StringSerializer.INSTANCE, storageName))
+          != null) {
+        if (entry.getFileId() != 0) {
+          entries.put(entry.getName(), entry);
+        } else {
+          entries.remove(entry.getName());
+        }
+      }
+    }
+
+    for (final NameFileIdEntry entry : entries.values()) {
+      if (entry.getFileId() < 0) {
+        continue;
+      }
+
+      final Path path = storagePath.resolve(entry.getFileSystemName());
+      if (Files.exists(path)) {
+        files.put(entry.getFileId(), mapFile(path));
+        nameIdMap.put(entry.getName(), entry.getFileId());
+      }
+    }
+  }
+
+  private MappedFile mapFile(final Path path) throws IOException {
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long pages = Math.max(channel.size() - File.HEADER_SIZE, 0) / pageSize;
+      final MappedByteBuffer[] regions =
+          new MappedByteBuffer[(int) ((pages + pagesPerRegion - 1) / pagesPerRegion)];
+
+      for (int i = 0; i < regions.length; i++) {
+        final long firstPage = (long) i * pagesPerRegion;
+        final long regionPages = Math.min(pagesPerRegion, pages - firstPage);
+
+        // mapping stays valid after the channel is closed
+        regions[i] =
+            channel.map(
+                MapMode.READ_ONLY,
+                File.HEADER_SIZE + firstPage * pageSize,
+                regionPages * pageSize);
+      }
+
+      final AtomicLongArray verifiedPages;
+      if (checksumMode == ChecksumMode.StoreAndVerify
+          || checksumMode == ChecksumMode.StoreAndThrow
+          || checksumMode == ChecksumMode.StoreAndSwitchReadOnlyMode) {
+        verifiedPages = new AtomicLongArray(Math.toIntExact((pages + 63) >>> 6));
+      } else {
+        verifiedPages = null;
+      }
+
+      return new MappedFile(path.getFileName().toString(), pages, regions, verifiedPages);
+    }
+  }
+
+  @Override
+  public CacheEntry loadForRead(
+      final long fileId,
+      final long pageIndex,
+      final WriteCache writeCache,
+      final boolean verifyChecksums) {
+    final CachePointer cachePointer = loadPage(fileId, pageIndex, verifyChecksums);
+    if (cachePointer == null) {
+      return null;
+    }
+
+    return new CacheEntryImpl(fileId, (int) pageIndex, cachePointer, false, this);
+  }
+
+  @Override
+  public CacheEntry silentLoadForRead(
+      final long extFileId,
+      final int pageIndex,
+      final WriteCache writeCache,
+      final boolean verifyChecksums) {
+    return loadForRead(extFileId, pageIndex, writeCache, verifyChecksums);
+  }
+
+  @Override
+  public CachePointer load(
+      final long fileId,
+      final long startPageIndex,
+      final ModifiableBoolean cacheHit,
+      final boolean verifyChecksums) {
+    cacheHit.setValue(true);
+    return loadPage(fileId, startPageIndex, verifyChecksums);
+  }
+
+  private CachePointer loadPage(
+      final long fileId, final long pageIndex, final boolean verifyChecksums) {
+    final MappedFile file = getFile(extractFileId(fileId));
+    if (pageIndex >= file.pages) {
+      return null;
+    }
+
+    final ByteBuffer page = file.page(pageIndex);
+    if (verifyChecksums && !file.isVerified(pageIndex)) {
+      if (verifyPage(page)) {
+        file.markVerified(pageIndex);
+      } else {
+        pageIsBroken(file, pageIndex);
+      }
+    }
+
+    final CachePointer cachePointer =
+        new CachePointer(
+            Pointer.wrap(page, Intention.MAP_FILE_PAGE), bufferPool, fileId, (int) pageIndex);
+    // referrer is never released, so mapped memory is never returned back to the buffer pool
+    cachePointer.incrementReferrer();
+
+    return cachePointer;
+  }
+
+  private boolean verifyPage(final ByteBuffer page) {
+    final long magicNumber = page.getLong(WOWCache.MAGIC_NUMBER_OFFSET);
+    if (magicNumber == WOWCache.MAGIC_NUMBER_WITHOUT_CHECKSUM) {
+      return true;
+    }
+
+    if (magicNumber != WOWCache.MAGIC_NUMBER_WITH_CHECKSUM) {
+      return false;
+    }
+
+    final CRC32 crc32 = new CRC32();
+    crc32.update(
+        page.slice(
+            WOWCache.PAGE_OFFSET_TO_CHECKSUM_FROM,
+            pageSize - WOWCache.PAGE_OFFSET_TO_CHECKSUM_FROM));
+
+    return (int) crc32.getValue() == page.getInt(WOWCache.CHECKSUM_OFFSET);
+  }
+
+  private void pageIsBroken(final MappedFile file, final long pageIndex) {
+    final String message =
+        "Magic number verification failed for page `"
+            + pageIndex
+            + "` of `"
+            + file.fileSystemName
+            + "`.";
+    LogManager.instance().error(this, "%s", null, message);
+
+    if (checksumMode == ChecksumMode.StoreAndThrow) {
+      throw new StorageException(message);
+    } else if (checksumMode == ChecksumMode.StoreAndSwitchReadOnlyMode) {
+      for (final WeakReference<PageIsBrokenListener> ref : pageIsBrokenListeners) {
+        final PageIsBrokenListener listener = ref.get();
+        if (listener != null) {
+          try {
+            listener.pageIsBroken(file.fileSystemName, pageIndex);
+          } catch (final Exception e) {
+            LogManager.instance()
+                .error(
+                    this,
+                    "Error during notification of page is broken for storage " + storageName,
+                    e);
+          }
+        }
+      }
+    }
+  }
+
+  private MappedFile getFile(final int fileId) {
+    final MappedFile file = files.get(fileId);
+    if (file == null) {
+      throw new StorageException("File with id " + fileId + " does not exist");
+    }
+
+    return file;
+  }
+
+  @Override
+  public void releaseFromRead(final CacheEntry cacheEntry) {
+    // pages are not cached, so nothing to release
+  }
+
+  @Override
+  public long getFilledUpTo(final long fileId) {
+    return getFile(extractFileId(fileId)).pages;
+  }
+
+  @Override
+  public PageDataVerificationError[] checkStoredPages(
+      final CommandOutputListener commandOutputListener) {
+    final List<PageDataVerificationError> errors = new ArrayList<>();
+
+    for (final MappedFile file : files.values()) {
+      if (commandOutputListener != null) {
+        commandOutputListener.onMessage("Check of file " + file.fileSystemName + "... ");
+      }
+
+      for (long pageIndex = 0; pageIndex < file.pages; pageIndex++) {
+        if (!verifyPage(file.page(pageIndex))) {
+          errors.add(
+              new PageDataVerificationError(false, true, pageIndex, file.fileSystemName));
+        }
+      }
+    }
+
+    return errors.toArray(new PageDataVerificationError[0]);
+  }
+
+  @Override
+  public long loadFile(final String fileName) {
+    final Integer fileId = nameIdMap.get(fileName);
+    if (fileId == null) {
+      throw new StorageException("File " + fileName + " does not exist.");
+    }
+
+    return composeFileId(id, fileId);
+  }
+
+  @Override
+  public long fileIdByName(final String fileName) {
+    final Integer fileId = nameIdMap.get(fileName);
+    if (fileId == null) {
+      return -1;
+    }
+
+    return composeFileId(id, fileId);
+  }
+
+  @Override
+  public int internalFileId(final long fileId) {
+    return extractFileId(fileId);
+  }
+
+  @Override
+  public long externalFileId(final int fileId) {
+    return composeFileId(id, fileId);
+  }
+
+  @Override
+  public boolean fileIdsAreEqual(final long firsId, final long secondId) {
+    return extractFileId(firsId) == extractFileId(secondId);
+  }
+
+  @Override
+  public boolean exists(final String fileName) {
+    return nameIdMap.containsKey(fileName);
+  }
+
+  @Override
+  public boolean exists(final long fileId) {
+    return files.containsKey(extractFileId(fileId));
+  }
+
+  @Override
+  public String fileNameById(final long fileId) {
+    final int intId = extractFileId(fileId);
+    for (final Map.Entry<String, Integer> entry : nameIdMap.entrySet()) {
+      if (entry.getValue() == intId) {
+        return entry.getKey();
+      }
+    }
+
+    return null;
+  }
+
+  @Override
+  public String nativeFileNameById(final long fileId) {
+    final MappedFile file = files.get(extractFileId(fileId));
+    if (file == null) {
+      return null;
+    }
+
+    return file.fileSystemName;
+  }
+
+  @Override
+  public Map<String, Long> files() {
+    final Map<String, Long> result = new HashMap<>();
+    for (final Map.Entry<String, Integer> entry : nameIdMap.entrySet()) {
+      result.put(entry.getKey(), composeFileId(id, entry.getValue()));
+    }
+
+    return result;
+  }
+
+  @Override
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public int pageSize() {
+    return pageSize;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Path getRootDirectory() {
+    return storagePath;
+  }
+
+  /**
+   * Pages are kept in OS page cache, so cache does not consume memory by itself.
+   */
+  @Override
+  public long getUsedMemory() {
+    return 0;
+  }
+
+  @Override
+  public long getExclusiveWriteCachePagesSize() {
+    return 0;
+  }
+
+  @Override
+  public Long getMinimalNotFlushedSegment() {
+    return null;
+  }
+
+  @Override
+  public void addPageIsBrokenListener(final PageIsBrokenListener listener) {
+    pageIsBrokenListeners.add(new WeakReference<>(listener));
+  }
+
+  @Override
+  public void removePageIsBrokenListener(final PageIsBrokenListener listener) {
+    pageIsBrokenListeners.removeIf(
+        ref -> {
+          final PageIsBrokenListener pageIsBrokenListener = ref.get();
+          return pageIsBrokenListener == null || pageIsBrokenListener.equals(listener);
+        });
+  }
+
+  @Override
+  public void addBackgroundExceptionListener(final BackgroundExceptionListener listener) {
+  }
+
+  @Override
+  public void removeBackgroundExceptionListener(final BackgroundExceptionListener listener) {
+  }
+
+  @Override
+  public boolean checkLowDiskSpace() {
+    return true;
+  }
+
+  @Override
+  public void checkCacheOverflow() {
+  }
+
+  @Override
+  public void syncDataFiles(final long segmentId, final byte[] lastMetadata) {
+  }
+
+  @Override
+  public void flushTillSegment(final long segmentId) {
+  }
+
+  @Override
+  public void updateDirtyPagesTable(final CachePointer pointer, final LogSequenceNumber startLSN) {
+  }
+
+  @Override
+  public void restoreModeOn() {
+  }
+
+  @Override
+  public void restoreModeOff() {
+  }
+
+  @Override
+  public void flush(final long fileId) {
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public void changeMaximumAmountOfMemory(final long calculateReadCacheMaxMemory) {
+  }
+
+  @Override
+  public void clear() {
+  }
+
+  @Override
+  public void close(final long fileId, final boolean flush) {
+  }
+
+  @Override
+  public void closeFile(final long fileId, final boolean flush, final WriteCache writeCache) {
+  }
+
+  /**
+   * Drops references to the mapped regions, memory is unmapped once they are garbage collected.
+   */
+  @Override
+  public long[] close() {
+    final long[] fileIds = new long[files.size()];
+    int i = 0;
+    for (final Integer fileId : files.keySet()) {
+      if (i < fileIds.length) {
+        fileIds[i++] = composeFileId(id, fileId);
+      }
+    }
+
+    files.clear();
+    nameIdMap.clear();
+
+    return fileIds;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void closeStorage(final WriteCache writeCache) {
+    //noinspection ResultOfMethodCallIgnored
+    close();
+  }
+
+  @Override
+  public String restoreFileById(final long fileId) {
+    return null;
+  }
+
+  @Override
+  public void create() {
+    throw readOnly();
+  }
+
+  @Override
+  public long addFile(final String fileName) {
+    throw readOnly();
+  }
+
+  @Override
+  public long addFile(final String fileName, final long fileId) {
+    throw readOnly();
+  }
+
+  @Override
+  public long addFile(final String fileName, final WriteCache writeCache) {
+    throw readOnly();
+  }
+
+  @Override
+  public long addFile(final String fileName, final long fileId, final WriteCache writeCache) {
+    throw readOnly();
+  }
+
+  @Override
+  public long bookFileId(final String fileName) {
+    throw readOnly();
+  }
+
+  @Override
+  public CacheEntry loadForWrite(
+      final long fileId,
+      final long pageIndex,
+      final WriteCache writeCache,
+      final boolean verifyChecksums,
+      final LogSequenceNumber startLSN) {
+    throw readOnly();
+  }
+
+  @Override
+  public void releaseFromWrite(
+      final CacheEntry cacheEntry, final WriteCache writeCache, final boolean changed) {
+    throw readOnly();
+  }
+
+  @Override
+  public CacheEntry allocateNewPage(
+      final long fileId, final WriteCache writeCache, final LogSequenceNumber startLSN) {
+    throw readOnly();
+  }
+
+  @Override
+  public int allocateNewPage(final long fileId) {
+    throw readOnly();
+  }
+
+  @Override
+  public void store(final long fileId, final long pageIndex, final CachePointer dataPointer) {
+    throw readOnly();
+  }
+
+  @Override
+  public void truncateFile(final long fileId) {
+    throw readOnly();
+  }
+
+  @Override
+  public void truncateFile(final long fileId, final WriteCache writeCache) {
+    throw readOnly();
+  }
+
+  @Override
+  public void renameFile(final long fileId, final String newFileName) {
+    throw readOnly();
+  }
+
+  @Override
+  public void replaceFileId(final long fileId, final long newFileId) {
+    throw readOnly();
+  }
+
+  @Override
+  public void deleteFile(final long fileId) {
+    throw readOnly();
+  }
+
+  @Override
+  public void deleteFile(final long fileId, final WriteCache writeCache) {
+    throw readOnly();
+  }
+
+  @Override
+  public long[] delete() {
+    throw readOnly();
+  }
+
+  @Override
+  public void deleteStorage(final WriteCache writeCache) {
+    throw readOnly();
+  }
+
+  private ModificationOperationProhibitedException readOnly() {
+    return new ModificationOperationProhibitedException(
+        "Storage " + storageName + " is opened in read only mode");
+  }
+
+  private final class MappedFile {
+
+    private final String fileSystemName;
+    private final long pages;
+    private final MappedByteBuffer[] regions;
+
+    /**
+     * Bit set of pages checksums of which were verified, or <code>null</code> if checksums are
+     * not verified.
+     */
+    private final AtomicLongArray verifiedPages;
+
+    private MappedFile(
+        final String fileSystemName,
+        final long pages,
+        final MappedByteBuffer[] regions,
+        final AtomicLongArray verifiedPages) {
+      this.fileSystemName = fileSystemName;
+      this.pages = pages;
+      this.regions = regions;
+      this.verifiedPages = verifiedPages;
+    }
+
+    private ByteBuffer page(final long pageIndex) {
+      final MappedByteBuffer region = regions[(int) (pageIndex / pagesPerRegion)];
+      final int offset = (int) (pageIndex % pagesPerRegion) * pageSize;
+
+      return region.slice(offset, pageSize).order(ByteOrder.nativeOrder());
+    }
+
+    private boolean isVerified(final long pageIndex) {
+      if (verifiedPages == null) {
+        return true;
+      }
+
+      return (verifiedPages.get((int) (pageIndex >>> 6)) & (1L << pageIndex)) != 0;
+    }
+
+    private void markVerified(final long pageIndex) {
+      final int index = (int) (pageIndex >>> 6);
+      final long mask = 1L << pageIndex;
+
+      long value = verifiedPages.get(index);
+      while ((value & mask) == 0 && !verifiedPages.compareAndSet(index, value, value | mask)) {
+        value = verifiedPages.get(index);
+      }
+    }
+  }
+}
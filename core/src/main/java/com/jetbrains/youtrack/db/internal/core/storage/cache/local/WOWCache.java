@@ -35,6 +35,8 @@ import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAlloca
 import com.jetbrains.youtrack.db.internal.common.directmemory.Pointer;
 import com.jetbrains.youtrack.db.internal.common.io.IOUtils;
 import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.CoreMetrics;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.Gauge;
 import com.jetbrains.youtrack.db.internal.common.serialization.types.BinarySerializer;
 import com.jetbrains.youtrack.db.internal.common.serialization.types.IntegerSerializer;
 import com.jetbrains.youtrack.db.internal.common.serialization.types.LongSerializer;
@@ -42,6 +44,7 @@ import com.jetbrains.youtrack.db.internal.common.thread.ThreadPoolExecutors;
 import com.jetbrains.youtrack.db.internal.common.types.ModifiableBoolean;
 import com.jetbrains.youtrack.db.internal.common.util.RawPair;
 import com.jetbrains.youtrack.db.internal.common.util.RawPairLongObject;
+import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
 import com.jetbrains.youtrack.db.internal.core.command.CommandOutputListener;
 import com.jetbrains.youtrack.db.internal.core.exception.InvalidStorageEncryptionKeyException;
 import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
@@ -49,6 +52,7 @@ import com.jetbrains.youtrack.db.internal.core.exception.WriteCacheException;
 import com.jetbrains.youtrack.db.internal.core.storage.ChecksumMode;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.AbstractWriteCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.CachePointer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.FileCacheMetrics;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.PageDataVerificationError;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.WriteCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.local.doublewritelog.DoubleWriteLog;
@@ -190,7 +194,7 @@ public final class WOWCache extends AbstractWriteCache
    * information is wrapped by XX_HASH code which followed by content length, so any damaged records
    * are filtered out during loading of storage.
    */
-  private static final String NAME_ID_MAP_V3 = "name_id_map_v3" + NAME_ID_MAP_EXTENSION;
+  static final String NAME_ID_MAP_V3 = "name_id_map_v3" + NAME_ID_MAP_EXTENSION;
 
   /**
    * Name of file temporary which contains third version of binary format. Temporary file is used to
@@ -230,18 +234,18 @@ public final class WOWCache extends AbstractWriteCache
   /**
    * Marks pages which have no checksum stored.
    */
-  private static final long MAGIC_NUMBER_WITHOUT_CHECKSUM = 0xEF30BCAFL;
+  static final long MAGIC_NUMBER_WITHOUT_CHECKSUM = 0xEF30BCAFL;
 
   /**
    * Marks pages which have no checksum stored but have data encrypted
    */
   private static final long MAGIC_NUMBER_WITHOUT_CHECKSUM_ENCRYPTED = 0x2L;
 
-  private static final int MAGIC_NUMBER_OFFSET = 0;
+  static final int MAGIC_NUMBER_OFFSET = 0;
 
   public static final int CHECKSUM_OFFSET = MAGIC_NUMBER_OFFSET + LongSerializer.LONG_SIZE;
 
-  private static final int PAGE_OFFSET_TO_CHECKSUM_FROM =
+  static final int PAGE_OFFSET_TO_CHECKSUM_FROM =
       LongSerializer.LONG_SIZE + IntegerSerializer.INT_SIZE;
 
   private static final int CHUNK_SIZE = 64 * 1024 * 1024;
@@ -390,6 +394,12 @@ public final class WOWCache extends AbstractWriteCache
    */
   private final ConcurrentMap<Integer, String> idNameMap = new ConcurrentHashMap<>();
 
+  /**
+   * Page cache metrics of files, created lazily on first access to the file pages.
+   */
+  private final ConcurrentHashMap<Integer, FileCacheMetrics> filesCacheMetrics =
+      new ConcurrentHashMap<>();
+
   private final Random fileIdGen = new Random();
 
   /**
@@ -434,6 +444,20 @@ public final class WOWCache extends AbstractWriteCache
   private final int chunkSize;
 
   private final long pagesFlushInterval;
+
+  /**
+   * Paces periodic flush by the rate of changes, <code>null</code> if adaptive flush is disabled.
+   *
+   * @see GlobalConfiguration#DISK_WRITE_CACHE_ADAPTIVE_FLUSH
+   */
+  private final AdaptiveFlushController flushController;
+
+  private final Gauge<Long> flushTargetRate;
+  private final Gauge<Long> dirtyPagesGrowthRate;
+  private final Gauge<Long> exclusiveDirtyPages;
+  private final Gauge<Long> walSize;
+  private final Gauge<Long> pageWriteLatency;
+
   private volatile boolean stopFlush;
   private volatile Future<?> flushFuture;
 
@@ -509,6 +533,34 @@ public final class WOWCache extends AbstractWriteCache
       this.checksumMode = checksumMode;
       this.exclusiveWriteCacheMaxSize = normalizeMemory(exclusiveWriteCacheMaxSize, pageSize);
 
+      if (GlobalConfiguration.DISK_WRITE_CACHE_ADAPTIVE_FLUSH.getValueAsBoolean()) {
+        final int dirtyPagesTargetPercent =
+            GlobalConfiguration.DISK_WRITE_CACHE_ADAPTIVE_FLUSH_DIRTY_PAGES_TARGET
+                .getValueAsInteger();
+        this.flushController =
+            new AdaptiveFlushController(
+                (long) this.exclusiveWriteCacheMaxSize * dirtyPagesTargetPercent / 100,
+                GlobalConfiguration.DISK_CACHE_WAL_SIZE_TO_START_FLUSH.getValueAsLong(),
+                chunkSize);
+
+        final var metrics = YouTrackDBEnginesManager.instance().getMetricsRegistry();
+        this.flushTargetRate = metrics.databaseMetric(CoreMetrics.FLUSH_TARGET_RATE, storageName);
+        this.dirtyPagesGrowthRate =
+            metrics.databaseMetric(CoreMetrics.DIRTY_PAGES_GROWTH_RATE, storageName);
+        this.exclusiveDirtyPages =
+            metrics.databaseMetric(CoreMetrics.EXCLUSIVE_DIRTY_PAGES, storageName);
+        this.walSize = metrics.databaseMetric(CoreMetrics.WAL_SIZE, storageName);
+        this.pageWriteLatency =
+            metrics.databaseMetric(CoreMetrics.PAGE_WRITE_LATENCY, storageName);
+      } else {
+        this.flushController = null;
+        this.flushTargetRate = Gauge.noop();
+        this.dirtyPagesGrowthRate = Gauge.noop();
+        this.exclusiveDirtyPages = Gauge.noop();
+        this.walSize = Gauge.noop();
+        this.pageWriteLatency = Gauge.noop();
+      }
+
       this.storagePath = storagePath;
       try {
         this.fileStore = Files.getFileStore(this.storagePath);
@@ -1101,6 +1153,7 @@ public final class WOWCache extends AbstractWriteCache
     writeCachePages.put(pageKey, dataPointer);
 
     writeCacheSize.incrementAndGet();
+    fileCacheMetrics(pageKey.fileId).incrementDirtyPages();
 
     dataPointer.setWritersListener(this);
     dataPointer.incrementWritersReferrer();
@@ -1127,6 +1180,36 @@ public final class WOWCache extends AbstractWriteCache
     }
   }
 
+  @Override
+  public FileCacheMetrics fileCacheMetrics(final long fileId) {
+    final int intId = extractFileId(fileId);
+
+    final FileCacheMetrics metrics = filesCacheMetrics.get(intId);
+    if (metrics != null) {
+      return metrics;
+    }
+
+    final String fileName = idNameMap.get(intId);
+    if (fileName == null) {
+      return FileCacheMetrics.NOOP;
+    }
+
+    return filesCacheMetrics.computeIfAbsent(
+        intId, k -> FileCacheMetrics.create(storageName, fileName));
+  }
+
+  private void removeFileCacheMetrics(final int intId, final String fileName) {
+    if (filesCacheMetrics.remove(intId) != null && fileName != null) {
+      FileCacheMetrics.remove(storageName, fileName);
+    }
+  }
+
+  private void removeAllFileCacheMetrics() {
+    for (final int intId : filesCacheMetrics.keySet()) {
+      removeFileCacheMetrics(intId, idNameMap.get(intId));
+    }
+  }
+
   @Override
   public CachePointer load(
       final long fileId,
@@ -1293,6 +1376,7 @@ public final class WOWCache extends AbstractWriteCache
 
       if (file != null) {
         writeNameIdEntry(new NameFileIdEntry(file.first, -intId, file.second), true);
+        removeFileCacheMetrics(intId, file.first);
       }
     } finally {
       filesLock.releaseWriteLock();
@@ -1359,6 +1443,7 @@ public final class WOWCache extends AbstractWriteCache
       }
 
       final String oldFileName = idNameMap.get(intId);
+      removeFileCacheMetrics(intId, oldFileName);
 
       nameIdMap.remove(oldFileName);
       nameIdMap.put(newFileName, intId);
@@ -1389,6 +1474,9 @@ public final class WOWCache extends AbstractWriteCache
       final String fileName = idNameMap.get(intFileId);
       final String newFileName = idNameMap.remove(newIntFileId);
 
+      removeFileCacheMetrics(intFileId, fileName);
+      removeFileCacheMetrics(newIntFileId, newFileName);
+
       if (!file.isOpen()) {
         file.open();
       }
@@ -1518,6 +1606,7 @@ public final class WOWCache extends AbstractWriteCache
 
       doubleWriteLog.close();
 
+      removeAllFileCacheMetrics();
       nameIdMap.clear();
       idNameMap.clear();
 
@@ -1763,6 +1852,8 @@ public final class WOWCache extends AbstractWriteCache
         }
       }
 
+      removeAllFileCacheMetrics();
+
       if (nameIdMapHolderPath != null) {
         if (Files.exists(nameIdMapHolderPath)) {
           Files.delete(nameIdMapHolderPath);
@@ -2271,6 +2362,20 @@ public final class WOWCache extends AbstractWriteCache
   }
 
   private NameFileIdEntry readNextNameIdEntryV3(FileChannel nameIdMapHolder) throws IOException {
+    return readNextNameIdEntryV3(nameIdMapHolder, stringSerializer, storageName);
+  }
+
+  /**
+   * Reads next row of the third version of file registry.
+   *
+   * @return Next row or <code>null</code> if end of the registry is reached or the row is broken.
+   * @see #NAME_ID_MAP_V3
+   */
+  static NameFileIdEntry readNextNameIdEntryV3(
+      final FileChannel nameIdMapHolder,
+      final BinarySerializer<String> stringSerializer,
+      final String storageName)
+      throws IOException {
     try {
       final int xxHashLen = 8;
       final int recordSizeLen = 4;
@@ -2285,7 +2390,7 @@ public final class WOWCache extends AbstractWriteCache
       if (recordLen > MAX_FILE_RECORD_LEN) {
         LogManager.instance()
             .error(
-                this,
+                WOWCache.class,
                 "Maximum record length in file registry can not exceed %d bytes. "
                     + "But actual record length %d.  Storage name : %s",
                 null,
@@ -2303,7 +2408,10 @@ public final class WOWCache extends AbstractWriteCache
       if (xxHash != storedXxHash) {
         LogManager.instance()
             .error(
-                this, "Hash of the file registry is broken. Storage name : %s", null, storageName);
+                WOWCache.class,
+                "Hash of the file registry is broken. Storage name : %s",
+                null,
+                storageName);
         return null;
       }
 
@@ -2667,6 +2775,7 @@ public final class WOWCache extends AbstractWriteCache
             pagePointer.decrementWritersReferrer();
             pagePointer.setWritersListener(null);
             writeCacheSize.decrementAndGet();
+            fileCacheMetrics(internalFileId).decrementDirtyPages();
 
             removeFromDirtyPages(pageKey);
           } finally {
@@ -3026,6 +3135,7 @@ public final class WOWCache extends AbstractWriteCache
 
     final Long2ObjectOpenHashMap<ArrayList<RawPairLongObject<ByteBuffer>>> buffersByFileId =
         new Long2ObjectOpenHashMap<>();
+    final long writeStart = System.nanoTime();
     try {
       flushedPages =
           copyPageChunksIntoTheBuffers(
@@ -3050,6 +3160,10 @@ public final class WOWCache extends AbstractWriteCache
       fsyncFiles();
     }
 
+    if (flushController != null) {
+      flushController.onPagesFlushed(flushedPages, System.nanoTime() - writeStart);
+    }
+
     removeWrittenPagesFromCache(chunks);
 
     return flushedPages;
@@ -3078,6 +3192,7 @@ public final class WOWCache extends AbstractWriteCache
               }
 
               writeCacheSize.decrementAndGet();
+              fileCacheMetrics(pageKey.fileId).decrementDirtyPages();
 
               pointer.decrementWritersReferrer();
               pointer.setWritersListener(null);
@@ -3136,6 +3251,8 @@ public final class WOWCache extends AbstractWriteCache
       final long fileId = firstCachePointer.getFileId();
       final int pageIndex = firstCachePointer.getPageIndex();
 
+      fileCacheMetrics(fileId).recordFlushedBytes((long) chunk.size() * pageSize);
+
       var fileBuffers = buffersByFileId.computeIfAbsent(fileId, (id) -> new ArrayList<>());
       fileBuffers.add(new RawPairLongObject<>(((long) pageIndex) * pageSize, containerBuffer));
 
@@ -3578,6 +3695,11 @@ public final class WOWCache extends AbstractWriteCache
       }
 
       try {
+        if (flushController != null) {
+          executeAdaptiveFlush();
+          return;
+        }
+
         if (writeCachePages.isEmpty()) {
           return;
         }
@@ -3623,6 +3745,47 @@ public final class WOWCache extends AbstractWriteCache
     }
   }
 
+  /**
+   * Flushes amount of pages chosen by {@link AdaptiveFlushController}. Unlike the flush with the
+   * fixed amount of pages, flush is not rescheduled immediately if backlog of dirty pages is
+   * detected, instead the rate of flush is increased, so pages are flushed evenly between periodic
+   * flushes.
+   */
+  private void executeAdaptiveFlush() throws java.lang.InterruptedException, IOException {
+    final long ewcSize = exclusiveWriteCacheSize.get();
+    final long currentWalSize = writeAheadLog.size();
+
+    final long pagesToFlush =
+        flushController.pagesToFlush(System.nanoTime(), ewcSize, currentWalSize);
+
+    flushTargetRate.setValue(flushController.targetRate());
+    dirtyPagesGrowthRate.setValue(flushController.dirtyPagesGrowthRate());
+    exclusiveDirtyPages.setValue(ewcSize);
+    walSize.setValue(currentWalSize);
+    pageWriteLatency.setValue(flushController.pageWriteLatency());
+
+    if (pagesToFlush == 0 || writeCachePages.isEmpty()) {
+      return;
+    }
+
+    final int pagesFlushLimit = (int) Math.min(pagesToFlush, Integer.MAX_VALUE);
+    if (flushController.isWalBound()) {
+      // the oldest dirty pages prevent truncation of WAL, they are flushed first
+      final LogSequenceNumber end = writeAheadLog.end();
+      convertSharedDirtyPagesToLocal();
+
+      final Map.Entry<Long, TreeSet<PageKey>> firstSegment = localDirtyPagesBySegment.firstEntry();
+      if (firstSegment != null && firstSegment.getKey() < end.getSegment()) {
+        flushWriteCacheFromMinLSN(firstSegment.getKey(), end.getSegment(), pagesFlushLimit);
+        return;
+      }
+    }
+
+    if (ewcSize > 0) {
+      flushExclusiveWriteCache(null, pagesFlushLimit);
+    }
+  }
+
   public void executeFlush(CountDownLatch cacheBoundaryLatch, CountDownLatch completionLatch) {
     if (stopFlush) {
       return;
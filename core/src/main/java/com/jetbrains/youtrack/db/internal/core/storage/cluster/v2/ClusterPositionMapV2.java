@@ -48,6 +48,7 @@ public final class ClusterPositionMapV2 extends ClusterPositionMap {
 
   public void open(final AtomicOperation atomicOperation) throws IOException {
     fileId = openFile(atomicOperation, getFullName());
+    pinPages(fileId, 0);
   }
 
   public void create(final AtomicOperation atomicOperation) throws IOException {
@@ -64,6 +65,8 @@ public final class ClusterPositionMapV2 extends ClusterPositionMap {
         mapEntryPoint.setFileSize(0);
       }
     }
+
+    pinPagesOnCommit(atomicOperation, fileId, 0);
   }
 
   public void flush() {
@@ -258,6 +261,45 @@ public final class ClusterPositionMapV2 extends ClusterPositionMap {
     }
   }
 
+  /**
+   * Reads position of the record without component locks, pages are latched in shared mode during
+   * the read. Result should be validated by the caller.
+   *
+   * @see #loadPageForOptimisticRead(long, long)
+   */
+  ClusterPositionMapBucket.PositionEntry optimisticGet(final long clusterPosition)
+      throws IOException {
+    final long pageIndex = clusterPosition / ClusterPositionMapBucket.MAX_ENTRIES + 1;
+    final int index = (int) (clusterPosition % ClusterPositionMapBucket.MAX_ENTRIES);
+
+    final CacheEntry entryPointEntry = loadPageForOptimisticRead(fileId, 0);
+    if (entryPointEntry == null) {
+      return null;
+    }
+
+    final long lastPage;
+    try {
+      lastPage = new MapEntryPoint(entryPointEntry).getFileSize();
+    } finally {
+      releasePageFromOptimisticRead(entryPointEntry);
+    }
+
+    if (pageIndex > lastPage) {
+      return null;
+    }
+
+    final CacheEntry cacheEntry = loadPageForOptimisticRead(fileId, pageIndex);
+    if (cacheEntry == null) {
+      return null;
+    }
+
+    try {
+      return new ClusterPositionMapBucket(cacheEntry).get(index);
+    } finally {
+      releasePageFromOptimisticRead(cacheEntry);
+    }
+  }
+
   public void remove(final long clusterPosition, final AtomicOperation atomicOperation)
       throws IOException {
     final long pageIndex = clusterPosition / ClusterPositionMapBucket.MAX_ENTRIES + 1;
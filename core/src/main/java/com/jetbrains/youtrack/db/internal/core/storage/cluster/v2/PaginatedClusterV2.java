@@ -44,17 +44,20 @@ import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPagina
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.ClusterBrowseEntry;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.ClusterBrowsePage;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.ModificationStamp;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurablePage;
 import it.unimi.dsi.fastutil.ints.Int2ObjectFunction;
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Optional;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * @since 10/7/13
@@ -78,6 +81,11 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
   private final FreeSpaceMap freeSpaceMap;
   private final String storageName;
 
+  /**
+   * Tracks modifications of the cluster, is used to read records without cluster locks.
+   */
+  private final ModificationStamp modificationStamp;
+
   private StorageCluster.Meters meters = Meters.NOOP;
 
   private volatile int id;
@@ -106,7 +114,19 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
     clusterPositionMap = new ClusterPositionMapV2(storage, getName(), getFullName(), cpmExtension);
     freeSpaceMap = new FreeSpaceMap(storage, name, fsmExtension, getFullName());
     storageName = storage.getName();
+    modificationStamp = atomicOperationsManager.modificationStamp(getLockName());
+  }
+
+  @Override
+  protected void acquireExclusiveLock() {
+    super.acquireExclusiveLock();
+    modificationStamp.startModification();
+  }
 
+  @Override
+  protected void releaseExclusiveLock() {
+    modificationStamp.completeModification();
+    super.releaseExclusiveLock();
   }
 
   @Override
@@ -188,6 +208,7 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
           try {
             fileId = addFile(atomicOperation, getFullName());
             initCusterState(atomicOperation);
+            pinPagesOnCommit(atomicOperation, fileId, STATE_ENTRY_INDEX);
             clusterPositionMap.create(atomicOperation);
             freeSpaceMap.create(atomicOperation);
           } finally {
@@ -204,6 +225,7 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
           acquireExclusiveLock();
           try {
             fileId = openFile(atomicOperation, getFullName());
+            pinPages(fileId, STATE_ENTRY_INDEX);
             clusterPositionMap.open(atomicOperation);
             if (freeSpaceMap.exists(atomicOperation)) {
               freeSpaceMap.open(atomicOperation);
@@ -625,6 +647,18 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
 
   @Nonnull
   private RawBuffer readRecord(final long clusterPosition) throws IOException {
+    if (atomicOperationsManager.getCurrentOperation() == null) {
+      if (atomicOperationsManager.getCurrentSnapshot() != null) {
+        // pages of the snapshot are not changed by writers, so locks are not needed
+        return snapshotReadRecord(clusterPosition);
+      }
+
+      final RawBuffer buffer = optimisticReadRecord(clusterPosition);
+      if (buffer != null) {
+        return buffer;
+      }
+    }
+
     atomicOperationsManager.acquireReadLock(this);
     try {
       acquireSharedLock();
@@ -640,7 +674,8 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
             clusterPosition,
             positionEntry.getPageIndex(),
             positionEntry.getRecordPosition(),
-            atomicOperation);
+            atomicOperation,
+            -1);
       } finally {
         releaseSharedLock();
       }
@@ -649,13 +684,77 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
     }
   }
 
+  @Nonnull
+  private RawBuffer snapshotReadRecord(final long clusterPosition) throws IOException {
+    final ClusterPositionMapBucket.PositionEntry positionEntry =
+        clusterPositionMap.get(clusterPosition, null);
+    if (positionEntry == null) {
+      throw new RecordNotFoundException(new RecordId(id, clusterPosition));
+    }
+
+    return internalReadRecord(
+        clusterPosition,
+        positionEntry.getPageIndex(),
+        positionEntry.getRecordPosition(),
+        null,
+        -1);
+  }
+
+  /**
+   * Reads record without acquiring of cluster locks, pages of position map and of the record are
+   * latched in shared mode during the read. If cluster is modified during the read, or read fails
+   * for any reason, the record should be read again under the cluster locks.
+   *
+   * @return Content of the record or <code>null</code> if optimistic read failed.
+   */
+  @Nullable
+  private RawBuffer optimisticReadRecord(final long clusterPosition) throws IOException {
+    final long stamp = modificationStamp.tryOptimisticRead();
+    if (stamp < 0) {
+      return null;
+    }
+
+    final RawBuffer buffer;
+    try {
+      final ClusterPositionMapBucket.PositionEntry positionEntry =
+          clusterPositionMap.optimisticGet(clusterPosition);
+      if (positionEntry == null) {
+        return null;
+      }
+
+      buffer =
+          internalReadRecord(
+              clusterPosition,
+              positionEntry.getPageIndex(),
+              positionEntry.getRecordPosition(),
+              null,
+              stamp);
+    } catch (final RuntimeException | IOException e) {
+      // data may be inconsistent because of concurrent modification, or record does not exist,
+      // in both cases read is repeated under the lock which will report error if any
+      return null;
+    }
+
+    if (!modificationStamp.validate(stamp)) {
+      return null;
+    }
+
+    return buffer;
+  }
+
+  /**
+   * @param stamp Stamp of optimistic read, or <code>-1</code> if record is read under cluster
+   *              locks.
+   */
   @Nonnull
   private RawBuffer internalReadRecord(
       final long clusterPosition,
       long pageIndex,
       int recordPosition,
-      final AtomicOperation atomicOperation)
+      final AtomicOperation atomicOperation,
+      final long stamp)
       throws IOException {
+    final boolean optimistic = stamp >= 0;
 
     int recordVersion = 0;
 
@@ -665,7 +764,15 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
     long nextPagePointer;
     boolean firstEntry = true;
     do {
-      try (final CacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex)) {
+      final CacheEntry cacheEntry =
+          optimistic
+              ? loadPageForOptimisticRead(fileId, pageIndex)
+              : loadPageForRead(atomicOperation, fileId, pageIndex);
+      if (cacheEntry == null) {
+        throw new RecordNotFoundException(new RecordId(id, clusterPosition));
+      }
+
+      try {
         final ClusterPage localPage = new ClusterPage(cacheEntry);
         if (firstEntry) {
           recordVersion = localPage.getRecordVersion(recordPosition);
@@ -698,6 +805,18 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
         contentSize += content.length - LongSerializer.LONG_SIZE - ByteSerializer.BYTE_SIZE;
 
         firstEntry = false;
+      } finally {
+        if (optimistic) {
+          releasePageFromOptimisticRead(cacheEntry);
+        } else {
+          cacheEntry.close();
+        }
+      }
+
+      // chain of record pages may be broken by concurrent modification in case of optimistic read
+      if (optimistic && nextPagePointer >= 0 && !modificationStamp.validate(stamp)) {
+        throw new ConcurrentModificationException(
+            "Cluster " + getName() + " was modified during read of the record");
       }
 
       pageIndex = getPageIndex(nextPagePointer);
@@ -1430,7 +1549,7 @@ public final class PaginatedClusterV2 extends PaginatedCluster {
           for (final ClusterPositionEntry pos : nextPositions) {
             final RawBuffer buff =
                 internalReadRecord(
-                    pos.getPosition(), pos.getPage(), pos.getOffset(), atomicOperation);
+                    pos.getPosition(), pos.getPage(), pos.getOffset(), atomicOperation, -1);
             nexv.add(new ClusterBrowseEntry(pos.getPosition(), buff));
           }
           return new ClusterBrowsePage(nexv, newLastPosition);
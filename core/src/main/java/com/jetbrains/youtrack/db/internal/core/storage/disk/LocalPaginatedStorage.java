@@ -29,6 +29,7 @@ import com.jetbrains.youtrack.db.api.exception.ModificationOperationProhibitedEx
 import com.jetbrains.youtrack.db.internal.common.directmemory.ByteBufferPool;
 import com.jetbrains.youtrack.db.api.exception.BaseException;
 import com.jetbrains.youtrack.db.internal.common.exception.ErrorCode;
+import com.jetbrains.youtrack.db.internal.common.io.BandwidthThrottler;
 import com.jetbrains.youtrack.db.internal.common.io.FileUtils;
 import com.jetbrains.youtrack.db.internal.common.io.IOUtils;
 import com.jetbrains.youtrack.db.internal.common.log.LogManager;
@@ -80,6 +81,8 @@ import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.MetaDataRecord;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WriteAheadLog;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.cas.CASDiskWriteAheadLog;
+import com.jetbrains.youtrack.db.internal.core.storage.index.bitmap.BitmapIndex;
+import com.jetbrains.youtrack.db.internal.core.storage.index.hnsw.HnswIndex;
 import com.jetbrains.youtrack.db.internal.core.storage.index.engine.HashTableIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.storage.index.engine.SBTreeIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.storage.index.versionmap.VersionPositionMap;
@@ -107,17 +110,20 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -125,8 +131,11 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -138,6 +147,8 @@ import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import net.jpountz.lz4.LZ4BlockInputStream;
+import net.jpountz.lz4.LZ4BlockOutputStream;
 import net.jpountz.xxhash.XXHash64;
 import net.jpountz.xxhash.XXHashFactory;
 
@@ -162,6 +173,11 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
 
   private static final String ENCRYPTION_IV = "encryption.iv";
 
+  private static final String LZ4_PAGES_ENTRY_SUFFIX = ".lz4pages";
+  private static final String PAGES_BACKUP_TEMP_DIRECTORY = "pagesBackupTemp";
+  private static final String BACKUP_MANIFEST_NAME = "backup.manifest";
+  private static final int BACKUP_MANIFEST_VERSION = 1;
+
   private final List<EnterpriseStorageOperationListener> listeners = new CopyOnWriteArrayList<>();
 
   @SuppressWarnings("WeakerAccess")
@@ -186,6 +202,7 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
       ".oet",
       ".fl",
       ".flb",
+      DISK_CACHE_STATE_EXTENSION,
       IV_EXT,
       CASDiskWriteAheadLog.WAL_SEGMENT_EXTENSION,
       CASDiskWriteAheadLog.MASTER_RECORD_EXTENSION,
@@ -204,6 +221,12 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
       ClusterBasedStorageConfiguration.TREE_NULL_FILE_EXTENSION,
       CellBTreeMultiValueIndexEngine.DATA_FILE_EXTENSION,
       CellBTreeMultiValueIndexEngine.M_CONTAINER_EXTENSION,
+      BitmapIndex.CONTAINERS_FILE_EXTENSION,
+      BitmapIndex.DIRECTORY_FILE_EXTENSION,
+      BitmapIndex.DIRECTORY_NULL_FILE_EXTENSION,
+      HnswIndex.NODES_FILE_EXTENSION,
+      HnswIndex.DIRECTORY_FILE_EXTENSION,
+      HnswIndex.DIRECTORY_NULL_FILE_EXTENSION,
       DoubleWriteLogGL.EXTENSION,
       FreeSpaceMap.DEF_EXTENSION,
       VersionPositionMap.DEF_EXTENSION
@@ -214,7 +237,7 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
   private final int deleteMaxRetries;
   private final int deleteWaitTime;
 
-  private final StorageStartupMetadata startupMetadata;
+  protected final StorageStartupMetadata startupMetadata;
 
   private final Path storagePath;
   private final ClosableLinkedContainer<Long, File> files;
@@ -1340,6 +1363,7 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
         try {
           final long startSegment;
           final LogSequenceNumber freezeLsn;
+          final List<BackupFile> backupFiles;
 
           if (fromLsn == null) {
             UUID databaseInstanceUUID = super.readDatabaseInstanceId();
@@ -1371,6 +1395,7 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
 
             writeAheadLog.appendNewSegment();
             startSegment = writeAheadLog.activeSegment();
+            backupFiles = listBackupFiles();
 
             getLastMetadata()
                 .ifPresent(
@@ -1409,7 +1434,9 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
                   "Invalid length of the encryption key, provided size is " + aesKey.length);
             }
 
-            lastLsn = backupPagesWithChanges(fromLsn, zipOutputStream, encryptionIv, aesKey);
+            lastLsn =
+                backupPagesWithChanges(
+                    fromLsn, backupFiles, zipOutputStream, encryptionIv, aesKey);
             final LogSequenceNumber lastWALLsn =
                 copyWALToIncrementalBackup(zipOutputStream, startSegment);
 
@@ -1506,73 +1533,441 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
     return iv;
   }
 
+  /**
+   * Lists storage files and amount of their pages while atomic operations are frozen. Pages are
+   * allocated in the file before they are stored in the write cache, so pages which are allocated
+   * after this point may not be read yet, their content is restored from the write-ahead log
+   * which is copied into the backup after the pages.
+   */
+  private List<BackupFile> listBackupFiles() {
+    final Map<String, Long> files = writeCache.files();
+    final List<BackupFile> backupFiles = new ArrayList<>(files.size());
+    for (final Map.Entry<String, Long> entry : files.entrySet()) {
+      final long fileId = writeCache.externalFileId(writeCache.internalFileId(entry.getValue()));
+      backupFiles.add(new BackupFile(entry.getKey(), fileId, writeCache.getFilledUpTo(fileId)));
+    }
+
+    return backupFiles;
+  }
+
   private LogSequenceNumber backupPagesWithChanges(
       final LogSequenceNumber changeLsn,
+      final List<BackupFile> files,
       final ZipOutputStream stream,
       final byte[] encryptionIv,
       final byte[] aesKey)
       throws IOException {
+    final ContextConfiguration contextConfiguration = getConfiguration().getContextConfiguration();
+    final int threads =
+        contextConfiguration.getValueAsInteger(GlobalConfiguration.STORAGE_BACKUP_THREADS);
+    final BandwidthThrottler throttler = createBackupThrottler(contextConfiguration);
+
+    if (contextConfiguration.getValueAsBoolean(GlobalConfiguration.STORAGE_BACKUP_PARALLEL_FORMAT)) {
+      return backupPagesWithChangesInParallel(
+          changeLsn, files, stream, encryptionIv, aesKey, threads, throttler);
+    }
+
     LogSequenceNumber lastLsn = changeLsn;
 
-    final Map<String, Long> files = writeCache.files();
-    final int pageSize = writeCache.pageSize();
+    for (final BackupFile file : files) {
+      final ZipEntry zipEntry = new ZipEntry(file.fileName);
+      stream.putNextEntry(zipEntry);
 
-    for (Map.Entry<String, Long> entry : files.entrySet()) {
-      final String fileName = entry.getKey();
+      final FilePagesBackup backup =
+          backupFilePages(file, changeLsn, stream, encryptionIv, aesKey, throttler);
+      if (backup.lastLsn != null && (lastLsn == null || backup.lastLsn.compareTo(lastLsn) > 0)) {
+        lastLsn = backup.lastLsn;
+      }
 
-      long fileId = entry.getValue();
-      fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
+      stream.closeEntry();
+    }
 
-      final long filledUpTo = writeCache.getFilledUpTo(fileId);
-      final ZipEntry zipEntry = new ZipEntry(fileName);
+    return lastLsn;
+  }
 
-      stream.putNextEntry(zipEntry);
+  /**
+   * Bandwidth limit is read on each page, so it may be changed while backup or restore is in
+   * progress.
+   */
+  private static BandwidthThrottler createBackupThrottler(
+      final ContextConfiguration contextConfiguration) {
+    return BandwidthThrottler.create(
+        () ->
+            (long) contextConfiguration.getValueAsInteger(
+                GlobalConfiguration.STORAGE_BACKUP_BANDWIDTH_LIMIT)
+                * ONE_KB
+                * ONE_KB);
+  }
 
-      final byte[] binaryFileId = new byte[LongSerializer.LONG_SIZE];
-      LongSerializer.INSTANCE.serialize(fileId, binaryFileId, 0);
-      stream.write(binaryFileId, 0, binaryFileId.length);
+  /**
+   * Backs up changed pages of storage files using several threads. Pages of each file are
+   * compressed by LZ4 into separate temporary file, content of which is then stored without
+   * additional compression into the backup under the name of storage file with
+   * {@link #LZ4_PAGES_ENTRY_SUFFIX} suffix. Manifest which lists backed up files, amount of their
+   * pages and checksums of compressed content is written after the pages of all files.
+   */
+  private LogSequenceNumber backupPagesWithChangesInParallel(
+      final LogSequenceNumber changeLsn,
+      final List<BackupFile> files,
+      final ZipOutputStream stream,
+      final byte[] encryptionIv,
+      final byte[] aesKey,
+      final int threads,
+      final BandwidthThrottler throttler)
+      throws IOException {
+    final Path tempDirectory = storagePath.resolve(PAGES_BACKUP_TEMP_DIRECTORY);
+    if (Files.exists(tempDirectory)) {
+      FileUtils.deleteRecursively(tempDirectory.toFile());
+    }
+    Files.createDirectories(tempDirectory);
 
-      for (int pageIndex = 0; pageIndex < filledUpTo; pageIndex++) {
-        final CacheEntry cacheEntry =
-            readCache.silentLoadForRead(fileId, pageIndex, writeCache, true);
-        cacheEntry.acquireSharedLock();
+    // amount of pending tasks is limited, so temporary files of only few storage files exist
+    // at the same time
+    final ArrayDeque<Future<FilePagesBackup>> pending = new ArrayDeque<>(threads);
+    try {
+      final List<FilePagesBackup> manifest = new ArrayList<>();
+      LogSequenceNumber lastLsn = changeLsn;
+
+      for (final BackupFile file : files) {
+        final Path tempFile = tempDirectory.resolve(file.fileName + LZ4_PAGES_ENTRY_SUFFIX);
+
+        pending.add(
+            context.execute(
+                () -> {
+                  final CRC32 crc = new CRC32();
+                  final FilePagesBackup backup;
+                  try (final OutputStream out =
+                      new LZ4BlockOutputStream(
+                          new CheckedOutputStream(
+                              new BufferedOutputStream(Files.newOutputStream(tempFile)), crc))) {
+                    backup =
+                        backupFilePages(file, changeLsn, out, encryptionIv, aesKey, throttler);
+                  }
+
+                  return new FilePagesBackup(
+                      file.fileName,
+                      file.fileId,
+                      backup.pages,
+                      backup.lastLsn,
+                      tempFile,
+                      crc.getValue(),
+                      Files.size(tempFile));
+                }));
+
+        if (pending.size() >= threads) {
+          lastLsn = storeFilePagesBackup(stream, pending.poll(), manifest, lastLsn);
+        }
+      }
+
+      while (!pending.isEmpty()) {
+        lastLsn = storeFilePagesBackup(stream, pending.poll(), manifest, lastLsn);
+      }
+
+      backupManifest(stream, manifest);
+      return lastLsn;
+    } finally {
+      // tasks which are still running in case of error should not write into removed directory
+      for (final Future<FilePagesBackup> future : pending) {
         try {
-          var cachePointer = cacheEntry.getCachePointer();
-          assert cachePointer != null;
+          future.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          LogManager.instance().error(this, "Error during incremental backup of storage file", e);
+        }
+      }
+
+      FileUtils.deleteRecursively(tempDirectory.toFile());
+    }
+  }
+
+  private static LogSequenceNumber storeFilePagesBackup(
+      final ZipOutputStream stream,
+      final Future<FilePagesBackup> future,
+      final List<FilePagesBackup> manifest,
+      LogSequenceNumber lastLsn)
+      throws IOException {
+    final FilePagesBackup backup;
+    try {
+      backup = future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw BaseException.wrapException(
+          new ThreadInterruptedException("Incremental backup was interrupted"), e);
+    } catch (ExecutionException e) {
+      throw BaseException.wrapException(
+          new StorageException("Error during incremental backup of storage files"), e.getCause());
+    }
 
-          var cachePointerBuffer = cachePointer.getBuffer();
-          assert cachePointerBuffer != null;
+    final ZipEntry zipEntry = new ZipEntry(backup.fileName + LZ4_PAGES_ENTRY_SUFFIX);
+    zipEntry.setMethod(ZipEntry.STORED);
+    zipEntry.setSize(backup.size);
+    zipEntry.setCompressedSize(backup.size);
+    zipEntry.setCrc(backup.crc);
 
-          final LogSequenceNumber pageLsn =
-              DurablePage.getLogSequenceNumberFromPage(cachePointerBuffer);
+    stream.putNextEntry(zipEntry);
+    Files.copy(backup.tempFile, stream);
+    stream.closeEntry();
 
-          if (changeLsn == null || pageLsn.compareTo(changeLsn) > 0) {
+    Files.delete(backup.tempFile);
+    manifest.add(backup);
 
-            final byte[] data = new byte[pageSize + LongSerializer.LONG_SIZE];
-            LongSerializer.INSTANCE.serializeNative(pageIndex, data, 0);
-            DurablePage.getPageData(cachePointerBuffer, data, LongSerializer.LONG_SIZE, pageSize);
+    if (backup.lastLsn != null && (lastLsn == null || backup.lastLsn.compareTo(lastLsn) > 0)) {
+      return backup.lastLsn;
+    }
 
-            if (aesKey != null) {
-              doEncryptionDecryption(
-                  Cipher.ENCRYPT_MODE, aesKey, fileId, pageIndex, data, encryptionIv);
-            }
+    return lastLsn;
+  }
 
-            stream.write(data);
+  private static void backupManifest(
+      final ZipOutputStream stream, final List<FilePagesBackup> backups) throws IOException {
+    stream.putNextEntry(new ZipEntry(BACKUP_MANIFEST_NAME));
+
+    final DataOutputStream dataOutputStream = new DataOutputStream(stream);
+    dataOutputStream.writeInt(BACKUP_MANIFEST_VERSION);
+    dataOutputStream.writeInt(backups.size());
+    for (final FilePagesBackup backup : backups) {
+      dataOutputStream.writeUTF(backup.fileName);
+      dataOutputStream.writeLong(backup.fileId);
+      dataOutputStream.writeLong(backup.pages);
+      dataOutputStream.writeLong(backup.size);
+      dataOutputStream.writeLong(backup.crc);
+    }
+    dataOutputStream.flush();
 
-            if (lastLsn == null || pageLsn.compareTo(lastLsn) > 0) {
-              lastLsn = pageLsn;
-            }
+    stream.closeEntry();
+  }
+
+  private static Map<String, Long> restoreManifest(final InputStream stream) throws IOException {
+    final DataInputStream dataInputStream = new DataInputStream(stream);
+    final int version = dataInputStream.readInt();
+    if (version != BACKUP_MANIFEST_VERSION) {
+      throw new StorageException(
+          "Invalid version of incremental backup manifest. Expected "
+              + BACKUP_MANIFEST_VERSION
+              + " , provided "
+              + version);
+    }
+
+    final int filesCount = dataInputStream.readInt();
+    final Map<String, Long> pages = new HashMap<>(filesCount);
+    for (int i = 0; i < filesCount; i++) {
+      final String fileName = dataInputStream.readUTF();
+      dataInputStream.readLong(); // file id
+      pages.put(fileName, dataInputStream.readLong());
+      dataInputStream.readLong(); // compressed size
+      dataInputStream.readLong(); // checksum, it is validated by zip stream
+    }
+
+    return pages;
+  }
+
+  private FilePagesBackup backupFilePages(
+      final BackupFile file,
+      final LogSequenceNumber changeLsn,
+      final OutputStream stream,
+      final byte[] encryptionIv,
+      final byte[] aesKey,
+      final BandwidthThrottler throttler)
+      throws IOException {
+    LogSequenceNumber lastLsn = null;
+    long pages = 0;
+
+    final int pageSize = writeCache.pageSize();
+    final long fileId = file.fileId;
+    final long filledUpTo = file.pages;
+
+    final byte[] binaryFileId = new byte[LongSerializer.LONG_SIZE];
+    LongSerializer.INSTANCE.serialize(fileId, binaryFileId, 0);
+    stream.write(binaryFileId, 0, binaryFileId.length);
+
+    for (int pageIndex = 0; pageIndex < filledUpTo; pageIndex++) {
+      throttler.acquire(pageSize);
+
+      final CacheEntry cacheEntry =
+          readCache.silentLoadForRead(fileId, pageIndex, writeCache, true);
+      cacheEntry.acquireSharedLock();
+      try {
+        var cachePointer = cacheEntry.getCachePointer();
+        assert cachePointer != null;
+
+        var cachePointerBuffer = cachePointer.getBuffer();
+        assert cachePointerBuffer != null;
+
+        final LogSequenceNumber pageLsn =
+            DurablePage.getLogSequenceNumberFromPage(cachePointerBuffer);
+
+        if (changeLsn == null || pageLsn.compareTo(changeLsn) > 0) {
+
+          final byte[] data = new byte[pageSize + LongSerializer.LONG_SIZE];
+          LongSerializer.INSTANCE.serializeNative(pageIndex, data, 0);
+          DurablePage.getPageData(cachePointerBuffer, data, LongSerializer.LONG_SIZE, pageSize);
+
+          if (aesKey != null) {
+            doEncryptionDecryption(
+                Cipher.ENCRYPT_MODE, aesKey, fileId, pageIndex, data, encryptionIv);
+          }
+
+          stream.write(data);
+          pages++;
+
+          if (lastLsn == null || pageLsn.compareTo(lastLsn) > 0) {
+            lastLsn = pageLsn;
           }
-        } finally {
-          cacheEntry.releaseSharedLock();
-          readCache.releaseFromRead(cacheEntry);
         }
+      } finally {
+        cacheEntry.releaseSharedLock();
+        readCache.releaseFromRead(cacheEntry);
       }
+    }
 
-      stream.closeEntry();
+    return new FilePagesBackup(file.fileName, fileId, pages, lastLsn, null, 0, 0);
+  }
+
+  private record BackupFile(String fileName, long fileId, long pages) {
+
+  }
+
+  private record FilePagesBackup(
+      String fileName,
+      long fileId,
+      long pages,
+      LogSequenceNumber lastLsn,
+      Path tempFile,
+      long crc,
+      long size) {
+
+  }
+
+  private static FilePagesRestore waitForFilePagesRestore(final Future<FilePagesRestore> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw BaseException.wrapException(
+          new ThreadInterruptedException("Restore of incremental backup was interrupted"), e);
+    } catch (ExecutionException e) {
+      throw BaseException.wrapException(
+          new StorageException("Error during restore of storage files from incremental backup"),
+          e.getCause());
+    }
+  }
+
+  private FilePagesRestore restoreFilePages(
+      final String entryName,
+      final InputStream stream,
+      final boolean isFull,
+      final byte[] aesKey,
+      final byte[] encryptionIv,
+      final BandwidthThrottler throttler)
+      throws IOException {
+    final int pageSize = writeCache.pageSize();
+
+    final byte[] binaryFileId = new byte[LongSerializer.LONG_SIZE];
+    IOUtils.readFully(stream, binaryFileId, 0, binaryFileId.length);
+
+    final long expectedFileId = LongSerializer.INSTANCE.deserialize(binaryFileId, 0);
+    long fileId;
+
+    var rootDirectory = storagePath;
+    var zipEntryPath = rootDirectory.resolve(entryName).normalize();
+
+    if (!zipEntryPath.startsWith(rootDirectory)) {
+      throw new IllegalStateException("Bad zip entry " + entryName);
+    }
+    if (!zipEntryPath.getParent().equals(rootDirectory)) {
+      throw new IllegalStateException("Bad zip entry " + entryName);
     }
 
-    return lastLsn;
+    var fileName = zipEntryPath.getFileName().toString();
+    if (!writeCache.exists(fileName)) {
+      fileId = readCache.addFile(fileName, expectedFileId, writeCache);
+    } else {
+      fileId = writeCache.fileIdByName(fileName);
+    }
+
+    if (!writeCache.fileIdsAreEqual(expectedFileId, fileId)) {
+      throw new StorageException(
+          "Can not restore database from backup because expected and actual file ids are not the"
+              + " same");
+    }
+
+    LogSequenceNumber maxLsn = null;
+    long pages = 0;
+
+    while (true) {
+      final byte[] data = new byte[pageSize + LongSerializer.LONG_SIZE];
+
+      int rb = 0;
+
+      while (rb < data.length) {
+        final int b = stream.read(data, rb, data.length - rb);
+
+        if (b == -1) {
+          if (rb > 0) {
+            throw new StorageException("Can not read data from file " + fileName);
+          } else {
+            return new FilePagesRestore(fileName, pages, maxLsn);
+          }
+        }
+
+        rb += b;
+      }
+
+      throttler.acquire(pageSize);
+      pages++;
+
+      final long pageIndex = LongSerializer.INSTANCE.deserializeNative(data, 0);
+
+      if (aesKey != null) {
+        doEncryptionDecryption(
+            Cipher.DECRYPT_MODE, aesKey, expectedFileId, pageIndex, data, encryptionIv);
+      }
+
+      CacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
+
+      if (cacheEntry == null) {
+        do {
+          if (cacheEntry != null) {
+            readCache.releaseFromWrite(cacheEntry, writeCache, true);
+          }
+
+          cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+        } while (cacheEntry.getPageIndex() != pageIndex);
+      }
+
+      try {
+        final ByteBuffer buffer = cacheEntry.getCachePointer().getBuffer();
+        assert buffer != null;
+        final LogSequenceNumber backedUpPageLsn =
+            DurablePage.getLogSequenceNumber(LongSerializer.LONG_SIZE, data);
+        if (isFull) {
+          buffer.put(0, data, LongSerializer.LONG_SIZE, data.length - LongSerializer.LONG_SIZE);
+
+          if (maxLsn == null || maxLsn.compareTo(backedUpPageLsn) < 0) {
+            maxLsn = backedUpPageLsn;
+          }
+        } else {
+          final LogSequenceNumber currentPageLsn =
+              DurablePage.getLogSequenceNumberFromPage(buffer);
+          if (backedUpPageLsn.compareTo(currentPageLsn) > 0) {
+            buffer.put(
+                0, data, LongSerializer.LONG_SIZE, data.length - LongSerializer.LONG_SIZE);
+
+            if (maxLsn == null || maxLsn.compareTo(backedUpPageLsn) < 0) {
+              maxLsn = backedUpPageLsn;
+            }
+          }
+        }
+
+      } finally {
+        readCache.releaseFromWrite(cacheEntry, writeCache, true);
+      }
+    }
+  }
+
+  private record FilePagesRestore(String fileName, long pages, LogSequenceNumber maxLsn) {
+
   }
 
   public void restoreFromIncrementalBackup(DatabaseSessionInternal session,
@@ -1805,7 +2200,14 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
     final BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
     final ZipInputStream zipInputStream =
         new ZipInputStream(bufferedInputStream, Charset.forName(charset));
-    final int pageSize = writeCache.pageSize();
+
+    final int threads =
+        contextConfiguration.getValueAsInteger(GlobalConfiguration.STORAGE_BACKUP_THREADS);
+    final BandwidthThrottler throttler = createBackupThrottler(contextConfiguration);
+    final Path tempDirectory = storagePath.resolve(PAGES_BACKUP_TEMP_DIRECTORY);
+    final ArrayDeque<Future<FilePagesRestore>> pending = new ArrayDeque<>();
+    final List<FilePagesRestore> restoredFiles = new ArrayList<>();
+    Map<String, Long> manifest = null;
 
     ZipEntry zipEntry;
     LogSequenceNumber maxLsn = null;
@@ -1827,155 +2229,154 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
     byte[] encryptionIv = null;
     byte[] walIv = null;
 
-    entryLoop:
-    while ((zipEntry = zipInputStream.getNextEntry()) != null) {
-      switch (zipEntry.getName()) {
-        case IV_NAME -> {
-          walIv = restoreIv(zipInputStream);
+    try {
+      while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+        switch (zipEntry.getName()) {
+          case IV_NAME -> {
+            walIv = restoreIv(zipInputStream);
+            continue;
+          }
+          case ENCRYPTION_IV -> {
+            encryptionIv = restoreEncryptionIv(zipInputStream);
+            continue;
+          }
+          case CONF_ENTRY_NAME -> {
+            replaceConfiguration(zipInputStream);
+
+            continue;
+          }
+        }
+
+        if (zipEntry.getName().equalsIgnoreCase("database_instance.uuid")) {
           continue;
         }
-        case ENCRYPTION_IV -> {
-          encryptionIv = restoreEncryptionIv(zipInputStream);
+
+        if (zipEntry.getName().equals(BACKUP_MANIFEST_NAME)) {
+          manifest = restoreManifest(zipInputStream);
           continue;
         }
-        case CONF_ENTRY_NAME -> {
+
+        if (zipEntry.getName().equals(CONF_UTF_8_ENTRY_NAME)) {
           replaceConfiguration(zipInputStream);
 
           continue;
         }
-      }
-
-      if (zipEntry.getName().equalsIgnoreCase("database_instance.uuid")) {
-        continue;
-      }
 
-      if (zipEntry.getName().equals(CONF_UTF_8_ENTRY_NAME)) {
-        replaceConfiguration(zipInputStream);
+        if (zipEntry
+            .getName()
+            .toLowerCase(serverLocale)
+            .endsWith(CASDiskWriteAheadLog.WAL_SEGMENT_EXTENSION)) {
+          final String walName = zipEntry.getName();
+          final int segmentIndex =
+              walName.lastIndexOf(
+                  '.', walName.length() - CASDiskWriteAheadLog.WAL_SEGMENT_EXTENSION.length() - 1);
+          final String storageName = getName();
+
+          if (segmentIndex < 0) {
+            throw new IllegalStateException("Can not find index of WAL segment");
+          }
 
-        continue;
-      }
+          addFileToDirectory(
+              storageName + walName.substring(segmentIndex), zipInputStream, walTempDir);
+          continue;
+        }
 
-      if (zipEntry
-          .getName()
-          .toLowerCase(serverLocale)
-          .endsWith(CASDiskWriteAheadLog.WAL_SEGMENT_EXTENSION)) {
-        final String walName = zipEntry.getName();
-        final int segmentIndex =
-            walName.lastIndexOf(
-                '.', walName.length() - CASDiskWriteAheadLog.WAL_SEGMENT_EXTENSION.length() - 1);
-        final String storageName = getName();
-
-        if (segmentIndex < 0) {
-          throw new IllegalStateException("Can not find index of WAL segment");
+        if (aesKey != null && encryptionIv == null) {
+          throw new SecurityException("IV can not be null if encryption key is provided");
         }
 
-        addFileToDirectory(
-            storageName + walName.substring(segmentIndex), zipInputStream, walTempDir);
-        continue;
-      }
+        final boolean compressed = zipEntry.getName().endsWith(LZ4_PAGES_ENTRY_SUFFIX);
+        final String fileName =
+            compressed
+                ? zipEntry
+                .getName()
+                .substring(0, zipEntry.getName().length() - LZ4_PAGES_ENTRY_SUFFIX.length())
+                : zipEntry.getName();
+        processedFiles.add(fileName);
+
+        final byte[] iv = encryptionIv;
+        if (compressed && threads > 1) {
+          // entry is copied to the temporary file as is, so zip stream may be read further while
+          // pages of this file are decompressed and restored by the separate thread
+          if (!Files.exists(tempDirectory)) {
+            Files.createDirectories(tempDirectory);
+          }
 
-      if (aesKey != null && encryptionIv == null) {
-        throw new SecurityException("IV can not be null if encryption key is provided");
+          final Path tempFile =
+              Files.createTempFile(tempDirectory, "pages", LZ4_PAGES_ENTRY_SUFFIX);
+          Files.copy(zipInputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+          pending.add(
+              context.execute(
+                  () -> {
+                    try (final InputStream pagesStream =
+                        new LZ4BlockInputStream(
+                            new BufferedInputStream(Files.newInputStream(tempFile)))) {
+                      return restoreFilePages(
+                          fileName, pagesStream, isFull, aesKey, iv, throttler);
+                    } finally {
+                      Files.deleteIfExists(tempFile);
+                    }
+                  }));
+
+          if (pending.size() >= threads) {
+            restoredFiles.add(waitForFilePagesRestore(pending.poll()));
+          }
+        } else {
+          // zip stream should not be closed by wrapping stream
+          final InputStream pagesStream =
+              compressed ? new LZ4BlockInputStream(zipInputStream) : zipInputStream;
+          restoredFiles.add(
+              restoreFilePages(fileName, pagesStream, isFull, aesKey, iv, throttler));
+        }
       }
 
-      final byte[] binaryFileId = new byte[LongSerializer.LONG_SIZE];
-      IOUtils.readFully(zipInputStream, binaryFileId, 0, binaryFileId.length);
-
-      final long expectedFileId = LongSerializer.INSTANCE.deserialize(binaryFileId, 0);
-      long fileId;
-
-      var rootDirectory = storagePath;
-      var zipEntryPath = rootDirectory.resolve(zipEntry.getName()).normalize();
-
-      if (!zipEntryPath.startsWith(rootDirectory)) {
-        throw new IllegalStateException("Bad zip entry " + zipEntry.getName());
+      while (!pending.isEmpty()) {
+        restoredFiles.add(waitForFilePagesRestore(pending.poll()));
       }
-      if (!zipEntryPath.getParent().equals(rootDirectory)) {
-        throw new IllegalStateException("Bad zip entry " + zipEntry.getName());
+    } finally {
+      for (final Future<FilePagesRestore> future : pending) {
+        try {
+          future.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          LogManager.instance().error(this, "Error during restore of storage file", e);
+        }
       }
 
-      var fileName = zipEntryPath.getFileName().toString();
-      if (!writeCache.exists(fileName)) {
-        fileId = readCache.addFile(fileName, expectedFileId, writeCache);
-      } else {
-        fileId = writeCache.fileIdByName(fileName);
+      if (Files.exists(tempDirectory)) {
+        FileUtils.deleteRecursively(tempDirectory.toFile());
       }
+    }
 
-      if (!writeCache.fileIdsAreEqual(expectedFileId, fileId)) {
-        throw new StorageException(
-            "Can not restore database from backup because expected and actual file ids are not the"
-                + " same");
+    for (final FilePagesRestore restoredFile : restoredFiles) {
+      if (restoredFile.maxLsn != null
+          && (maxLsn == null || maxLsn.compareTo(restoredFile.maxLsn) < 0)) {
+        maxLsn = restoredFile.maxLsn;
       }
 
-      while (true) {
-        final byte[] data = new byte[pageSize + LongSerializer.LONG_SIZE];
-
-        int rb = 0;
-
-        while (rb < data.length) {
-          final int b = zipInputStream.read(data, rb, data.length - rb);
-
-          if (b == -1) {
-            if (rb > 0) {
-              throw new StorageException("Can not read data from file " + fileName);
-            } else {
-              processedFiles.add(fileName);
-              continue entryLoop;
-            }
-          }
-
-          rb += b;
-        }
-
-        final long pageIndex = LongSerializer.INSTANCE.deserializeNative(data, 0);
-
-        if (aesKey != null) {
-          doEncryptionDecryption(
-              Cipher.DECRYPT_MODE, aesKey, expectedFileId, pageIndex, data, encryptionIv);
-        }
-
-        CacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
-
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null) {
-              readCache.releaseFromWrite(cacheEntry, writeCache, true);
-            }
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          final ByteBuffer buffer = cacheEntry.getCachePointer().getBuffer();
-          assert buffer != null;
-          final LogSequenceNumber backedUpPageLsn =
-              DurablePage.getLogSequenceNumber(LongSerializer.LONG_SIZE, data);
-          if (isFull) {
-            buffer.put(0, data, LongSerializer.LONG_SIZE, data.length - LongSerializer.LONG_SIZE);
-
-            if (maxLsn == null || maxLsn.compareTo(backedUpPageLsn) < 0) {
-              maxLsn = backedUpPageLsn;
-            }
-          } else {
-            final LogSequenceNumber currentPageLsn =
-                DurablePage.getLogSequenceNumberFromPage(buffer);
-            if (backedUpPageLsn.compareTo(currentPageLsn) > 0) {
-              buffer.put(
-                  0, data, LongSerializer.LONG_SIZE, data.length - LongSerializer.LONG_SIZE);
-
-              if (maxLsn == null || maxLsn.compareTo(backedUpPageLsn) < 0) {
-                maxLsn = backedUpPageLsn;
-              }
-            }
-          }
-
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache, true);
+      if (manifest != null) {
+        final Long expectedPages = manifest.remove(restoredFile.fileName);
+        if (expectedPages == null || expectedPages != restoredFile.pages) {
+          throw new StorageException(
+              "Backup of file '"
+                  + restoredFile.fileName
+                  + "' is broken, amount of pages listed in backup manifest is "
+                  + expectedPages
+                  + " but "
+                  + restoredFile.pages
+                  + " pages were restored");
         }
       }
     }
 
+    if (manifest != null && !manifest.isEmpty()) {
+      throw new StorageException(
+          "Backup is broken, following files listed in backup manifest are absent: "
+              + manifest.keySet());
+    }
+
     currentFiles.removeAll(processedFiles);
 
     for (String file : currentFiles) {
@@ -1996,6 +2397,7 @@ public class LocalPaginatedStorage extends AbstractPaginatedStorage {
     if (maxLsn != null && writeAheadLog != null) {
       writeAheadLog.moveLsnAfter(maxLsn);
     }
+    logRestoredAsyncIndexChanges();
 
     FileUtils.deleteRecursively(walTempDir);
   }
@@ -0,0 +1,132 @@
+package com.jetbrains.youtrack.db.internal.core.storage.disk;
+
+import com.jetbrains.youtrack.db.api.config.ContextConfiguration;
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.api.exception.ModificationOperationProhibitedException;
+import com.jetbrains.youtrack.db.internal.common.collection.closabledictionary.ClosableLinkedContainer;
+import com.jetbrains.youtrack.db.internal.common.directmemory.ByteBufferPool;
+import com.jetbrains.youtrack.db.internal.core.db.YouTrackDBInternal;
+import com.jetbrains.youtrack.db.internal.core.db.record.RecordOperation;
+import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
+import com.jetbrains.youtrack.db.internal.core.storage.ChecksumMode;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.local.MemoryMappedReadOnlyCache;
+import com.jetbrains.youtrack.db.internal.core.storage.fs.File;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.StartupMetadata;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.MemoryWriteAheadLog;
+import com.jetbrains.youtrack.db.internal.core.tx.TransactionOptimistic;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Disk based storage which is opened in read only mode. Data files are memory mapped by
+ * {@link MemoryMappedReadOnlyCache} and pages are served directly from OS page cache, write ahead
+ * log is not used at all. Storage is intended for databases which are never changed, like
+ * snapshots used by analytical replicas, so only storages which were closed properly can be opened
+ * and all modifications are prohibited.
+ *
+ * @see GlobalConfiguration#STORAGE_MAPPED_READ_ONLY
+ */
+public class MemoryMappedReadOnlyStorage extends LocalPaginatedStorage {
+
+  private static final int ONE_KB = 1024;
+
+  public MemoryMappedReadOnlyStorage(
+      final String name,
+      final String filePath,
+      final int id,
+      final ClosableLinkedContainer<Long, File> files,
+      final long walMaxSegSize,
+      final long doubleWriteLogMaxSegSize,
+      final YouTrackDBInternal context) {
+    super(name, filePath, id, null, files, walMaxSegSize, doubleWriteLogMaxSegSize, context);
+  }
+
+  @Override
+  public void create(final ContextConfiguration contextConfiguration) {
+    throw readOnly();
+  }
+
+  @Override
+  protected void initWalAndDiskCache(final ContextConfiguration contextConfiguration)
+      throws IOException {
+    if (contextConfiguration.getValueAsString(GlobalConfiguration.STORAGE_ENCRYPTION_KEY)
+        != null) {
+      throw new StorageException(
+          "Storage " + name + " is encrypted and can not be opened in read only mode");
+    }
+
+    writeAheadLog = new MemoryWriteAheadLog();
+
+    final MemoryMappedReadOnlyCache cache =
+        new MemoryMappedReadOnlyCache(
+            contextConfiguration.getValueAsInteger(GlobalConfiguration.DISK_CACHE_PAGE_SIZE)
+                * ONE_KB,
+            getStoragePath(),
+            getName(),
+            getId(),
+            contextConfiguration.getValueAsEnum(
+                GlobalConfiguration.STORAGE_CHECKSUM_MODE, ChecksumMode.class),
+            ByteBufferPool.instance(null));
+    cache.open();
+    cache.addPageIsBrokenListener(this);
+
+    readCache = cache;
+    writeCache = cache;
+  }
+
+  @Override
+  protected StartupMetadata checkIfStorageDirty() throws IOException {
+    final StartupMetadata metadata = super.checkIfStorageDirty();
+    // there is no write ahead log to restore data from
+    if (isDirty()) {
+      throw new StorageException(
+          "Storage " + name + " was not closed properly and can not be opened in read only mode");
+    }
+
+    return metadata;
+  }
+
+  @Override
+  protected void makeStorageDirty() {
+  }
+
+  @Override
+  protected void clearStorageDirty() {
+  }
+
+  @Override
+  protected void flushAllData() {
+  }
+
+  @Override
+  protected void postCloseSteps(
+      final boolean onDelete, final boolean internalError, final long lastTxId)
+      throws IOException {
+    startupMetadata.close();
+  }
+
+  @Override
+  public List<RecordOperation> commit(
+      final TransactionOptimistic clientTx, final boolean allocated) {
+    if (clientTx.getEntryCount() > 0 || !clientTx.getIndexOperations().isEmpty()) {
+      throw readOnly();
+    }
+
+    return super.commit(clientTx, allocated);
+  }
+
+  @Override
+  public void startDDL() {
+    throw readOnly();
+  }
+
+  @Override
+  protected void checkBackupRunning() {
+    throw readOnly();
+  }
+
+  private ModificationOperationProhibitedException readOnly() {
+    return new ModificationOperationProhibitedException(
+        "Storage " + name + " is opened in read only mode");
+  }
+}
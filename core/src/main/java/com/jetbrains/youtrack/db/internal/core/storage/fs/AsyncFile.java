@@ -1,7 +1,7 @@
 package com.jetbrains.youtrack.db.internal.core.storage.fs;
 
 import com.jetbrains.youtrack.db.api.exception.BaseException;
-import com.jetbrains.youtrack.db.internal.common.concur.lock.ScalableRWLock;
+import com.jetbrains.youtrack.db.internal.common.concur.lock.SharedExclusiveLock;
 import com.jetbrains.youtrack.db.internal.common.concur.lock.ThreadInterruptedException;
 import com.jetbrains.youtrack.db.internal.common.log.LogManager;
 import com.jetbrains.youtrack.db.internal.common.profiler.metrics.CoreMetrics;
@@ -32,7 +32,7 @@ import java.util.concurrent.atomic.AtomicLong;
 public final class AsyncFile implements File {
 
   private final boolean logFileDeletion;
-  private final ScalableRWLock lock = new ScalableRWLock();
+  private final SharedExclusiveLock lock = SharedExclusiveLock.newInstance();
   private volatile Path osFile;
 
   private final AtomicLong dirtyCounter = new AtomicLong();
@@ -45,8 +45,9 @@ import com.jetbrains.youtrack.db.api.schema.PropertyType;
 import com.jetbrains.youtrack.db.api.schema.SchemaClass.INDEX_TYPE;
 import com.jetbrains.youtrack.db.api.session.SessionListener;
 import com.jetbrains.youtrack.db.internal.common.concur.NeedRetryException;
-import com.jetbrains.youtrack.db.internal.common.concur.lock.ScalableRWLock;
+import com.jetbrains.youtrack.db.internal.common.concur.lock.SharedExclusiveLock;
 import com.jetbrains.youtrack.db.internal.common.concur.lock.ThreadInterruptedException;
+import com.jetbrains.youtrack.db.internal.common.io.BandwidthThrottler;
 import com.jetbrains.youtrack.db.internal.common.io.YTIOException;
 import com.jetbrains.youtrack.db.internal.common.log.LogManager;
 import com.jetbrains.youtrack.db.internal.common.profiler.metrics.CoreMetrics;
@@ -83,6 +84,7 @@ import com.jetbrains.youtrack.db.internal.core.exception.InvalidInstanceIdExcept
 import com.jetbrains.youtrack.db.internal.core.exception.RetryQueryException;
 import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
 import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.index.AsyncIndexChanges;
 import com.jetbrains.youtrack.db.internal.core.index.IndexDefinition;
 import com.jetbrains.youtrack.db.internal.core.index.IndexException;
 import com.jetbrains.youtrack.db.internal.core.index.IndexInternal;
@@ -91,6 +93,7 @@ import com.jetbrains.youtrack.db.internal.core.index.IndexManagerAbstract;
 import com.jetbrains.youtrack.db.internal.core.index.IndexMetadata;
 import com.jetbrains.youtrack.db.internal.core.index.Indexes;
 import com.jetbrains.youtrack.db.internal.core.index.RuntimeKeyIndexDefinition;
+import com.jetbrains.youtrack.db.internal.core.index.VectorKey;
 import com.jetbrains.youtrack.db.internal.core.index.engine.BaseIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.index.engine.IndexEngine;
 import com.jetbrains.youtrack.db.internal.core.index.engine.IndexEngineValidator;
@@ -98,6 +101,8 @@ import com.jetbrains.youtrack.db.internal.core.index.engine.IndexEngineValuesTra
 import com.jetbrains.youtrack.db.internal.core.index.engine.MultiValueIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.index.engine.SingleValueIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.index.engine.V1IndexEngine;
+import com.jetbrains.youtrack.db.internal.core.index.engine.v1.BitmapIndexEngine;
+import com.jetbrains.youtrack.db.internal.core.index.engine.v1.HnswIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.index.engine.v1.CellBTreeMultiValueIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.index.engine.v1.CellBTreeSingleValueIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.metadata.MetadataDefault;
@@ -134,7 +139,10 @@ import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.Stor
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperationsManager;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperationsTable;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.StorageSnapshot;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurablePage;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.AsyncIndexChangesAppliedWALRecord;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.AsyncIndexChangesWALRecord;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.AtomicUnitEndRecord;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.AtomicUnitStartMetadataRecord;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.AtomicUnitStartRecord;
@@ -152,6 +160,7 @@ import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WriteAheadLog;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.common.EmptyWALRecord;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.common.WriteableWALRecord;
+import com.jetbrains.youtrack.db.internal.core.storage.index.bitmap.RidBitmap;
 import com.jetbrains.youtrack.db.internal.core.storage.index.engine.HashTableIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.storage.index.engine.SBTreeIndexEngine;
 import com.jetbrains.youtrack.db.internal.core.storage.index.sbtreebonsai.local.SBTreeBonsaiLocal;
@@ -169,6 +178,7 @@ import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChange
 import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChangesPerKey.TransactionIndexEntry;
 import com.jetbrains.youtrack.db.internal.core.tx.TransactionInternal;
 import com.jetbrains.youtrack.db.internal.core.tx.TransactionOptimistic;
+import com.jetbrains.youtrack.db.internal.core.tx.TransactionSpillFile;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
@@ -177,6 +187,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -198,8 +210,12 @@ import java.util.TimeZone;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -293,6 +309,30 @@ public abstract class AbstractPaginatedStorage
   private volatile boolean wereNonTxOperationsPerformedInPreviousOpen;
   private final int id;
 
+  private final ConcurrentHashMap<String, AsyncIndexChanges> asyncIndexChanges =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Applies changes of the indexes with asynchronous maintenance of this storage, created once the
+   * first of such indexes is registered.
+   */
+  private ExecutorService asyncIndexExecutor;
+
+  /**
+   * Changes of the indexes with asynchronous maintenance found in the write ahead log during data
+   * restore, keyed by index name and LSN of the record. Changes are removed once record which marks
+   * them as applied is found.
+   */
+  private final Map<String, TreeMap<LogSequenceNumber, byte[]>> asyncIndexChangesToRestore =
+      new HashMap<>();
+
+  /**
+   * Restored changes of the indexes with asynchronous maintenance which are logged again and are
+   * passed to the index once it is registered.
+   */
+  private final ConcurrentHashMap<String, List<AsyncIndexChanges.Batch>> restoredAsyncIndexChanges =
+      new ConcurrentHashMap<>();
+
   private final Map<String, BaseIndexEngine> indexEngineNameMap = new HashMap<>();
   private final List<BaseIndexEngine> indexEngines = new ArrayList<>();
   private final AtomicOperationIdGen idGen = new AtomicOperationIdGen();
@@ -306,9 +346,13 @@ public abstract class AbstractPaginatedStorage
 
   protected static final String DATABASE_INSTANCE_ID = "databaseInstenceId";
 
+  protected static final String DISK_CACHE_STATE_EXTENSION = ".dcs";
+  private static final String DISK_CACHE_STATE_FILE_NAME =
+      "disk_cache" + DISK_CACHE_STATE_EXTENSION;
+
   protected AtomicOperationsTable atomicOperationsTable;
   protected final String url;
-  protected final ScalableRWLock stateLock;
+  protected final SharedExclusiveLock stateLock;
 
   protected volatile StorageConfiguration configuration;
   protected volatile CurrentStorageComponentsFactory componentsFactory;
@@ -324,6 +368,10 @@ public abstract class AbstractPaginatedStorage
   private volatile int backupRunning = 0;
   private volatile int ddlRunning = 0;
 
+  private boolean keepDiskCacheState;
+  private volatile boolean diskCachePrewarmStopped;
+  private Future<?> diskCachePrewarm;
+
   protected final Lock backupLock = new ReentrantLock();
   protected final Condition backupIsDone = backupLock.newCondition();
 
@@ -338,7 +386,7 @@ public abstract class AbstractPaginatedStorage
 
     url = filePath;
 
-    stateLock = new ScalableRWLock();
+    stateLock = SharedExclusiveLock.newInstance();
 
     this.id = id;
     sbTreeCollectionManager = new SBTreeCollectionManagerShared(this);
@@ -587,7 +635,12 @@ public abstract class AbstractPaginatedStorage
                   contextConfiguration.getValueAsInteger(
                       GlobalConfiguration.STORAGE_ATOMIC_OPERATIONS_TABLE_COMPACTION_LIMIT),
                   idGen.getLastId() + 1);
-          atomicOperationsManager = new AtomicOperationsManager(this, atomicOperationsTable);
+          atomicOperationsManager =
+              new AtomicOperationsManager(
+                  this,
+                  atomicOperationsTable,
+                  contextConfiguration.getValueAsLong(
+                      GlobalConfiguration.STORAGE_SNAPSHOT_MAX_MEMORY) * 1024 * 1024);
 
           recoverIfNeeded();
 
@@ -683,6 +736,13 @@ public abstract class AbstractPaginatedStorage
           atomicOperationsManager.executeInsideAtomicOperation(null, this::checkRidBagsPresence);
           status = STATUS.OPEN;
           migration.countDown();
+
+          keepDiskCacheState =
+              contextConfiguration.getValueAsBoolean(
+                  GlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE);
+          startDiskCachePrewarm(
+              contextConfiguration.getValueAsInteger(
+                  GlobalConfiguration.STORAGE_DISK_CACHE_PREWARM_BANDWIDTH));
         } finally {
           stateLock.writeLock().unlock();
         }
@@ -918,7 +978,12 @@ public abstract class AbstractPaginatedStorage
             contextConfiguration.getValueAsInteger(
                 GlobalConfiguration.STORAGE_ATOMIC_OPERATIONS_TABLE_COMPACTION_LIMIT),
             idGen.getLastId() + 1);
-    atomicOperationsManager = new AtomicOperationsManager(this, atomicOperationsTable);
+    atomicOperationsManager =
+        new AtomicOperationsManager(
+            this,
+            atomicOperationsTable,
+            contextConfiguration.getValueAsLong(
+                GlobalConfiguration.STORAGE_SNAPSHOT_MAX_MEMORY) * 1024 * 1024);
     transaction = new ThreadLocal<>();
 
     preCreateSteps();
@@ -1589,6 +1654,21 @@ public abstract class AbstractPaginatedStorage
     return writeCache;
   }
 
+  /**
+   * @return <code>true</code> if estimated amount of pages of the cluster is at least the given
+   * percent of the read cache size, so full scan of the cluster would replace large part of the
+   * cache content.
+   */
+  public boolean isClusterLargeComparedToCache(final int clusterId, final int cachePercent) {
+    final long cachePages = readCache.getMaxPages();
+    if (cachePages < 0) {
+      return false;
+    }
+
+    final long clusterPages = getClusterRecordsSizeById(clusterId) / writeCache.pageSize() + 1;
+    return clusterPages * 100 >= cachePages * cachePercent;
+  }
+
   @Override
   public final long count(DatabaseSessionInternal session, final int iClusterId) {
     return count(session, iClusterId, false);
@@ -1980,6 +2060,45 @@ public abstract class AbstractPaginatedStorage
     return atomicOperationsManager;
   }
 
+  /**
+   * Opens snapshot of the storage data which is bound to the current thread. Till the snapshot is
+   * closed, records which are read by the thread outside of transactions are returned as they were
+   * at the moment of the snapshot creation. Writers are not blocked by the snapshot, but images of
+   * the pages changed by them are kept in memory while the snapshot is opened.
+   */
+  public StorageSnapshot openSnapshot() {
+    return openSnapshot(null);
+  }
+
+  /**
+   * Opens snapshot of the storage data which is bound to the current thread and sees the same
+   * state of the data as the passed in snapshot opened by another thread. If passed in snapshot is
+   * <code>null</code> new snapshot is opened.
+   *
+   * @see #openSnapshot()
+   */
+  public StorageSnapshot openSnapshot(final StorageSnapshot snapshot) {
+    try {
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        if (snapshot != null) {
+          return atomicOperationsManager.getSnapshotManager().joinSnapshot(snapshot);
+        }
+        return atomicOperationsManager.getSnapshotManager().openSnapshot();
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
   @Nonnull
   public WriteAheadLog getWALInstance() {
     return writeAheadLog;
@@ -2268,7 +2387,19 @@ public abstract class AbstractPaginatedStorage
         }
       }
 
+      final TransactionSpillFile spillFile = transaction.getSpillFile();
+      if (spillFile != null) {
+        for (final int clusterId : spillFile.getClusterIds()) {
+          clustersToLock.put(clusterId, doGetAndCheckCluster(clusterId));
+        }
+      }
+
       final List<RecordOperation> result = new ArrayList<>(8);
+      final TreeMap<String, FrontendTransactionIndexChanges> asyncIndexOperations = new TreeMap<>();
+      final Map<String, AsyncIndexChanges.Batch> asyncIndexBatches = new HashMap<>();
+      final List<AsyncIndexChanges> lockedAsyncIndexes =
+          lockAsyncIndexes(
+              transaction, indexOperations, asyncIndexOperations, indexManager, database);
       stateLock.readLock().lock();
       try {
         try {
@@ -2343,9 +2474,14 @@ public abstract class AbstractPaginatedStorage
                   database.getSerializer());
               result.add(recordOperation);
             }
+
+            if (spillFile != null) {
+              commitSpilledRecords(transaction, atomicOperation);
+            }
             lockIndexes(indexOperations);
 
-            commitIndexes(transaction.getDatabase(), indexOperations);
+            commitIndexes(transaction, indexOperations);
+            logAsyncIndexChanges(atomicOperation, asyncIndexOperations, asyncIndexBatches);
           } catch (final IOException | RuntimeException e) {
             error = e;
             if (e instanceof RuntimeException) {
@@ -2357,8 +2493,10 @@ public abstract class AbstractPaginatedStorage
           } finally {
             if (error != null) {
               rollback(error);
+              releaseAsyncIndexChanges(asyncIndexBatches.values());
             } else {
               endStorageTx();
+              addAsyncIndexChanges(asyncIndexBatches);
             }
             this.transaction.set(null);
           }
@@ -2368,6 +2506,7 @@ public abstract class AbstractPaginatedStorage
         }
       } finally {
         stateLock.readLock().unlock();
+        unlockAsyncIndexes(lockedAsyncIndexes);
       }
 
       if (LogManager.instance().isDebugEnabled()) {
@@ -2391,9 +2530,12 @@ public abstract class AbstractPaginatedStorage
     }
   }
 
-  private void commitIndexes(DatabaseSessionInternal session,
+  private void commitIndexes(final TransactionOptimistic transaction,
       final Map<String, FrontendTransactionIndexChanges> indexesToCommit) {
-    for (final FrontendTransactionIndexChanges changes : indexesToCommit.values()) {
+    final DatabaseSessionInternal session = transaction.getDatabase();
+    for (final Entry<String, FrontendTransactionIndexChanges> entry :
+        indexesToCommit.entrySet()) {
+      final FrontendTransactionIndexChanges changes = entry.getValue();
       final IndexInternal index = changes.getAssociatedIndex();
 
       try {
@@ -2401,8 +2543,10 @@ public abstract class AbstractPaginatedStorage
         if (changes.cleared) {
           clearIndex(indexId);
         }
-        for (final FrontendTransactionIndexChangesPerKey changesPerKey : changes.changesPerKey.values()) {
-          applyTxChanges(session, changesPerKey, index);
+        for (final Iterator<FrontendTransactionIndexChangesPerKey> iterator =
+            transaction.getSortedIndexChanges(entry.getKey(), changes);
+            iterator.hasNext(); ) {
+          applyTxChanges(session, iterator.next(), index);
         }
         applyTxChanges(session, changes.nullKeyChanges, index);
       } catch (final InvalidIndexEngineIdException e) {
@@ -2411,6 +2555,305 @@ public abstract class AbstractPaginatedStorage
     }
   }
 
+  /**
+   * Acquires commit locks of the indexes with asynchronous maintenance changed by the transaction
+   * and moves changes which can be applied in background from <code>indexOperations</code> to
+   * <code>asyncIndexOperations</code>. Other changes of such indexes are applied by the
+   * transaction, so changes which are not applied yet are applied first. Changes of such indexes
+   * moved to the transaction spill file are read back, because they are kept in the heap till they
+   * are applied. If amount of changes which are not applied yet reaches
+   * {@link GlobalConfiguration#INDEX_ASYNC_MAX_PENDING_CHANGES} they are applied by the transaction
+   * too, so pending changes do not grow faster than they are applied in background.
+   *
+   * @return Locked indexes.
+   */
+  private List<AsyncIndexChanges> lockAsyncIndexes(
+      final TransactionOptimistic transaction,
+      final TreeMap<String, FrontendTransactionIndexChanges> indexOperations,
+      final TreeMap<String, FrontendTransactionIndexChanges> asyncIndexOperations,
+      final IndexManagerAbstract indexManager,
+      final DatabaseSessionInternal database) {
+    if (asyncIndexChanges.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final int maxPendingChanges =
+        configuration
+            .getContextConfiguration()
+            .getValueAsInteger(GlobalConfiguration.INDEX_ASYNC_MAX_PENDING_CHANGES);
+    final List<AsyncIndexChanges> locked = new ArrayList<>();
+    try {
+      final Iterator<Entry<String, FrontendTransactionIndexChanges>> iterator =
+          indexOperations.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Entry<String, FrontendTransactionIndexChanges> entry = iterator.next();
+        final AsyncIndexChanges changes = asyncIndexChanges.get(entry.getKey());
+        if (changes == null
+            || entry.getValue().resolveAssociatedIndex(entry.getKey(), indexManager, database)
+            == null) {
+          continue;
+        }
+
+        changes.getCommitLock().lock();
+        locked.add(changes);
+
+        transaction.loadSpilledIndexChanges(entry.getKey());
+        if (AsyncIndexChanges.canBeApplied(entry.getValue())) {
+          if (changes.size() >= maxPendingChanges) {
+            flushAsyncIndexChanges(entry.getKey());
+          }
+          asyncIndexOperations.put(entry.getKey(), entry.getValue());
+          iterator.remove();
+        } else {
+          flushAsyncIndexChanges(entry.getKey());
+        }
+      }
+    } catch (final RuntimeException e) {
+      unlockAsyncIndexes(locked);
+      throw e;
+    }
+
+    return locked;
+  }
+
+  private static void unlockAsyncIndexes(final List<AsyncIndexChanges> locked) {
+    for (final AsyncIndexChanges changes : locked) {
+      changes.getCommitLock().unlock();
+    }
+  }
+
+  /**
+   * Logs changes of the indexes with asynchronous maintenance as part of the atomic operation of
+   * the transaction, log is not truncated beyond these records till changes are applied.
+   */
+  private void logAsyncIndexChanges(
+      final AtomicOperation atomicOperation,
+      final TreeMap<String, FrontendTransactionIndexChanges> asyncIndexOperations,
+      final Map<String, AsyncIndexChanges.Batch> asyncIndexBatches) throws IOException {
+    for (final Entry<String, FrontendTransactionIndexChanges> entry :
+        asyncIndexOperations.entrySet()) {
+      final List<AsyncIndexChanges.Change> changes =
+          AsyncIndexChanges.toChanges(entry.getValue().getAssociatedIndex(), entry.getValue());
+      if (changes.isEmpty()) {
+        continue;
+      }
+
+      final LogSequenceNumber lsn =
+          writeAheadLog.log(
+              new AsyncIndexChangesWALRecord(
+                  atomicOperation.getOperationUnitId(),
+                  entry.getKey(),
+                  AsyncIndexChanges.serialize(changes)));
+      writeAheadLog.addCutTillLimit(lsn);
+      asyncIndexBatches.put(entry.getKey(), new AsyncIndexChanges.Batch(changes, lsn));
+    }
+  }
+
+  private void addAsyncIndexChanges(final Map<String, AsyncIndexChanges.Batch> asyncIndexBatches) {
+    for (final Entry<String, AsyncIndexChanges.Batch> entry : asyncIndexBatches.entrySet()) {
+      final AsyncIndexChanges changes = asyncIndexChanges.get(entry.getKey());
+      if (changes == null) {
+        // index was deleted concurrently
+        releaseAsyncIndexChanges(List.of(entry.getValue()));
+      } else if (changes.add(entry.getValue())) {
+        scheduleAsyncIndexChanges(changes);
+      }
+    }
+  }
+
+  /**
+   * Allows to truncate the write ahead log beyond records of the changes which are applied or are
+   * not needed anymore.
+   */
+  private void releaseAsyncIndexChanges(final Collection<AsyncIndexChanges.Batch> batches) {
+    for (final AsyncIndexChanges.Batch batch : batches) {
+      writeAheadLog.removeCutTillLimit(batch.lsn());
+    }
+  }
+
+  private void scheduleAsyncIndexChanges(final AsyncIndexChanges changes) {
+    synchronized (asyncIndexChanges) {
+      if (asyncIndexExecutor == null) {
+        asyncIndexExecutor =
+            ThreadPoolExecutors.newSingleThreadPool(
+                "Async Index Maintenance " + name, storageThreadGroup);
+      }
+
+      asyncIndexExecutor.execute(() -> applyAsyncIndexChangesInBackground(changes));
+    }
+  }
+
+  private void stopAsyncIndexExecutor() {
+    synchronized (asyncIndexChanges) {
+      if (asyncIndexExecutor != null) {
+        asyncIndexExecutor.shutdown();
+        asyncIndexExecutor = null;
+      }
+    }
+  }
+
+  /**
+   * Starts asynchronous maintenance of the index, changes of the index made by transactions are
+   * applied to the index engine in background since this moment. Changes of the index restored
+   * after crash are applied first.
+   */
+  public void registerAsyncIndex(final String indexName) {
+    final AsyncIndexChanges changes =
+        asyncIndexChanges.computeIfAbsent(
+            indexName,
+            k ->
+                new AsyncIndexChanges(
+                    indexName,
+                    YouTrackDBEnginesManager.instance()
+                        .getMetricsRegistry()
+                        .fileMetric(CoreMetrics.FILE_ASYNC_INDEX_LAG, name, indexName)));
+
+    final List<AsyncIndexChanges.Batch> restored = restoredAsyncIndexChanges.remove(indexName);
+    if (restored != null) {
+      boolean schedule = false;
+      for (final AsyncIndexChanges.Batch batch : restored) {
+        schedule |= changes.add(batch);
+      }
+
+      if (schedule) {
+        scheduleAsyncIndexChanges(changes);
+      }
+    }
+  }
+
+  /**
+   * Applies all changes of the index with asynchronous maintenance and stops maintenance.
+   */
+  public void unregisterAsyncIndex(final String indexName) {
+    flushAsyncIndexChanges(indexName);
+    asyncIndexChanges.remove(indexName);
+
+    final List<AsyncIndexChanges.Batch> restored = restoredAsyncIndexChanges.remove(indexName);
+    if (restored != null) {
+      releaseAsyncIndexChanges(restored);
+    }
+  }
+
+  /**
+   * @return Changes of the index with asynchronous maintenance which are not applied to the index
+   * engine yet or <code>null</code> if changes of the index are applied by transactions.
+   */
+  @Nullable
+  public AsyncIndexChanges getAsyncIndexChanges(final String indexName) {
+    if (asyncIndexChanges.isEmpty()) {
+      return null;
+    }
+
+    return asyncIndexChanges.get(indexName);
+  }
+
+  /**
+   * Applies changes of the index with asynchronous maintenance in the current thread.
+   */
+  public void flushAsyncIndexChanges(final String indexName) {
+    final AsyncIndexChanges changes = asyncIndexChanges.get(indexName);
+    if (changes == null || changes.isEmpty()) {
+      return;
+    }
+
+    try {
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        applyAsyncIndexChanges(changes);
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
+  private void applyAsyncIndexChangesInBackground(final AsyncIndexChanges changes) {
+    do {
+      stateLock.readLock().lock();
+      try {
+        if (status != STATUS.OPEN) {
+          // changes are applied during close of the storage
+          changes.cancelApplication();
+          return;
+        }
+
+        applyAsyncIndexChanges(changes);
+      } catch (final Exception e) {
+        LogManager.instance()
+            .error(
+                this,
+                "Error during application of changes of index '%s'",
+                e,
+                changes.getIndexName());
+        changes.cancelApplication();
+        return;
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } while (!changes.completeApplication());
+  }
+
+  private void applyAsyncIndexChanges(final AsyncIndexChanges changes) throws IOException {
+    final int batchSize =
+        configuration
+            .getContextConfiguration()
+            .getValueAsInteger(GlobalConfiguration.INDEX_ASYNC_BATCH_SIZE);
+
+    changes.getApplyLock().lock();
+    try {
+      List<AsyncIndexChanges.Batch> batches = changes.peek(batchSize);
+      while (!batches.isEmpty()) {
+        final BaseIndexEngine engine = indexEngineNameMap.get(changes.getIndexName());
+        if (engine == null) {
+          // index engine is deleted, so there is nothing to update
+          releaseAsyncIndexChanges(changes.clear());
+          return;
+        }
+
+        makeStorageDirty();
+
+        final List<AsyncIndexChanges.Change> merged = AsyncIndexChanges.merge(batches);
+        final LogSequenceNumber appliedLsn = batches.get(batches.size() - 1).lsn();
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null,
+            atomicOperation -> {
+              for (final AsyncIndexChanges.Change change : merged) {
+                if (engine.acquireAtomicExclusiveLock(change.key())) {
+                  break;
+                }
+              }
+
+              for (final AsyncIndexChanges.Change change : merged) {
+                if (change.put()) {
+                  ((V1IndexEngine) engine).put(atomicOperation, change.key(), change.rid());
+                } else {
+                  ((MultiValueIndexEngine) engine)
+                      .remove(atomicOperation, change.key(), change.rid());
+                }
+              }
+
+              writeAheadLog.log(
+                  new AsyncIndexChangesAppliedWALRecord(
+                      atomicOperation.getOperationUnitId(),
+                      changes.getIndexName(),
+                      appliedLsn));
+            });
+
+        releaseAsyncIndexChanges(changes.remove(batches));
+        batches = changes.peek(batchSize);
+      }
+    } finally {
+      changes.getApplyLock().unlock();
+    }
+  }
+
   private void applyTxChanges(DatabaseSessionInternal session,
       FrontendTransactionIndexChangesPerKey changes, IndexInternal index)
       throws InvalidIndexEngineIdException {
@@ -2944,6 +3387,91 @@ public abstract class AbstractPaginatedStorage
     }
   }
 
+  /**
+   * @return Record ids of the key as a bitmap, index engine should be {@link BitmapIndexEngine}.
+   */
+  public RidBitmap getIndexBitmap(int indexId, final Object key)
+      throws InvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      if (transaction.get() != null) {
+        return doGetIndexBitmap(indexId, key);
+      }
+
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        return doGetIndexBitmap(indexId, key);
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final InvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
+  private RidBitmap doGetIndexBitmap(final int indexId, final Object key)
+      throws InvalidIndexEngineIdException {
+    checkIndexId(indexId);
+
+    final BaseIndexEngine engine = indexEngines.get(indexId);
+    assert indexId == engine.getId();
+
+    return ((BitmapIndexEngine) engine).getBitmap(key);
+  }
+
+  /**
+   * @return Pairs of the distance to the query vector and record id of approximate nearest
+   * neighbours of the query vector, in ascending order of distance, index engine should be
+   * {@link HnswIndexEngine}.
+   */
+  public List<RawPair<Float, RID>> getIndexNearestNeighbours(
+      int indexId, final VectorKey query, final int limit) throws InvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      if (transaction.get() != null) {
+        return doGetIndexNearestNeighbours(indexId, query, limit);
+      }
+
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        return doGetIndexNearestNeighbours(indexId, query, limit);
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final InvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
+  private List<RawPair<Float, RID>> doGetIndexNearestNeighbours(
+      final int indexId, final VectorKey query, final int limit)
+      throws InvalidIndexEngineIdException {
+    checkIndexId(indexId);
+
+    final BaseIndexEngine engine = indexEngines.get(indexId);
+    assert indexId == engine.getId();
+
+    return ((HnswIndexEngine) engine).getNearestNeighbours(query, limit);
+  }
+
   private Stream<RID> doGetIndexValues(final int indexId, final Object key)
       throws InvalidIndexEngineIdException {
     checkIndexId(indexId);
@@ -4631,6 +5159,10 @@ public abstract class AbstractPaginatedStorage
         }
 
         flushAllData();
+        if (!restoredAsyncIndexChanges.isEmpty()) {
+          // restored changes are lost if storage is closed before indexes are loaded otherwise
+          makeStorageDirty();
+        }
       } catch (final Exception e) {
         LogManager.instance().error(this, "Exception during storage data restore", e);
         throw e;
@@ -5073,9 +5605,16 @@ public abstract class AbstractPaginatedStorage
       }
 
       status = STATUS.CLOSING;
+      stopDiskCachePrewarm();
+      atomicOperationsManager.getSnapshotManager().closeAllSnapshots();
 
       if (!isInError()) {
+        final boolean asyncIndexChangesApplied = applyAllAsyncIndexChanges();
         flushAllData();
+        if (!asyncIndexChangesApplied) {
+          // records of changes are kept in the write ahead log, so they are restored on next open
+          makeStorageDirty();
+        }
         preCloseSteps();
 
         atomicOperationsManager.executeInsideAtomicOperation(
@@ -5089,6 +5628,8 @@ public abstract class AbstractPaginatedStorage
                     || engine instanceof HashTableIndexEngine
                     || engine instanceof CellBTreeSingleValueIndexEngine
                     || engine instanceof CellBTreeMultiValueIndexEngine
+                    || engine instanceof BitmapIndexEngine
+                    || engine instanceof HnswIndexEngine
                     || engine instanceof AutoShardingIndexEngine)) {
                   engine.close();
                 }
@@ -5112,6 +5653,7 @@ public abstract class AbstractPaginatedStorage
         writeAheadLog.removeCheckpointListener(this);
 
         if (readCache != null) {
+          storeDiskCacheState();
           readCache.closeStorage(writeCache);
         }
 
@@ -5132,6 +5674,46 @@ public abstract class AbstractPaginatedStorage
     });
   }
 
+  /**
+   * Applies changes of all indexes with asynchronous maintenance before close of the storage.
+   * Restored changes of the indexes which were not registered are kept if index engine still
+   * exists.
+   *
+   * @return <code>true</code> if all changes were applied.
+   */
+  private boolean applyAllAsyncIndexChanges() {
+    stopAsyncIndexExecutor();
+
+    boolean applied = true;
+    for (final AsyncIndexChanges changes : asyncIndexChanges.values()) {
+      try {
+        applyAsyncIndexChanges(changes);
+      } catch (final Exception e) {
+        LogManager.instance()
+            .error(
+                this,
+                "Changes of index '%s' were not applied before close, they will be applied on next"
+                    + " open",
+                e,
+                changes.getIndexName());
+        applied = false;
+      }
+    }
+
+    for (final Entry<String, List<AsyncIndexChanges.Batch>> entry :
+        restoredAsyncIndexChanges.entrySet()) {
+      if (indexEngineNameMap.containsKey(entry.getKey())) {
+        applied = false;
+      } else {
+        releaseAsyncIndexChanges(entry.getValue());
+      }
+    }
+
+    asyncIndexChanges.clear();
+    restoredAsyncIndexChanges.clear();
+    return applied;
+  }
+
   private void doShutdownOnDelete() {
     if (status == STATUS.CLOSED) {
       return;
@@ -5144,6 +5726,11 @@ public abstract class AbstractPaginatedStorage
     }
 
     status = STATUS.CLOSING;
+    stopDiskCachePrewarm();
+    atomicOperationsManager.getSnapshotManager().closeAllSnapshots();
+    stopAsyncIndexExecutor();
+    asyncIndexChanges.clear();
+    restoredAsyncIndexChanges.clear();
     try {
       if (!isInError()) {
         preCloseSteps();
@@ -5154,6 +5741,8 @@ public abstract class AbstractPaginatedStorage
               || engine instanceof HashTableIndexEngine
               || engine instanceof CellBTreeSingleValueIndexEngine
               || engine instanceof CellBTreeMultiValueIndexEngine
+              || engine instanceof BitmapIndexEngine
+              || engine instanceof HnswIndexEngine
               || engine instanceof AutoShardingIndexEngine)) {
             // delete method is implemented only in non native indexes, so they do not use ODB
             // atomic operation
@@ -5201,6 +5790,86 @@ public abstract class AbstractPaginatedStorage
     }
   }
 
+  /**
+   * Starts background load of the pages which were kept in the disk cache when storage was closed
+   * last time, if disk cache state is kept between storage close and open.
+   *
+   * @param bandwidthLimit Maximum amount of megabytes per second loaded by prewarm.
+   */
+  private void startDiskCachePrewarm(final int bandwidthLimit) {
+    diskCachePrewarmStopped = false;
+    final Path stateFile = diskCacheStateFile();
+    if (!keepDiskCacheState || stateFile == null || !Files.exists(stateFile)) {
+      return;
+    }
+
+    final BandwidthThrottler throttler =
+        BandwidthThrottler.create((long) bandwidthLimit * 1024 * 1024);
+    diskCachePrewarm =
+        context.execute(
+            () -> {
+              try {
+                readCache.prewarm(
+                    writeCache, stateFile, throttler, () -> diskCachePrewarmStopped);
+              } catch (final Exception e) {
+                LogManager.instance()
+                    .warn(this, "Error during prewarm of disk cache of storage %s", e, name);
+              } finally {
+                try {
+                  // state is used only once, it is stored again on storage close
+                  Files.deleteIfExists(stateFile);
+                } catch (final IOException e) {
+                  LogManager.instance()
+                      .warn(this, "Can not delete disk cache state file %s", e, stateFile);
+                }
+              }
+            });
+  }
+
+  private void stopDiskCachePrewarm() {
+    diskCachePrewarmStopped = true;
+
+    final Future<?> prewarm = diskCachePrewarm;
+    if (prewarm == null) {
+      return;
+    }
+
+    diskCachePrewarm = null;
+    try {
+      prewarm.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw BaseException.wrapException(
+          new ThreadInterruptedException("Interrupted wait for disk cache prewarm to finish"), e);
+    } catch (final ExecutionException e) {
+      LogManager.instance()
+          .warn(this, "Error during prewarm of disk cache of storage %s", e.getCause(), name);
+    }
+  }
+
+  private void storeDiskCacheState() {
+    final Path stateFile = diskCacheStateFile();
+    if (!keepDiskCacheState || stateFile == null) {
+      return;
+    }
+
+    try {
+      readCache.storeState(writeCache, stateFile);
+    } catch (final IOException | RuntimeException e) {
+      LogManager.instance()
+          .warn(this, "Error during storing of disk cache state of storage %s", e, name);
+    }
+  }
+
+  private Path diskCacheStateFile() {
+    final Path rootDirectory = writeCache.getRootDirectory();
+    if (rootDirectory == null) {
+      return null;
+    }
+
+    return rootDirectory.resolve(DISK_CACHE_STATE_FILE_NAME);
+  }
+
   @SuppressWarnings("unused")
   protected void closeClusters() throws IOException {
     for (final StorageCluster cluster : clusters) {
@@ -5385,6 +6054,18 @@ public abstract class AbstractPaginatedStorage
     RecordInternal.unsetDirty(rec);
   }
 
+  /**
+   * Writes updated records which were moved out of heap by the transaction, records are read from
+   * the file one by one and are committed the same way as records kept in the heap.
+   */
+  private void commitSpilledRecords(
+      final TransactionOptimistic transaction, final AtomicOperation atomicOperation) {
+    final RecordSerializer serializer = transaction.getDatabase().getSerializer();
+    transaction.forEachSpilledRecord(
+        recordOperation ->
+            commitEntry(transaction, atomicOperation, recordOperation, null, serializer));
+  }
+
   private void checkClusterSegmentIndexRange(final int iClusterId) {
     if (iClusterId < 0 || iClusterId > clusters.size() - 1) {
       throw new IllegalArgumentException(
@@ -5458,6 +6139,38 @@ public abstract class AbstractPaginatedStorage
     } finally {
       writeCache.restoreModeOff();
     }
+
+    logRestoredAsyncIndexChanges();
+  }
+
+  /**
+   * Logs changes of the indexes with asynchronous maintenance which were restored but were not
+   * applied again, so they are not lost once restored part of the write ahead log is truncated.
+   * Changes are applied once the index is registered.
+   */
+  protected void logRestoredAsyncIndexChanges() throws IOException {
+    if (asyncIndexChangesToRestore.isEmpty()) {
+      return;
+    }
+
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (final Entry<String, TreeMap<LogSequenceNumber, byte[]>> entry :
+              asyncIndexChangesToRestore.entrySet()) {
+            final List<AsyncIndexChanges.Batch> batches =
+                restoredAsyncIndexChanges.computeIfAbsent(entry.getKey(), k -> new ArrayList<>());
+            for (final byte[] content : entry.getValue().values()) {
+              final LogSequenceNumber lsn =
+                  writeAheadLog.log(
+                      new AsyncIndexChangesWALRecord(
+                          atomicOperation.getOperationUnitId(), entry.getKey(), content));
+              writeAheadLog.addCutTillLimit(lsn);
+              batches.add(new AsyncIndexChanges.Batch(AsyncIndexChanges.deserialize(content), lsn));
+            }
+          }
+        });
+    asyncIndexChangesToRestore.clear();
   }
 
   @SuppressWarnings("UnusedReturnValue")
@@ -5476,8 +6189,32 @@ public abstract class AbstractPaginatedStorage
     long lastReportTime = 0;
     LogSequenceNumber lastUpdatedLSN = null;
 
+    // in case of parallel restore, LSN and metadata of the operations which are submitted to the
+    // workers are considered as restored only after all submitted page changes are applied
+    LogSequenceNumber submittedLSN = null;
+    byte[] submittedMetadata = null;
+
+    final int restoreThreads = GlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger();
+    final ParallelWALRestore parallelRestore;
+    if (restoreThreads > 1) {
+      LogManager.instance()
+          .info(this, "Data restore is performed in parallel by %d threads", restoreThreads);
+      parallelRestore =
+          new ParallelWALRestore(
+              name,
+              restoreThreads,
+              GlobalConfiguration.WAL_RESTORE_BATCH_SIZE.getValueAsInteger(),
+              writeAheadLog,
+              lsn,
+              this::restorePageChanges);
+    } else {
+      parallelRestore = null;
+    }
+
+    Throwable restoreFailure = null;
     try {
-      List<WriteableWALRecord> records = writeAheadLog.read(lsn, 1_000);
+      List<WriteableWALRecord> records =
+          parallelRestore != null ? parallelRestore.nextBatch() : writeAheadLog.read(lsn, 1_000);
 
       while (!records.isEmpty()) {
         for (final WriteableWALRecord walRecord : records) {
@@ -5489,15 +6226,21 @@ public abstract class AbstractPaginatedStorage
             // flushed to the disk
             if (atomicUnit != null) {
               atomicUnit.add(walRecord);
-              if (!restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate)) {
+              if (!restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, parallelRestore)) {
                 return lastUpdatedLSN;
+              } else if (parallelRestore != null) {
+                submittedLSN = walRecord.getLsn();
               } else {
                 lastUpdatedLSN = walRecord.getLsn();
               }
             }
             byte[] metadata = operationMetadata.remove(atomicUnitEndRecord.getOperationUnitId());
             if (metadata != null) {
-              this.lastMetadata = metadata;
+              if (parallelRestore != null) {
+                submittedMetadata = metadata;
+              } else {
+                this.lastMetadata = metadata;
+              }
             }
           } else if (walRecord instanceof AtomicUnitStartRecord oAtomicUnitStartRecord) {
             if (walRecord instanceof AtomicUnitStartMetadataRecord) {
@@ -5527,8 +6270,13 @@ public abstract class AbstractPaginatedStorage
               wereNonTxOperationsPerformedInPreviousOpen = true;
             }
           } else if (walRecord instanceof MetaDataRecord metaDataRecord) {
-            this.lastMetadata = metaDataRecord.getMetadata();
-            lastUpdatedLSN = walRecord.getLsn();
+            if (parallelRestore != null) {
+              submittedMetadata = metaDataRecord.getMetadata();
+              submittedLSN = walRecord.getLsn();
+            } else {
+              this.lastMetadata = metaDataRecord.getMetadata();
+              lastUpdatedLSN = walRecord.getLsn();
+            }
           } else {
             LogManager.instance()
                 .warn(this, "Record %s will be skipped during data restore", walRecord);
@@ -5550,7 +6298,20 @@ public abstract class AbstractPaginatedStorage
           }
         }
 
-        records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
+        if (parallelRestore != null) {
+          parallelRestore.barrier();
+          if (submittedLSN != null) {
+            lastUpdatedLSN = submittedLSN;
+          }
+          if (submittedMetadata != null) {
+            this.lastMetadata = submittedMetadata;
+            submittedMetadata = null;
+          }
+
+          records = parallelRestore.nextBatch();
+        } else {
+          records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
+        }
       }
     } catch (final WALPageBrokenException e) {
       LogManager.instance()
@@ -5566,6 +6327,31 @@ public abstract class AbstractPaginatedStorage
               "Data restore was paused because of exception. The rest of changes will be rolled"
                   + " back.",
               e);
+    } catch (final Throwable e) {
+      restoreFailure = e;
+      throw e;
+    } finally {
+      if (parallelRestore != null) {
+        // page changes which are already submitted are applied, so restored pages contain
+        // all changes of the operations which are submitted to the workers
+        try {
+          parallelRestore.close();
+          if (restoreFailure == null && !parallelRestore.isFailed()) {
+            if (submittedLSN != null) {
+              lastUpdatedLSN = submittedLSN;
+            }
+            if (submittedMetadata != null) {
+              this.lastMetadata = submittedMetadata;
+            }
+          }
+        } catch (final IOException | RuntimeException e) {
+          if (restoreFailure == null) {
+            //noinspection ThrowFromFinallyBlock
+            throw e;
+          }
+          restoreFailure.addSuppressed(e);
+        }
+      }
     }
 
     return lastUpdatedLSN;
@@ -5574,13 +6360,33 @@ public abstract class AbstractPaginatedStorage
   protected final boolean restoreAtomicUnit(
       final List<WALRecord> atomicUnit, final ModifiableBoolean atLeastOnePageUpdate)
       throws IOException {
+    return restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, null);
+  }
+
+  /**
+   * @param parallelRestore If not <code>null</code>, page changes are submitted to the workers of
+   *                        parallel restore instead of being applied by the current thread.
+   */
+  private boolean restoreAtomicUnit(
+      final List<WALRecord> atomicUnit,
+      final ModifiableBoolean atLeastOnePageUpdate,
+      final ParallelWALRestore parallelRestore)
+      throws IOException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof AtomicUnitEndRecord;
     for (final WALRecord walRecord : atomicUnit) {
       if (walRecord instanceof FileDeletedWALRecord fileDeletedWALRecord) {
+        if (parallelRestore != null) {
+          parallelRestore.barrier();
+        }
+
         if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
           readCache.deleteFile(fileDeletedWALRecord.getFileId(), writeCache);
         }
       } else if (walRecord instanceof FileCreatedWALRecord fileCreatedCreatedWALRecord) {
+        if (parallelRestore != null) {
+          parallelRestore.barrier();
+        }
+
         if (!writeCache.exists(fileCreatedCreatedWALRecord.getFileName())) {
           readCache.addFile(
               fileCreatedCreatedWALRecord.getFileName(),
@@ -5588,64 +6394,12 @@ public abstract class AbstractPaginatedStorage
               writeCache);
         }
       } else if (walRecord instanceof UpdatePageRecord updatePageRecord) {
-        long fileId = updatePageRecord.getFileId();
-        if (!writeCache.exists(fileId)) {
-          final String fileName = writeCache.restoreFileById(fileId);
-
-          if (fileName == null) {
-            throw new StorageException(
-                "File with id "
-                    + fileId
-                    + " was deleted from storage, the rest of operations can not be restored");
-          } else {
-            LogManager.instance()
-                .warn(
-                    this,
-                    "Previously deleted file with name "
-                        + fileName
-                        + " was deleted but new empty file was added to continue restore process");
-          }
-        }
-
-        final long pageIndex = updatePageRecord.getPageIndex();
-        fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
-
-        CacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null) {
-              readCache.releaseFromWrite(cacheEntry, writeCache, true);
-            }
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          final DurablePage durablePage = new DurablePage(cacheEntry);
-          var pageLsn = durablePage.getLsn();
-          if (durablePage.getLsn().compareTo(walRecord.getLsn()) < 0) {
-            if (!pageLsn.equals(updatePageRecord.getInitialLsn())) {
-              LogManager.instance()
-                  .error(
-                      this,
-                      "Page with index "
-                          + pageIndex
-                          + " and file "
-                          + writeCache.fileNameById(fileId)
-                          + " was changed before page restore was started. Page will be restored"
-                          + " from WAL, but it may contain changes that were not present before"
-                          + " storage crash and data may be lost. Initial LSN is "
-                          + updatePageRecord.getInitialLsn()
-                          + ", but page contains changes with LSN "
-                          + pageLsn,
-                      null);
-            }
-            durablePage.restoreChanges(updatePageRecord.getChanges());
-            durablePage.setLsn(updatePageRecord.getLsn());
-          }
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache, true);
+        final long fileId = restoreFileIfAbsent(updatePageRecord.getFileId());
+        if (parallelRestore != null) {
+          allocatePagesTill(fileId, updatePageRecord.getPageIndex());
+          parallelRestore.submit(fileId, updatePageRecord);
+        } else {
+          restorePageChanges(fileId, updatePageRecord);
         }
 
         atLeastOnePageUpdate.setValue(true);
@@ -5658,6 +6412,21 @@ public abstract class AbstractPaginatedStorage
       } else if (walRecord instanceof HighLevelTransactionChangeRecord) {
         //noinspection UnnecessaryContinue
         continue;
+      } else if (walRecord instanceof AsyncIndexChangesWALRecord changesRecord) {
+        if (!isRolledBack(atomicUnit)) {
+          asyncIndexChangesToRestore
+              .computeIfAbsent(changesRecord.getIndexName(), k -> new TreeMap<>())
+              .put(changesRecord.getLsn(), changesRecord.getChanges());
+        }
+      } else if (walRecord instanceof AsyncIndexChangesAppliedWALRecord appliedRecord) {
+        final TreeMap<LogSequenceNumber, byte[]> changes =
+            asyncIndexChangesToRestore.get(appliedRecord.getIndexName());
+        if (changes != null && !isRolledBack(atomicUnit)) {
+          changes.headMap(appliedRecord.getAppliedLsn(), true).clear();
+          if (changes.isEmpty()) {
+            asyncIndexChangesToRestore.remove(appliedRecord.getIndexName());
+          }
+        }
       } else {
         assert walRecord != null;
         LogManager.instance()
@@ -5673,6 +6442,92 @@ public abstract class AbstractPaginatedStorage
     return true;
   }
 
+  private static boolean isRolledBack(final List<WALRecord> atomicUnit) {
+    return ((AtomicUnitEndRecord) atomicUnit.get(atomicUnit.size() - 1)).isRollback();
+  }
+
+  /**
+   * Restores file which was deleted from the storage if WAL contains changes of its pages.
+   *
+   * @return External id of the file.
+   */
+  private long restoreFileIfAbsent(final long fileId) throws IOException {
+    if (!writeCache.exists(fileId)) {
+      final String fileName = writeCache.restoreFileById(fileId);
+
+      if (fileName == null) {
+        throw new StorageException(
+            "File with id "
+                + fileId
+                + " was deleted from storage, the rest of operations can not be restored");
+      } else {
+        LogManager.instance()
+            .warn(
+                this,
+                "Previously deleted file with name "
+                    + fileName
+                    + " was deleted but new empty file was added to continue restore process");
+      }
+    }
+
+    return writeCache.externalFileId(writeCache.internalFileId(fileId));
+  }
+
+  /**
+   * Allocates pages of the file till the page with given index. Used by parallel restore, so
+   * workers which apply changes of different pages of the same file do not allocate pages
+   * concurrently.
+   */
+  private void allocatePagesTill(final long fileId, final long pageIndex) throws IOException {
+    while (writeCache.getFilledUpTo(fileId) <= pageIndex) {
+      final CacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
+  private void restorePageChanges(final long fileId, final UpdatePageRecord updatePageRecord)
+      throws IOException {
+    final long pageIndex = updatePageRecord.getPageIndex();
+
+    CacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
+    if (cacheEntry == null) {
+      do {
+        if (cacheEntry != null) {
+          readCache.releaseFromWrite(cacheEntry, writeCache, true);
+        }
+
+        cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+      } while (cacheEntry.getPageIndex() != pageIndex);
+    }
+
+    try {
+      final DurablePage durablePage = new DurablePage(cacheEntry);
+      var pageLsn = durablePage.getLsn();
+      if (durablePage.getLsn().compareTo(updatePageRecord.getLsn()) < 0) {
+        if (!pageLsn.equals(updatePageRecord.getInitialLsn())) {
+          LogManager.instance()
+              .error(
+                  this,
+                  "Page with index "
+                      + pageIndex
+                      + " and file "
+                      + writeCache.fileNameById(fileId)
+                      + " was changed before page restore was started. Page will be restored"
+                      + " from WAL, but it may contain changes that were not present before"
+                      + " storage crash and data may be lost. Initial LSN is "
+                      + updatePageRecord.getInitialLsn()
+                      + ", but page contains changes with LSN "
+                      + pageLsn,
+                  null);
+        }
+        durablePage.restoreChanges(updatePageRecord.getChanges());
+        durablePage.setLsn(updatePageRecord.getLsn());
+      }
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
   @SuppressWarnings("unused")
   public void setStorageConfigurationUpdateListener(
       final StorageConfigurationUpdateListener storageConfigurationUpdateListener) {
@@ -0,0 +1,318 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local;
+
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.internal.common.concur.lock.ThreadInterruptedException;
+import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import com.jetbrains.youtrack.db.internal.common.thread.ThreadPoolExecutors;
+import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.LogSequenceNumber;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.UpdatePageRecord;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WriteAheadLog;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.common.WriteableWALRecord;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes data restore from WAL in parallel.
+ *
+ * <p>WAL records are read ahead in batches by a separate reader thread, while the thread which
+ * restores the storage groups them by atomic operations and passes page changes to the workers.
+ * Changes are partitioned by (file id, page index), and each partition is applied by its own
+ * single threaded worker, so changes of the same page are applied in WAL order. Operations which
+ * change set of files (file creation and deletion) are applied only after all previously submitted
+ * page changes are applied, see {@link #barrier()}.
+ *
+ * <p>Amount of page changes which are submitted but not applied yet is limited to avoid loading
+ * of the whole WAL into the memory if disk is slower than WAL reader.
+ *
+ * <p>Page changes which are submitted are always applied, even if restore is stopped because of
+ * error, so the caller may consider operations as restored once {@link #barrier()} or
+ * {@link #close()} returns without error.
+ */
+final class ParallelWALRestore implements AutoCloseable {
+
+  @FunctionalInterface
+  interface PageChangesRestore {
+
+    void restore(long fileId, UpdatePageRecord record) throws IOException;
+  }
+
+  /**
+   * Amount of batches of WAL records which are read ahead.
+   */
+  private static final int READ_AHEAD_BATCHES = 4;
+
+  private static final List<WriteableWALRecord> END_OF_LOG = new ArrayList<>(0);
+
+  private final String storageName;
+  private final PageChangesRestore pageChangesRestore;
+
+  private final ExecutorService reader;
+  private final BlockingQueue<List<WriteableWALRecord>> batches =
+      new ArrayBlockingQueue<>(READ_AHEAD_BATCHES);
+
+  private final ExecutorService[] workers;
+  private final Future<?>[] lastSubmitted;
+  private final Semaphore inFlightChanges;
+
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  /**
+   * Whether failure was already thrown to the caller.
+   */
+  private boolean failureReported;
+  /**
+   * Error thrown during WAL read, it is reported only after all batches read before it are
+   * processed.
+   */
+  private volatile Throwable readFailure;
+  private volatile boolean stopped;
+
+  ParallelWALRestore(
+      final String storageName,
+      final int threads,
+      final int batchSize,
+      final WriteAheadLog writeAheadLog,
+      final LogSequenceNumber startLsn,
+      final PageChangesRestore pageChangesRestore) {
+    this.storageName = storageName;
+    this.pageChangesRestore = pageChangesRestore;
+
+    workers = new ExecutorService[threads];
+    lastSubmitted = new Future<?>[threads];
+    for (int i = 0; i < threads; i++) {
+      workers[i] =
+          ThreadPoolExecutors.newSingleThreadPool(
+              "WAL restore worker #" + i + " (" + storageName + ")",
+              AbstractPaginatedStorage.storageThreadGroup);
+    }
+    inFlightChanges = new Semaphore(Math.max(batchSize, 1) * threads);
+
+    reader =
+        ThreadPoolExecutors.newSingleThreadPool(
+            "WAL restore reader (" + storageName + ")",
+            AbstractPaginatedStorage.storageThreadGroup);
+    reader.execute(() -> readLog(writeAheadLog, startLsn, batchSize));
+  }
+
+  /**
+   * @return Next batch of WAL records or empty list if end of WAL is reached.
+   */
+  List<WriteableWALRecord> nextBatch() throws IOException {
+    final List<WriteableWALRecord> batch;
+    try {
+      batch = batches.take();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw BaseException.wrapException(
+          new ThreadInterruptedException("Restore of storage " + storageName + " was interrupted"),
+          e);
+    }
+
+    checkFailure();
+
+    if (batch == END_OF_LOG) {
+      final Throwable e = readFailure;
+      if (e != null) {
+        failure.compareAndSet(null, e);
+        checkFailure();
+      }
+
+      return Collections.emptyList();
+    }
+
+    return batch;
+  }
+
+  /**
+   * Submits changes of the page to the worker responsible for this page.
+   */
+  void submit(final long fileId, final UpdatePageRecord record) throws IOException {
+    checkFailure();
+
+    try {
+      inFlightChanges.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw BaseException.wrapException(
+          new ThreadInterruptedException("Restore of storage " + storageName + " was interrupted"),
+          e);
+    }
+
+    final int partition = partition(fileId, record.getPageIndex());
+    lastSubmitted[partition] =
+        workers[partition].submit(
+            () -> {
+              try {
+                // once any change failed, rest of the changes are not applied, otherwise pages
+                // would contain changes of operations which follow the failed one
+                if (failure.get() == null) {
+                  pageChangesRestore.restore(fileId, record);
+                }
+              } catch (final Throwable e) {
+                failure.compareAndSet(null, e);
+              } finally {
+                inFlightChanges.release();
+              }
+            });
+  }
+
+  /**
+   * Waits till all submitted page changes are applied.
+   *
+   * @throws IOException if any of the page changes could not be applied.
+   */
+  void barrier() throws IOException {
+    awaitSubmitted();
+    checkFailure();
+  }
+
+  /**
+   * @return <code>true</code> if any of the submitted page changes or WAL read failed.
+   */
+  boolean isFailed() {
+    return failure.get() != null;
+  }
+
+  private void awaitSubmitted() {
+    for (int i = 0; i < lastSubmitted.length; i++) {
+      final Future<?> future = lastSubmitted[i];
+      if (future == null) {
+        continue;
+      }
+
+      try {
+        future.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw BaseException.wrapException(
+            new ThreadInterruptedException(
+                "Restore of storage " + storageName + " was interrupted"),
+            e);
+      } catch (final ExecutionException e) {
+        failure.compareAndSet(null, e.getCause());
+      }
+
+      lastSubmitted[i] = null;
+    }
+  }
+
+  /**
+   * Stops reader and waits till all submitted page changes are applied, then stops workers.
+   *
+   * @throws IOException if any of the page changes could not be applied and this failure was not
+   *                     reported by the previous calls.
+   */
+  @Override
+  public void close() throws IOException {
+    stopped = true;
+
+    batches.clear();
+    reader.shutdown();
+
+    try {
+      awaitSubmitted();
+    } finally {
+      for (final ExecutorService worker : workers) {
+        worker.shutdown();
+      }
+
+      try {
+        if (!reader.awaitTermination(1, TimeUnit.MINUTES)) {
+          LogManager.instance()
+              .warn(this, "WAL reader of storage %s was not stopped in time", storageName);
+        }
+        for (final ExecutorService worker : workers) {
+          if (!worker.awaitTermination(1, TimeUnit.MINUTES)) {
+            LogManager.instance()
+                .warn(this, "WAL restore worker of storage %s was not stopped in time",
+                    storageName);
+          }
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw BaseException.wrapException(
+            new ThreadInterruptedException(
+                "Restore of storage " + storageName + " was interrupted"),
+            e);
+      }
+    }
+
+    if (!failureReported) {
+      checkFailure();
+    }
+  }
+
+  private int partition(final long fileId, final long pageIndex) {
+    final int hash = 31 * Long.hashCode(fileId) + Long.hashCode(pageIndex);
+    return (hash & Integer.MAX_VALUE) % workers.length;
+  }
+
+  private void readLog(
+      final WriteAheadLog writeAheadLog, final LogSequenceNumber startLsn, final int batchSize) {
+    try {
+      List<WriteableWALRecord> records = writeAheadLog.read(startLsn, batchSize);
+      while (!records.isEmpty() && !stopped) {
+        if (!offer(records)) {
+          return;
+        }
+
+        records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), batchSize);
+      }
+    } catch (final Throwable e) {
+      readFailure = e;
+    }
+
+    offer(END_OF_LOG);
+  }
+
+  /**
+   * Puts batch into the read ahead queue, waiting till there is free space in the queue.
+   *
+   * @return <code>false</code> if restore is stopped and batch was not added.
+   */
+  private boolean offer(final List<WriteableWALRecord> batch) {
+    try {
+      while (!stopped) {
+        if (batches.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failure.compareAndSet(null, e);
+    }
+
+    return false;
+  }
+
+  private void checkFailure() throws IOException {
+    final Throwable e = failure.get();
+    if (e == null) {
+      return;
+    }
+
+    failureReported = true;
+    if (e instanceof IOException ioException) {
+      throw ioException;
+    }
+    if (e instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    }
+    if (e instanceof Error error) {
+      throw error;
+    }
+
+    throw BaseException.wrapException(
+        new StorageException("Error during restore of storage " + storageName), e);
+  }
+}
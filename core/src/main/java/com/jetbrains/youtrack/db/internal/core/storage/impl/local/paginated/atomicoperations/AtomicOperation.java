@@ -6,6 +6,7 @@ import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.
 import com.jetbrains.youtrack.db.internal.core.storage.index.sbtreebonsai.local.BonsaiBucketPointer;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.io.IOException;
+import java.util.List;
 import java.util.Set;
 
 public interface AtomicOperation {
@@ -68,4 +69,13 @@ public interface AtomicOperation {
   void decrementComponentOperations();
 
   int getComponentOperations();
+
+  /**
+   * Registers action which is executed once changes of this operation are committed, while locks
+   * of the components changed by this operation are still held. Actions are not executed if
+   * operation is rolled back.
+   */
+  void addCommitAction(Runnable action);
+
+  List<Runnable> getCommitActions();
 }
@@ -43,11 +43,13 @@ import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -74,8 +76,10 @@ final class AtomicOperationBinaryTracking implements AtomicOperation {
 
   private final ReadCache readCache;
   private final WriteCache writeCache;
+  private final StorageSnapshotManager snapshotManager;
 
   private final Map<String, AtomicOperationMetadata<?>> metadata = new LinkedHashMap<>();
+  private List<Runnable> commitActions;
 
   private int componentOperationsCount;
 
@@ -91,6 +95,7 @@ final class AtomicOperationBinaryTracking implements AtomicOperation {
       final long operationUnitId,
       final ReadCache readCache,
       final WriteCache writeCache,
+      final StorageSnapshotManager snapshotManager,
       final int storageId) {
     newFileNamesId.defaultReturnValue(-1);
     deletedFileNameIdMap.defaultReturnValue(-1);
@@ -100,6 +105,7 @@ final class AtomicOperationBinaryTracking implements AtomicOperation {
 
     this.readCache = readCache;
     this.writeCache = writeCache;
+    this.snapshotManager = snapshotManager;
   }
 
   @Override
@@ -499,7 +505,22 @@ final class AtomicOperationBinaryTracking implements AtomicOperation {
     txEndLsn =
         writeAheadLog.log(new AtomicUnitEndRecord(operationUnitId, rollback, getMetadata()));
 
-    deletedFilesIterator = deletedFiles.longIterator();
+    final long commitVersion = snapshotManager.startCommit();
+    try {
+      applyChanges(txEndLsn, startLSN, commitVersion);
+    } finally {
+      snapshotManager.endCommit();
+    }
+
+    return txEndLsn;
+  }
+
+  private void applyChanges(
+      final LogSequenceNumber txEndLsn,
+      final LogSequenceNumber startLSN,
+      final long commitVersion)
+      throws IOException {
+    var deletedFilesIterator = deletedFiles.longIterator();
     while (deletedFilesIterator.hasNext()) {
       var deletedFileId = deletedFilesIterator.nextLong();
       readCache.deleteFile(deletedFileId, writeCache);
@@ -551,6 +572,8 @@ final class AtomicOperationBinaryTracking implements AtomicOperation {
           }
 
           try {
+            snapshotManager.preservePage(commitVersion, cacheEntry);
+
             final DurablePage durablePage = new DurablePage(cacheEntry);
             cacheEntry.setEndLSN(txEndLsn);
 
@@ -564,8 +587,6 @@ final class AtomicOperationBinaryTracking implements AtomicOperation {
         }
       }
     }
-
-    return txEndLsn;
   }
 
   public void rollbackInProgress() {
@@ -664,4 +685,17 @@ final class AtomicOperationBinaryTracking implements AtomicOperation {
   public int getComponentOperations() {
     return componentOperationsCount;
   }
+
+  @Override
+  public void addCommitAction(final Runnable action) {
+    if (commitActions == null) {
+      commitActions = new ArrayList<>();
+    }
+    commitActions.add(action);
+  }
+
+  @Override
+  public List<Runnable> getCommitActions() {
+    return commitActions == null ? Collections.emptyList() : commitActions;
+  }
 }
@@ -24,6 +24,7 @@ import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
 import com.jetbrains.youtrack.db.api.exception.BaseException;
 import com.jetbrains.youtrack.db.api.exception.DatabaseException;
 import com.jetbrains.youtrack.db.internal.common.concur.lock.OneEntryPerKeyLockManager;
+import com.jetbrains.youtrack.db.internal.common.directmemory.ByteBufferPool;
 import com.jetbrains.youtrack.db.internal.common.function.TxConsumer;
 import com.jetbrains.youtrack.db.internal.common.function.TxFunction;
 import com.jetbrains.youtrack.db.internal.common.log.LogManager;
@@ -41,6 +42,7 @@ import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 
 /**
@@ -67,9 +69,25 @@ public class AtomicOperationsManager {
   private final OperationsFreezer componentOperationsFreezer = new OperationsFreezer();
   private final AtomicOperationsTable atomicOperationsTable;
 
+  /**
+   * Stamps of the components which support optimistic reads, by lock name of the component.
+   */
+  private final ConcurrentHashMap<String, ModificationStamp> modificationStamps =
+      new ConcurrentHashMap<>();
+
+  private final StorageSnapshotManager snapshotManager;
+
+  /**
+   * @param snapshotMaxMemory Maximum amount of memory in bytes occupied by images of the pages kept
+   *                          for storage snapshots, see {@link StorageSnapshotManager}.
+   */
   public AtomicOperationsManager(
-      AbstractPaginatedStorage storage, AtomicOperationsTable atomicOperationsTable) {
+      AbstractPaginatedStorage storage,
+      AtomicOperationsTable atomicOperationsTable,
+      long snapshotMaxMemory) {
     this.storage = storage;
+    this.snapshotManager =
+        new StorageSnapshotManager(ByteBufferPool.instance(null), snapshotMaxMemory);
     this.writeAheadLog = storage.getWALInstance();
     this.readCache = storage.getReadCache();
     this.writeCache = storage.getWriteCache();
@@ -103,7 +121,8 @@ public class AtomicOperationsManager {
       writeAheadLog.logAtomicOperationStartRecord(true, unitId);
     }
 
-    operation = new AtomicOperationBinaryTracking(unitId, readCache, writeCache, storage.getId());
+    operation = new AtomicOperationBinaryTracking(
+            unitId, readCache, writeCache, snapshotManager, storage.getId());
 
     currentOperation.set(operation);
 
@@ -238,6 +257,18 @@ public class AtomicOperationsManager {
     return currentOperation.get();
   }
 
+  public StorageSnapshotManager getSnapshotManager() {
+    return snapshotManager;
+  }
+
+  /**
+   * @return Snapshot opened by the current thread or <code>null</code> if there is no such
+   * snapshot.
+   */
+  public StorageSnapshot getCurrentSnapshot() {
+    return snapshotManager.getCurrentSnapshot();
+  }
+
   /**
    * Ends the current atomic operation on this manager.
    */
@@ -270,6 +301,12 @@ public class AtomicOperationsManager {
         } else {
           atomicOperationsTable.commitOperation(operationId);
           writeAheadLog.addEventAt(lsn, () -> atomicOperationsTable.persistOperation(operationId));
+
+          if (!operation.isRollbackInProgress()) {
+            for (final Runnable action : operation.getCommitActions()) {
+              action.run();
+            }
+          }
         }
 
       } finally {
@@ -280,6 +317,7 @@ public class AtomicOperationsManager {
             final String lockedObject = lockedObjectIterator.next();
             lockedObjectIterator.remove();
 
+            completeModification(lockedObject);
             lockManager.releaseLock(this, lockedObject, OneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
           }
         } finally {
@@ -301,6 +339,7 @@ public class AtomicOperationsManager {
         final String lockedObject = lockedObjectIterator.next();
         lockedObjectIterator.remove();
 
+        completeModification(lockedObject);
         lockManager.releaseLock(this, lockedObject, OneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
       }
     }
@@ -322,6 +361,30 @@ public class AtomicOperationsManager {
 
     lockManager.acquireLock(lockName, OneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
     operation.addLockedObject(lockName);
+
+    final ModificationStamp stamp = modificationStamps.get(lockName);
+    if (stamp != null) {
+      stamp.startModification();
+    }
+  }
+
+  private void completeModification(final String lockName) {
+    final ModificationStamp stamp = modificationStamps.get(lockName);
+    if (stamp != null) {
+      stamp.completeModification();
+    }
+  }
+
+  /**
+   * Returns stamp which tracks modifications of the component with given lock name. Stamp should
+   * be requested before the component is modified for the first time, usually when component is
+   * created.
+   *
+   * @param lockName Lock name of the component.
+   * @return Stamp which is used to perform optimistic reads of the component data.
+   */
+  public ModificationStamp modificationStamp(final String lockName) {
+    return modificationStamps.computeIfAbsent(lockName, name -> new ModificationStamp());
   }
 
   /**
@@ -1,7 +1,7 @@
 package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations;
 
 import com.jetbrains.youtrack.db.internal.common.concur.collection.CASObjectArray;
-import com.jetbrains.youtrack.db.internal.common.concur.lock.ScalableRWLock;
+import com.jetbrains.youtrack.db.internal.common.concur.lock.SharedExclusiveLock;
 import java.util.ArrayDeque;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -13,7 +13,7 @@ public class AtomicOperationsTable {
   private long[] idOffsets;
   private CASObjectArray<OperationInformation>[] tables;
 
-  private final ScalableRWLock compactionLock = new ScalableRWLock();
+  private final SharedExclusiveLock compactionLock = SharedExclusiveLock.newInstance();
 
   private final int tableCompactionInterval;
 
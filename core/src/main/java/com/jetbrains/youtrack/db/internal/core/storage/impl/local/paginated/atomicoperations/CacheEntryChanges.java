@@ -2,6 +2,7 @@ package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.ato
 
 import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.CachePointer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.FileCacheMetrics;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.chm.LRUList;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.chm.PageKey;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.LogSequenceNumber;
@@ -227,6 +228,16 @@ public class CacheEntryChanges implements CacheEntry {
     return delegate.getPageKey();
   }
 
+  @Override
+  public FileCacheMetrics getFileCacheMetrics() {
+    return delegate.getFileCacheMetrics();
+  }
+
+  @Override
+  public void setFileCacheMetrics(final FileCacheMetrics fileCacheMetrics) {
+    delegate.setFileCacheMetrics(fileCacheMetrics);
+  }
+
   @Override
   public void close() throws IOException {
     atomicOp.releasePageFromWrite(this);
@@ -0,0 +1,69 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of started and completed modifications of the durable component, which allow to read
+ * data of the component without acquiring of component locks, similarly to the optimistic read of
+ * {@link java.util.concurrent.locks.StampedLock}.
+ *
+ * <p>Modification is started once exclusive lock of the component is acquired and is completed
+ * just before the lock is released, so changes of the atomic operation which are applied to the
+ * pages during commit are covered by the modification. Modifications may be nested.
+ *
+ * <p>Optimistic read is performed as follows:
+ *
+ * <pre>{@code
+ * final long stamp = modificationStamp.tryOptimisticRead();
+ * if (stamp >= 0) {
+ *   // read pages holding page latches
+ *   if (modificationStamp.validate(stamp)) {
+ *     return result;
+ *   }
+ * }
+ * // read data under component locks
+ * }</pre>
+ *
+ * @see AtomicOperationsManager#modificationStamp(String)
+ */
+public final class ModificationStamp {
+
+  private final AtomicLong started = new AtomicLong();
+  private final AtomicLong completed = new AtomicLong();
+
+  public void startModification() {
+    started.incrementAndGet();
+  }
+
+  public void completeModification() {
+    // counter of completed modifications never exceeds counter of started ones, even if stamp was
+    // requested while the component was already locked, otherwise optimistic reads would be
+    // disabled forever
+    completed.updateAndGet(value -> Math.min(value + 1, started.get()));
+  }
+
+  /**
+   * @return Stamp which should be validated once data are read, or <code>-1</code> if component is
+   * being modified at the moment.
+   */
+  public long tryOptimisticRead() {
+    // order of reads is important, if modification is started after the read of the counter of
+    // started modifications, it will be detected during validation
+    final long stamp = started.get();
+    if (completed.get() != stamp) {
+      return -1;
+    }
+
+    return stamp;
+  }
+
+  /**
+   * @return <code>true</code> if component was not modified since the stamp was issued.
+   */
+  public boolean validate(final long stamp) {
+    // prevents reordering of reads of the data with the read of the counter
+    VarHandle.acquireFence();
+    return stamp >= 0 && started.get() == stamp;
+  }
+}
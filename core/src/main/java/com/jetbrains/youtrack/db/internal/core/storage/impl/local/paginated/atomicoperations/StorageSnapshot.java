@@ -0,0 +1,84 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Consistent view of the storage data as they were at the moment of the snapshot creation. All
+ * reads performed outside of atomic operations by the thread which opened the snapshot see pages of
+ * the storage in that state, changes committed after the snapshot was opened are not visible.
+ *
+ * <p>Snapshot should be closed by the same thread which opened it, images of the pages which are
+ * kept for the snapshot are released once the oldest snapshot is closed. Snapshot may be
+ * invalidated by the storage if memory occupied by the page images exceeds the limit, or closed if
+ * the thread which opened it is terminated without closing it, reads of invalidated snapshot
+ * throw exception.
+ *
+ * @see StorageSnapshotManager
+ */
+public final class StorageSnapshot implements AutoCloseable {
+
+  private final StorageSnapshotManager manager;
+  private final long version;
+  private final WeakReference<Thread> owner;
+  private final String ownerName;
+  private final long openTime;
+
+  private volatile boolean invalidated;
+  private boolean closed;
+
+  StorageSnapshot(final StorageSnapshotManager manager, final long version) {
+    this.manager = manager;
+    this.version = version;
+
+    final Thread thread = Thread.currentThread();
+    this.owner = new WeakReference<>(thread);
+    this.ownerName = thread.getName();
+    this.openTime = System.currentTimeMillis();
+  }
+
+  /**
+   * @return Version of the last commit which is visible in the snapshot.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * @return <code>true</code> if images of the pages needed by the snapshot were released before
+   * the snapshot was closed, so the snapshot can not be read anymore.
+   */
+  public boolean isInvalidated() {
+    return invalidated;
+  }
+
+  void invalidate() {
+    invalidated = true;
+  }
+
+  /**
+   * @return <code>true</code> if thread which opened the snapshot is terminated, so snapshot can
+   * not be closed by it.
+   */
+  boolean isOwnerTerminated() {
+    final Thread thread = owner.get();
+    return thread == null || !thread.isAlive();
+  }
+
+  String getOwnerName() {
+    return ownerName;
+  }
+
+  long getOpenTime() {
+    return openTime;
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    manager.closeSnapshot(this);
+  }
+}
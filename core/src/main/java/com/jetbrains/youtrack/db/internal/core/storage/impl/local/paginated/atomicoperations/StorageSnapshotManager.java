@@ -0,0 +1,547 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations;
+
+import com.jetbrains.youtrack.db.internal.common.concur.lock.SharedExclusiveLock;
+import com.jetbrains.youtrack.db.internal.common.directmemory.ByteBufferPool;
+import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator.Intention;
+import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntryImpl;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CachePointer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.ReadCache;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.WriteCache;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.chm.PageKey;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copy-on-write snapshots of the storage data.
+ *
+ * <p>Each commit of an atomic operation gets a version which grows monotonically. Changes of the
+ * pages are applied by commit under the shared commit lock, while snapshot is opened under the
+ * exclusive one, so the version of the snapshot separates commits which are fully visible to the
+ * snapshot from the commits which are not visible at all.
+ *
+ * <p>If there are opened snapshots, commit keeps the image of the page as it was before the
+ * modification, image is tagged by the version of the commit. Snapshot reads the oldest image
+ * which version is bigger than the version of the snapshot, or the page itself if there is no such
+ * image. Images are released once the oldest snapshot which may read them is closed.
+ *
+ * <p>Memory occupied by the images is limited, once the limit is reached the oldest snapshots are
+ * invalidated and images which are needed only by them are released. Snapshots which are not
+ * closed by their threads are closed once the thread is terminated, or once storage is closed.
+ */
+public final class StorageSnapshotManager {
+
+  private final ThreadLocal<StorageSnapshot> currentSnapshot = new ThreadLocal<>();
+
+  private final SharedExclusiveLock commitLock = SharedExclusiveLock.newInstance();
+  private final AtomicLong commitVersion = new AtomicLong();
+
+  /**
+   * Opened snapshots by their versions, guarded by the instance monitor.
+   */
+  private final TreeMap<Long, List<StorageSnapshot>> snapshots = new TreeMap<>();
+
+  /**
+   * Version of the newest opened snapshot, or <code>-1</code> if there are no opened snapshots.
+   */
+  private volatile long newestSnapshotVersion = -1;
+
+  private final ConcurrentHashMap<PageKey, PageImages> pageImages = new ConcurrentHashMap<>();
+  private final ByteBufferPool bufferPool;
+
+  /**
+   * Maximum amount of memory occupied by page images in bytes, or <code>0</code> if amount of
+   * memory is not limited.
+   */
+  private final long maxMemory;
+  private final AtomicLong preservedMemory = new AtomicLong();
+
+  public StorageSnapshotManager(final ByteBufferPool bufferPool, final long maxMemory) {
+    this.bufferPool = bufferPool;
+    this.maxMemory = maxMemory;
+  }
+
+  /**
+   * Opens snapshot and binds it to the current thread. Method waits till commits which are in
+   * progress are applied to the pages.
+   */
+  public StorageSnapshot openSnapshot() {
+    if (currentSnapshot.get() != null) {
+      throw new StorageException("Snapshot is already opened by the current thread");
+    }
+
+    closeLeakedSnapshots();
+
+    final StorageSnapshot snapshot;
+    commitLock.exclusiveLock();
+    try {
+      synchronized (this) {
+        final long version = commitVersion.get();
+        snapshot = new StorageSnapshot(this, version);
+
+        snapshots.computeIfAbsent(version, v -> new ArrayList<>(1)).add(snapshot);
+        newestSnapshotVersion = snapshots.lastKey();
+      }
+    } finally {
+      commitLock.exclusiveUnlock();
+    }
+
+    currentSnapshot.set(snapshot);
+    return snapshot;
+  }
+
+  /**
+   * Opens snapshot which sees the same state of the storage as the passed in snapshot and binds it
+   * to the current thread, so several threads may read single consistent state of the storage.
+   * Each of the joined snapshots should be closed by its own thread.
+   */
+  public StorageSnapshot joinSnapshot(final StorageSnapshot snapshot) {
+    if (currentSnapshot.get() != null) {
+      throw new StorageException("Snapshot is already opened by the current thread");
+    }
+
+    final StorageSnapshot joined;
+    // images needed by the snapshot are kept while the snapshot is registered, so commit lock
+    // is not needed
+    synchronized (this) {
+      final List<StorageSnapshot> versionSnapshots = snapshots.get(snapshot.getVersion());
+      if (snapshot.isInvalidated()
+          || versionSnapshots == null
+          || !versionSnapshots.contains(snapshot)) {
+        throw new StorageException("Snapshot is already closed or invalidated");
+      }
+
+      joined = new StorageSnapshot(this, snapshot.getVersion());
+      versionSnapshots.add(joined);
+    }
+
+    currentSnapshot.set(joined);
+    return joined;
+  }
+
+  /**
+   * @return Snapshot opened by the current thread or <code>null</code> if there is no such
+   * snapshot.
+   */
+  public StorageSnapshot getCurrentSnapshot() {
+    return currentSnapshot.get();
+  }
+
+  void closeSnapshot(final StorageSnapshot snapshot) {
+    if (currentSnapshot.get() == snapshot) {
+      currentSnapshot.remove();
+    }
+
+    final long oldestVersion;
+    synchronized (this) {
+      final List<StorageSnapshot> versionSnapshots = snapshots.get(snapshot.getVersion());
+      // snapshot is already invalidated
+      if (versionSnapshots == null || !versionSnapshots.remove(snapshot)) {
+        return;
+      }
+
+      final long firstVersion = snapshots.firstKey();
+      if (versionSnapshots.isEmpty()) {
+        snapshots.remove(snapshot.getVersion());
+      }
+
+      oldestVersion = updateSnapshotVersions();
+      // images may be released only if the oldest snapshot is closed
+      if (oldestVersion == firstVersion) {
+        return;
+      }
+    }
+
+    releaseImages(oldestVersion);
+  }
+
+  /**
+   * Closes all opened snapshots, called when storage is closed. Snapshots are invalidated, so
+   * their further reads fail.
+   */
+  public void closeAllSnapshots() {
+    final List<StorageSnapshot> opened = new ArrayList<>();
+    synchronized (this) {
+      for (final List<StorageSnapshot> versionSnapshots : snapshots.values()) {
+        opened.addAll(versionSnapshots);
+      }
+
+      snapshots.clear();
+      updateSnapshotVersions();
+    }
+
+    for (final StorageSnapshot snapshot : opened) {
+      snapshot.invalidate();
+      LogManager.instance()
+          .warn(
+              this,
+              "Snapshot opened by thread '%s' %d ms ago is closed because storage is closed",
+              snapshot.getOwnerName(),
+              System.currentTimeMillis() - snapshot.getOpenTime());
+    }
+
+    releaseImages(Long.MAX_VALUE);
+  }
+
+  /**
+   * Closes snapshots whose threads were terminated without closing of them, such snapshots can not
+   * be read anymore but would keep page images forever.
+   */
+  private void closeLeakedSnapshots() {
+    final List<StorageSnapshot> leaked = new ArrayList<>();
+    synchronized (this) {
+      for (final List<StorageSnapshot> versionSnapshots : snapshots.values()) {
+        for (final StorageSnapshot snapshot : versionSnapshots) {
+          if (snapshot.isOwnerTerminated()) {
+            leaked.add(snapshot);
+          }
+        }
+      }
+    }
+
+    for (final StorageSnapshot snapshot : leaked) {
+      LogManager.instance()
+          .warn(
+              this,
+              "Snapshot opened by thread '%s' %d ms ago was not closed before the thread was"
+                  + " terminated, snapshot is closed",
+              snapshot.getOwnerName(),
+              System.currentTimeMillis() - snapshot.getOpenTime());
+      snapshot.invalidate();
+      closeSnapshot(snapshot);
+    }
+  }
+
+  /**
+   * Invalidates the oldest snapshots till memory occupied by images of the pages, together with
+   * the required amount of memory, fits into the limit.
+   */
+  private void invalidateOldestSnapshots(final long requiredMemory) {
+    while (preservedMemory.get() + requiredMemory > maxMemory) {
+      final List<StorageSnapshot> invalidated;
+      final long oldestVersion;
+      synchronized (this) {
+        if (snapshots.isEmpty()) {
+          return;
+        }
+
+        invalidated = snapshots.pollFirstEntry().getValue();
+        oldestVersion = updateSnapshotVersions();
+      }
+
+      // snapshots are invalidated before images are released, so readers which did not find
+      // the image will see that snapshot is invalidated
+      for (final StorageSnapshot snapshot : invalidated) {
+        snapshot.invalidate();
+        LogManager.instance()
+            .warn(
+                this,
+                "Snapshot opened by thread '%s' %d ms ago is invalidated because page images kept"
+                    + " for snapshots exceed %d bytes",
+                snapshot.getOwnerName(),
+                System.currentTimeMillis() - snapshot.getOpenTime(),
+                maxMemory);
+      }
+
+      releaseImages(oldestVersion);
+    }
+  }
+
+  /**
+   * Updates version of the newest snapshot, should be called under the instance monitor.
+   *
+   * @return Version of the oldest opened snapshot or {@link Long#MAX_VALUE} if there are no opened
+   * snapshots.
+   */
+  private long updateSnapshotVersions() {
+    if (snapshots.isEmpty()) {
+      newestSnapshotVersion = -1;
+      return Long.MAX_VALUE;
+    }
+
+    newestSnapshotVersion = snapshots.lastKey();
+    return snapshots.firstKey();
+  }
+
+  private void releaseImages(final long oldestVersion) {
+    for (final PageKey pageKey : pageImages.keySet()) {
+      pageImages.computeIfPresent(
+          pageKey, (key, images) -> images.release(oldestVersion) ? null : images);
+    }
+  }
+
+  /**
+   * Starts commit of the atomic operation, pages should not be modified by commit before this
+   * method is called.
+   *
+   * @return Version of the commit.
+   */
+  long startCommit() {
+    commitLock.sharedLock();
+    return commitVersion.incrementAndGet();
+  }
+
+  void endCommit() {
+    commitLock.sharedUnlock();
+  }
+
+  /**
+   * Keeps image of the page if it may be read by one of opened snapshots. Should be called by
+   * commit before the page is modified, page should be latched in exclusive mode.
+   */
+  void preservePage(final long commitVersion, final CacheEntry cacheEntry) {
+    if (newestSnapshotVersion < 0) {
+      return;
+    }
+
+    if (maxMemory > 0) {
+      final int pageSize = cacheEntry.getCachePointer().getBuffer().capacity();
+      if (preservedMemory.get() + pageSize > maxMemory) {
+        invalidateOldestSnapshots(pageSize);
+      }
+    }
+
+    final long snapshotVersion = newestSnapshotVersion;
+    if (snapshotVersion < 0) {
+      return;
+    }
+
+    pageImages.compute(
+        new PageKey(cacheEntry.getFileId(), cacheEntry.getPageIndex()),
+        (key, images) -> {
+          if (images == null) {
+            images = new PageImages();
+          }
+
+          images.preserve(commitVersion, snapshotVersion, cacheEntry);
+          return images;
+        });
+  }
+
+  /**
+   * Loads page as it was at the moment of the snapshot creation. If the page was not changed since
+   * then, page of the cache is read in place and is latched in shared mode till it is released, so
+   * commits which modify it wait for the reader. Otherwise, image of the page is returned.
+   *
+   * @return Page of the snapshot or <code>null</code> if page does not exist.
+   */
+  public CacheEntry loadForRead(
+      final StorageSnapshot snapshot,
+      final ReadCache readCache,
+      final WriteCache writeCache,
+      final long fileId,
+      final long pageIndex)
+      throws IOException {
+    final CacheEntry cacheEntry = readCache.loadForRead(fileId, pageIndex, writeCache, true);
+    if (cacheEntry == null) {
+      return null;
+    }
+
+    final CachePointer image;
+    try {
+      image = readImage(snapshot, cacheEntry);
+    } catch (final RuntimeException e) {
+      readCache.releaseFromRead(cacheEntry);
+      throw e;
+    }
+
+    if (image == null) {
+      return new InPlaceCacheEntry(cacheEntry, readCache);
+    }
+
+    readCache.releaseFromRead(cacheEntry);
+    return new ImageCacheEntry(cacheEntry.getFileId(), cacheEntry.getPageIndex(), image);
+  }
+
+  /**
+   * Releases page which was loaded by {@link #loadForRead(StorageSnapshot, ReadCache, WriteCache,
+   * long, long)}.
+   */
+  public void releaseFromRead(final CacheEntry cacheEntry) {
+    ((SnapshotCacheEntry) cacheEntry).close();
+  }
+
+  /**
+   * @return Image of the page which should be read by the snapshot, or <code>null</code> if the
+   * page was not changed after the snapshot was opened. In the last case page is left latched in
+   * shared mode and should be read in place.
+   */
+  CachePointer readImage(final StorageSnapshot snapshot, final CacheEntry cacheEntry) {
+    // image can not be added while page is latched, and images which may be read by the
+    // snapshot are not released till it is closed
+    cacheEntry.acquireSharedLock();
+    boolean readInPlace = false;
+    try {
+      final PageImages images =
+          pageImages.get(new PageKey(cacheEntry.getFileId(), cacheEntry.getPageIndex()));
+      final CachePointer pointer = images != null ? images.acquire(snapshot.getVersion()) : null;
+
+      // image needed by the snapshot may be released only after the snapshot is invalidated
+      if (snapshot.isInvalidated()) {
+        if (pointer != null) {
+          pointer.decrementReferrer();
+        }
+
+        throw new StorageException(
+            "Snapshot is invalidated because it was closed by the storage or memory limit of the"
+                + " page images was reached");
+      }
+
+      readInPlace = pointer == null;
+      return pointer;
+    } finally {
+      if (!readInPlace) {
+        cacheEntry.releaseSharedLock();
+      }
+    }
+  }
+
+  /**
+   * @return Amount of memory in bytes occupied by images of the pages.
+   */
+  public long getPreservedMemory() {
+    return preservedMemory.get();
+  }
+
+  /**
+   * @return Number of page images kept for the opened snapshots.
+   */
+  public int getPreservedPagesCount() {
+    int count = 0;
+    for (final PageImages images : pageImages.values()) {
+      count += images.size();
+    }
+
+    return count;
+  }
+
+  private CachePointer copyPage(final CacheEntry cacheEntry) {
+    final ByteBuffer source = cacheEntry.getCachePointer().getBuffer();
+
+    final CachePointer pointer =
+        new CachePointer(
+            bufferPool.acquireDirect(false, Intention.COPY_PAGE_FOR_SNAPSHOT),
+            bufferPool,
+            cacheEntry.getFileId(),
+            cacheEntry.getPageIndex());
+    pointer.incrementReferrer();
+    pointer.getBuffer().put(0, source, 0, source.capacity());
+
+    return pointer;
+  }
+
+  /**
+   * Images of the single page ordered by versions of the commits which modified the page.
+   */
+  private final class PageImages {
+
+    private final ArrayList<Map.Entry<Long, CachePointer>> images = new ArrayList<>(1);
+
+    synchronized void preserve(
+        final long commitVersion, final long snapshotVersion, final CacheEntry cacheEntry) {
+      // if the newest image is not visible to any of snapshots, state of the page which may be
+      // read by snapshots is already preserved
+      if (!images.isEmpty() && images.get(images.size() - 1).getKey() > snapshotVersion) {
+        return;
+      }
+
+      final CachePointer pointer = copyPage(cacheEntry);
+      preservedMemory.addAndGet(pointer.getBuffer().capacity());
+      images.add(Map.entry(commitVersion, pointer));
+    }
+
+    synchronized CachePointer acquire(final long snapshotVersion) {
+      for (final Map.Entry<Long, CachePointer> image : images) {
+        if (image.getKey() > snapshotVersion) {
+          final CachePointer pointer = image.getValue();
+          pointer.incrementReferrer();
+          return pointer;
+        }
+      }
+
+      return null;
+    }
+
+    /**
+     * Releases images which can not be read by snapshots with given or bigger versions.
+     *
+     * @return <code>true</code> if all images were released.
+     */
+    synchronized boolean release(final long oldestSnapshotVersion) {
+      images.removeIf(
+          image -> {
+            if (image.getKey() <= oldestSnapshotVersion) {
+              final CachePointer pointer = image.getValue();
+              preservedMemory.addAndGet(-pointer.getBuffer().capacity());
+              pointer.decrementReferrer();
+              return true;
+            }
+
+            return false;
+          });
+
+      return images.isEmpty();
+    }
+
+    synchronized int size() {
+      return images.size();
+    }
+  }
+
+  /**
+   * Page read by the snapshot, which is released once it is closed.
+   */
+  private abstract static class SnapshotCacheEntry extends CacheEntryImpl {
+
+    private SnapshotCacheEntry(final long fileId, final int pageIndex, final CachePointer pointer) {
+      super(fileId, pageIndex, pointer, false, null);
+    }
+
+    @Override
+    public abstract void close();
+  }
+
+  /**
+   * Image of the page acquired by the reader.
+   */
+  private static final class ImageCacheEntry extends SnapshotCacheEntry {
+
+    private ImageCacheEntry(final long fileId, final int pageIndex, final CachePointer pointer) {
+      super(fileId, pageIndex, pointer);
+    }
+
+    @Override
+    public void close() {
+      getCachePointer().decrementReferrer();
+    }
+  }
+
+  /**
+   * Page of the cache latched in shared mode till the reader closes it.
+   */
+  private static final class InPlaceCacheEntry extends SnapshotCacheEntry {
+
+    private final CacheEntry cacheEntry;
+    private final ReadCache readCache;
+
+    private InPlaceCacheEntry(final CacheEntry cacheEntry, final ReadCache readCache) {
+      super(cacheEntry.getFileId(), cacheEntry.getPageIndex(), cacheEntry.getCachePointer());
+      this.cacheEntry = cacheEntry;
+      this.readCache = readCache;
+    }
+
+    @Override
+    public void close() {
+      cacheEntry.releaseSharedLock();
+      readCache.releaseFromRead(cacheEntry);
+    }
+  }
+}
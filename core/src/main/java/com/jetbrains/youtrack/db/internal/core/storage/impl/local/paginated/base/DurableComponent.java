@@ -20,15 +20,19 @@
 
 package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base;
 
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
 import com.jetbrains.youtrack.db.internal.common.concur.resource.SharedResourceAbstract;
 import com.jetbrains.youtrack.db.internal.common.function.TxConsumer;
 import com.jetbrains.youtrack.db.internal.common.function.TxFunction;
+import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import com.jetbrains.youtrack.db.internal.core.config.StorageConfiguration;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.ReadCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.WriteCache;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperationsManager;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.StorageSnapshot;
 import java.io.IOException;
 import javax.annotation.Nonnull;
 
@@ -132,11 +136,87 @@ public abstract class DurableComponent extends SharedResourceAbstract {
       final AtomicOperation atomicOperation, final long fileId, final long pageIndex)
       throws IOException {
     if (atomicOperation == null) {
+      final StorageSnapshot snapshot = atomicOperationsManager.getCurrentSnapshot();
+      if (snapshot != null) {
+        return atomicOperationsManager
+            .getSnapshotManager()
+            .loadForRead(snapshot, readCache, writeCache, fileId, pageIndex);
+      }
+
       return readCache.loadForRead(fileId, pageIndex, writeCache, true);
     }
     return atomicOperation.loadPageForRead(fileId, pageIndex);
   }
 
+  /**
+   * Loads page for the read which is performed without component locks. Page is latched in shared
+   * mode, so its content is consistent, but consistency between pages should be validated by the
+   * caller.
+   *
+   * @return Latched page or <code>null</code> if page does not exist.
+   * @see com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.ModificationStamp
+   */
+  protected CacheEntry loadPageForOptimisticRead(final long fileId, final long pageIndex)
+      throws IOException {
+    final CacheEntry cacheEntry = readCache.loadForRead(fileId, pageIndex, writeCache, true);
+    if (cacheEntry != null) {
+      cacheEntry.acquireSharedLock();
+    }
+    return cacheEntry;
+  }
+
+  protected void releasePageFromOptimisticRead(final CacheEntry cacheEntry) throws IOException {
+    cacheEntry.releaseSharedLock();
+    cacheEntry.close();
+  }
+
+  /**
+   * Pins pages which are accessed by nearly every operation on the component, like root pages of
+   * indexes, in the read cache, so they are not evicted by scans over the rest of the data. Only
+   * pages which are already stored in the file are pinned, limit of pinned pages is taken from the
+   * configuration of the storage. Pages are unpinned once file is closed, deleted or truncated.
+   */
+  protected void pinPages(final long fileId, final long... pageIndexes) throws IOException {
+    final int pinnedPagesPercent = getPinnedPagesPercent();
+    if (pinnedPagesPercent <= 0) {
+      return;
+    }
+
+    final long filledUpTo = writeCache.getFilledUpTo(fileId);
+    for (final long pageIndex : pageIndexes) {
+      if (pageIndex < filledUpTo) {
+        readCache.pinPage(fileId, pageIndex, writeCache, pinnedPagesPercent);
+      }
+    }
+  }
+
+  /**
+   * Pins pages once the atomic operation is committed, for pages which are added by this operation
+   * and therefore are not stored in the file yet.
+   */
+  protected void pinPagesOnCommit(
+      final AtomicOperation atomicOperation, final long fileId, final long... pageIndexes) {
+    atomicOperation.addCommitAction(
+        () -> {
+          try {
+            pinPages(fileId, pageIndexes);
+          } catch (final IOException e) {
+            LogManager.instance().warn(this, "Can not pin pages of component %s", e, getName());
+          }
+        });
+  }
+
+  private int getPinnedPagesPercent() {
+    final StorageConfiguration configuration = storage.getConfiguration();
+    if (configuration == null) {
+      return GlobalConfiguration.DISK_CACHE_PINNED_PAGES.getValueAsInteger();
+    }
+
+    return configuration
+        .getContextConfiguration()
+        .getValueAsInteger(GlobalConfiguration.DISK_CACHE_PINNED_PAGES);
+  }
+
   protected CacheEntry addPage(final AtomicOperation atomicOperation, final long fileId)
       throws IOException {
     assert atomicOperation != null;
@@ -152,7 +232,11 @@ public abstract class DurableComponent extends SharedResourceAbstract {
   protected void releasePageFromRead(
       final AtomicOperation atomicOperation, final CacheEntry cacheEntry) {
     if (atomicOperation == null) {
-      readCache.releaseFromRead(cacheEntry);
+      if (atomicOperationsManager.getCurrentSnapshot() != null) {
+        atomicOperationsManager.getSnapshotManager().releaseFromRead(cacheEntry);
+      } else {
+        readCache.releaseFromRead(cacheEntry);
+      }
     } else {
       atomicOperation.releasePageFromRead(cacheEntry);
     }
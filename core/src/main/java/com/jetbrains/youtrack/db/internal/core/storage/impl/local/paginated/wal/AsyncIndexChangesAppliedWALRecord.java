@@ -0,0 +1,61 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal;
+
+import com.jetbrains.youtrack.db.internal.common.serialization.types.IntegerSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.LongSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.StringSerializer;
+import java.nio.ByteBuffer;
+
+/**
+ * Logged by the atomic operation which applies changes of the index with asynchronous maintenance,
+ * all {@link AsyncIndexChangesWALRecord} records of the index till the given LSN inclusive are
+ * applied once this operation is restored.
+ */
+public class AsyncIndexChangesAppliedWALRecord extends OperationUnitBodyRecord {
+
+  private String indexName;
+  private LogSequenceNumber appliedLsn;
+
+  public AsyncIndexChangesAppliedWALRecord() {
+  }
+
+  public AsyncIndexChangesAppliedWALRecord(
+      final long operationUnitId, final String indexName, final LogSequenceNumber appliedLsn) {
+    super(operationUnitId);
+    this.indexName = indexName;
+    this.appliedLsn = appliedLsn;
+  }
+
+  public String getIndexName() {
+    return indexName;
+  }
+
+  public LogSequenceNumber getAppliedLsn() {
+    return appliedLsn;
+  }
+
+  @Override
+  protected void serializeToByteBuffer(final ByteBuffer buffer) {
+    StringSerializer.INSTANCE.serializeInByteBufferObject(indexName, buffer);
+    buffer.putLong(appliedLsn.getSegment());
+    buffer.putInt(appliedLsn.getPosition());
+  }
+
+  @Override
+  protected void deserializeFromByteBuffer(final ByteBuffer buffer) {
+    indexName = StringSerializer.INSTANCE.deserializeFromByteBufferObject(buffer);
+    appliedLsn = new LogSequenceNumber(buffer.getLong(), buffer.getInt());
+  }
+
+  @Override
+  public int serializedSize() {
+    return super.serializedSize()
+        + StringSerializer.INSTANCE.getObjectSize(indexName)
+        + LongSerializer.LONG_SIZE
+        + IntegerSerializer.INT_SIZE;
+  }
+
+  @Override
+  public int getId() {
+    return WALRecordTypes.ASYNC_INDEX_CHANGES_APPLIED_WAL_RECORD;
+  }
+}
@@ -0,0 +1,61 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal;
+
+import com.jetbrains.youtrack.db.internal.common.serialization.types.IntegerSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.StringSerializer;
+import java.nio.ByteBuffer;
+
+/**
+ * Changes of the index with asynchronous maintenance made by the committed transaction. Changes
+ * are logged by the atomic operation of the transaction and are restored after crash if they were
+ * not applied to the index before, see {@link AsyncIndexChangesAppliedWALRecord}.
+ */
+public class AsyncIndexChangesWALRecord extends OperationUnitBodyRecord {
+
+  private String indexName;
+  private byte[] changes;
+
+  public AsyncIndexChangesWALRecord() {
+  }
+
+  public AsyncIndexChangesWALRecord(
+      final long operationUnitId, final String indexName, final byte[] changes) {
+    super(operationUnitId);
+    this.indexName = indexName;
+    this.changes = changes;
+  }
+
+  public String getIndexName() {
+    return indexName;
+  }
+
+  public byte[] getChanges() {
+    return changes;
+  }
+
+  @Override
+  protected void serializeToByteBuffer(final ByteBuffer buffer) {
+    StringSerializer.INSTANCE.serializeInByteBufferObject(indexName, buffer);
+    buffer.putInt(changes.length);
+    buffer.put(changes);
+  }
+
+  @Override
+  protected void deserializeFromByteBuffer(final ByteBuffer buffer) {
+    indexName = StringSerializer.INSTANCE.deserializeFromByteBufferObject(buffer);
+    changes = new byte[buffer.getInt()];
+    buffer.get(changes);
+  }
+
+  @Override
+  public int serializedSize() {
+    return super.serializedSize()
+        + StringSerializer.INSTANCE.getObjectSize(indexName)
+        + IntegerSerializer.INT_SIZE
+        + changes.length;
+  }
+
+  @Override
+  public int getId() {
+    return WALRecordTypes.ASYNC_INDEX_CHANGES_WAL_RECORD;
+  }
+}
@@ -149,6 +149,11 @@ public class MemoryWriteAheadLog extends AbstractWriteAheadLog {
     return 0;
   }
 
+  @Override
+  public long size() {
+    return 0;
+  }
+
   @Override
   public LogSequenceNumber begin(long segmentId) {
     throw new UnsupportedOperationException("Operation not supported for in memory storage.");
@@ -12,6 +12,8 @@ public final class WALRecordTypes {
   public static final int EMPTY_WAL_RECORD = 14;
   public static final int ATOMIC_UNIT_START_METADATA_RECORD = 15;
   public static final int HIGH_LEVEL_TRANSACTION_CHANGE_RECORD = 18;
+  public static final int ASYNC_INDEX_CHANGES_WAL_RECORD = 19;
+  public static final int ASYNC_INDEX_CHANGES_APPLIED_WAL_RECORD = 20;
 
   public static final int CLUSTER_POSITION_MAP_INIT_PO = 35;
   public static final int CLUSTER_POSITION_MAP_ADD_PO = 36;
@@ -20,6 +20,8 @@
 
 package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal;
 
+import static com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WALRecordTypes.ASYNC_INDEX_CHANGES_APPLIED_WAL_RECORD;
+import static com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WALRecordTypes.ASYNC_INDEX_CHANGES_WAL_RECORD;
 import static com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WALRecordTypes.ATOMIC_UNIT_END_RECORD;
 import static com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WALRecordTypes.ATOMIC_UNIT_START_METADATA_RECORD;
 import static com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WALRecordTypes.ATOMIC_UNIT_START_RECORD;
@@ -290,6 +292,12 @@ public final class WALRecordsFactory {
       case HIGH_LEVEL_TRANSACTION_CHANGE_RECORD:
         walRecord = new HighLevelTransactionChangeRecord();
         break;
+      case ASYNC_INDEX_CHANGES_WAL_RECORD:
+        walRecord = new AsyncIndexChangesWALRecord();
+        break;
+      case ASYNC_INDEX_CHANGES_APPLIED_WAL_RECORD:
+        walRecord = new AsyncIndexChangesAppliedWALRecord();
+        break;
       case ATOMIC_UNIT_START_RECORD:
         walRecord = new AtomicUnitStartRecord();
         break;
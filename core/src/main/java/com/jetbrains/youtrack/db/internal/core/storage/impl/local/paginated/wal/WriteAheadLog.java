@@ -122,6 +122,11 @@ public interface WriteAheadLog extends AutoCloseable {
 
   long activeSegment();
 
+  /**
+   * @return Size of all segments of this write ahead log (in bytes).
+   */
+  long size();
+
   /**
    * Adds the event to fire when this write ahead log instances reaches the given LSN. The thread on
    * which the event will be fired is unspecified, the event may be even fired synchronously before
@@ -2,7 +2,7 @@ package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal
 
 import com.jetbrains.youtrack.db.api.exception.BaseException;
 import com.jetbrains.youtrack.db.api.exception.SecurityException;
-import com.jetbrains.youtrack.db.internal.common.concur.lock.ScalableRWLock;
+import com.jetbrains.youtrack.db.internal.common.concur.lock.SharedExclusiveLock;
 import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator;
 import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator.Intention;
 import com.jetbrains.youtrack.db.internal.common.directmemory.Pointer;
@@ -163,11 +163,11 @@ public final class CASDiskWriteAheadLog implements WriteAheadLog {
   private final ConcurrentNavigableMap<LogSequenceNumber, EventWrapper> events =
       new ConcurrentSkipListMap<>();
 
-  private final ScalableRWLock segmentLock = new ScalableRWLock();
+  private final SharedExclusiveLock segmentLock = SharedExclusiveLock.newInstance();
 
   private final ConcurrentNavigableMap<LogSequenceNumber, Integer> cutTillLimits =
       new ConcurrentSkipListMap<>();
-  private final ScalableRWLock cuttingLock = new ScalableRWLock();
+  private final SharedExclusiveLock cuttingLock = SharedExclusiveLock.newInstance();
 
   private final ConcurrentLinkedQueue<RawPairLongObject<WALFile>> fileCloseQueue =
       new ConcurrentLinkedQueue<>();
@@ -554,7 +554,8 @@ public final class CASDiskWriteAheadLog implements WriteAheadLog {
     return segmentSize.get();
   }
 
-  long size() {
+  @Override
+  public long size() {
     return logSize.get();
   }
 
@@ -0,0 +1,206 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.bitmap;
+
+import com.jetbrains.youtrack.db.internal.common.serialization.types.ByteSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.IntegerSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.LongSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.ShortSerializer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurablePage;
+
+/**
+ * Page which contains positions of the single container of {@link RidBitmap}. The same as
+ * {@link RidBitmapContainer} sparse container is stored as sorted array of positions, so only few
+ * bytes of the page are changed and logged on update, and dense container is stored as bitmap.
+ * Container is converted to the bitmap once its cardinality exceeds
+ * {@link RidBitmapContainer#ARRAY_MAX_SIZE} and back to the array once cardinality drops to the
+ * half of this size, so a container which cardinality is near the threshold is not converted on
+ * each update.
+ */
+public final class BitmapContainerPage extends DurablePage {
+
+  private static final byte ARRAY_CONTAINER = 0;
+  private static final byte BITMAP_CONTAINER = 1;
+
+  private static final int TYPE_OFFSET = NEXT_FREE_POSITION;
+  private static final int CARDINALITY_OFFSET = TYPE_OFFSET + ByteSerializer.BYTE_SIZE;
+  private static final int DATA_OFFSET = CARDINALITY_OFFSET + IntegerSerializer.INT_SIZE;
+
+  public BitmapContainerPage(final CacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  public void init() {
+    setByteValue(TYPE_OFFSET, ARRAY_CONTAINER);
+    setIntValue(CARDINALITY_OFFSET, 0);
+  }
+
+  public int getCardinality() {
+    return getIntValue(CARDINALITY_OFFSET);
+  }
+
+  public boolean isArray() {
+    return getByteValue(TYPE_OFFSET) == ARRAY_CONTAINER;
+  }
+
+  /**
+   * @return <code>true</code> if bit was not set before.
+   */
+  public boolean set(final int bitIndex) {
+    final int cardinality = getCardinality();
+    if (isArray()) {
+      final int insertionPoint = binarySearch(cardinality, bitIndex);
+      if (insertionPoint >= 0) {
+        return false;
+      }
+
+      if (cardinality < RidBitmapContainer.ARRAY_MAX_SIZE) {
+        final int position = -insertionPoint - 1;
+        if (position < cardinality) {
+          moveData(
+              valueOffset(position),
+              valueOffset(position + 1),
+              (cardinality - position) * ShortSerializer.SHORT_SIZE);
+        }
+        setShortValue(valueOffset(position), (short) bitIndex);
+        setIntValue(CARDINALITY_OFFSET, cardinality + 1);
+        return true;
+      }
+
+      convertToBitmap(cardinality);
+    }
+
+    final int offset = wordOffset(bitIndex >>> 6);
+    final long word = getLongValue(offset);
+    final long mask = 1L << bitIndex;
+    if ((word & mask) != 0) {
+      return false;
+    }
+
+    setLongValue(offset, word | mask);
+    setIntValue(CARDINALITY_OFFSET, cardinality + 1);
+    return true;
+  }
+
+  /**
+   * @return <code>true</code> if bit was set before.
+   */
+  public boolean clear(final int bitIndex) {
+    final int cardinality = getCardinality();
+    if (isArray()) {
+      final int position = binarySearch(cardinality, bitIndex);
+      if (position < 0) {
+        return false;
+      }
+
+      if (position < cardinality - 1) {
+        moveData(
+            valueOffset(position + 1),
+            valueOffset(position),
+            (cardinality - position - 1) * ShortSerializer.SHORT_SIZE);
+      }
+      setIntValue(CARDINALITY_OFFSET, cardinality - 1);
+      return true;
+    }
+
+    final int offset = wordOffset(bitIndex >>> 6);
+    final long word = getLongValue(offset);
+    final long mask = 1L << bitIndex;
+    if ((word & mask) == 0) {
+      return false;
+    }
+
+    setLongValue(offset, word & ~mask);
+    setIntValue(CARDINALITY_OFFSET, cardinality - 1);
+
+    if (cardinality - 1 <= RidBitmapContainer.ARRAY_MAX_SIZE / 2) {
+      convertToArray();
+    }
+    return true;
+  }
+
+  public RidBitmapContainer getContainer() {
+    final int cardinality = getCardinality();
+    if (isArray()) {
+      return RidBitmapContainer.ofValues(getValues(cardinality), cardinality);
+    }
+
+    return RidBitmapContainer.ofWords(getWords());
+  }
+
+  private void convertToBitmap(final int cardinality) {
+    final short[] values = getValues(cardinality);
+    final long[] words = new long[RidBitmap.CONTAINER_WORDS];
+    for (final short value : values) {
+      words[value >>> 6] |= 1L << value;
+    }
+
+    setByteValue(TYPE_OFFSET, BITMAP_CONTAINER);
+    for (int i = 0; i < words.length; i++) {
+      setLongValue(wordOffset(i), words[i]);
+    }
+  }
+
+  private void convertToArray() {
+    final long[] words = getWords();
+
+    setByteValue(TYPE_OFFSET, ARRAY_CONTAINER);
+    int position = 0;
+    for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+      long word = words[wordIndex];
+      while (word != 0) {
+        setShortValue(
+            valueOffset(position++),
+            (short) (wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word)));
+        word &= word - 1;
+      }
+    }
+  }
+
+  /**
+   * @return Index of the value in the array container, or <code>-(insertion point) - 1</code> if
+   * value is absent.
+   */
+  private int binarySearch(final int cardinality, final int value) {
+    int low = 0;
+    int high = cardinality - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final short midValue = getShortValue(valueOffset(mid));
+      if (midValue < value) {
+        low = mid + 1;
+      } else if (midValue > value) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+
+    return -(low + 1);
+  }
+
+  private short[] getValues(final int cardinality) {
+    final short[] values = new short[Math.max(1, cardinality)];
+    for (int i = 0; i < cardinality; i++) {
+      values[i] = getShortValue(valueOffset(i));
+    }
+
+    return values;
+  }
+
+  private long[] getWords() {
+    final long[] words = new long[RidBitmap.CONTAINER_WORDS];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = getLongValue(wordOffset(i));
+    }
+
+    return words;
+  }
+
+  private static int valueOffset(final int index) {
+    return DATA_OFFSET + index * ShortSerializer.SHORT_SIZE;
+  }
+
+  private static int wordOffset(final int wordIndex) {
+    return DATA_OFFSET + wordIndex * LongSerializer.LONG_SIZE;
+  }
+}
@@ -0,0 +1,403 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.bitmap;
+
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.index.CompositeKey;
+import com.jetbrains.youtrack.db.internal.core.serialization.serializer.binary.impl.index.IndexMultiValuKeySerializer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurableComponent;
+import com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue.CellBTreeSingleValue;
+import com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+/**
+ * Multi-value index which keeps record ids of each key as {@link RidBitmap}.
+ *
+ * <p>Every container of the bitmap is stored in the separate page of the containers file. Pages of
+ * the containers are found using the directory, B-tree which key is composite key which consists of
+ * the key of the index and of the fake record id which contains id of the cluster and index of the
+ * container. Value of the directory entry is the fake record id which position is index of the page
+ * of the container. Null keys are stored in the separate directory. Sparse containers are stored
+ * as sorted arrays of positions, dense ones as bitmaps, see {@link BitmapContainerPage}.
+ *
+ * <p>Containers which become empty are not removed, they are reused once records are added to the
+ * same key again, as index is intended to be used for the properties with low cardinality.
+ */
+public final class BitmapIndex extends DurableComponent {
+
+  public static final String CONTAINERS_FILE_EXTENSION = ".bmc";
+  public static final String DIRECTORY_FILE_EXTENSION = ".bmd";
+  public static final String DIRECTORY_NULL_FILE_EXTENSION = ".bmn";
+
+  private static final int ENTRY_POINT_INDEX = 0;
+
+  private final CellBTreeSingleValue<CompositeKey> directory;
+  private final CellBTreeSingleValue<CompositeKey> nullDirectory;
+  private final String nullDirectoryName;
+
+  private long fileId;
+
+  public BitmapIndex(@Nonnull final String name, final AbstractPaginatedStorage storage) {
+    super(storage, name, CONTAINERS_FILE_EXTENSION, name + CONTAINERS_FILE_EXTENSION);
+
+    nullDirectoryName = name + "$null";
+    directory =
+        new CellBTreeSingleValueV3<>(
+            name, DIRECTORY_FILE_EXTENSION, DIRECTORY_NULL_FILE_EXTENSION, storage);
+    nullDirectory =
+        new CellBTreeSingleValueV3<>(
+            nullDirectoryName, DIRECTORY_FILE_EXTENSION, DIRECTORY_NULL_FILE_EXTENSION, storage);
+  }
+
+  public void create(
+      final AtomicOperation atomicOperation, final PropertyType[] keyTypes, final int keySize) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            fileId = addFile(atomicOperation, getFullName());
+            try (final CacheEntry entryPointCacheEntry = addPage(atomicOperation, fileId)) {
+              final BitmapIndexEntryPoint entryPoint =
+                  new BitmapIndexEntryPoint(entryPointCacheEntry);
+              entryPoint.init();
+            }
+            pinPagesOnCommit(atomicOperation, fileId, ENTRY_POINT_INDEX);
+
+            directory.create(
+                atomicOperation,
+                new IndexMultiValuKeySerializer(),
+                directoryTypes(keyTypes),
+                keySize + 1);
+            nullDirectory.create(
+                atomicOperation,
+                new IndexMultiValuKeySerializer(),
+                new PropertyType[]{PropertyType.LINK},
+                1);
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  public void load(final PropertyType[] keyTypes, final int keySize) {
+    acquireExclusiveLock();
+    try {
+      final AtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+      fileId = openFile(atomicOperation, getFullName());
+      pinPages(fileId, ENTRY_POINT_INDEX);
+
+      directory.load(
+          getName(), keySize + 1, directoryTypes(keyTypes), new IndexMultiValuKeySerializer());
+      nullDirectory.load(
+          nullDirectoryName,
+          1,
+          new PropertyType[]{PropertyType.LINK},
+          new IndexMultiValuKeySerializer());
+    } catch (final IOException e) {
+      throw BaseException.wrapException(
+          new BitmapIndexException("Exception during loading of bitmap index " + getName(), this),
+          e);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  public void delete(final AtomicOperation atomicOperation) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            directory.delete(atomicOperation);
+            nullDirectory.delete(atomicOperation);
+            deleteFile(atomicOperation, fileId);
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  public void close() {
+    acquireExclusiveLock();
+    try {
+      directory.close();
+      nullDirectory.close();
+      readCache.closeFile(fileId, true, writeCache);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  /**
+   * @return <code>true</code> if record id was not contained in the bitmap of the key before.
+   */
+  public boolean put(final AtomicOperation atomicOperation, final Object key, final RID rid) {
+    return calculateInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            final CellBTreeSingleValue<CompositeKey> directory = directory(key);
+            final CompositeKey directoryKey = directoryKey(key, rid);
+
+            final RID containerPointer = directory.get(directoryKey);
+            final long pageIndex;
+            if (containerPointer == null) {
+              try (final CacheEntry cacheEntry = addPage(atomicOperation, fileId)) {
+                final BitmapContainerPage container = new BitmapContainerPage(cacheEntry);
+                container.init();
+                pageIndex = cacheEntry.getPageIndex();
+              }
+
+              directory.put(atomicOperation, directoryKey, new RecordId(0, pageIndex));
+            } else {
+              pageIndex = containerPointer.getClusterPosition();
+            }
+
+            try (final CacheEntry cacheEntry =
+                loadPageForWrite(atomicOperation, fileId, pageIndex, true)) {
+              final BitmapContainerPage container = new BitmapContainerPage(cacheEntry);
+              if (!container.set(RidBitmap.bitIndex(rid.getClusterPosition()))) {
+                return false;
+              }
+            }
+
+            updateSize(1, atomicOperation);
+            return true;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /**
+   * @return <code>true</code> if record id was contained in the bitmap of the key.
+   */
+  public boolean remove(final AtomicOperation atomicOperation, final Object key, final RID rid) {
+    return calculateInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            final RID containerPointer = directory(key).get(directoryKey(key, rid));
+            if (containerPointer == null) {
+              return false;
+            }
+
+            try (final CacheEntry cacheEntry =
+                loadPageForWrite(
+                    atomicOperation, fileId, containerPointer.getClusterPosition(), true)) {
+              final BitmapContainerPage container = new BitmapContainerPage(cacheEntry);
+              if (!container.clear(RidBitmap.bitIndex(rid.getClusterPosition()))) {
+                return false;
+              }
+            }
+
+            updateSize(-1, atomicOperation);
+            return true;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /**
+   * @return Record ids of the key as a bitmap which is owned by the caller.
+   */
+  public RidBitmap getBitmap(final Object key) {
+    final RidBitmap bitmap = new RidBitmap();
+
+    try (final Stream<RawPair<CompositeKey, RID>> containers = containers(key)) {
+      containers.forEach(
+          container -> {
+            final RID containerId = containerId(container.first);
+            bitmap.addContainer(
+                containerId.getClusterId(),
+                containerId.getClusterPosition(),
+                readContainer(container.second.getClusterPosition()));
+          });
+    }
+
+    return bitmap;
+  }
+
+  /**
+   * @return Record ids of the key in ascending order.
+   */
+  public Stream<RID> get(final Object key) {
+    //noinspection resource
+    return containers(key).flatMap(container -> expand(container).map(entry -> entry.second));
+  }
+
+  /**
+   * Expands entries of the directory to the entries of the index. Lock of the index is acquired
+   * for each container, so containers are read lazily.
+   */
+  public Stream<RawPair<Object, RID>> expand(
+      final Stream<RawPair<CompositeKey, RID>> directoryEntries) {
+    return directoryEntries.flatMap(this::expand);
+  }
+
+  public Stream<RawPair<CompositeKey, RID>> iterateDirectoryBetween(
+      final CompositeKey keyFrom,
+      final boolean fromInclusive,
+      final CompositeKey keyTo,
+      final boolean toInclusive,
+      final boolean ascSortOrder) {
+    return directory.iterateEntriesBetween(
+        keyFrom, fromInclusive, keyTo, toInclusive, ascSortOrder);
+  }
+
+  public Stream<RawPair<CompositeKey, RID>> iterateDirectoryMajor(
+      final CompositeKey key, final boolean inclusive, final boolean ascSortOrder) {
+    return directory.iterateEntriesMajor(key, inclusive, ascSortOrder);
+  }
+
+  public Stream<RawPair<CompositeKey, RID>> iterateDirectoryMinor(
+      final CompositeKey key, final boolean inclusive, final boolean ascSortOrder) {
+    return directory.iterateEntriesMinor(key, inclusive, ascSortOrder);
+  }
+
+  public CompositeKey lastDirectoryKey() {
+    return directory.lastKey();
+  }
+
+  public Stream<RawPair<CompositeKey, RID>> directoryEntries() {
+    return directory.allEntries();
+  }
+
+  public Stream<RawPair<CompositeKey, RID>> nullDirectoryEntries() {
+    return nullDirectory.allEntries();
+  }
+
+  /**
+   * @return Number of record ids stored in the index.
+   */
+  public long size() {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final AtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+        try (final CacheEntry entryPointCacheEntry =
+            loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX)) {
+          final BitmapIndexEntryPoint entryPoint = new BitmapIndexEntryPoint(entryPointCacheEntry);
+          return entryPoint.getSize();
+        }
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw BaseException.wrapException(
+          new BitmapIndexException(
+              "Error during retrieving of size of bitmap index " + getName(), this),
+          e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  public void acquireAtomicExclusiveLock() {
+    atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
+    directory.acquireAtomicExclusiveLock();
+    nullDirectory.acquireAtomicExclusiveLock();
+  }
+
+  /**
+   * @return Key of the index which is stored in the key of the directory.
+   */
+  public static Object extractKey(final CompositeKey directoryKey) {
+    final List<Object> keys = directoryKey.getKeys();
+    if (keys.size() == 1) {
+      return null;
+    }
+
+    if (keys.size() == 2) {
+      return keys.get(0);
+    }
+
+    return new CompositeKey(keys.subList(0, keys.size() - 1));
+  }
+
+  private Stream<RawPair<CompositeKey, RID>> containers(final Object key) {
+    if (key == null) {
+      return nullDirectory.allEntries();
+    }
+
+    final CompositeKey directoryKey = new CompositeKey(key);
+    return directory.iterateEntriesBetween(directoryKey, true, directoryKey, true, true);
+  }
+
+  private Stream<RawPair<Object, RID>> expand(final RawPair<CompositeKey, RID> container) {
+    final Object key = extractKey(container.first);
+    final RID containerId = containerId(container.first);
+    final int clusterId = containerId.getClusterId();
+
+    return readContainer(container.second.getClusterPosition())
+        .positions(containerId.getClusterPosition())
+        .mapToObj(position -> new RawPair<>(key, new RecordId(clusterId, position)));
+  }
+
+  private RidBitmapContainer readContainer(final long pageIndex) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final AtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+        try (final CacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex)) {
+          return new BitmapContainerPage(cacheEntry).getContainer();
+        }
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw BaseException.wrapException(
+          new BitmapIndexException(
+              "Error during reading of container of bitmap index " + getName(), this),
+          e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  private void updateSize(final long diffSize, final AtomicOperation atomicOperation)
+      throws IOException {
+    try (final CacheEntry entryPointCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, true)) {
+      final BitmapIndexEntryPoint entryPoint = new BitmapIndexEntryPoint(entryPointCacheEntry);
+      entryPoint.setSize(entryPoint.getSize() + diffSize);
+    }
+  }
+
+  private CellBTreeSingleValue<CompositeKey> directory(final Object key) {
+    return key == null ? nullDirectory : directory;
+  }
+
+  private static CompositeKey directoryKey(final Object key, final RID rid) {
+    final CompositeKey directoryKey = key == null ? new CompositeKey() : new CompositeKey(key);
+    directoryKey.addKey(
+        new RecordId(rid.getClusterId(), RidBitmap.containerIndex(rid.getClusterPosition())));
+    return directoryKey;
+  }
+
+  private static RID containerId(final CompositeKey directoryKey) {
+    final List<Object> keys = directoryKey.getKeys();
+    return (RID) keys.get(keys.size() - 1);
+  }
+
+  private static PropertyType[] directoryTypes(final PropertyType[] keyTypes) {
+    final PropertyType[] types = new PropertyType[keyTypes.length + 1];
+    System.arraycopy(keyTypes, 0, types, 0, keyTypes.length);
+    types[types.length - 1] = PropertyType.LINK;
+    return types;
+  }
+}
@@ -0,0 +1,26 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.bitmap;
+
+import com.jetbrains.youtrack.db.internal.common.serialization.types.LongSerializer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurablePage;
+
+public final class BitmapIndexEntryPoint extends DurablePage {
+
+  private static final int SIZE_OFFSET = NEXT_FREE_POSITION;
+
+  public BitmapIndexEntryPoint(final CacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  public void init() {
+    setLongValue(SIZE_OFFSET, 0);
+  }
+
+  public long getSize() {
+    return getLongValue(SIZE_OFFSET);
+  }
+
+  public void setSize(final long size) {
+    setLongValue(SIZE_OFFSET, size);
+  }
+}
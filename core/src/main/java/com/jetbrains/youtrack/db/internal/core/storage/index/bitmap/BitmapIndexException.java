@@ -0,0 +1,15 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.bitmap;
+
+import com.jetbrains.youtrack.db.internal.core.exception.DurableComponentException;
+
+public final class BitmapIndexException extends DurableComponentException {
+
+  @SuppressWarnings("unused")
+  public BitmapIndexException(final BitmapIndexException exception) {
+    super(exception);
+  }
+
+  BitmapIndexException(final String message, final BitmapIndex component) {
+    super(message, component);
+  }
+}
@@ -0,0 +1,219 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.bitmap;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectAVLTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Compressed set of record ids. Positions of the records of each cluster are split on containers of
+ * {@link #CONTAINER_SIZE} positions, similarly to Roaring bitmaps, and only containers which have
+ * at least one record are kept. Sparse containers are kept as sorted arrays of positions and dense
+ * ones as bitmaps, see {@link RidBitmapContainer}, so the set is compact both for dense and for
+ * sparse data.
+ *
+ * <p>Record ids are returned in ascending order, firstly by cluster id, then by cluster position.
+ */
+public final class RidBitmap {
+
+  public static final int CONTAINER_SIZE_BITS = 15;
+  public static final int CONTAINER_SIZE = 1 << CONTAINER_SIZE_BITS;
+  public static final int CONTAINER_WORDS = CONTAINER_SIZE / Long.SIZE;
+
+  private final Int2ObjectAVLTreeMap<Long2ObjectAVLTreeMap<RidBitmapContainer>> clusters =
+      new Int2ObjectAVLTreeMap<>();
+
+  public static long containerIndex(final long clusterPosition) {
+    return clusterPosition >>> CONTAINER_SIZE_BITS;
+  }
+
+  public static int bitIndex(final long clusterPosition) {
+    return (int) (clusterPosition & (CONTAINER_SIZE - 1));
+  }
+
+  public void add(final RID rid) {
+    final long position = rid.getClusterPosition();
+    container(rid.getClusterId(), containerIndex(position)).add(bitIndex(position));
+  }
+
+  public boolean contains(final RID rid) {
+    final Long2ObjectAVLTreeMap<RidBitmapContainer> containers = clusters.get(rid.getClusterId());
+    if (containers == null) {
+      return false;
+    }
+
+    final long position = rid.getClusterPosition();
+    final RidBitmapContainer container = containers.get(containerIndex(position));
+    return container != null && container.contains(bitIndex(position));
+  }
+
+  /**
+   * Adds all positions of the container to the bitmap. Passed in container is owned by the bitmap
+   * after the call.
+   */
+  public void addContainer(
+      final int clusterId, final long containerIndex, final RidBitmapContainer container) {
+    if (container.isEmpty()) {
+      return;
+    }
+
+    Long2ObjectAVLTreeMap<RidBitmapContainer> containers = clusters.get(clusterId);
+    if (containers == null) {
+      containers = new Long2ObjectAVLTreeMap<>();
+      clusters.put(clusterId, containers);
+    }
+
+    final RidBitmapContainer present = containers.get(containerIndex);
+    if (present == null) {
+      containers.put(containerIndex, container);
+    } else {
+      present.or(container);
+    }
+  }
+
+  /**
+   * Keeps in this bitmap only record ids which are contained in both bitmaps.
+   *
+   * @return This bitmap.
+   */
+  public RidBitmap and(final RidBitmap other) {
+    final var clusterIterator = clusters.int2ObjectEntrySet().iterator();
+    while (clusterIterator.hasNext()) {
+      final var clusterEntry = clusterIterator.next();
+      final Long2ObjectAVLTreeMap<RidBitmapContainer> otherContainers =
+          other.clusters.get(clusterEntry.getIntKey());
+      if (otherContainers == null) {
+        clusterIterator.remove();
+        continue;
+      }
+
+      final Iterator<Long2ObjectMap.Entry<RidBitmapContainer>> containerIterator =
+          clusterEntry.getValue().long2ObjectEntrySet().iterator();
+      while (containerIterator.hasNext()) {
+        final Long2ObjectMap.Entry<RidBitmapContainer> containerEntry = containerIterator.next();
+        final RidBitmapContainer otherContainer = otherContainers.get(containerEntry.getLongKey());
+        if (otherContainer == null) {
+          containerIterator.remove();
+          continue;
+        }
+
+        final RidBitmapContainer container = containerEntry.getValue();
+        container.and(otherContainer);
+        if (container.isEmpty()) {
+          containerIterator.remove();
+        }
+      }
+
+      if (clusterEntry.getValue().isEmpty()) {
+        clusterIterator.remove();
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Adds to this bitmap all record ids contained in the other bitmap.
+   *
+   * @return This bitmap.
+   */
+  public RidBitmap or(final RidBitmap other) {
+    for (final var clusterEntry : other.clusters.int2ObjectEntrySet()) {
+      for (final Long2ObjectMap.Entry<RidBitmapContainer> containerEntry :
+          clusterEntry.getValue().long2ObjectEntrySet()) {
+        addContainer(
+            clusterEntry.getIntKey(),
+            containerEntry.getLongKey(),
+            containerEntry.getValue().copy());
+      }
+    }
+
+    return this;
+  }
+
+  public boolean isEmpty() {
+    return clusters.isEmpty();
+  }
+
+  public long cardinality() {
+    long cardinality = 0;
+    for (final Long2ObjectAVLTreeMap<RidBitmapContainer> containers : clusters.values()) {
+      for (final RidBitmapContainer container : containers.values()) {
+        cardinality += container.cardinality();
+      }
+    }
+
+    return cardinality;
+  }
+
+  /**
+   * @return Record ids contained in the bitmap in ascending order.
+   */
+  public Stream<RID> stream() {
+    return clusters.int2ObjectEntrySet().stream()
+        .flatMap(
+            clusterEntry ->
+                clusterEntry.getValue().long2ObjectEntrySet().stream()
+                    .flatMap(
+                        containerEntry ->
+                            containerEntry
+                                .getValue()
+                                .positions(containerEntry.getLongKey())
+                                .mapToObj(
+                                    position -> new RecordId(clusterEntry.getIntKey(), position))));
+  }
+
+  public static int cardinality(final long[] words) {
+    int cardinality = 0;
+    for (final long word : words) {
+      cardinality += Long.bitCount(word);
+    }
+
+    return cardinality;
+  }
+
+  /**
+   * @return Number of containers which are kept as arrays.
+   */
+  public int arrayContainers() {
+    int count = 0;
+    for (final Long2ObjectAVLTreeMap<RidBitmapContainer> containers : clusters.values()) {
+      for (final RidBitmapContainer container : containers.values()) {
+        if (container.isArray()) {
+          count++;
+        }
+      }
+    }
+
+    return count;
+  }
+
+  private RidBitmapContainer container(final int clusterId, final long containerIndex) {
+    Long2ObjectAVLTreeMap<RidBitmapContainer> containers = clusters.get(clusterId);
+    if (containers == null) {
+      containers = new Long2ObjectAVLTreeMap<>();
+      clusters.put(clusterId, containers);
+    }
+
+    RidBitmapContainer container = containers.get(containerIndex);
+    if (container == null) {
+      container = new RidBitmapContainer();
+      containers.put(containerIndex, container);
+    }
+
+    return container;
+  }
+
+  @Override
+  public String toString() {
+    return "RidBitmap{cardinality="
+        + cardinality()
+        + ", clusters="
+        + Arrays.toString(clusters.keySet().toIntArray())
+        + '}';
+  }
+}
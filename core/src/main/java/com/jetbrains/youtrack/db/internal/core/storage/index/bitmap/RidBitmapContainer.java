@@ -0,0 +1,294 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.bitmap;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Positions of the records inside of the single container of {@link RidBitmap}. Similarly to
+ * Roaring bitmaps, sparse containers are kept as sorted arrays of positions and dense containers
+ * are kept as bitmaps. Container is converted to the bitmap once its cardinality exceeds
+ * {@link #ARRAY_MAX_SIZE} and back to the array once cardinality of the bitmap drops to this size.
+ *
+ * <p>Positions are kept relatively to the beginning of the container, so they fit into the
+ * <code>short</code> type.
+ */
+public final class RidBitmapContainer {
+
+  /**
+   * Maximum cardinality of the array container, array of such size occupies the same amount of
+   * memory as the bitmap.
+   */
+  public static final int ARRAY_MAX_SIZE = RidBitmap.CONTAINER_SIZE / Short.SIZE;
+
+  /**
+   * Sorted positions of the array container or <code>null</code> if container is bitmap.
+   */
+  private short[] values;
+
+  /**
+   * Bits of the bitmap container or <code>null</code> if container is array.
+   */
+  private long[] words;
+
+  private int cardinality;
+
+  public RidBitmapContainer() {
+    values = new short[4];
+  }
+
+  private RidBitmapContainer(final short[] values, final long[] words, final int cardinality) {
+    this.values = values;
+    this.words = words;
+    this.cardinality = cardinality;
+  }
+
+  /**
+   * @param words Bits of the container, array of {@link RidBitmap#CONTAINER_WORDS} items which is
+   *              owned by the container after the call.
+   */
+  public static RidBitmapContainer ofWords(final long[] words) {
+    final RidBitmapContainer container =
+        new RidBitmapContainer(null, words, RidBitmap.cardinality(words));
+    if (container.cardinality <= ARRAY_MAX_SIZE) {
+      container.toArray();
+    }
+
+    return container;
+  }
+
+  /**
+   * @param values Sorted positions of the container, array is owned by the container after the
+   *               call.
+   */
+  public static RidBitmapContainer ofValues(final short[] values, final int cardinality) {
+    final RidBitmapContainer container = new RidBitmapContainer(values, null, cardinality);
+    if (cardinality > ARRAY_MAX_SIZE) {
+      container.toBitmap();
+    }
+
+    return container;
+  }
+
+  public boolean isArray() {
+    return words == null;
+  }
+
+  public int cardinality() {
+    return cardinality;
+  }
+
+  public boolean isEmpty() {
+    return cardinality == 0;
+  }
+
+  /**
+   * @return <code>true</code> if position was not contained in the container before.
+   */
+  public boolean add(final int index) {
+    if (words != null) {
+      final long word = words[index >>> 6];
+      final long mask = 1L << index;
+      if ((word & mask) != 0) {
+        return false;
+      }
+
+      words[index >>> 6] = word | mask;
+      cardinality++;
+      return true;
+    }
+
+    final int insertionPoint = Arrays.binarySearch(values, 0, cardinality, (short) index);
+    if (insertionPoint >= 0) {
+      return false;
+    }
+
+    if (cardinality == ARRAY_MAX_SIZE) {
+      toBitmap();
+      return add(index);
+    }
+
+    final int position = -insertionPoint - 1;
+    if (cardinality == values.length) {
+      values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, values.length << 1));
+    }
+
+    System.arraycopy(values, position, values, position + 1, cardinality - position);
+    values[position] = (short) index;
+    cardinality++;
+    return true;
+  }
+
+  public boolean contains(final int index) {
+    if (words != null) {
+      return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    return Arrays.binarySearch(values, 0, cardinality, (short) index) >= 0;
+  }
+
+  /**
+   * Keeps in this container only positions which are contained in both containers.
+   */
+  public void and(final RidBitmapContainer other) {
+    if (words != null && other.words != null) {
+      int newCardinality = 0;
+      for (int i = 0; i < RidBitmap.CONTAINER_WORDS; i++) {
+        words[i] &= other.words[i];
+        newCardinality += Long.bitCount(words[i]);
+      }
+
+      cardinality = newCardinality;
+      if (cardinality <= ARRAY_MAX_SIZE) {
+        toArray();
+      }
+      return;
+    }
+
+    // result is not bigger than the array container, so it is always array
+    final RidBitmapContainer array = words == null ? this : other;
+    final RidBitmapContainer filter = array == this ? other : this;
+
+    final short[] result = new short[Math.max(1, array.cardinality)];
+    int newCardinality = 0;
+    for (int i = 0; i < array.cardinality; i++) {
+      final short value = array.values[i];
+      if (filter.contains(value)) {
+        result[newCardinality++] = value;
+      }
+    }
+
+    values = result;
+    words = null;
+    cardinality = newCardinality;
+  }
+
+  /**
+   * Adds to this container all positions contained in the other container.
+   */
+  public void or(final RidBitmapContainer other) {
+    if (other.words != null) {
+      if (words == null) {
+        final short[] arrayValues = values;
+        final int arrayCardinality = cardinality;
+
+        words = other.words.clone();
+        values = null;
+        cardinality = other.cardinality;
+        for (int i = 0; i < arrayCardinality; i++) {
+          add(arrayValues[i]);
+        }
+      } else {
+        int newCardinality = 0;
+        for (int i = 0; i < RidBitmap.CONTAINER_WORDS; i++) {
+          words[i] |= other.words[i];
+          newCardinality += Long.bitCount(words[i]);
+        }
+        cardinality = newCardinality;
+      }
+
+      return;
+    }
+
+    if (words != null) {
+      for (int i = 0; i < other.cardinality; i++) {
+        add(other.values[i]);
+      }
+      return;
+    }
+
+    // merge of two sorted arrays
+    final short[] result = new short[cardinality + other.cardinality];
+    int newCardinality = 0;
+    int first = 0;
+    int second = 0;
+    while (first < cardinality && second < other.cardinality) {
+      final short firstValue = values[first];
+      final short secondValue = other.values[second];
+      if (firstValue < secondValue) {
+        result[newCardinality++] = firstValue;
+        first++;
+      } else if (firstValue > secondValue) {
+        result[newCardinality++] = secondValue;
+        second++;
+      } else {
+        result[newCardinality++] = firstValue;
+        first++;
+        second++;
+      }
+    }
+    while (first < cardinality) {
+      result[newCardinality++] = values[first++];
+    }
+    while (second < other.cardinality) {
+      result[newCardinality++] = other.values[second++];
+    }
+
+    values = result;
+    cardinality = newCardinality;
+    if (cardinality > ARRAY_MAX_SIZE) {
+      toBitmap();
+    }
+  }
+
+  public RidBitmapContainer copy() {
+    return new RidBitmapContainer(
+        values != null ? values.clone() : null,
+        words != null ? words.clone() : null,
+        cardinality);
+  }
+
+  /**
+   * @return Cluster positions which are contained in the container in ascending order.
+   */
+  public LongStream positions(final long containerIndex) {
+    final long base = containerIndex << RidBitmap.CONTAINER_SIZE_BITS;
+    if (words == null) {
+      final short[] arrayValues = values;
+      return IntStream.range(0, cardinality).mapToLong(i -> base + arrayValues[i]);
+    }
+
+    final long[] bitmapWords = words;
+    return LongStream.range(0, RidBitmap.CONTAINER_WORDS)
+        .flatMap(
+            wordIndex -> {
+              long word = bitmapWords[(int) wordIndex];
+              if (word == 0) {
+                return LongStream.empty();
+              }
+
+              final LongStream.Builder builder = LongStream.builder();
+              while (word != 0) {
+                builder.add(base + wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+              }
+              return builder.build();
+            });
+  }
+
+  private void toBitmap() {
+    final long[] bits = new long[RidBitmap.CONTAINER_WORDS];
+    for (int i = 0; i < cardinality; i++) {
+      final int index = values[i];
+      bits[index >>> 6] |= 1L << index;
+    }
+
+    words = bits;
+    values = null;
+  }
+
+  private void toArray() {
+    final short[] arrayValues = new short[Math.max(1, cardinality)];
+    int n = 0;
+    for (int wordIndex = 0; wordIndex < RidBitmap.CONTAINER_WORDS; wordIndex++) {
+      long word = words[wordIndex];
+      while (word != 0) {
+        arrayValues[n++] = (short) (wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+
+    values = arrayValues;
+    words = null;
+  }
+}
@@ -0,0 +1,661 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.hnsw;
+
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.index.CompositeKey;
+import com.jetbrains.youtrack.db.internal.core.index.VectorSimilarity;
+import com.jetbrains.youtrack.db.internal.core.serialization.serializer.binary.impl.index.IndexMultiValuKeySerializer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurableComponent;
+import com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue.CellBTreeSingleValue;
+import com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+/**
+ * Hierarchical navigable small world graph which is used to find approximate nearest neighbours of
+ * the vectors.
+ *
+ * <p>Nodes of the graph are stored in the fixed size slots of the pages of the nodes file, see
+ * {@link HnswNodesPage}, node is identified by the index of its slot. Nodes are found by record
+ * ids using the directory, B-tree which maps record id to the fake record id which position is
+ * index of the node. The first page of the nodes file contains entry point of the graph.
+ *
+ * <p>Removed nodes are only marked as removed, they are still used to navigate the graph but are
+ * excluded from the results of the search. Nodes are reclaimed once index is rebuilt.
+ */
+public final class HnswIndex extends DurableComponent {
+
+  public static final String NODES_FILE_EXTENSION = ".hnsw";
+  public static final String DIRECTORY_FILE_EXTENSION = ".hnd";
+  public static final String DIRECTORY_NULL_FILE_EXTENSION = ".hnn";
+
+  private static final int ENTRY_POINT_INDEX = 0;
+  private static final int MAX_LEVEL = 16;
+
+  private static final Comparator<Candidate> BY_DISTANCE =
+      Comparator.comparingDouble(Candidate::distance);
+
+  private final CellBTreeSingleValue<CompositeKey> directory;
+
+  private long fileId;
+
+  private volatile HnswNodesPage.Layout layout;
+  private volatile int nodesPerPage;
+  private volatile VectorSimilarity similarity;
+  private volatile int efConstruction;
+  private volatile double levelMultiplier;
+
+  public HnswIndex(@Nonnull final String name, final AbstractPaginatedStorage storage) {
+    super(storage, name, NODES_FILE_EXTENSION, name + NODES_FILE_EXTENSION);
+
+    directory =
+        new CellBTreeSingleValueV3<>(
+            name, DIRECTORY_FILE_EXTENSION, DIRECTORY_NULL_FILE_EXTENSION, storage);
+  }
+
+  /**
+   * Sets parameters of the graph, should be called before any operation on the graph.
+   *
+   * @param dimension      amount of components of the vectors
+   * @param similarity     metric which is used to compare vectors
+   * @param maxConnections maximum amount of neighbours of the node on the upper levels, bottom
+   *                       level contains twice more neighbours
+   * @param efConstruction amount of the candidates which are considered during insertion of the
+   *                       node
+   */
+  public void configure(
+      final int dimension,
+      final VectorSimilarity similarity,
+      final int maxConnections,
+      final int efConstruction) {
+    final int maxLevel = HnswNodesPage.Layout.fittingMaxLevel(dimension, maxConnections, MAX_LEVEL);
+    if (maxLevel < 0) {
+      throw new HnswIndexException(
+          "Vectors of dimension "
+              + dimension
+              + " with "
+              + maxConnections
+              + " connections do not fit into the page, decrease amount of connections",
+          this);
+    }
+
+    this.layout = new HnswNodesPage.Layout(dimension, maxConnections, maxLevel);
+    this.nodesPerPage = layout.nodesPerPage();
+    this.similarity = similarity;
+    this.efConstruction = efConstruction;
+    this.levelMultiplier = 1 / Math.log(Math.max(maxConnections, 2));
+  }
+
+  public void create(final AtomicOperation atomicOperation) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            fileId = addFile(atomicOperation, getFullName());
+            try (final CacheEntry entryPointCacheEntry = addPage(atomicOperation, fileId)) {
+              final HnswIndexEntryPoint entryPoint = new HnswIndexEntryPoint(entryPointCacheEntry);
+              entryPoint.init();
+            }
+            pinPagesOnCommit(atomicOperation, fileId, ENTRY_POINT_INDEX);
+
+            directory.create(
+                atomicOperation,
+                new IndexMultiValuKeySerializer(),
+                new PropertyType[]{PropertyType.LINK},
+                1);
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  public void load() {
+    acquireExclusiveLock();
+    try {
+      final AtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+      fileId = openFile(atomicOperation, getFullName());
+      pinPages(fileId, ENTRY_POINT_INDEX);
+
+      directory.load(
+          getName(), 1, new PropertyType[]{PropertyType.LINK}, new IndexMultiValuKeySerializer());
+    } catch (final IOException e) {
+      throw BaseException.wrapException(
+          new HnswIndexException("Exception during loading of HNSW index " + getName(), this), e);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  public void delete(final AtomicOperation atomicOperation) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            directory.delete(atomicOperation);
+            deleteFile(atomicOperation, fileId);
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  public void close() {
+    acquireExclusiveLock();
+    try {
+      directory.close();
+      readCache.closeFile(fileId, true, writeCache);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  /**
+   * Removes all nodes of the graph. Pages of the nodes are reused by the nodes which are added
+   * later.
+   */
+  public void clear(final AtomicOperation atomicOperation) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            final List<CompositeKey> keys;
+            try (final Stream<RawPair<CompositeKey, RID>> entries = directory.allEntries()) {
+              keys = entries.map(entry -> entry.first).collect(Collectors.toList());
+            }
+            for (final CompositeKey key : keys) {
+              directory.remove(atomicOperation, key);
+            }
+
+            try (final CacheEntry entryPointCacheEntry =
+                loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, true)) {
+              new HnswIndexEntryPoint(entryPointCacheEntry).init();
+            }
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /**
+   * Adds vector of the record to the graph. If graph already contains other vector of the same
+   * record, it is replaced.
+   *
+   * @return <code>true</code> if graph did not contain this vector of the record before.
+   */
+  public boolean put(final AtomicOperation atomicOperation, final float[] vector, final RID rid) {
+    return calculateInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            final CompositeKey directoryKey = new CompositeKey(rid);
+            final RID nodePointer = directory.get(directoryKey);
+            if (nodePointer != null) {
+              final int node = (int) nodePointer.getClusterPosition();
+              if (Arrays.equals(readVector(atomicOperation, node), vector)) {
+                return false;
+              }
+
+              markRemoved(atomicOperation, node);
+            }
+
+            final int node = insertNode(atomicOperation, vector, rid);
+            directory.put(atomicOperation, directoryKey, new RecordId(0, node));
+
+            if (nodePointer == null) {
+              updateSize(1, atomicOperation);
+            }
+            return true;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /**
+   * @return <code>true</code> if vector of the record was contained in the graph.
+   */
+  public boolean remove(
+      final AtomicOperation atomicOperation, final float[] vector, final RID rid) {
+    return calculateInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            final CompositeKey directoryKey = new CompositeKey(rid);
+            final RID nodePointer = directory.get(directoryKey);
+            if (nodePointer == null) {
+              return false;
+            }
+
+            final int node = (int) nodePointer.getClusterPosition();
+            if (!Arrays.equals(readVector(atomicOperation, node), vector)) {
+              // vector of the record was already replaced by the new one
+              return false;
+            }
+
+            markRemoved(atomicOperation, node);
+            directory.remove(atomicOperation, directoryKey);
+            updateSize(-1, atomicOperation);
+            return true;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /**
+   * Finds approximate nearest neighbours of the vector.
+   *
+   * @param query vector which neighbours are searched
+   * @param limit maximum amount of the returned neighbours
+   * @param ef    amount of the candidates which are considered on the bottom level of the graph,
+   *              the higher is the value the better is recall of the search
+   * @return Pairs of the distance to the query vector and record id, in ascending order of
+   * distance.
+   */
+  public List<RawPair<Float, RID>> search(final float[] query, final int limit, final int ef) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final AtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+
+        final int entryNode;
+        final int maxLevel;
+        final int nodesCount;
+        try (final CacheEntry entryPointCacheEntry =
+            loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX)) {
+          final HnswIndexEntryPoint entryPoint = new HnswIndexEntryPoint(entryPointCacheEntry);
+          entryNode = entryPoint.getEntryNode();
+          maxLevel = entryPoint.getMaxLevel();
+          nodesCount = entryPoint.getNodesCount();
+        }
+
+        if (entryNode < 0 || limit <= 0) {
+          return new ArrayList<>();
+        }
+
+        Candidate current = candidate(atomicOperation, entryNode, query);
+        for (int level = maxLevel; level > 0; level--) {
+          current = searchLayer(atomicOperation, query, List.of(current), 1, level).get(0);
+        }
+
+        int searchWidth = Math.max(ef, limit);
+        while (true) {
+          final List<Candidate> found =
+              searchLayer(atomicOperation, query, List.of(current), searchWidth, 0);
+
+          final List<RawPair<Float, RID>> result = new ArrayList<>(limit);
+          for (final Candidate candidate : found) {
+            if (result.size() == limit) {
+              break;
+            }
+
+            try (final CacheEntry cacheEntry =
+                loadPageForRead(atomicOperation, fileId, pageIndex(candidate.node()))) {
+              final HnswNodesPage page = new HnswNodesPage(cacheEntry, layout);
+              final int slot = slot(candidate.node());
+              if (!page.isRemoved(slot)) {
+                result.add(new RawPair<>(candidate.distance(), page.getRid(slot)));
+              }
+            }
+          }
+
+          // removed nodes took place of the live ones, widen the search
+          if (result.size() == limit || searchWidth >= nodesCount) {
+            return result;
+          }
+          searchWidth = Math.min(nodesCount, 2 * searchWidth);
+        }
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw BaseException.wrapException(
+          new HnswIndexException("Error during search in HNSW index " + getName(), this), e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /**
+   * @return Pairs of the vector and record id of all records indexed by the graph, in order of
+   * record ids. Vectors are read lazily.
+   */
+  public Stream<RawPair<float[], RID>> entries() {
+    //noinspection resource
+    return directory
+        .allEntries()
+        .map(
+            entry ->
+                new RawPair<>(
+                    readVector((int) entry.second.getClusterPosition()),
+                    (RID) entry.first.getKeys().get(0)));
+  }
+
+  /**
+   * @return Number of records indexed by the graph.
+   */
+  public long size() {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final AtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+        try (final CacheEntry entryPointCacheEntry =
+            loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX)) {
+          return new HnswIndexEntryPoint(entryPointCacheEntry).getSize();
+        }
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw BaseException.wrapException(
+          new HnswIndexException(
+              "Error during retrieving of size of HNSW index " + getName(), this),
+          e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  public void acquireAtomicExclusiveLock() {
+    atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
+    directory.acquireAtomicExclusiveLock();
+  }
+
+  private int insertNode(final AtomicOperation atomicOperation, final float[] vector,
+      final RID rid) throws IOException {
+    final int level = randomLevel();
+
+    final int node;
+    final int entryNode;
+    final int maxLevel;
+    try (final CacheEntry entryPointCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, true)) {
+      final HnswIndexEntryPoint entryPoint = new HnswIndexEntryPoint(entryPointCacheEntry);
+      node = entryPoint.getNodesCount();
+      entryNode = entryPoint.getEntryNode();
+      maxLevel = entryPoint.getMaxLevel();
+
+      entryPoint.setNodesCount(node + 1);
+      if (level > maxLevel) {
+        entryPoint.setEntryNode(node);
+        entryPoint.setMaxLevel(level);
+      }
+    }
+
+    final long pageIndex = pageIndex(node);
+    try (final CacheEntry cacheEntry =
+        pageIndex < getFilledUpTo(atomicOperation, fileId)
+            ? loadPageForWrite(atomicOperation, fileId, pageIndex, true)
+            : addPage(atomicOperation, fileId)) {
+      assert cacheEntry.getPageIndex() == pageIndex;
+      new HnswNodesPage(cacheEntry, layout).initNode(slot(node), rid, level, vector);
+    }
+
+    if (entryNode < 0) {
+      return node;
+    }
+
+    Candidate current = candidate(atomicOperation, entryNode, vector);
+    for (int currentLevel = maxLevel; currentLevel > level; currentLevel--) {
+      current = searchLayer(atomicOperation, vector, List.of(current), 1, currentLevel).get(0);
+    }
+
+    List<Candidate> entryPoints = List.of(current);
+    for (int currentLevel = Math.min(level, maxLevel); currentLevel >= 0; currentLevel--) {
+      final List<Candidate> found =
+          searchLayer(atomicOperation, vector, entryPoints, efConstruction, currentLevel);
+      final List<Candidate> neighbours = selectNeighbours(found, layout.maxConnections());
+
+      writeNeighbours(atomicOperation, node, currentLevel, nodes(neighbours));
+      for (final Candidate neighbour : neighbours) {
+        connect(atomicOperation, neighbour, node, vector, currentLevel);
+      }
+
+      entryPoints = found;
+    }
+
+    return node;
+  }
+
+  /**
+   * Adds new node to the neighbours of the existing one, if list of the neighbours is full, the
+   * most distant or redundant neighbour is dropped.
+   */
+  private void connect(
+      final AtomicOperation atomicOperation,
+      final Candidate target,
+      final int node,
+      final float[] vector,
+      final int level)
+      throws IOException {
+    final int[] neighbours = readNeighbours(atomicOperation, target.node(), level);
+    final int capacity = layout.capacity(level);
+    if (neighbours.length < capacity) {
+      final int[] updated = Arrays.copyOf(neighbours, neighbours.length + 1);
+      updated[neighbours.length] = node;
+      writeNeighbours(atomicOperation, target.node(), level, updated);
+      return;
+    }
+
+    final List<Candidate> candidates = new ArrayList<>(neighbours.length + 1);
+    for (final int neighbour : neighbours) {
+      candidates.add(candidate(atomicOperation, neighbour, target.vector()));
+    }
+    candidates.add(new Candidate(node, target.distance(), vector));
+    candidates.sort(BY_DISTANCE);
+
+    writeNeighbours(
+        atomicOperation, target.node(), level, nodes(selectNeighbours(candidates, capacity)));
+  }
+
+  private List<Candidate> searchLayer(
+      final AtomicOperation atomicOperation,
+      final float[] query,
+      final List<Candidate> entryPoints,
+      final int ef,
+      final int level)
+      throws IOException {
+    final IntOpenHashSet visited = new IntOpenHashSet();
+    final PriorityQueue<Candidate> candidates = new PriorityQueue<>(BY_DISTANCE);
+    final PriorityQueue<Candidate> found = new PriorityQueue<>(BY_DISTANCE.reversed());
+
+    for (final Candidate entryPoint : entryPoints) {
+      if (visited.add(entryPoint.node())) {
+        candidates.add(entryPoint);
+        found.add(entryPoint);
+        if (found.size() > ef) {
+          found.poll();
+        }
+      }
+    }
+
+    while (!candidates.isEmpty()) {
+      final Candidate current = candidates.poll();
+      if (found.size() >= ef && current.distance() > found.peek().distance()) {
+        break;
+      }
+
+      for (final int neighbour : readNeighbours(atomicOperation, current.node(), level)) {
+        if (!visited.add(neighbour)) {
+          continue;
+        }
+
+        final Candidate candidate = candidate(atomicOperation, neighbour, query);
+        if (found.size() < ef || candidate.distance() < found.peek().distance()) {
+          candidates.add(candidate);
+          found.add(candidate);
+          if (found.size() > ef) {
+            found.poll();
+          }
+        }
+      }
+    }
+
+    final List<Candidate> result = new ArrayList<>(found);
+    result.sort(BY_DISTANCE);
+    return result;
+  }
+
+  /**
+   * Selects neighbours using heuristic of the original paper: candidate is preferred if it is
+   * closer to the base node than to any of already selected neighbours, so neighbours are spread
+   * in different directions. Rest of the places are filled by the closest dropped candidates.
+   *
+   * @param candidates candidates in ascending order of distance to the base node
+   */
+  private List<Candidate> selectNeighbours(final List<Candidate> candidates, final int capacity) {
+    if (candidates.size() <= capacity) {
+      return candidates;
+    }
+
+    final List<Candidate> selected = new ArrayList<>(capacity);
+    final List<Candidate> dropped = new ArrayList<>();
+    for (final Candidate candidate : candidates) {
+      if (selected.size() == capacity) {
+        break;
+      }
+
+      boolean diverse = true;
+      for (final Candidate neighbour : selected) {
+        if (similarity.distance(candidate.vector(), neighbour.vector()) < candidate.distance()) {
+          diverse = false;
+          break;
+        }
+      }
+
+      if (diverse) {
+        selected.add(candidate);
+      } else {
+        dropped.add(candidate);
+      }
+    }
+
+    for (int i = 0; i < dropped.size() && selected.size() < capacity; i++) {
+      selected.add(dropped.get(i));
+    }
+
+    return selected;
+  }
+
+  private int randomLevel() {
+    final double random = 1 - ThreadLocalRandom.current().nextDouble();
+    return (int) Math.min(layout.maxLevel(), Math.floor(-Math.log(random) * levelMultiplier));
+  }
+
+  private Candidate candidate(
+      final AtomicOperation atomicOperation, final int node, final float[] base)
+      throws IOException {
+    final float[] vector = readVector(atomicOperation, node);
+    return new Candidate(node, similarity.distance(base, vector), vector);
+  }
+
+  private float[] readVector(final int node) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        return readVector(atomicOperationsManager.getCurrentOperation(), node);
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw BaseException.wrapException(
+          new HnswIndexException("Error during reading of node of HNSW index " + getName(), this),
+          e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  private float[] readVector(final AtomicOperation atomicOperation, final int node)
+      throws IOException {
+    try (final CacheEntry cacheEntry =
+        loadPageForRead(atomicOperation, fileId, pageIndex(node))) {
+      return new HnswNodesPage(cacheEntry, layout).getVector(slot(node));
+    }
+  }
+
+  private int[] readNeighbours(
+      final AtomicOperation atomicOperation, final int node, final int level) throws IOException {
+    try (final CacheEntry cacheEntry =
+        loadPageForRead(atomicOperation, fileId, pageIndex(node))) {
+      final HnswNodesPage page = new HnswNodesPage(cacheEntry, layout);
+      final int slot = slot(node);
+      if (page.getLevel(slot) < level) {
+        return new int[0];
+      }
+      return page.getNeighbours(slot, level);
+    }
+  }
+
+  private void writeNeighbours(
+      final AtomicOperation atomicOperation, final int node, final int level,
+      final int[] neighbours) throws IOException {
+    try (final CacheEntry cacheEntry =
+        loadPageForWrite(atomicOperation, fileId, pageIndex(node), true)) {
+      new HnswNodesPage(cacheEntry, layout).setNeighbours(slot(node), level, neighbours);
+    }
+  }
+
+  private void markRemoved(final AtomicOperation atomicOperation, final int node)
+      throws IOException {
+    try (final CacheEntry cacheEntry =
+        loadPageForWrite(atomicOperation, fileId, pageIndex(node), true)) {
+      new HnswNodesPage(cacheEntry, layout).setRemoved(slot(node));
+    }
+  }
+
+  private void updateSize(final long diffSize, final AtomicOperation atomicOperation)
+      throws IOException {
+    try (final CacheEntry entryPointCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, true)) {
+      final HnswIndexEntryPoint entryPoint = new HnswIndexEntryPoint(entryPointCacheEntry);
+      entryPoint.setSize(entryPoint.getSize() + diffSize);
+    }
+  }
+
+  private long pageIndex(final int node) {
+    return ENTRY_POINT_INDEX + 1 + node / nodesPerPage;
+  }
+
+  private int slot(final int node) {
+    return node % nodesPerPage;
+  }
+
+  private static int[] nodes(final List<Candidate> candidates) {
+    final int[] nodes = new int[candidates.size()];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = candidates.get(i).node();
+    }
+    return nodes;
+  }
+
+  /**
+   * Node of the graph and its distance to the vector which is currently processed.
+   */
+  private record Candidate(int node, float distance, float[] vector) {
+
+  }
+}
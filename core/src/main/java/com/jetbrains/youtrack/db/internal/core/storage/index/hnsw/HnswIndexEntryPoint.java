@@ -0,0 +1,62 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.hnsw;
+
+import com.jetbrains.youtrack.db.internal.common.serialization.types.IntegerSerializer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurablePage;
+
+public final class HnswIndexEntryPoint extends DurablePage {
+
+  private static final int ENTRY_NODE_OFFSET = NEXT_FREE_POSITION;
+  private static final int MAX_LEVEL_OFFSET = ENTRY_NODE_OFFSET + IntegerSerializer.INT_SIZE;
+  private static final int NODES_COUNT_OFFSET = MAX_LEVEL_OFFSET + IntegerSerializer.INT_SIZE;
+  private static final int SIZE_OFFSET = NODES_COUNT_OFFSET + IntegerSerializer.INT_SIZE;
+
+  public HnswIndexEntryPoint(final CacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  public void init() {
+    setIntValue(ENTRY_NODE_OFFSET, -1);
+    setIntValue(MAX_LEVEL_OFFSET, -1);
+    setIntValue(NODES_COUNT_OFFSET, 0);
+    setLongValue(SIZE_OFFSET, 0);
+  }
+
+  /**
+   * @return Node from which all searches are started or <code>-1</code> if graph is empty.
+   */
+  public int getEntryNode() {
+    return getIntValue(ENTRY_NODE_OFFSET);
+  }
+
+  public void setEntryNode(final int entryNode) {
+    setIntValue(ENTRY_NODE_OFFSET, entryNode);
+  }
+
+  public int getMaxLevel() {
+    return getIntValue(MAX_LEVEL_OFFSET);
+  }
+
+  public void setMaxLevel(final int maxLevel) {
+    setIntValue(MAX_LEVEL_OFFSET, maxLevel);
+  }
+
+  /**
+   * @return Amount of the allocated nodes including removed ones.
+   */
+  public int getNodesCount() {
+    return getIntValue(NODES_COUNT_OFFSET);
+  }
+
+  public void setNodesCount(final int nodesCount) {
+    setIntValue(NODES_COUNT_OFFSET, nodesCount);
+  }
+
+  public long getSize() {
+    return getLongValue(SIZE_OFFSET);
+  }
+
+  public void setSize(final long size) {
+    setLongValue(SIZE_OFFSET, size);
+  }
+}
@@ -0,0 +1,15 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.hnsw;
+
+import com.jetbrains.youtrack.db.internal.core.exception.DurableComponentException;
+
+public final class HnswIndexException extends DurableComponentException {
+
+  @SuppressWarnings("unused")
+  public HnswIndexException(final HnswIndexException exception) {
+    super(exception);
+  }
+
+  HnswIndexException(final String message, final HnswIndex component) {
+    super(message, component);
+  }
+}
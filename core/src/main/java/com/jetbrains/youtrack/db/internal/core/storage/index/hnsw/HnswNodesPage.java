@@ -0,0 +1,153 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.hnsw;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.IntegerSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.LongSerializer;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurablePage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Page which contains nodes of the HNSW graph. Nodes have fixed size, which is defined by
+ * {@link Layout}, so each page contains fixed amount of slots, one slot per node.
+ *
+ * <p>Node consists of the record id, flag of the removed node, the highest level of the node,
+ * components of the vector and lists of neighbours for each level of the node. Neighbours of the
+ * bottom level are stored in the list of double capacity.
+ */
+public final class HnswNodesPage extends DurablePage {
+
+  private static final int CLUSTER_ID_OFFSET = 0;
+  private static final int CLUSTER_POSITION_OFFSET =
+      CLUSTER_ID_OFFSET + IntegerSerializer.INT_SIZE;
+  private static final int REMOVED_OFFSET = CLUSTER_POSITION_OFFSET + LongSerializer.LONG_SIZE;
+  private static final int LEVEL_OFFSET = REMOVED_OFFSET + 1;
+  private static final int VECTOR_OFFSET = LEVEL_OFFSET + 1;
+
+  private final Layout layout;
+
+  public HnswNodesPage(final CacheEntry cacheEntry, final Layout layout) {
+    super(cacheEntry);
+    this.layout = layout;
+  }
+
+  public void initNode(final int slot, final RID rid, final int level, final float[] vector) {
+    final int nodeOffset = layout.nodeOffset(slot);
+
+    setIntValue(nodeOffset + CLUSTER_ID_OFFSET, rid.getClusterId());
+    setLongValue(nodeOffset + CLUSTER_POSITION_OFFSET, rid.getClusterPosition());
+    setByteValue(nodeOffset + REMOVED_OFFSET, (byte) 0);
+    setByteValue(nodeOffset + LEVEL_OFFSET, (byte) level);
+
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.nativeOrder());
+    buffer.asFloatBuffer().put(vector);
+    setBinaryValue(nodeOffset + VECTOR_OFFSET, buffer.array());
+
+    for (int i = 0; i <= level; i++) {
+      setIntValue(nodeOffset + layout.neighboursOffset(i), 0);
+    }
+  }
+
+  public RID getRid(final int slot) {
+    final int nodeOffset = layout.nodeOffset(slot);
+    return new RecordId(
+        getIntValue(nodeOffset + CLUSTER_ID_OFFSET),
+        getLongValue(nodeOffset + CLUSTER_POSITION_OFFSET));
+  }
+
+  public boolean isRemoved(final int slot) {
+    return getByteValue(layout.nodeOffset(slot) + REMOVED_OFFSET) != 0;
+  }
+
+  public void setRemoved(final int slot) {
+    setByteValue(layout.nodeOffset(slot) + REMOVED_OFFSET, (byte) 1);
+  }
+
+  public int getLevel(final int slot) {
+    return getByteValue(layout.nodeOffset(slot) + LEVEL_OFFSET);
+  }
+
+  public float[] getVector(final int slot) {
+    final byte[] content =
+        getBinaryValue(
+            layout.nodeOffset(slot) + VECTOR_OFFSET, layout.dimension() * Float.BYTES);
+
+    final float[] vector = new float[layout.dimension()];
+    ByteBuffer.wrap(content).order(ByteOrder.nativeOrder()).asFloatBuffer().get(vector);
+    return vector;
+  }
+
+  public int[] getNeighbours(final int slot, final int level) {
+    final int listOffset = layout.nodeOffset(slot) + layout.neighboursOffset(level);
+    final int count = getIntValue(listOffset);
+    if (count == 0) {
+      return new int[0];
+    }
+
+    return getIntArray(listOffset + IntegerSerializer.INT_SIZE, count);
+  }
+
+  public void setNeighbours(final int slot, final int level, final int[] neighbours) {
+    assert neighbours.length <= layout.capacity(level);
+
+    final int listOffset = layout.nodeOffset(slot) + layout.neighboursOffset(level);
+    setIntValue(listOffset, neighbours.length);
+    if (neighbours.length > 0) {
+      setIntArray(listOffset + IntegerSerializer.INT_SIZE, neighbours, 0);
+    }
+  }
+
+  /**
+   * Sizes and offsets of the nodes of the graph.
+   *
+   * @param dimension      amount of components of the vectors
+   * @param maxConnections maximum amount of neighbours on all levels except of the bottom one
+   * @param maxLevel       maximum level of the nodes
+   */
+  public record Layout(int dimension, int maxConnections, int maxLevel) {
+
+    public int capacity(final int level) {
+      return level == 0 ? 2 * maxConnections : maxConnections;
+    }
+
+    public int nodesPerPage() {
+      return (MAX_PAGE_SIZE_BYTES - NEXT_FREE_POSITION) / nodeSize();
+    }
+
+    public int nodeSize() {
+      return neighboursOffset(maxLevel + 1);
+    }
+
+    /**
+     * @return Maximum level of the nodes which allows to fit at least a single node with given
+     * dimension and amount of connections into the page, or <code>-1</code> if even the bottom
+     * level does not fit.
+     */
+    public static int fittingMaxLevel(
+        final int dimension, final int maxConnections, final int maxLevel) {
+      for (int level = maxLevel; level >= 0; level--) {
+        if (new Layout(dimension, maxConnections, level).nodesPerPage() > 0) {
+          return level;
+        }
+      }
+
+      return -1;
+    }
+
+    private int nodeOffset(final int slot) {
+      return NEXT_FREE_POSITION + slot * nodeSize();
+    }
+
+    private int neighboursOffset(final int level) {
+      int offset = VECTOR_OFFSET + dimension * Float.BYTES;
+      if (level > 0) {
+        offset += (1 + capacity(0)) * IntegerSerializer.INT_SIZE;
+        offset += (level - 1) * (1 + maxConnections) * IntegerSerializer.INT_SIZE;
+      }
+      return offset;
+    }
+  }
+}
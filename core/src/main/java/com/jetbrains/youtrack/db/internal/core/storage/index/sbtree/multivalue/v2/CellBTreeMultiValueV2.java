@@ -26,6 +26,7 @@ import com.jetbrains.youtrack.db.api.exception.TooBigIndexKeyException;
 import com.jetbrains.youtrack.db.api.record.RID;
 import com.jetbrains.youtrack.db.api.schema.PropertyType;
 import com.jetbrains.youtrack.db.internal.common.comparator.DefaultComparator;
+import com.jetbrains.youtrack.db.internal.common.log.LogManager;
 import com.jetbrains.youtrack.db.internal.common.serialization.types.BinarySerializer;
 import com.jetbrains.youtrack.db.internal.common.serialization.types.ByteSerializer;
 import com.jetbrains.youtrack.db.internal.common.types.ModifiableLong;
@@ -119,6 +120,18 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
   private SBTreeV2<MultiValueEntry, Byte> multiContainer;
   private final ModifiableLong mIdCounter = new ModifiableLong();
 
+  /**
+   * Path to the leaf bucket which was updated last, see
+   * {@link #findBucketForUpdate(Object, AtomicOperation, boolean)}. Accessed only under exclusive
+   * lock.
+   */
+  private UpdateBucketSearchResult lastUpdatePath;
+
+  /**
+   * Id of the atomic operation inside of which {@link #lastUpdatePath} was found.
+   */
+  private long lastUpdateOperationId = -1;
+
   public CellBTreeMultiValueV2(
       final String name,
       final String dataFileExtension,
@@ -172,6 +185,7 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
                   new CellBTreeMultiValueV2Bucket<>(rootCacheEntry);
               rootBucket.init(true);
             }
+            pinUpperLevelsOnCommit(atomicOperation);
 
             try (final CacheEntry nullBucketEntry = addPage(atomicOperation, nullBucketFileId)) {
               final CellBTreeMultiValueV2NullBucket nullBucket =
@@ -416,7 +430,7 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
               }
 
               UpdateBucketSearchResult bucketSearchResult =
-                  findBucketForUpdate(key, atomicOperation);
+                  findBucketForUpdate(key, atomicOperation, true);
 
               CacheEntry keyBucketCacheEntry =
                   loadPageForWrite(
@@ -437,8 +451,10 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
                 isNew = true;
               }
 
+              boolean split = false;
               while (!addEntry(
                   keyBucket, insertionIndex, isNew, keyToInsert, value, atomicOperation)) {
+                split = true;
                 bucketSearchResult =
                     splitBucket(
                         keyBucket,
@@ -464,6 +480,14 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
 
               keyBucketCacheEntry.close();
 
+              if (split) {
+                // paths to the other leaves are changed by the split
+                lastUpdatePath = null;
+              } else {
+                lastUpdatePath = bucketSearchResult;
+                lastUpdateOperationId = atomicOperation.getOperationUnitId();
+              }
+
             } else {
 
               try (final CacheEntry nullCacheEntry =
@@ -534,6 +558,7 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
   public void close() {
     acquireExclusiveLock();
     try {
+      lastUpdatePath = null;
       readCache.closeFile(fileId, true, writeCache);
       readCache.closeFile(nullBucketFileId, true, writeCache);
       multiContainer.close();
@@ -548,6 +573,7 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
         operation -> {
           acquireExclusiveLock();
           try {
+            lastUpdatePath = null;
             deleteFile(atomicOperation, fileId);
             deleteFile(atomicOperation, nullBucketFileId);
 
@@ -558,6 +584,48 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
         });
   }
 
+  /**
+   * Pins entry point, root and children of the root, which are accessed by nearly every operation
+   * on the tree.
+   */
+  private void pinUpperLevels() throws IOException {
+    pinPages(fileId, ENTRY_POINT_INDEX, ROOT_INDEX);
+    if (writeCache.getFilledUpTo(fileId) <= ROOT_INDEX) {
+      return;
+    }
+
+    final LongArrayList children = new LongArrayList();
+    try (final CacheEntry rootCacheEntry = loadPageForRead(null, fileId, ROOT_INDEX)) {
+      final CellBTreeMultiValueV2Bucket<K> rootBucket = new CellBTreeMultiValueV2Bucket<>(rootCacheEntry);
+      if (!rootBucket.isLeaf()) {
+        final int size = rootBucket.size();
+        for (int i = 0; i < size; i++) {
+          children.add(rootBucket.getLeft(i));
+        }
+        if (size > 0) {
+          children.add(rootBucket.getRight(size - 1));
+        }
+      }
+    }
+
+    pinPages(fileId, children.toLongArray());
+  }
+
+  /**
+   * Pins upper levels of the tree once the atomic operation which created the tree or added pages
+   * to its upper levels is committed.
+   */
+  private void pinUpperLevelsOnCommit(final AtomicOperation atomicOperation) {
+    atomicOperation.addCommitAction(
+        () -> {
+          try {
+            pinUpperLevels();
+          } catch (final IOException | RuntimeException e) {
+            LogManager.instance().warn(this, "Can not pin pages of tree %s", e, getName());
+          }
+        });
+  }
+
   public void load(
       final String name,
       final int keySize,
@@ -569,6 +637,7 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
 
       fileId = openFile(atomicOperation, getFullName());
       nullBucketFileId = openFile(atomicOperation, name + nullFileExtension);
+      pinUpperLevels();
 
       this.keySize = keySize;
       this.keyTypes = keyTypes;
@@ -633,6 +702,8 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
           boolean removed;
           acquireExclusiveLock();
           try {
+            lastUpdatePath = null;
+
             if (key != null) {
               key = keySerializer.preprocess(key, (Object[]) keyTypes);
 
@@ -1248,6 +1319,12 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
       }
     }
 
+    if (entryToSplit.getPageIndex() == ROOT_INDEX
+        || path.getLong(path.size() - 2) == ROOT_INDEX) {
+      // new page is added to the upper levels of the tree
+      pinUpperLevelsOnCommit(atomicOperation);
+    }
+
     if (entryToSplit.getPageIndex() != ROOT_INDEX) {
       return splitNonRootBucket(
           path,
@@ -1642,6 +1719,45 @@ public final class CellBTreeMultiValueV2<K> extends DurableComponent
     }
   }
 
+  /**
+   * Keys are applied to the tree in sorted order during commit of the transaction, so the next key
+   * often belongs to the same leaf bucket as the previous one. In such case path to this leaf is
+   * reused instead of the descent from the root. Path is valid only inside of the atomic operation
+   * which found it, because the component is locked till the end of the operation, and only till
+   * the first split or removal.
+   *
+   * <p>Values of the same key may be spread over several neighbour leaves, so path is reused only
+   * for the keys which are absent in the leaf.
+   */
+  private UpdateBucketSearchResult findBucketForUpdate(
+      final K key, final AtomicOperation atomicOperation, final boolean reuseLastPath)
+      throws IOException {
+    final UpdateBucketSearchResult lastPath = lastUpdatePath;
+    if (reuseLastPath
+        && lastPath != null
+        && lastUpdateOperationId == atomicOperation.getOperationUnitId()) {
+      try (final CacheEntry bucketEntry =
+          loadPageForRead(atomicOperation, fileId, lastPath.getLastPathItem())) {
+        final CellBTreeMultiValueV2Bucket<K> keyBucket =
+            new CellBTreeMultiValueV2Bucket<>(bucketEntry);
+        final int index = keyBucket.find(key, keySerializer);
+
+        if (keyBucket.isLeaf() && index < 0) {
+          final int insertionIndex = -index - 1;
+          if ((insertionIndex > 0 || keyBucket.getLeftSibling() < 0)
+              && (insertionIndex < keyBucket.size() || keyBucket.getRightSibling() < 0)) {
+            final IntArrayList insertionIndexes = new IntArrayList(lastPath.insertionIndexes);
+            insertionIndexes.set(insertionIndexes.size() - 1, index);
+            return new UpdateBucketSearchResult(
+                insertionIndexes, new LongArrayList(lastPath.path), index);
+          }
+        }
+      }
+    }
+
+    return findBucketForUpdate(key, atomicOperation);
+  }
+
   private UpdateBucketSearchResult findBucketForUpdate(
       final K key, final AtomicOperation atomicOperation) throws IOException {
     long pageIndex = ROOT_INDEX;
@@ -0,0 +1,143 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue;
+
+import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator;
+import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator.Intention;
+import com.jetbrains.youtrack.db.internal.common.directmemory.Pointer;
+import com.jetbrains.youtrack.db.internal.common.hash.MurmurHash3;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Blocked Bloom filter of the serialized keys of the tree which is kept in direct memory. All bits
+ * of the key are set inside of the single block of the size of the CPU cache line, so check of the
+ * key costs at most one cache miss.
+ *
+ * <p>Bloom filter can not forget keys, so keys removed from the tree are still reported as
+ * possibly present till filter is rebuilt. Filter is not persisted and is rebuilt from the keys of
+ * the tree in background when tree is opened.
+ *
+ * <p>Keys may be added concurrently with the checks and with each other, bits are set using
+ * atomic operations.
+ */
+public final class BlockedBloomFilter {
+
+  private static final int BLOCK_SIZE = 64;
+  private static final int BLOCK_BITS = BLOCK_SIZE * Byte.SIZE;
+  private static final int MAX_BLOCKS = Integer.MAX_VALUE / BLOCK_SIZE;
+  private static final int MAX_HASH_FUNCTIONS = 16;
+  private static final int SEED = 0x5bd1e995;
+
+  private static final VarHandle LONGS =
+      MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+  private final DirectMemoryAllocator allocator;
+  private final Pointer pointer;
+  private final ByteBuffer buffer;
+
+  private final int blocks;
+  private final int hashFunctions;
+  private final long capacity;
+
+  private final LongAdder keys = new LongAdder();
+
+  /**
+   * @param capacity   Expected amount of keys.
+   * @param bitsPerKey Amount of bits per key, 10 bits give about 1% of false positives if amount
+   *                   of keys does not exceed capacity.
+   */
+  public BlockedBloomFilter(final long capacity, final int bitsPerKey) {
+    if (capacity <= 0 || bitsPerKey <= 0) {
+      throw new IllegalArgumentException(
+          "Capacity and bits per key of Bloom filter should be positive");
+    }
+
+    this.capacity = capacity;
+    this.blocks =
+        (int) Math.max(1, Math.min(MAX_BLOCKS, (capacity * bitsPerKey + BLOCK_BITS - 1)
+            / BLOCK_BITS));
+    this.hashFunctions =
+        (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS, Math.round(bitsPerKey * Math.log(2))));
+
+    this.allocator = DirectMemoryAllocator.instance();
+    this.pointer = allocator.allocate(blocks * BLOCK_SIZE, true, Intention.BLOOM_FILTER);
+    this.buffer = pointer.getNativeByteBuffer();
+  }
+
+  /**
+   * @return Hash of the serialized key which is passed to the other methods of the filter.
+   */
+  public static long hash(final byte[] serializedKey) {
+    return MurmurHash3.murmurHash3_x64_64(serializedKey, SEED);
+  }
+
+  public void add(final long hash) {
+    final int block = block(hash);
+    int bitHash = (int) hash;
+    final int step = step(hash);
+
+    for (int i = 0; i < hashFunctions; i++) {
+      final int bit = bitHash & (BLOCK_BITS - 1);
+      LONGS.getAndBitwiseOr(buffer, offset(block, bit), 1L << bit);
+      bitHash += step;
+    }
+
+    keys.increment();
+  }
+
+  /**
+   * @return <code>false</code> if key was never added to the filter, <code>true</code> if key may
+   * have been added.
+   */
+  public boolean mightContain(final long hash) {
+    final int block = block(hash);
+    int bitHash = (int) hash;
+    final int step = step(hash);
+
+    for (int i = 0; i < hashFunctions; i++) {
+      final int bit = bitHash & (BLOCK_BITS - 1);
+      if (((long) LONGS.getOpaque(buffer, offset(block, bit)) & (1L << bit)) == 0) {
+        return false;
+      }
+      bitHash += step;
+    }
+
+    return true;
+  }
+
+  /**
+   * @return Amount of keys for which filter was sized.
+   */
+  public long getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * @return Amount of keys added to the filter, including repeatedly added and removed keys.
+   */
+  public long getKeys() {
+    return keys.sum();
+  }
+
+  /**
+   * Releases memory of the filter, filter can not be used after this call.
+   */
+  public void free() {
+    allocator.deallocate(pointer);
+  }
+
+  private int block(final long hash) {
+    return (int) (((hash >>> 32) * blocks) >>> 32);
+  }
+
+  private static int step(final long hash) {
+    // odd step visits all bits of the block
+    return (int) ((hash * 0x9E3779B97F4A7C15L) >>> 32) | 1;
+  }
+
+  private static int offset(final int block, final int bit) {
+    return block * BLOCK_SIZE + (bit >>> 6) * Long.BYTES;
+  }
+}
@@ -7,6 +7,7 @@ import com.jetbrains.youtrack.db.internal.common.util.RawPair;
 import com.jetbrains.youtrack.db.internal.core.index.engine.IndexEngineValidator;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
 import java.io.IOException;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 public interface CellBTreeSingleValue<K> {
@@ -57,4 +58,14 @@ public interface CellBTreeSingleValue<K> {
       K keyFrom, boolean fromInclusive, K keyTo, boolean toInclusive, boolean ascSortOrder);
 
   void acquireAtomicExclusiveLock();
+
+  /**
+   * Enables Bloom filter of the keys of the tree which allows to skip search of the keys which are
+   * absent in the tree. Trees which do not support Bloom filter ignore this call.
+   *
+   * @param capacity   Expected amount of keys in the tree.
+   * @param bitsPerKey Amount of bits of the filter per key.
+   * @return Future which is completed once the filter is built and is used for lookups.
+   */
+  Future<?> enableBloomFilter(long capacity, int bitsPerKey);
 }
@@ -54,6 +54,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -728,6 +730,12 @@ public final class CellBTreeSingleValueV1<K> extends DurableComponent
     atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
   }
 
+  @Override
+  public Future<?> enableBloomFilter(final long capacity, final int bitsPerKey) {
+    // Bloom filter is supported only by the trees of the latest version
+    return CompletableFuture.completedFuture(null);
+  }
+
   private void updateSize(final long diffSize, final AtomicOperation atomicOperation)
       throws IOException {
     try (final CacheEntry entryPointCacheEntry =
@@ -26,10 +26,16 @@ import com.jetbrains.youtrack.db.api.exception.TooBigIndexKeyException;
 import com.jetbrains.youtrack.db.api.record.RID;
 import com.jetbrains.youtrack.db.api.schema.PropertyType;
 import com.jetbrains.youtrack.db.internal.common.comparator.DefaultComparator;
+import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.CoreMetrics;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.Counter;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.Ratio;
 import com.jetbrains.youtrack.db.internal.common.serialization.types.BinarySerializer;
 import com.jetbrains.youtrack.db.internal.common.serialization.types.LongSerializer;
 import com.jetbrains.youtrack.db.internal.common.serialization.types.ShortSerializer;
+import com.jetbrains.youtrack.db.internal.common.thread.ThreadPoolExecutors;
 import com.jetbrains.youtrack.db.internal.common.util.RawPair;
+import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
 import com.jetbrains.youtrack.db.internal.core.id.RecordId;
 import com.jetbrains.youtrack.db.internal.core.index.CompositeKey;
 import com.jetbrains.youtrack.db.internal.core.index.comparator.AlwaysGreaterKey;
@@ -39,6 +45,7 @@ import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.base.DurableComponent;
+import com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue.BlockedBloomFilter;
 import com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue.CellBTreeSingleValue;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
@@ -50,10 +57,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
@@ -101,6 +112,15 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
 
   private static final int ENTRY_POINT_INDEX = 0;
   private static final long ROOT_INDEX = 1;
+
+  /**
+   * Builds Bloom filters of the opened trees, so opening of the storage does not wait for the scan
+   * of the keys.
+   */
+  private static final ExecutorService bloomFilterExecutor =
+      ThreadPoolExecutors.newSingleThreadPool(
+          "YouTrackDB Bloom Filter Build", AbstractPaginatedStorage.storageThreadGroup);
+
   final Comparator<? super K> comparator = DefaultComparator.INSTANCE;
 
   private final String nullFileExtension;
@@ -110,6 +130,32 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
   private BinarySerializer<K> keySerializer;
   private PropertyType[] keyTypes;
 
+  /**
+   * Filter of the keys of the tree, <code>null</code> if filter is not enabled.
+   */
+  private volatile BlockedBloomFilter bloomFilter;
+
+  /**
+   * Whether all keys of the tree are added to {@link #bloomFilter}, so filter can be used for
+   * lookups.
+   */
+  private volatile boolean bloomFilterReady;
+
+  private Counter bloomFilterNegatives = Counter.NOOP;
+  private Ratio bloomFilterFalsePositives = Ratio.NOOP;
+
+  /**
+   * Path to the leaf bucket which was updated last, see
+   * {@link #findBucketForUpdate(Object, AtomicOperation, boolean)}. Accessed only under exclusive
+   * lock.
+   */
+  private UpdateBucketSearchResult lastUpdatePath;
+
+  /**
+   * Id of the atomic operation inside of which {@link #lastUpdatePath} was found.
+   */
+  private long lastUpdateOperationId = -1;
+
   public CellBTreeSingleValueV3(
       @Nonnull final String name,
       final String dataFileExtension,
@@ -158,6 +204,7 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
                   new CellBTreeSingleValueBucketV3<>(rootCacheEntry);
               rootBucket.init(true);
             }
+            pinUpperLevelsOnCommit(atomicOperation);
 
             try (final CacheEntry nullCacheEntry = addPage(atomicOperation, nullBucketFileId)) {
               @SuppressWarnings("unused") final CellBTreeSingleValueV3NullBucket nullBucket =
@@ -179,8 +226,16 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
         if (key != null) {
           key = keySerializer.preprocess(key, (Object[]) keyTypes);
 
+          final boolean filtered = bloomFilterReady;
+          if (filtered && isFilteredOut(key)) {
+            return null;
+          }
+
           final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
           if (bucketSearchResult.getItemIndex() < 0) {
+            if (filtered) {
+              bloomFilterFalsePositives.record(true);
+            }
             return null;
           }
 
@@ -251,8 +306,15 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
                         + MAX_KEY_SIZE,
                     getName());
               }
+              final BlockedBloomFilter filter = bloomFilter;
+              if (filter != null) {
+                // key becomes visible only when atomic operation is committed, so it is added to
+                // the filter before any reader can find it in the tree
+                filter.add(BlockedBloomFilter.hash(serializedKey));
+              }
+
               UpdateBucketSearchResult bucketSearchResult =
-                  findBucketForUpdate(key, atomicOperation);
+                  findBucketForUpdate(key, atomicOperation, true);
 
               CacheEntry keyBucketCacheEntry =
                   loadPageForWrite(
@@ -315,6 +377,7 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
                   keyBucket.updateValue(
                       bucketSearchResult.getItemIndex(), serializedValue, serializedKey.length);
                   keyBucketCacheEntry.close();
+                  rememberUpdatePath(atomicOperation, bucketSearchResult);
                   return true;
                 } else {
                   keyBucket.removeLeafEntry(bucketSearchResult.getItemIndex(), serializedKey);
@@ -326,7 +389,9 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
                 sizeDiff = 1;
               }
 
+              boolean split = false;
               while (!keyBucket.addLeafEntry(insertionIndex, serializedKey, serializedValue)) {
+                split = true;
                 bucketSearchResult =
                     splitBucket(
                         keyBucket,
@@ -352,6 +417,13 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
 
               keyBucketCacheEntry.close();
 
+              if (split) {
+                // paths to the other leaves are changed by the split
+                lastUpdatePath = null;
+              } else {
+                rememberUpdatePath(atomicOperation, bucketSearchResult);
+              }
+
               if (sizeDiff != 0) {
                 updateSize(sizeDiff, atomicOperation);
               }
@@ -389,6 +461,8 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
   public void close() {
     acquireExclusiveLock();
     try {
+      lastUpdatePath = null;
+      freeBloomFilter();
       readCache.closeFile(fileId, true, writeCache);
       readCache.closeFile(nullBucketFileId, true, writeCache);
     } finally {
@@ -402,6 +476,8 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
         operation -> {
           acquireExclusiveLock();
           try {
+            lastUpdatePath = null;
+            freeBloomFilter();
             deleteFile(atomicOperation, fileId);
             deleteFile(atomicOperation, nullBucketFileId);
           } finally {
@@ -410,6 +486,48 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
         });
   }
 
+  /**
+   * Pins entry point, root and children of the root, which are accessed by nearly every operation
+   * on the tree.
+   */
+  private void pinUpperLevels() throws IOException {
+    pinPages(fileId, ENTRY_POINT_INDEX, ROOT_INDEX);
+    if (writeCache.getFilledUpTo(fileId) <= ROOT_INDEX) {
+      return;
+    }
+
+    final LongArrayList children = new LongArrayList();
+    try (final CacheEntry rootCacheEntry = loadPageForRead(null, fileId, ROOT_INDEX)) {
+      final CellBTreeSingleValueBucketV3<K> rootBucket = new CellBTreeSingleValueBucketV3<>(rootCacheEntry);
+      if (!rootBucket.isLeaf()) {
+        final int size = rootBucket.size();
+        for (int i = 0; i < size; i++) {
+          children.add(rootBucket.getLeft(i));
+        }
+        if (size > 0) {
+          children.add(rootBucket.getRight(size - 1));
+        }
+      }
+    }
+
+    pinPages(fileId, children.toLongArray());
+  }
+
+  /**
+   * Pins upper levels of the tree once the atomic operation which created the tree or added pages
+   * to its upper levels is committed.
+   */
+  private void pinUpperLevelsOnCommit(final AtomicOperation atomicOperation) {
+    atomicOperation.addCommitAction(
+        () -> {
+          try {
+            pinUpperLevels();
+          } catch (final IOException | RuntimeException e) {
+            LogManager.instance().warn(this, "Can not pin pages of tree %s", e, getName());
+          }
+        });
+  }
+
   public void load(
       final String name,
       final int keySize,
@@ -421,6 +539,7 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
 
       fileId = openFile(atomicOperation, getFullName());
       nullBucketFileId = openFile(atomicOperation, name + nullFileExtension);
+      pinUpperLevels();
 
       this.keySize = keySize;
       this.keyTypes = keyTypes;
@@ -466,7 +585,15 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
         operation -> {
           acquireExclusiveLock();
           try {
+            // removal may merge buckets and return them to the free list
+            lastUpdatePath = null;
+
             if (key != null) {
+              if (bloomFilterReady
+                  && isFilteredOut(keySerializer.preprocess(key, (Object[]) keyTypes))) {
+                return null;
+              }
+
               final RID removedValue;
 
               final Optional<RemoveSearchResult> bucketSearchResult =
@@ -1107,6 +1234,114 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
     atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
   }
 
+  /**
+   * Enables Bloom filter which allows to skip search of absent keys in the tree. Filter is kept in
+   * direct memory and is built from the keys of the tree in background, keys which are added
+   * concurrently with the build are added to the filter by the writers. Filter is used for lookups
+   * only after all keys of the tree are added.
+   *
+   * <p>Filter is sized for the bigger of passed in capacity and doubled current size of the tree.
+   * If amount of added keys exceeds the capacity four times, filter is disabled because most of
+   * its bits are set, and is sized again when tree is opened next time.
+   */
+  @Override
+  public Future<?> enableBloomFilter(final long capacity, final int bitsPerKey) {
+    final long treeSize = size();
+
+    final BlockedBloomFilter filter;
+    acquireExclusiveLock();
+    try {
+      if (bloomFilter != null) {
+        return CompletableFuture.completedFuture(null);
+      }
+
+      filter = new BlockedBloomFilter(Math.max(capacity, 2 * treeSize), bitsPerKey);
+
+      final var metrics = YouTrackDBEnginesManager.instance().getMetricsRegistry();
+      bloomFilterNegatives =
+          metrics.fileMetric(
+              CoreMetrics.FILE_BLOOM_FILTER_NEGATIVES, storage.getName(), getFullName());
+      bloomFilterFalsePositives =
+          metrics.fileMetric(
+              CoreMetrics.FILE_BLOOM_FILTER_FALSE_POSITIVES, storage.getName(), getFullName());
+
+      bloomFilter = filter;
+    } finally {
+      releaseExclusiveLock();
+    }
+
+    return bloomFilterExecutor.submit(() -> buildBloomFilter(filter));
+  }
+
+  private void buildBloomFilter(final BlockedBloomFilter filter) {
+    try (final Stream<K> keys = keyStream()) {
+      final Iterator<K> iterator = keys.iterator();
+      while (iterator.hasNext()) {
+        final long hash =
+            BlockedBloomFilter.hash(
+                keySerializer.serializeNativeAsWhole(iterator.next(), (Object[]) keyTypes));
+        // memory of the filter is released if tree is closed in the meantime
+        acquireSharedLock();
+        try {
+          if (bloomFilter != filter) {
+            return;
+          }
+
+          filter.add(hash);
+        } finally {
+          releaseSharedLock();
+        }
+      }
+    } catch (final RuntimeException e) {
+      if (bloomFilter == filter) {
+        LogManager.instance()
+            .error(this, "Error during build of Bloom filter of index %s", e, getName());
+      }
+      return;
+    }
+
+    acquireExclusiveLock();
+    try {
+      bloomFilterReady = bloomFilter == filter;
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  private boolean isFilteredOut(final K key) {
+    final BlockedBloomFilter filter = bloomFilter;
+    if (filter.getKeys() > 4 * filter.getCapacity()) {
+      bloomFilterReady = false;
+      LogManager.instance()
+          .warn(
+              this,
+              "Bloom filter of index %s is disabled because it contains %d keys but was sized for"
+                  + " %d keys, it will be sized again when index is opened",
+              getName(),
+              filter.getKeys(),
+              filter.getCapacity());
+      return false;
+    }
+
+    if (filter.mightContain(
+        BlockedBloomFilter.hash(keySerializer.serializeNativeAsWhole(key, (Object[]) keyTypes)))) {
+      return false;
+    }
+
+    bloomFilterNegatives.increment();
+    bloomFilterFalsePositives.record(false);
+    return true;
+  }
+
+  private void freeBloomFilter() {
+    final BlockedBloomFilter filter = bloomFilter;
+    if (filter != null) {
+      bloomFilterReady = false;
+      bloomFilter = null;
+      filter.free();
+    }
+  }
+
   private void updateSize(final long diffSize, final AtomicOperation atomicOperation)
       throws IOException {
     try (final CacheEntry entryPointCacheEntry =
@@ -1422,6 +1657,12 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
       throw new CellBTreeSingleValueV3Exception("Right part of bucket is empty", this);
     }
 
+    if (entryToSplit.getPageIndex() == ROOT_INDEX
+        || path.getLong(path.size() - 2) == ROOT_INDEX) {
+      // new page is added to the upper levels of the tree
+      pinUpperLevelsOnCommit(atomicOperation);
+    }
+
     if (entryToSplit.getPageIndex() != ROOT_INDEX) {
       return splitNonRootBucket(
           path,
@@ -1766,6 +2007,64 @@ public final class CellBTreeSingleValueV3<K> extends DurableComponent
     }
   }
 
+  /**
+   * Keys are applied to the tree in sorted order during commit of the transaction, so the next key
+   * often belongs to the same leaf bucket as the previous one. In such case path to this leaf is
+   * reused instead of the descent from the root. Path is valid only inside of the atomic operation
+   * which found it, because the component is locked till the end of the operation, and only till
+   * the first split or removal.
+   */
+  private UpdateBucketSearchResult findBucketForUpdate(
+      final K key, final AtomicOperation atomicOperation, final boolean reuseLastPath)
+      throws IOException {
+    final UpdateBucketSearchResult lastPath = lastUpdatePath;
+    if (reuseLastPath
+        && lastPath != null
+        && lastUpdateOperationId == atomicOperation.getOperationUnitId()) {
+      try (final CacheEntry bucketEntry =
+          loadPageForRead(atomicOperation, fileId, lastPath.getLastPathItem())) {
+        final CellBTreeSingleValueBucketV3<K> keyBucket =
+            new CellBTreeSingleValueBucketV3<>(bucketEntry);
+        final int index = keyBucket.find(key, keySerializer);
+
+        if (isKeyOfLeaf(keyBucket, index)) {
+          final IntArrayList itemIndexes = new IntArrayList(lastPath.getInsertionIndexes());
+          itemIndexes.set(itemIndexes.size() - 1, index);
+          return new UpdateBucketSearchResult(
+              itemIndexes, new LongArrayList(lastPath.getPath()), index);
+        }
+      }
+    }
+
+    return findBucketForUpdate(key, atomicOperation);
+  }
+
+  /**
+   * @return <code>true</code> if key with given search index inside of the bucket can be only
+   * inside of this bucket: it is found, or it is placed between keys of the leaf or after the last
+   * key of the rightmost leaf or before the first key of the leftmost leaf.
+   */
+  private static boolean isKeyOfLeaf(
+      final CellBTreeSingleValueBucketV3<?> bucket, final int index) {
+    if (!bucket.isLeaf()) {
+      return false;
+    }
+
+    if (index >= 0) {
+      return true;
+    }
+
+    final int insertionIndex = -index - 1;
+    return (insertionIndex > 0 || bucket.getLeftSibling() < 0)
+        && (insertionIndex < bucket.size() || bucket.getRightSibling() < 0);
+  }
+
+  private void rememberUpdatePath(
+      final AtomicOperation atomicOperation, final UpdateBucketSearchResult path) {
+    lastUpdatePath = path;
+    lastUpdateOperationId = atomicOperation.getOperationUnitId();
+  }
+
   private UpdateBucketSearchResult findBucketForUpdate(
       final K key, final AtomicOperation atomicOperation) throws IOException {
     long pageIndex = ROOT_INDEX;
@@ -145,6 +145,13 @@ public class FrontendTransactionIndexChangesPerKey {
     }
   }
 
+  /**
+   * @return Changes of the key in the order in which they were made, changes are not interpreted.
+   */
+  List<TransactionIndexEntry> getEntries() {
+    return entries;
+  }
+
   @Override
   public String toString() {
     final StringBuilder builder = new StringBuilder(64);
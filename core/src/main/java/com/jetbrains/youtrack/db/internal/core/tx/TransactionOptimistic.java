@@ -21,10 +21,12 @@
 package com.jetbrains.youtrack.db.internal.core.tx;
 
 import com.jetbrains.youtrack.db.api.DatabaseSession;
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
 import com.jetbrains.youtrack.db.api.exception.BaseException;
 import com.jetbrains.youtrack.db.api.exception.DatabaseException;
 import com.jetbrains.youtrack.db.api.exception.RecordNotFoundException;
 import com.jetbrains.youtrack.db.api.exception.TransactionException;
+import com.jetbrains.youtrack.db.api.exception.ValidationException;
 import com.jetbrains.youtrack.db.api.record.DBRecord;
 import com.jetbrains.youtrack.db.api.record.Identifiable;
 import com.jetbrains.youtrack.db.api.record.RID;
@@ -32,9 +34,14 @@ import com.jetbrains.youtrack.db.api.record.RecordHook.TYPE;
 import com.jetbrains.youtrack.db.api.schema.PropertyType;
 import com.jetbrains.youtrack.db.api.schema.SchemaClass;
 import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
 import com.jetbrains.youtrack.db.internal.core.cache.LocalRecordCache;
+import com.jetbrains.youtrack.db.internal.core.cache.RIDsWeakValuesHashMap;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.db.record.LinkList;
+import com.jetbrains.youtrack.db.internal.core.db.record.LinkMap;
 import com.jetbrains.youtrack.db.internal.core.db.record.RecordOperation;
+import com.jetbrains.youtrack.db.internal.core.db.record.ridbag.RidBag;
 import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
 import com.jetbrains.youtrack.db.internal.core.id.ChangeableIdentity;
 import com.jetbrains.youtrack.db.internal.core.id.RecordId;
@@ -53,6 +60,7 @@ import com.jetbrains.youtrack.db.internal.core.record.impl.DirtyManager;
 import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
 import com.jetbrains.youtrack.db.internal.core.record.impl.EntityInternalUtils;
 import com.jetbrains.youtrack.db.internal.core.schedule.ScheduledEvent;
+import com.jetbrains.youtrack.db.internal.core.serialization.serializer.record.RecordSerializer;
 import com.jetbrains.youtrack.db.internal.core.storage.Storage;
 import com.jetbrains.youtrack.db.internal.core.storage.StorageProxy;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
@@ -71,6 +79,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -102,6 +111,20 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
   protected int txStartCounter;
   private boolean sentToServer = false;
 
+  @Nullable
+  private TransactionSpillFile spillFile;
+  private int spillThreshold;
+  private int nextSpillSize;
+  private int indexChangesCount;
+  private int nextIndexChangesSpillSize;
+
+  /**
+   * Spilled records which may be still referenced by the application, they are registered in the
+   * transaction again instead of being read from the spill file.
+   */
+  private final RIDsWeakValuesHashMap<RecordAbstract> spilledRecords =
+      new RIDsWeakValuesHashMap<>();
+
   public TransactionOptimistic(final DatabaseSessionInternal iDatabase) {
     super(iDatabase);
     this.id = txSerial.incrementAndGet();
@@ -126,6 +149,14 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
       var localCache = database.getLocalCache();
       localCache.unloadNotModifiedRecords();
       localCache.clear();
+
+      if (!database.isRemote()) {
+        spillThreshold =
+            database.getConfiguration()
+                .getValueAsInteger(GlobalConfiguration.TX_SPILL_THRESHOLD);
+        nextSpillSize = spillThreshold;
+        nextIndexChangesSpillSize = spillThreshold;
+      }
     } else {
       if (status == TXSTATUS.ROLLED_BACK || status == TXSTATUS.ROLLBACKING) {
         throw new RollbackException(
@@ -258,6 +289,10 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
   public void clearIndexEntries() {
     indexEntries.clear();
     recordIndexOperations.clear();
+    indexChangesCount = 0;
+    if (spillFile != null) {
+      spillFile.removeIndexChanges();
+    }
   }
 
   public List<String> getInvolvedIndexes() {
@@ -272,6 +307,11 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
   }
 
   public EntityImpl getIndexChanges() {
+    if (spillFile != null) {
+      for (final String indexName : indexEntries.keySet()) {
+        loadSpilledIndexChanges(indexName);
+      }
+    }
 
     final EntityImpl result = new EntityImpl().setAllowChainedAccess(false)
         .setTrackingChanges(false);
@@ -314,6 +354,46 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
     return getIndexChanges(indexName);
   }
 
+  /**
+   * Reads changes of the index which were moved to the {@link TransactionSpillFile} back into the
+   * heap, so they are visible for the queries made inside of the transaction.
+   */
+  public void loadSpilledIndexChanges(final String indexName) {
+    if (spillFile == null || !spillFile.hasIndexChanges(indexName)) {
+      return;
+    }
+
+    final FrontendTransactionIndexChanges changes = indexEntries.get(indexName);
+    for (final Iterator<FrontendTransactionIndexChangesPerKey> iterator =
+        spillFile.indexChanges(indexName, null);
+        iterator.hasNext(); ) {
+      final FrontendTransactionIndexChangesPerKey spilled = iterator.next();
+      final FrontendTransactionIndexChangesPerKey heap =
+          changes.changesPerKey.put(spilled.key, spilled);
+      if (heap != null) {
+        // changes kept in heap were made after the spilled ones
+        for (final TransactionIndexEntry entry : heap.getEntries()) {
+          spilled.add(entry.getValue(), entry.getOperation());
+        }
+      }
+      indexChangesCount++;
+    }
+    spillFile.removeIndexChanges(indexName);
+  }
+
+  /**
+   * @return Changes of the index sorted by key, changes moved to the {@link TransactionSpillFile}
+   * are merged with the changes kept in the heap, so they are read from the file one by one.
+   */
+  public Iterator<FrontendTransactionIndexChangesPerKey> getSortedIndexChanges(
+      final String indexName, final FrontendTransactionIndexChanges changes) {
+    if (spillFile == null) {
+      return changes.changesPerKey.values().iterator();
+    }
+
+    return spillFile.indexChanges(indexName, changes.changesPerKey.values());
+  }
+
   public void addIndexEntry(
       final Index delegate,
       final String iIndexName,
@@ -334,7 +414,12 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
 
       if (iOperation == OPERATION.CLEAR) {
         indexEntry.setCleared();
+        if (spillFile != null) {
+          spillFile.removeIndexChanges(iIndexName);
+        }
       } else {
+        spillIndexChangesIfNeeded();
+
         FrontendTransactionIndexChangesPerKey changes = indexEntry.getChangesPerKey(key);
         changes.add(iValue, iOperation);
 
@@ -370,9 +455,60 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
    * Buffer sizes index changes to be flushed at commit time.
    */
   public FrontendTransactionIndexChanges getIndexChanges(final String iIndexName) {
+    if (spillFile != null && status == TXSTATUS.BEGUN) {
+      loadSpilledIndexChanges(iIndexName);
+    }
     return indexEntries.get(iIndexName);
   }
 
+  /**
+   * Moves changes of the indexes to the {@link TransactionSpillFile} once amount of index changes
+   * kept in the heap reaches {@link GlobalConfiguration#TX_SPILL_THRESHOLD}. Changes of the keys
+   * which contain temporary ids of new records are kept in the heap.
+   */
+  private void spillIndexChangesIfNeeded() {
+    if (spillThreshold <= 0
+        || status != TXSTATUS.BEGUN
+        || ++indexChangesCount < nextIndexChangesSpillSize) {
+      return;
+    }
+
+    int heapChanges = 0;
+    try {
+      if (spillFile == null) {
+        spillFile = new TransactionSpillFile();
+      }
+
+      for (final Entry<String, FrontendTransactionIndexChanges> entry : indexEntries.entrySet()) {
+        final FrontendTransactionIndexChanges indexChanges = entry.getValue();
+        final List<FrontendTransactionIndexChangesPerKey> spilled = new ArrayList<>();
+        for (final Iterator<FrontendTransactionIndexChangesPerKey> iterator =
+            indexChanges.changesPerKey.values().iterator();
+            iterator.hasNext(); ) {
+          final FrontendTransactionIndexChangesPerKey keyChanges = iterator.next();
+          if (TransactionSpillFile.isSpillable(keyChanges)) {
+            spilled.add(keyChanges);
+            iterator.remove();
+          } else {
+            heapChanges++;
+          }
+        }
+
+        spillFile.writeIndexChanges(entry.getKey(), spilled);
+      }
+    } catch (IOException e) {
+      throw BaseException.wrapException(
+          new DatabaseException("Error during writing of index changes to transaction spill file"),
+          e);
+    }
+
+    // operations are tracked only to update temporary ids of new records after commit
+    recordIndexOperations.keySet().removeIf(RID::isPersistent);
+
+    indexChangesCount = heapChanges;
+    nextIndexChangesSpillSize = Math.max(spillThreshold, 2 * heapChanges);
+  }
+
   @Override
   public int amountOfNestedTxs() {
     return txStartCounter;
@@ -615,6 +751,8 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
                 : RecordOperation.CREATED;
         addRecord(passedRecord, operation, clusterName);
       }
+
+      spillRecordsIfNeeded(passedRecord);
       return passedRecord;
     } catch (Exception e) {
       rollback(true, 0);
@@ -777,9 +915,13 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
     }
 
     try {
+      registerSpilledRecords();
       status = TXSTATUS.COMMITTING;
 
-      if (sentToServer || !recordOperations.isEmpty() || !indexEntries.isEmpty()) {
+      if (sentToServer
+          || !recordOperations.isEmpty()
+          || !indexEntries.isEmpty()
+          || (spillFile != null && spillFile.size() > 0)) {
         database.internalCommit(this);
         database.transactionMeters()
             .writeTransactions()
@@ -823,6 +965,16 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
       }
     }
 
+    spilledRecords.forEach(
+        (rid, record) -> {
+          if (record instanceof EntityImpl entity) {
+            EntityInternalUtils.clearTransactionTrackData(entity);
+          }
+
+          RecordInternal.unsetDirty(record);
+          record.unload();
+        });
+
     dbCache.unloadRecords();
     dbCache.clear();
 
@@ -836,6 +988,13 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
     indexEntries.clear();
     recordIndexOperations.clear();
 
+    if (spillFile != null) {
+      spillFile.close();
+      spillFile = null;
+    }
+    spilledRecords.clear();
+    indexChangesCount = 0;
+
     newRecordsPositionsGenerator = -2;
 
     database.setDefaultTransactionMode();
@@ -1137,7 +1296,7 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
 
   @Override
   public int getEntryCount() {
-    return recordOperations.size();
+    return recordOperations.size() + (spillFile != null ? spillFile.size() : 0);
   }
 
   public Collection<RecordOperation> getCurrentRecordEntries() {
@@ -1157,9 +1316,242 @@ public class TransactionOptimistic extends FrontendTransactionAbstract implement
         rid = txGeneratedRealRecordIdMap.get(rid);
       }
     } while (entry == null && rid != null && !rid.equals(ridPar));
+
+    if (entry == null
+        && spillFile != null
+        && status == TXSTATUS.BEGUN
+        && ridPar instanceof RecordId recordId
+        && recordId.isPersistent()) {
+      final RecordAbstract record = spilledRecords.remove(recordId);
+      entry = record != null ? registerSpilledRecord(record) : loadSpilledRecord(recordId);
+    }
     return entry;
   }
 
+  /**
+   * @return File to which updated records were moved from the heap or <code>null</code> if
+   * records were not moved.
+   */
+  @Nullable
+  public TransactionSpillFile getSpillFile() {
+    return spillFile;
+  }
+
+  /**
+   * Moves updated entities to the {@link TransactionSpillFile} once amount of records changed by
+   * the transaction reaches {@link GlobalConfiguration#TX_SPILL_THRESHOLD}. Moved entities are
+   * only weakly referenced by the transaction, so entities which are still used by the application
+   * stay loaded and are registered in the transaction again when they are accessed or committed.
+   * Entities collected by GC are read back from the file if they are loaded again inside of the
+   * transaction and are read from the file one by one during and after commit, see
+   * {@link #forEachSpilledRecord(Consumer)}.
+   *
+   * <p>Only updates of persistent entities are moved. New and deleted records, entities with link
+   * bags, which are written to their own components during serialization, entities which link to
+   * new records, whose ids are changed during commit, and entities of classes which are processed
+   * after commit, like functions, sequences and scheduled events, are always kept in the heap.
+   */
+  private void spillRecordsIfNeeded(final RecordAbstract savedRecord) {
+    if (spillThreshold <= 0
+        || status != TXSTATUS.BEGUN
+        || recordOperations.size() < nextSpillSize) {
+      return;
+    }
+
+    final LocalRecordCache localCache = database.getLocalCache();
+    final RecordSerializer serializer = database.getSerializer();
+    try {
+      if (spillFile == null) {
+        spillFile = new TransactionSpillFile();
+      }
+
+      for (final Iterator<RecordOperation> iterator = recordOperations.values().iterator();
+          iterator.hasNext(); ) {
+        final RecordOperation operation = iterator.next();
+        if (operation.type != RecordOperation.UPDATED
+            || operation.record == savedRecord
+            || !(operation.record instanceof EntityImpl entity)
+            || !isSpillable(entity)) {
+          continue;
+        }
+
+        final RecordId rid = entity.getIdentity();
+        if (!spillFile.write(
+            rid,
+            entity.getVersion(),
+            RecordInternal.getRecordType(entity),
+            serializer.toStream(database, entity))) {
+          break;
+        }
+
+        iterator.remove();
+        localCache.deleteRecord(rid);
+        spilledRecords.put(rid.copy(), entity);
+      }
+    } catch (IOException e) {
+      throw BaseException.wrapException(
+          new DatabaseException("Error during writing of records to transaction spill file"), e);
+    }
+
+    nextSpillSize = Math.max(spillThreshold, 2 * recordOperations.size());
+  }
+
+  private static boolean isSpillable(final EntityImpl entity) {
+    if (!entity.isDirty() || entity.isEmbedded() || !entity.getIdentity().isPersistent()) {
+      return false;
+    }
+
+    // changes of these classes are processed after commit
+    final SchemaImmutableClass clazz = EntityInternalUtils.getImmutableSchemaClass(entity);
+    if (clazz == null || clazz.isFunction() || clazz.isScheduler() || clazz.isSequence()) {
+      return false;
+    }
+
+    for (final Object value : entity.fieldValues()) {
+      // tree based link bags are written to their own components during serialization
+      if (value instanceof RidBag) {
+        return false;
+      }
+
+      // temporary ids of new records are changed on commit, but not inside of the spill file
+      if (containsTemporaryLinks(value)) {
+        return false;
+      }
+    }
+
+    try {
+      entity.validate();
+    } catch (ValidationException e) {
+      // invalid record is reported during commit
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean containsTemporaryLinks(final Object value) {
+    if (value instanceof EntityImpl entity && entity.isEmbedded()) {
+      for (final Object fieldValue : entity.fieldValues()) {
+        if (containsTemporaryLinks(fieldValue)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    if (value instanceof Identifiable identifiable) {
+      return !identifiable.getIdentity().isPersistent();
+    }
+
+    final Iterator<?> iterator;
+    if (value instanceof LinkList linkList) {
+      iterator = linkList.rawIterator();
+    } else if (value instanceof LinkMap linkMap) {
+      iterator = linkMap.rawIterator();
+    } else if (value instanceof Map<?, ?> map) {
+      iterator = map.values().iterator();
+    } else if (value instanceof Collection<?> collection) {
+      iterator = collection.iterator();
+    } else {
+      return false;
+    }
+
+    while (iterator.hasNext()) {
+      if (containsTemporaryLinks(iterator.next())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Registers spilled record which is still loaded in the transaction again, content of the record
+   * in the spill file is outdated in such case.
+   */
+  private RecordOperation registerSpilledRecord(final RecordAbstract record) {
+    final RecordId rid = record.getIdentity();
+    spillFile.remove(rid);
+
+    final RecordOperation operation = new RecordOperation(record, RecordOperation.UPDATED);
+    recordOperations.put(rid.copy(), operation);
+    return operation;
+  }
+
+  private void registerSpilledRecords() {
+    if (spilledRecords.isEmpty()) {
+      return;
+    }
+
+    for (final Entry<RID, RecordAbstract> entry : spilledRecords.entrySet()) {
+      registerSpilledRecord(entry.getValue());
+    }
+    spilledRecords.clear();
+  }
+
+  @Nullable
+  private RecordOperation loadSpilledRecord(final RecordId rid) {
+    final TransactionSpillFile.Entry spilled;
+    try {
+      spilled = spillFile.read(rid);
+    } catch (IOException e) {
+      throw BaseException.wrapException(
+          new DatabaseException("Error during reading of record " + rid
+              + " from transaction spill file"), e);
+    }
+
+    if (spilled == null) {
+      return null;
+    }
+    spillFile.remove(rid);
+
+    final RecordOperation operation =
+        new RecordOperation(toRecord(spilled), RecordOperation.UPDATED);
+    recordOperations.put(spilled.rid().copy(), operation);
+    return operation;
+  }
+
+  /**
+   * Passes records which were moved to the {@link TransactionSpillFile} and were not loaded again
+   * to the consumer one by one, so such records are committed and processed after commit the same
+   * way as records kept in the heap, but all of them are not loaded into the heap at once. Record
+   * passed to the consumer is not registered in the transaction.
+   */
+  public void forEachSpilledRecord(final Consumer<RecordOperation> consumer) {
+    if (spillFile == null || spillFile.size() == 0) {
+      return;
+    }
+
+    try {
+      for (final Iterator<TransactionSpillFile.Entry> entries = spillFile.entries();
+          entries.hasNext(); ) {
+        final TransactionSpillFile.Entry entry = entries.next();
+        final RecordAbstract record = toRecord(entry);
+        consumer.accept(new RecordOperation(record, RecordOperation.UPDATED));
+
+        if (record.getVersion() != entry.version()) {
+          // version of the committed record is used once records are processed after commit
+          spillFile.updateVersion(entry.rid(), record.getVersion());
+        }
+      }
+    } catch (IOException e) {
+      throw BaseException.wrapException(
+          new DatabaseException("Error during reading of records from transaction spill file"), e);
+    }
+  }
+
+  private RecordAbstract toRecord(final TransactionSpillFile.Entry spilled) {
+    final RecordAbstract record =
+        YouTrackDBEnginesManager.instance()
+            .getRecordFactoryManager()
+            .newInstance(spilled.recordType(), spilled.rid(), database);
+    RecordInternal.unsetDirty(record);
+    RecordInternal.setRecordSerializer(record, database.getSerializer());
+    RecordInternal.fill(
+        record, spilled.rid(), spilled.version(), spilled.content(), false, database);
+    RecordInternal.fromStream(record, spilled.content(), database);
+    record.setDirty();
+    return record;
+  }
+
   public Map<RecordId, RecordId> getTxGeneratedRealRecordIdMap() {
     return txGeneratedRealRecordIdMap;
   }
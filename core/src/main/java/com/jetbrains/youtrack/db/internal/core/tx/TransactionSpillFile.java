@@ -0,0 +1,708 @@
+package com.jetbrains.youtrack.db.internal.core.tx;
+
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.api.record.Identifiable;
+import com.jetbrains.youtrack.db.internal.common.comparator.DefaultComparator;
+import com.jetbrains.youtrack.db.internal.common.log.LogManager;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.index.CompositeKey;
+import com.jetbrains.youtrack.db.internal.core.serialization.serializer.binary.impl.index.CompositeKeySerializer;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChanges.OPERATION;
+import com.jetbrains.youtrack.db.internal.core.tx.FrontendTransactionIndexChangesPerKey.TransactionIndexEntry;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import javax.annotation.Nullable;
+
+/**
+ * Temporary file to which {@link TransactionOptimistic} moves updated records once amount of
+ * records changed by the transaction exceeds {@link GlobalConfiguration#TX_SPILL_THRESHOLD}, so
+ * transaction which changes millions of records does not keep all of them in heap.
+ *
+ * <p>Serialized records are appended to the data file. Offset of the last written copy of each
+ * record is kept in the open addressing hash table which is mapped from the second file, so
+ * neither content of the records nor their index occupy heap. Records are read back either when
+ * they are loaded again inside of the transaction or, sequentially, during commit.
+ *
+ * <p>Changes of indexes are moved to the third file as sorted runs of keys, one run per index each
+ * time changes are moved. Runs are merged with changes kept in heap once changes are applied to
+ * the index during commit, or are read back into the heap once the index is queried inside of the
+ * transaction.
+ *
+ * <p>File is used by the single thread which owns the transaction.
+ */
+public final class TransactionSpillFile implements AutoCloseable {
+
+  /**
+   * Cluster id, cluster position, version, record type and length of the content.
+   */
+  private static final int ENTRY_HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES + 1 + Integer.BYTES;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final int SLOT_SIZE = 2 * Long.BYTES;
+  private static final int MIN_SLOTS = 1 << 16;
+  private static final int MAX_SLOTS = 1 << 26;
+
+  private static final long EMPTY_KEY = 0;
+  private static final long REMOVED_OFFSET = -1;
+
+  /**
+   * Data of the record read from the file.
+   */
+  public record Entry(RecordId rid, int version, byte recordType, byte[] content) {
+
+  }
+
+  private final Path dataPath;
+  private final FileChannel dataChannel;
+  private final ByteBuffer writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private long dataSize;
+  private long flushedSize;
+
+  private Path indexPath;
+  private FileChannel indexChannel;
+  private MappedByteBuffer index;
+  private int slots;
+  private int usedSlots;
+  private int size;
+
+  private final IntOpenHashSet clusterIds = new IntOpenHashSet();
+
+  private Path indexChangesPath;
+  private FileChannel indexChangesChannel;
+  private DataOutputStream indexChangesOutput;
+  private long indexChangesSize;
+
+  /**
+   * Offsets and amount of keys of the runs of the changes of each index in the order of writing.
+   */
+  private final Map<String, List<long[]>> indexChangesRuns = new HashMap<>();
+
+  public TransactionSpillFile() throws IOException {
+    dataPath = Files.createTempFile("youtrackdb-tx", ".spill");
+    try {
+      dataChannel =
+          FileChannel.open(dataPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      mapIndex(MIN_SLOTS);
+    } catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Appends record to the file, previously written copy of the record is replaced.
+   *
+   * @return <code>false</code> if index of the file is full and record was not written.
+   */
+  public boolean write(final RecordId rid, final int version, final byte recordType,
+      final byte[] content) throws IOException {
+    final long key = key(rid);
+    if (usedSlots + 1 > slots / 2) {
+      if (slots == MAX_SLOTS) {
+        if (findSlot(key) < 0) {
+          return false;
+        }
+      } else {
+        rehash(slots * 2);
+      }
+    }
+
+    final long offset = dataSize;
+    if (writeBuffer.remaining() < ENTRY_HEADER_SIZE) {
+      flush();
+    }
+    writeBuffer.putInt(rid.getClusterId());
+    writeBuffer.putLong(rid.getClusterPosition());
+    writeBuffer.putInt(version);
+    writeBuffer.put(recordType);
+    writeBuffer.putInt(content.length);
+
+    if (content.length > writeBuffer.remaining()) {
+      flush();
+      if (content.length > writeBuffer.capacity()) {
+        writeFully(ByteBuffer.wrap(content));
+      } else {
+        writeBuffer.put(content);
+      }
+    } else {
+      writeBuffer.put(content);
+    }
+    dataSize += ENTRY_HEADER_SIZE + content.length;
+
+    putOffset(key, offset);
+    clusterIds.add(rid.getClusterId());
+    return true;
+  }
+
+  /**
+   * @return Last written copy of the record or <code>null</code> if record is absent.
+   */
+  @Nullable
+  public Entry read(final RecordId rid) throws IOException {
+    final long offset = getOffset(key(rid));
+    if (offset < 0) {
+      return null;
+    }
+
+    flush();
+
+    final ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_SIZE);
+    readFully(header, offset);
+    header.flip();
+
+    final int clusterId = header.getInt();
+    final long clusterPosition = header.getLong();
+    final int version = header.getInt();
+    final byte recordType = header.get();
+    final byte[] content = new byte[header.getInt()];
+    readFully(ByteBuffer.wrap(content), offset + ENTRY_HEADER_SIZE);
+
+    return new Entry(new RecordId(clusterId, clusterPosition), version, recordType, content);
+  }
+
+  public boolean contains(final RecordId rid) {
+    return getOffset(key(rid)) >= 0;
+  }
+
+  /**
+   * Updates version of the last written copy of the record, record is updated in place, so it may
+   * be called for the record which was just returned by the iterator of {@link #entries()}.
+   */
+  public void updateVersion(final RecordId rid, final int version) throws IOException {
+    final long offset = getOffset(key(rid));
+    if (offset < 0) {
+      return;
+    }
+
+    flush();
+
+    final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+    buffer.putInt(version);
+    buffer.flip();
+
+    long position = offset + Integer.BYTES + Long.BYTES;
+    while (buffer.hasRemaining()) {
+      position += dataChannel.write(buffer, position);
+    }
+  }
+
+  /**
+   * Removes record from the index, so it is not read back any more. Content of the record stays in
+   * the data file till the file is closed.
+   */
+  public void remove(final RecordId rid) {
+    final int slot = findSlot(key(rid));
+    if (slot >= 0 && index.getLong(slot * SLOT_SIZE + Long.BYTES) >= 0) {
+      index.putLong(slot * SLOT_SIZE + Long.BYTES, REMOVED_OFFSET);
+      size--;
+    }
+  }
+
+  /**
+   * @return Amount of records contained in the file.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return Ids of the clusters of the records which were written to the file.
+   */
+  public int[] getClusterIds() {
+    return clusterIds.toIntArray();
+  }
+
+  /**
+   * Reads last written copies of the records in the order of their writing. File should not be
+   * changed while records are iterated.
+   */
+  public Iterator<Entry> entries() throws IOException {
+    flush();
+    dataChannel.position(0);
+    final DataInputStream input =
+        new DataInputStream(
+            new BufferedInputStream(Channels.newInputStream(dataChannel), BUFFER_SIZE));
+
+    return new Iterator<>() {
+      private long offset;
+      private Entry next = readNext();
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public Entry next() {
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+
+        final Entry entry = next;
+        next = readNext();
+        return entry;
+      }
+
+      private Entry readNext() {
+        try {
+          while (offset < dataSize) {
+            final long entryOffset = offset;
+            final RecordId rid = new RecordId(input.readInt(), input.readLong());
+            final int version = input.readInt();
+            final byte recordType = input.readByte();
+            final int length = input.readInt();
+            offset += ENTRY_HEADER_SIZE + length;
+
+            if (getOffset(key(rid)) != entryOffset) {
+              // record was written again or removed later
+              input.skipNBytes(length);
+              continue;
+            }
+
+            final byte[] content = new byte[length];
+            input.readFully(content);
+            return new Entry(rid, version, recordType, content);
+          }
+          return null;
+        } catch (IOException e) {
+          throw new IllegalStateException("Error during reading of transaction spill file", e);
+        }
+      }
+    };
+  }
+
+  /**
+   * @return <code>true</code> if changes of the key may be moved to the file. Changes of the keys
+   * and values which contain temporary ids of new records are kept in heap because ids are changed
+   * during commit.
+   */
+  public static boolean isSpillable(final FrontendTransactionIndexChangesPerKey changes) {
+    if (changes.key == null || !isSpillableKey(changes.key)) {
+      return false;
+    }
+
+    for (final TransactionIndexEntry entry : changes.getEntries()) {
+      if (entry.getValue() != null && !entry.getValue().getIdentity().isPersistent()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSpillableKey(final Object key) {
+    final List<?> keys = key instanceof CompositeKey compositeKey
+        ? compositeKey.getKeys() : List.of(key);
+    for (final Object component : keys) {
+      if (component instanceof Identifiable identifiable
+          && !identifiable.getIdentity().isPersistent()) {
+        return false;
+      }
+    }
+    return CompositeKeySerializer.isIndexKeySerializable(key);
+  }
+
+  /**
+   * Appends changes of the index as the new run, changes should be sorted by key and should be
+   * accepted by {@link #isSpillable(FrontendTransactionIndexChangesPerKey)}.
+   */
+  public void writeIndexChanges(
+      final String indexName, final Collection<FrontendTransactionIndexChangesPerKey> changes)
+      throws IOException {
+    if (changes.isEmpty()) {
+      return;
+    }
+
+    if (indexChangesChannel == null) {
+      indexChangesPath = Files.createTempFile("youtrackdb-tx", ".spill.keys");
+      indexChangesChannel =
+          FileChannel.open(indexChangesPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      indexChangesOutput =
+          new DataOutputStream(
+              new BufferedOutputStream(Channels.newOutputStream(indexChangesChannel), BUFFER_SIZE));
+    }
+
+    final long offset = indexChangesSize;
+    for (final FrontendTransactionIndexChangesPerKey keyChanges : changes) {
+      final byte[] key = CompositeKeySerializer.serializeIndexKey(keyChanges.key);
+      indexChangesOutput.writeInt(key.length);
+      indexChangesOutput.write(key);
+
+      final List<TransactionIndexEntry> entries = keyChanges.getEntries();
+      indexChangesOutput.writeInt(entries.size());
+      for (final TransactionIndexEntry entry : entries) {
+        indexChangesOutput.writeByte(entry.getOperation().ordinal());
+        if (entry.getValue() == null) {
+          indexChangesOutput.writeBoolean(false);
+        } else {
+          indexChangesOutput.writeBoolean(true);
+          indexChangesOutput.writeInt(entry.getValue().getIdentity().getClusterId());
+          indexChangesOutput.writeLong(entry.getValue().getIdentity().getClusterPosition());
+        }
+      }
+    }
+    indexChangesOutput.flush();
+    indexChangesSize = indexChangesChannel.position();
+
+    indexChangesRuns
+        .computeIfAbsent(indexName, name -> new ArrayList<>())
+        .add(new long[]{offset, changes.size()});
+  }
+
+  /**
+   * @return <code>true</code> if changes of the index were moved to the file.
+   */
+  public boolean hasIndexChanges(final String indexName) {
+    return indexChangesRuns.containsKey(indexName);
+  }
+
+  /**
+   * Removes changes of the index from the file, for example, because index is cleared by the
+   * transaction.
+   */
+  public void removeIndexChanges(final String indexName) {
+    indexChangesRuns.remove(indexName);
+  }
+
+  public void removeIndexChanges() {
+    indexChangesRuns.clear();
+  }
+
+  /**
+   * Merges changes of the index moved to the file with changes kept in heap. Keys are returned in
+   * ascending order, changes of the same key moved to the file at different times are combined in
+   * the order in which they were made, changes kept in heap are the latest ones.
+   *
+   * @param heapChanges Changes of the index kept in heap sorted by key or <code>null</code> if
+   *                    only changes moved to the file are read.
+   */
+  public Iterator<FrontendTransactionIndexChangesPerKey> indexChanges(
+      final String indexName,
+      @Nullable final Collection<FrontendTransactionIndexChangesPerKey> heapChanges) {
+    final List<long[]> runs = indexChangesRuns.get(indexName);
+    if (runs == null) {
+      return heapChanges != null
+          ? heapChanges.iterator() : Collections.emptyIterator();
+    }
+
+    final List<Iterator<FrontendTransactionIndexChangesPerKey>> sources =
+        new ArrayList<>(runs.size() + 1);
+    for (final long[] run : runs) {
+      sources.add(new RunIterator(run[0], run[1]));
+    }
+    if (heapChanges != null) {
+      sources.add(heapChanges.iterator());
+    }
+
+    return new MergeIterator(sources);
+  }
+
+  /**
+   * Reads keys of single run, runs are read concurrently during merge, so data are read by
+   * position without changing of the position of the channel.
+   */
+  private final class RunIterator implements Iterator<FrontendTransactionIndexChangesPerKey> {
+
+    private final DataInputStream input;
+    private long remaining;
+
+    private RunIterator(final long offset, final long keys) {
+      this.remaining = keys;
+      this.input = new DataInputStream(new BufferedInputStream(new InputStream() {
+        private long position = offset;
+
+        @Override
+        public int read() throws IOException {
+          final byte[] data = new byte[1];
+          return read(data, 0, 1) < 0 ? -1 : data[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] data, final int off, final int len) throws IOException {
+          final int read = indexChangesChannel.read(ByteBuffer.wrap(data, off, len), position);
+          if (read > 0) {
+            position += read;
+          }
+          return read;
+        }
+      }, BUFFER_SIZE));
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public FrontendTransactionIndexChangesPerKey next() {
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      remaining--;
+
+      try {
+        final byte[] key = new byte[input.readInt()];
+        input.readFully(key);
+
+        final FrontendTransactionIndexChangesPerKey changes =
+            new FrontendTransactionIndexChangesPerKey(
+                CompositeKeySerializer.deserializeIndexKey(key));
+        final int entries = input.readInt();
+        final OPERATION[] operations = OPERATION.values();
+        for (int i = 0; i < entries; i++) {
+          final OPERATION operation = operations[input.readByte()];
+          RecordId value = null;
+          if (input.readBoolean()) {
+            value = new RecordId(input.readInt(), input.readLong());
+          }
+          changes.add(value, operation);
+        }
+        return changes;
+      } catch (IOException e) {
+        throw new IllegalStateException("Error during reading of transaction spill file", e);
+      }
+    }
+  }
+
+  /**
+   * Merges sorted sources of changes, sources are ordered from the oldest to the newest one.
+   */
+  private static final class MergeIterator
+      implements Iterator<FrontendTransactionIndexChangesPerKey> {
+
+    private record Head(FrontendTransactionIndexChangesPerKey changes, int source) {
+
+    }
+
+    private final List<Iterator<FrontendTransactionIndexChangesPerKey>> sources;
+    private final PriorityQueue<Head> heads =
+        new PriorityQueue<>(
+            (first, second) -> {
+              final int result =
+                  DefaultComparator.INSTANCE.compare(first.changes.key, second.changes.key);
+              if (result != 0) {
+                return result;
+              }
+              return Integer.compare(first.source, second.source);
+            });
+
+    private MergeIterator(final List<Iterator<FrontendTransactionIndexChangesPerKey>> sources) {
+      this.sources = sources;
+      for (int i = 0; i < sources.size(); i++) {
+        advance(i);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public FrontendTransactionIndexChangesPerKey next() {
+      final Head head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      advance(head.source);
+
+      // changes kept in heap are the newest ones, so they are never modified, only changes read
+      // from the file are combined with newer ones
+      final FrontendTransactionIndexChangesPerKey result = head.changes;
+      while (!heads.isEmpty()
+          && DefaultComparator.INSTANCE.compare(heads.peek().changes.key, result.key) == 0) {
+        final Head next = heads.poll();
+        advance(next.source);
+
+        for (final TransactionIndexEntry entry : next.changes.getEntries()) {
+          result.add(entry.getValue(), entry.getOperation());
+        }
+      }
+      return result;
+    }
+
+    private void advance(final int source) {
+      final Iterator<FrontendTransactionIndexChangesPerKey> iterator = sources.get(source);
+      if (iterator.hasNext()) {
+        heads.add(new Head(iterator.next(), source));
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    closeIndex();
+    indexChangesRuns.clear();
+    try {
+      if (indexChangesChannel != null) {
+        indexChangesChannel.close();
+      }
+    } catch (IOException e) {
+      LogManager.instance().warn(this, "Error during closing of transaction spill file", e);
+    }
+    if (indexChangesPath != null) {
+      deleteFile(indexChangesPath);
+    }
+
+    try {
+      if (dataChannel != null) {
+        dataChannel.close();
+      }
+    } catch (IOException e) {
+      LogManager.instance().warn(this, "Error during closing of transaction spill file", e);
+    }
+    deleteFile(dataPath);
+  }
+
+  private static long key(final RecordId rid) {
+    assert rid.isPersistent();
+    assert rid.getClusterPosition() < 1L << 48;
+    // cluster ids are shorts, so key is never empty
+    return ((long) (rid.getClusterId() + 1) << 48) | rid.getClusterPosition();
+  }
+
+  private long getOffset(final long key) {
+    final int slot = findSlot(key);
+    if (slot < 0) {
+      return REMOVED_OFFSET;
+    }
+    return index.getLong(slot * SLOT_SIZE + Long.BYTES);
+  }
+
+  private void putOffset(final long key, final long offset) {
+    int slot = (int) HashCommon.mix(key) & (slots - 1);
+    while (true) {
+      final long slotKey = index.getLong(slot * SLOT_SIZE);
+      if (slotKey == EMPTY_KEY) {
+        index.putLong(slot * SLOT_SIZE, key);
+        usedSlots++;
+        size++;
+        break;
+      }
+
+      if (slotKey == key) {
+        if (index.getLong(slot * SLOT_SIZE + Long.BYTES) < 0) {
+          size++;
+        }
+        break;
+      }
+      slot = (slot + 1) & (slots - 1);
+    }
+
+    index.putLong(slot * SLOT_SIZE + Long.BYTES, offset);
+  }
+
+  private int findSlot(final long key) {
+    int slot = (int) HashCommon.mix(key) & (slots - 1);
+    while (true) {
+      final long slotKey = index.getLong(slot * SLOT_SIZE);
+      if (slotKey == key) {
+        return slot;
+      }
+      if (slotKey == EMPTY_KEY) {
+        return -1;
+      }
+      slot = (slot + 1) & (slots - 1);
+    }
+  }
+
+  private void rehash(final int newSlots) throws IOException {
+    final MappedByteBuffer oldIndex = index;
+    final int oldSlots = slots;
+    final Path oldPath = indexPath;
+    final FileChannel oldChannel = indexChannel;
+
+    mapIndex(newSlots);
+    size = 0;
+    for (int slot = 0; slot < oldSlots; slot++) {
+      final long key = oldIndex.getLong(slot * SLOT_SIZE);
+      final long offset = oldIndex.getLong(slot * SLOT_SIZE + Long.BYTES);
+      if (key != EMPTY_KEY && offset >= 0) {
+        putOffset(key, offset);
+      }
+    }
+
+    oldChannel.close();
+    deleteFile(oldPath);
+  }
+
+  private void mapIndex(final int newSlots) throws IOException {
+    indexPath = Files.createTempFile("youtrackdb-tx", ".spill.idx");
+    indexChannel =
+        FileChannel.open(indexPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    // file is extended by mapping, so slots are filled by zeroes which denote empty slots
+    index = indexChannel.map(MapMode.READ_WRITE, 0, (long) newSlots * SLOT_SIZE);
+    slots = newSlots;
+    usedSlots = 0;
+  }
+
+  private void closeIndex() {
+    index = null;
+    try {
+      if (indexChannel != null) {
+        indexChannel.close();
+      }
+    } catch (IOException e) {
+      LogManager.instance().warn(this, "Error during closing of transaction spill file", e);
+    }
+    if (indexPath != null) {
+      deleteFile(indexPath);
+    }
+  }
+
+  private void flush() throws IOException {
+    if (writeBuffer.position() > 0) {
+      writeBuffer.flip();
+      writeFully(writeBuffer);
+      writeBuffer.clear();
+    }
+  }
+
+  private void writeFully(final ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      flushedSize += dataChannel.write(buffer, flushedSize);
+    }
+  }
+
+  private void readFully(final ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      final int read = dataChannel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Unexpected end of transaction spill file " + dataPath);
+      }
+      position += read;
+    }
+  }
+
+  private void deleteFile(final Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      // mapped files can not be deleted on some platforms till they are unmapped by GC
+      path.toFile().deleteOnExit();
+    }
+  }
+}
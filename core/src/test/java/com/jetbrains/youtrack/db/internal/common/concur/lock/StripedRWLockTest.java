@@ -0,0 +1,98 @@
+package com.jetbrains.youtrack.db.internal.common.concur.lock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StripedRWLockTest {
+
+  @Test
+  public void testSharedLockIsReentrant() throws Exception {
+    final StripedRWLock lock = new StripedRWLock();
+
+    lock.sharedLock();
+    lock.sharedLock();
+    lock.sharedUnlock();
+
+    Assert.assertFalse(lock.exclusiveTryLock());
+
+    lock.sharedUnlock();
+
+    Assert.assertTrue(lock.exclusiveTryLock());
+    lock.exclusiveUnlock();
+  }
+
+  @Test
+  public void testExclusiveLockWaitsForReaders() throws Exception {
+    final StripedRWLock lock = new StripedRWLock();
+    lock.sharedLock();
+
+    final AtomicBoolean acquired = new AtomicBoolean();
+    final Thread writer =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  lock.exclusiveLock();
+                  acquired.set(true);
+                  lock.exclusiveUnlock();
+                });
+
+    writer.join(200);
+    Assert.assertFalse(acquired.get());
+
+    lock.sharedUnlock();
+    writer.join(TimeUnit.SECONDS.toMillis(10));
+
+    Assert.assertTrue(acquired.get());
+    Assert.assertTrue(lock.sharedTryLock());
+    lock.sharedUnlock();
+  }
+
+  @Test
+  public void testVirtualThreads() throws Exception {
+    final StripedRWLock lock = new StripedRWLock();
+    final int[] counter = new int[2];
+
+    try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        final boolean write = i % 10 == 0;
+        futures.add(
+            executor.submit(
+                () -> {
+                  if (write) {
+                    lock.exclusiveLock();
+                    try {
+                      counter[0]++;
+                      Thread.yield();
+                      counter[1]++;
+                    } finally {
+                      lock.exclusiveUnlock();
+                    }
+                  } else {
+                    lock.sharedLock();
+                    try {
+                      Assert.assertEquals(counter[0], counter[1]);
+                    } finally {
+                      lock.sharedUnlock();
+                    }
+                  }
+                  return null;
+                }));
+      }
+
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    }
+
+    Assert.assertEquals(1_000, counter[0]);
+    Assert.assertEquals(1_000, counter[1]);
+  }
+}
@@ -0,0 +1,169 @@
+package com.jetbrains.youtrack.db.internal.common.directmemory;
+
+import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator.Intention;
+import com.jetbrains.youtrack.db.internal.common.jnr.Native;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DirectMemoryArenaTest {
+
+  private static final int PAGE_SIZE = 4096;
+
+  @Test
+  public void testPagesAreCarvedFromSlab() {
+    final DirectMemoryAllocator allocator = new DirectMemoryAllocator();
+    final DirectMemoryArena arena =
+        new DirectMemoryArena(allocator, PAGE_SIZE, 4 * PAGE_SIZE, false, 1, Integer.MAX_VALUE);
+
+    final List<Pointer> pointers = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      pointers.add(arena.acquire(false, Intention.TEST));
+    }
+
+    Assert.assertEquals(8 * PAGE_SIZE, arena.getReservedMemory());
+    Assert.assertEquals(8 * PAGE_SIZE, allocator.getMemoryConsumption());
+    Assert.assertEquals(5 * PAGE_SIZE, arena.getUsedMemory());
+
+    final long firstPage = pointers.get(0).getNativePointer();
+    for (int i = 1; i < 4; i++) {
+      Assert.assertEquals(firstPage + (long) i * PAGE_SIZE, pointers.get(i).getNativePointer());
+    }
+
+    for (final Pointer pointer : pointers) {
+      Assert.assertEquals(PAGE_SIZE, pointer.getNativeByteBuffer().capacity());
+      arena.release(pointer);
+    }
+    Assert.assertEquals(0, arena.getUsedMemory());
+
+    for (int i = 0; i < 8; i++) {
+      arena.acquire(false, Intention.TEST);
+    }
+    Assert.assertEquals(8 * PAGE_SIZE, arena.getReservedMemory());
+
+    arena.clear();
+    Assert.assertEquals(0, arena.getReservedMemory());
+    Assert.assertEquals(0, arena.getUsedMemory());
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+  }
+
+  @Test
+  public void testAcquireClearedPage() {
+    final DirectMemoryAllocator allocator = new DirectMemoryAllocator();
+    final DirectMemoryArena arena =
+        new DirectMemoryArena(allocator, PAGE_SIZE, 2 * PAGE_SIZE, false, 1, Integer.MAX_VALUE);
+
+    final Pointer pointer = arena.acquire(false, Intention.TEST);
+    final ByteBuffer buffer = pointer.getNativeByteBuffer();
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      buffer.put(i, (byte) 42);
+    }
+    arena.release(pointer);
+
+    final Pointer cleared = arena.acquire(true, Intention.TEST);
+    final ByteBuffer clearedBuffer = cleared.getNativeByteBuffer();
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      Assert.assertEquals(0, clearedBuffer.get(i));
+    }
+
+    arena.clear();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReleaseOfNotArenaPointer() {
+    final DirectMemoryAllocator allocator = new DirectMemoryAllocator();
+    final DirectMemoryArena arena =
+        new DirectMemoryArena(allocator, PAGE_SIZE, 2 * PAGE_SIZE, false, 1, Integer.MAX_VALUE);
+
+    final Pointer pointer = allocator.allocate(PAGE_SIZE, false, Intention.TEST);
+    try {
+      arena.release(pointer);
+    } finally {
+      allocator.deallocate(pointer);
+    }
+  }
+
+  @Test
+  public void testHugePageSlabIsAligned() {
+    final DirectMemoryAllocator allocator = new DirectMemoryAllocator();
+    final DirectMemoryArena arena =
+        new DirectMemoryArena(allocator, PAGE_SIZE, PAGE_SIZE, true, 1, Integer.MAX_VALUE);
+
+    final Pointer pointer = arena.acquire(false, Intention.TEST);
+    Assert.assertEquals(0, pointer.getNativePointer() % Native.HUGE_PAGE_SIZE);
+    Assert.assertEquals(2 * Native.HUGE_PAGE_SIZE, arena.getReservedMemory());
+
+    arena.release(pointer);
+    arena.clear();
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+  }
+
+  @Test
+  public void testEmptySlabIsReleasedOnceLimitIsExceeded() {
+    final DirectMemoryAllocator allocator = new DirectMemoryAllocator();
+    final DirectMemoryArena arena =
+        new DirectMemoryArena(allocator, PAGE_SIZE, 4 * PAGE_SIZE, false, 1, 4);
+
+    final List<Pointer> pointers = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      pointers.add(arena.acquire(false, Intention.TEST));
+    }
+    Assert.assertEquals(12 * PAGE_SIZE, arena.getReservedMemory());
+
+    // pages of the first slab fit into the limit, so slab is kept
+    for (int i = 0; i < 4; i++) {
+      arena.release(pointers.get(i));
+    }
+    Assert.assertEquals(12 * PAGE_SIZE, arena.getReservedMemory());
+
+    // pages of the second slab exceed the limit, so slab is returned to OS
+    for (int i = 4; i < 8; i++) {
+      arena.release(pointers.get(i));
+    }
+    Assert.assertEquals(8 * PAGE_SIZE, arena.getReservedMemory());
+    Assert.assertEquals(8 * PAGE_SIZE, allocator.getMemoryConsumption());
+    Assert.assertEquals(4 * PAGE_SIZE, arena.getUsedMemory());
+
+    // pages of the released slab are not returned by arena
+    final List<Long> addresses = new ArrayList<>();
+    for (int i = 4; i < 8; i++) {
+      addresses.add(pointers.get(i).getNativePointer());
+    }
+    for (int i = 0; i < 4; i++) {
+      final Pointer pointer = arena.acquire(false, Intention.TEST);
+      Assert.assertFalse(addresses.contains(pointer.getNativePointer()));
+      Assert.assertEquals(8 * PAGE_SIZE, arena.getReservedMemory());
+    }
+
+    arena.clear();
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+  }
+
+  @Test
+  public void testSlabWithAcquiredPageIsKept() {
+    final DirectMemoryAllocator allocator = new DirectMemoryAllocator();
+    final DirectMemoryArena arena =
+        new DirectMemoryArena(allocator, PAGE_SIZE, 4 * PAGE_SIZE, false, 1, 0);
+
+    final List<Pointer> pointers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      pointers.add(arena.acquire(false, Intention.TEST));
+    }
+
+    for (int i = 0; i < 3; i++) {
+      arena.release(pointers.get(i));
+    }
+    Assert.assertEquals(4 * PAGE_SIZE, arena.getReservedMemory());
+
+    arena.release(pointers.get(3));
+    Assert.assertEquals(0, arena.getReservedMemory());
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+
+    final Pointer pointer = arena.acquire(false, Intention.TEST);
+    Assert.assertEquals(4 * PAGE_SIZE, arena.getReservedMemory());
+    arena.release(pointer);
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+  }
+}
@@ -0,0 +1,91 @@
+package com.jetbrains.youtrack.db.internal.common.io;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class BandwidthThrottlerTest {
+
+  private static final int CHUNK = 64 * 1024;
+
+  @Test
+  public void shouldNotWaitIfUnlimited() {
+    final BandwidthThrottler throttler = BandwidthThrottler.create(0);
+
+    final long start = System.nanoTime();
+    for (int i = 0; i < 1_000; i++) {
+      throttler.acquire(CHUNK);
+    }
+
+    assertTrue(elapsedMillis(start) < 500);
+  }
+
+  @Test
+  public void shouldLimitBandwidth() {
+    // 1 MB per second, 1 MB is processed, initial burst is limited by 100 ms
+    final BandwidthThrottler throttler = BandwidthThrottler.create(1024 * 1024);
+
+    final long start = System.nanoTime();
+    for (int i = 0; i < 16; i++) {
+      throttler.acquire(CHUNK);
+    }
+
+    assertTrue(elapsedMillis(start) >= 800);
+  }
+
+  @Test
+  public void shouldLimitBandwidthOfSeveralThreads() throws Exception {
+    final BandwidthThrottler throttler = BandwidthThrottler.create(1024 * 1024);
+
+    final long start = System.nanoTime();
+    final Thread[] threads = new Thread[4];
+    for (int n = 0; n < threads.length; n++) {
+      threads[n] =
+          new Thread(
+              () -> {
+                for (int i = 0; i < 4; i++) {
+                  throttler.acquire(CHUNK);
+                }
+              });
+      threads[n].start();
+    }
+
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    assertTrue(elapsedMillis(start) >= 800);
+  }
+
+  @Test
+  public void shouldApplyChangedLimit() {
+    final AtomicLong limit = new AtomicLong(0);
+    final BandwidthThrottler throttler = BandwidthThrottler.create(limit::get);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 1_000; i++) {
+      throttler.acquire(CHUNK);
+    }
+    assertTrue(elapsedMillis(start) < 500);
+
+    limit.set(1024 * 1024);
+    start = System.nanoTime();
+    for (int i = 0; i < 16; i++) {
+      throttler.acquire(CHUNK);
+    }
+    assertTrue(elapsedMillis(start) >= 800);
+
+    limit.set(0);
+    start = System.nanoTime();
+    for (int i = 0; i < 1_000; i++) {
+      throttler.acquire(CHUNK);
+    }
+    assertTrue(elapsedMillis(start) < 500);
+  }
+
+  private static long elapsedMillis(final long start) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+}
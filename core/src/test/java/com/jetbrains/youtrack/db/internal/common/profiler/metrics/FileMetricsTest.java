@@ -0,0 +1,80 @@
+package com.jetbrains.youtrack.db.internal.common.profiler.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class FileMetricsTest {
+
+  @Test
+  public void counterFromSeveralThreads() throws Exception {
+    final var counter = Counter.create();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final var futures = new Future<?>[4];
+      for (int i = 0; i < futures.length; i++) {
+        futures[i] =
+            executor.submit(
+                () -> {
+                  for (int n = 0; n < 10_000; n++) {
+                    counter.increment();
+                  }
+                });
+      }
+
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    }
+
+    counter.decrement();
+    assertEquals(39_999L, counter.getCount());
+    assertEquals(Long.valueOf(39_999L), counter.getValue());
+  }
+
+  @Test
+  public void average() {
+    final var average = Average.create();
+    assertEquals(0.0, average.getAverage(), 0.0);
+
+    average.record(10);
+    average.record(20);
+    average.record(60);
+
+    assertEquals(30.0, average.getAverage(), 0.0);
+  }
+
+  @Test
+  public void fileMetricsAreGroupedByFile() {
+    final var registry = YouTrackDBEnginesManager.instance().getMetricsRegistry();
+    try {
+      registry.fileMetric(CoreMetrics.FILE_CACHE_HITS, "fileMetricsTest", "person.pcl").add(5);
+      registry.fileMetric(CoreMetrics.FILE_CACHE_MISSES, "fileMetricsTest", "person.pcl").add(2);
+      registry.fileMetric(CoreMetrics.FILE_CACHE_HITS, "fileMetricsTest", "name.cbt").add(7);
+
+      var metrics = registry.fileMetrics("fileMetricsTest");
+      assertEquals(2, metrics.size());
+      assertEquals(5L, metrics.get("person.pcl").get("CacheHits"));
+      assertEquals(2L, metrics.get("person.pcl").get("CacheMisses"));
+      assertEquals(7L, metrics.get("name.cbt").get("CacheHits"));
+
+      registry.removeFileMetrics("fileMetricsTest", "person.pcl");
+
+      metrics = registry.fileMetrics("fileMetricsTest");
+      assertEquals(1, metrics.size());
+      assertTrue(metrics.containsKey("name.cbt"));
+    } finally {
+      registry.removeFileMetrics("fileMetricsTest", "person.pcl");
+      registry.removeFileMetrics("fileMetricsTest", "name.cbt");
+    }
+  }
+}
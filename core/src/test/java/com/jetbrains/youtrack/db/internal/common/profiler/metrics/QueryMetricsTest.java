@@ -0,0 +1,165 @@
+package com.jetbrains.youtrack.db.internal.common.profiler.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.management.ObjectName;
+import org.junit.Test;
+
+public class QueryMetricsTest {
+
+  @Test
+  public void histogramPercentiles() {
+    final var histogram = Histogram.create();
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i);
+    }
+    histogram.record(-1);
+
+    assertEquals(101, histogram.getCount());
+    assertEquals(100, histogram.getMax());
+
+    // 50th value is in [32, 63] bucket
+    assertEquals(63, histogram.getPercentile(50));
+    // 99th value is in [64, 127] bucket, which is capped by the max value
+    assertEquals(100, histogram.getPercentile(99));
+    assertEquals(0, histogram.getPercentile(0));
+
+    final var value = histogram.getValue();
+    assertEquals(Long.valueOf(101), value.get("count"));
+    assertEquals(Long.valueOf(100), value.get("max"));
+  }
+
+  @Test
+  public void emptyHistogram() {
+    final var histogram = Histogram.create();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getPercentile(99));
+  }
+
+  @Test
+  public void queryMetricsAreGroupedByStatement() {
+    final var registry = YouTrackDBEnginesManager.instance().getMetricsRegistry();
+    final var databaseName = "queryMetricsTest";
+
+    final var select = "SELECT FROM V WHERE name = ?";
+    final var update = "UPDATE V SET name = ?";
+
+    registry.queryMetric(CoreMetrics.QUERY_EXECUTION_TIME, databaseName, select).record(10);
+    registry.queryMetric(CoreMetrics.QUERY_EXECUTION_TIME, databaseName, select).record(20);
+    registry.queryMetric(CoreMetrics.QUERY_ROWS, databaseName, update).add(5);
+
+    final var metrics = registry.queryMetrics(databaseName);
+    assertEquals(2, metrics.size());
+    assertTrue(metrics.get(select).containsKey(CoreMetrics.QUERY_EXECUTION_TIME.name()));
+    assertEquals(5L, metrics.get(update).get(CoreMetrics.QUERY_ROWS.name()));
+    assertSame(
+        registry.queryMetric(CoreMetrics.QUERY_EXECUTION_TIME, databaseName, select),
+        registry.queryMetric(CoreMetrics.QUERY_EXECUTION_TIME, databaseName, select));
+  }
+
+  @Test
+  public void numberOfTrackedStatementsIsLimited() {
+    final var registry = YouTrackDBEnginesManager.instance().getMetricsRegistry();
+    final var databaseName = "queryMetricsLimitTest";
+
+    final var maxStatements = GlobalConfiguration.QUERY_METRICS_MAX_STATEMENTS.getValue();
+    GlobalConfiguration.QUERY_METRICS_MAX_STATEMENTS.setValue(2);
+    try {
+      registry.queryMetric(CoreMetrics.QUERY_ROWS, databaseName, "SELECT 1").increment();
+      registry.queryMetric(CoreMetrics.QUERY_ROWS, databaseName, "SELECT 2").increment();
+
+      assertSame(
+          Counter.NOOP,
+          registry.queryMetric(CoreMetrics.QUERY_ROWS, databaseName, "SELECT 3"));
+      assertNotSame(
+          Counter.NOOP,
+          registry.queryMetric(CoreMetrics.QUERY_ROWS, databaseName, "SELECT 1"));
+      assertEquals(2, registry.queryMetrics(databaseName).size());
+    } finally {
+      GlobalConfiguration.QUERY_METRICS_MAX_STATEMENTS.setValue(maxStatements);
+    }
+  }
+
+  @Test
+  public void numberOfTrackedStatementsIsLimitedForConcurrentThreads() throws Exception {
+    final var registry = YouTrackDBEnginesManager.instance().getMetricsRegistry();
+    final var databaseName = "queryMetricsConcurrentLimitTest";
+
+    final var maxStatements = GlobalConfiguration.QUERY_METRICS_MAX_STATEMENTS.getValue();
+    GlobalConfiguration.QUERY_METRICS_MAX_STATEMENTS.setValue(10);
+    final var executor = Executors.newFixedThreadPool(8);
+    try {
+      final var start = new CountDownLatch(1);
+      final var futures = new ArrayList<Future<?>>();
+      for (int n = 0; n < 8; n++) {
+        final int thread = n;
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < 100; i++) {
+                    registry
+                        .queryMetric(CoreMetrics.QUERY_ROWS, databaseName,
+                            "SELECT " + thread + "_" + i)
+                        .increment();
+                  }
+                  return null;
+                }));
+      }
+
+      start.countDown();
+      for (final var future : futures) {
+        future.get();
+      }
+
+      assertEquals(10, registry.queryMetrics(databaseName).size());
+    } finally {
+      executor.shutdown();
+      GlobalConfiguration.QUERY_METRICS_MAX_STATEMENTS.setValue(maxStatements);
+    }
+  }
+
+  @Test
+  public void statementTextIsNotUsedInMBeanNames() throws Exception {
+    final var registry = YouTrackDBEnginesManager.instance().getMetricsRegistry();
+    final var databaseName = "queryMetrics,Test:\"quoted\"";
+
+    final var statement = "SELECT FROM V WHERE name = 'a,b' AND key = \"c:d\" AND x=?";
+    registry.queryMetric(CoreMetrics.QUERY_ROWS, databaseName, statement).add(3);
+
+    assertEquals(3L,
+        registry.queryMetrics(databaseName).get(statement).get(CoreMetrics.QUERY_ROWS.name()));
+
+    final var server = ManagementFactory.getPlatformMBeanServer();
+    final var names =
+        server.queryNames(
+            new ObjectName(
+                "com.jetbrains.youtrack.db.metrics:scope=Database,databaseName="
+                    + ObjectName.quote(databaseName)),
+            null);
+    assertEquals(1, names.size());
+
+    final var mBeanInfo = server.getMBeanInfo(names.iterator().next());
+    var found = false;
+    for (final var attribute : mBeanInfo.getAttributes()) {
+      if (attribute.getName().endsWith("." + CoreMetrics.QUERY_ROWS.name())
+          && attribute.getDescription().endsWith(statement)) {
+        assertFalse(attribute.getName().contains(statement));
+        assertEquals(3L, server.getAttribute(names.iterator().next(), attribute.getName()));
+        found = true;
+      }
+    }
+    assertTrue(found);
+  }
+}
@@ -5,10 +5,16 @@ import com.jetbrains.youtrack.db.api.DatabaseType;
 import com.jetbrains.youtrack.db.api.YouTrackDB;
 import com.jetbrains.youtrack.db.api.YourTracks;
 import com.jetbrains.youtrack.db.api.config.YouTrackDBConfig;
+import com.jetbrains.youtrack.db.api.query.Result;
+import com.jetbrains.youtrack.db.api.record.Entity;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -56,4 +62,155 @@ public class DatabaseImportTest {
     youTrackDB.drop(databaseName);
     youTrackDB.close();
   }
+
+  @Test
+  public void parallelExportImportTest() throws IOException {
+    String databaseName = "parallelExport";
+    final String exportDbPath =
+        "target/parallel_export_" + DatabaseImportTest.class.getSimpleName();
+    final String exportFile = exportDbPath + "/export.gz";
+    YouTrackDB youTrackDB = YourTracks.embedded(exportDbPath, YouTrackDBConfig.defaultConfig());
+    youTrackDB.createIfNotExists(databaseName, DatabaseType.PLOCAL, "admin", "admin", "admin");
+
+    try (var db = (DatabaseSessionInternal) youTrackDB.open(databaseName, "admin", "admin")) {
+      db.createClass("SimpleClass");
+
+      for (int i = 0; i < 1_000; i++) {
+        final int value = i;
+        db.executeInTx(() -> {
+          var entity = db.newEntity("SimpleClass");
+          entity.setProperty("value", value);
+          entity.save();
+        });
+      }
+
+      final DatabaseExport export = new DatabaseExport(db, exportFile, iText -> {
+      });
+      export.setOptions(" -parallel=4 -chunkSize=100");
+      export.exportDatabase();
+    }
+    youTrackDB.drop(databaseName);
+    youTrackDB.close();
+
+    final String importDbPath =
+        "target/parallel_import_" + DatabaseImportTest.class.getSimpleName();
+    youTrackDB = YourTracks.embedded(importDbPath, YouTrackDBConfig.defaultConfig());
+    databaseName = "parallelImport";
+
+    youTrackDB.createIfNotExists(databaseName, DatabaseType.PLOCAL, "admin", "admin", "admin");
+    try (var db = (DatabaseSessionInternal) youTrackDB.open(databaseName, "admin", "admin")) {
+      final DatabaseImport importer = new DatabaseImport(db, exportFile, iText -> {
+      });
+      importer.setOptions(" -parallel=4 -batchSize=50");
+      importer.importDatabase();
+
+      Assert.assertEquals(1_000, db.countClass("SimpleClass"));
+      try (var resultSet = db.query("select sum(value) as total from SimpleClass")) {
+        Assert.assertEquals(499_500L, ((Number) resultSet.next().getProperty("total")).longValue());
+      }
+    }
+    youTrackDB.drop(databaseName);
+    youTrackDB.close();
+  }
+
+  @Test
+  public void parallelImportMapsRidsAndBuildsIndexesTest() throws IOException {
+    String databaseName = "mappedExport";
+    final String exportDbPath =
+        "target/mapped_export_" + DatabaseImportTest.class.getSimpleName();
+    final String exportFile = exportDbPath + "/export.gz";
+    YouTrackDB youTrackDB = YourTracks.embedded(exportDbPath, YouTrackDBConfig.defaultConfig());
+    youTrackDB.createIfNotExists(databaseName, DatabaseType.PLOCAL, "admin", "admin", "admin");
+
+    try (var db = (DatabaseSessionInternal) youTrackDB.open(databaseName, "admin", "admin")) {
+      final SchemaClass item = db.createClass("Item");
+      item.createProperty(db, "value", PropertyType.INTEGER);
+      item.createIndex(db, "Item.value", SchemaClass.INDEX_TYPE.NOTUNIQUE, "value");
+
+      db.executeInTx(() -> {
+        for (int i = 0; i < 1_000; i++) {
+          var entity = db.newEntity("Item");
+          entity.setProperty("value", i);
+          entity.save();
+        }
+      });
+
+      // RIDs of imported records differ from exported ones
+      db.executeInTx(() -> db.command("delete from Item where value < 100").close());
+      db.executeInTx(() -> {
+        try (var resultSet = db.query("select from Item where value < 999")) {
+          resultSet.stream().map(Result::toEntity).forEach(entity -> {
+            final int value = entity.getProperty("value");
+            try (var next = db.query("select from Item where value = ?", value + 1)) {
+              entity.setProperty("next", next.next().getIdentity().orElseThrow());
+            }
+            entity.save();
+          });
+        }
+      });
+
+      final DatabaseExport export = new DatabaseExport(db, exportFile, iText -> {
+      });
+      export.setOptions(" -parallel=4 -chunkSize=100");
+      export.exportDatabase();
+    }
+    youTrackDB.drop(databaseName);
+    youTrackDB.close();
+
+    final String importDbPath =
+        "target/mapped_import_" + DatabaseImportTest.class.getSimpleName();
+    youTrackDB = YourTracks.embedded(importDbPath, YouTrackDBConfig.defaultConfig());
+    databaseName = "mappedImport";
+
+    youTrackDB.createIfNotExists(databaseName, DatabaseType.PLOCAL, "admin", "admin", "admin");
+    try (var db = (DatabaseSessionInternal) youTrackDB.open(databaseName, "admin", "admin")) {
+      final List<String> messages = new ArrayList<>();
+      final DatabaseImport importer = new DatabaseImport(db, exportFile, messages::add);
+      importer.setOptions(" -parallel=4 -batchSize=50 -deleteRIDMapping=false");
+      importer.importDatabase();
+
+      Assert.assertEquals(900, db.countClass("Item"));
+      db.executeInTx(() -> {
+        try (var resultSet = db.query("select from Item where value < 999")) {
+          resultSet.stream().map(Result::toEntity).forEach(entity -> {
+            final Entity next = entity.getLinkProperty("next").getEntity();
+            Assert.assertEquals(
+                entity.<Integer>getProperty("value") + 1, (int) next.getProperty("value"));
+          });
+        }
+      });
+
+      final var indexManager = db.getMetadata().getIndexManagerInternal();
+      Assert.assertEquals(900, indexManager.getIndex(db, "Item.value").getInternal().size(db));
+
+      // mapping is saved together with the records, so it links persistent records only
+      final long mappings = db.countClass(DatabaseImport.EXPORT_IMPORT_CLASS_NAME);
+      Assert.assertTrue(mappings >= 900);
+      try (var resultSet = db.query("select from " + DatabaseImport.EXPORT_IMPORT_CLASS_NAME)) {
+        resultSet.stream().forEach(
+            mapping -> Assert.assertTrue(DatabaseImport.getImportedRid(mapping).isPersistent()));
+      }
+
+      // mapping is indexed once after all records are imported
+      Assert.assertEquals(
+          mappings,
+          indexManager.getIndex(db, DatabaseImport.EXPORT_IMPORT_INDEX_NAME).getInternal()
+              .size(db));
+      final int indexed = indexOfMessage(messages, "Indexing of mapping");
+      Assert.assertTrue(indexed > indexOfMessage(messages, "Imported 100 records from chunk"));
+    }
+    youTrackDB.drop(databaseName);
+    youTrackDB.close();
+  }
+
+  private static int indexOfMessage(final List<String> messages, final String text) {
+    int index = -1;
+    for (int i = 0; i < messages.size(); i++) {
+      if (messages.get(i).contains(text)) {
+        index = i;
+      }
+    }
+
+    return index;
+  }
 }
@@ -0,0 +1,125 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.DatabaseType;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.common.io.FileUtils;
+import com.jetbrains.youtrack.db.internal.core.storage.disk.LocalPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncIndexRestoreTest extends DbTestBase {
+
+  @Override
+  protected DatabaseType calculateDbType() {
+    return DatabaseType.PLOCAL;
+  }
+
+  @Test
+  public void testPendingChangesAreRestoredAfterCrash() throws Exception {
+    final SchemaClass event = db.getMetadata().getSchema().createClass("Event");
+    event.createProperty(db, "type", PropertyType.STRING);
+    db.command(
+            "create index Event.type on Event (type) NOTUNIQUE metadata"
+                + " {\"maintenance\": \"ASYNC\"}")
+        .close();
+
+    final LocalPaginatedStorage storage = (LocalPaginatedStorage) db.getStorage();
+    final Path storagePath = storage.getStoragePath();
+    final Path crashedPath = storagePath.resolveSibling(storagePath.getFileName() + "-crashed");
+
+    final AsyncIndexChanges changes = storage.getAsyncIndexChanges("Event.type");
+    changes.getApplyLock().lock();
+    try {
+      db.begin();
+      db.command("insert into Event set type = 'click'").close();
+      db.command("insert into Event set type = 'click'").close();
+      db.command("insert into Event set type = 'view'").close();
+      db.commit();
+
+      Assert.assertEquals(3, changes.size());
+      // WAL is not truncated till changes are applied to the index
+      final AsyncIndexChanges.Batch batch = changes.peek(Integer.MAX_VALUE).get(0);
+      Assert.assertTrue(storage.getWALInstance().begin().compareTo(batch.lsn()) <= 0);
+
+      // copy of the files of the opened storage is the state of the storage after crash,
+      // changes are not applied to the index yet
+      storage.getWALInstance().flush();
+      FileUtils.deleteRecursively(crashedPath.toFile());
+      FileUtils.copyDirectory(storagePath.toFile(), crashedPath.toFile());
+    } finally {
+      changes.getApplyLock().unlock();
+    }
+
+    db.close();
+    pool.close();
+    context.close();
+
+    FileUtils.deleteRecursively(storagePath.toFile());
+    Files.move(crashedPath, storagePath);
+
+    context = createContext();
+    pool = context.cachedPool(databaseName, adminUser, adminPassword);
+    db = openDatabase();
+
+    final AbstractPaginatedStorage restored = (AbstractPaginatedStorage) db.getStorage();
+    restored.flushAsyncIndexChanges("Event.type");
+    Assert.assertTrue(restored.getAsyncIndexChanges("Event.type").isEmpty());
+
+    final IndexInternal index =
+        db.getMetadata().getIndexManagerInternal().getIndex(db, "Event.type").getInternal();
+    Assert.assertEquals(3, index.size(db));
+    try (var rids = index.getRidsIgnoreTx(db, "click")) {
+      Assert.assertEquals(2, rids.count());
+    }
+
+    // changes restored after crash are logged again, so they survive next crash too
+    db.close();
+    pool.close();
+    context.close();
+
+    context = createContext();
+    pool = context.cachedPool(databaseName, adminUser, adminPassword);
+    db = openDatabase();
+    final IndexInternal reopened =
+        db.getMetadata().getIndexManagerInternal().getIndex(db, "Event.type").getInternal();
+    Assert.assertEquals(3, reopened.size(db));
+  }
+
+  @Test
+  public void testChangesAreAppliedOnClose() {
+    final SchemaClass event = db.getMetadata().getSchema().createClass("Event");
+    event.createProperty(db, "type", PropertyType.STRING);
+    db.command(
+            "create index Event.type on Event (type) NOTUNIQUE metadata"
+                + " {\"maintenance\": \"ASYNC\"}")
+        .close();
+
+    final AbstractPaginatedStorage storage = (AbstractPaginatedStorage) db.getStorage();
+    final AsyncIndexChanges changes = storage.getAsyncIndexChanges("Event.type");
+    changes.getApplyLock().lock();
+    try {
+      db.begin();
+      db.command("insert into Event set type = 'click'").close();
+      db.commit();
+    } finally {
+      changes.getApplyLock().unlock();
+    }
+
+    db.close();
+    pool.close();
+    context.close();
+
+    context = createContext();
+    pool = context.cachedPool(databaseName, adminUser, adminPassword);
+    db = openDatabase();
+
+    final IndexInternal index =
+        db.getMetadata().getIndexManagerInternal().getIndex(db, "Event.type").getInternal();
+    Assert.assertEquals(1, index.size(db));
+  }
+}
@@ -0,0 +1,207 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.query.ExecutionStep;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.common.profiler.metrics.CoreMetrics;
+import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.FetchFromIndexStep;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncIndexTest extends DbTestBase {
+
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+    SchemaClass event = db.getMetadata().getSchema().createClass("Event");
+    event.createProperty(db, "type", PropertyType.STRING);
+    event.createProperty(db, "value", PropertyType.INTEGER);
+
+    db.command(
+            "create index Event.type on Event (type) NOTUNIQUE metadata"
+                + " {\"maintenance\": \"ASYNC\"}")
+        .close();
+  }
+
+  @Test
+  public void testPendingChangesAreVisible() {
+    final AsyncIndexChanges changes = getStorage().getAsyncIndexChanges("Event.type");
+    Assert.assertNotNull(changes);
+
+    // keeps changes in the buffer till the end of the block
+    changes.getApplyLock().lock();
+    try {
+      db.begin();
+      db.command("insert into Event set type = 'click', value = 1").close();
+      db.command("insert into Event set type = 'click', value = 2").close();
+      db.command("insert into Event set type = 'view', value = 3").close();
+      db.commit();
+
+      Assert.assertEquals(3, changes.size());
+      Assert.assertEquals(3L, getLag());
+      Assert.assertEquals(3, getIndex().size(db));
+      Assert.assertEquals(2, count("select from Event where type = 'click'", true));
+      Assert.assertEquals(1, count("select from Event where type > 'click'", true));
+
+      db.begin();
+      db.command("update Event set type = 'view' where value = 1").close();
+      db.command("delete from Event where value = 2").close();
+      db.commit();
+
+      Assert.assertEquals(0, count("select from Event where type = 'click'", true));
+      Assert.assertEquals(2, count("select from Event where type = 'view'", true));
+      Assert.assertEquals(2, getIndex().size(db));
+    } finally {
+      changes.getApplyLock().unlock();
+    }
+
+    getStorage().flushAsyncIndexChanges("Event.type");
+    Assert.assertTrue(changes.isEmpty());
+    Assert.assertEquals(0L, getLag());
+
+    try (var rids = getIndex().getRidsIgnoreTx(db, "view")) {
+      Assert.assertEquals(2, rids.count());
+    }
+    try (var rids = getIndex().getRidsIgnoreTx(db, "click")) {
+      Assert.assertEquals(0, rids.count());
+    }
+  }
+
+  @Test
+  public void testPendingChangesAreMergedWithTransaction() {
+    db.begin();
+    db.command("insert into Event set type = 'click', value = 1").close();
+    db.commit();
+
+    db.begin();
+    db.command("insert into Event set type = 'click', value = 2").close();
+    db.command("delete from Event where value = 1").close();
+    Assert.assertEquals(1, count("select from Event where type = 'click'", true));
+    db.commit();
+
+    getStorage().flushAsyncIndexChanges("Event.type");
+    Assert.assertEquals(1, count("select from Event where type = 'click'", true));
+    Assert.assertEquals(1, getIndex().size(db));
+  }
+
+  @Test
+  public void testChangesAreAppliedInBackground() throws Exception {
+    db.begin();
+    for (int i = 0; i < 100; i++) {
+      db.command("insert into Event set type = ?, value = ?", "type" + (i % 10), i).close();
+    }
+    db.commit();
+
+    final AsyncIndexChanges changes = getStorage().getAsyncIndexChanges("Event.type");
+    final long deadline = System.currentTimeMillis() + 10_000;
+    while (!changes.isEmpty() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+
+    Assert.assertTrue(changes.isEmpty());
+    Assert.assertEquals(100, getIndex().size(db));
+    Assert.assertEquals(10, count("select from Event where type = 'type5'", true));
+  }
+
+  @Test
+  public void testChangesAreAppliedOnIndexDrop() {
+    final AsyncIndexChanges changes = getStorage().getAsyncIndexChanges("Event.type");
+    changes.getApplyLock().lock();
+    try {
+      db.begin();
+      db.command("insert into Event set type = 'click', value = 1").close();
+      db.commit();
+    } finally {
+      changes.getApplyLock().unlock();
+    }
+
+    db.command("drop index Event.type").close();
+    Assert.assertNull(getStorage().getAsyncIndexChanges("Event.type"));
+    Assert.assertEquals(1, count("select from Event where type = 'click'", false));
+  }
+
+  @Test
+  public void testPendingChangesAreLimited() {
+    getStorage()
+        .getConfiguration()
+        .getContextConfiguration()
+        .setValue(GlobalConfiguration.INDEX_ASYNC_MAX_PENDING_CHANGES, 2);
+
+    final AsyncIndexChanges changes = getStorage().getAsyncIndexChanges("Event.type");
+    // background applier can not apply changes, so only committers keep queue bounded
+    changes.getApplyLock().lock();
+    try {
+      for (int i = 0; i < 10; i++) {
+        db.begin();
+        db.command("insert into Event set type = 'click', value = ?", i).close();
+        db.commit();
+
+        Assert.assertTrue(changes.size() <= 2);
+      }
+
+      Assert.assertEquals(10, count("select from Event where type = 'click'", true));
+    } finally {
+      changes.getApplyLock().unlock();
+    }
+  }
+
+  @Test
+  public void testPendingChangesAreLoggedInWAL() {
+    final AsyncIndexChanges changes = getStorage().getAsyncIndexChanges("Event.type");
+    changes.getApplyLock().lock();
+    try {
+      db.begin();
+      db.command("insert into Event set type = 'click', value = 1").close();
+      db.commit();
+
+      final AsyncIndexChanges.Batch batch = changes.peek(Integer.MAX_VALUE).get(0);
+      Assert.assertNotNull(batch.lsn());
+
+      final List<AsyncIndexChanges.Change> restored =
+          AsyncIndexChanges.deserialize(AsyncIndexChanges.serialize(batch.changes()));
+      Assert.assertEquals(batch.changes(), restored);
+    } finally {
+      changes.getApplyLock().unlock();
+    }
+  }
+
+  @Test(expected = BaseException.class)
+  public void testUniqueIndexIsRejected() {
+    db.command(
+            "create index Event.value on Event (value) UNIQUE metadata"
+                + " {\"maintenance\": \"ASYNC\"}")
+        .close();
+  }
+
+  private AbstractPaginatedStorage getStorage() {
+    return (AbstractPaginatedStorage) db.getStorage();
+  }
+
+  private IndexInternal getIndex() {
+    return db.getMetadata().getIndexManagerInternal().getIndex(db, "Event.type").getInternal();
+  }
+
+  private long getLag() {
+    return YouTrackDBEnginesManager.instance()
+        .getMetricsRegistry()
+        .fileMetric(CoreMetrics.FILE_ASYNC_INDEX_LAG, getStorage().getName(), "Event.type")
+        .getValue();
+  }
+
+  private long count(final String query, final boolean indexUsed) {
+    try (ResultSet result = db.query(query)) {
+      boolean found = false;
+      for (ExecutionStep step : result.getExecutionPlan().orElseThrow().getSteps()) {
+        found |= step instanceof FetchFromIndexStep;
+      }
+      Assert.assertEquals(indexUsed, found);
+      return result.stream().count();
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.DatabaseType;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.core.storage.index.bitmap.RidBitmap;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BitmapIndexTest extends DbTestBase {
+
+  private static final int DENSE = 3000;
+  private static final int SPARSE = 10;
+
+  @Override
+  protected DatabaseType calculateDbType() {
+    return DatabaseType.PLOCAL;
+  }
+
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+
+    // single cluster, so records of the dense key fill the same container
+    db.command("create class Item clusters 1").close();
+    db.command("create property Item.status STRING").close();
+    db.command("create property Item.color STRING").close();
+    db.command("create property Item.code INTEGER").close();
+    db.command("create index Item.status on Item (status) NOTUNIQUE ENGINE BITMAP").close();
+    db.command("create index Item.color on Item (color) NOTUNIQUE ENGINE BITMAP").close();
+
+    db.begin();
+    for (int i = 0; i < DENSE + SPARSE; i++) {
+      db.command(
+              "insert into Item set status = ?, color = ?, code = ?",
+              i < DENSE ? "dense" : "sparse",
+              i % 2 == 0 ? "red" : "green",
+              i)
+          .close();
+    }
+    db.commit();
+  }
+
+  @Test
+  public void testSparseAndDenseKeysAreIndexed() {
+    Assert.assertEquals(DENSE + SPARSE, getIndex("Item.status").getInternal().size(db));
+    Assert.assertEquals(DENSE + SPARSE, getIndex("Item.color").getInternal().size(db));
+
+    final RidBitmap dense = bitmap("Item.status", "dense");
+    Assert.assertEquals(DENSE, dense.cardinality());
+    Assert.assertEquals(0, dense.arrayContainers());
+
+    final RidBitmap sparse = bitmap("Item.status", "sparse");
+    Assert.assertEquals(SPARSE, sparse.cardinality());
+    Assert.assertEquals(1, sparse.arrayContainers());
+
+    Assert.assertEquals(DENSE, countRids("Item.status", "dense"));
+    Assert.assertEquals(SPARSE, countRids("Item.status", "sparse"));
+    Assert.assertEquals(0, countRids("Item.status", "absent"));
+  }
+
+  @Test
+  public void testRemovedRecordsAreNotReturned() {
+    db.begin();
+    db.command("delete from Item where status = 'dense' and code >= 100").close();
+    db.command("delete from Item where status = 'sparse' and code % 2 = 0").close();
+    db.commit();
+
+    final RidBitmap dense = bitmap("Item.status", "dense");
+    Assert.assertEquals(100, dense.cardinality());
+    // container of the dense key is converted back to the array
+    Assert.assertEquals(1, dense.arrayContainers());
+    Assert.assertEquals(SPARSE / 2, bitmap("Item.status", "sparse").cardinality());
+
+    // container which was converted back to the array becomes bitmap again
+    db.begin();
+    for (int i = 0; i < DENSE; i++) {
+      db.command("insert into Item set status = 'dense', color = 'blue', code = ?", i).close();
+    }
+    db.commit();
+
+    Assert.assertEquals(DENSE + 100, bitmap("Item.status", "dense").cardinality());
+    Assert.assertEquals(DENSE, countRids("Item.color", "blue"));
+  }
+
+  @Test
+  public void testIndexIsLoadedAfterReopen() {
+    final RidBitmap expected = bitmap("Item.status", "sparse");
+
+    db.close();
+    pool.close();
+    context.close();
+
+    context = createContext();
+    pool = context.cachedPool(databaseName, adminUser, adminPassword);
+    db = openDatabase();
+
+    Assert.assertEquals(DENSE + SPARSE, getIndex("Item.status").getInternal().size(db));
+    Assert.assertEquals(DENSE, bitmap("Item.status", "dense").cardinality());
+
+    final RidBitmap sparse = bitmap("Item.status", "sparse");
+    Assert.assertEquals(expected.stream().toList(), sparse.stream().toList());
+
+    db.begin();
+    db.command("insert into Item set status = 'sparse', color = 'red', code = -1").close();
+    db.commit();
+    Assert.assertEquals(SPARSE + 1, countRids("Item.status", "sparse"));
+  }
+
+  @Test
+  public void testChangesOfTransactionAreVisible() {
+    db.begin();
+    db.command("insert into Item set status = 'sparse', color = 'red', code = -1").close();
+    db.command("delete from Item where status = 'sparse' and code = " + DENSE).close();
+
+    Assert.assertEquals(SPARSE, bitmap("Item.status", "sparse").cardinality());
+    Assert.assertEquals(
+        SPARSE / 2, count("select from Item where status = 'sparse' and color = 'red'"));
+    Assert.assertEquals(
+        1, count("select from Item where status = 'sparse' and color = 'red' and code = -1"));
+    db.rollback();
+
+    Assert.assertEquals(SPARSE, bitmap("Item.status", "sparse").cardinality());
+    Assert.assertEquals(
+        SPARSE / 2, count("select from Item where status = 'sparse' and color = 'red'"));
+    Assert.assertEquals(
+        0, count("select from Item where status = 'sparse' and color = 'red' and code = -1"));
+  }
+
+  @Test
+  public void testBitmapsAreCombinedByPlanner() {
+    final String query = "select from Item where status = 'sparse' and color = 'green'";
+    Assert.assertTrue(plan(query).contains("FETCH FROM BITMAP INDEXES"));
+    Assert.assertEquals(SPARSE / 2, count(query));
+
+    final String orQuery = "select from Item where status = 'sparse' or color = 'green'";
+    Assert.assertEquals(SPARSE / 2 + (DENSE + SPARSE) / 2, count(orQuery));
+  }
+
+  @Test
+  public void testCheaperIndexIsPreferredToBitmaps() {
+    db.command("create index Item.code on Item (code) UNIQUE").close();
+
+    final String query =
+        "select from Item where status = 'dense' and color = 'red' and code = 42";
+    final String plan = plan(query);
+    Assert.assertFalse(plan.contains("FETCH FROM BITMAP INDEXES"));
+    Assert.assertTrue(plan.contains("Item.code"));
+    Assert.assertEquals(1, count(query));
+  }
+
+  @Test
+  public void testBitmapsAreNotUsedForUnselectiveConditions() {
+    // statistics of both keys are collected by the first execution
+    final String query = "select from Item where status = 'dense' and color = 'red'";
+    Assert.assertEquals(DENSE / 2, count(query));
+
+    // the same records are fetched by the lookup of the single index, without reading of bitmaps
+    Assert.assertFalse(
+        plan("select from Item where status = 'dense' and color = 'red' and code >= 0")
+            .contains("FETCH FROM BITMAP INDEXES"));
+  }
+
+  private Index getIndex(final String name) {
+    return db.getMetadata().getIndexManagerInternal().getIndex(db, name);
+  }
+
+  private RidBitmap bitmap(final String indexName, final Object key) {
+    return ((IndexBitmap) getIndex(indexName).getInternal()).getRidBitmap(db, key);
+  }
+
+  private long countRids(final String indexName, final Object key) {
+    try (final Stream<RID> rids = getIndex(indexName).getInternal().getRids(db, key)) {
+      return rids.count();
+    }
+  }
+
+  private long count(final String query) {
+    try (final ResultSet resultSet = db.query(query)) {
+      return resultSet.stream().count();
+    }
+  }
+
+  private String plan(final String query) {
+    try (final ResultSet resultSet = db.query(query)) {
+      return resultSet.getExecutionPlan().orElseThrow().prettyPrint(0, 2);
+    }
+  }
+}
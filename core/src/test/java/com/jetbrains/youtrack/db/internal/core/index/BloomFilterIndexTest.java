@@ -0,0 +1,73 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.exception.RecordDuplicatedException;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BloomFilterIndexTest extends DbTestBase {
+
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+    SchemaClass user = db.getMetadata().getSchema().createClass("User");
+    user.createProperty(db, "email", PropertyType.STRING);
+
+    db.begin();
+    for (int i = 0; i < 100; i++) {
+      db.command("insert into User set email = ?", "user" + i + "@example.com").close();
+    }
+    db.commit();
+
+    db.command(
+            "create index User.email on User (email) UNIQUE metadata {\"bloomFilter\": true,"
+                + " \"bloomFilterCapacity\": 1000}")
+        .close();
+  }
+
+  @Test
+  public void testExistingKeysAreFound() {
+    Assert.assertEquals(100, getIndex().size(db));
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(1, count("user" + i + "@example.com"));
+    }
+    Assert.assertEquals(0, count("absent@example.com"));
+  }
+
+  @Test
+  public void testInsertedAndRemovedKeys() {
+    db.begin();
+    db.command("insert into User set email = 'new@example.com'").close();
+    db.command("delete from User where email = 'user0@example.com'").close();
+    db.commit();
+
+    Assert.assertEquals(100, getIndex().size(db));
+    Assert.assertEquals(1, count("new@example.com"));
+    Assert.assertEquals(0, count("user0@example.com"));
+
+    db.begin();
+    db.command("insert into User set email = 'user0@example.com'").close();
+    db.commit();
+
+    Assert.assertEquals(1, count("user0@example.com"));
+  }
+
+  @Test(expected = RecordDuplicatedException.class)
+  public void testUniqueConstraintIsChecked() {
+    db.begin();
+    db.command("insert into User set email = 'user1@example.com'").close();
+    db.commit();
+  }
+
+  private long count(final String email) {
+    try (ResultSet resultSet = db.query("select from User where email = ?", email)) {
+      return resultSet.stream().count();
+    }
+  }
+
+  private IndexInternal getIndex() {
+    return db.getMetadata().getIndexManagerInternal().getIndex(db, "User.email").getInternal();
+  }
+}
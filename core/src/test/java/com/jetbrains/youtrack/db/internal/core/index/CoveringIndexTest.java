@@ -0,0 +1,212 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.exception.RecordDuplicatedException;
+import com.jetbrains.youtrack.db.api.query.ExecutionStep;
+import com.jetbrains.youtrack.db.api.query.Result;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.GetValueFromCoveringIndexEntryStep;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CoveringIndexTest extends DbTestBase {
+
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+    SchemaClass product = db.getMetadata().getSchema().createClass("Product");
+    product.createProperty(db, "sku", PropertyType.STRING);
+    product.createProperty(db, "name", PropertyType.STRING);
+    product.createProperty(db, "price", PropertyType.INTEGER);
+    product.createProperty(db, "description", PropertyType.STRING);
+
+    db.command("create index Product.sku on Product (sku) INCLUDE (name, price) NOTUNIQUE")
+        .close();
+
+    db.begin();
+    db.command(
+            "insert into Product set sku = 'a', name = 'first', price = 10, description = 'd1'")
+        .close();
+    db.command(
+            "insert into Product set sku = 'b', name = 'second', price = 20, description = 'd2'")
+        .close();
+    db.command("insert into Product set sku = 'c', description = 'd3'").close();
+    db.commit();
+  }
+
+  @Test
+  public void testIndexDefinition() {
+    Index index = db.getMetadata().getIndexManagerInternal().getIndex(db, "Product.sku");
+    Assert.assertTrue(index.getDefinition() instanceof CoveringIndexDefinition);
+
+    CoveringIndexDefinition definition = (CoveringIndexDefinition) index.getDefinition();
+    Assert.assertEquals(List.of("sku"), definition.getKeyFields());
+    Assert.assertEquals(List.of("name", "price"), definition.getIncludedFields());
+  }
+
+  @Test
+  public void testProjectionIsCalculatedFromIndex() {
+    try (ResultSet result = db.query("select name, price from Product where sku = 'b'")) {
+      Assert.assertTrue(result.hasNext());
+      Result item = result.next();
+      Assert.assertEquals("second", item.getProperty("name"));
+      Assert.assertEquals(20, (int) item.<Integer>getProperty("price"));
+      Assert.assertFalse(result.hasNext());
+
+      Assert.assertTrue(isIndexOnly(result));
+    }
+  }
+
+  @Test
+  public void testNullIncludedValuesAreIndexed() {
+    try (ResultSet result = db.query("select name, price from Product where sku = 'c'")) {
+      Assert.assertTrue(result.hasNext());
+      Result item = result.next();
+      Assert.assertNull(item.getProperty("name"));
+      Assert.assertNull(item.getProperty("price"));
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testIncludedValuesAreUpdated() {
+    db.begin();
+    db.command("update Product set name = 'updated' where sku = 'a'").close();
+    db.commit();
+
+    try (ResultSet result = db.query("select name from Product where sku = 'a'")) {
+      Assert.assertTrue(result.hasNext());
+      Assert.assertEquals("updated", result.next().getProperty("name"));
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testNotIncludedPropertyIsReadFromRecord() {
+    try (ResultSet result = db.query("select name, description from Product where sku = 'a'")) {
+      Assert.assertTrue(result.hasNext());
+      Result item = result.next();
+      Assert.assertEquals("first", item.getProperty("name"));
+      Assert.assertEquals("d1", item.getProperty("description"));
+      Assert.assertFalse(result.hasNext());
+
+      Assert.assertFalse(isIndexOnly(result));
+    }
+  }
+
+  @Test(expected = BaseException.class)
+  public void testIncludedPropertiesOfHashIndex() {
+    db.command(
+            "create index Product.description on Product (description) INCLUDE (name)"
+                + " UNIQUE_HASH_INDEX")
+        .close();
+  }
+
+  @Test
+  public void testUniqueIndexChecksIndexedProperties() {
+    createUniqueArticleIndex();
+
+    db.begin();
+    db.command("insert into Article set sku = 'a', name = 'first', price = 10").close();
+    db.command("insert into Article set sku = 'b', name = 'second', price = 20").close();
+    db.commit();
+
+    try (ResultSet result = db.query("select name, price from Article where sku = 'b'")) {
+      Assert.assertTrue(result.hasNext());
+      Result item = result.next();
+      Assert.assertEquals("second", item.getProperty("name"));
+      Assert.assertEquals(20, (int) item.<Integer>getProperty("price"));
+      Assert.assertFalse(result.hasNext());
+
+      Assert.assertTrue(isIndexOnly(result));
+    }
+
+    // included values of the same record may be changed
+    db.begin();
+    db.command("update Article set price = 5 where sku = 'a'").close();
+    db.commit();
+
+    try (ResultSet result = db.query("select price from Article where sku = 'a'")) {
+      Assert.assertEquals(5, (int) result.next().<Integer>getProperty("price"));
+      Assert.assertFalse(result.hasNext());
+    }
+
+    // the same sku with different included values is a duplicate
+    try {
+      db.begin();
+      db.command("insert into Article set sku = 'a', name = 'other', price = 30").close();
+      db.commit();
+      Assert.fail();
+    } catch (RecordDuplicatedException e) {
+      Assert.assertEquals("Article.sku", e.getIndexName());
+    }
+
+    try {
+      db.begin();
+      db.command("update Article set sku = 'a' where sku = 'b'").close();
+      db.commit();
+      Assert.fail();
+    } catch (RecordDuplicatedException e) {
+      Assert.assertEquals("Article.sku", e.getIndexName());
+    }
+
+    try (ResultSet result = db.query("select count(*) as count from Article where sku = 'a'")) {
+      Assert.assertEquals(1L, (long) result.next().<Long>getProperty("count"));
+    }
+  }
+
+  @Test
+  public void testUniqueIndexAllowsSameIncludedValues() {
+    createUniqueArticleIndex();
+
+    db.begin();
+    db.command("insert into Article set sku = 'a', name = 'same', price = 10").close();
+    db.command("insert into Article set sku = 'b', name = 'same', price = 10").close();
+    db.commit();
+
+    Index index = db.getMetadata().getIndexManagerInternal().getIndex(db, "Article.sku");
+    Assert.assertEquals(2, index.getInternal().size(db));
+  }
+
+  private void createUniqueArticleIndex() {
+    SchemaClass article = db.getMetadata().getSchema().createClass("Article");
+    article.createProperty(db, "sku", PropertyType.STRING);
+    article.createProperty(db, "name", PropertyType.STRING);
+    article.createProperty(db, "price", PropertyType.INTEGER);
+
+    db.command("create index Article.sku on Article (sku) INCLUDE (name, price) UNIQUE").close();
+  }
+
+  @Test
+  public void testIncludedPropertiesInMetadata() {
+    db.command(
+            "create index Product.name on Product (name) NOTUNIQUE metadata"
+                + " {\"includedProperties\": [\"price\"]}")
+        .close();
+
+    Index index = db.getMetadata().getIndexManagerInternal().getIndex(db, "Product.name");
+    Assert.assertTrue(index.getDefinition() instanceof CoveringIndexDefinition);
+    Assert.assertEquals(
+        List.of("price"), ((CoveringIndexDefinition) index.getDefinition()).getIncludedFields());
+  }
+
+  @Test
+  public void testCreateIndexDDL() {
+    Index index = db.getMetadata().getIndexManagerInternal().getIndex(db, "Product.sku");
+    Assert.assertEquals(
+        "create index `Product.sku` on Product ( `sku` ) include ( `name`, `price` ) NOTUNIQUE ",
+        index.getDefinition().toCreateIndexDDL("Product.sku", "NOTUNIQUE", null));
+  }
+
+  private static boolean isIndexOnly(ResultSet result) {
+    for (ExecutionStep step : result.getExecutionPlan().orElseThrow().getSteps()) {
+      if (step instanceof GetValueFromCoveringIndexEntryStep) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
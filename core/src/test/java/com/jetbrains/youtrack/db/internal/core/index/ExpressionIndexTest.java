@@ -0,0 +1,190 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.query.ExecutionStep;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.core.command.BasicCommandContext;
+import com.jetbrains.youtrack.db.internal.core.sql.SQLEngine;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.FetchFromIndexStep;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.metadata.ClassIndexFinder;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.metadata.IndexCandidate;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.metadata.IndexFinder.Operation;
+import com.jetbrains.youtrack.db.internal.core.sql.parser.SQLSelectStatement;
+import java.util.Optional;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExpressionIndexTest extends DbTestBase {
+
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+    SchemaClass user = db.getMetadata().getSchema().createClass("User");
+    user.createProperty(db, "email", PropertyType.STRING);
+    user.createProperty(db, "name", PropertyType.STRING);
+
+    db.command("create index User.email on User ((email.toLowerCase())) NOTUNIQUE").close();
+
+    db.begin();
+    db.command("insert into User set name = 'alice', email = 'Alice@Example.com'").close();
+    db.command("insert into User set name = 'bob', email = 'BOB@example.com'").close();
+    db.command("insert into User set name = 'carol', email = 'carol@example.com'").close();
+    db.commit();
+  }
+
+  @Test
+  public void testValuesOfExpressionAreIndexed() {
+    Assert.assertEquals(3, getIndex().size(db));
+    try (var rids = getIndex().getRids(db, "alice@example.com")) {
+      Assert.assertEquals(1, rids.count());
+    }
+    try (var rids = getIndex().getRids(db, "Alice@Example.com")) {
+      Assert.assertEquals(0, rids.count());
+    }
+  }
+
+  @Test
+  public void testExpressionIsBoundToProperty() {
+    final ExpressionIndexDefinition definition =
+        (ExpressionIndexDefinition) getIndex().getDefinition();
+    Assert.assertEquals("email.toLowerCase()", definition.getExpressionText());
+    Assert.assertEquals("email", definition.getFields().get(0));
+    Assert.assertEquals(PropertyType.STRING, definition.getTypes()[0]);
+  }
+
+  @Test
+  public void testTypeOfExpression() {
+    db.command("create index User.name on User ((name.length())) NOTUNIQUE INTEGER").close();
+
+    final IndexInternal index =
+        db.getMetadata().getIndexManagerInternal().getIndex(db, "User.name").getInternal();
+    Assert.assertEquals(PropertyType.INTEGER, index.getDefinition().getTypes()[0]);
+    try (var rids = index.getRids(db, 5)) {
+      Assert.assertEquals(2, rids.count());
+    }
+  }
+
+  @Test
+  public void testExpressionOfMetadata() {
+    db.command(
+            "create index User.name on User (name) NOTUNIQUE metadata"
+                + " {\"expression\": \"name.toUpperCase()\"}")
+        .close();
+
+    final IndexInternal index =
+        db.getMetadata().getIndexManagerInternal().getIndex(db, "User.name").getInternal();
+    try (var rids = index.getRids(db, "BOB")) {
+      Assert.assertEquals(1, rids.count());
+    }
+  }
+
+  @Test
+  public void testIndexIsUsedByQueryWithSameExpression() {
+    try (ResultSet result =
+        db.query("select from User where email.toLowerCase() = 'bob@example.com'")) {
+      Assert.assertTrue(isIndexUsed(result));
+      Assert.assertEquals("bob", result.next().getProperty("name"));
+      Assert.assertFalse(result.hasNext());
+    }
+
+    try (ResultSet result =
+        db.query("select from User where email.toLowerCase() > 'bob@example.com'")) {
+      Assert.assertTrue(isIndexUsed(result));
+      Assert.assertEquals("carol", result.next().getProperty("name"));
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testIndexIsNotUsedByQueryOnProperty() {
+    try (ResultSet result = db.query("select from User where email = 'bob@example.com'")) {
+      Assert.assertFalse(isIndexUsed(result));
+      Assert.assertFalse(result.hasNext());
+    }
+
+    try (ResultSet result = db.query("select from User where email.toUpperCase() = 'BOB'")) {
+      Assert.assertFalse(isIndexUsed(result));
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testKeyIsUpdated() {
+    db.begin();
+    db.command("update User set email = 'Alice@Example.org' where name = 'alice'").close();
+    db.commit();
+
+    Assert.assertEquals(3, getIndex().size(db));
+    try (var rids = getIndex().getRids(db, "alice@example.com")) {
+      Assert.assertEquals(0, rids.count());
+    }
+    try (var rids = getIndex().getRids(db, "alice@example.org")) {
+      Assert.assertEquals(1, rids.count());
+    }
+  }
+
+  @Test
+  public void testKeyIsRemovedOnDelete() {
+    db.begin();
+    db.command("update User set email = 'Carol@Example.net' where name = 'carol'").close();
+    db.command("delete from User where name = 'carol'").close();
+    db.commit();
+
+    Assert.assertEquals(2, getIndex().size(db));
+    try (var rids = getIndex().getRids(db, "carol@example.com")) {
+      Assert.assertEquals(0, rids.count());
+    }
+  }
+
+  @Test
+  public void testIndexFinderMatchesExpression() {
+    final BasicCommandContext ctx = new BasicCommandContext(db);
+    final SQLSelectStatement statement =
+        (SQLSelectStatement)
+            SQLEngine.parse("select from User where email.toLowerCase() = 'a'", db);
+    final Optional<IndexCandidate> candidate =
+        statement.getWhereClause().findIndex(new ClassIndexFinder("User"), ctx);
+    Assert.assertEquals("User.email", candidate.orElseThrow().getName());
+    Assert.assertEquals(Operation.Eq, candidate.get().getOperation());
+
+    final SQLSelectStatement propertyStatement =
+        (SQLSelectStatement) SQLEngine.parse("select from User where email = 'a'", db);
+    Assert.assertTrue(
+        propertyStatement.getWhereClause().findIndex(new ClassIndexFinder("User"), ctx)
+            .isEmpty());
+  }
+
+  @Test(expected = BaseException.class)
+  public void testInvalidExpression() {
+    db.command(
+            "create index User.name on User (name) NOTUNIQUE metadata"
+                + " {\"expression\": \"name.\"}")
+        .close();
+  }
+
+  @Test(expected = BaseException.class)
+  public void testExpressionIsOnlyKey() {
+    db.command("create index User.name on User ((name.toUpperCase()), email) NOTUNIQUE")
+        .close();
+  }
+
+  @Test(expected = BaseException.class)
+  public void testExpressionWithoutProperty() {
+    db.command("create index User.name on User ((1 + 2)) NOTUNIQUE").close();
+  }
+
+  private IndexInternal getIndex() {
+    return db.getMetadata().getIndexManagerInternal().getIndex(db, "User.email").getInternal();
+  }
+
+  private static boolean isIndexUsed(ResultSet result) {
+    for (ExecutionStep step : result.getExecutionPlan().orElseThrow().getSteps()) {
+      if (step instanceof FetchFromIndexStep) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,147 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.query.ExecutionStep;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.core.sql.executor.FetchFromIndexStep;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PartialIndexTest extends DbTestBase {
+
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+    SchemaClass ticket = db.getMetadata().getSchema().createClass("Ticket");
+    ticket.createProperty(db, "customer", PropertyType.STRING);
+    ticket.createProperty(db, "status", PropertyType.STRING);
+
+    db.command(
+            "create index Ticket.customer on Ticket (customer) NOTUNIQUE where status = 'open'")
+        .close();
+
+    db.begin();
+    db.command("insert into Ticket set customer = 'a', status = 'open'").close();
+    db.command("insert into Ticket set customer = 'a', status = 'closed'").close();
+    db.command("insert into Ticket set customer = 'b', status = 'open'").close();
+    db.command("insert into Ticket set customer = 'b', status = 'closed'").close();
+    db.command("insert into Ticket set customer = 'b', status = 'closed'").close();
+    db.commit();
+  }
+
+  @Test
+  public void testOnlyMatchingRecordsAreIndexed() {
+    Assert.assertEquals(2, getIndex().size(db));
+  }
+
+  @Test
+  public void testPredicateIsStoredInMetadata() {
+    Assert.assertEquals(
+        "status = 'open'", getIndex().getMetadata().get(PartialIndexFilter.WHERE));
+  }
+
+  @Test
+  public void testPredicateOfMetadata() {
+    db.command(
+            "create index Ticket.status on Ticket (status) NOTUNIQUE metadata"
+                + " {\"where\": \"customer = 'b'\"}")
+        .close();
+
+    Assert.assertEquals(
+        3,
+        db.getMetadata().getIndexManagerInternal().getIndex(db, "Ticket.status").getInternal()
+            .size(db));
+  }
+
+  @Test
+  public void testRecordsEnterAndLeaveIndexOnUpdate() {
+    db.begin();
+    db.command("update Ticket set status = 'open' where customer = 'b' and status = 'closed'")
+        .close();
+    db.command("update Ticket set status = 'closed' where customer = 'a'").close();
+    db.commit();
+
+    Assert.assertEquals(3, getIndex().size(db));
+    try (var rids = getIndex().getRids(db, "a")) {
+      Assert.assertEquals(0, rids.count());
+    }
+    try (var rids = getIndex().getRids(db, "b")) {
+      Assert.assertEquals(3, rids.count());
+    }
+  }
+
+  @Test
+  public void testKeyIsUpdatedForMatchingRecord() {
+    db.begin();
+    db.command("update Ticket set customer = 'c' where customer = 'a' and status = 'open'")
+        .close();
+    db.commit();
+
+    Assert.assertEquals(2, getIndex().size(db));
+    try (var rids = getIndex().getRids(db, "c")) {
+      Assert.assertEquals(1, rids.count());
+    }
+  }
+
+  @Test
+  public void testMatchingRecordIsRemovedOnDelete() {
+    db.begin();
+    db.command("delete from Ticket where status = 'open'").close();
+    db.commit();
+
+    Assert.assertEquals(0, getIndex().size(db));
+  }
+
+  @Test
+  public void testIndexIsUsedIfQueryImpliesPredicate() {
+    try (ResultSet result =
+        db.query("select from Ticket where status = 'open' and customer = 'b'")) {
+      Assert.assertEquals(1, result.stream().count());
+      Assert.assertTrue(isIndexUsed(result));
+    }
+  }
+
+  @Test
+  public void testIndexIsNotUsedIfQueryDoesNotImplyPredicate() {
+    try (ResultSet result = db.query("select from Ticket where customer = 'b'")) {
+      Assert.assertEquals(3, result.stream().count());
+      Assert.assertFalse(isIndexUsed(result));
+    }
+
+    try (ResultSet result =
+        db.query("select from Ticket where status = 'closed' and customer = 'b'")) {
+      Assert.assertEquals(2, result.stream().count());
+      Assert.assertFalse(isIndexUsed(result));
+    }
+  }
+
+  @Test(expected = BaseException.class)
+  public void testInvalidPredicate() {
+    db.command(
+            "create index Ticket.status on Ticket (status) NOTUNIQUE metadata"
+                + " {\"where\": \"status = \"}")
+        .close();
+  }
+
+  @Test(expected = BaseException.class)
+  public void testInvalidWhereClause() {
+    db.command("create index Ticket.status on Ticket (status) NOTUNIQUE where status = ")
+        .close();
+  }
+
+  private IndexInternal getIndex() {
+    return db.getMetadata().getIndexManagerInternal().getIndex(db, "Ticket.customer")
+        .getInternal();
+  }
+
+  private static boolean isIndexUsed(ResultSet result) {
+    for (ExecutionStep step : result.getExecutionPlan().orElseThrow().getSteps()) {
+      if (step instanceof FetchFromIndexStep) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
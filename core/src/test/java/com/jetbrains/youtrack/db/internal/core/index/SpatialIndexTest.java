@@ -0,0 +1,285 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SpatialIndexTest extends DbTestBase {
+
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+    SchemaClass place = db.getMetadata().getSchema().createClass("Place");
+    place.createProperty(db, "name", PropertyType.STRING);
+    place.createProperty(db, "latitude", PropertyType.DOUBLE);
+    place.createProperty(db, "longitude", PropertyType.DOUBLE);
+
+    db.command(
+            "create index Place.location on Place (latitude, longitude) NOTUNIQUE ENGINE SPATIAL")
+        .close();
+
+    SchemaClass area = db.getMetadata().getSchema().createClass("Area");
+    area.createProperty(db, "name", PropertyType.STRING);
+    for (final String property : new String[]{"minLat", "minLon", "maxLat", "maxLon"}) {
+      area.createProperty(db, property, PropertyType.DOUBLE);
+    }
+    db.command(
+            "create index Area.bounds on Area (minLat, minLon, maxLat, maxLon) NOTUNIQUE ENGINE"
+                + " SPATIAL")
+        .close();
+
+    db.begin();
+    insert("london", 51.5074, -0.1278);
+    insert("paris", 48.8566, 2.3522);
+    insert("berlin", 52.52, 13.405);
+    insert("madrid", 40.4168, -3.7038);
+    insert("suva", -18.1416, 178.4419);
+    insert("apia", -13.8333, -171.75);
+
+    insertArea("greater london", 51.28, -0.51, 51.69, 0.33);
+    insertArea("france", 41.3, -5.2, 51.1, 9.6);
+    insertArea("fiji", -21, 177, -12, -178);
+    // crosses both the equator and the prime meridian, so it is stored in the block of top level
+    insertArea("gulf of guinea", -1, -10, 1, 10);
+    db.commit();
+  }
+
+  @Test
+  public void testPointsWithinBox() {
+    Assert.assertTrue(getIndex() instanceof IndexSpatial);
+    Assert.assertEquals(6, getIndex().size(db));
+    Assert.assertEquals(
+        Set.of("london", "paris"), names("spatialWithin(latitude, longitude, 45, -5, 52, 5)"));
+    Assert.assertEquals(
+        Set.of("suva", "apia"), names("spatialWithin(latitude, longitude, -25, 170, -10, -170)"));
+  }
+
+  @Test
+  public void testPointsWithinDistance() {
+    Assert.assertEquals(
+        List.of("london", "paris"),
+        orderedNames("spatialDWithin(latitude, longitude, 51.5, -0.12, 400)"));
+    Assert.assertEquals(
+        List.of("london"), orderedNames("spatialDWithin(latitude, longitude, 51.5, -0.12, 2)"));
+  }
+
+  @Test
+  public void testNearestPoints() {
+    Assert.assertEquals(
+        List.of("paris", "london"),
+        orderedNames("spatialNearest(latitude, longitude, 48.0, 2.0, 2)"));
+    Assert.assertEquals(
+        List.of("suva", "apia"), orderedNames("spatialNearest(latitude, longitude, -16, 179, 2)"));
+  }
+
+  @Test
+  public void testUpdatedPointIsReindexed() {
+    db.begin();
+    db.command("update Place set latitude = 41.9028, longitude = 12.4964 where name = 'london'")
+        .close();
+    db.commit();
+
+    Assert.assertEquals(6, getIndex().size(db));
+    Assert.assertEquals(
+        Set.of("paris"), names("spatialWithin(latitude, longitude, 45, -5, 52, 5)"));
+    Assert.assertEquals(
+        List.of("london"), orderedNames("spatialNearest(latitude, longitude, 41.9, 12.5, 1)"));
+  }
+
+  @Test
+  public void testDeletedPointIsNotReturned() {
+    db.begin();
+    db.command("delete from Place where name = 'paris'").close();
+    db.commit();
+
+    Assert.assertEquals(5, getIndex().size(db));
+    Assert.assertEquals(
+        List.of("london"), orderedNames("spatialNearest(latitude, longitude, 48.0, 2.0, 1)"));
+  }
+
+  @Test
+  public void testChangesOfTransactionAreVisible() {
+    db.begin();
+    insert("brussels", 50.8503, 4.3517);
+    db.command("delete from Place where name = 'london'").close();
+
+    Assert.assertEquals(
+        Set.of("paris", "brussels"), names("spatialWithin(latitude, longitude, 45, -5, 52, 5)"));
+    db.rollback();
+
+    Assert.assertEquals(
+        Set.of("london", "paris"), names("spatialWithin(latitude, longitude, 45, -5, 52, 5)"));
+  }
+
+  @Test
+  public void testPointsWithoutCoordinatesAreNotIndexed() {
+    db.begin();
+    db.command("insert into Place set name = 'nowhere'").close();
+    db.commit();
+
+    Assert.assertEquals(6, getIndex().size(db));
+  }
+
+  @Test(expected = BaseException.class)
+  public void testPointOutOfRangeIsRejected() {
+    db.begin();
+    insert("invalid", 91, 0);
+    db.commit();
+  }
+
+  @Test
+  public void testKeyTypesMatchFields() {
+    for (final String name : new String[]{"Place.location", "Area.bounds"}) {
+      final IndexDefinition definition = getIndex(name).getDefinition();
+      Assert.assertTrue(definition instanceof SpatialIndexDefinition);
+      Assert.assertEquals(definition.getFields().size(), definition.getTypes().length);
+    }
+  }
+
+  @Test
+  public void testBoxesIntersectingBox() {
+    Assert.assertTrue(getIndex("Area.bounds") instanceof IndexSpatial);
+    Assert.assertEquals(4, getIndex("Area.bounds").size(db));
+
+    final String condition = "spatialIntersects(minLat, minLon, maxLat, maxLon, 50, -1, 52, 1)";
+    Assert.assertTrue(plan(condition).contains("FETCH FROM INDEXED FUNCTION"));
+    Assert.assertEquals(Set.of("greater london", "france"), areaNames(condition));
+    Assert.assertEquals(
+        Set.of("gulf of guinea"),
+        areaNames("spatialIntersects(minLat, minLon, maxLat, maxLon, 0, 5, 0.5, 6)"));
+    Assert.assertEquals(
+        Set.of(), areaNames("spatialIntersects(minLat, minLon, maxLat, maxLon, 10, 5, 20, 6)"));
+  }
+
+  @Test
+  public void testBoxesWithinBox() {
+    final String condition = "spatialWithin(minLat, minLon, maxLat, maxLon, 50, -1, 52, 1)";
+    Assert.assertTrue(plan(condition).contains("FETCH FROM INDEXED FUNCTION"));
+    Assert.assertEquals(Set.of("greater london"), areaNames(condition));
+    Assert.assertEquals(
+        Set.of("greater london", "france", "gulf of guinea"),
+        areaNames("spatialWithin(minLat, minLon, maxLat, maxLon, -10, -20, 60, 20)"));
+  }
+
+  @Test
+  public void testBoxCrossingAntimeridian() {
+    Assert.assertEquals(
+        Set.of("fiji"),
+        areaNames("spatialIntersects(minLat, minLon, maxLat, maxLon, -20, 179, -15, 179.5)"));
+    Assert.assertEquals(
+        Set.of("fiji"),
+        areaNames("spatialIntersects(minLat, minLon, maxLat, maxLon, -20, -179, -15, -178.5)"));
+    Assert.assertEquals(
+        Set.of(),
+        areaNames("spatialIntersects(minLat, minLon, maxLat, maxLon, -20, -177, -15, -170)"));
+    Assert.assertEquals(
+        Set.of("fiji"),
+        areaNames("spatialWithin(minLat, minLon, maxLat, maxLon, -25, 170, -10, -170)"));
+  }
+
+  @Test
+  public void testUpdatedBoxIsReindexed() {
+    db.begin();
+    db.command(
+            "update Area set minLat = 41.8, minLon = 12.3, maxLat = 42.0, maxLon = 12.6"
+                + " where name = 'greater london'")
+        .close();
+    Assert.assertEquals(
+        Set.of("greater london"),
+        areaNames("spatialWithin(minLat, minLon, maxLat, maxLon, 41, 12, 43, 13)"));
+    db.commit();
+
+    Assert.assertEquals(4, getIndex("Area.bounds").size(db));
+    Assert.assertEquals(
+        Set.of("france"),
+        areaNames("spatialIntersects(minLat, minLon, maxLat, maxLon, 50, -1, 52, 1)"));
+    Assert.assertEquals(
+        Set.of("greater london"),
+        areaNames("spatialWithin(minLat, minLon, maxLat, maxLon, 41, 12, 43, 13)"));
+  }
+
+  @Test(expected = BaseException.class)
+  public void testDistanceSearchIsNotSupportedForBoxes() {
+    final IndexSpatial index = (IndexSpatial) getIndex("Area.bounds");
+    index.getNearestRids(db, 0, 0, 1);
+  }
+
+  @Test
+  public void testRangesCoverEncodedPoints() {
+    final List<long[]> ranges = HilbertCurve.ranges(45, -5, 52, 5, 16);
+    Assert.assertTrue(ranges.size() <= 16);
+    for (final double[] point : new double[][]{{51.5074, -0.1278}, {48.8566, 2.3522}}) {
+      final long position = HilbertCurve.encode(point[0], point[1]);
+      Assert.assertTrue(
+          ranges.stream().anyMatch(range -> range[0] <= position && position <= range[1]));
+      Assert.assertEquals(point[0], HilbertCurve.decodeLatitude(position), 1e-6);
+      Assert.assertEquals(point[1], HilbertCurve.decodeLongitude(position), 1e-6);
+    }
+  }
+
+  private void insert(final String name, final double latitude, final double longitude) {
+    db.command(
+            "insert into Place set name = ?, latitude = ?, longitude = ?",
+            name,
+            latitude,
+            longitude)
+        .close();
+  }
+
+  private void insertArea(
+      final String name,
+      final double minLatitude,
+      final double minLongitude,
+      final double maxLatitude,
+      final double maxLongitude) {
+    db.command(
+            "insert into Area set name = ?, minLat = ?, minLon = ?, maxLat = ?, maxLon = ?",
+            name,
+            minLatitude,
+            minLongitude,
+            maxLatitude,
+            maxLongitude)
+        .close();
+  }
+
+  private Set<String> areaNames(final String condition) {
+    try (ResultSet resultSet = db.query("select from Area where " + condition + " = true")) {
+      return resultSet.stream()
+          .map(result -> result.<String>getProperty("name"))
+          .collect(Collectors.toSet());
+    }
+  }
+
+  private String plan(final String condition) {
+    try (ResultSet resultSet = db.query("select from Area where " + condition + " = true")) {
+      return resultSet.getExecutionPlan().orElseThrow().prettyPrint(0, 2);
+    }
+  }
+
+  private Set<String> names(final String condition) {
+    return new HashSet<>(orderedNames(condition));
+  }
+
+  private List<String> orderedNames(final String condition) {
+    try (ResultSet resultSet = db.query("select from Place where " + condition + " = true")) {
+      return resultSet.stream()
+          .map(result -> result.<String>getProperty("name"))
+          .collect(Collectors.toList());
+    }
+  }
+
+  private IndexInternal getIndex() {
+    return getIndex("Place.location");
+  }
+
+  private IndexInternal getIndex(final String name) {
+    return db.getMetadata().getIndexManagerInternal().getIndex(db, name).getInternal();
+  }
+}
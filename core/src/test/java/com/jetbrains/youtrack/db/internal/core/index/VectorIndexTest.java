@@ -0,0 +1,158 @@
+package com.jetbrains.youtrack.db.internal.core.index;
+
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VectorIndexTest extends DbTestBase {
+
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+    SchemaClass doc = db.getMetadata().getSchema().createClass("Doc");
+    doc.createProperty(db, "name", PropertyType.STRING);
+    doc.createProperty(db, "embedding", PropertyType.EMBEDDEDLIST, PropertyType.FLOAT);
+
+    db.command(
+            "create index Doc.embedding on Doc (embedding) NOTUNIQUE ENGINE HNSW metadata"
+                + " {\"dimension\": 3, \"similarity\": \"L2\"}")
+        .close();
+
+    db.begin();
+    db.command("insert into Doc set name = 'a', embedding = [1.0, 0.0, 0.0]").close();
+    db.command("insert into Doc set name = 'b', embedding = [0.0, 1.0, 0.0]").close();
+    db.command("insert into Doc set name = 'c', embedding = [0.0, 0.0, 1.0]").close();
+    db.command("insert into Doc set name = 'd', embedding = [0.9, 0.1, 0.0]").close();
+    db.commit();
+  }
+
+  @Test
+  public void testNearestNeighboursAreOrderedByDistance() {
+    Assert.assertTrue(getIndex() instanceof IndexVector);
+    Assert.assertEquals(4, getIndex().size(db));
+    Assert.assertEquals(List.of("a", "d"), neighbours("[1.0, 0.05, 0.0]", 2));
+    Assert.assertEquals(List.of("c"), neighbours("[0.0, 0.0, 2.0]", 1));
+  }
+
+  @Test
+  public void testUpdatedVectorIsReindexed() {
+    db.begin();
+    db.command("update Doc set embedding = [0.0, 0.0, 0.9] where name = 'a'").close();
+    db.commit();
+
+    Assert.assertEquals(4, getIndex().size(db));
+    Assert.assertEquals(List.of("c", "a"), neighbours("[0.0, 0.0, 1.0]", 2));
+  }
+
+  @Test
+  public void testDeletedRecordIsNotReturned() {
+    db.begin();
+    db.command("delete from Doc where name = 'a'").close();
+    db.commit();
+
+    Assert.assertEquals(3, getIndex().size(db));
+    // "b" is closer than "c", so the order of the neighbours does not depend on the graph
+    Assert.assertEquals(List.of("d", "b"), neighbours("[1.0, 0.1, 0.0]", 2));
+  }
+
+  @Test
+  public void testChangesOfTransactionAreVisible() {
+    db.begin();
+    db.command("insert into Doc set name = 'e', embedding = [1.0, 0.0, 0.0]").close();
+    db.command("delete from Doc where name = 'a'").close();
+
+    Assert.assertEquals(List.of("e", "d"), neighbours("[1.0, 0.0, 0.0]", 2));
+    db.rollback();
+
+    Assert.assertEquals(List.of("a", "d"), neighbours("[1.0, 0.0, 0.0]", 2));
+  }
+
+  @Test
+  public void testRecallOnRandomVectors() {
+    final Random random = new Random(42);
+    db.begin();
+    for (int i = 0; i < 500; i++) {
+      db.command(
+              "insert into Doc set name = ?, embedding = [?, ?, ?]",
+              "r" + i,
+              random.nextFloat(),
+              random.nextFloat(),
+              random.nextFloat())
+          .close();
+    }
+    db.commit();
+
+    Assert.assertEquals(504, getIndex().size(db));
+    final List<String> nearest = neighbours("[0.5, 0.5, 0.5]", 10);
+    Assert.assertEquals(10, nearest.size());
+
+    try (ResultSet resultSet =
+        db.query(
+            "select name, (embedding[0] - 0.5) * (embedding[0] - 0.5)"
+                + " + (embedding[1] - 0.5) * (embedding[1] - 0.5)"
+                + " + (embedding[2] - 0.5) * (embedding[2] - 0.5) as distance"
+                + " from Doc order by distance limit 10")) {
+      final List<String> expected =
+          resultSet.stream().map(result -> result.<String>getProperty("name")).toList();
+      Assert.assertTrue(nearest.containsAll(expected.subList(0, 5)));
+    }
+  }
+
+  @Test
+  public void testIndexIsNotUsedForSorting() {
+    // order of the vectors has no meaning for the index, so records are sorted after the scan
+    final String query = "select from Doc order by embedding desc";
+    Assert.assertFalse(plan(query).contains("Doc.embedding"));
+    Assert.assertEquals(Set.of("a", "b", "c", "d"), new HashSet<>(names(query)));
+  }
+
+  @Test
+  public void testIndexIsNotUsedInRangeConditions() {
+    final String query = "select from Doc where embedding > [0.5, 0.0, 0.0]";
+    Assert.assertFalse(plan(query).contains("Doc.embedding"));
+    names(query);
+
+    final String equalityQuery = "select from Doc where embedding = [0.0, 1.0, 0.0]";
+    Assert.assertFalse(plan(equalityQuery).contains("Doc.embedding"));
+    Assert.assertEquals(List.of("b"), names(equalityQuery));
+  }
+
+  @Test(expected = BaseException.class)
+  public void testVectorOfWrongDimensionIsRejected() {
+    db.begin();
+    db.command("insert into Doc set name = 'x', embedding = [1.0, 0.0]").close();
+    db.commit();
+  }
+
+  private List<String> neighbours(final String vector, final int limit) {
+    return names(
+        "select from Doc where vectorNeighbors(embedding, " + vector + ", " + limit + ") = true");
+  }
+
+  private List<String> names(final String query) {
+    try (ResultSet resultSet = db.query(query)) {
+      return resultSet.stream()
+          .map(result -> result.<String>getProperty("name"))
+          .collect(Collectors.toList());
+    }
+  }
+
+  private String plan(final String query) {
+    try (ResultSet resultSet = db.query(query)) {
+      return resultSet.getExecutionPlan().orElseThrow().prettyPrint(0, 2);
+    }
+  }
+
+  private IndexInternal getIndex() {
+    return db.getMetadata().getIndexManagerInternal().getIndex(db, "Doc.embedding")
+        .getInternal();
+  }
+}
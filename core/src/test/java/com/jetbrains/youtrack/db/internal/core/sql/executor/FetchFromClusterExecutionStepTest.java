@@ -0,0 +1,46 @@
+package com.jetbrains.youtrack.db.internal.core.sql.executor;
+
+import com.jetbrains.youtrack.db.api.DatabaseType;
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.record.Entity;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FetchFromClusterExecutionStepTest extends DbTestBase {
+
+  @Override
+  protected DatabaseType calculateDbType() {
+    return DatabaseType.PLOCAL;
+  }
+
+  @Test
+  public void testOnlyLargeClustersAreScannedSequentially() {
+    final SchemaClass clazz = db.getMetadata().getSchema().createClass("SequentialScan");
+    final int clusterId = clazz.getClusterIds()[0];
+
+    db.begin();
+    for (int i = 0; i < 100; i++) {
+      final Entity entity = db.newEntity("SequentialScan");
+      entity.setProperty("value", i);
+      entity.save();
+    }
+    db.commit();
+
+    final AbstractPaginatedStorage storage = (AbstractPaginatedStorage) db.getStorage();
+    final int threshold =
+        db.getConfiguration()
+            .getValueAsInteger(GlobalConfiguration.QUERY_SEQUENTIAL_SCAN_THRESHOLD);
+
+    // cluster occupies few pages, so its pages are cached by the full scan
+    Assert.assertFalse(storage.isClusterLargeComparedToCache(clusterId, threshold));
+    Assert.assertTrue(storage.isClusterLargeComparedToCache(clusterId, 0));
+
+    try (final ResultSet resultSet = db.query("select from SequentialScan")) {
+      Assert.assertEquals(100, resultSet.stream().count());
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.jetbrains.youtrack.db.internal.core.sql.executor;
+
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.api.query.ExecutionStep;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.core.command.BasicCommandContext;
+import com.jetbrains.youtrack.db.internal.core.command.QueryMetrics;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QueryMetricsExecutionTest extends DbTestBase {
+
+  @Override
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+
+    db.getMetadata().getSchema().createClass("Item");
+    db.begin();
+    for (int i = 0; i < 10; i++) {
+      db.command("insert into Item set value = ?", i).close();
+    }
+    db.commit();
+  }
+
+  @Test
+  public void testStepRowsAreCountedWithoutSlowLog() {
+    Assert.assertTrue(GlobalConfiguration.QUERY_SLOW_LOG_THRESHOLD.getValueAsLong() <= 0);
+
+    try (ResultSet result = db.query("select from Item where value < 5")) {
+      Assert.assertEquals(5, result.stream().count());
+
+      final List<ExecutionStep> steps = result.getExecutionPlan().orElseThrow().getSteps();
+      final ExecutionStepInternal last = (ExecutionStepInternal) steps.get(steps.size() - 1);
+      Assert.assertEquals(5, last.getRowCount());
+      Assert.assertTrue(((ExecutionStepInternal) steps.get(0)).getRowCount() >= 5);
+    }
+  }
+
+  @Test
+  public void testNestedQueryIsChargedToOuterQuery() {
+    try (ResultSet result =
+        db.query("select value, $a.size() as size from Item"
+            + " let $a = (select from Item where value < 3)")) {
+      result.stream().forEach(item -> Assert.assertEquals(3, (int) item.getProperty("size")));
+
+      // rows of the subquery executed for each record are not added to the rows of the query
+      Assert.assertEquals(Long.valueOf(10), result.getQueryStats().get("rows"));
+      Assert.assertTrue(result.getQueryStats().get("executionTime") > 0);
+    }
+  }
+
+  @Test
+  public void testNestedContextSharesMetrics() {
+    final BasicCommandContext outer = new BasicCommandContext();
+    final BasicCommandContext nested = new BasicCommandContext();
+    nested.setParentWithoutOverridingChild(outer);
+
+    Assert.assertSame(outer.getQueryMetrics(), nested.getQueryMetrics());
+  }
+
+  @Test
+  public void testReentrantCallIsAccountedByOuterOne() throws Exception {
+    final QueryMetrics metrics = new QueryMetrics();
+
+    metrics.enter();
+    metrics.enter();
+    Thread.sleep(1);
+    metrics.exit();
+    // nested exit does not finish the accounting of the outer call
+    Assert.assertEquals(0, metrics.getExecutionTime());
+
+    metrics.exit();
+    Assert.assertTrue(metrics.getExecutionTime() > 0);
+
+    // unbalanced exit is ignored
+    final long executionTime = metrics.getExecutionTime();
+    metrics.exit();
+    Assert.assertEquals(executionTime, metrics.getExecutionTime());
+  }
+}
@@ -34,4 +34,42 @@ public class CreateIndexStatementTest extends ParserTestAbstract {
 
     checkWrongSyntax("CREATE INDEX Foo.bar IF EXISTS on Foo (bar) UNIQUE");
   }
+
+  @Test
+  public void testInclude() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) NOTUNIQUE");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar, @rid) include (baz, qux) UNIQUE");
+    checkRightSyntax(
+        "CREATE INDEX Foo.bar IF NOT EXISTS on Foo (bar collate CI) INCLUDE (baz) UNIQUE"
+            + " METADATA {'foo':'bar'}");
+    checkRightSyntax("CREATE INDEX Foo.include on Foo (include) NOTUNIQUE");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE () NOTUNIQUE");
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE baz NOTUNIQUE");
+    checkWrongSyntax("CREATE INDEX Foo.bar INCLUDE (baz) NOTUNIQUE");
+  }
+
+  @Test
+  public void testExpression() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo ((bar.toLowerCase())) NOTUNIQUE");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo ((bar.format('yyyy-MM'))) NOTUNIQUE STRING");
+    checkRightSyntax(
+        "CREATE INDEX Foo.bar on Foo ((bar + baz)) UNIQUE METADATA {'foo':'bar'} WHERE baz > 0");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (()) NOTUNIQUE");
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo ((bar.toLowerCase()) NOTUNIQUE");
+  }
+
+  @Test
+  public void testWhere() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE WHERE baz = 'x'");
+    checkRightSyntax(
+        "CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) UNIQUE METADATA {'foo':'bar'} where baz"
+            + " = 'x' and qux > 3");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE ENGINE BITMAP WHERE baz IS NULL");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE WHERE");
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) WHERE baz = 'x' NOTUNIQUE");
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE WHERE baz = 'x' METADATA {}");
+  }
 }
@@ -10,6 +10,7 @@ import com.jetbrains.youtrack.db.internal.core.YouTrackDBEnginesManager;
 import com.jetbrains.youtrack.db.internal.core.command.CommandOutputListener;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.CachePointer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.PageAccessIntent;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.PageDataVerificationError;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.WriteCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cache.local.BackgroundExceptionListener;
@@ -28,6 +29,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -188,6 +190,106 @@ public class AsyncReadCacheTestIT {
     readCache.assertSize();
   }
 
+  @Test
+  public void testSequentialLoadBypassesCache() throws Exception {
+    final int pageSize = 4 * 1024;
+
+    final DirectMemoryAllocator allocator = new DirectMemoryAllocator();
+    final ByteBufferPool byteBufferPool = new ByteBufferPool(pageSize, allocator, 0);
+    final long maxMemory = 1024 * 1024;
+
+    final AsyncReadCache readCache = new AsyncReadCache(byteBufferPool, maxMemory, pageSize);
+    final WriteCache writeCache = new MockedWriteCache(byteBufferPool);
+
+    for (int i = 0; i < 10; i++) {
+      final CacheEntry cacheEntry =
+          readCache.loadForRead(0, i, writeCache, true, PageAccessIntent.SEQUENTIAL);
+      Assert.assertFalse(cacheEntry.insideCache());
+      readCache.releaseFromRead(cacheEntry);
+    }
+
+    Assert.assertEquals(0, readCache.getUsedMemory());
+    Assert.assertEquals(
+        (long) ScanPageRing.CAPACITY * pageSize, allocator.getMemoryConsumption());
+
+    final CacheEntry cachedEntry = readCache.loadForRead(0, 0, writeCache, true);
+    Assert.assertTrue(cachedEntry.insideCache());
+    readCache.releaseFromRead(cachedEntry);
+
+    final PageAccessIntent previousIntent = PageAccessIntent.set(PageAccessIntent.SEQUENTIAL);
+    try {
+      final CacheEntry cacheEntry = readCache.loadForRead(0, 0, writeCache, true);
+      Assert.assertSame(cachedEntry, cacheEntry);
+      readCache.releaseFromRead(cacheEntry);
+    } finally {
+      PageAccessIntent.set(previousIntent);
+    }
+
+    Assert.assertEquals(pageSize, readCache.getUsedMemory());
+
+    readCache.clear();
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    readCache.assertSize();
+  }
+
+  @Test
+  public void testSequentialScanLoadsEachPageOnce() {
+    final int pageSize = 4 * 1024;
+
+    final DirectMemoryAllocator allocator = new DirectMemoryAllocator();
+    final ByteBufferPool byteBufferPool = new ByteBufferPool(pageSize, allocator, 0);
+    final long maxMemory = 1024 * 1024;
+
+    final AsyncReadCache readCache = new AsyncReadCache(byteBufferPool, maxMemory, pageSize);
+    final MockedWriteCache writeCache = new MockedWriteCache(byteBufferPool);
+
+    final int pages = 10;
+    final int recordsPerPage = 5;
+
+    // each record is read by loading of page of position map and then of data page
+    for (int i = 0; i < pages; i++) {
+      for (int j = 0; j < recordsPerPage; j++) {
+        final CacheEntry positionMapEntry =
+            readCache.loadForRead(1, 0, writeCache, true, PageAccessIntent.SEQUENTIAL);
+        Assert.assertFalse(positionMapEntry.insideCache());
+        readCache.releaseFromRead(positionMapEntry);
+
+        final CacheEntry dataEntry =
+            readCache.loadForRead(0, i, writeCache, true, PageAccessIntent.SEQUENTIAL);
+        Assert.assertFalse(dataEntry.insideCache());
+        readCache.releaseFromRead(dataEntry);
+      }
+    }
+
+    Assert.assertEquals(pages + 1, writeCache.loads.get());
+    Assert.assertEquals(0, readCache.getUsedMemory());
+
+    readCache.clear();
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+  }
+
+  @Test
+  public void testSequentialScanReloadsChangedPage() {
+    final int pageSize = 4 * 1024;
+
+    final DirectMemoryAllocator allocator = new DirectMemoryAllocator();
+    final ByteBufferPool byteBufferPool = new ByteBufferPool(pageSize, allocator, 0);
+    final MockedWriteCache writeCache = new MockedWriteCache(byteBufferPool);
+
+    final ScanPageRing ring = new ScanPageRing();
+    final CachePointer pointer = writeCache.load(0, 0, new ModifiableBoolean(), true);
+    ring.add(0, 0, 1, pointer);
+    pointer.decrementReadersReferrer();
+
+    final CachePointer acquired = ring.acquire(0, 0, 1);
+    Assert.assertSame(pointer, acquired);
+    acquired.decrementReadersReferrer();
+
+    Assert.assertNull(ring.acquire(0, 0, 2));
+    Assert.assertNull(ring.acquire(0, 0, 1));
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+  }
+
   private static final class PageWriter implements Callable<Void> {
 
     private final int fileLimit;
@@ -344,6 +446,7 @@ public class AsyncReadCacheTestIT {
   private static final class MockedWriteCache implements WriteCache {
 
     private final ByteBufferPool byteBufferPool;
+    private final AtomicInteger loads = new AtomicInteger();
 
     MockedWriteCache(final ByteBufferPool byteBufferPool) {
       this.byteBufferPool = byteBufferPool;
@@ -432,6 +535,7 @@ public class AsyncReadCacheTestIT {
         final long startPageIndex,
         final ModifiableBoolean cacheHit,
         final boolean verifyChecksums) {
+      loads.incrementAndGet();
       final Pointer pointer = byteBufferPool.acquireDirect(true, Intention.TEST);
       final CachePointer cachePointer =
           new CachePointer(pointer, byteBufferPool, fileId, (int) startPageIndex);
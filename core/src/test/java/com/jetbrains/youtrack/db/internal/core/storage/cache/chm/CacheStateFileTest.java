@@ -0,0 +1,52 @@
+package com.jetbrains.youtrack.db.internal.core.storage.cache.chm;
+
+import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CacheStateFileTest {
+
+  @Test
+  public void testWriteRead() throws IOException {
+    final Path directory = Files.createTempDirectory("cacheStateFileTest");
+    final Path stateFile = directory.resolve("disk_cache.dcs");
+    try {
+      CacheStateFile.write(
+          stateFile,
+          List.of(
+              new CacheStateFile.Page("first.pcl", 3, CacheStateFile.EDEN, 1),
+              new CacheStateFile.Page("second.cpm", 7, CacheStateFile.PROTECTION, 4),
+              new CacheStateFile.Page("first.pcl", 1, CacheStateFile.PROTECTION, 15),
+              new CacheStateFile.Page("second.cpm", 2, CacheStateFile.PROBATION, 2)));
+
+      Assert.assertFalse(Files.exists(directory.resolve("disk_cache.dcs.tmp")));
+
+      final List<CacheStateFile.Page> pages = CacheStateFile.read(stateFile);
+      Assert.assertEquals(
+          List.of(
+              new CacheStateFile.Page("first.pcl", 1, CacheStateFile.PROTECTION, 15),
+              new CacheStateFile.Page("second.cpm", 7, CacheStateFile.PROTECTION, 4),
+              new CacheStateFile.Page("second.cpm", 2, CacheStateFile.PROBATION, 2),
+              new CacheStateFile.Page("first.pcl", 3, CacheStateFile.EDEN, 1)),
+          pages);
+    } finally {
+      Files.deleteIfExists(stateFile);
+      Files.deleteIfExists(directory);
+    }
+  }
+
+  @Test(expected = StorageException.class)
+  public void testInvalidFile() throws IOException {
+    final Path stateFile = Files.createTempFile("cacheStateFileTest", ".dcs");
+    try {
+      Files.write(stateFile, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+      CacheStateFile.read(stateFile);
+    } finally {
+      Files.deleteIfExists(stateFile);
+    }
+  }
+}
@@ -665,6 +665,65 @@ public class WTinyLFUPolicyTest {
     clearPointers(wTinyLFU);
   }
 
+  @Test
+  public void testPinnedPageIsNotEvicted() {
+    DirectMemoryAllocator memoryAllocator = new DirectMemoryAllocator();
+    ByteBufferPool pool = new ByteBufferPool(1, memoryAllocator, 0);
+
+    ConcurrentHashMap<PageKey, CacheEntry> data = new ConcurrentHashMap<>();
+    Admittor admittor = mock(Admittor.class);
+
+    AtomicInteger cacheSize = new AtomicInteger();
+    WTinyLFUPolicy wTinyLFU = new WTinyLFUPolicy(data, admittor, cacheSize);
+    wTinyLFU.setMaxSize(15);
+
+    CacheEntry[] cacheEntries = new CacheEntry[30];
+    CachePointer[] cachePointers = new CachePointer[30];
+
+    generateEntries(cacheEntries, cachePointers, pool);
+
+    for (int i = 0; i < 15; i++) {
+      cacheSize.incrementAndGet();
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      wTinyLFU.onAdd(cacheEntries[i]);
+    }
+
+    Assert.assertTrue(wTinyLFU.onPin(cacheEntries[0]));
+    Assert.assertFalse(wTinyLFU.onPin(cacheEntries[0]));
+    Assert.assertEquals(1, wTinyLFU.pinnedSize());
+
+    wTinyLFU.assertSize();
+    wTinyLFU.assertConsistency();
+
+    for (int i = 15; i < 30; i++) {
+      cacheSize.incrementAndGet();
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      wTinyLFU.onAdd(cacheEntries[i]);
+      wTinyLFU.onAccess(cacheEntries[i]);
+    }
+
+    Assert.assertTrue(cacheEntries[0].isAlive());
+    Assert.assertSame(cacheEntries[0], data.get(new PageKey(1, 0)));
+    Assert.assertArrayEquals(new CacheEntry[]{cacheEntries[0]}, toArray(wTinyLFU.pinned()));
+    Assert.assertTrue(cacheSize.get() <= 15);
+
+    wTinyLFU.assertSize();
+    wTinyLFU.assertConsistency();
+
+    cacheEntries[0].freeze();
+    data.remove(new PageKey(1, 0), cacheEntries[0]);
+    cacheSize.decrementAndGet();
+    wTinyLFU.onRemove(cacheEntries[0]);
+
+    Assert.assertTrue(cacheEntries[0].isDead());
+    Assert.assertEquals(0, wTinyLFU.pinnedSize());
+
+    wTinyLFU.assertSize();
+    wTinyLFU.assertConsistency();
+
+    clearPointers(wTinyLFU);
+  }
+
   private static CacheEntry[] toArray(Iterator<CacheEntry> iterator) {
     final List<CacheEntry> entries = new ArrayList<>();
     while (iterator.hasNext()) {
@@ -692,6 +751,7 @@ public class WTinyLFUPolicyTest {
     clearQueue(policy.eden());
     clearQueue(policy.probation());
     clearQueue(policy.protection());
+    clearQueue(policy.pinned());
   }
 
   private static void clearQueue(final Iterator<CacheEntry> iterator) {
@@ -0,0 +1,76 @@
+package com.jetbrains.youtrack.db.internal.core.storage.cache.local;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveFlushControllerTest {
+
+  private static final long TICK = TimeUnit.MILLISECONDS.toNanos(25);
+
+  @Test
+  public void testFlushRateFollowsGrowthOfDirtyPages() {
+    final AdaptiveFlushController controller = new AdaptiveFlushController(10_000, 1L << 40, 100);
+
+    long now = 0;
+    long dirtyPages = 10_000;
+    for (int i = 0; i < 400; i++) {
+      now += TICK;
+      dirtyPages += i >= 100 && i < 150 ? 5_000 : 1_000;
+
+      final long pages = Math.min(controller.pagesToFlush(now, dirtyPages, 0), dirtyPages);
+      dirtyPages -= pages;
+      controller.onPagesFlushed((int) pages, pages * 5_000);
+
+      Assert.assertTrue(dirtyPages < 15_000);
+    }
+
+    Assert.assertEquals(40_000, controller.dirtyPagesGrowthRate(), 400);
+    Assert.assertEquals(40_000, controller.targetRate(), 1_000);
+    Assert.assertEquals(5_000, controller.pageWriteLatency());
+  }
+
+  @Test
+  public void testFlushRateIsLimitedByDiskThroughput() {
+    final AdaptiveFlushController controller = new AdaptiveFlushController(1_000, 1L << 40, 10);
+
+    long now = 0;
+    for (int i = 0; i < 100; i++) {
+      now += TICK;
+
+      final long pages = controller.pagesToFlush(now, 1_000_000, 0);
+      // single page is written in 1 ms, so disk can write 1000 pages per second
+      controller.onPagesFlushed((int) pages, TimeUnit.MILLISECONDS.toNanos(pages));
+    }
+
+    Assert.assertEquals(1_000, controller.targetRate());
+  }
+
+  @Test
+  public void testNoFlushBelowTarget() {
+    final AdaptiveFlushController controller = new AdaptiveFlushController(10_000, 1L << 40, 10);
+
+    long now = 0;
+    for (int i = 0; i < 100; i++) {
+      now += TICK;
+      Assert.assertEquals(0, controller.pagesToFlush(now, 1_000, 0));
+    }
+
+    Assert.assertEquals(0, controller.targetRate());
+  }
+
+  @Test
+  public void testWalSizeAboveTarget() {
+    final AdaptiveFlushController controller = new AdaptiveFlushController(10_000, 1_000_000, 10);
+
+    long now = 0;
+    long flushed = 0;
+    for (int i = 0; i < 100; i++) {
+      now += TICK;
+      flushed += controller.pagesToFlush(now, 1_000, 4_000_000);
+    }
+
+    Assert.assertTrue(controller.isWalBound());
+    Assert.assertTrue(flushed > 0);
+  }
+}
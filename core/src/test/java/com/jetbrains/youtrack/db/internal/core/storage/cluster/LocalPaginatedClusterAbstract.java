@@ -18,6 +18,11 @@ import java.util.NavigableMap;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.assertj.core.api.Assertions;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -1718,5 +1723,95 @@ public abstract class LocalPaginatedClusterAbstract {
       }
     }
   }
-}
 
+  @Test
+  public void testOptimisticReadsDuringConcurrentUpdates() throws Exception {
+    final int records = 64;
+    final PhysicalPosition[] positions = new PhysicalPosition[records];
+    for (int i = 0; i < records; i++) {
+      final int index = i;
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation ->
+              positions[index] =
+                  paginatedCluster.createRecord(
+                      versionedRecord(1), 1, (byte) 1, null, atomicOperation));
+    }
+
+    final AtomicBoolean stop = new AtomicBoolean();
+    final AtomicLong reads = new AtomicLong();
+    final ExecutorService executor = Executors.newFixedThreadPool(6);
+    final List<Future<Void>> futures = new ArrayList<>();
+
+    // updates change both size and content of the records, so records are moved between pages
+    // and page chains of the big records are rebuilt while readers read them
+    for (int n = 0; n < 2; n++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                final Random random = new Random();
+                int version = 2;
+                while (!stop.get()) {
+                  final PhysicalPosition position = positions[random.nextInt(records)];
+                  final int recordVersion = version++;
+                  atomicOperationsManager.executeInsideAtomicOperation(
+                      null,
+                      atomicOperation ->
+                          paginatedCluster.updateRecord(
+                              position.clusterPosition,
+                              versionedRecord(recordVersion),
+                              recordVersion,
+                              (byte) 1,
+                              atomicOperation));
+                }
+                return null;
+              }));
+    }
+
+    // readers are not inside of atomic operation, so records are read optimistically
+    for (int n = 0; n < 4; n++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                final Random random = new Random();
+                while (!stop.get()) {
+                  final PhysicalPosition position = positions[random.nextInt(records)];
+                  final RawBuffer rawBuffer =
+                      paginatedCluster.readRecord(position.clusterPosition, false);
+                  Assert.assertNotNull(rawBuffer);
+                  Assertions.assertThat(rawBuffer.buffer)
+                      .isEqualTo(versionedRecord(rawBuffer.version));
+                  reads.incrementAndGet();
+                }
+                return null;
+              }));
+    }
+
+    Thread.sleep(3_000);
+    stop.set(true);
+
+    for (final Future<Void> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    Assert.assertTrue(reads.get() > 0);
+    for (final PhysicalPosition position : positions) {
+      final RawBuffer rawBuffer = paginatedCluster.readRecord(position.clusterPosition, false);
+      Assertions.assertThat(rawBuffer.buffer).isEqualTo(versionedRecord(rawBuffer.version));
+    }
+  }
+
+  /**
+   * @return Content of the record which is fully defined by its version, every third version is
+   * bigger than a page, so it is stored as a chain of pages.
+   */
+  private static byte[] versionedRecord(final int version) {
+    final int size = version % 3 == 0 ? 65536 + version % 1024 : 16 + version % 512;
+    final byte[] record = new byte[size];
+    for (int i = 0; i < size; i++) {
+      record[i] = (byte) (version + i);
+    }
+    return record;
+  }
+}
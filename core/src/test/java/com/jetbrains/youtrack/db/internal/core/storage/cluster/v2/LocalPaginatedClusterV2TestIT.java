@@ -4,11 +4,14 @@ import com.jetbrains.youtrack.db.api.config.YouTrackDBConfig;
 import com.jetbrains.youtrack.db.internal.common.io.FileUtils;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import com.jetbrains.youtrack.db.internal.core.db.YouTrackDBImpl;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.chm.AsyncReadCache;
 import com.jetbrains.youtrack.db.internal.core.storage.cluster.LocalPaginatedClusterAbstract;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
 import java.io.File;
 import java.io.IOException;
+import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 public class LocalPaginatedClusterV2TestIT extends LocalPaginatedClusterAbstract {
 
@@ -40,4 +43,10 @@ public class LocalPaginatedClusterV2TestIT extends LocalPaginatedClusterAbstract
         .executeInsideAtomicOperation(
             null, atomicOperation -> paginatedCluster.create(atomicOperation));
   }
+
+  @Test
+  public void testStatePageIsPinnedOnCreate() {
+    final AsyncReadCache readCache = (AsyncReadCache) storage.getReadCache();
+    Assert.assertTrue(readCache.isPinned(((PaginatedClusterV2) paginatedCluster).getFileId(), 0));
+  }
 }
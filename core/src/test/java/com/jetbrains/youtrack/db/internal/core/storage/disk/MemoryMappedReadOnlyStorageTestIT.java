@@ -0,0 +1,134 @@
+package com.jetbrains.youtrack.db.internal.core.storage.disk;
+
+import com.jetbrains.youtrack.db.api.DatabaseSession;
+import com.jetbrains.youtrack.db.api.YouTrackDB;
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.api.config.YouTrackDBConfig;
+import com.jetbrains.youtrack.db.api.exception.DatabaseException;
+import com.jetbrains.youtrack.db.api.exception.ModificationOperationProhibitedException;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.db.YouTrackDBConfigImpl;
+import com.jetbrains.youtrack.db.internal.core.db.YouTrackDBImpl;
+import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MemoryMappedReadOnlyStorageTestIT {
+
+  private static final String DB_NAME = MemoryMappedReadOnlyStorageTestIT.class.getSimpleName();
+  private static final String OTHER_DB_NAME = DB_NAME + "Other";
+
+  private YouTrackDB youTrackDB;
+
+  @Test
+  public void testReadSnapshot() {
+    final YouTrackDBConfigImpl config =
+        (YouTrackDBConfigImpl) YouTrackDBConfig.builder()
+            .addAttribute(DatabaseSession.ATTRIBUTES.MINIMUM_CLUSTERS, 1)
+            .build();
+
+    youTrackDB = new YouTrackDBImpl(DbTestBase.embeddedDBUrl(getClass()), config);
+    youTrackDB.execute(
+        "create database " + DB_NAME + " plocal users ( admin identified by 'admin' role admin)");
+
+    var session = (DatabaseSessionInternal) youTrackDB.open(DB_NAME, "admin", "admin", config);
+    session.getMetadata().getSchema().createClass("Snapshot");
+
+    for (int i = 0; i < 1_000; i++) {
+      EntityImpl document = new EntityImpl("Snapshot");
+      document.field("value", i);
+      document.save();
+    }
+
+    session.close();
+    youTrackDB.close();
+
+    final YouTrackDBConfigImpl readOnlyConfig =
+        (YouTrackDBConfigImpl) YouTrackDBConfig.builder()
+            .addAttribute(DatabaseSession.ATTRIBUTES.MINIMUM_CLUSTERS, 1)
+            .addGlobalConfigurationParameter(GlobalConfiguration.STORAGE_MAPPED_READ_ONLY, true)
+            .build();
+
+    youTrackDB = new YouTrackDBImpl(DbTestBase.embeddedDBUrl(getClass()), config);
+    session = (DatabaseSessionInternal) youTrackDB.open(DB_NAME, "admin", "admin",
+        readOnlyConfig);
+
+    Assert.assertTrue(session.getStorage() instanceof MemoryMappedReadOnlyStorage);
+
+    try (ResultSet resultSet = session.query("select count(*) as count from Snapshot")) {
+      Assert.assertEquals(1_000L, (long) resultSet.next().<Long>getProperty("count"));
+    }
+
+    try (ResultSet resultSet = session.query("select from Snapshot where value = 42")) {
+      Assert.assertEquals(42, (int) resultSet.next().<Integer>getProperty("value"));
+    }
+
+    try {
+      EntityImpl document = new EntityImpl("Snapshot");
+      document.field("value", -1);
+      document.save();
+      Assert.fail();
+    } catch (ModificationOperationProhibitedException e) {
+      // expected
+    }
+
+    session.close();
+    youTrackDB.close();
+
+    youTrackDB = new YouTrackDBImpl(DbTestBase.embeddedDBUrl(getClass()), config);
+  }
+
+  @Test
+  public void testReadOnlyModeIsAppliedPerDatabase() {
+    final YouTrackDBConfigImpl config =
+        (YouTrackDBConfigImpl) YouTrackDBConfig.builder()
+            .addAttribute(DatabaseSession.ATTRIBUTES.MINIMUM_CLUSTERS, 1)
+            .build();
+    final YouTrackDBConfigImpl readOnlyConfig =
+        (YouTrackDBConfigImpl) YouTrackDBConfig.builder()
+            .addAttribute(DatabaseSession.ATTRIBUTES.MINIMUM_CLUSTERS, 1)
+            .addGlobalConfigurationParameter(GlobalConfiguration.STORAGE_MAPPED_READ_ONLY, true)
+            .build();
+
+    youTrackDB = new YouTrackDBImpl(DbTestBase.embeddedDBUrl(getClass()), config);
+    youTrackDB.execute(
+        "create database " + DB_NAME + " plocal users ( admin identified by 'admin' role admin)");
+    youTrackDB.execute(
+        "create database " + OTHER_DB_NAME
+            + " plocal users ( admin identified by 'admin' role admin)");
+    youTrackDB.close();
+
+    youTrackDB = new YouTrackDBImpl(DbTestBase.embeddedDBUrl(getClass()), config);
+    var readOnlySession =
+        (DatabaseSessionInternal) youTrackDB.open(DB_NAME, "admin", "admin", readOnlyConfig);
+    var session =
+        (DatabaseSessionInternal) youTrackDB.open(OTHER_DB_NAME, "admin", "admin", config);
+
+    Assert.assertTrue(readOnlySession.getStorage() instanceof MemoryMappedReadOnlyStorage);
+    Assert.assertFalse(session.getStorage() instanceof MemoryMappedReadOnlyStorage);
+
+    // database which is already opened in normal mode can not be reopened in read only mode
+    try {
+      youTrackDB.open(OTHER_DB_NAME, "admin", "admin", readOnlyConfig);
+      Assert.fail();
+    } catch (DatabaseException e) {
+      // expected
+    }
+
+    readOnlySession.close();
+    session.close();
+    youTrackDB.close();
+
+    youTrackDB = new YouTrackDBImpl(DbTestBase.embeddedDBUrl(getClass()), config);
+    youTrackDB.drop(OTHER_DB_NAME);
+  }
+
+  @After
+  public void after() {
+    youTrackDB.drop(DB_NAME);
+    youTrackDB.close();
+  }
+}
@@ -0,0 +1,163 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.UpdatePageRecord;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.wal.WriteAheadLog;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelWALRestoreTest {
+
+  @Test
+  public void testSubmittedChangesAreAppliedOnClose() throws Exception {
+    final Set<Long> applied = ConcurrentHashMap.newKeySet();
+    final ParallelWALRestore restore =
+        new ParallelWALRestore(
+            "parallelWALRestoreTest",
+            4,
+            16,
+            emptyLog(),
+            null,
+            (fileId, record) -> {
+              sleep();
+              applied.add(record.getPageIndex());
+            });
+
+    for (long i = 0; i < 200; i++) {
+      restore.submit(i % 7, new UpdatePageRecord(i, i % 7, 1, null, null));
+    }
+
+    // restore is stopped without barrier, for example because of error in the restoring thread
+    restore.close();
+
+    Assert.assertEquals(200, applied.size());
+    Assert.assertFalse(restore.isFailed());
+  }
+
+  @Test
+  public void testWorkerFailureIsThrownByBarrier() throws Exception {
+    final CountDownLatch submitted = new CountDownLatch(1);
+    final ParallelWALRestore restore =
+        new ParallelWALRestore("parallelWALRestoreTest", 4, 128, emptyLog(), null,
+            failingRestore(50, submitted));
+
+    for (long i = 0; i < 100; i++) {
+      restore.submit(1, new UpdatePageRecord(i, 1, 1, null, null));
+    }
+    submitted.countDown();
+
+    try {
+      restore.barrier();
+      Assert.fail();
+    } catch (IOException e) {
+      Assert.assertEquals("page 50", e.getMessage());
+    }
+
+    Assert.assertTrue(restore.isFailed());
+
+    // failure is already reported
+    restore.close();
+  }
+
+  @Test
+  public void testWorkerFailureIsThrownByClose() throws Exception {
+    final CountDownLatch submitted = new CountDownLatch(1);
+    final ParallelWALRestore restore =
+        new ParallelWALRestore("parallelWALRestoreTest", 4, 128, emptyLog(), null,
+            failingRestore(50, submitted));
+
+    for (long i = 0; i < 100; i++) {
+      restore.submit(1, new UpdatePageRecord(i, 1, 1, null, null));
+    }
+    submitted.countDown();
+
+    try {
+      restore.close();
+      Assert.fail();
+    } catch (IOException e) {
+      Assert.assertEquals("page 50", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testChangesAfterFailureAreNotApplied() throws Exception {
+    final Set<Long> applied = ConcurrentHashMap.newKeySet();
+    final CountDownLatch submitted = new CountDownLatch(1);
+    final ParallelWALRestore restore =
+        new ParallelWALRestore(
+            "parallelWALRestoreTest",
+            1,
+            32,
+            emptyLog(),
+            null,
+            (fileId, record) -> {
+              await(submitted);
+              if (record.getPageIndex() == 10) {
+                throw new IOException("page 10");
+              }
+              applied.add(record.getPageIndex());
+            });
+
+    for (long i = 0; i < 20; i++) {
+      restore.submit(1, new UpdatePageRecord(i, 1, 1, null, null));
+    }
+    submitted.countDown();
+
+    try {
+      restore.close();
+      Assert.fail();
+    } catch (IOException e) {
+      Assert.assertEquals("page 10", e.getMessage());
+    }
+
+    Assert.assertEquals(10, applied.size());
+    for (long i = 0; i < 10; i++) {
+      Assert.assertTrue(applied.contains(i));
+    }
+  }
+
+  /**
+   * Changes are applied only after all of them are submitted, otherwise submit would throw
+   * the failure.
+   */
+  private static ParallelWALRestore.PageChangesRestore failingRestore(
+      final long failedPage, final CountDownLatch submitted) {
+    return (fileId, record) -> {
+      await(submitted);
+      if (record.getPageIndex() == failedPage) {
+        throw new IOException("page " + failedPage);
+      }
+    };
+  }
+
+  private static WriteAheadLog emptyLog() throws IOException {
+    final WriteAheadLog writeAheadLog = mock(WriteAheadLog.class);
+    when(writeAheadLog.read(any(), anyInt())).thenReturn(Collections.emptyList());
+    return writeAheadLog;
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(1);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
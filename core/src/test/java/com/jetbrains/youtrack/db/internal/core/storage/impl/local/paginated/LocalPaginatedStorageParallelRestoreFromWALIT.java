@@ -0,0 +1,270 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated;
+
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.Schema;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.common.io.FileUtils;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseDocumentTx;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseRecordThreadLocal;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.db.tool.DatabaseCompare;
+import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
+import com.jetbrains.youtrack.db.internal.core.storage.Storage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Restores the same crashed storage from WAL sequentially and in parallel and checks that both
+ * restored storages are equal to the original one. Changes are made concurrently to many classes,
+ * indexes and temporary classes which are created and dropped during the test, so WAL contains
+ * interleaved changes of many files, together with file creation and deletion records.
+ */
+public class LocalPaginatedStorageParallelRestoreFromWALIT {
+
+  private static final String BASE_NAME = "baseParallelRestoreFromWAL";
+  private static final String SERIAL_NAME = "serialParallelRestoreFromWAL";
+  private static final String PARALLEL_NAME = "parallelParallelRestoreFromWAL";
+
+  private static final int CLASSES = 8;
+
+  private static File buildDir;
+  private static Object restoreThreads;
+
+  private DatabaseSessionInternal baseDocumentTx;
+  private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+  @BeforeClass
+  public static void beforeClass() {
+    GlobalConfiguration.FILE_LOCK.setValue(false);
+    GlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(100000000);
+    restoreThreads = GlobalConfiguration.WAL_RESTORE_THREADS.getValue();
+
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+    buildDirectory += "/localPaginatedStorageParallelRestoreFromWAL";
+
+    buildDir = new File(buildDirectory);
+    FileUtils.deleteRecursively(buildDir);
+    Assert.assertTrue(buildDir.mkdirs());
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    GlobalConfiguration.WAL_RESTORE_THREADS.setValue(restoreThreads);
+    FileUtils.deleteRecursively(buildDir);
+  }
+
+  @Before
+  public void beforeMethod() {
+    baseDocumentTx = new DatabaseDocumentTx("plocal:" + storagePath(BASE_NAME));
+    if (baseDocumentTx.exists()) {
+      baseDocumentTx.open("admin", "admin");
+      baseDocumentTx.drop();
+    }
+
+    baseDocumentTx.create();
+    createSchema(baseDocumentTx);
+  }
+
+  @After
+  public void afterMethod() {
+    for (final String name : new String[]{SERIAL_NAME, PARALLEL_NAME, BASE_NAME}) {
+      final DatabaseSessionInternal db = new DatabaseDocumentTx("plocal:" + storagePath(name));
+      if (db.exists()) {
+        db.open("admin", "admin");
+        db.drop();
+      }
+    }
+
+    executorService.shutdown();
+  }
+
+  @Test
+  public void testParallelRestoreMatchesSerialRestore() throws Exception {
+    final List<Future<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(executorService.submit(new DataPropagationTask(i)));
+    }
+
+    for (final Future<Void> future : futures) {
+      future.get();
+    }
+
+    Thread.sleep(1500);
+
+    // storage files are copied while storage is open, which simulates crash
+    copyStorage(BASE_NAME, SERIAL_NAME);
+    copyStorage(BASE_NAME, PARALLEL_NAME);
+
+    final Storage baseStorage = baseDocumentTx.getStorage();
+    baseDocumentTx.close();
+    baseStorage.close(baseDocumentTx);
+
+    GlobalConfiguration.WAL_RESTORE_THREADS.setValue(1);
+    final DatabaseSessionInternal serialDocumentTx = openRestored(SERIAL_NAME);
+
+    GlobalConfiguration.WAL_RESTORE_THREADS.setValue(4);
+    final DatabaseSessionInternal parallelDocumentTx = openRestored(PARALLEL_NAME);
+
+    baseDocumentTx = new DatabaseDocumentTx("plocal:" + storagePath(BASE_NAME));
+    baseDocumentTx.open("admin", "admin");
+
+    assertEquals(serialDocumentTx, baseDocumentTx);
+    assertEquals(parallelDocumentTx, baseDocumentTx);
+    assertEquals(parallelDocumentTx, serialDocumentTx);
+
+    serialDocumentTx.close();
+    parallelDocumentTx.close();
+    baseDocumentTx.close();
+  }
+
+  private static DatabaseSessionInternal openRestored(final String name) {
+    DatabaseSessionInternal db = new DatabaseDocumentTx("plocal:" + storagePath(name));
+    db.open("admin", "admin");
+    db.close();
+
+    db = new DatabaseDocumentTx("plocal:" + storagePath(name));
+    db.open("admin", "admin");
+    return db;
+  }
+
+  private static void assertEquals(
+      final DatabaseSessionInternal first, final DatabaseSessionInternal second)
+      throws IOException {
+    DatabaseRecordThreadLocal.instance().set(first);
+    final DatabaseCompare databaseCompare =
+        new DatabaseCompare(first, second, System.out::println);
+    databaseCompare.setCompareIndexMetadata(true);
+
+    Assert.assertTrue(databaseCompare.compare());
+  }
+
+  private static String storagePath(final String name) {
+    return buildDir.getAbsolutePath() + File.separator + name;
+  }
+
+  /**
+   * Copies files of the storage, files which contain name of the storage are renamed.
+   */
+  private static void copyStorage(final String from, final String to) throws IOException {
+    final File fromDir = new File(storagePath(from));
+    final File toDir = new File(storagePath(to));
+    FileUtils.deleteRecursively(toDir);
+    Assert.assertTrue(toDir.mkdirs());
+
+    final File[] storageFiles = fromDir.listFiles();
+    Assert.assertNotNull(storageFiles);
+
+    for (final File storageFile : storageFiles) {
+      if (storageFile.getName().equals("dirty.fl") || storageFile.isDirectory()) {
+        continue;
+      }
+
+      final String name =
+          storageFile.getName().startsWith(from + ".")
+              ? to + storageFile.getName().substring(from.length())
+              : storageFile.getName();
+      Files.copy(storageFile.toPath(), new File(toDir, name).toPath());
+    }
+  }
+
+  private static void createSchema(final DatabaseSessionInternal db) {
+    DatabaseRecordThreadLocal.instance().set(db);
+
+    final Schema schema = db.getMetadata().getSchema();
+    for (int i = 0; i < CLASSES; i++) {
+      final SchemaClass testClass = schema.createClass("Test" + i);
+      testClass.createProperty(db, "intProp", PropertyType.INTEGER);
+      testClass.createProperty(db, "stringProp", PropertyType.STRING);
+      testClass.createIndex(db, "Test" + i + ".intProp", SchemaClass.INDEX_TYPE.NOTUNIQUE,
+          "intProp");
+      testClass.createIndex(db, "Test" + i + ".stringProp", SchemaClass.INDEX_TYPE.UNIQUE,
+          "stringProp");
+    }
+  }
+
+  public class DataPropagationTask implements Callable<Void> {
+
+    private final int id;
+
+    public DataPropagationTask(final int id) {
+      this.id = id;
+    }
+
+    @Override
+    public Void call() throws Exception {
+      final Random random = new Random();
+
+      final DatabaseSessionInternal db = new DatabaseDocumentTx(baseDocumentTx.getURL());
+      db.open("admin", "admin");
+      try {
+        final List<EntityImpl> created = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+          db.begin();
+          // single transaction changes several classes, so changes of different files are
+          // interleaved inside of atomic operation
+          for (int n = 0; n < 3; n++) {
+            final EntityImpl entity = new EntityImpl("Test" + random.nextInt(CLASSES));
+            entity.field("intProp", random.nextInt(100));
+            entity.field("stringProp", id + "-" + i + "-" + n);
+            entity.save();
+            created.add(entity);
+          }
+          db.commit();
+
+          if (random.nextDouble() < 0.3) {
+            db.begin();
+            final EntityImpl entity =
+                db.bindToSession(created.get(random.nextInt(created.size())));
+            entity.field("intProp", random.nextInt(100));
+            entity.save();
+            db.commit();
+          }
+
+          if (random.nextDouble() < 0.1) {
+            db.begin();
+            db.delete(db.bindToSession(created.remove(random.nextInt(created.size()))));
+            db.commit();
+          }
+
+          // files of temporary classes are created and deleted during the restore
+          if (i % 500 == 0) {
+            final String className = "Temp" + id + "_" + i;
+            final SchemaClass tempClass = db.getMetadata().getSchema().createClass(className);
+            tempClass.createProperty(db, "value", PropertyType.INTEGER);
+            tempClass.createIndex(db, className + ".value", SchemaClass.INDEX_TYPE.NOTUNIQUE,
+                "value");
+
+            db.begin();
+            for (int n = 0; n < 100; n++) {
+              new EntityImpl(className).field("value", n).save();
+            }
+            db.commit();
+
+            if (random.nextBoolean()) {
+              db.getMetadata().getSchema().dropClass(className);
+            }
+          }
+        }
+      } finally {
+        db.close();
+      }
+
+      return null;
+    }
+  }
+}
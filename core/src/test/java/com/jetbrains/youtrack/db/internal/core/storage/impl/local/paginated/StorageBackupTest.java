@@ -2,6 +2,7 @@ package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated;
 
 import com.jetbrains.youtrack.db.api.YouTrackDB;
 import com.jetbrains.youtrack.db.api.YourTracks;
+import com.jetbrains.youtrack.db.api.config.ContextConfiguration;
 import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
 import com.jetbrains.youtrack.db.api.config.YouTrackDBConfig;
 import com.jetbrains.youtrack.db.api.schema.PropertyType;
@@ -9,13 +10,22 @@ import com.jetbrains.youtrack.db.api.schema.Schema;
 import com.jetbrains.youtrack.db.api.schema.SchemaClass;
 import com.jetbrains.youtrack.db.internal.DbTestBase;
 import com.jetbrains.youtrack.db.internal.common.io.FileUtils;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.ByteSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.IntegerSerializer;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.LongSerializer;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import com.jetbrains.youtrack.db.internal.core.db.YouTrackDBConfigImpl;
 import com.jetbrains.youtrack.db.internal.core.db.YouTrackDBImpl;
 import com.jetbrains.youtrack.db.internal.core.db.tool.DatabaseCompare;
 import com.jetbrains.youtrack.db.internal.core.record.impl.EntityImpl;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -313,4 +323,180 @@ public class StorageBackupTest {
 
     FileUtils.deleteRecursively(backupDir);
   }
+
+  @Test
+  public void testParallelFormatIncrementalBackup() throws Exception {
+    FileUtils.deleteRecursively(new File(testDirectory));
+    final YouTrackDBConfigImpl config =
+        (YouTrackDBConfigImpl) YouTrackDBConfig.builder()
+            .addGlobalConfigurationParameter(GlobalConfiguration.STORAGE_BACKUP_PARALLEL_FORMAT,
+                true)
+            .addGlobalConfigurationParameter(GlobalConfiguration.STORAGE_BACKUP_THREADS, 4)
+            .build();
+    YouTrackDB youTrackDB = YourTracks.embedded(testDirectory, config);
+
+    final String dbName = StorageBackupTest.class.getSimpleName();
+    youTrackDB.execute(
+        "create database `" + dbName + "` plocal users(admin identified by 'admin' role admin)");
+
+    var db = (DatabaseSessionInternal) youTrackDB.open(dbName, "admin", "admin");
+
+    final Schema schema = db.getMetadata().getSchema();
+    final SchemaClass backupClass = schema.createClass("BackupClass");
+    backupClass.createProperty(db, "num", PropertyType.INTEGER);
+    backupClass.createProperty(db, "data", PropertyType.BINARY);
+
+    backupClass.createIndex(db, "backupIndex", SchemaClass.INDEX_TYPE.NOTUNIQUE, "num");
+
+    final Random random = new Random();
+    final File backupDir = new File(testDirectory, "backupDir");
+    FileUtils.deleteRecursively(backupDir);
+
+    if (!backupDir.exists()) {
+      Assert.assertTrue(backupDir.mkdirs());
+    }
+
+    for (int n = 0; n < 3; n++) {
+      for (int i = 0; i < 1000; i++) {
+        db.begin();
+        final byte[] data = new byte[16];
+        random.nextBytes(data);
+
+        final EntityImpl document = new EntityImpl("BackupClass");
+        document.field("num", random.nextInt());
+        document.field("data", data);
+
+        document.save();
+        db.commit();
+      }
+
+      db.incrementalBackup(backupDir.toPath());
+    }
+
+    db.close();
+    youTrackDB.close();
+
+    Assert.assertTrue(backupContainsEntry(backupDir, ".lz4pages"));
+    Assert.assertTrue(backupContainsEntry(backupDir, "backup.manifest"));
+
+    final String backupDbName = StorageBackupTest.class.getSimpleName() + "BackUp";
+
+    youTrackDB = YourTracks.embedded(testDirectory, config);
+    youTrackDB.restore(
+        backupDbName,
+        null,
+        null,
+        backupDir.getAbsolutePath(),
+        config);
+
+    final DatabaseCompare compare =
+        new DatabaseCompare(
+            (DatabaseSessionInternal) youTrackDB.open(dbName, "admin", "admin"),
+            (DatabaseSessionInternal) youTrackDB.open(backupDbName, "admin", "admin"),
+            System.out::println);
+
+    Assert.assertTrue(compare.compare());
+
+    youTrackDB.drop(dbName);
+    youTrackDB.drop(backupDbName);
+    youTrackDB.close();
+
+    FileUtils.deleteRecursively(backupDir);
+  }
+
+  @Test
+  public void testLegacyFormatBackupIsRestored() throws Exception {
+    FileUtils.deleteRecursively(new File(testDirectory));
+
+    YouTrackDB youTrackDB = YourTracks.embedded(testDirectory, YouTrackDBConfig.defaultConfig());
+
+    final String dbName = StorageBackupTest.class.getSimpleName();
+    youTrackDB.execute(
+        "create database `" + dbName + "` plocal users(admin identified by 'admin' role admin)");
+
+    var db = (DatabaseSessionInternal) youTrackDB.open(dbName, "admin", "admin");
+    final SchemaClass backupClass = db.getMetadata().getSchema().createClass("BackupClass");
+    backupClass.createProperty(db, "num", PropertyType.INTEGER);
+    backupClass.createIndex(db, "backupIndex", SchemaClass.INDEX_TYPE.NOTUNIQUE, "num");
+
+    final File backupDir = new File(testDirectory, "backupDir");
+    FileUtils.deleteRecursively(backupDir);
+    Assert.assertTrue(backupDir.mkdirs());
+
+    final ContextConfiguration contextConfiguration =
+        db.getStorage().getConfiguration().getContextConfiguration();
+    Assert.assertTrue(
+        contextConfiguration.getValueAsBoolean(GlobalConfiguration.STORAGE_BACKUP_PARALLEL_FORMAT));
+
+    // backups are made by previous version first and then continued by the current one
+    for (final boolean parallelFormat : new boolean[]{false, true}) {
+      contextConfiguration.setValue(
+          GlobalConfiguration.STORAGE_BACKUP_PARALLEL_FORMAT, parallelFormat);
+
+      for (int i = 0; i < 100; i++) {
+        db.begin();
+        new EntityImpl("BackupClass").field("num", i).save();
+        db.commit();
+      }
+
+      db.incrementalBackup(backupDir.toPath());
+      Assert.assertEquals(parallelFormat, backupContainsEntry(backupDir, ".lz4pages"));
+      Assert.assertEquals(parallelFormat, backupContainsEntry(backupDir, "backup.manifest"));
+    }
+
+    db.close();
+    youTrackDB.close();
+
+    final String backupDbName = StorageBackupTest.class.getSimpleName() + "BackUp";
+
+    youTrackDB = YourTracks.embedded(testDirectory, YouTrackDBConfig.defaultConfig());
+    youTrackDB.restore(
+        backupDbName,
+        null,
+        null,
+        backupDir.getAbsolutePath(),
+        YouTrackDBConfig.defaultConfig());
+
+    final DatabaseCompare compare =
+        new DatabaseCompare(
+            (DatabaseSessionInternal) youTrackDB.open(dbName, "admin", "admin"),
+            (DatabaseSessionInternal) youTrackDB.open(backupDbName, "admin", "admin"),
+            System.out::println);
+
+    Assert.assertTrue(compare.compare());
+
+    youTrackDB.drop(dbName);
+    youTrackDB.drop(backupDbName);
+    youTrackDB.close();
+
+    FileUtils.deleteRecursively(backupDir);
+  }
+
+  /**
+   * Checks names of the entries of the zip archives which follow the header of backup files.
+   */
+  private static boolean backupContainsEntry(final File backupDir, final String suffix)
+      throws IOException {
+    final File[] files = backupDir.listFiles((dir, name) -> name.endsWith(".ibu3"));
+    Assert.assertNotNull(files);
+    Assert.assertTrue(files.length > 0);
+
+    for (final File file : files) {
+      try (final InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+        final int headerSize =
+            2 * IntegerSerializer.INT_SIZE + 2 * LongSerializer.LONG_SIZE + ByteSerializer.BYTE_SIZE;
+        Assert.assertEquals(headerSize, in.skip(headerSize));
+
+        final ZipInputStream zipInputStream = new ZipInputStream(in);
+        ZipEntry entry;
+        while ((entry = zipInputStream.getNextEntry()) != null) {
+          if (entry.getName().endsWith(suffix)) {
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
 }
@@ -0,0 +1,53 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ModificationStampTest {
+
+  @Test
+  public void testValidWithoutModification() {
+    final ModificationStamp modificationStamp = new ModificationStamp();
+
+    final long stamp = modificationStamp.tryOptimisticRead();
+    Assert.assertTrue(stamp >= 0);
+    Assert.assertTrue(modificationStamp.validate(stamp));
+  }
+
+  @Test
+  public void testNoStampDuringModification() {
+    final ModificationStamp modificationStamp = new ModificationStamp();
+
+    modificationStamp.startModification();
+    Assert.assertEquals(-1, modificationStamp.tryOptimisticRead());
+    Assert.assertFalse(modificationStamp.validate(-1));
+
+    modificationStamp.completeModification();
+    Assert.assertTrue(modificationStamp.tryOptimisticRead() >= 0);
+  }
+
+  @Test
+  public void testModificationInvalidatesStamp() {
+    final ModificationStamp modificationStamp = new ModificationStamp();
+
+    final long stamp = modificationStamp.tryOptimisticRead();
+    modificationStamp.startModification();
+    modificationStamp.completeModification();
+
+    Assert.assertFalse(modificationStamp.validate(stamp));
+    Assert.assertTrue(modificationStamp.validate(modificationStamp.tryOptimisticRead()));
+  }
+
+  @Test
+  public void testNestedModifications() {
+    final ModificationStamp modificationStamp = new ModificationStamp();
+
+    modificationStamp.startModification();
+    modificationStamp.startModification();
+    modificationStamp.completeModification();
+    Assert.assertEquals(-1, modificationStamp.tryOptimisticRead());
+
+    modificationStamp.completeModification();
+    Assert.assertTrue(modificationStamp.tryOptimisticRead() >= 0);
+  }
+}
@@ -0,0 +1,254 @@
+package com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations;
+
+import com.jetbrains.youtrack.db.internal.common.directmemory.ByteBufferPool;
+import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator.Intention;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntryImpl;
+import com.jetbrains.youtrack.db.internal.core.exception.StorageException;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CachePointer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StorageSnapshotManagerTest {
+
+  private ByteBufferPool bufferPool;
+  private CachePointer cachePointer;
+  private CacheEntry page;
+  private StorageSnapshotManager manager;
+
+  @Before
+  public void before() {
+    bufferPool = new ByteBufferPool(1024);
+    cachePointer =
+        new CachePointer(bufferPool.acquireDirect(true, Intention.TEST), bufferPool, 1, 2);
+    cachePointer.incrementReferrer();
+    page = new CacheEntryImpl(1, 2, cachePointer, false, null);
+
+    manager = new StorageSnapshotManager(bufferPool, 0);
+  }
+
+  @After
+  public void after() {
+    cachePointer.decrementReferrer();
+    bufferPool.clear();
+  }
+
+  @Test
+  public void testPageIsNotPreservedWithoutSnapshots() {
+    commit((byte) 1);
+    commit((byte) 2);
+
+    Assert.assertEquals(0, manager.getPreservedPagesCount());
+  }
+
+  @Test
+  public void testSnapshotDoesNotSeeLaterCommits() {
+    commit((byte) 1);
+
+    final StorageSnapshot snapshot = manager.openSnapshot();
+    Assert.assertSame(snapshot, manager.getCurrentSnapshot());
+
+    commit((byte) 2);
+    commit((byte) 3);
+    Assert.assertEquals(1, manager.getPreservedPagesCount());
+
+    Assert.assertEquals(1, read(snapshot));
+
+    snapshot.close();
+    Assert.assertNull(manager.getCurrentSnapshot());
+    Assert.assertEquals(0, manager.getPreservedPagesCount());
+  }
+
+  @Test
+  public void testUnchangedPageIsReadInPlace() throws Exception {
+    commit((byte) 1);
+
+    try (final StorageSnapshot snapshot = manager.openSnapshot()) {
+      Assert.assertNull(manager.readImage(snapshot, page));
+
+      // page is latched while it is read in place, so commit waits for the reader
+      final Thread thread = new Thread(() -> commit((byte) 2));
+      thread.start();
+      thread.join(100);
+      Assert.assertTrue(thread.isAlive());
+      Assert.assertEquals(0, manager.getPreservedPagesCount());
+      Assert.assertEquals(1, cachePointer.getBuffer().get(0));
+
+      page.releaseSharedLock();
+      thread.join();
+
+      Assert.assertEquals(1, manager.getPreservedPagesCount());
+      Assert.assertEquals(2, cachePointer.getBuffer().get(0));
+      Assert.assertEquals(1, read(snapshot));
+    }
+  }
+
+  @Test
+  public void testImagesAreReleasedWhenOldestSnapshotIsClosed() throws Exception {
+    commit((byte) 1);
+    final StorageSnapshot first = manager.openSnapshot();
+    commit((byte) 2);
+
+    final StorageSnapshot[] second = new StorageSnapshot[1];
+    final Thread thread = new Thread(() -> second[0] = manager.openSnapshot());
+    thread.start();
+    thread.join();
+
+    commit((byte) 3);
+    Assert.assertEquals(2, manager.getPreservedPagesCount());
+
+    Assert.assertEquals(1, read(first));
+    Assert.assertEquals(2, read(second[0]));
+
+    second[0].close();
+    Assert.assertEquals(2, manager.getPreservedPagesCount());
+
+    first.close();
+    Assert.assertEquals(0, manager.getPreservedPagesCount());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testSnapshotIsBoundToThread() {
+    try (final StorageSnapshot ignored = manager.openSnapshot()) {
+      manager.openSnapshot();
+    }
+  }
+
+  @Test
+  public void testJoinedSnapshotSeesSameState() throws Exception {
+    commit((byte) 1);
+    final StorageSnapshot snapshot = manager.openSnapshot();
+    commit((byte) 2);
+
+    final byte[] joinedRead = new byte[1];
+    final Thread thread =
+        new Thread(
+            () -> {
+              try (final StorageSnapshot joined = manager.joinSnapshot(snapshot)) {
+                Assert.assertSame(joined, manager.getCurrentSnapshot());
+                commit((byte) 3);
+                joinedRead[0] = read(joined);
+              }
+            });
+    thread.start();
+    thread.join();
+
+    Assert.assertEquals(1, joinedRead[0]);
+    Assert.assertEquals(1, read(snapshot));
+
+    snapshot.close();
+    Assert.assertEquals(0, manager.getPreservedPagesCount());
+  }
+
+  @Test(expected = StorageException.class)
+  public void testClosedSnapshotCanNotBeJoined() throws Exception {
+    final StorageSnapshot snapshot = manager.openSnapshot();
+    snapshot.close();
+
+    manager.joinSnapshot(snapshot);
+  }
+
+  @Test
+  public void testOldestSnapshotIsInvalidatedWhenMemoryLimitIsReached() throws Exception {
+    manager = new StorageSnapshotManager(bufferPool, 1024);
+
+    commit((byte) 1);
+    final StorageSnapshot[] oldest = new StorageSnapshot[1];
+    final Thread thread = new Thread(() -> oldest[0] = manager.openSnapshot());
+    thread.start();
+    thread.join();
+
+    commit((byte) 2);
+    Assert.assertEquals(1024, manager.getPreservedMemory());
+
+    final StorageSnapshot newest = manager.openSnapshot();
+    // image of the second commit does not fit into the limit, so the oldest snapshot is dropped
+    commit((byte) 3);
+
+    Assert.assertTrue(oldest[0].isInvalidated());
+    Assert.assertFalse(newest.isInvalidated());
+    Assert.assertEquals(1024, manager.getPreservedMemory());
+    Assert.assertEquals(2, read(newest));
+
+    try {
+      read(oldest[0]);
+      Assert.fail();
+    } catch (StorageException e) {
+      // expected
+    }
+
+    newest.close();
+    Assert.assertEquals(0, manager.getPreservedMemory());
+    Assert.assertEquals(0, manager.getPreservedPagesCount());
+  }
+
+  @Test
+  public void testSnapshotOfTerminatedThreadIsClosed() throws Exception {
+    commit((byte) 1);
+    final StorageSnapshot[] leaked = new StorageSnapshot[1];
+    final Thread thread = new Thread(() -> leaked[0] = manager.openSnapshot());
+    thread.start();
+    thread.join();
+
+    commit((byte) 2);
+    Assert.assertEquals(1, manager.getPreservedPagesCount());
+
+    try (final StorageSnapshot snapshot = manager.openSnapshot()) {
+      Assert.assertTrue(leaked[0].isInvalidated());
+      Assert.assertEquals(0, manager.getPreservedPagesCount());
+      Assert.assertEquals(2, read(snapshot));
+    }
+  }
+
+  @Test
+  public void testAllSnapshotsAreClosedWithStorage() {
+    commit((byte) 1);
+    final StorageSnapshot snapshot = manager.openSnapshot();
+    commit((byte) 2);
+    Assert.assertEquals(1, manager.getPreservedPagesCount());
+
+    manager.closeAllSnapshots();
+
+    Assert.assertTrue(snapshot.isInvalidated());
+    Assert.assertEquals(0, manager.getPreservedPagesCount());
+    Assert.assertEquals(0, manager.getPreservedMemory());
+
+    // closing of the snapshot by its thread unbinds it
+    snapshot.close();
+    Assert.assertNull(manager.getCurrentSnapshot());
+  }
+
+  private void commit(final byte value) {
+    final long version = manager.startCommit();
+    try {
+      page.acquireExclusiveLock();
+      try {
+        manager.preservePage(version, page);
+        cachePointer.getBuffer().put(0, value);
+      } finally {
+        page.releaseExclusiveLock();
+      }
+    } finally {
+      manager.endCommit();
+    }
+  }
+
+  private byte read(final StorageSnapshot snapshot) {
+    final CachePointer image = manager.readImage(snapshot, page);
+    if (image == null) {
+      try {
+        return cachePointer.getBuffer().get(0);
+      } finally {
+        page.releaseSharedLock();
+      }
+    }
+
+    try {
+      return image.getBuffer().get(0);
+    } finally {
+      image.decrementReferrer();
+    }
+  }
+}
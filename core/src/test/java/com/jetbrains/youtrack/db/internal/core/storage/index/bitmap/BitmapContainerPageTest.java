@@ -0,0 +1,103 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.bitmap;
+
+import com.jetbrains.youtrack.db.internal.common.directmemory.ByteBufferPool;
+import com.jetbrains.youtrack.db.internal.common.directmemory.DirectMemoryAllocator.Intention;
+import com.jetbrains.youtrack.db.internal.common.directmemory.Pointer;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntry;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CacheEntryImpl;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.CachePointer;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.CacheEntryChanges;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BitmapContainerPageTest {
+
+  @Test
+  public void testPositionsAddedInDescendingOrder() {
+    final int count = RidBitmapContainer.ARRAY_MAX_SIZE / 2;
+    final List<Long> expected =
+        IntStream.range(0, count).mapToObj(i -> 2L * i).collect(Collectors.toList());
+
+    for (final boolean logged : new boolean[]{false, true}) {
+      testPage(
+          logged,
+          container -> {
+            for (int i = count - 1; i >= 0; i--) {
+              Assert.assertTrue(container.set(2 * i));
+            }
+
+            Assert.assertTrue(container.isArray());
+            Assert.assertEquals(count, container.getCardinality());
+            Assert.assertEquals(expected, positions(container));
+          });
+    }
+  }
+
+  @Test
+  public void testContainerIsConvertedToBitmapAndBack() {
+    final int count = RidBitmapContainer.ARRAY_MAX_SIZE + 1;
+
+    for (final boolean logged : new boolean[]{false, true}) {
+      testPage(
+          logged,
+          container -> {
+            for (int i = count - 1; i >= 0; i--) {
+              Assert.assertTrue(container.set(3 * i));
+            }
+            Assert.assertFalse(container.set(0));
+
+            Assert.assertFalse(container.isArray());
+            Assert.assertEquals(count, container.getCardinality());
+
+            for (int i = 0; i < count; i += 2) {
+              Assert.assertTrue(container.clear(3 * i));
+            }
+            Assert.assertFalse(container.clear(0));
+
+            Assert.assertTrue(container.isArray());
+            Assert.assertEquals(count / 2, container.getCardinality());
+            Assert.assertEquals(
+                IntStream.range(0, count)
+                    .filter(i -> i % 2 == 1)
+                    .mapToObj(i -> 3L * i)
+                    .collect(Collectors.toList()),
+                positions(container));
+          });
+    }
+  }
+
+  private static List<Long> positions(final BitmapContainerPage container) {
+    return container.getContainer().positions(0).boxed().collect(Collectors.toList());
+  }
+
+  private static void testPage(
+      final boolean logged, final Consumer<BitmapContainerPage> test) {
+    final ByteBufferPool bufferPool = ByteBufferPool.instance(null);
+    final Pointer pointer = bufferPool.acquireDirect(true, Intention.TEST);
+
+    final CachePointer cachePointer = new CachePointer(pointer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+    final CacheEntryImpl cacheEntry = new CacheEntryImpl(0, 0, cachePointer, false, null);
+    cacheEntry.acquireExclusiveLock();
+    try {
+      CacheEntry pageEntry = cacheEntry;
+      if (logged) {
+        // changes of the page are kept in the WAL changes, the same as in atomic operation
+        final CacheEntryChanges changes = new CacheEntryChanges(false, null);
+        changes.setDelegate(cacheEntry);
+        pageEntry = changes;
+      }
+
+      final BitmapContainerPage container = new BitmapContainerPage(pageEntry);
+      container.init();
+      test.accept(container);
+    } finally {
+      cacheEntry.releaseExclusiveLock();
+      cachePointer.decrementReferrer();
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.bitmap;
+
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RidBitmapTest {
+
+  @Test
+  public void testAddContains() {
+    final RidBitmap bitmap = new RidBitmap();
+    Assert.assertTrue(bitmap.isEmpty());
+
+    bitmap.add(new RecordId(3, 0));
+    bitmap.add(new RecordId(3, RidBitmap.CONTAINER_SIZE + 7));
+    bitmap.add(new RecordId(5, 63));
+    bitmap.add(new RecordId(5, 63));
+
+    Assert.assertFalse(bitmap.isEmpty());
+    Assert.assertEquals(3, bitmap.cardinality());
+
+    Assert.assertTrue(bitmap.contains(new RecordId(3, 0)));
+    Assert.assertTrue(bitmap.contains(new RecordId(3, RidBitmap.CONTAINER_SIZE + 7)));
+    Assert.assertTrue(bitmap.contains(new RecordId(5, 63)));
+
+    Assert.assertFalse(bitmap.contains(new RecordId(3, 7)));
+    Assert.assertFalse(bitmap.contains(new RecordId(4, 0)));
+    Assert.assertFalse(bitmap.contains(new RecordId(5, 64)));
+  }
+
+  @Test
+  public void testStreamIsOrdered() {
+    final RidBitmap bitmap = new RidBitmap();
+    bitmap.add(new RecordId(5, 2));
+    bitmap.add(new RecordId(3, RidBitmap.CONTAINER_SIZE * 2L + 1));
+    bitmap.add(new RecordId(3, 130));
+    bitmap.add(new RecordId(5, 1));
+    bitmap.add(new RecordId(3, 1));
+
+    final List<RID> rids = bitmap.stream().collect(Collectors.toList());
+    Assert.assertEquals(
+        List.of(
+            new RecordId(3, 1),
+            new RecordId(3, 130),
+            new RecordId(3, RidBitmap.CONTAINER_SIZE * 2L + 1),
+            new RecordId(5, 1),
+            new RecordId(5, 2)),
+        rids);
+  }
+
+  @Test
+  public void testAnd() {
+    final RidBitmap first = new RidBitmap();
+    final RidBitmap second = new RidBitmap();
+    for (int i = 0; i < 1000; i++) {
+      if (i % 2 == 0) {
+        first.add(new RecordId(1, i));
+      }
+      if (i % 3 == 0) {
+        second.add(new RecordId(1, i));
+      }
+      first.add(new RecordId(2, i));
+    }
+    second.add(new RecordId(3, 1));
+
+    first.and(second);
+
+    Assert.assertEquals(167, first.cardinality());
+    first.stream().forEach(rid -> {
+      Assert.assertEquals(1, rid.getClusterId());
+      Assert.assertEquals(0, rid.getClusterPosition() % 6);
+    });
+  }
+
+  @Test
+  public void testAndOfDisjointBitmapsIsEmpty() {
+    final RidBitmap first = new RidBitmap();
+    final RidBitmap second = new RidBitmap();
+    first.add(new RecordId(1, 1));
+    second.add(new RecordId(1, 2));
+
+    Assert.assertTrue(first.and(second).isEmpty());
+  }
+
+  @Test
+  public void testOr() {
+    final RidBitmap first = new RidBitmap();
+    final RidBitmap second = new RidBitmap();
+    first.add(new RecordId(1, 1));
+    first.add(new RecordId(1, 2));
+    second.add(new RecordId(1, 2));
+    second.add(new RecordId(2, RidBitmap.CONTAINER_SIZE));
+
+    first.or(second);
+
+    Assert.assertEquals(3, first.cardinality());
+    Assert.assertTrue(first.contains(new RecordId(1, 1)));
+    Assert.assertTrue(first.contains(new RecordId(1, 2)));
+    Assert.assertTrue(first.contains(new RecordId(2, RidBitmap.CONTAINER_SIZE)));
+
+    Assert.assertEquals(2, second.cardinality());
+  }
+
+  @Test
+  public void testSparseContainerIsConvertedToBitmap() {
+    final RidBitmap bitmap = new RidBitmap();
+    for (int i = RidBitmapContainer.ARRAY_MAX_SIZE - 1; i >= 0; i--) {
+      bitmap.add(new RecordId(1, i * 3L));
+    }
+    Assert.assertEquals(1, bitmap.arrayContainers());
+    Assert.assertEquals(RidBitmapContainer.ARRAY_MAX_SIZE, bitmap.cardinality());
+
+    bitmap.add(new RecordId(1, 1));
+    Assert.assertEquals(0, bitmap.arrayContainers());
+    Assert.assertEquals(RidBitmapContainer.ARRAY_MAX_SIZE + 1, bitmap.cardinality());
+
+    Assert.assertTrue(bitmap.contains(new RecordId(1, 1)));
+    Assert.assertTrue(bitmap.contains(new RecordId(1, 3)));
+    Assert.assertFalse(bitmap.contains(new RecordId(1, 2)));
+
+    long previous = -1;
+    for (final RID rid : bitmap.stream().toList()) {
+      Assert.assertTrue(rid.getClusterPosition() > previous);
+      previous = rid.getClusterPosition();
+    }
+  }
+
+  @Test
+  public void testAndOfArrayAndBitmapContainers() {
+    final RidBitmap dense = new RidBitmap();
+    final RidBitmap sparse = new RidBitmap();
+    for (int i = 0; i < 10_000; i++) {
+      dense.add(new RecordId(1, i));
+    }
+    for (int i = 0; i < 2_000; i += 7) {
+      sparse.add(new RecordId(1, i));
+    }
+    sparse.add(new RecordId(1, 20_000));
+
+    final RidBitmap denseCopy = new RidBitmap().or(dense);
+    Assert.assertEquals(0, dense.arrayContainers());
+    Assert.assertEquals(1, sparse.arrayContainers());
+
+    dense.and(sparse);
+    Assert.assertEquals(286, dense.cardinality());
+    Assert.assertEquals(1, dense.arrayContainers());
+
+    sparse.and(denseCopy);
+    Assert.assertEquals(dense.stream().toList(), sparse.stream().toList());
+  }
+
+  @Test
+  public void testAndOfBitmapContainersIsConvertedToArray() {
+    final RidBitmap first = new RidBitmap();
+    final RidBitmap second = new RidBitmap();
+    for (int i = 0; i < 6_000; i++) {
+      first.add(new RecordId(1, i));
+      second.add(new RecordId(1, i + 5_000));
+    }
+
+    first.and(second);
+    Assert.assertEquals(1_000, first.cardinality());
+    Assert.assertEquals(1, first.arrayContainers());
+    Assert.assertTrue(first.contains(new RecordId(1, 5_000)));
+    Assert.assertFalse(first.contains(new RecordId(1, 4_999)));
+  }
+
+  @Test
+  public void testOrOfArrayContainersIsConvertedToBitmap() {
+    final RidBitmap first = new RidBitmap();
+    final RidBitmap second = new RidBitmap();
+    for (int i = 0; i < 1_500; i++) {
+      first.add(new RecordId(1, i * 2L));
+      second.add(new RecordId(1, i * 2L + 1));
+    }
+    second.add(new RecordId(1, 0));
+
+    first.or(second);
+    Assert.assertEquals(3_000, first.cardinality());
+    Assert.assertEquals(0, first.arrayContainers());
+    Assert.assertEquals(1, second.arrayContainers());
+    Assert.assertEquals(1_501, second.cardinality());
+
+    final RidBitmap sparse = new RidBitmap();
+    sparse.add(new RecordId(1, 1));
+    sparse.or(first);
+    Assert.assertEquals(3_000, sparse.cardinality());
+    Assert.assertEquals(0, sparse.arrayContainers());
+  }
+}
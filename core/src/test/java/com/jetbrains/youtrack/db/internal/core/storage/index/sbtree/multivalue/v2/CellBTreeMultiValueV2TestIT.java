@@ -1268,6 +1268,180 @@ public class CellBTreeMultiValueV2TestIT {
     Assert.assertEquals(multiValueTree.lastKey(), keyValues.lastKey());
   }
 
+  @Test
+  public void testSortedKeysArePutInSingleOperation() throws Exception {
+    // keys are put in the same order as changes of the index are applied on commit, so the path
+    // to the leaf is reused by the most of the keys and leaves are split in the middle of the batch
+    final NavigableMap<String, Set<RID>> expected = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < 20_000; i++) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    assertTreeContent(expected);
+  }
+
+  @Test
+  public void testSortedKeysWithSeveralValuesArePutInSingleOperation() throws Exception {
+    // values of the same key are spread over several neighbour leaves
+    final NavigableMap<String, Set<RID>> expected = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < 2_000; i++) {
+            final int values = i % 100 == 0 ? 1_000 : 3;
+            for (int n = 0; n < values; n++) {
+              putSorted(atomicOperation, i, i * 1_000 + n, expected);
+            }
+          }
+        });
+
+    assertTreeContent(expected);
+  }
+
+  @Test
+  public void testSortedKeysCrossLeafBoundaries() throws Exception {
+    final NavigableMap<String, Set<RID>> expected = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < 20_000; i += 2) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    // new keys are placed between the keys of existing leaves and before their first keys,
+    // values are added to existing keys, removal in the middle of the batch merges leaves
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 1; i < 20_000; i++) {
+            if (i % 1_000 == 0) {
+              final String removedKey = sortedKey(i - 500);
+              for (final RID rid : expected.remove(removedKey)) {
+                Assert.assertTrue(multiValueTree.remove(atomicOperation, removedKey, rid));
+              }
+            }
+
+            putSorted(atomicOperation, i, i % 2 == 0 ? i + 1 : i, expected);
+          }
+        });
+
+    assertTreeContent(expected);
+  }
+
+  @Test
+  public void testSortedKeysArePutIntoLeftmostAndRightmostLeaves() throws Exception {
+    final NavigableMap<String, Set<RID>> expected = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 10_000; i < 20_000; i++) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    // every key is placed before the first key of the leftmost leaf
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 9_999; i >= 0; i--) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    // every key is placed after the last key of the rightmost leaf
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 20_000; i < 30_000; i++) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    assertTreeContent(expected);
+  }
+
+  @Test
+  public void testLeafPathIsNotReusedByNextOperation() throws Exception {
+    final NavigableMap<String, Set<RID>> expected = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < 10_000; i += 2) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    // path to the leaf created by the split of rolled back operation points to the page which
+    // does not exist in the next operation
+    try {
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (int i = 10_000; i < 20_000; i++) {
+              multiValueTree.put(atomicOperation, sortedKey(i), new RecordId(i % 32000, i));
+            }
+            throw new RollbackException();
+          });
+    } catch (RollbackException ignore) {
+    }
+
+    for (int n = 0; n < 2; n++) {
+      final int offset = n;
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (int i = 19_999 - offset; i > 0; i -= 2) {
+              putSorted(atomicOperation, i, i + offset, expected);
+            }
+          });
+    }
+
+    assertTreeContent(expected);
+  }
+
+  private void putSorted(
+      final AtomicOperation atomicOperation,
+      final int key,
+      final int value,
+      final NavigableMap<String, Set<RID>> expected) {
+    final RID rid = new RecordId(value % 32000, value);
+    multiValueTree.put(atomicOperation, sortedKey(key), rid);
+    expected.computeIfAbsent(sortedKey(key), k -> new HashSet<>()).add(rid);
+  }
+
+  private static String sortedKey(final int key) {
+    return String.format("%08d", key);
+  }
+
+  private void assertTreeContent(final NavigableMap<String, Set<RID>> expected) {
+    Assert.assertEquals(
+        expected.values().stream().mapToInt(Set::size).sum(), multiValueTree.size());
+    for (final Map.Entry<String, Set<RID>> entry : expected.entrySet()) {
+      try (final Stream<RID> stream = multiValueTree.get(entry.getKey())) {
+        Assert.assertEquals(entry.getValue(), stream.collect(Collectors.toSet()));
+      }
+    }
+
+    // leaves are linked with each other in both directions
+    try (final Stream<RawPair<String, RID>> stream =
+        multiValueTree.iterateEntriesMajor(expected.firstKey(), true, true)) {
+      Assert.assertEquals(
+          List.copyOf(expected.keySet()),
+          stream.map(entry -> entry.first).distinct().toList());
+    }
+    try (final Stream<RawPair<String, RID>> stream =
+        multiValueTree.iterateEntriesMinor(expected.lastKey(), true, false)) {
+      Assert.assertEquals(
+          List.copyOf(expected.descendingKeySet()),
+          stream.map(entry -> entry.first).distinct().toList());
+    }
+  }
+
   private void assertIterateMajorEntries(
       NavigableMap<String, Integer> keyValues,
       Random random,
@@ -0,0 +1,51 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockedBloomFilterTest {
+
+  @Test
+  public void testAddedKeysAreNeverFilteredOut() {
+    final BlockedBloomFilter filter = new BlockedBloomFilter(10_000, 10);
+    try {
+      for (int i = 0; i < 10_000; i++) {
+        filter.add(hash("key" + i));
+      }
+
+      for (int i = 0; i < 10_000; i++) {
+        Assert.assertTrue(filter.mightContain(hash("key" + i)));
+      }
+      Assert.assertEquals(10_000, filter.getKeys());
+    } finally {
+      filter.free();
+    }
+  }
+
+  @Test
+  public void testFalsePositiveRate() {
+    final BlockedBloomFilter filter = new BlockedBloomFilter(10_000, 10);
+    try {
+      for (int i = 0; i < 10_000; i++) {
+        filter.add(hash("key" + i));
+      }
+
+      int falsePositives = 0;
+      for (int i = 0; i < 100_000; i++) {
+        if (filter.mightContain(hash("absent" + i))) {
+          falsePositives++;
+        }
+      }
+
+      // blocked filter is a bit less precise than classic one which gives about 1% for 10 bits
+      Assert.assertTrue("False positives: " + falsePositives, falsePositives < 3_000);
+    } finally {
+      filter.free();
+    }
+  }
+
+  private static long hash(final String key) {
+    return BlockedBloomFilter.hash(key.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,103 @@
+package com.jetbrains.youtrack.db.internal.core.storage.index.sbtree.singlevalue.v3;
+
+import com.jetbrains.youtrack.db.api.DatabaseSession;
+import com.jetbrains.youtrack.db.api.DatabaseType;
+import com.jetbrains.youtrack.db.api.YouTrackDB;
+import com.jetbrains.youtrack.db.api.config.YouTrackDBConfig;
+import com.jetbrains.youtrack.db.internal.common.serialization.types.UTF8Serializer;
+import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
+import com.jetbrains.youtrack.db.internal.core.db.YouTrackDBImpl;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperationsManager;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CellBTreeSingleValueV3BloomFilterTest {
+
+  private static final String DB_NAME = "bloomFilterTest";
+
+  private YouTrackDB youTrackDB;
+  private AtomicOperationsManager atomicOperationsManager;
+  private CellBTreeSingleValueV3<String> tree;
+
+  @Before
+  public void before() throws Exception {
+    youTrackDB = new YouTrackDBImpl("memory:", YouTrackDBConfig.defaultConfig());
+    youTrackDB.create(DB_NAME, DatabaseType.MEMORY, "admin", "admin", "admin");
+
+    final AbstractPaginatedStorage storage;
+    try (DatabaseSession session = youTrackDB.open(DB_NAME, "admin", "admin")) {
+      storage = (AbstractPaginatedStorage) ((DatabaseSessionInternal) session).getStorage();
+    }
+
+    tree = new CellBTreeSingleValueV3<>("bloomFilterTree", ".sbt", ".nbt", storage);
+    atomicOperationsManager = storage.getAtomicOperationsManager();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> tree.create(atomicOperation, UTF8Serializer.INSTANCE, null, 1));
+
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < 1000; i++) {
+            tree.put(atomicOperation, "key" + i, new RecordId(1, i));
+          }
+        });
+  }
+
+  @After
+  public void after() {
+    youTrackDB.drop(DB_NAME);
+    youTrackDB.close();
+  }
+
+  @Test
+  public void testFilterIsBuiltInBackground() throws Exception {
+    final Future<?>[] build = new Future<?>[1];
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          // keys can not be read by the build till the operation is completed, but enabling of
+          // the filter does not wait for the build
+          tree.acquireAtomicExclusiveLock();
+          build[0] = tree.enableBloomFilter(1000, 10);
+
+          Thread.sleep(100);
+          Assert.assertFalse(build[0].isDone());
+
+          // filter is not used till it is built, so keys are found
+          for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(new RecordId(1, i), tree.get("key" + i));
+          }
+          tree.put(atomicOperation, "added", new RecordId(2, 1));
+        });
+
+    build[0].get(1, TimeUnit.MINUTES);
+
+    for (int i = 0; i < 1000; i++) {
+      Assert.assertEquals(new RecordId(1, i), tree.get("key" + i));
+    }
+    Assert.assertEquals(new RecordId(2, 1), tree.get("added"));
+    for (int i = 0; i < 1000; i++) {
+      Assert.assertNull(tree.get("absent" + i));
+    }
+  }
+
+  @Test
+  public void testBuildIsStoppedWhenTreeIsClosed() throws Exception {
+    final Future<?>[] build = new Future<?>[1];
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          tree.acquireAtomicExclusiveLock();
+          build[0] = tree.enableBloomFilter(1000, 10);
+        });
+
+    tree.close();
+    build[0].get(1, TimeUnit.MINUTES);
+  }
+}
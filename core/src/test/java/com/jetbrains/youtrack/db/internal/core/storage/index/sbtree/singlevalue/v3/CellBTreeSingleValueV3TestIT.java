@@ -12,10 +12,14 @@ import com.jetbrains.youtrack.db.internal.common.util.RawPair;
 import com.jetbrains.youtrack.db.internal.core.db.DatabaseSessionInternal;
 import com.jetbrains.youtrack.db.internal.core.db.YouTrackDBImpl;
 import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.WriteCache;
+import com.jetbrains.youtrack.db.internal.core.storage.cache.chm.AsyncReadCache;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.AbstractPaginatedStorage;
+import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperation;
 import com.jetbrains.youtrack.db.internal.core.storage.impl.local.paginated.atomicoperations.AtomicOperationsManager;
 import java.io.File;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
@@ -33,6 +37,7 @@ public class CellBTreeSingleValueV3TestIT {
   private AtomicOperationsManager atomicOperationsManager;
   private CellBTreeSingleValueV3<String> singleValueTree;
   private YouTrackDB youTrackDB;
+  private AbstractPaginatedStorage storage;
 
   private String dbName;
 
@@ -52,7 +57,6 @@ public class CellBTreeSingleValueV3TestIT {
     youTrackDB.execute(
         "create database " + dbName + " plocal users ( admin identified by 'admin' role admin)");
 
-    AbstractPaginatedStorage storage;
     try (DatabaseSession databaseDocumentTx = youTrackDB.open(dbName, "admin", "admin")) {
       storage =
           (AbstractPaginatedStorage) ((DatabaseSessionInternal) databaseDocumentTx).getStorage();
@@ -997,6 +1001,188 @@ public class CellBTreeSingleValueV3TestIT {
     }
   }
 
+  @Test
+  public void testUpperLevelsArePinned() throws Exception {
+    final AsyncReadCache readCache = (AsyncReadCache) storage.getReadCache();
+    final WriteCache writeCache = storage.getWriteCache();
+    final long fileId = writeCache.fileIdByName("singleBTree.sbt");
+
+    // entry point and root are pinned once the tree is created
+    Assert.assertTrue(readCache.isPinned(fileId, 0));
+    Assert.assertTrue(readCache.isPinned(fileId, 1));
+
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < 10_000; i++) {
+            singleValueTree.put(atomicOperation, Integer.toString(i), new RecordId(i % 32000, i));
+          }
+        });
+
+    // root is split, so its children are pinned too
+    int pinnedChildren = 0;
+    final long filledUpTo = writeCache.getFilledUpTo(fileId);
+    Assert.assertTrue(filledUpTo > 3);
+    for (long pageIndex = 2; pageIndex < filledUpTo; pageIndex++) {
+      if (readCache.isPinned(fileId, pageIndex)) {
+        pinnedChildren++;
+      }
+    }
+
+    Assert.assertTrue(readCache.isPinned(fileId, 0));
+    Assert.assertTrue(readCache.isPinned(fileId, 1));
+    Assert.assertTrue(pinnedChildren >= 2);
+  }
+
+  @Test
+  public void testSortedKeysArePutInSingleOperation() throws Exception {
+    // keys are put in the same order as changes of the index are applied on commit, so the path
+    // to the leaf is reused by the most of the keys and leaves are split in the middle of the batch
+    final NavigableMap<String, RID> expected = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < 20_000; i++) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    assertTreeContent(expected);
+  }
+
+  @Test
+  public void testSortedKeysCrossLeafBoundaries() throws Exception {
+    final NavigableMap<String, RID> expected = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < 20_000; i += 2) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    // new keys are placed between the keys of existing leaves and before their first keys,
+    // existing keys are updated in place, removal in the middle of the batch merges leaves
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 1; i < 20_000; i++) {
+            if (i % 1_000 == 0) {
+              singleValueTree.remove(atomicOperation, sortedKey(i - 500));
+              expected.remove(sortedKey(i - 500));
+            }
+
+            putSorted(atomicOperation, i, i % 2 == 0 ? i + 1 : i, expected);
+          }
+        });
+
+    assertTreeContent(expected);
+  }
+
+  @Test
+  public void testSortedKeysArePutIntoLeftmostAndRightmostLeaves() throws Exception {
+    final NavigableMap<String, RID> expected = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 10_000; i < 20_000; i++) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    // every key is placed before the first key of the leftmost leaf
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 9_999; i >= 0; i--) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    // every key is placed after the last key of the rightmost leaf
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 20_000; i < 30_000; i++) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    assertTreeContent(expected);
+  }
+
+  @Test
+  public void testLeafPathIsNotReusedByNextOperation() throws Exception {
+    final NavigableMap<String, RID> expected = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < 10_000; i += 2) {
+            putSorted(atomicOperation, i, i, expected);
+          }
+        });
+
+    // path to the leaf created by the split of rolled back operation points to the page which
+    // does not exist in the next operation
+    try {
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (int i = 10_000; i < 20_000; i++) {
+              singleValueTree.put(atomicOperation, sortedKey(i), new RecordId(i % 32000, i));
+            }
+            throw new RollbackException();
+          });
+    } catch (RollbackException ignore) {
+    }
+
+    for (int n = 0; n < 2; n++) {
+      final int offset = n;
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (int i = 19_999 - offset; i > 0; i -= 2) {
+              putSorted(atomicOperation, i, i, expected);
+            }
+          });
+    }
+
+    assertTreeContent(expected);
+  }
+
+  private void putSorted(
+      final AtomicOperation atomicOperation,
+      final int key,
+      final int value,
+      final NavigableMap<String, RID> expected) {
+    final RID rid = new RecordId(value % 32000, value);
+    singleValueTree.put(atomicOperation, sortedKey(key), rid);
+    expected.put(sortedKey(key), rid);
+  }
+
+  private static String sortedKey(final int key) {
+    return String.format("%08d", key);
+  }
+
+  private void assertTreeContent(final NavigableMap<String, RID> expected) {
+    Assert.assertEquals(expected.size(), singleValueTree.size());
+    for (final Map.Entry<String, RID> entry : expected.entrySet()) {
+      Assert.assertEquals(entry.getValue(), singleValueTree.get(entry.getKey()));
+    }
+
+    // leaves are linked with each other in both directions
+    try (final Stream<RawPair<String, RID>> stream =
+        singleValueTree.iterateEntriesMajor(expected.firstKey(), true, true)) {
+      Assert.assertEquals(
+          List.copyOf(expected.keySet()), stream.map(entry -> entry.first).toList());
+    }
+    try (final Stream<RawPair<String, RID>> stream =
+        singleValueTree.iterateEntriesMinor(expected.lastKey(), true, false)) {
+      Assert.assertEquals(
+          List.copyOf(expected.descendingKeySet()), stream.map(entry -> entry.first).toList());
+    }
+  }
+
   static final class RollbackException extends BaseException implements HighLevelException {
 
     @SuppressWarnings("WeakerAccess")
@@ -0,0 +1,311 @@
+package com.jetbrains.youtrack.db.internal.core.tx;
+
+import com.jetbrains.youtrack.db.api.DatabaseSession;
+import com.jetbrains.youtrack.db.api.config.GlobalConfiguration;
+import com.jetbrains.youtrack.db.api.config.YouTrackDBConfig;
+import com.jetbrains.youtrack.db.api.exception.BaseException;
+import com.jetbrains.youtrack.db.api.query.LiveQueryResultListener;
+import com.jetbrains.youtrack.db.api.query.Result;
+import com.jetbrains.youtrack.db.api.query.ResultSet;
+import com.jetbrains.youtrack.db.api.record.Entity;
+import com.jetbrains.youtrack.db.api.record.Identifiable;
+import com.jetbrains.youtrack.db.api.record.RID;
+import com.jetbrains.youtrack.db.api.schema.PropertyType;
+import com.jetbrains.youtrack.db.api.schema.SchemaClass;
+import com.jetbrains.youtrack.db.internal.DbTestBase;
+import com.jetbrains.youtrack.db.internal.core.db.YouTrackDBConfigBuilderImpl;
+import com.jetbrains.youtrack.db.internal.core.db.record.RecordOperation;
+import com.jetbrains.youtrack.db.internal.core.id.RecordId;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransactionSpillTest extends DbTestBase {
+
+  private static final int RECORDS = 100;
+
+  @Override
+  protected YouTrackDBConfig createConfig(YouTrackDBConfigBuilderImpl builder) {
+    builder.addGlobalConfigurationParameter(GlobalConfiguration.TX_SPILL_THRESHOLD, 10);
+    return builder.build();
+  }
+
+  public void beforeTest() throws Exception {
+    super.beforeTest();
+    SchemaClass item = db.getMetadata().getSchema().createClass("Item");
+    item.createProperty(db, "value", PropertyType.INTEGER);
+    item.createIndex(db, "Item.value", SchemaClass.INDEX_TYPE.NOTUNIQUE, "value");
+
+    db.begin();
+    for (int i = 0; i < RECORDS; i++) {
+      Entity entity = db.newEntity("Item");
+      entity.setProperty("value", i);
+      entity.save();
+    }
+    db.commit();
+  }
+
+  @Test
+  public void testSpilledUpdatesAreCommitted() {
+    db.begin();
+    final List<RID> rids = updateAll(1000);
+
+    final TransactionOptimistic tx = (TransactionOptimistic) db.getTransaction();
+    Assert.assertNotNull(tx.getSpillFile());
+    Assert.assertTrue(tx.getSpillFile().size() > 0);
+    Assert.assertEquals(RECORDS, tx.getEntryCount());
+
+    // spilled record is registered again, it is read back from the file if it was collected by GC
+    Entity first = db.load(rids.get(0));
+    Assert.assertEquals(1000, first.<Integer>getProperty("value").intValue());
+    first.setProperty("value", 5000);
+    first.save();
+    db.commit();
+
+    Assert.assertEquals(
+        5000, db.<Entity>load(rids.get(0)).<Integer>getProperty("value").intValue());
+    for (int i = 1; i < RECORDS; i++) {
+      Assert.assertEquals(
+          1000 + i, db.<Entity>load(rids.get(i)).<Integer>getProperty("value").intValue());
+    }
+
+    Assert.assertEquals(1, count("select from Item where value = 1050"));
+    Assert.assertEquals(0, count("select from Item where value = 50"));
+  }
+
+  @Test
+  public void testSpilledUpdatesAreRolledBack() {
+    db.begin();
+    final List<RID> rids = updateAll(1000);
+    Assert.assertNotNull(((TransactionOptimistic) db.getTransaction()).getSpillFile());
+    db.rollback();
+
+    for (int i = 0; i < RECORDS; i++) {
+      Assert.assertEquals(i, db.<Entity>load(rids.get(i)).<Integer>getProperty("value").intValue());
+    }
+    Assert.assertEquals(1, count("select from Item where value = 50"));
+  }
+
+  @Test
+  public void testHeldEntitiesAreChangedAfterSpill() {
+    db.begin();
+    final List<Entity> entities = loadAll();
+    for (final Entity entity : entities) {
+      entity.setProperty("value", entity.<Integer>getProperty("value") + 1000);
+      entity.save();
+    }
+
+    final TransactionOptimistic tx = (TransactionOptimistic) db.getTransaction();
+    Assert.assertTrue(tx.getSpillFile().size() > 0);
+
+    // spilled entities are still loaded and registered in transaction again once they are saved
+    for (final Entity entity : entities) {
+      entity.setProperty("value", entity.<Integer>getProperty("value") + 1000);
+      entity.save();
+    }
+    Assert.assertSame(entities.get(0), db.load(entities.get(0).getIdentity()));
+    db.commit();
+
+    for (int i = 0; i < RECORDS; i++) {
+      Assert.assertEquals(
+          2000 + i,
+          db.<Entity>load(entities.get(i).getIdentity()).<Integer>getProperty("value").intValue());
+    }
+    Assert.assertEquals(1, count("select from Item where value = 2050"));
+    Assert.assertEquals(0, count("select from Item where value = 1050"));
+  }
+
+  @Test
+  public void testUpdatesAreSpilledWithNewRecords() throws IOException {
+    db.begin();
+    final Entity created = db.newEntity("Item");
+    created.setProperty("value", -1);
+    created.save();
+
+    Entity linked = null;
+    for (final Entity entity : loadAll()) {
+      if (entity == created) {
+        continue;
+      }
+
+      entity.setProperty("value", entity.<Integer>getProperty("value") + 1000);
+      if (linked == null) {
+        // link to the new record can not be written to the spill file before commit
+        entity.setProperty("link", created);
+        linked = entity;
+      }
+      entity.save();
+    }
+
+    final TransactionOptimistic tx = (TransactionOptimistic) db.getTransaction();
+    Assert.assertTrue(tx.getSpillFile().size() > 0);
+    Assert.assertNull(tx.getSpillFile().read((RecordId) linked.getIdentity()));
+    db.commit();
+
+    final RID createdRid = created.getIdentity();
+    Assert.assertTrue(createdRid.isPersistent());
+    Assert.assertEquals(
+        createdRid,
+        db.<Entity>load(linked.getIdentity()).<Identifiable>getProperty("link").getIdentity());
+    Assert.assertEquals(1, count("select from Item where value = -1"));
+    Assert.assertEquals(1, count("select from Item where value = 1050"));
+  }
+
+  @Test
+  public void testIndexChangesAreSpilled() {
+    db.begin();
+    final List<RID> rids = updateAll(1000);
+    updateAll(1000);
+    updateAll(1000);
+
+    final TransactionOptimistic tx = (TransactionOptimistic) db.getTransaction();
+    Assert.assertTrue(tx.getSpillFile().hasIndexChanges("Item.value"));
+    Assert.assertTrue(
+        tx.getIndexOperations().get("Item.value").changesPerKey.size() < RECORDS);
+    db.commit();
+
+    for (int i = 0; i < RECORDS; i++) {
+      Assert.assertEquals(
+          3000 + i, db.<Entity>load(rids.get(i)).<Integer>getProperty("value").intValue());
+    }
+    Assert.assertEquals(1, count("select from Item where value = 3050"));
+    Assert.assertEquals(0, count("select from Item where value = 2050"));
+    Assert.assertEquals(0, count("select from Item where value = 1050"));
+    Assert.assertEquals(0, count("select from Item where value = 50"));
+  }
+
+  @Test
+  public void testSpilledIndexChangesAreVisibleInTransaction() {
+    db.begin();
+    updateAll(1000);
+    updateAll(1000);
+
+    final TransactionOptimistic tx = (TransactionOptimistic) db.getTransaction();
+    Assert.assertTrue(tx.getSpillFile().hasIndexChanges("Item.value"));
+
+    Assert.assertEquals(1, count("select from Item where value = 2050"));
+    Assert.assertEquals(0, count("select from Item where value = 1050"));
+    Assert.assertEquals(0, count("select from Item where value = 50"));
+    Assert.assertFalse(tx.getSpillFile().hasIndexChanges("Item.value"));
+    db.rollback();
+
+    Assert.assertEquals(1, count("select from Item where value = 50"));
+    Assert.assertEquals(0, count("select from Item where value = 2050"));
+  }
+
+  @Test
+  public void testNewAndDeletedRecordsAreNotSpilled() throws IOException {
+    db.begin();
+    final List<RID> rids = queryAll();
+    final List<Entity> created = new ArrayList<>();
+    for (int i = 0; i < RECORDS; i++) {
+      final Entity entity = db.newEntity("Item");
+      entity.setProperty("value", -1 - i);
+      entity.save();
+      created.add(entity);
+    }
+    for (int i = 0; i < RECORDS / 2; i++) {
+      db.delete(db.<Entity>load(rids.get(i)));
+    }
+    for (int i = RECORDS / 2; i < RECORDS; i++) {
+      final Entity entity = db.load(rids.get(i));
+      entity.setProperty("value", entity.<Integer>getProperty("value") + 1000);
+      entity.save();
+    }
+
+    final TransactionOptimistic tx = (TransactionOptimistic) db.getTransaction();
+    final TransactionSpillFile spillFile = tx.getSpillFile();
+    Assert.assertTrue(spillFile.size() > 0);
+    for (int i = 0; i < RECORDS / 2; i++) {
+      Assert.assertNull(spillFile.read((RecordId) rids.get(i)));
+      Assert.assertEquals(RecordOperation.DELETED, tx.getRecordEntry(rids.get(i)).type);
+    }
+    for (final Entity entity : created) {
+      // new records have temporary ids, they are kept in the heap only
+      Assert.assertFalse(entity.getIdentity().isPersistent());
+      Assert.assertEquals(
+          RecordOperation.CREATED, tx.getRecordEntry(entity.getIdentity()).type);
+    }
+    db.commit();
+
+    for (final Entity entity : created) {
+      Assert.assertTrue(entity.getIdentity().isPersistent());
+    }
+    Assert.assertEquals(RECORDS + RECORDS / 2, count("select from Item"));
+    Assert.assertEquals(1, count("select from Item where value = -50"));
+    Assert.assertEquals(0, count("select from Item where value = 10"));
+    Assert.assertEquals(1, count("select from Item where value = 1060"));
+  }
+
+  @Test
+  public void testLiveQueriesAreNotifiedAboutSpilledUpdates() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(RECORDS);
+    final AtomicInteger updates = new AtomicInteger();
+    db.live(
+        "select from Item",
+        new LiveQueryResultListener() {
+          @Override
+          public void onCreate(DatabaseSession database, Result data) {
+          }
+
+          @Override
+          public void onUpdate(DatabaseSession database, Result before, Result after) {
+            updates.incrementAndGet();
+            latch.countDown();
+          }
+
+          @Override
+          public void onDelete(DatabaseSession database, Result data) {
+          }
+
+          @Override
+          public void onError(DatabaseSession database, BaseException exception) {
+          }
+
+          @Override
+          public void onEnd(DatabaseSession database) {
+          }
+        });
+
+    db.begin();
+    updateAll(1000);
+    Assert.assertTrue(((TransactionOptimistic) db.getTransaction()).getSpillFile().size() > 0);
+    db.commit();
+
+    Assert.assertTrue(latch.await(1, TimeUnit.MINUTES));
+    Assert.assertEquals(RECORDS, updates.get());
+  }
+
+  private List<RID> updateAll(final int delta) {
+    final List<RID> rids = queryAll();
+
+    for (final RID rid : rids) {
+      Entity entity = db.load(rid);
+      entity.setProperty("value", entity.<Integer>getProperty("value") + delta);
+      entity.save();
+    }
+    return rids;
+  }
+
+  private List<Entity> loadAll() {
+    return queryAll().stream().map(rid -> db.<Entity>load(rid)).toList();
+  }
+
+  private List<RID> queryAll() {
+    try (ResultSet resultSet =
+        db.query("select from Item where value is not null order by value")) {
+      return resultSet.stream().map(result -> result.getIdentity().get()).toList();
+    }
+  }
+
+  private long count(final String query) {
+    try (ResultSet resultSet = db.query(query)) {
+      return resultSet.stream().count();
+    }
+  }
+}
@@ -2424,6 +2424,44 @@ public class ConsoleDatabaseApp extends ConsoleApplication
     }
   }
 
+  @ConsoleCommand(
+      description =
+          "Display page cache metrics (hits, misses, evictions, dirty pages, flushed bytes and"
+              + " average page load time in nanoseconds) of each file of the current database")
+  public void dumpFileCacheMetrics() {
+    checkForDatabase();
+
+    if (currentDatabase.getStorage().isRemote()) {
+      message(
+          "\nCannot display page cache metrics of non-local database. Connect to it using local"
+              + " mode.");
+      return;
+    }
+
+    final Map<String, Map<String, Object>> fileMetrics =
+        YouTrackDBEnginesManager.instance()
+            .getMetricsRegistry()
+            .fileMetrics(currentDatabase.getName());
+
+    final List<EntityImpl> resultSet = new ArrayList<>();
+    for (final Map.Entry<String, Map<String, Object>> entry : fileMetrics.entrySet()) {
+      final EntityImpl row = new EntityImpl();
+      resultSet.add(row);
+
+      row.field("FILE", entry.getKey());
+      for (final Map.Entry<String, Object> metric : entry.getValue().entrySet()) {
+        row.field(metric.getKey(), metric.getValue());
+      }
+    }
+
+    message("\n\nPAGE CACHE METRICS");
+
+    final TableFormatter formatter = new TableFormatter(this);
+    formatter.setMaxWidthSize(getConsoleWidth());
+    formatter.setMaxMultiValueEntries(getMaxMultiValueEntries());
+    formatter.writeRecords(resultSet, -1);
+  }
+
   @ConsoleCommand(description = "Repair database structure", splitInWords = false)
   public void repairDatabase(
       @ConsoleParameter(